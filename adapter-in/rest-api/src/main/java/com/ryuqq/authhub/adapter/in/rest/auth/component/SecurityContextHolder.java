@@ -7,6 +7,10 @@ import java.util.Objects;
  *
  * <p>요청 스레드 내에서 SecurityContext에 접근할 수 있게 합니다. Filter에서 설정하고, 요청 완료 시 반드시 clear() 호출이 필요합니다.
  *
+ * <p><strong>Virtual Thread 모드:</strong> 요청마다 새 Virtual Thread가 생성되므로 ThreadLocal은 요청 범위와 같습니다.
+ * 다른 스레드로 전파되지 않으므로(InheritableThreadLocal 미사용) 별도 Executor에서 실행되는 작업(예: 비밀번호 해싱)은
+ * SecurityContext를 조회하지 않아야 하며, 필요한 값은 호출 전에 인자로 전달합니다.
+ *
  * <p>사용 예시:
  *
  * <pre>{@code
@@ -18,6 +18,7 @@ import org.springframework.stereotype.Component;
  * <ul>
  *   <li>AUTH-001 ~ AUTH-006 → 401 Unauthorized
  *   <li>AUTH-007 (FORBIDDEN) → 403 Forbidden
+ *   <li>AUTH-008 (PASSWORD_HASHING_BUSY) → 429 Too Many Requests
  * </ul>
  *
  * @author development-team
@@ -58,6 +59,9 @@ public class AuthErrorMapper implements ErrorMapper {
                 // 403 - 접근 금지
             case "AUTH-007" -> HttpStatus.FORBIDDEN;
 
+                // 429 - 비밀번호 해싱 대기열 포화
+            case "AUTH-008" -> HttpStatus.TOO_MANY_REQUESTS;
+
                 // 401 - 인증 실패 (기본값)
             default -> HttpStatus.UNAUTHORIZED;
         };
@@ -2,16 +2,22 @@ package com.ryuqq.authhub.adapter.in.rest.auth.filter;
 
 import com.ryuqq.authhub.adapter.in.rest.auth.component.SecurityContext;
 import com.ryuqq.authhub.adapter.in.rest.auth.component.SecurityContextHolder;
+import com.ryuqq.authhub.application.permission.dto.composite.PermissionDictionary;
+import com.ryuqq.authhub.application.permission.port.in.query.GetPermissionDictionaryUseCase;
+import com.ryuqq.authhub.application.permission.port.in.query.GetPermissionSetUseCase;
+import com.ryuqq.authhub.domain.permission.exception.PermissionSetNotFoundException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.BitSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -31,6 +37,13 @@ import org.springframework.web.filter.OncePerRequestFilter;
  *   <li>X-User-Id 없으면 Anonymous 처리
  * </ol>
  *
+ * <p><strong>권한 헤더:</strong> X-Permissions(콤마 구분)를 우선 사용하고, 없으면 압축 권한 비트맵
+ * X-Permission-Bits를 권한 사전으로 복원합니다. 비트 위치는 권한 ID로 고정이므로 사전 버전이 달라도 복원하며, 보유 사전의 버전이
+ * X-Permission-Dict(perm_dict)와 다르면 새 권한이 빠져 있을 수 있으므로 재적재를 시도합니다. 둘 다 없으면 Thin Token의
+ * X-User-Permission-Hash(permission_hash)를 권한 집합으로 복원하고, 알 수 없는 해시는 권한 없이 처리합니다. 해시별 권한
+ * 집합은 내용이 바뀌지 않으므로 크기 제한 LRU({@link PermissionSetCache})에 보관해 요청마다 조회하지 않습니다. 권한 사전/집합
+ * UseCase는 요청 시점에 조회하므로 이를 제공하지 않는 구성에서도 필터를 생성할 수 있습니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -40,6 +53,17 @@ public class GatewayAuthenticationFilter extends OncePerRequestFilter {
     private static final Logger log = LoggerFactory.getLogger(GatewayAuthenticationFilter.class);
     private static final String MDC_TRACE_ID_KEY = "traceId";
 
+    private final ObjectProvider<GetPermissionDictionaryUseCase> permissionDictionaryUseCase;
+    private final ObjectProvider<GetPermissionSetUseCase> permissionSetUseCase;
+    private final PermissionSetCache permissionSetCache = new PermissionSetCache();
+
+    public GatewayAuthenticationFilter(
+            ObjectProvider<GetPermissionDictionaryUseCase> permissionDictionaryUseCase,
+            ObjectProvider<GetPermissionSetUseCase> permissionSetUseCase) {
+        this.permissionDictionaryUseCase = permissionDictionaryUseCase;
+        this.permissionSetUseCase = permissionSetUseCase;
+    }
+
     @Override
     protected void doFilterInternal(
             HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -93,7 +117,9 @@ public class GatewayAuthenticationFilter extends OncePerRequestFilter {
         String tenantId = GatewayHeaderExtractor.getTenantId(request);
         String organizationId = GatewayHeaderExtractor.getOrganizationId(request);
         Set<String> roles = GatewayHeaderExtractor.getRoles(request);
-        Set<String> permissions = GatewayHeaderExtractor.getPermissions(request);
+        Set<String> permissions =
+                GatewayHeaderExtractor.getPermissions(
+                        request, this::decodePermissionBits, this::resolvePermissionHash);
         String traceId = GatewayHeaderExtractor.getTraceId(request);
 
         log.debug(
@@ -112,6 +138,43 @@ public class GatewayAuthenticationFilter extends OncePerRequestFilter {
                 .build();
     }
 
+    private Set<String> decodePermissionBits(BitSet bits, String dictionaryVersion) {
+        GetPermissionDictionaryUseCase useCase = permissionDictionaryUseCase.getIfAvailable();
+        if (useCase == null) {
+            log.warn("[AUTH] 권한 사전을 사용할 수 없어 X-Permission-Bits를 무시합니다");
+            return Set.of();
+        }
+        PermissionDictionary dictionary =
+                dictionaryVersion == null ? useCase.execute() : useCase.execute(dictionaryVersion);
+        if (dictionaryVersion != null && !dictionaryVersion.equals(dictionary.version())) {
+            log.debug(
+                    "[AUTH] 권한 사전 버전 불일치, 보유 사전으로 복원합니다: header={}, current={}",
+                    dictionaryVersion,
+                    dictionary.version());
+        }
+        return dictionary.decode(bits);
+    }
+
+    private Set<String> resolvePermissionHash(String permissionHash) {
+        Set<String> cached = permissionSetCache.get(permissionHash);
+        if (cached != null) {
+            return cached;
+        }
+        GetPermissionSetUseCase useCase = permissionSetUseCase.getIfAvailable();
+        if (useCase == null) {
+            log.warn("[AUTH] 권한 집합 저장소를 사용할 수 없어 X-User-Permission-Hash를 무시합니다");
+            return Set.of();
+        }
+        try {
+            Set<String> permissionKeys = useCase.execute(permissionHash).permissionKeys();
+            permissionSetCache.put(permissionHash, permissionKeys);
+            return permissionKeys;
+        } catch (PermissionSetNotFoundException e) {
+            log.warn("[AUTH] 알 수 없는 권한 해시로 X-User-Permission-Hash를 무시합니다: {}", permissionHash);
+            return Set.of();
+        }
+    }
+
     private void synchronizeWithSpringSecurityContext(SecurityContext context) {
         Set<GrantedAuthority> authorities =
                 context.getRoles().stream()
@@ -2,7 +2,11 @@ package com.ryuqq.authhub.adapter.in.rest.auth.filter;
 
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.Arrays;
+import java.util.Base64;
+import java.util.BitSet;
 import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.springframework.util.StringUtils;
 
@@ -21,6 +25,9 @@ final class GatewayHeaderExtractor {
     static final String HEADER_ORGANIZATION_ID = "X-Organization-Id";
     static final String HEADER_ROLES = "X-User-Roles";
     static final String HEADER_PERMISSIONS = "X-Permissions";
+    static final String HEADER_PERMISSION_BITS = "X-Permission-Bits";
+    static final String HEADER_PERMISSION_DICTIONARY = "X-Permission-Dict";
+    static final String HEADER_PERMISSION_HASH = "X-User-Permission-Hash";
     static final String HEADER_TRACE_ID = "X-Trace-Id";
 
     private GatewayHeaderExtractor() {
@@ -74,6 +81,26 @@ final class GatewayHeaderExtractor {
                 .collect(Collectors.toSet());
     }
 
+    /**
+     * X-Permission-Bits 헤더 파싱
+     *
+     * <p>압축 권한 Claim(perm_bits)을 그대로 전달한 Base64URL 비트맵을 권한 인덱스 비트셋으로 변환합니다. 비트 n은 권한
+     * ID n을 의미하며, 권한 키로의 복원은 권한 사전이 필요하므로 호출자가 수행합니다.
+     *
+     * @param bitsHeader 권한 비트맵 헤더 값
+     * @return 권한 인덱스 비트셋 (헤더가 없거나 형식이 잘못되면 빈 비트셋)
+     */
+    static BitSet parsePermissionBits(String bitsHeader) {
+        if (!StringUtils.hasText(bitsHeader)) {
+            return new BitSet();
+        }
+        try {
+            return BitSet.valueOf(Base64.getUrlDecoder().decode(bitsHeader.trim()));
+        } catch (IllegalArgumentException e) {
+            return new BitSet();
+        }
+    }
+
     /**
      * 요청에서 사용자 ID 추출
      *
@@ -124,6 +151,38 @@ final class GatewayHeaderExtractor {
         return parsePermissions(request.getHeader(HEADER_PERMISSIONS));
     }
 
+    /**
+     * 요청에서 권한 추출 (압축 권한 비트맵, Thin Token 권한 해시 포함)
+     *
+     * <p>X-Permissions 헤더가 있으면 그대로 사용하고, 없으면 X-Permission-Bits 비트맵을 권한 사전으로 복원합니다
+     * (X-Permission-Dict(perm_dict) 버전은 사전 재적재 판단용). 둘 다 없으면 Thin Token의
+     * X-User-Permission-Hash(permission_hash)를 권한 집합으로 복원합니다.
+     *
+     * @param request HTTP 요청
+     * @param bitmapDecoder (권한 인덱스 비트셋, 사전 버전) → 권한 키 변환 함수 (사전 버전은 없으면 null)
+     * @param hashResolver 권한 해시 → 권한 키 변환 함수
+     * @return 권한 Set
+     */
+    static Set<String> getPermissions(
+            HttpServletRequest request,
+            BiFunction<BitSet, String, Set<String>> bitmapDecoder,
+            Function<String, Set<String>> hashResolver) {
+        Set<String> permissions = getPermissions(request);
+        if (!permissions.isEmpty()) {
+            return permissions;
+        }
+        BitSet bits = parsePermissionBits(request.getHeader(HEADER_PERMISSION_BITS));
+        if (!bits.isEmpty()) {
+            return bitmapDecoder.apply(
+                    bits, parseStringHeader(request.getHeader(HEADER_PERMISSION_DICTIONARY)));
+        }
+        String permissionHash = parseStringHeader(request.getHeader(HEADER_PERMISSION_HASH));
+        if (permissionHash == null) {
+            return Set.of();
+        }
+        return hashResolver.apply(permissionHash.trim());
+    }
+
     /**
      * 요청에서 트레이스 ID 추출
      *
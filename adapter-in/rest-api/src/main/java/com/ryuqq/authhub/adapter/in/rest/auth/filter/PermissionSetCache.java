@@ -0,0 +1,68 @@
+package com.ryuqq.authhub.adapter.in.rest.auth.filter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 권한 해시별 권한 집합 LRU 캐시
+ *
+ * <p>권한 해시는 권한 키 집합의 내용 해시이므로 같은 해시가 가리키는 권한 집합은 바뀌지 않습니다. 따라서 만료 없이 최대 개수만
+ * 제한하고, 넘치면 가장 오래 조회되지 않은 해시부터 제거합니다. 조회 실패(알 수 없는 해시)는 보관하지 않습니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+final class PermissionSetCache {
+
+    /** 기본 최대 보관 개수 */
+    static final int DEFAULT_MAX_ENTRIES = 4096;
+
+    private final Map<String, Set<String>> entries;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    PermissionSetCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    PermissionSetCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        this.entries =
+                new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, Set<String>> eldest) {
+                        return size() > maxEntries;
+                    }
+                };
+    }
+
+    Set<String> get(String permissionHash) {
+        lock.lock();
+        try {
+            return entries.get(permissionHash);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void put(String permissionHash, Set<String> permissionKeys) {
+        lock.lock();
+        try {
+            entries.put(permissionHash, Set.copyOf(permissionKeys));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -66,6 +66,21 @@ public record ApiResponse<T>(
                 true, data, LocalDateTime.now().format(TIMESTAMP_FORMATTER), generateRequestId());
     }
 
+    /**
+     * 성공 응답 생성 (Request ID 지정)
+     *
+     * <p>요청과 무관하게 미리 직렬화해 두는 응답(캐시된 스냅샷 등)에서 사용합니다.
+     *
+     * @param data 응답 데이터
+     * @param requestId 응답에 기록할 Request ID
+     * @param <T> 데이터 타입
+     * @return 성공 ApiResponse
+     */
+    public static <T> ApiResponse<T> ofSuccess(T data, String requestId) {
+        return new ApiResponse<>(
+                true, data, LocalDateTime.now().format(TIMESTAMP_FORMATTER), requestId);
+    }
+
     /**
      * 성공 응답 생성 (데이터 없음)
      *
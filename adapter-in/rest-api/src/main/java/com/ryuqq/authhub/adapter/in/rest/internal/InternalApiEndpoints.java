@@ -30,6 +30,27 @@ public final class InternalApiEndpoints {
     /** 엔드포인트-권한 스펙 전체 조회 */
     public static final String ENDPOINT_PERMISSIONS_SPEC = "/spec";
 
+    /** 엔드포인트-권한 스펙 변경분 조회 */
+    public static final String ENDPOINT_PERMISSIONS_SPEC_CHANGES = "/spec/changes";
+
+    /** 엔드포인트-권한 스펙 변경 스트림 (SSE) */
+    public static final String ENDPOINT_PERMISSIONS_SPEC_STREAM = "/spec/stream";
+
+    /** 변경분 기준 스펙 버전 RequestParam */
+    public static final String PARAM_SINCE = "since";
+
+    /** 권한 API 기본 경로 */
+    public static final String PERMISSIONS = BASE + "/permissions";
+
+    /** 권한 사전 조회 (압축 권한 비트맵 복원용) */
+    public static final String PERMISSIONS_DICTIONARY = "/dictionary";
+
+    /** 권한 집합 API 기본 경로 (Thin Token 권한 복원용) */
+    public static final String PERMISSION_SETS = BASE + "/permission-sets";
+
+    /** 권한 해시로 권한 집합 조회 */
+    public static final String PERMISSION_SET = "/{permissionHash}";
+
     /** 테넌트 설정 API 기본 경로 */
     public static final String TENANTS = BASE + "/tenants";
 
@@ -54,6 +75,12 @@ public final class InternalApiEndpoints {
     /** 사용자 컨텍스트 조회 */
     public static final String USER_CONTEXT = "/{userId}/context";
 
+    /** 사용자 권한 일괄 조회 */
+    public static final String USER_PERMISSIONS_BATCH = "/permissions:batch";
+
+    /** 사용자 컨텍스트 일괄 조회 */
+    public static final String USER_CONTEXT_BATCH = "/context:batch";
+
     /** 사용자 등록 (생성 + 역할 할당) */
     public static final String USERS_REGISTER = "/register";
 
@@ -62,4 +89,7 @@ public final class InternalApiEndpoints {
 
     /** 사용자 ID PathVariable */
     public static final String PATH_USER_ID = "userId";
+
+    /** 권한 해시 PathVariable */
+    public static final String PATH_PERMISSION_HASH = "permissionHash";
 }
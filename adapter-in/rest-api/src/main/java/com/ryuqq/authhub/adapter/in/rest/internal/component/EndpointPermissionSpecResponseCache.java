@@ -0,0 +1,103 @@
+package com.ryuqq.authhub.adapter.in.rest.internal.component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ryuqq.authhub.adapter.in.rest.common.dto.ApiResponse;
+import com.ryuqq.authhub.adapter.in.rest.internal.dto.response.EndpointPermissionSpecListApiResponse;
+import com.ryuqq.authhub.adapter.in.rest.internal.mapper.InternalPermissionSpecApiMapper;
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecListResult;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.stereotype.Component;
+
+/**
+ * EndpointPermissionSpecResponseCache - 직렬화된 스펙 응답 캐시
+ *
+ * <p>엔드포인트-권한 스펙 응답(ApiResponse 래핑 포함)을 버전별로 한 번만 JSON/GZIP 바이트로 직렬화하여 보관합니다. 스펙이 변경되지
+ * 않은 동안 조회는 바이트 배열 복사만 수행합니다.
+ *
+ * <p><strong>주의:</strong> 캐시된 응답의 {@code timestamp}는 직렬화 시점, {@code requestId}는 {@code
+ * spec-{version}}으로 고정됩니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class EndpointPermissionSpecResponseCache {
+
+    private static final String REQUEST_ID_PREFIX = "spec-";
+
+    private final ObjectMapper objectMapper;
+    private final InternalPermissionSpecApiMapper mapper;
+    private final ReentrantLock renderLock = new ReentrantLock();
+
+    private volatile RenderedSpec rendered;
+
+    public EndpointPermissionSpecResponseCache(
+            ObjectMapper objectMapper, InternalPermissionSpecApiMapper mapper) {
+        this.objectMapper = objectMapper;
+        this.mapper = mapper;
+    }
+
+    /**
+     * 스펙 결과에 해당하는 직렬화 응답 조회 (없으면 직렬화)
+     *
+     * @param result 스펙 목록 결과
+     * @return 버전별 JSON/GZIP 바이트
+     */
+    public RenderedSpec getOrRender(EndpointPermissionSpecListResult result) {
+        RenderedSpec current = rendered;
+        if (current != null && current.version().equals(result.version())) {
+            return current;
+        }
+
+        renderLock.lock();
+        try {
+            current = rendered;
+            if (current != null && current.version().equals(result.version())) {
+                return current;
+            }
+            RenderedSpec newRendered = render(result);
+            rendered = newRendered;
+            return newRendered;
+        } finally {
+            renderLock.unlock();
+        }
+    }
+
+    private RenderedSpec render(EndpointPermissionSpecListResult result) {
+        EndpointPermissionSpecListApiResponse response = mapper.toApiResponse(result);
+        try {
+            byte[] json =
+                    objectMapper.writeValueAsBytes(
+                            ApiResponse.ofSuccess(response, REQUEST_ID_PREFIX + result.version()));
+            return new RenderedSpec(result.version(), json, gzip(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("엔드포인트-권한 스펙 직렬화 실패", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] source) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, source.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(source);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * 직렬화된 스펙 응답
+     *
+     * <p>배열은 외부에 노출되지만 응답 본문 쓰기 용도로만 사용하며 수정하지 않습니다.
+     *
+     * @param version 스펙 버전
+     * @param json JSON 바이트
+     * @param gzip GZIP 압축된 JSON 바이트
+     */
+    public record RenderedSpec(String version, byte[] json, byte[] gzip) {}
+}
@@ -0,0 +1,267 @@
+package com.ryuqq.authhub.adapter.in.rest.internal.component;
+
+import com.ryuqq.authhub.adapter.in.rest.internal.config.EndpointPermissionSpecStreamProperties;
+import com.ryuqq.authhub.adapter.in.rest.internal.dto.response.EndpointPermissionSpecVersionEventApiResponse;
+import com.ryuqq.authhub.application.permission.dto.event.PermissionChangedEvent;
+import com.ryuqq.authhub.application.permissionendpoint.dto.event.EndpointPermissionSpecChangedEvent;
+import com.ryuqq.authhub.application.permissionendpoint.port.in.query.GetEndpointPermissionSpecVersionUseCase;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * EndpointPermissionSpecStreamBroadcaster - 엔드포인트-권한 스펙 변경 SSE 브로드캐스터
+ *
+ * <p>Gateway의 SSE 구독을 관리하고 스펙이 변경되면 현재 버전을 {@code spec-version} 이벤트로 전송합니다. Gateway는 보유
+ * 버전과 다르면 변경분 API로 변경분을 조회합니다.
+ *
+ * <p><strong>전송 시점:</strong>
+ *
+ * <ul>
+ *   <li>구독 직후: 현재 버전 (연결이 끊긴 동안의 변경 감지용)
+ *   <li>{@link EndpointPermissionSpecChangedEvent} 수신 시 (커밋 이후): 이 인스턴스의 엔드포인트 변경을 즉시 전파
+ *   <li>{@link PermissionChangedEvent} 수신 시 (커밋 이후): 권한 삭제로 스펙에서 빠지는 엔드포인트를 즉시 전파
+ *   <li>Heartbeat 주기마다: 버전이 바뀌었으면 전송, 아니면 comment만 전송 (다른 인스턴스의 변경 전파 + 연결 유지)
+ * </ul>
+ *
+ * <p><strong>스레드 모델:</strong>
+ *
+ * <ul>
+ *   <li>이벤트 리스너는 커밋 콜백 스레드에서 실행되므로 전송 작업 예약만 하고 반환합니다
+ *   <li>버전 조회와 전송은 단일 스케줄러 스레드에서 수행하며, 연속된 변경은 한 번의 전송으로 합쳐집니다
+ *   <li>구독자가 없으면 버전 조회를 하지 않습니다
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class EndpointPermissionSpecStreamBroadcaster implements SmartLifecycle {
+
+    static final String SPEC_VERSION_EVENT = "spec-version";
+    private static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    private static final Logger log =
+            LoggerFactory.getLogger(EndpointPermissionSpecStreamBroadcaster.class);
+
+    private final EndpointPermissionSpecStreamProperties properties;
+    private final GetEndpointPermissionSpecVersionUseCase getEndpointPermissionSpecVersionUseCase;
+    private final Set<SseEmitter> emitters = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger reservedSlots = new AtomicInteger();
+    private final AtomicBoolean broadcastPending = new AtomicBoolean();
+
+    private volatile ScheduledExecutorService scheduler;
+    private volatile String lastBroadcastVersion;
+
+    public EndpointPermissionSpecStreamBroadcaster(
+            EndpointPermissionSpecStreamProperties properties,
+            GetEndpointPermissionSpecVersionUseCase getEndpointPermissionSpecVersionUseCase) {
+        this.properties = properties;
+        this.getEndpointPermissionSpecVersionUseCase = getEndpointPermissionSpecVersionUseCase;
+    }
+
+    /**
+     * 스펙 변경 스트림 구독
+     *
+     * <p>구독 슬롯을 먼저 원자적으로 예약하므로 동시 연결에서도 최대 구독 수를 넘지 않습니다. 구독 직후 현재 버전을 전송합니다.
+     *
+     * @return SSE Emitter (최대 구독 수 초과 시 empty)
+     */
+    public Optional<SseEmitter> subscribe() {
+        if (!reserveSlot()) {
+            return Optional.empty();
+        }
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        emitters.add(emitter);
+        emitter.onCompletion(() -> release(emitter));
+        emitter.onTimeout(() -> release(emitter));
+        emitter.onError(error -> release(emitter));
+
+        try {
+            send(emitter, getEndpointPermissionSpecVersionUseCase.getVersion());
+        } catch (RuntimeException e) {
+            release(emitter);
+            throw e;
+        }
+        return Optional.of(emitter);
+    }
+
+    /**
+     * 스펙 변경 이벤트 처리 (커밋 이후)
+     *
+     * <p>전송 작업만 예약합니다. 이미 예약된 전송이 있으면 합쳐집니다.
+     *
+     * @param event 스펙 변경 이벤트
+     */
+    @EventListener
+    public void onSpecChanged(EndpointPermissionSpecChangedEvent event) {
+        scheduleBroadcast();
+    }
+
+    /**
+     * 권한 변경 이벤트 처리 (커밋 이후)
+     *
+     * <p>권한이 삭제되면 연결된 엔드포인트가 스펙에서 빠지므로 스펙 변경과 동일하게 전송 작업을 예약합니다.
+     *
+     * @param event 권한 변경 이벤트
+     */
+    @EventListener
+    public void onPermissionChanged(PermissionChangedEvent event) {
+        scheduleBroadcast();
+    }
+
+    private void scheduleBroadcast() {
+        ScheduledExecutorService current = scheduler;
+        if (current == null || emitters.isEmpty()) {
+            return;
+        }
+        if (broadcastPending.compareAndSet(false, true)) {
+            current.execute(this::broadcastSafely);
+        }
+    }
+
+    /**
+     * 현재 버전을 모든 구독자에게 전송
+     *
+     * <p>조회 전에 예약 플래그를 해제하므로, 조회 중 발생한 변경은 다음 전송으로 반영됩니다.
+     */
+    void broadcastCurrentVersion() {
+        broadcastPending.set(false);
+        if (emitters.isEmpty()) {
+            return;
+        }
+        broadcast(getEndpointPermissionSpecVersionUseCase.getVersion());
+    }
+
+    /** Heartbeat 전송 (버전이 바뀌었으면 버전 이벤트로 대체) */
+    void heartbeat() {
+        if (emitters.isEmpty()) {
+            return;
+        }
+        String version = getEndpointPermissionSpecVersionUseCase.getVersion();
+        if (!version.equals(lastBroadcastVersion)) {
+            broadcast(version);
+            return;
+        }
+        for (SseEmitter emitter : emitters) {
+            sendOrRemove(emitter, SseEmitter.event().comment(HEARTBEAT_COMMENT));
+        }
+    }
+
+    /**
+     * 현재 구독 수
+     *
+     * @return 구독 수
+     */
+    public int subscriberCount() {
+        return emitters.size();
+    }
+
+    private void broadcast(String version) {
+        lastBroadcastVersion = version;
+        log.debug("엔드포인트-권한 스펙 버전 전송: version={}, subscribers={}", version, emitters.size());
+        for (SseEmitter emitter : emitters) {
+            send(emitter, version);
+        }
+    }
+
+    private void send(SseEmitter emitter, String version) {
+        sendOrRemove(
+                emitter,
+                SseEmitter.event()
+                        .name(SPEC_VERSION_EVENT)
+                        .id(version)
+                        .data(
+                                new EndpointPermissionSpecVersionEventApiResponse(version),
+                                MediaType.APPLICATION_JSON));
+    }
+
+    private void sendOrRemove(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            release(emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private boolean reserveSlot() {
+        int max = properties.getMaxSubscribers();
+        while (true) {
+            int reserved = reservedSlots.get();
+            if (reserved >= max) {
+                return false;
+            }
+            if (reservedSlots.compareAndSet(reserved, reserved + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /** 구독 해제 (여러 경로에서 호출되어도 슬롯은 한 번만 반환) */
+    private void release(SseEmitter emitter) {
+        if (emitters.remove(emitter)) {
+            reservedSlots.decrementAndGet();
+        }
+    }
+
+    // ========== Lifecycle ==========
+
+    @Override
+    public void start() {
+        ScheduledExecutorService executor =
+                Executors.newSingleThreadScheduledExecutor(
+                        Thread.ofPlatform().name("spec-stream-broadcaster").daemon().factory());
+        long interval = properties.getHeartbeatInterval().toMillis();
+        executor.scheduleWithFixedDelay(
+                this::heartbeatSafely, interval, interval, TimeUnit.MILLISECONDS);
+        scheduler = executor;
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService executor = scheduler;
+        scheduler = null;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        for (SseEmitter emitter : emitters) {
+            release(emitter);
+            emitter.complete();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    private void broadcastSafely() {
+        try {
+            broadcastCurrentVersion();
+        } catch (RuntimeException e) {
+            log.warn("엔드포인트-권한 스펙 버전 전송 실패: {}", e.getMessage());
+        }
+    }
+
+    private void heartbeatSafely() {
+        try {
+            heartbeat();
+        } catch (RuntimeException e) {
+            log.warn("엔드포인트-권한 스펙 스트림 heartbeat 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.ryuqq.authhub.adapter.in.rest.internal.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 엔드포인트-권한 스펙 변경 스트림(SSE) Properties
+ *
+ * <p>rest-api.yml의 api.internal.spec-stream 설정을 매핑합니다.
+ *
+ * <p>사용 예시:
+ *
+ * <pre>
+ * api:
+ *   internal:
+ *     spec-stream:
+ *       timeout: 30m
+ *       heartbeat-interval: 25s
+ *       max-subscribers: 500
+ * </pre>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "api.internal.spec-stream")
+public class EndpointPermissionSpecStreamProperties {
+
+    /** 스트림 연결 유지 시간 (만료 시 Gateway가 재연결) */
+    private Duration timeout = Duration.ofMinutes(30);
+
+    /** Heartbeat 및 버전 점검 주기 (LB idle timeout보다 짧아야 함) */
+    private Duration heartbeatInterval = Duration.ofSeconds(25);
+
+    /** 인스턴스당 최대 동시 구독 수 */
+    private int maxSubscribers = 500;
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public Duration getHeartbeatInterval() {
+        return heartbeatInterval;
+    }
+
+    public void setHeartbeatInterval(Duration heartbeatInterval) {
+        this.heartbeatInterval = heartbeatInterval;
+    }
+
+    public int getMaxSubscribers() {
+        return maxSubscribers;
+    }
+
+    public void setMaxSubscribers(int maxSubscribers) {
+        this.maxSubscribers = maxSubscribers;
+    }
+}
@@ -0,0 +1,16 @@
+package com.ryuqq.authhub.adapter.in.rest.internal.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Internal API 설정
+ *
+ * <p>Gateway용 Internal API에서 사용하는 Properties를 등록합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(EndpointPermissionSpecStreamProperties.class)
+public class InternalApiConfig {}
@@ -0,0 +1,59 @@
+package com.ryuqq.authhub.adapter.in.rest.internal.controller;
+
+import static com.ryuqq.authhub.adapter.in.rest.internal.InternalApiEndpoints.PERMISSIONS;
+import static com.ryuqq.authhub.adapter.in.rest.internal.InternalApiEndpoints.PERMISSIONS_DICTIONARY;
+
+import com.ryuqq.authhub.adapter.in.rest.common.dto.ApiResponse;
+import com.ryuqq.authhub.adapter.in.rest.internal.dto.response.PermissionDictionaryApiResponse;
+import com.ryuqq.authhub.adapter.in.rest.internal.mapper.InternalPermissionDictionaryApiMapper;
+import com.ryuqq.authhub.application.permission.port.in.query.GetPermissionDictionaryUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * InternalPermissionDictionaryController - 권한 사전 Internal API Controller
+ *
+ * <p>Gateway와 SDK가 압축 권한 비트맵(perm_bits)을 권한 키로 복원하기 위해 권한 사전을 조회합니다. 사전은 토큰의
+ * perm_dict 버전이 바뀌었을 때만 다시 조회하면 됩니다.
+ *
+ * <p><strong>보안 참고:</strong>
+ *
+ * <ul>
+ *   <li>이 API는 서비스 토큰 인증으로 보호됩니다
+ *   <li>외부 접근이 차단된 내부 네트워크에서만 접근 가능해야 합니다
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@RestController
+@RequestMapping(PERMISSIONS)
+@Tag(name = "Internal - Permission Dictionary", description = "압축 권한 복원용 권한 사전 Internal API")
+public class InternalPermissionDictionaryController {
+
+    private final GetPermissionDictionaryUseCase getPermissionDictionaryUseCase;
+    private final InternalPermissionDictionaryApiMapper mapper;
+
+    public InternalPermissionDictionaryController(
+            GetPermissionDictionaryUseCase getPermissionDictionaryUseCase,
+            InternalPermissionDictionaryApiMapper mapper) {
+        this.getPermissionDictionaryUseCase = getPermissionDictionaryUseCase;
+        this.mapper = mapper;
+    }
+
+    /**
+     * 권한 사전 조회
+     *
+     * @return 권한 사전 (버전 + 비트 인덱스 ↔ 권한 키 목록)
+     */
+    @GetMapping(PERMISSIONS_DICTIONARY)
+    @Operation(summary = "권한 사전 조회", description = "압축 권한 비트맵 복원을 위한 비트 인덱스 ↔ 권한 키 목록을 조회합니다.")
+    public ApiResponse<PermissionDictionaryApiResponse> getDictionary() {
+        PermissionDictionaryApiResponse response =
+                mapper.toApiResponse(getPermissionDictionaryUseCase.execute());
+        return ApiResponse.ofSuccess(response);
+    }
+}
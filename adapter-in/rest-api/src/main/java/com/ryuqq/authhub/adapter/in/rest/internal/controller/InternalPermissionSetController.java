@@ -0,0 +1,73 @@
+package com.ryuqq.authhub.adapter.in.rest.internal.controller;
+
+import static com.ryuqq.authhub.adapter.in.rest.internal.InternalApiEndpoints.PATH_PERMISSION_HASH;
+import static com.ryuqq.authhub.adapter.in.rest.internal.InternalApiEndpoints.PERMISSION_SET;
+import static com.ryuqq.authhub.adapter.in.rest.internal.InternalApiEndpoints.PERMISSION_SETS;
+
+import com.ryuqq.authhub.adapter.in.rest.common.dto.ApiResponse;
+import com.ryuqq.authhub.adapter.in.rest.internal.dto.response.PermissionSetApiResponse;
+import com.ryuqq.authhub.adapter.in.rest.internal.mapper.InternalPermissionSetApiMapper;
+import com.ryuqq.authhub.application.permission.port.in.query.GetPermissionSetUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.Duration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * InternalPermissionSetController - 권한 집합 Internal API Controller
+ *
+ * <p>Gateway와 SDK가 Thin Token의 permission_hash를 권한 키 목록으로 복원합니다. 해시가 권한 키 집합의 SHA-256이므로
+ * 같은 해시의 응답은 절대 바뀌지 않으며, 응답에 {@code Cache-Control: immutable}을 붙여 호출 측이 해시별로 한 번만
+ * 조회하도록 합니다.
+ *
+ * <p><strong>보안 참고:</strong>
+ *
+ * <ul>
+ *   <li>이 API는 서비스 토큰 인증으로 보호됩니다
+ *   <li>외부 접근이 차단된 내부 네트워크에서만 접근 가능해야 합니다
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@RestController
+@RequestMapping(PERMISSION_SETS)
+@Tag(name = "Internal - Permission Set", description = "Thin Token 권한 복원용 권한 집합 Internal API")
+public class InternalPermissionSetController {
+
+    private static final CacheControl IMMUTABLE =
+            CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable();
+
+    private final GetPermissionSetUseCase getPermissionSetUseCase;
+    private final InternalPermissionSetApiMapper mapper;
+
+    public InternalPermissionSetController(
+            GetPermissionSetUseCase getPermissionSetUseCase,
+            InternalPermissionSetApiMapper mapper) {
+        this.getPermissionSetUseCase = getPermissionSetUseCase;
+        this.mapper = mapper;
+    }
+
+    /**
+     * 권한 해시로 권한 집합 조회
+     *
+     * @param permissionHash 권한 해시 (토큰의 permission_hash 클레임)
+     * @return 권한 집합 (없으면 404)
+     */
+    @GetMapping(PERMISSION_SET)
+    @Operation(summary = "권한 집합 조회", description = "Thin Token의 permission_hash로 권한 키 목록을 조회합니다.")
+    public ResponseEntity<ApiResponse<PermissionSetApiResponse>> getPermissionSet(
+            @Parameter(description = "권한 해시", required = true)
+                    @PathVariable(PATH_PERMISSION_HASH)
+                    String permissionHash) {
+        PermissionSetApiResponse response =
+                mapper.toApiResponse(getPermissionSetUseCase.execute(permissionHash));
+        return ResponseEntity.ok().cacheControl(IMMUTABLE).body(ApiResponse.ofSuccess(response));
+    }
+}
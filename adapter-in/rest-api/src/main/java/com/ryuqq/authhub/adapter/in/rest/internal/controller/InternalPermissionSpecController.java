@@ -2,23 +2,74 @@ package com.ryuqq.authhub.adapter.in.rest.internal.controller;
 
 import static com.ryuqq.authhub.adapter.in.rest.internal.InternalApiEndpoints.ENDPOINT_PERMISSIONS;
 import static com.ryuqq.authhub.adapter.in.rest.internal.InternalApiEndpoints.ENDPOINT_PERMISSIONS_SPEC;
+import static com.ryuqq.authhub.adapter.in.rest.internal.InternalApiEndpoints.ENDPOINT_PERMISSIONS_SPEC_CHANGES;
+import static com.ryuqq.authhub.adapter.in.rest.internal.InternalApiEndpoints.ENDPOINT_PERMISSIONS_SPEC_STREAM;
+import static com.ryuqq.authhub.adapter.in.rest.internal.InternalApiEndpoints.PARAM_SINCE;
 
 import com.ryuqq.authhub.adapter.in.rest.common.dto.ApiResponse;
+import com.ryuqq.authhub.adapter.in.rest.internal.component.EndpointPermissionSpecResponseCache;
+import com.ryuqq.authhub.adapter.in.rest.internal.component.EndpointPermissionSpecResponseCache.RenderedSpec;
+import com.ryuqq.authhub.adapter.in.rest.internal.component.EndpointPermissionSpecStreamBroadcaster;
+import com.ryuqq.authhub.adapter.in.rest.internal.dto.response.EndpointPermissionSpecDeltaApiResponse;
 import com.ryuqq.authhub.adapter.in.rest.internal.dto.response.EndpointPermissionSpecListApiResponse;
 import com.ryuqq.authhub.adapter.in.rest.internal.mapper.InternalPermissionSpecApiMapper;
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecDeltaResult;
 import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecListResult;
+import com.ryuqq.authhub.application.permissionendpoint.port.in.query.GetEndpointPermissionSpecChangesUseCase;
 import com.ryuqq.authhub.application.permissionendpoint.port.in.query.GetEndpointPermissionSpecUseCase;
+import com.ryuqq.authhub.application.permissionendpoint.port.in.query.GetEndpointPermissionSpecVersionUseCase;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * InternalPermissionSpecController - Gateway용 엔드포인트-권한 스펙 Internal API Controller
  *
  * <p>Gateway가 URL 기반 권한 검사를 위해 전체 엔드포인트-권한 매핑 정보를 조회합니다.
  *
+ * <p><strong>조건부 조회:</strong>
+ *
+ * <ul>
+ *   <li>응답에 스펙 버전을 ETag 헤더로 포함합니다
+ *   <li>If-None-Match가 현재 버전과 일치하면 전체 스펙 조회 없이 304 Not Modified를 반환합니다
+ * </ul>
+ *
+ * <p><strong>사전 직렬화 응답:</strong>
+ *
+ * <ul>
+ *   <li>스펙 버전별로 한 번 직렬화한 JSON/GZIP 바이트를 그대로 응답합니다
+ *   <li>Accept-Encoding에 gzip이 포함되면 미리 압축된 본문을 Content-Encoding: gzip으로 응답합니다
+ * </ul>
+ *
+ * <p><strong>변경분 조회:</strong>
+ *
+ * <ul>
+ *   <li>보유 스펙 버전을 since로 전달하면 그 이후 추가/변경/삭제된 엔드포인트만 반환합니다
+ *   <li>Gateway는 endpointId 기준으로 변경분을 반영합니다
+ * </ul>
+ *
+ * <p><strong>변경 스트림:</strong>
+ *
+ * <ul>
+ *   <li>SSE로 구독하면 스펙이 변경될 때마다 현재 버전을 spec-version 이벤트로 전송합니다
+ *   <li>Gateway는 이벤트 버전이 보유 버전과 다르면 변경분 조회로 반영합니다
+ * </ul>
+ *
  * <p><strong>보안 참고:</strong>
  *
  * <ul>
@@ -34,30 +85,156 @@ import org.springframework.web.bind.annotation.RestController;
 @Tag(name = "Internal - Permission Spec", description = "Gateway용 엔드포인트-권한 스펙 Internal API")
 public class InternalPermissionSpecController {
 
+    private static final String GZIP = "gzip";
+    private static final Pattern ZERO_QUALITY = Pattern.compile("q=0(\\.0*)?");
+
     private final GetEndpointPermissionSpecUseCase getEndpointPermissionSpecUseCase;
+    private final GetEndpointPermissionSpecVersionUseCase getEndpointPermissionSpecVersionUseCase;
+    private final GetEndpointPermissionSpecChangesUseCase getEndpointPermissionSpecChangesUseCase;
+    private final EndpointPermissionSpecResponseCache responseCache;
+    private final EndpointPermissionSpecStreamBroadcaster streamBroadcaster;
     private final InternalPermissionSpecApiMapper mapper;
 
     public InternalPermissionSpecController(
             GetEndpointPermissionSpecUseCase getEndpointPermissionSpecUseCase,
+            GetEndpointPermissionSpecVersionUseCase getEndpointPermissionSpecVersionUseCase,
+            GetEndpointPermissionSpecChangesUseCase getEndpointPermissionSpecChangesUseCase,
+            EndpointPermissionSpecResponseCache responseCache,
+            EndpointPermissionSpecStreamBroadcaster streamBroadcaster,
             InternalPermissionSpecApiMapper mapper) {
         this.getEndpointPermissionSpecUseCase = getEndpointPermissionSpecUseCase;
+        this.getEndpointPermissionSpecVersionUseCase = getEndpointPermissionSpecVersionUseCase;
+        this.getEndpointPermissionSpecChangesUseCase = getEndpointPermissionSpecChangesUseCase;
+        this.responseCache = responseCache;
+        this.streamBroadcaster = streamBroadcaster;
         this.mapper = mapper;
     }
 
     /**
      * 엔드포인트-권한 스펙 전체 조회
      *
-     * <p>Gateway가 시작 시 또는 갱신 시 호출하여 전체 스펙을 캐싱합니다.
+     * <p>Gateway가 시작 시 또는 갱신 시 호출하여 전체 스펙을 캐싱합니다. If-None-Match 헤더가 현재 스펙 버전과 일치하면 전체
+     * 스펙을 조회하지 않고 304 Not Modified를 반환합니다. 일치하지 않으면 조회한 버전을 그대로 넘겨 스냅샷을 찾으므로, 스냅샷이
+     * 있으면 버전 조회 한 번으로 응답합니다.
      *
-     * @return 엔드포인트-권한 스펙 목록
+     * @param webRequest 조건부 요청(If-None-Match) 및 Accept-Encoding 헤더 확인용
+     * @return 직렬화된 엔드포인트-권한 스펙 목록 (변경 없으면 본문 없는 304)
      */
     @GetMapping(ENDPOINT_PERMISSIONS_SPEC)
     @Operation(
             summary = "엔드포인트-권한 스펙 전체 조회",
-            description = "Gateway가 URL 기반 권한 검사를 위해 전체 엔드포인트-권한 매핑 정보를 조회합니다.")
-    public ApiResponse<EndpointPermissionSpecListApiResponse> getSpec() {
-        EndpointPermissionSpecListResult result = getEndpointPermissionSpecUseCase.getAll();
-        EndpointPermissionSpecListApiResponse response = mapper.toApiResponse(result);
-        return ApiResponse.ofSuccess(response);
+            description =
+                    "Gateway가 URL 기반 권한 검사를 위해 전체 엔드포인트-권한 매핑 정보를 조회합니다."
+                            + " If-None-Match가 현재 버전(ETag)과 일치하면 304를 반환합니다.")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "200",
+                description = "조회 성공",
+                content =
+                        @Content(
+                                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                schema =
+                                        @Schema(
+                                                implementation =
+                                                        EndpointPermissionSpecListApiResponse
+                                                                .class))),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "304",
+                description = "스펙 변경 없음 (If-None-Match 일치)")
+    })
+    public ResponseEntity<byte[]> getSpec(WebRequest webRequest) {
+        String currentVersion = getEndpointPermissionSpecVersionUseCase.getVersion();
+        if (webRequest.checkNotModified(currentVersion)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentVersion).build();
+        }
+
+        EndpointPermissionSpecListResult result =
+                getEndpointPermissionSpecUseCase.getAll(currentVersion);
+        RenderedSpec rendered = responseCache.getOrRender(result);
+
+        ResponseEntity.BodyBuilder builder =
+                ResponseEntity.ok()
+                        .eTag(rendered.version())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(rendered.gzip());
+        }
+        return builder.body(rendered.json());
+    }
+
+    /**
+     * 엔드포인트-권한 스펙 변경분 조회
+     *
+     * <p>Gateway가 보유한 스펙 버전 이후에 추가/변경/삭제된 엔드포인트만 반환합니다. 기준 버전이 현재 버전과 같으면 빈 변경분을,
+     * 해석할 수 없으면 전체 스펙을 fullSync=true로 반환합니다. 스펙 버전은 커밋 순서대로 증가하는 번호이므로 응답의 버전을
+     * 다음 기준으로 쓰면 변경이 누락되거나 다시 전달되지 않습니다.
+     *
+     * @param since Gateway가 보유한 스펙 버전
+     * @return 엔드포인트-권한 스펙 변경분
+     */
+    @GetMapping(ENDPOINT_PERMISSIONS_SPEC_CHANGES)
+    @Operation(
+            summary = "엔드포인트-권한 스펙 변경분 조회",
+            description =
+                    "보유한 스펙 버전(since) 이후에 추가/변경/삭제된 엔드포인트만 조회합니다."
+                            + " 기준 버전을 해석할 수 없으면 전체 스펙을 fullSync로 반환합니다.")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "200",
+                description = "조회 성공")
+    })
+    public ResponseEntity<ApiResponse<EndpointPermissionSpecDeltaApiResponse>> getSpecChanges(
+            @Parameter(description = "보유한 스펙 버전", required = true, example = "120")
+                    @RequestParam(PARAM_SINCE)
+                    String since) {
+        EndpointPermissionSpecDeltaResult result =
+                getEndpointPermissionSpecChangesUseCase.getChangesSince(since);
+        return ResponseEntity.ok(ApiResponse.ofSuccess(mapper.toDeltaApiResponse(result)));
+    }
+
+    /**
+     * 엔드포인트-권한 스펙 변경 스트림 구독 (SSE)
+     *
+     * <p>구독 직후와 스펙이 변경될 때마다 현재 스펙 버전을 spec-version 이벤트로 전송합니다. 인스턴스의 최대 구독 수를 초과하면
+     * 503을 반환하며, Gateway는 주기적 조건부 조회(ETag)로 대체합니다.
+     *
+     * @return SSE 스트림 (최대 구독 수 초과 시 503)
+     */
+    @GetMapping(
+            value = ENDPOINT_PERMISSIONS_SPEC_STREAM,
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "엔드포인트-권한 스펙 변경 스트림 구독",
+            description =
+                    "스펙이 변경될 때마다 현재 스펙 버전을 SSE(spec-version 이벤트)로 전송합니다."
+                            + " 버전이 다르면 변경분 조회 API로 변경분을 반영합니다.")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "200",
+                description = "구독 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "503",
+                description = "최대 구독 수 초과")
+    })
+    public ResponseEntity<SseEmitter> streamSpecChanges() {
+        return streamBroadcaster
+                .subscribe()
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+    }
+
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().toLowerCase(Locale.ROOT).split(";");
+            if (GZIP.equals(parts[0].trim())) {
+                return parts.length == 1
+                        || !ZERO_QUALITY.matcher(parts[1].replace(" ", "")).matches();
+            }
+        }
+        return false;
     }
 }
@@ -2,19 +2,26 @@ package com.ryuqq.authhub.adapter.in.rest.internal.controller;
 
 import static com.ryuqq.authhub.adapter.in.rest.internal.InternalApiEndpoints.USERS;
 import static com.ryuqq.authhub.adapter.in.rest.internal.InternalApiEndpoints.USER_CONTEXT;
+import static com.ryuqq.authhub.adapter.in.rest.internal.InternalApiEndpoints.USER_CONTEXT_BATCH;
 
 import com.ryuqq.authhub.adapter.in.rest.common.dto.ApiResponse;
+import com.ryuqq.authhub.adapter.in.rest.internal.dto.query.UserIdsBatchApiRequest;
 import com.ryuqq.authhub.adapter.in.rest.internal.dto.response.UserContextApiResponse;
 import com.ryuqq.authhub.adapter.in.rest.internal.mapper.InternalUserContextApiMapper;
 import com.ryuqq.authhub.application.token.dto.response.MyContextResponse;
 import com.ryuqq.authhub.application.token.port.in.query.GetMyContextUseCase;
+import com.ryuqq.authhub.application.token.port.in.query.GetUserContextsUseCase;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.util.List;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -39,11 +46,15 @@ import org.springframework.web.bind.annotation.RestController;
 public class InternalUserContextController {
 
     private final GetMyContextUseCase getMyContextUseCase;
+    private final GetUserContextsUseCase getUserContextsUseCase;
     private final InternalUserContextApiMapper mapper;
 
     public InternalUserContextController(
-            GetMyContextUseCase getMyContextUseCase, InternalUserContextApiMapper mapper) {
+            GetMyContextUseCase getMyContextUseCase,
+            GetUserContextsUseCase getUserContextsUseCase,
+            InternalUserContextApiMapper mapper) {
         this.getMyContextUseCase = getMyContextUseCase;
+        this.getUserContextsUseCase = getUserContextsUseCase;
         this.mapper = mapper;
     }
 
@@ -68,4 +79,27 @@ public class InternalUserContextController {
         UserContextApiResponse response = mapper.toApiResponse(result);
         return ResponseEntity.ok(ApiResponse.ofSuccess(response));
     }
+
+    /**
+     * 사용자 컨텍스트 일괄 조회
+     *
+     * <p>사용자 목록 화면처럼 여러 사용자의 컨텍스트가 필요할 때 한 번에 조회합니다. 사용자 수와 무관하게 조회 쿼리 수가 일정합니다.
+     *
+     * @param request 조회할 사용자 ID 목록 (최대 500개)
+     * @return 요청 순서를 유지한 사용자 컨텍스트 목록 (존재하지 않는 사용자는 제외)
+     */
+    @PostMapping(USER_CONTEXT_BATCH)
+    @Operation(
+            summary = "사용자 컨텍스트 일괄 조회",
+            description = "여러 사용자의 전체 컨텍스트 정보를 한 번에 조회합니다. 존재하지 않는 사용자는 결과에서 제외됩니다.")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "200",
+                description = "조회 성공")
+    })
+    public ResponseEntity<ApiResponse<List<UserContextApiResponse>>> getUserContextsBatch(
+            @Valid @RequestBody UserIdsBatchApiRequest request) {
+        List<MyContextResponse> results = getUserContextsUseCase.execute(request.userIds());
+        return ResponseEntity.ok(ApiResponse.ofSuccess(mapper.toApiResponses(results)));
+    }
 }
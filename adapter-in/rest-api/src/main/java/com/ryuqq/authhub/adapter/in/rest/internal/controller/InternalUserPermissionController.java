@@ -2,8 +2,10 @@ package com.ryuqq.authhub.adapter.in.rest.internal.controller;
 
 import static com.ryuqq.authhub.adapter.in.rest.internal.InternalApiEndpoints.USERS;
 import static com.ryuqq.authhub.adapter.in.rest.internal.InternalApiEndpoints.USER_PERMISSIONS;
+import static com.ryuqq.authhub.adapter.in.rest.internal.InternalApiEndpoints.USER_PERMISSIONS_BATCH;
 
 import com.ryuqq.authhub.adapter.in.rest.common.dto.ApiResponse;
+import com.ryuqq.authhub.adapter.in.rest.internal.dto.query.UserIdsBatchApiRequest;
 import com.ryuqq.authhub.adapter.in.rest.internal.dto.response.UserPermissionsApiResponse;
 import com.ryuqq.authhub.adapter.in.rest.internal.mapper.InternalUserPermissionApiMapper;
 import com.ryuqq.authhub.application.userrole.dto.response.UserPermissionsResult;
@@ -11,10 +13,17 @@ import com.ryuqq.authhub.application.userrole.port.in.query.GetUserPermissionsUs
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.util.List;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * InternalUserPermissionController - Gateway용 사용자 권한 Internal API Controller
@@ -28,6 +37,9 @@ import org.springframework.web.bind.annotation.RestController;
  *   <li>외부 접근이 차단된 내부 네트워크에서만 접근 가능해야 합니다
  * </ul>
  *
+ * <p><strong>조건부 조회:</strong> 응답의 권한 해시를 ETag로 내려주고, If-None-Match가 현재 해시와 일치하면 본문 없이 304
+ * Not Modified를 반환합니다. SDK 캐시는 만료된 항목을 이 방식으로 재검증합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -49,17 +61,51 @@ public class InternalUserPermissionController {
     /**
      * 사용자 권한 조회
      *
-     * <p>Gateway가 요청 처리 시 사용자 인가 검증을 위해 호출합니다.
+     * <p>Gateway가 요청 처리 시 사용자 인가 검증을 위해 호출합니다. If-None-Match가 현재 권한 해시와 일치하면 304를
+     * 반환합니다.
      *
      * @param userId 사용자 ID
-     * @return 사용자 역할/권한 정보
+     * @param webRequest 조건부 요청(If-None-Match) 확인용
+     * @return 사용자 역할/권한 정보 (변경 없으면 본문 없는 304)
      */
     @GetMapping(USER_PERMISSIONS)
-    @Operation(summary = "사용자 권한 조회", description = "Gateway가 사용자 인가 검증을 위해 역할/권한 정보를 조회합니다.")
-    public ApiResponse<UserPermissionsApiResponse> getPermissions(
-            @Parameter(description = "사용자 ID", required = true) @PathVariable String userId) {
+    @Operation(
+            summary = "사용자 권한 조회",
+            description =
+                    "Gateway가 사용자 인가 검증을 위해 역할/권한 정보를 조회합니다."
+                            + " If-None-Match가 현재 권한 해시(ETag)와 일치하면 304를 반환합니다.")
+    public ResponseEntity<ApiResponse<UserPermissionsApiResponse>> getPermissions(
+            @Parameter(description = "사용자 ID", required = true) @PathVariable String userId,
+            WebRequest webRequest) {
         UserPermissionsResult result = getUserPermissionsUseCase.getByUserId(userId);
-        UserPermissionsApiResponse response = mapper.toApiResponse(result);
-        return ApiResponse.ofSuccess(response);
+        String hash = result.hash();
+        if (hash == null || hash.isBlank()) {
+            return ResponseEntity.ok(ApiResponse.ofSuccess(mapper.toApiResponse(result)));
+        }
+        if (webRequest.checkNotModified(hash)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(hash).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(hash)
+                .body(ApiResponse.ofSuccess(mapper.toApiResponse(result)));
+    }
+
+    /**
+     * 사용자 권한 일괄 조회
+     *
+     * <p>사용자 목록처럼 여러 사용자의 권한이 필요할 때 한 번에 조회합니다. 사용자 수와 무관하게 조회 쿼리 수가 일정합니다.
+     *
+     * @param request 조회할 사용자 ID 목록 (최대 500개)
+     * @return 요청 순서를 유지한 사용자별 역할/권한 정보 (중복 ID는 한 번만 포함)
+     */
+    @PostMapping(USER_PERMISSIONS_BATCH)
+    @Operation(
+            summary = "사용자 권한 일괄 조회",
+            description = "여러 사용자의 역할/권한 정보를 한 번에 조회합니다. 역할이 없는 사용자는 빈 역할/권한으로 반환합니다.")
+    public ResponseEntity<ApiResponse<List<UserPermissionsApiResponse>>> getPermissionsBatch(
+            @Valid @RequestBody UserIdsBatchApiRequest request) {
+        List<UserPermissionsResult> results =
+                getUserPermissionsUseCase.getByUserIds(request.userIds());
+        return ResponseEntity.ok(ApiResponse.ofSuccess(mapper.toApiResponses(results)));
     }
 }
@@ -0,0 +1,41 @@
+package com.ryuqq.authhub.adapter.in.rest.internal.dto.query;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * UserIdsBatchApiRequest - 사용자 일괄 조회 요청 DTO
+ *
+ * <p>Internal API (M2M)에서 여러 사용자의 권한/컨텍스트를 한 번에 조회할 때 사용합니다.
+ *
+ * <p><strong>Zero-Tolerance 규칙:</strong>
+ *
+ * <ul>
+ *   <li>Record 타입 필수
+ *   <li>*ApiRequest 네이밍 규칙
+ *   <li>Bean Validation 어노테이션 필수
+ *   <li>Lombok 금지
+ * </ul>
+ *
+ * @param userIds 조회할 사용자 ID 목록 (필수, 1개 이상 {@value #MAX_USER_IDS}개 이하)
+ * @author development-team
+ * @since 1.0.0
+ */
+@Schema(description = "사용자 일괄 조회 요청 (Internal)")
+public record UserIdsBatchApiRequest(
+        @Schema(
+                        description = "조회할 사용자 ID 목록",
+                        requiredMode = Schema.RequiredMode.REQUIRED,
+                        maxLength = UserIdsBatchApiRequest.MAX_USER_IDS)
+                @NotEmpty(message = "사용자 ID 목록은 필수입니다")
+                @Size(
+                        max = UserIdsBatchApiRequest.MAX_USER_IDS,
+                        message = "사용자 ID는 한 번에 500개까지 조회할 수 있습니다")
+                List<@NotBlank(message = "사용자 ID는 비어 있을 수 없습니다") String> userIds) {
+
+    /** 한 번에 조회할 수 있는 최대 사용자 수 */
+    public static final int MAX_USER_IDS = 500;
+}
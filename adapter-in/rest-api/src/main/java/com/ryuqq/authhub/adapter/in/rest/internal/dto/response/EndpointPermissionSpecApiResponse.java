@@ -8,6 +8,7 @@ import java.util.List;
  *
  * <p>Gateway가 URL 기반 권한 검사를 위해 필요한 정보를 제공합니다.
  *
+ * @param endpointId 엔드포인트 ID (변경분 반영 시 식별자)
  * @param serviceName 서비스 이름 (예: "product-service")
  * @param pathPattern URL 패턴 (예: "/api/v1/users/{id}")
  * @param httpMethod HTTP 메서드 (예: "GET", "POST")
@@ -20,6 +21,7 @@ import java.util.List;
  */
 @Schema(description = "엔드포인트-권한 매핑 스펙")
 public record EndpointPermissionSpecApiResponse(
+        @Schema(description = "엔드포인트 ID", example = "1") Long endpointId,
         @Schema(description = "서비스 이름", example = "product-service") String serviceName,
         @Schema(description = "URL 패턴", example = "/api/v1/users/{id}") String pathPattern,
         @Schema(description = "HTTP 메서드", example = "GET") String httpMethod,
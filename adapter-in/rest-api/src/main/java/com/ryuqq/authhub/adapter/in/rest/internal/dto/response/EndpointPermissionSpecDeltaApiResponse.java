@@ -0,0 +1,34 @@
+package com.ryuqq.authhub.adapter.in.rest.internal.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * EndpointPermissionSpecDeltaApiResponse - Gateway용 엔드포인트-권한 스펙 변경분 API 응답 DTO
+ *
+ * <p>Gateway는 endpoints를 endpointId 기준으로 추가/교체하고 removedEndpointIds를 제거한 뒤 version을 다음 요청의 기준
+ * 버전으로 보관합니다. fullSync가 true이면 보유 스펙 전체를 endpoints로 교체합니다.
+ *
+ * @param sinceVersion 요청한 기준 스펙 버전
+ * @param version 현재 스펙 버전
+ * @param updatedAt 현재 스펙의 마지막 수정 시간
+ * @param fullSync 전체 스펙 반환 여부
+ * @param endpoints 추가/변경된 엔드포인트-권한 매핑 목록
+ * @param removedEndpointIds 스펙에서 제외된 엔드포인트 ID 목록
+ * @author development-team
+ * @since 1.0.0
+ */
+@Schema(description = "엔드포인트-권한 스펙 변경분")
+public record EndpointPermissionSpecDeltaApiResponse(
+        @Schema(description = "요청한 기준 스펙 버전", example = "120")
+                String sinceVersion,
+        @Schema(description = "현재 스펙 버전 (다음 요청의 기준 버전)", example = "121")
+                String version,
+        @Schema(description = "현재 스펙의 마지막 수정 시간") Instant updatedAt,
+        @Schema(description = "전체 스펙 반환 여부 (기준 버전 해석 불가 시)", example = "false")
+                boolean fullSync,
+        @Schema(description = "추가/변경된 엔드포인트-권한 매핑 목록")
+                List<EndpointPermissionSpecApiResponse> endpoints,
+        @Schema(description = "스펙에서 제외된 엔드포인트 ID 목록", example = "[12, 15]")
+                List<Long> removedEndpointIds) {}
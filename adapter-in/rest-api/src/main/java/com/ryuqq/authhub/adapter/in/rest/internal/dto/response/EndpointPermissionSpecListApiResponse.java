@@ -17,7 +17,7 @@ import java.util.List;
  */
 @Schema(description = "엔드포인트-권한 스펙 목록")
 public record EndpointPermissionSpecListApiResponse(
-        @Schema(description = "스펙 버전 (ETag용)", example = "1704067200000") String version,
+        @Schema(description = "스펙 버전 (ETag용)", example = "121") String version,
         @Schema(description = "마지막 수정 시간") Instant updatedAt,
         @Schema(description = "엔드포인트-권한 매핑 목록")
                 List<EndpointPermissionSpecApiResponse> endpoints) {}
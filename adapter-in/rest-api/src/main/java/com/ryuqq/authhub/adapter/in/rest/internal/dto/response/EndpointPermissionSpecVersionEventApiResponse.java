@@ -0,0 +1,16 @@
+package com.ryuqq.authhub.adapter.in.rest.internal.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * EndpointPermissionSpecVersionEventApiResponse - 스펙 변경 스트림 이벤트 데이터
+ *
+ * <p>Gateway는 보유 버전과 다르면 {@code GET /spec/changes?since={보유 버전}}으로 변경분을 조회합니다.
+ *
+ * @param version 현재 스펙 버전
+ * @author development-team
+ * @since 1.0.0
+ */
+@Schema(description = "엔드포인트-권한 스펙 버전 이벤트")
+public record EndpointPermissionSpecVersionEventApiResponse(
+        @Schema(description = "현재 스펙 버전", example = "121") String version) {}
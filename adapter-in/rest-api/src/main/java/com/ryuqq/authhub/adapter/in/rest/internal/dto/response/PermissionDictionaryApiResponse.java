@@ -0,0 +1,35 @@
+package com.ryuqq.authhub.adapter.in.rest.internal.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * PermissionDictionaryApiResponse - 권한 사전 API 응답 DTO
+ *
+ * <p>토큰의 perm_bits 클레임(또는 X-Permission-Bits 헤더)을 권한 키로 복원하기 위한 비트 인덱스 ↔ 권한 키 목록을
+ * 제공합니다. 비트 n은 index가 n인 항목을 의미합니다. index는 권한 ID와 같아 권한이 추가/삭제되어도 바뀌지 않으며, 같은
+ * 권한 키가 여러 서비스에 있으면 항목도 여러 개입니다.
+ *
+ * @param version 사전 버전 (토큰의 perm_dict 클레임과 다르면 새 권한이 빠져 있을 수 있음)
+ * @param entries 비트 인덱스 오름차순 항목 목록
+ * @author development-team
+ * @since 1.0.0
+ */
+@Schema(description = "권한 사전")
+public record PermissionDictionaryApiResponse(
+        @Schema(description = "사전 버전", example = "3f2a9c1d0b7e4a65") String version,
+        @Schema(description = "비트 인덱스 오름차순 항목 목록") List<Entry> entries) {
+
+    /**
+     * 권한 사전 항목
+     *
+     * @param index 비트 인덱스
+     * @param id 권한 ID
+     * @param key 권한 키
+     */
+    @Schema(description = "권한 사전 항목")
+    public record Entry(
+            @Schema(description = "비트 인덱스 (권한 ID)", example = "12") Integer index,
+            @Schema(description = "권한 ID", example = "12") Long id,
+            @Schema(description = "권한 키", example = "user:read") String key) {}
+}
@@ -0,0 +1,20 @@
+package com.ryuqq.authhub.adapter.in.rest.internal.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * PermissionSetApiResponse - 권한 집합 API 응답 DTO
+ *
+ * <p>Thin Token의 permission_hash 클레임을 권한 키 목록으로 복원합니다. 해시가 내용으로 결정되므로 같은 해시의 응답은
+ * 바뀌지 않습니다.
+ *
+ * @param hash 권한 해시 (토큰의 permission_hash 클레임)
+ * @param permissions 권한 키 목록 (오름차순)
+ * @author development-team
+ * @since 1.0.0
+ */
+@Schema(description = "권한 집합")
+public record PermissionSetApiResponse(
+        @Schema(description = "권한 해시", example = "0586fe3af3420aa2") String hash,
+        @Schema(description = "권한 키 목록 (오름차순)") List<String> permissions) {}
@@ -0,0 +1,38 @@
+package com.ryuqq.authhub.adapter.in.rest.internal.mapper;
+
+import com.ryuqq.authhub.adapter.in.rest.internal.dto.response.PermissionDictionaryApiResponse;
+import com.ryuqq.authhub.application.permission.dto.composite.PermissionDictionary;
+import org.springframework.stereotype.Component;
+
+/**
+ * InternalPermissionDictionaryApiMapper - Internal Permission Dictionary API Mapper
+ *
+ * <p>Application Layer 결과를 API 응답으로 변환합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class InternalPermissionDictionaryApiMapper {
+
+    /**
+     * 권한 사전을 API 응답으로 변환
+     *
+     * <p>권한 ID를 비트 인덱스로 내려줍니다.
+     *
+     * @param dictionary 권한 사전
+     * @return API 응답 DTO
+     */
+    public PermissionDictionaryApiResponse toApiResponse(PermissionDictionary dictionary) {
+        return new PermissionDictionaryApiResponse(
+                dictionary.version(),
+                dictionary.entries().stream()
+                        .map(
+                                entry ->
+                                        new PermissionDictionaryApiResponse.Entry(
+                                                entry.permissionId().intValue(),
+                                                entry.permissionId(),
+                                                entry.permissionKey()))
+                        .toList());
+    }
+}
@@ -0,0 +1,28 @@
+package com.ryuqq.authhub.adapter.in.rest.internal.mapper;
+
+import com.ryuqq.authhub.adapter.in.rest.internal.dto.response.PermissionSetApiResponse;
+import com.ryuqq.authhub.application.permission.dto.composite.PermissionSet;
+import org.springframework.stereotype.Component;
+
+/**
+ * InternalPermissionSetApiMapper - Internal Permission Set API Mapper
+ *
+ * <p>Application Layer 결과를 API 응답으로 변환합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class InternalPermissionSetApiMapper {
+
+    /**
+     * 권한 집합을 API 응답으로 변환
+     *
+     * @param permissionSet 권한 집합
+     * @return API 응답 DTO (권한 키 오름차순)
+     */
+    public PermissionSetApiResponse toApiResponse(PermissionSet permissionSet) {
+        return new PermissionSetApiResponse(
+                permissionSet.hash(), permissionSet.permissionKeys().stream().sorted().toList());
+    }
+}
@@ -1,7 +1,9 @@
 package com.ryuqq.authhub.adapter.in.rest.internal.mapper;
 
 import com.ryuqq.authhub.adapter.in.rest.internal.dto.response.EndpointPermissionSpecApiResponse;
+import com.ryuqq.authhub.adapter.in.rest.internal.dto.response.EndpointPermissionSpecDeltaApiResponse;
 import com.ryuqq.authhub.adapter.in.rest.internal.dto.response.EndpointPermissionSpecListApiResponse;
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecDeltaResult;
 import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecListResult;
 import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecResult;
 import java.util.List;
@@ -33,6 +35,26 @@ public class InternalPermissionSpecApiMapper {
                 result.version(), result.updatedAt(), endpoints);
     }
 
+    /**
+     * 스펙 변경분 결과를 API 응답으로 변환
+     *
+     * @param result Application Layer 변경분 결과
+     * @return 변경분 API 응답 DTO
+     */
+    public EndpointPermissionSpecDeltaApiResponse toDeltaApiResponse(
+            EndpointPermissionSpecDeltaResult result) {
+        List<EndpointPermissionSpecApiResponse> endpoints =
+                result.endpoints().stream().map(this::toApiResponse).toList();
+
+        return new EndpointPermissionSpecDeltaApiResponse(
+                result.sinceVersion(),
+                result.version(),
+                result.updatedAt(),
+                result.fullSync(),
+                endpoints,
+                result.removedEndpointIds());
+    }
+
     /**
      * 개별 스펙 결과를 API 응답으로 변환
      *
@@ -41,6 +63,7 @@ public class InternalPermissionSpecApiMapper {
      */
     private EndpointPermissionSpecApiResponse toApiResponse(EndpointPermissionSpecResult result) {
         return new EndpointPermissionSpecApiResponse(
+                result.endpointId(),
                 result.serviceName(),
                 result.pathPattern(),
                 result.httpMethod(),
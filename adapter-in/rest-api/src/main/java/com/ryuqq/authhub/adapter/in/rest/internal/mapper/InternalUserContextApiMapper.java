@@ -45,4 +45,14 @@ public class InternalUserContextApiMapper {
                 roles,
                 response.permissions());
     }
+
+    /**
+     * Application 결과 목록을 API 응답 목록으로 변환
+     *
+     * @param responses Application Layer 결과 목록
+     * @return API 응답 DTO 목록
+     */
+    public List<UserContextApiResponse> toApiResponses(List<MyContextResponse> responses) {
+        return responses.stream().map(this::toApiResponse).toList();
+    }
 }
@@ -2,6 +2,7 @@ package com.ryuqq.authhub.adapter.in.rest.internal.mapper;
 
 import com.ryuqq.authhub.adapter.in.rest.internal.dto.response.UserPermissionsApiResponse;
 import com.ryuqq.authhub.application.userrole.dto.response.UserPermissionsResult;
+import java.util.List;
 import org.springframework.stereotype.Component;
 
 /**
@@ -29,4 +30,14 @@ public class InternalUserPermissionApiMapper {
                 result.hash(),
                 result.generatedAt());
     }
+
+    /**
+     * Application 결과 목록을 API 응답 목록으로 변환
+     *
+     * @param results Application Layer 결과 목록
+     * @return API 응답 DTO 목록
+     */
+    public List<UserPermissionsApiResponse> toApiResponses(List<UserPermissionsResult> results) {
+        return results.stream().map(this::toApiResponse).toList();
+    }
 }
@@ -5,6 +5,7 @@ import com.ryuqq.authhub.domain.common.exception.DomainException;
 import com.ryuqq.authhub.domain.permission.exception.DuplicatePermissionKeyException;
 import com.ryuqq.authhub.domain.permission.exception.PermissionInUseException;
 import com.ryuqq.authhub.domain.permission.exception.PermissionNotFoundException;
+import com.ryuqq.authhub.domain.permission.exception.PermissionSetNotFoundException;
 import com.ryuqq.authhub.domain.permission.exception.SystemPermissionNotDeletableException;
 import com.ryuqq.authhub.domain.permission.exception.SystemPermissionNotModifiableException;
 import java.net.URI;
@@ -25,6 +26,7 @@ import org.springframework.stereotype.Component;
  *   <li>SystemPermissionNotModifiableException → 403 Forbidden
  *   <li>SystemPermissionNotDeletableException → 403 Forbidden
  *   <li>PermissionInUseException → 409 Conflict
+ *   <li>PermissionSetNotFoundException → 404 Not Found
  * </ul>
  *
  * @author development-team
@@ -41,7 +43,8 @@ public class PermissionErrorMapper implements ErrorMapper {
                 || ex instanceof DuplicatePermissionKeyException
                 || ex instanceof SystemPermissionNotModifiableException
                 || ex instanceof SystemPermissionNotDeletableException
-                || ex instanceof PermissionInUseException;
+                || ex instanceof PermissionInUseException
+                || ex instanceof PermissionSetNotFoundException;
     }
 
     @Override
@@ -82,6 +85,13 @@ public class PermissionErrorMapper implements ErrorMapper {
                             e.getMessage(),
                             URI.create(ERROR_TYPE_BASE + "/in-use"));
 
+            case PermissionSetNotFoundException e ->
+                    new MappedError(
+                            HttpStatus.NOT_FOUND,
+                            "Permission Set Not Found",
+                            e.getMessage(),
+                            URI.create(ERROR_TYPE_BASE + "/set-not-found"));
+
             default ->
                     new MappedError(
                             HttpStatus.BAD_REQUEST,
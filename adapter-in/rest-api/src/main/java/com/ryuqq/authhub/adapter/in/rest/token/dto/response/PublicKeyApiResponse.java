@@ -5,7 +5,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 /**
  * PublicKeyApiResponse - 개별 공개키 API 응답 DTO
  *
- * <p>RFC 7517 JSON Web Key (JWK) 명세에 따른 개별 키 정보입니다.
+ * <p>RFC 7517 JSON Web Key (JWK) 명세에 따른 개별 키 정보입니다. 키 타입에 해당하지 않는 필드(RSA 키의 crv/x/y,
+ * EC/OKP 키의 n/e)는 응답에서 생략됩니다.
  *
  * <p><strong>Zero-Tolerance 규칙:</strong>
  *
@@ -23,8 +24,12 @@ import io.swagger.v3.oas.annotations.media.Schema;
 @Schema(description = "개별 공개키 응답 (RFC 7517 JWK 형식)")
 public record PublicKeyApiResponse(
         @Schema(description = "Key ID") String kid,
-        @Schema(description = "Key Type (RSA)") String kty,
+        @Schema(description = "Key Type (RSA, EC, OKP)") String kty,
         @Schema(description = "Public Key Use (sig)") String use,
-        @Schema(description = "Algorithm (RS256)") String alg,
+        @Schema(description = "Algorithm (RS256, ES256, EdDSA)") String alg,
         @Schema(description = "RSA modulus (Base64URL encoded)") String n,
-        @Schema(description = "RSA public exponent (Base64URL encoded)") String e) {}
+        @Schema(description = "RSA public exponent (Base64URL encoded)") String e,
+        @Schema(description = "Curve (P-256, Ed25519)") String crv,
+        @Schema(description = "EC x coordinate or Ed25519 public key (Base64URL encoded)")
+                String x,
+        @Schema(description = "EC y coordinate (Base64URL encoded)") String y) {}
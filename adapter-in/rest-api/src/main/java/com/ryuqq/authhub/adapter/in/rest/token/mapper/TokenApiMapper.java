@@ -79,8 +79,15 @@ public class TokenApiMapper {
                         .map(
                                 jwk ->
                                         new PublicKeyApiResponse(
-                                                jwk.kid(), jwk.kty(), jwk.use(), jwk.alg(), jwk.n(),
-                                                jwk.e()))
+                                                jwk.kid(),
+                                                jwk.kty(),
+                                                jwk.use(),
+                                                jwk.alg(),
+                                                jwk.n(),
+                                                jwk.e(),
+                                                jwk.crv(),
+                                                jwk.x(),
+                                                jwk.y()))
                         .toList();
         return new PublicKeysApiResponse(keys);
     }
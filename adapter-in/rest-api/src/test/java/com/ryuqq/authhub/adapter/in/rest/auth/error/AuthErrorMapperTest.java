@@ -74,6 +74,14 @@ class AuthErrorMapperTest {
             assertThat(result.status()).isEqualTo(HttpStatus.FORBIDDEN);
         }
 
+        @Test
+        @DisplayName("AUTH-008을 429 Too Many Requests로 매핑한다")
+        void shouldMapAuth008To429() {
+            var ex = ErrorMapperApiFixture.passwordHashingBusyException();
+            ErrorMapper.MappedError result = mapper.map(ex, Locale.KOREA);
+            assertThat(result.status()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        }
+
         @Test
         @DisplayName("map() 결과에 status와 type URI가 포함된다")
         void shouldIncludeStatusAndTypeInResult() {
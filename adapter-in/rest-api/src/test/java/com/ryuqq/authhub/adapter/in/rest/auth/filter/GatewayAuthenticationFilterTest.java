@@ -2,13 +2,26 @@ package com.ryuqq.authhub.adapter.in.rest.auth.filter;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.ryuqq.authhub.adapter.in.rest.auth.component.SecurityContext;
 import com.ryuqq.authhub.adapter.in.rest.auth.component.SecurityContextHolder;
+import com.ryuqq.authhub.application.permission.dto.composite.PermissionDictionary;
+import com.ryuqq.authhub.application.permission.dto.composite.PermissionSet;
+import com.ryuqq.authhub.application.permission.dto.response.PermissionDictionaryEntryResult;
+import com.ryuqq.authhub.application.permission.port.in.query.GetPermissionDictionaryUseCase;
+import com.ryuqq.authhub.application.permission.port.in.query.GetPermissionSetUseCase;
+import com.ryuqq.authhub.domain.permission.exception.PermissionSetNotFoundException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -17,6 +30,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 
@@ -33,6 +47,14 @@ class GatewayAuthenticationFilterTest {
 
     @Mock private FilterChain filterChain;
 
+    @Mock private ObjectProvider<GetPermissionDictionaryUseCase> permissionDictionaryUseCase;
+
+    @Mock private GetPermissionDictionaryUseCase getPermissionDictionaryUseCase;
+
+    @Mock private ObjectProvider<GetPermissionSetUseCase> permissionSetUseCase;
+
+    @Mock private GetPermissionSetUseCase getPermissionSetUseCase;
+
     private GatewayAuthenticationFilter filter;
 
     @AfterEach
@@ -49,7 +71,9 @@ class GatewayAuthenticationFilterTest {
         @DisplayName("X-User-Id 없으면 Anonymous 컨텍스트를 설정한다")
         void shouldSetAnonymousContextWhenNoUserId() throws ServletException, IOException {
             // Given
-            filter = new GatewayAuthenticationFilter();
+            filter =
+                    new GatewayAuthenticationFilter(
+                            permissionDictionaryUseCase, permissionSetUseCase);
             MockHttpServletRequest request = new MockHttpServletRequest();
             MockHttpServletResponse response = new MockHttpServletResponse();
 
@@ -67,7 +91,9 @@ class GatewayAuthenticationFilterTest {
         @DisplayName("X-User-Id 있으면 Gateway 인증 컨텍스트를 설정한다")
         void shouldSetGatewayContextWhenUserIdPresent() throws ServletException, IOException {
             // Given
-            filter = new GatewayAuthenticationFilter();
+            filter =
+                    new GatewayAuthenticationFilter(
+                            permissionDictionaryUseCase, permissionSetUseCase);
             MockHttpServletRequest request = new MockHttpServletRequest();
             request.addHeader(GatewayHeaderExtractor.HEADER_USER_ID, "user-123");
             request.addHeader(GatewayHeaderExtractor.HEADER_TENANT_ID, "tenant-456");
@@ -86,7 +112,9 @@ class GatewayAuthenticationFilterTest {
         @DisplayName("필터 완료 후 SecurityContext를 정리한다")
         void shouldClearContextAfterFilter() throws ServletException, IOException {
             // Given
-            filter = new GatewayAuthenticationFilter();
+            filter =
+                    new GatewayAuthenticationFilter(
+                            permissionDictionaryUseCase, permissionSetUseCase);
             MockHttpServletRequest request = new MockHttpServletRequest();
             request.addHeader(GatewayHeaderExtractor.HEADER_USER_ID, "user-123");
             MockHttpServletResponse response = new MockHttpServletResponse();
@@ -98,5 +126,268 @@ class GatewayAuthenticationFilterTest {
             SecurityContext context = SecurityContextHolder.getContext();
             assertThat(context.isAuthenticated()).isFalse();
         }
+
+        @Test
+        @DisplayName("X-Permissions 없이 X-Permission-Bits가 있으면 권한 사전으로 복원한다")
+        void shouldDecodePermissionBitsWithDictionary() throws ServletException, IOException {
+            // Given
+            PermissionDictionary dictionary = dictionary();
+            given(permissionDictionaryUseCase.getIfAvailable())
+                    .willReturn(getPermissionDictionaryUseCase);
+            given(getPermissionDictionaryUseCase.execute(dictionary.version()))
+                    .willReturn(dictionary);
+            filter =
+                    new GatewayAuthenticationFilter(
+                            permissionDictionaryUseCase, permissionSetUseCase);
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader(GatewayHeaderExtractor.HEADER_USER_ID, "user-123");
+            request.addHeader(
+                    GatewayHeaderExtractor.HEADER_PERMISSION_BITS,
+                    dictionary.encode(Set.of("user:read", "order:read")).orElseThrow().bitmap());
+            request.addHeader(
+                    GatewayHeaderExtractor.HEADER_PERMISSION_DICTIONARY, dictionary.version());
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            AtomicReference<Set<String>> captured = new AtomicReference<>();
+            doAnswer(
+                            invocation -> {
+                                captured.set(SecurityContextHolder.getContext().getPermissions());
+                                return null;
+                            })
+                    .when(filterChain)
+                    .doFilter(any(), any());
+
+            // When
+            filter.doFilterInternal(request, response, filterChain);
+
+            // Then
+            assertThat(captured.get()).containsExactlyInAnyOrder("user:read", "order:read");
+        }
+
+        @Test
+        @DisplayName("재적재 후에도 권한 사전 버전이 다르면 보유 사전으로 X-Permission-Bits를 복원한다")
+        void shouldDecodePermissionBitsWhenDictionaryVersionDiffers()
+                throws ServletException, IOException {
+            // Given
+            PermissionDictionary dictionary = dictionary();
+            given(permissionDictionaryUseCase.getIfAvailable())
+                    .willReturn(getPermissionDictionaryUseCase);
+            given(getPermissionDictionaryUseCase.execute("0000000000000000"))
+                    .willReturn(dictionary);
+            filter =
+                    new GatewayAuthenticationFilter(
+                            permissionDictionaryUseCase, permissionSetUseCase);
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader(GatewayHeaderExtractor.HEADER_USER_ID, "user-123");
+            request.addHeader(
+                    GatewayHeaderExtractor.HEADER_PERMISSION_BITS,
+                    dictionary.encode(Set.of("user:read")).orElseThrow().bitmap());
+            request.addHeader(
+                    GatewayHeaderExtractor.HEADER_PERMISSION_DICTIONARY, "0000000000000000");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            AtomicReference<Set<String>> captured = new AtomicReference<>();
+            doAnswer(
+                            invocation -> {
+                                captured.set(SecurityContextHolder.getContext().getPermissions());
+                                return null;
+                            })
+                    .when(filterChain)
+                    .doFilter(any(), any());
+
+            // When
+            filter.doFilterInternal(request, response, filterChain);
+
+            // Then
+            assertThat(captured.get()).containsExactly("user:read");
+        }
+
+        @Test
+        @DisplayName("X-Permission-Dict가 없으면 현재 권한 사전으로 X-Permission-Bits를 복원한다")
+        void shouldDecodePermissionBitsWithoutDictionaryVersion()
+                throws ServletException, IOException {
+            // Given
+            given(permissionDictionaryUseCase.getIfAvailable())
+                    .willReturn(getPermissionDictionaryUseCase);
+            given(getPermissionDictionaryUseCase.execute()).willReturn(dictionary());
+            filter =
+                    new GatewayAuthenticationFilter(
+                            permissionDictionaryUseCase, permissionSetUseCase);
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader(GatewayHeaderExtractor.HEADER_USER_ID, "user-123");
+            request.addHeader(
+                    GatewayHeaderExtractor.HEADER_PERMISSION_BITS,
+                    dictionary().encode(Set.of("user:read")).orElseThrow().bitmap());
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            AtomicReference<Set<String>> captured = new AtomicReference<>();
+            doAnswer(
+                            invocation -> {
+                                captured.set(SecurityContextHolder.getContext().getPermissions());
+                                return null;
+                            })
+                    .when(filterChain)
+                    .doFilter(any(), any());
+
+            // When
+            filter.doFilterInternal(request, response, filterChain);
+
+            // Then
+            assertThat(captured.get()).containsExactly("user:read");
+            verify(getPermissionDictionaryUseCase, never()).execute(any());
+        }
+
+        @Test
+        @DisplayName("형식이 잘못된 X-Permission-Bits는 빈 권한으로 처리한다")
+        void shouldIgnoreMalformedPermissionBits() throws ServletException, IOException {
+            // Given
+            filter =
+                    new GatewayAuthenticationFilter(
+                            permissionDictionaryUseCase, permissionSetUseCase);
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader(GatewayHeaderExtractor.HEADER_USER_ID, "user-123");
+            request.addHeader(GatewayHeaderExtractor.HEADER_PERMISSION_BITS, "!!");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            AtomicReference<Set<String>> captured = new AtomicReference<>();
+            doAnswer(
+                            invocation -> {
+                                captured.set(SecurityContextHolder.getContext().getPermissions());
+                                return null;
+                            })
+                    .when(filterChain)
+                    .doFilter(any(), any());
+
+            // When
+            filter.doFilterInternal(request, response, filterChain);
+
+            // Then
+            assertThat(captured.get()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("X-Permissions와 X-Permission-Bits 없이 X-User-Permission-Hash가 있으면 권한 집합으로 복원한다")
+        void shouldResolvePermissionHash() throws ServletException, IOException {
+            // Given
+            PermissionSet permissionSet = PermissionSet.of(Set.of("user:read", "order:read"));
+            given(permissionSetUseCase.getIfAvailable()).willReturn(getPermissionSetUseCase);
+            given(getPermissionSetUseCase.execute(permissionSet.hash())).willReturn(permissionSet);
+            filter =
+                    new GatewayAuthenticationFilter(
+                            permissionDictionaryUseCase, permissionSetUseCase);
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader(GatewayHeaderExtractor.HEADER_USER_ID, "user-123");
+            request.addHeader(GatewayHeaderExtractor.HEADER_PERMISSION_HASH, permissionSet.hash());
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            AtomicReference<Set<String>> captured = new AtomicReference<>();
+            doAnswer(
+                            invocation -> {
+                                captured.set(SecurityContextHolder.getContext().getPermissions());
+                                return null;
+                            })
+                    .when(filterChain)
+                    .doFilter(any(), any());
+
+            // When
+            filter.doFilterInternal(request, response, filterChain);
+
+            // Then
+            assertThat(captured.get()).containsExactlyInAnyOrder("user:read", "order:read");
+        }
+
+        @Test
+        @DisplayName("알 수 없는 X-User-Permission-Hash는 빈 권한으로 처리한다")
+        void shouldIgnoreUnknownPermissionHash() throws ServletException, IOException {
+            // Given
+            given(permissionSetUseCase.getIfAvailable()).willReturn(getPermissionSetUseCase);
+            given(getPermissionSetUseCase.execute("unknown"))
+                    .willThrow(new PermissionSetNotFoundException("unknown"));
+            filter =
+                    new GatewayAuthenticationFilter(
+                            permissionDictionaryUseCase, permissionSetUseCase);
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader(GatewayHeaderExtractor.HEADER_USER_ID, "user-123");
+            request.addHeader(GatewayHeaderExtractor.HEADER_PERMISSION_HASH, "unknown");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            AtomicReference<Set<String>> captured = new AtomicReference<>();
+            doAnswer(
+                            invocation -> {
+                                captured.set(SecurityContextHolder.getContext().getPermissions());
+                                return null;
+                            })
+                    .when(filterChain)
+                    .doFilter(any(), any());
+
+            // When
+            filter.doFilterInternal(request, response, filterChain);
+
+            // Then
+            assertThat(captured.get()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("한 번 복원한 X-User-Permission-Hash는 다시 조회하지 않는다")
+        void shouldCacheResolvedPermissionHash() throws ServletException, IOException {
+            // Given
+            PermissionSet permissionSet = PermissionSet.of(Set.of("user:read"));
+            given(permissionSetUseCase.getIfAvailable()).willReturn(getPermissionSetUseCase);
+            given(getPermissionSetUseCase.execute(permissionSet.hash())).willReturn(permissionSet);
+            filter =
+                    new GatewayAuthenticationFilter(
+                            permissionDictionaryUseCase, permissionSetUseCase);
+            AtomicReference<Set<String>> captured = new AtomicReference<>();
+            doAnswer(
+                            invocation -> {
+                                captured.set(SecurityContextHolder.getContext().getPermissions());
+                                return null;
+                            })
+                    .when(filterChain)
+                    .doFilter(any(), any());
+
+            // When
+            filter.doFilterInternal(
+                    permissionHashRequest(permissionSet.hash()),
+                    new MockHttpServletResponse(),
+                    filterChain);
+            filter.doFilterInternal(
+                    permissionHashRequest(permissionSet.hash()),
+                    new MockHttpServletResponse(),
+                    filterChain);
+
+            // Then
+            assertThat(captured.get()).containsExactly("user:read");
+            verify(getPermissionSetUseCase, times(1)).execute(permissionSet.hash());
+        }
+
+        @Test
+        @DisplayName("알 수 없는 X-User-Permission-Hash는 캐시하지 않고 매번 조회한다")
+        void shouldNotCacheUnknownPermissionHash() throws ServletException, IOException {
+            // Given
+            given(permissionSetUseCase.getIfAvailable()).willReturn(getPermissionSetUseCase);
+            given(getPermissionSetUseCase.execute("unknown"))
+                    .willThrow(new PermissionSetNotFoundException("unknown"));
+            filter =
+                    new GatewayAuthenticationFilter(
+                            permissionDictionaryUseCase, permissionSetUseCase);
+
+            // When
+            filter.doFilterInternal(
+                    permissionHashRequest("unknown"), new MockHttpServletResponse(), filterChain);
+            filter.doFilterInternal(
+                    permissionHashRequest("unknown"), new MockHttpServletResponse(), filterChain);
+
+            // Then
+            verify(getPermissionSetUseCase, times(2)).execute("unknown");
+        }
+    }
+
+    private static MockHttpServletRequest permissionHashRequest(String permissionHash) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(GatewayHeaderExtractor.HEADER_USER_ID, "user-123");
+        request.addHeader(GatewayHeaderExtractor.HEADER_PERMISSION_HASH, permissionHash);
+        return request;
+    }
+
+    private static PermissionDictionary dictionary() {
+        return PermissionDictionary.of(
+                List.of(
+                        new PermissionDictionaryEntryResult(1L, "user:read"),
+                        new PermissionDictionaryEntryResult(7L, "order:read")));
     }
 }
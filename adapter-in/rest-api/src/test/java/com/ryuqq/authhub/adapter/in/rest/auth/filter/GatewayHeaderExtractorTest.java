@@ -2,6 +2,8 @@ package com.ryuqq.authhub.adapter.in.rest.auth.filter;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Base64;
+import java.util.BitSet;
 import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -133,6 +135,111 @@ class GatewayHeaderExtractorTest {
         }
     }
 
+    @Nested
+    @DisplayName("parsePermissionBits() 메서드는")
+    class ParsePermissionBitsMethod {
+
+        @Test
+        @DisplayName("Base64URL 비트맵을 BitSet으로 변환한다")
+        void shouldParseBase64UrlBitmap() {
+            BitSet expected = new BitSet();
+            expected.set(1);
+            expected.set(9);
+            String header =
+                    Base64.getUrlEncoder().withoutPadding().encodeToString(expected.toByteArray());
+
+            assertThat(GatewayHeaderExtractor.parsePermissionBits(header)).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("빈 값이거나 형식이 잘못되면 빈 BitSet을 반환한다")
+        void shouldReturnEmptyBitSetWhenBlankOrInvalid() {
+            assertThat(GatewayHeaderExtractor.parsePermissionBits(null)).isEmpty();
+            assertThat(GatewayHeaderExtractor.parsePermissionBits(" ")).isEmpty();
+            assertThat(GatewayHeaderExtractor.parsePermissionBits("!!")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("getPermissions(request, decoder, resolver) 메서드는")
+    class GetPermissionsWithDecoderMethod {
+
+        @Test
+        @DisplayName("X-Permissions 헤더가 있으면 비트맵을 사용하지 않는다")
+        void shouldPreferPermissionsHeader() {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader(GatewayHeaderExtractor.HEADER_PERMISSIONS, "user:read");
+            request.addHeader(GatewayHeaderExtractor.HEADER_PERMISSION_BITS, "Ag");
+
+            Set<String> result =
+                    GatewayHeaderExtractor.getPermissions(
+                            request, (bits, version) -> Set.of("decoded"), hash -> Set.of());
+
+            assertThat(result).containsExactly("user:read");
+        }
+
+        @Test
+        @DisplayName("X-Permissions 헤더가 없으면 X-Permission-Bits를 X-Permission-Dict 버전으로 복원한다")
+        void shouldDecodePermissionBitsWhenPermissionsHeaderMissing() {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader(GatewayHeaderExtractor.HEADER_PERMISSION_BITS, "Ag");
+            request.addHeader(GatewayHeaderExtractor.HEADER_PERMISSION_DICTIONARY, "v1");
+
+            Set<String> result =
+                    GatewayHeaderExtractor.getPermissions(
+                            request,
+                            (bits, version) ->
+                                    bits.get(1) && "v1".equals(version)
+                                            ? Set.of("user:read")
+                                            : Set.of(),
+                            hash -> Set.of("resolved"));
+
+            assertThat(result).containsExactly("user:read");
+        }
+
+        @Test
+        @DisplayName("X-Permission-Dict 헤더가 없으면 사전 버전을 null로 전달한다")
+        void shouldPassNullVersionWhenDictionaryHeaderMissing() {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader(GatewayHeaderExtractor.HEADER_PERMISSION_BITS, "Ag");
+
+            Set<String> result =
+                    GatewayHeaderExtractor.getPermissions(
+                            request,
+                            (bits, version) -> version == null ? Set.of() : Set.of("user:read"),
+                            hash -> Set.of());
+
+            assertThat(result).isEmpty();
+        }
+
+        @Test
+        @DisplayName("권한 목록과 비트맵이 없으면 X-User-Permission-Hash를 권한 집합으로 복원한다")
+        void shouldResolvePermissionHashWhenListAndBitsMissing() {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader(GatewayHeaderExtractor.HEADER_PERMISSION_HASH, "abc123");
+
+            Set<String> result =
+                    GatewayHeaderExtractor.getPermissions(
+                            request,
+                            (bits, version) -> Set.of("decoded"),
+                            hash -> "abc123".equals(hash) ? Set.of("user:read") : Set.of());
+
+            assertThat(result).containsExactly("user:read");
+        }
+
+        @Test
+        @DisplayName("권한 관련 헤더가 모두 없으면 빈 Set을 반환한다")
+        void shouldReturnEmptyWithoutPermissionHeaders() {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+
+            Set<String> result =
+                    GatewayHeaderExtractor.getPermissions(
+                            request, (bits, version) -> Set.of("decoded"), hash -> Set.of("x"));
+
+            assertThat(result).isEmpty();
+        }
+    }
+
     @Nested
     @DisplayName("getTraceId() 메서드는")
     class GetTraceIdMethod {
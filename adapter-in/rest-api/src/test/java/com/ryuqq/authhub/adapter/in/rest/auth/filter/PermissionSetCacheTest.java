@@ -0,0 +1,46 @@
+package com.ryuqq.authhub.adapter.in.rest.auth.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * PermissionSetCache 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@DisplayName("PermissionSetCache 단위 테스트")
+class PermissionSetCacheTest {
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 조회되지 않은 해시부터 제거한다")
+    void shouldEvictLeastRecentlyUsed() {
+        // Given
+        PermissionSetCache cache = new PermissionSetCache(2);
+        cache.put("hash-a", Set.of("user:read"));
+        cache.put("hash-b", Set.of("order:read"));
+        cache.get("hash-a");
+
+        // When
+        cache.put("hash-c", Set.of("order:write"));
+
+        // Then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("hash-a")).containsExactly("user:read");
+        assertThat(cache.get("hash-b")).isNull();
+        assertThat(cache.get("hash-c")).containsExactly("order:write");
+    }
+
+    @Test
+    @DisplayName("최대 개수가 0 이하면 IllegalArgumentException")
+    void shouldRejectNonPositiveMaxEntries() {
+        assertThatThrownBy(() -> new PermissionSetCache(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,194 @@
+package com.ryuqq.authhub.adapter.in.rest.internal.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+
+import com.ryuqq.authhub.adapter.in.rest.internal.config.EndpointPermissionSpecStreamProperties;
+import com.ryuqq.authhub.application.permission.dto.event.PermissionChangedEvent;
+import com.ryuqq.authhub.application.permissionendpoint.dto.event.EndpointPermissionSpecChangedEvent;
+import com.ryuqq.authhub.application.permissionendpoint.port.in.query.GetEndpointPermissionSpecVersionUseCase;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * EndpointPermissionSpecStreamBroadcaster 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EndpointPermissionSpecStreamBroadcaster 단위 테스트")
+class EndpointPermissionSpecStreamBroadcasterTest {
+
+    private static final String VERSION = "120";
+
+    @Mock private GetEndpointPermissionSpecVersionUseCase getEndpointPermissionSpecVersionUseCase;
+
+    private EndpointPermissionSpecStreamProperties properties;
+    private EndpointPermissionSpecStreamBroadcaster sut;
+
+    @BeforeEach
+    void setUp() {
+        properties = new EndpointPermissionSpecStreamProperties();
+        sut =
+                new EndpointPermissionSpecStreamBroadcaster(
+                        properties, getEndpointPermissionSpecVersionUseCase);
+    }
+
+    @Nested
+    @DisplayName("subscribe 메서드")
+    class Subscribe {
+
+        @Test
+        @DisplayName("구독하면 현재 버전을 조회해 전송한다")
+        void shouldSendCurrentVersionOnSubscribe() {
+            // given
+            given(getEndpointPermissionSpecVersionUseCase.getVersion()).willReturn(VERSION);
+
+            // when & then
+            assertThat(sut.subscribe()).isPresent();
+            assertThat(sut.subscriberCount()).isEqualTo(1);
+            then(getEndpointPermissionSpecVersionUseCase).should().getVersion();
+        }
+
+        @Test
+        @DisplayName("최대 구독 수에 도달하면 구독하지 않는다")
+        void shouldRejectWhenMaxSubscribersReached() {
+            // given
+            properties.setMaxSubscribers(1);
+            given(getEndpointPermissionSpecVersionUseCase.getVersion()).willReturn(VERSION);
+            sut.subscribe();
+
+            // when & then
+            assertThat(sut.subscribe()).isEmpty();
+            assertThat(sut.subscriberCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("동시에 구독해도 최대 구독 수를 넘지 않는다")
+        void shouldNotExceedMaxSubscribersUnderConcurrentSubscribe() throws Exception {
+            // given
+            properties.setMaxSubscribers(2);
+            given(getEndpointPermissionSpecVersionUseCase.getVersion()).willReturn(VERSION);
+            int threads = 16;
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+            try {
+                // when
+                List<Future<Optional<SseEmitter>>> results = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    results.add(
+                            executor.submit(
+                                    () -> {
+                                        start.await();
+                                        return sut.subscribe();
+                                    }));
+                }
+                start.countDown();
+                int subscribed = 0;
+                for (Future<Optional<SseEmitter>> result : results) {
+                    if (result.get(5, TimeUnit.SECONDS).isPresent()) {
+                        subscribed++;
+                    }
+                }
+
+                // then
+                assertThat(subscribed).isEqualTo(2);
+                assertThat(sut.subscriberCount()).isEqualTo(2);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("구독 직후 버전 조회가 실패하면 구독 슬롯을 반환한다")
+        void shouldReleaseSlotWhenInitialVersionLookupFails() {
+            // given
+            properties.setMaxSubscribers(1);
+            given(getEndpointPermissionSpecVersionUseCase.getVersion())
+                    .willThrow(new IllegalStateException("db down"))
+                    .willReturn(VERSION);
+
+            // when & then
+            assertThatThrownBy(() -> sut.subscribe()).isInstanceOf(IllegalStateException.class);
+            assertThat(sut.subscriberCount()).isZero();
+            assertThat(sut.subscribe()).isPresent();
+        }
+    }
+
+    @Nested
+    @DisplayName("변경 전송")
+    class Broadcast {
+
+        @Test
+        @DisplayName("구독자가 없으면 버전을 조회하지 않는다")
+        void shouldNotQueryVersionWithoutSubscribers() {
+            // when
+            sut.onSpecChanged(new EndpointPermissionSpecChangedEvent(1));
+            sut.onPermissionChanged(new PermissionChangedEvent(1));
+            sut.broadcastCurrentVersion();
+            sut.heartbeat();
+
+            // then
+            then(getEndpointPermissionSpecVersionUseCase).should(never()).getVersion();
+        }
+
+        @Test
+        @DisplayName("구독자가 있으면 현재 버전을 조회해 전송한다")
+        void shouldQueryVersionWhenBroadcasting() {
+            // given
+            given(getEndpointPermissionSpecVersionUseCase.getVersion()).willReturn(VERSION);
+            sut.subscribe();
+
+            // when
+            sut.broadcastCurrentVersion();
+
+            // then
+            then(getEndpointPermissionSpecVersionUseCase).should(times(2)).getVersion();
+            assertThat(sut.subscriberCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("권한 변경 이벤트를 받으면 현재 버전을 전송한다")
+        void shouldBroadcastOnPermissionChanged() {
+            // given
+            given(getEndpointPermissionSpecVersionUseCase.getVersion()).willReturn(VERSION);
+            sut.start();
+            try {
+                sut.subscribe();
+
+                // when
+                sut.onPermissionChanged(new PermissionChangedEvent(1));
+
+                // then
+                then(getEndpointPermissionSpecVersionUseCase)
+                        .should(timeout(1_000).times(2))
+                        .getVersion();
+            } finally {
+                sut.stop();
+            }
+        }
+    }
+}
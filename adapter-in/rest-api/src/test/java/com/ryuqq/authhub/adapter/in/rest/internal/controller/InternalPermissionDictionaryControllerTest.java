@@ -0,0 +1,103 @@
+package com.ryuqq.authhub.adapter.in.rest.internal.controller;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.ryuqq.authhub.adapter.in.rest.common.ControllerTestSecurityConfig;
+import com.ryuqq.authhub.adapter.in.rest.common.RestDocsTestSupport;
+import com.ryuqq.authhub.adapter.in.rest.internal.InternalApiEndpoints;
+import com.ryuqq.authhub.adapter.in.rest.internal.mapper.InternalPermissionDictionaryApiMapper;
+import com.ryuqq.authhub.application.permission.dto.composite.PermissionDictionary;
+import com.ryuqq.authhub.application.permission.dto.response.PermissionDictionaryEntryResult;
+import com.ryuqq.authhub.application.permission.port.in.query.GetPermissionDictionaryUseCase;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.restdocs.payload.JsonFieldType;
+
+/**
+ * InternalPermissionDictionaryController 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@WebMvcTest(InternalPermissionDictionaryController.class)
+@Import({ControllerTestSecurityConfig.class, InternalPermissionDictionaryApiMapper.class})
+@DisplayName("InternalPermissionDictionaryController 테스트")
+class InternalPermissionDictionaryControllerTest extends RestDocsTestSupport {
+
+    @MockBean private GetPermissionDictionaryUseCase getPermissionDictionaryUseCase;
+
+    @Nested
+    @DisplayName("GET /api/v1/internal/permissions/dictionary - 권한 사전 조회")
+    class GetDictionaryTests {
+
+        @Test
+        @DisplayName("권한 사전을 ID 오름차순으로 조회한다")
+        void shouldGetDictionarySuccessfully() throws Exception {
+            // given
+            PermissionDictionary dictionary =
+                    PermissionDictionary.of(
+                            List.of(
+                                    new PermissionDictionaryEntryResult(1L, "user:read"),
+                                    new PermissionDictionaryEntryResult(7L, "order:read")));
+            given(getPermissionDictionaryUseCase.execute()).willReturn(dictionary);
+
+            // when & then
+            mockMvc.perform(
+                            get(
+                                    InternalApiEndpoints.PERMISSIONS
+                                            + InternalApiEndpoints.PERMISSIONS_DICTIONARY))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success").value(true))
+                    .andExpect(jsonPath("$.data.version").value(dictionary.version()))
+                    .andExpect(jsonPath("$.data.entries[0].index").value(1))
+                    .andExpect(jsonPath("$.data.entries[0].id").value(1))
+                    .andExpect(jsonPath("$.data.entries[0].key").value("user:read"))
+                    .andExpect(jsonPath("$.data.entries[1].index").value(7))
+                    .andExpect(jsonPath("$.data.entries[1].id").value(7))
+                    .andDo(
+                            document(
+                                    "internal/permission-dictionary/get",
+                                    responseFields(
+                                            fieldWithPath("success")
+                                                    .type(JsonFieldType.BOOLEAN)
+                                                    .description("요청 성공 여부"),
+                                            fieldWithPath("data")
+                                                    .type(JsonFieldType.OBJECT)
+                                                    .description("응답 데이터"),
+                                            fieldWithPath("data.version")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("사전 버전 (perm_dict)"),
+                                            fieldWithPath("data.entries[]")
+                                                    .type(JsonFieldType.ARRAY)
+                                                    .description("비트 인덱스 오름차순 항목 목록"),
+                                            fieldWithPath("data.entries[].index")
+                                                    .type(JsonFieldType.NUMBER)
+                                                    .description("비트 인덱스 (권한 ID)"),
+                                            fieldWithPath("data.entries[].id")
+                                                    .type(JsonFieldType.NUMBER)
+                                                    .description("권한 ID"),
+                                            fieldWithPath("data.entries[].key")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("권한 키"),
+                                            fieldWithPath("timestamp")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("응답 시간"),
+                                            fieldWithPath("requestId")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("요청 ID"))));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.ryuqq.authhub.adapter.in.rest.internal.controller;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.ryuqq.authhub.adapter.in.rest.common.ControllerTestSecurityConfig;
+import com.ryuqq.authhub.adapter.in.rest.common.RestDocsTestSupport;
+import com.ryuqq.authhub.adapter.in.rest.internal.InternalApiEndpoints;
+import com.ryuqq.authhub.adapter.in.rest.internal.mapper.InternalPermissionSetApiMapper;
+import com.ryuqq.authhub.application.permission.dto.composite.PermissionSet;
+import com.ryuqq.authhub.application.permission.port.in.query.GetPermissionSetUseCase;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.restdocs.payload.JsonFieldType;
+
+/**
+ * InternalPermissionSetController 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@WebMvcTest(InternalPermissionSetController.class)
+@Import({ControllerTestSecurityConfig.class, InternalPermissionSetApiMapper.class})
+@DisplayName("InternalPermissionSetController 테스트")
+class InternalPermissionSetControllerTest extends RestDocsTestSupport {
+
+    @MockBean private GetPermissionSetUseCase getPermissionSetUseCase;
+
+    @Nested
+    @DisplayName("GET /api/v1/internal/permission-sets/{permissionHash} - 권한 집합 조회")
+    class GetPermissionSetTests {
+
+        @Test
+        @DisplayName("권한 해시로 권한 키 목록을 immutable 캐시 헤더와 함께 조회한다")
+        void shouldGetPermissionSetSuccessfully() throws Exception {
+            // given
+            PermissionSet permissionSet = PermissionSet.of(List.of("user:write", "user:read"));
+            given(getPermissionSetUseCase.execute(permissionSet.hash())).willReturn(permissionSet);
+
+            // when & then
+            mockMvc.perform(
+                            get(
+                                    InternalApiEndpoints.PERMISSION_SETS
+                                            + InternalApiEndpoints.PERMISSION_SET,
+                                    permissionSet.hash()))
+                    .andExpect(status().isOk())
+                    .andExpect(
+                            header().string(
+                                            HttpHeaders.CACHE_CONTROL,
+                                            "max-age=31536000, private, immutable"))
+                    .andExpect(jsonPath("$.success").value(true))
+                    .andExpect(jsonPath("$.data.hash").value(permissionSet.hash()))
+                    .andExpect(jsonPath("$.data.permissions[0]").value("user:read"))
+                    .andExpect(jsonPath("$.data.permissions[1]").value("user:write"))
+                    .andDo(
+                            document(
+                                    "internal/permission-set/get",
+                                    pathParameters(
+                                            parameterWithName("permissionHash")
+                                                    .description("권한 해시 (permission_hash)")),
+                                    responseFields(
+                                            fieldWithPath("success")
+                                                    .type(JsonFieldType.BOOLEAN)
+                                                    .description("요청 성공 여부"),
+                                            fieldWithPath("data")
+                                                    .type(JsonFieldType.OBJECT)
+                                                    .description("응답 데이터"),
+                                            fieldWithPath("data.hash")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("권한 해시"),
+                                            fieldWithPath("data.permissions[]")
+                                                    .type(JsonFieldType.ARRAY)
+                                                    .description("권한 키 목록 (오름차순)"),
+                                            fieldWithPath("timestamp")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("응답 시간"),
+                                            fieldWithPath("requestId")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("요청 ID"))));
+        }
+    }
+}
@@ -1,23 +1,45 @@
 package com.ryuqq.authhub.adapter.in.rest.internal.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.ryuqq.authhub.adapter.in.rest.common.ControllerTestSecurityConfig;
 import com.ryuqq.authhub.adapter.in.rest.common.RestDocsTestSupport;
 import com.ryuqq.authhub.adapter.in.rest.internal.InternalApiEndpoints;
+import com.ryuqq.authhub.adapter.in.rest.internal.component.EndpointPermissionSpecResponseCache;
+import com.ryuqq.authhub.adapter.in.rest.internal.component.EndpointPermissionSpecStreamBroadcaster;
 import com.ryuqq.authhub.adapter.in.rest.internal.fixture.InternalApiFixture;
 import com.ryuqq.authhub.adapter.in.rest.internal.mapper.InternalPermissionSpecApiMapper;
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecChangeResult;
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecDeltaResult;
 import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecListResult;
 import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecResult;
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecVersionResult;
+import com.ryuqq.authhub.application.permissionendpoint.port.in.query.GetEndpointPermissionSpecChangesUseCase;
 import com.ryuqq.authhub.application.permissionendpoint.port.in.query.GetEndpointPermissionSpecUseCase;
+import com.ryuqq.authhub.application.permissionendpoint.port.in.query.GetEndpointPermissionSpecVersionUseCase;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
@@ -25,7 +47,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * InternalPermissionSpecController 단위 테스트
@@ -35,12 +61,28 @@ import org.springframework.restdocs.payload.JsonFieldType;
  */
 @Tag("unit")
 @WebMvcTest(InternalPermissionSpecController.class)
-@Import({ControllerTestSecurityConfig.class, InternalPermissionSpecApiMapper.class})
+@Import({
+    ControllerTestSecurityConfig.class,
+    InternalPermissionSpecApiMapper.class,
+    EndpointPermissionSpecResponseCache.class
+})
 @DisplayName("InternalPermissionSpecController 테스트")
 class InternalPermissionSpecControllerTest extends RestDocsTestSupport {
 
+    private static final String SPEC_PATH =
+            InternalApiEndpoints.ENDPOINT_PERMISSIONS
+                    + InternalApiEndpoints.ENDPOINT_PERMISSIONS_SPEC;
+
     @MockBean private GetEndpointPermissionSpecUseCase getEndpointPermissionSpecUseCase;
 
+    @MockBean
+    private GetEndpointPermissionSpecVersionUseCase getEndpointPermissionSpecVersionUseCase;
+
+    @MockBean
+    private GetEndpointPermissionSpecChangesUseCase getEndpointPermissionSpecChangesUseCase;
+
+    @MockBean private EndpointPermissionSpecStreamBroadcaster streamBroadcaster;
+
     @Nested
     @DisplayName("GET /api/v1/internal/endpoint-permissions/spec - 엔드포인트-권한 스펙 조회")
     class GetSpecTests {
@@ -52,6 +94,7 @@ class InternalPermissionSpecControllerTest extends RestDocsTestSupport {
             Instant latestUpdatedAt = Instant.parse("2025-01-15T10:00:00Z");
             EndpointPermissionSpecResult specResult =
                     new EndpointPermissionSpecResult(
+                            1L,
                             InternalApiFixture.defaultServiceName(),
                             InternalApiFixture.defaultPathPattern(),
                             InternalApiFixture.defaultHttpMethod(),
@@ -59,8 +102,13 @@ class InternalPermissionSpecControllerTest extends RestDocsTestSupport {
                             false,
                             InternalApiFixture.defaultDescription());
             EndpointPermissionSpecListResult listResult =
-                    EndpointPermissionSpecListResult.of(List.of(specResult), latestUpdatedAt);
-            given(getEndpointPermissionSpecUseCase.getAll()).willReturn(listResult);
+                    EndpointPermissionSpecListResult.of(
+                            List.of(specResult),
+                            EndpointPermissionSpecVersionResult.of(3L, latestUpdatedAt));
+            given(getEndpointPermissionSpecVersionUseCase.getVersion())
+                    .willReturn(listResult.version());
+            given(getEndpointPermissionSpecUseCase.getAll(listResult.version()))
+                    .willReturn(listResult);
 
             // when & then
             mockMvc.perform(
@@ -68,6 +116,7 @@ class InternalPermissionSpecControllerTest extends RestDocsTestSupport {
                                     InternalApiEndpoints.ENDPOINT_PERMISSIONS
                                             + InternalApiEndpoints.ENDPOINT_PERMISSIONS_SPEC))
                     .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, eTagOf(listResult.version())))
                     .andExpect(jsonPath("$.success").value(true))
                     .andExpect(jsonPath("$.data.endpoints").isArray())
                     .andExpect(
@@ -99,6 +148,9 @@ class InternalPermissionSpecControllerTest extends RestDocsTestSupport {
                                             fieldWithPath("data.endpoints")
                                                     .type(JsonFieldType.ARRAY)
                                                     .description("엔드포인트-권한 매핑 목록"),
+                                            fieldWithPath("data.endpoints[].endpointId")
+                                                    .type(JsonFieldType.NUMBER)
+                                                    .description("엔드포인트 ID"),
                                             fieldWithPath("data.endpoints[].serviceName")
                                                     .type(JsonFieldType.STRING)
                                                     .description("서비스 이름"),
@@ -133,7 +185,10 @@ class InternalPermissionSpecControllerTest extends RestDocsTestSupport {
         void shouldReturnEmptyListSuccessfully() throws Exception {
             // given
             EndpointPermissionSpecListResult emptyResult = EndpointPermissionSpecListResult.empty();
-            given(getEndpointPermissionSpecUseCase.getAll()).willReturn(emptyResult);
+            given(getEndpointPermissionSpecVersionUseCase.getVersion())
+                    .willReturn(emptyResult.version());
+            given(getEndpointPermissionSpecUseCase.getAll(emptyResult.version()))
+                    .willReturn(emptyResult);
 
             // when & then
             mockMvc.perform(
@@ -145,5 +200,265 @@ class InternalPermissionSpecControllerTest extends RestDocsTestSupport {
                     .andExpect(jsonPath("$.data.endpoints").isArray())
                     .andExpect(jsonPath("$.data.endpoints").isEmpty());
         }
+
+        @Test
+        @DisplayName("If-None-Match가 현재 버전과 일치하면 전체 스펙 조회 없이 304를 반환한다")
+        void shouldReturnNotModifiedWhenETagMatches() throws Exception {
+            // given
+            String version = "3";
+            given(getEndpointPermissionSpecVersionUseCase.getVersion()).willReturn(version);
+
+            // when & then
+            mockMvc.perform(get(SPEC_PATH).header(HttpHeaders.IF_NONE_MATCH, eTagOf(version)))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, eTagOf(version)))
+                    .andExpect(content().string(""));
+
+            then(getEndpointPermissionSpecUseCase).should(never()).getAll(anyString());
+        }
+
+        @Test
+        @DisplayName("If-None-Match가 현재 버전과 다르면 전체 스펙을 반환한다")
+        void shouldReturnSpecWhenETagDoesNotMatch() throws Exception {
+            // given
+            EndpointPermissionSpecListResult listResult =
+                    EndpointPermissionSpecListResult.of(
+                            List.of(),
+                            EndpointPermissionSpecVersionResult.of(
+                                    3L, Instant.parse("2025-01-15T10:00:00Z")));
+            given(getEndpointPermissionSpecVersionUseCase.getVersion())
+                    .willReturn(listResult.version());
+            given(getEndpointPermissionSpecUseCase.getAll(listResult.version()))
+                    .willReturn(listResult);
+
+            // when & then
+            mockMvc.perform(
+                            get(SPEC_PATH)
+                                    .header(HttpHeaders.IF_NONE_MATCH, eTagOf("1")))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, eTagOf(listResult.version())))
+                    .andExpect(jsonPath("$.data.version").value(listResult.version()));
+        }
+
+        @Test
+        @DisplayName("Accept-Encoding에 gzip이 포함되면 사전 압축된 스펙을 반환한다")
+        void shouldReturnGzipBodyWhenGzipAccepted() throws Exception {
+            // given
+            EndpointPermissionSpecListResult listResult =
+                    EndpointPermissionSpecListResult.of(
+                            List.of(),
+                            EndpointPermissionSpecVersionResult.of(
+                                    3L, Instant.parse("2025-01-15T10:00:00Z")));
+            given(getEndpointPermissionSpecVersionUseCase.getVersion())
+                    .willReturn(listResult.version());
+            given(getEndpointPermissionSpecUseCase.getAll(listResult.version()))
+                    .willReturn(listResult);
+
+            // when
+            MvcResult result =
+                    mockMvc.perform(get(SPEC_PATH).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                            .andExpect(status().isOk())
+                            .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                            .andExpect(
+                                    header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                            .andReturn();
+
+            // then
+            String body = gunzip(result.getResponse().getContentAsByteArray());
+            assertThat(body).contains("\"version\":\"" + listResult.version() + "\"");
+        }
+
+        @Test
+        @DisplayName("gzip의 q=0이면 압축하지 않은 스펙을 반환한다")
+        void shouldReturnPlainBodyWhenGzipRejected() throws Exception {
+            // given
+            EndpointPermissionSpecListResult listResult =
+                    EndpointPermissionSpecListResult.of(
+                            List.of(),
+                            EndpointPermissionSpecVersionResult.of(
+                                    3L, Instant.parse("2025-01-15T10:00:00Z")));
+            given(getEndpointPermissionSpecVersionUseCase.getVersion())
+                    .willReturn(listResult.version());
+            given(getEndpointPermissionSpecUseCase.getAll(listResult.version()))
+                    .willReturn(listResult);
+
+            // when & then
+            mockMvc.perform(get(SPEC_PATH).header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                    .andExpect(jsonPath("$.data.version").value(listResult.version()));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/internal/endpoint-permissions/spec/changes - 엔드포인트-권한 스펙 변경분 조회")
+    class GetSpecChangesTests {
+
+        private static final String SPEC_CHANGES_PATH =
+                InternalApiEndpoints.ENDPOINT_PERMISSIONS
+                        + InternalApiEndpoints.ENDPOINT_PERMISSIONS_SPEC_CHANGES;
+
+        @Test
+        @DisplayName("기준 버전 이후 변경분을 조회한다")
+        void shouldGetSpecChangesSuccessfully() throws Exception {
+            // given
+            String sinceVersion = "3";
+            EndpointPermissionSpecVersionResult specVersion =
+                    EndpointPermissionSpecVersionResult.of(
+                            5L, Instant.parse("2025-01-15T11:00:00Z"));
+            EndpointPermissionSpecDeltaResult deltaResult =
+                    EndpointPermissionSpecDeltaResult.of(
+                            sinceVersion,
+                            specVersion,
+                            List.of(
+                                    new EndpointPermissionSpecChangeResult(
+                                            1L,
+                                            InternalApiFixture.defaultServiceName(),
+                                            InternalApiFixture.defaultPathPattern(),
+                                            InternalApiFixture.defaultHttpMethod(),
+                                            InternalApiFixture.defaultPermissionKey(),
+                                            false,
+                                            InternalApiFixture.defaultDescription(),
+                                            null,
+                                            null),
+                                    new EndpointPermissionSpecChangeResult(
+                                            2L,
+                                            InternalApiFixture.defaultServiceName(),
+                                            "/api/v1/legacy",
+                                            "GET",
+                                            InternalApiFixture.defaultPermissionKey(),
+                                            false,
+                                            "삭제된 엔드포인트",
+                                            Instant.parse("2025-01-15T10:30:00Z"),
+                                            null)));
+            given(getEndpointPermissionSpecChangesUseCase.getChangesSince(sinceVersion))
+                    .willReturn(deltaResult);
+
+            // when & then
+            mockMvc.perform(
+                            get(SPEC_CHANGES_PATH)
+                                    .param(InternalApiEndpoints.PARAM_SINCE, sinceVersion))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success").value(true))
+                    .andExpect(jsonPath("$.data.sinceVersion").value(sinceVersion))
+                    .andExpect(jsonPath("$.data.version").value(specVersion.version()))
+                    .andExpect(jsonPath("$.data.fullSync").value(false))
+                    .andExpect(jsonPath("$.data.endpoints[0].endpointId").value(1))
+                    .andExpect(jsonPath("$.data.removedEndpointIds[0]").value(2))
+                    .andDo(
+                            document(
+                                    "internal/permission-spec/get-changes",
+                                    queryParameters(
+                                            parameterWithName(InternalApiEndpoints.PARAM_SINCE)
+                                                    .description("보유한 스펙 버전")),
+                                    responseFields(
+                                            fieldWithPath("success")
+                                                    .type(JsonFieldType.BOOLEAN)
+                                                    .description("요청 성공 여부"),
+                                            fieldWithPath("data")
+                                                    .type(JsonFieldType.OBJECT)
+                                                    .description("응답 데이터"),
+                                            fieldWithPath("data.sinceVersion")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("요청한 기준 스펙 버전"),
+                                            fieldWithPath("data.version")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("현재 스펙 버전 (다음 요청의 기준 버전)"),
+                                            fieldWithPath("data.updatedAt")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("현재 스펙의 마지막 수정 시간")
+                                                    .optional(),
+                                            fieldWithPath("data.fullSync")
+                                                    .type(JsonFieldType.BOOLEAN)
+                                                    .description("전체 스펙 반환 여부"),
+                                            fieldWithPath("data.endpoints")
+                                                    .type(JsonFieldType.ARRAY)
+                                                    .description("추가/변경된 엔드포인트-권한 매핑 목록"),
+                                            fieldWithPath("data.endpoints[].endpointId")
+                                                    .type(JsonFieldType.NUMBER)
+                                                    .description("엔드포인트 ID"),
+                                            fieldWithPath("data.endpoints[].serviceName")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("서비스 이름"),
+                                            fieldWithPath("data.endpoints[].pathPattern")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("URL 패턴"),
+                                            fieldWithPath("data.endpoints[].httpMethod")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("HTTP 메서드"),
+                                            fieldWithPath("data.endpoints[].requiredPermissions")
+                                                    .type(JsonFieldType.ARRAY)
+                                                    .description("필요 권한 목록"),
+                                            fieldWithPath("data.endpoints[].requiredRoles")
+                                                    .type(JsonFieldType.ARRAY)
+                                                    .description("필요 역할 목록"),
+                                            fieldWithPath("data.endpoints[].isPublic")
+                                                    .type(JsonFieldType.BOOLEAN)
+                                                    .description("공개 엔드포인트 여부"),
+                                            fieldWithPath("data.endpoints[].description")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("설명"),
+                                            fieldWithPath("data.removedEndpointIds")
+                                                    .type(JsonFieldType.ARRAY)
+                                                    .description("스펙에서 제외된 엔드포인트 ID 목록"),
+                                            fieldWithPath("timestamp")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("응답 시간"),
+                                            fieldWithPath("requestId")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("요청 ID"))));
+        }
+
+        @Test
+        @DisplayName("since 파라미터가 없으면 400을 반환한다")
+        void shouldReturnBadRequestWhenSinceIsMissing() throws Exception {
+            // when & then
+            mockMvc.perform(get(SPEC_CHANGES_PATH)).andExpect(status().isBadRequest());
+
+            then(getEndpointPermissionSpecChangesUseCase)
+                    .should(never())
+                    .getChangesSince(anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/internal/endpoint-permissions/spec/stream - 스펙 변경 스트림 구독")
+    class StreamSpecChangesTests {
+
+        private static final String SPEC_STREAM_PATH =
+                InternalApiEndpoints.ENDPOINT_PERMISSIONS
+                        + InternalApiEndpoints.ENDPOINT_PERMISSIONS_SPEC_STREAM;
+
+        @Test
+        @DisplayName("구독하면 SSE 스트림을 연다")
+        void shouldStartEventStream() throws Exception {
+            // given
+            given(streamBroadcaster.subscribe()).willReturn(Optional.of(new SseEmitter()));
+
+            // when & then
+            mockMvc.perform(get(SPEC_STREAM_PATH).accept(MediaType.TEXT_EVENT_STREAM))
+                    .andExpect(request().asyncStarted());
+        }
+
+        @Test
+        @DisplayName("최대 구독 수를 초과하면 503을 반환한다")
+        void shouldReturnServiceUnavailableWhenSubscribersExceeded() throws Exception {
+            // given
+            given(streamBroadcaster.subscribe()).willReturn(Optional.empty());
+
+            // when & then
+            mockMvc.perform(get(SPEC_STREAM_PATH).accept(MediaType.TEXT_EVENT_STREAM))
+                    .andExpect(status().isServiceUnavailable());
+        }
+    }
+
+    private static String eTagOf(String version) {
+        return "\"" + version + "\"";
+    }
+
+    private static String gunzip(byte[] compressed) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
     }
 }
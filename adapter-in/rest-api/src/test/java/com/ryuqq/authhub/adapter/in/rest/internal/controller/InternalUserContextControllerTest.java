@@ -3,6 +3,7 @@ package com.ryuqq.authhub.adapter.in.rest.internal.controller;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
@@ -13,10 +14,12 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.ryuqq.authhub.adapter.in.rest.common.ControllerTestSecurityConfig;
 import com.ryuqq.authhub.adapter.in.rest.common.RestDocsTestSupport;
 import com.ryuqq.authhub.adapter.in.rest.internal.InternalApiEndpoints;
+import com.ryuqq.authhub.adapter.in.rest.internal.dto.query.UserIdsBatchApiRequest;
 import com.ryuqq.authhub.adapter.in.rest.internal.fixture.InternalApiFixture;
 import com.ryuqq.authhub.adapter.in.rest.internal.mapper.InternalUserContextApiMapper;
 import com.ryuqq.authhub.application.token.dto.response.MyContextResponse;
 import com.ryuqq.authhub.application.token.port.in.query.GetMyContextUseCase;
+import com.ryuqq.authhub.application.token.port.in.query.GetUserContextsUseCase;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -25,6 +28,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
 import org.springframework.restdocs.payload.JsonFieldType;
 
 /**
@@ -40,6 +44,7 @@ import org.springframework.restdocs.payload.JsonFieldType;
 class InternalUserContextControllerTest extends RestDocsTestSupport {
 
     @MockBean private GetMyContextUseCase getMyContextUseCase;
+    @MockBean private GetUserContextsUseCase getUserContextsUseCase;
 
     @Nested
     @DisplayName("GET /api/v1/internal/users/{userId}/context - 사용자 컨텍스트 조회")
@@ -164,4 +169,50 @@ class InternalUserContextControllerTest extends RestDocsTestSupport {
                     .andExpect(jsonPath("$.data.permissions").isEmpty());
         }
     }
+
+    @Nested
+    @DisplayName("POST /api/v1/internal/users/context:batch - 사용자 컨텍스트 일괄 조회")
+    class GetUserContextsBatchTests {
+
+        @Test
+        @DisplayName("여러 사용자의 컨텍스트를 한 번에 조회한다")
+        void shouldGetUserContextsBatchSuccessfully() throws Exception {
+            // given
+            String userId = InternalApiFixture.defaultUserId();
+            UserIdsBatchApiRequest request =
+                    new UserIdsBatchApiRequest(List.of(userId, "missing-user"));
+            given(getUserContextsUseCase.execute(request.userIds()))
+                    .willReturn(List.of(InternalApiFixture.createMyContextResponse(userId)));
+
+            // when & then
+            mockMvc.perform(
+                            post(
+                                            InternalApiEndpoints.USERS
+                                                    + InternalApiEndpoints.USER_CONTEXT_BATCH)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success").value(true))
+                    .andExpect(jsonPath("$.data.length()").value(1))
+                    .andExpect(jsonPath("$.data[0].userId").value(userId))
+                    .andExpect(jsonPath("$.data[0].tenant.id").exists())
+                    .andExpect(jsonPath("$.data[0].roles").isArray());
+        }
+
+        @Test
+        @DisplayName("사용자 ID에 빈 문자열이 있으면 400 Bad Request")
+        void shouldFailWhenUserIdIsBlank() throws Exception {
+            // given
+            UserIdsBatchApiRequest request = new UserIdsBatchApiRequest(List.of("user-1", " "));
+
+            // when & then
+            mockMvc.perform(
+                            post(
+                                            InternalApiEndpoints.USERS
+                                                    + InternalApiEndpoints.USER_CONTEXT_BATCH)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest());
+        }
+    }
 }
@@ -3,22 +3,29 @@ package com.ryuqq.authhub.adapter.in.rest.internal.controller;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.ryuqq.authhub.adapter.in.rest.common.ControllerTestSecurityConfig;
 import com.ryuqq.authhub.adapter.in.rest.common.RestDocsTestSupport;
 import com.ryuqq.authhub.adapter.in.rest.internal.InternalApiEndpoints;
+import com.ryuqq.authhub.adapter.in.rest.internal.dto.query.UserIdsBatchApiRequest;
 import com.ryuqq.authhub.adapter.in.rest.internal.fixture.InternalApiFixture;
 import com.ryuqq.authhub.adapter.in.rest.internal.mapper.InternalUserPermissionApiMapper;
 import com.ryuqq.authhub.application.userrole.dto.response.UserPermissionsResult;
 import com.ryuqq.authhub.application.userrole.port.in.query.GetUserPermissionsUseCase;
 import java.time.Instant;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
@@ -26,6 +33,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.restdocs.payload.JsonFieldType;
 
 /**
@@ -67,6 +76,7 @@ class InternalUserPermissionControllerTest extends RestDocsTestSupport {
                                             + InternalApiEndpoints.USER_PERMISSIONS,
                                     userId))
                     .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"" + hash + "\""))
                     .andExpect(jsonPath("$.success").value(true))
                     .andExpect(jsonPath("$.data.userId").value(userId))
                     .andExpect(jsonPath("$.data.roles").isArray())
@@ -155,5 +165,168 @@ class InternalUserPermissionControllerTest extends RestDocsTestSupport {
                     .andExpect(jsonPath("$.data.roles.length()").value(1))
                     .andExpect(jsonPath("$.data.permissions.length()").value(1));
         }
+
+        @Test
+        @DisplayName("If-None-Match가 현재 권한 해시와 일치하면 본문 없이 304를 반환한다")
+        void shouldReturnNotModifiedWhenHashMatches() throws Exception {
+            // given
+            String userId = InternalApiFixture.defaultUserId();
+            UserPermissionsResult result =
+                    new UserPermissionsResult(
+                            userId,
+                            Set.of("VIEWER"),
+                            Set.of("product:read"),
+                            "hash123",
+                            Instant.now());
+            given(getUserPermissionsUseCase.getByUserId(userId)).willReturn(result);
+
+            // when & then
+            mockMvc.perform(
+                            get(
+                                            InternalApiEndpoints.USERS
+                                                    + InternalApiEndpoints.USER_PERMISSIONS,
+                                            userId)
+                                    .header(HttpHeaders.IF_NONE_MATCH, "\"hash123\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"hash123\""))
+                    .andExpect(content().string(""));
+        }
+
+        @Test
+        @DisplayName("If-None-Match가 현재 권한 해시와 다르면 권한을 반환한다")
+        void shouldReturnPermissionsWhenHashChanged() throws Exception {
+            // given
+            String userId = InternalApiFixture.defaultUserId();
+            UserPermissionsResult result =
+                    new UserPermissionsResult(
+                            userId,
+                            Set.of("VIEWER"),
+                            Set.of("product:read"),
+                            "hash456",
+                            Instant.now());
+            given(getUserPermissionsUseCase.getByUserId(userId)).willReturn(result);
+
+            // when & then
+            mockMvc.perform(
+                            get(
+                                            InternalApiEndpoints.USERS
+                                                    + InternalApiEndpoints.USER_PERMISSIONS,
+                                            userId)
+                                    .header(HttpHeaders.IF_NONE_MATCH, "\"hash123\""))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"hash456\""))
+                    .andExpect(jsonPath("$.data.hash").value("hash456"));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/v1/internal/users/permissions:batch - 사용자 권한 일괄 조회")
+    class GetPermissionsBatchTests {
+
+        @Test
+        @DisplayName("여러 사용자의 권한을 요청 순서대로 한 번에 조회한다")
+        void shouldGetPermissionsBatchSuccessfully() throws Exception {
+            // given
+            UserIdsBatchApiRequest request =
+                    new UserIdsBatchApiRequest(List.of("user-1", "user-2"));
+            Instant generatedAt = Instant.now();
+            List<UserPermissionsResult> results =
+                    List.of(
+                            new UserPermissionsResult(
+                                    "user-1",
+                                    Set.of("ADMIN"),
+                                    Set.of("user:read"),
+                                    "hash1",
+                                    generatedAt),
+                            new UserPermissionsResult(
+                                    "user-2", Set.of(), Set.of(), "hash2", generatedAt));
+            given(getUserPermissionsUseCase.getByUserIds(request.userIds())).willReturn(results);
+
+            // when & then
+            mockMvc.perform(
+                            post(
+                                            InternalApiEndpoints.USERS
+                                                    + InternalApiEndpoints.USER_PERMISSIONS_BATCH)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success").value(true))
+                    .andExpect(jsonPath("$.data.length()").value(2))
+                    .andExpect(jsonPath("$.data[0].userId").value("user-1"))
+                    .andExpect(jsonPath("$.data[0].hash").value("hash1"))
+                    .andExpect(jsonPath("$.data[1].userId").value("user-2"))
+                    .andExpect(jsonPath("$.data[1].roles").isEmpty())
+                    .andDo(
+                            document(
+                                    "internal/user-permissions/batch",
+                                    requestFields(
+                                            fieldWithPath("userIds")
+                                                    .type(JsonFieldType.ARRAY)
+                                                    .description("조회할 사용자 ID 목록 (1~500개)")),
+                                    responseFields(
+                                            fieldWithPath("success")
+                                                    .type(JsonFieldType.BOOLEAN)
+                                                    .description("요청 성공 여부"),
+                                            fieldWithPath("data")
+                                                    .type(JsonFieldType.ARRAY)
+                                                    .description("사용자별 권한 목록 (요청 순서)"),
+                                            fieldWithPath("data[].userId")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("사용자 ID"),
+                                            fieldWithPath("data[].roles")
+                                                    .type(JsonFieldType.ARRAY)
+                                                    .description("역할 이름 목록"),
+                                            fieldWithPath("data[].permissions")
+                                                    .type(JsonFieldType.ARRAY)
+                                                    .description("권한 키 목록"),
+                                            fieldWithPath("data[].hash")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("권한 해시"),
+                                            fieldWithPath("data[].generatedAt")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("생성 시각"),
+                                            fieldWithPath("timestamp")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("응답 시간"),
+                                            fieldWithPath("requestId")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("요청 ID"))));
+        }
+
+        @Test
+        @DisplayName("사용자 ID 목록이 비어 있으면 400 Bad Request")
+        void shouldFailWhenUserIdsIsEmpty() throws Exception {
+            // given
+            UserIdsBatchApiRequest request = new UserIdsBatchApiRequest(List.of());
+
+            // when & then
+            mockMvc.perform(
+                            post(
+                                            InternalApiEndpoints.USERS
+                                                    + InternalApiEndpoints.USER_PERMISSIONS_BATCH)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("사용자 ID가 500개를 넘으면 400 Bad Request")
+        void shouldFailWhenUserIdsExceedsLimit() throws Exception {
+            // given
+            List<String> userIds =
+                    IntStream.rangeClosed(0, UserIdsBatchApiRequest.MAX_USER_IDS)
+                            .mapToObj(i -> "user-" + i)
+                            .toList();
+            UserIdsBatchApiRequest request = new UserIdsBatchApiRequest(userIds);
+
+            // when & then
+            mockMvc.perform(
+                            post(
+                                            InternalApiEndpoints.USERS
+                                                    + InternalApiEndpoints.USER_PERMISSIONS_BATCH)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest());
+        }
     }
 }
@@ -0,0 +1,57 @@
+package com.ryuqq.authhub.adapter.in.rest.internal.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.authhub.adapter.in.rest.internal.dto.response.PermissionDictionaryApiResponse;
+import com.ryuqq.authhub.application.permission.dto.composite.PermissionDictionary;
+import com.ryuqq.authhub.application.permission.dto.response.PermissionDictionaryEntryResult;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * InternalPermissionDictionaryApiMapper 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@DisplayName("InternalPermissionDictionaryApiMapper 단위 테스트")
+class InternalPermissionDictionaryApiMapperTest {
+
+    private InternalPermissionDictionaryApiMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        mapper = new InternalPermissionDictionaryApiMapper();
+    }
+
+    @Nested
+    @DisplayName("toApiResponse 메서드는")
+    class ToApiResponse {
+
+        @Test
+        @DisplayName("권한 사전을 권한 ID를 비트 인덱스로 하는 ID 오름차순 항목으로 변환한다")
+        void shouldConvertDictionary() {
+            // Given
+            PermissionDictionary dictionary =
+                    PermissionDictionary.of(
+                            List.of(
+                                    new PermissionDictionaryEntryResult(7L, "order:read"),
+                                    new PermissionDictionaryEntryResult(1L, "user:read")));
+
+            // When
+            PermissionDictionaryApiResponse response = mapper.toApiResponse(dictionary);
+
+            // Then
+            assertThat(response.version()).isEqualTo(dictionary.version());
+            assertThat(response.entries())
+                    .containsExactly(
+                            new PermissionDictionaryApiResponse.Entry(1, 1L, "user:read"),
+                            new PermissionDictionaryApiResponse.Entry(7, 7L, "order:read"));
+        }
+    }
+}
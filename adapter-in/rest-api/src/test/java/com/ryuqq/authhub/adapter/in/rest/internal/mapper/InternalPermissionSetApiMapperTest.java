@@ -0,0 +1,51 @@
+package com.ryuqq.authhub.adapter.in.rest.internal.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.authhub.adapter.in.rest.internal.dto.response.PermissionSetApiResponse;
+import com.ryuqq.authhub.application.permission.dto.composite.PermissionSet;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * InternalPermissionSetApiMapper 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@DisplayName("InternalPermissionSetApiMapper 단위 테스트")
+class InternalPermissionSetApiMapperTest {
+
+    private InternalPermissionSetApiMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        mapper = new InternalPermissionSetApiMapper();
+    }
+
+    @Nested
+    @DisplayName("toApiResponse 메서드는")
+    class ToApiResponse {
+
+        @Test
+        @DisplayName("권한 집합을 해시와 오름차순 권한 키 목록으로 변환한다")
+        void shouldConvertPermissionSet() {
+            // Given
+            PermissionSet permissionSet =
+                    PermissionSet.of(List.of("user:write", "order:read", "user:read"));
+
+            // When
+            PermissionSetApiResponse response = mapper.toApiResponse(permissionSet);
+
+            // Then
+            assertThat(response.hash()).isEqualTo(permissionSet.hash());
+            assertThat(response.permissions())
+                    .containsExactly("order:read", "user:read", "user:write");
+        }
+    }
+}
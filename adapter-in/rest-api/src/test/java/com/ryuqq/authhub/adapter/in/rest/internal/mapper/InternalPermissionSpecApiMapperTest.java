@@ -4,8 +4,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.ryuqq.authhub.adapter.in.rest.internal.fixture.InternalApiFixture;
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecChangeResult;
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecDeltaResult;
 import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecListResult;
 import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecResult;
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecVersionResult;
 import java.time.Instant;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -50,6 +53,7 @@ class InternalPermissionSpecApiMapperTest {
 
             EndpointPermissionSpecResult specResult =
                     new EndpointPermissionSpecResult(
+                            1L,
                             serviceName,
                             pathPattern,
                             httpMethod,
@@ -71,6 +75,7 @@ class InternalPermissionSpecApiMapperTest {
             assertThat(response.version()).isEqualTo(version);
             assertThat(response.updatedAt()).isEqualTo(updatedAt);
             assertThat(response.endpoints()).hasSize(1);
+            assertThat(response.endpoints().get(0).endpointId()).isEqualTo(1L);
             assertThat(response.endpoints().get(0).serviceName()).isEqualTo(serviceName);
             assertThat(response.endpoints().get(0).pathPattern()).isEqualTo(pathPattern);
             assertThat(response.endpoints().get(0).httpMethod()).isEqualTo(httpMethod);
@@ -84,6 +89,7 @@ class InternalPermissionSpecApiMapperTest {
             // Given
             EndpointPermissionSpecResult specResult1 =
                     new EndpointPermissionSpecResult(
+                            2L,
                             "service1",
                             "/api/v1/products",
                             "GET",
@@ -94,6 +100,7 @@ class InternalPermissionSpecApiMapperTest {
 
             EndpointPermissionSpecResult specResult2 =
                     new EndpointPermissionSpecResult(
+                            3L,
                             "service1",
                             "/api/v1/products",
                             "POST",
@@ -161,4 +168,55 @@ class InternalPermissionSpecApiMapperTest {
                     .isInstanceOf(NullPointerException.class);
         }
     }
+
+    @Nested
+    @DisplayName("toDeltaApiResponse 메서드는")
+    class ToDeltaApiResponse {
+
+        @Test
+        @DisplayName("변경분의 추가/변경 목록과 제외 ID 목록을 변환한다")
+        void shouldConvertDelta() {
+            // Given
+            EndpointPermissionSpecVersionResult specVersion =
+                    EndpointPermissionSpecVersionResult.of(
+                            3L, Instant.parse("2025-01-15T11:00:00Z"));
+            EndpointPermissionSpecDeltaResult result =
+                    EndpointPermissionSpecDeltaResult.of(
+                            "2",
+                            specVersion,
+                            List.of(
+                                    new EndpointPermissionSpecChangeResult(
+                                            1L,
+                                            "service1",
+                                            "/api/v1/products",
+                                            "GET",
+                                            "product:read",
+                                            false,
+                                            "상품 조회",
+                                            null,
+                                            null),
+                                    new EndpointPermissionSpecChangeResult(
+                                            2L,
+                                            "service1",
+                                            "/api/v1/products",
+                                            "POST",
+                                            "product:create",
+                                            false,
+                                            "상품 생성",
+                                            Instant.parse("2025-01-15T10:30:00Z"),
+                                            null)));
+
+            // When
+            var response = mapper.toDeltaApiResponse(result);
+
+            // Then
+            assertThat(response.sinceVersion()).isEqualTo("2");
+            assertThat(response.version()).isEqualTo(specVersion.version());
+            assertThat(response.updatedAt()).isEqualTo(specVersion.latestUpdatedAt());
+            assertThat(response.fullSync()).isFalse();
+            assertThat(response.endpoints()).hasSize(1);
+            assertThat(response.endpoints().get(0).endpointId()).isEqualTo(1L);
+            assertThat(response.removedEndpointIds()).containsExactly(2L);
+        }
+    }
 }
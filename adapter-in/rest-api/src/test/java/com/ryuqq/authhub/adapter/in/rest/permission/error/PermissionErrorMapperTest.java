@@ -74,6 +74,13 @@ class PermissionErrorMapperTest {
             assertThat(mapper.supports(ErrorMapperApiFixture.permissionInUseException())).isTrue();
         }
 
+        @Test
+        @DisplayName("PermissionSetNotFoundException을 지원한다")
+        void shouldSupportPermissionSetNotFoundException() {
+            assertThat(mapper.supports(ErrorMapperApiFixture.permissionSetNotFoundException()))
+                    .isTrue();
+        }
+
         @Test
         @DisplayName("다른 도메인 예외는 지원하지 않는다")
         void shouldNotSupportOtherDomainExceptions() {
@@ -127,5 +134,14 @@ class PermissionErrorMapperTest {
             assertThat(result.status()).isEqualTo(HttpStatus.CONFLICT);
             assertThat(result.title()).isEqualTo("Permission In Use");
         }
+
+        @Test
+        @DisplayName("PermissionSetNotFoundException을 404 Not Found로 매핑한다")
+        void shouldMapPermissionSetNotFoundTo404() {
+            var ex = ErrorMapperApiFixture.permissionSetNotFoundException();
+            ErrorMapper.MappedError result = mapper.map(ex, Locale.KOREA);
+            assertThat(result.status()).isEqualTo(HttpStatus.NOT_FOUND);
+            assertThat(result.title()).isEqualTo("Permission Set Not Found");
+        }
     }
 }
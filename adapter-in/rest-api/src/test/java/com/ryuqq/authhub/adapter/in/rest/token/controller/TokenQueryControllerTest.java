@@ -105,7 +105,21 @@ class TokenQueryControllerTest extends RestDocsTestSupport {
                                                     .type(JsonFieldType.STRING)
                                                     .description(
                                                             "RSA public exponent (Base64URL"
-                                                                    + " encoded)"))));
+                                                                    + " encoded)"),
+                                            fieldWithPath("keys[].crv")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("Curve (EC/OKP 키만)")
+                                                    .optional(),
+                                            fieldWithPath("keys[].x")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description(
+                                                            "EC x 좌표 또는 Ed25519 공개키 (EC/OKP"
+                                                                    + " 키만)")
+                                                    .optional(),
+                                            fieldWithPath("keys[].y")
+                                                    .type(JsonFieldType.STRING)
+                                                    .description("EC y 좌표 (EC 키만)")
+                                                    .optional())));
         }
 
         @Test
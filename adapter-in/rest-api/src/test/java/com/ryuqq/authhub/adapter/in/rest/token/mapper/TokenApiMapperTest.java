@@ -150,6 +150,33 @@ class TokenApiMapperTest {
             assertThat(result.keys().get(0).e()).isEqualTo("exponent");
         }
 
+        @Test
+        @DisplayName("EC/OKP 키의 곡선과 좌표를 변환한다")
+        void shouldConvertEllipticCurveKeys() {
+            // Given
+            PublicKeysResponse response =
+                    new PublicKeysResponse(
+                            List.of(
+                                    JwkResponse.ofEc("ec-key-1", "x-coordinate", "y-coordinate"),
+                                    JwkResponse.ofOkp("ed-key-1", "ed-public-key")));
+
+            // When
+            PublicKeysApiResponse result = mapper.toPublicKeysApiResponse(response);
+
+            // Then
+            assertThat(result.keys().get(0).kty()).isEqualTo("EC");
+            assertThat(result.keys().get(0).alg()).isEqualTo("ES256");
+            assertThat(result.keys().get(0).crv()).isEqualTo("P-256");
+            assertThat(result.keys().get(0).x()).isEqualTo("x-coordinate");
+            assertThat(result.keys().get(0).y()).isEqualTo("y-coordinate");
+            assertThat(result.keys().get(0).n()).isNull();
+            assertThat(result.keys().get(1).kty()).isEqualTo("OKP");
+            assertThat(result.keys().get(1).alg()).isEqualTo("EdDSA");
+            assertThat(result.keys().get(1).crv()).isEqualTo("Ed25519");
+            assertThat(result.keys().get(1).x()).isEqualTo("ed-public-key");
+            assertThat(result.keys().get(1).y()).isNull();
+        }
+
         @Test
         @DisplayName("빈 키 목록을 변환한다")
         void shouldConvertEmptyKeysList() {
@@ -6,6 +6,7 @@ import com.ryuqq.authhub.domain.organization.exception.OrganizationNotFoundExcep
 import com.ryuqq.authhub.domain.permission.exception.DuplicatePermissionKeyException;
 import com.ryuqq.authhub.domain.permission.exception.PermissionInUseException;
 import com.ryuqq.authhub.domain.permission.exception.PermissionNotFoundException;
+import com.ryuqq.authhub.domain.permission.exception.PermissionSetNotFoundException;
 import com.ryuqq.authhub.domain.permission.exception.SystemPermissionNotDeletableException;
 import com.ryuqq.authhub.domain.permission.exception.SystemPermissionNotModifiableException;
 import com.ryuqq.authhub.domain.permissionendpoint.exception.DuplicatePermissionEndpointException;
@@ -26,6 +27,7 @@ import com.ryuqq.authhub.domain.tenantservice.exception.DuplicateTenantServiceEx
 import com.ryuqq.authhub.domain.tenantservice.exception.TenantServiceNotFoundException;
 import com.ryuqq.authhub.domain.token.exception.AccessForbiddenException;
 import com.ryuqq.authhub.domain.token.exception.InvalidCredentialsException;
+import com.ryuqq.authhub.domain.token.exception.PasswordHashingBusyException;
 import com.ryuqq.authhub.domain.user.exception.UserNotFoundException;
 import com.ryuqq.authhub.domain.user.id.UserId;
 import com.ryuqq.authhub.domain.userrole.exception.DuplicateUserRoleException;
@@ -120,6 +122,10 @@ public final class ErrorMapperApiFixture {
         return new PermissionInUseException(1L);
     }
 
+    public static PermissionSetNotFoundException permissionSetNotFoundException() {
+        return new PermissionSetNotFoundException("0f1e2d3c4b5a6978");
+    }
+
     // ========== PermissionEndpoint ==========
 
     public static PermissionEndpointNotFoundException permissionEndpointNotFoundException() {
@@ -191,6 +197,10 @@ public final class ErrorMapperApiFixture {
         return new AccessForbiddenException();
     }
 
+    public static PasswordHashingBusyException passwordHashingBusyException() {
+        return new PasswordHashingBusyException();
+    }
+
     // ========== Generic (DomainExceptionFixture 호환) ==========
 
     /** supports() false 반환 테스트용 - 다른 도메인 예외 */
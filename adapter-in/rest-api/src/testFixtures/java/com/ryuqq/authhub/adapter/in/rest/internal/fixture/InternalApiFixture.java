@@ -101,6 +101,7 @@ public final class InternalApiFixture {
     /** 기본 스펙 응답 */
     public static EndpointPermissionSpecApiResponse endpointPermissionSpecResponse() {
         return new EndpointPermissionSpecApiResponse(
+                DEFAULT_PERMISSION_ENDPOINT_ID,
                 DEFAULT_SERVICE_NAME,
                 DEFAULT_PATH_PATTERN,
                 DEFAULT_HTTP_METHOD,
@@ -112,6 +113,7 @@ public final class InternalApiFixture {
 
     /** 커스텀 스펙 응답 */
     public static EndpointPermissionSpecApiResponse endpointPermissionSpecResponse(
+            Long endpointId,
             String serviceName,
             String pathPattern,
             String httpMethod,
@@ -120,6 +122,7 @@ public final class InternalApiFixture {
             boolean isPublic,
             String description) {
         return new EndpointPermissionSpecApiResponse(
+                endpointId,
                 serviceName,
                 pathPattern,
                 httpMethod,
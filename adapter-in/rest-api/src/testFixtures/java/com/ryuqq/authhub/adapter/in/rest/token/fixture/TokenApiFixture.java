@@ -135,7 +135,8 @@ public final class TokenApiFixture {
                     + "f0h4QyQ5v-65YGjQR0_FDW2QvzqY368QQMicAtaSqzs8KJZgnYb9c7d0zgdAZHzu6qMQvRL5hajrn1"
                     + "n91CbOpbISD08qNLyrdkt-bFTWhAI4vMQFh6WeZu0fM4lFd2NcRwr3XPksINHaQ-G_xBniIqbw0Ls1"
                     + "jF44-csFCur-kEgU8awapJzKnqDKgw";
-        return new PublicKeyApiResponse("key-id-1", "RSA", "sig", "RS256", modulus, "AQAB");
+        return new PublicKeyApiResponse(
+                "key-id-1", "RSA", "sig", "RS256", modulus, "AQAB", null, null, null);
     }
 
     // ========== Default Values ==========
@@ -0,0 +1,149 @@
+package com.ryuqq.authhub.adapter.out.client.security.common;
+
+import com.ryuqq.authhub.adapter.out.client.security.config.JwtProperties;
+import com.ryuqq.authhub.adapter.out.client.security.config.JwtSigningAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.interfaces.ECKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.EdECPrivateKey;
+import java.security.interfaces.EdECPublicKey;
+import org.springframework.stereotype.Component;
+
+/**
+ * SigningKeyLoader - JWT 서명 키 로딩
+ *
+ * <p>security.jwt.algorithm에 따라 Access Token 서명 키를 로드합니다. RSA 키는 {@link RsaKeyLoader}에 위임하고, EC
+ * P-256(ES256)과 Ed25519(EdDSA) 키는 security.jwt.ec / security.jwt.eddsa 설정에서 로드합니다.
+ *
+ * <p><strong>알고리즘별 키:</strong>
+ *
+ * <ul>
+ *   <li>HS256 - security.jwt.secret (kid 없음)
+ *   <li>RS256 - security.jwt.rsa
+ *   <li>ES256 - security.jwt.ec (P-256 곡선만 허용)
+ *   <li>EdDSA - security.jwt.eddsa (Ed25519)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class SigningKeyLoader {
+
+    private static final String EC_ALGORITHM = "EC";
+    private static final String ED25519_ALGORITHM = "Ed25519";
+    private static final int P256_FIELD_SIZE = 256;
+
+    private final JwtProperties jwtProperties;
+    private final RsaKeyLoader rsaKeyLoader;
+
+    public SigningKeyLoader(JwtProperties jwtProperties, RsaKeyLoader rsaKeyLoader) {
+        this.jwtProperties = jwtProperties;
+        this.rsaKeyLoader = rsaKeyLoader;
+    }
+
+    /**
+     * 서명 알고리즘 조회
+     *
+     * @return 설정된 서명 알고리즘
+     */
+    public JwtSigningAlgorithm getAlgorithm() {
+        return jwtProperties.getSigningAlgorithm();
+    }
+
+    /**
+     * 서명 키의 Key ID 조회
+     *
+     * @return Key ID (HS256이면 null)
+     */
+    public String getKeyId() {
+        return switch (getAlgorithm()) {
+            case HS256 -> null;
+            case RS256 -> rsaKeyLoader.getKeyId();
+            case ES256 -> jwtProperties.getEc().getKeyId();
+            case EDDSA -> jwtProperties.getEddsa().getKeyId();
+        };
+    }
+
+    /**
+     * 서명 키 로드
+     *
+     * @return 서명 키 (HS256이면 HMAC 비밀키, 그 외는 비대칭 비밀키)
+     * @throws IllegalStateException 키가 없거나 알고리즘과 맞지 않는 경우
+     */
+    public Key loadSigningKey() {
+        return switch (getAlgorithm()) {
+            case HS256 ->
+                    Keys.hmacShaKeyFor(
+                            jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+            case RS256 -> rsaKeyLoader.loadPrivateKey();
+            case ES256 -> loadEcPrivateKey();
+            case EDDSA -> loadEdDsaPrivateKey();
+        };
+    }
+
+    /**
+     * ES256 공개키 로드
+     *
+     * @return P-256 공개키
+     * @throws IllegalStateException 키가 없거나 P-256이 아닌 경우
+     */
+    public ECPublicKey loadEcPublicKey() {
+        JwtProperties.KeyPairProperties ec = jwtProperties.getEc();
+        String pem =
+                PemKeys.resolve(
+                        ec.getPublicKeyContent(), ec.getPublicKeyPath(), "EC public", "publicKey");
+        return requireP256((ECPublicKey) PemKeys.parsePublicKey(pem, EC_ALGORITHM, "EC public"));
+    }
+
+    /**
+     * EdDSA 공개키 로드
+     *
+     * @return Ed25519 공개키
+     * @throws IllegalStateException 키가 없거나 Ed25519가 아닌 경우
+     */
+    public EdECPublicKey loadEdDsaPublicKey() {
+        JwtProperties.KeyPairProperties eddsa = jwtProperties.getEddsa();
+        String pem =
+                PemKeys.resolve(
+                        eddsa.getPublicKeyContent(),
+                        eddsa.getPublicKeyPath(),
+                        "Ed25519 public",
+                        "publicKey");
+        return (EdECPublicKey) PemKeys.parsePublicKey(pem, ED25519_ALGORITHM, "Ed25519 public");
+    }
+
+    private ECPrivateKey loadEcPrivateKey() {
+        JwtProperties.KeyPairProperties ec = jwtProperties.getEc();
+        String pem =
+                PemKeys.resolve(
+                        ec.getPrivateKeyContent(),
+                        ec.getPrivateKeyPath(),
+                        "EC private",
+                        "privateKey");
+        return requireP256(
+                (ECPrivateKey) PemKeys.parsePrivateKey(pem, EC_ALGORITHM, "EC private"));
+    }
+
+    private EdECPrivateKey loadEdDsaPrivateKey() {
+        JwtProperties.KeyPairProperties eddsa = jwtProperties.getEddsa();
+        String pem =
+                PemKeys.resolve(
+                        eddsa.getPrivateKeyContent(),
+                        eddsa.getPrivateKeyPath(),
+                        "Ed25519 private",
+                        "privateKey");
+        return (EdECPrivateKey)
+                PemKeys.parsePrivateKey(pem, ED25519_ALGORITHM, "Ed25519 private");
+    }
+
+    private static <K extends ECKey> K requireP256(K key) {
+        if (key.getParams().getCurve().getField().getFieldSize() != P256_FIELD_SIZE) {
+            throw new IllegalStateException("ES256 requires an EC key on the P-256 curve");
+        }
+        return key;
+    }
+}
@@ -0,0 +1,66 @@
+package com.ryuqq.authhub.adapter.out.client.security.config;
+
+import java.util.Locale;
+
+/**
+ * JwtSigningAlgorithm - Access Token 서명 알고리즘
+ *
+ * <p>security.jwt.algorithm 값으로 선택합니다. 비어 있으면 기존 동작대로 security.jwt.rsa.enabled에 따라 RS256 또는
+ * HS256을 사용합니다.
+ *
+ * <p><strong>비교 (RSA-2048 대비):</strong>
+ *
+ * <ul>
+ *   <li>ES256 (ECDSA P-256) - 서명이 수십 배 빠르고 서명 길이 64바이트 (RS256 256바이트)
+ *   <li>EdDSA (Ed25519) - 서명/검증 모두 빠르고 서명 길이 64바이트, 결정적 서명
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public enum JwtSigningAlgorithm {
+    HS256("HS256"),
+    RS256("RS256"),
+    ES256("ES256"),
+    EDDSA("EdDSA");
+
+    private final String jwaName;
+
+    JwtSigningAlgorithm(String jwaName) {
+        this.jwaName = jwaName;
+    }
+
+    /**
+     * JWA 알고리즘 이름 (JWT 헤더 및 JWK의 alg 값)
+     *
+     * @return JWA 이름
+     */
+    public String jwaName() {
+        return jwaName;
+    }
+
+    /**
+     * 설정 값으로 알고리즘 조회
+     *
+     * <p>대소문자를 구분하지 않으며 {@code Ed25519}는 EdDSA로 취급합니다.
+     *
+     * @param value 설정 값
+     * @return 서명 알고리즘
+     * @throws IllegalArgumentException 지원하지 않는 값인 경우
+     */
+    public static JwtSigningAlgorithm from(String value) {
+        String normalized = value.trim().toUpperCase(Locale.ROOT);
+        if ("ED25519".equals(normalized)) {
+            return EDDSA;
+        }
+        for (JwtSigningAlgorithm algorithm : values()) {
+            if (algorithm.name().equals(normalized)) {
+                return algorithm;
+            }
+        }
+        throw new IllegalArgumentException(
+                "Unsupported JWT signing algorithm: "
+                        + value
+                        + " (supported: HS256, RS256, ES256, EdDSA)");
+    }
+}
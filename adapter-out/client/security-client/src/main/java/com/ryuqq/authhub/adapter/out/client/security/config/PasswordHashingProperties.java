@@ -0,0 +1,51 @@
+package com.ryuqq.authhub.adapter.out.client.security.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Password Hashing Configuration Properties
+ *
+ * <p>security-client.yml에서 security.password.hashing.* 프로퍼티를 바인딩합니다.
+ *
+ * <pre>
+ * security:
+ *   password:
+ *     hashing:
+ *       threads: 0          # 0이면 CPU 코어 수
+ *       queue-capacity: 64  # 대기열이 가득 차면 즉시 429
+ * </pre>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "security.password.hashing")
+public class PasswordHashingProperties {
+
+    private int threads = 0;
+    private int queueCapacity = 64;
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * 실제 사용할 스레드 수 (0 이하이면 CPU 코어 수)
+     *
+     * @return 해싱 스레드 수
+     */
+    public int resolvedThreads() {
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+}
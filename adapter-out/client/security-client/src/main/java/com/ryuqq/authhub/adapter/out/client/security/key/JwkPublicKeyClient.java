@@ -0,0 +1,112 @@
+package com.ryuqq.authhub.adapter.out.client.security.key;
+
+import com.ryuqq.authhub.adapter.out.client.security.common.RsaKeyLoader;
+import com.ryuqq.authhub.adapter.out.client.security.common.SigningKeyLoader;
+import com.ryuqq.authhub.adapter.out.client.security.config.JwtProperties;
+import com.ryuqq.authhub.adapter.out.client.security.config.JwtSigningAlgorithm;
+import com.ryuqq.authhub.application.token.dto.response.JwkResponse;
+import com.ryuqq.authhub.application.token.port.out.client.PublicKeyClient;
+import java.math.BigInteger;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.EdECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * JwkPublicKeyClient - JWT 서명 공개키 Client
+ *
+ * <p>설정된 비대칭 서명 공개키를 JWK 형식으로 변환하여 제공합니다.
+ *
+ * <p><strong>공개 대상:</strong>
+ *
+ * <ul>
+ *   <li>RSA (kty=RSA, RS256) - security.jwt.rsa.enabled=true
+ *   <li>EC P-256 (kty=EC, ES256) - 서명 알고리즘이 ES256이거나 security.jwt.ec 공개키가 설정된 경우
+ *   <li>Ed25519 (kty=OKP, EdDSA) - 서명 알고리즘이 EdDSA이거나 security.jwt.eddsa 공개키가 설정된 경우
+ * </ul>
+ *
+ * <p>현재 서명 알고리즘이 아닌 키도 공개하므로, 알고리즘을 전환하는 동안 이전 키로 서명된 토큰을 계속 검증할 수 있습니다. 이전
+ * 토큰이 모두 만료된 뒤 이전 키 설정을 제거합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class JwkPublicKeyClient implements PublicKeyClient {
+
+    private static final int P256_COORDINATE_BYTES = 32;
+    private static final int ED25519_KEY_BYTES = 32;
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    private final JwtProperties jwtProperties;
+    private final RsaKeyLoader rsaKeyLoader;
+    private final SigningKeyLoader signingKeyLoader;
+
+    public JwkPublicKeyClient(
+            JwtProperties jwtProperties,
+            RsaKeyLoader rsaKeyLoader,
+            SigningKeyLoader signingKeyLoader) {
+        this.jwtProperties = jwtProperties;
+        this.rsaKeyLoader = rsaKeyLoader;
+        this.signingKeyLoader = signingKeyLoader;
+    }
+
+    @Override
+    public List<JwkResponse> getPublicKeys() {
+        JwtSigningAlgorithm algorithm = signingKeyLoader.getAlgorithm();
+        List<JwkResponse> keys = new ArrayList<>(3);
+        if (rsaKeyLoader.isRsaEnabled()) {
+            keys.add(toRsaJwk(rsaKeyLoader.getKeyId(), rsaKeyLoader.loadPublicKey()));
+        }
+        if (algorithm == JwtSigningAlgorithm.ES256 || jwtProperties.getEc().hasPublicKey()) {
+            keys.add(
+                    toEcJwk(jwtProperties.getEc().getKeyId(), signingKeyLoader.loadEcPublicKey()));
+        }
+        if (algorithm == JwtSigningAlgorithm.EDDSA || jwtProperties.getEddsa().hasPublicKey()) {
+            keys.add(
+                    toOkpJwk(
+                            jwtProperties.getEddsa().getKeyId(),
+                            signingKeyLoader.loadEdDsaPublicKey()));
+        }
+        return List.copyOf(keys);
+    }
+
+    private JwkResponse toRsaJwk(String keyId, RSAPublicKey publicKey) {
+        String n = BASE64_URL.encodeToString(publicKey.getModulus().toByteArray());
+        String e = BASE64_URL.encodeToString(publicKey.getPublicExponent().toByteArray());
+        return JwkResponse.of(keyId, n, e);
+    }
+
+    private JwkResponse toEcJwk(String keyId, ECPublicKey publicKey) {
+        String x = BASE64_URL.encodeToString(unsigned(publicKey.getW().getAffineX()));
+        String y = BASE64_URL.encodeToString(unsigned(publicKey.getW().getAffineY()));
+        return JwkResponse.ofEc(keyId, x, y);
+    }
+
+    /**
+     * Ed25519 JWK 변환
+     *
+     * <p>RFC 8037의 x는 32바이트 원시 공개키이며, X.509 인코딩의 마지막 32바이트와 같습니다.
+     */
+    private JwkResponse toOkpJwk(String keyId, EdECPublicKey publicKey) {
+        byte[] encoded = publicKey.getEncoded();
+        byte[] raw = Arrays.copyOfRange(encoded, encoded.length - ED25519_KEY_BYTES, encoded.length);
+        return JwkResponse.ofOkp(keyId, BASE64_URL.encodeToString(raw));
+    }
+
+    /** 좌표를 부호 없는 고정 길이(32바이트) big-endian 배열로 변환 (RFC 7518 6.2.1.2) */
+    private static byte[] unsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length == P256_COORDINATE_BYTES) {
+            return bytes;
+        }
+        byte[] fixed = new byte[P256_COORDINATE_BYTES];
+        int copy = Math.min(bytes.length, P256_COORDINATE_BYTES);
+        System.arraycopy(bytes, bytes.length - copy, fixed, P256_COORDINATE_BYTES - copy, copy);
+        return fixed;
+    }
+}
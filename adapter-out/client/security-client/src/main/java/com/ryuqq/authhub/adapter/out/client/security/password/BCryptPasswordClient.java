@@ -18,6 +18,9 @@ import org.springframework.stereotype.Component;
  *   <li>레인보우 테이블 공격 방지
  * </ul>
  *
+ * <p>해싱/검증은 요청 스레드가 아닌 {@link PasswordHashingExecutor}에서 수행되며, 대기열이 가득 차면 {@link
+ * com.ryuqq.authhub.domain.token.exception.PasswordHashingBusyException}이 발생합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -27,9 +30,11 @@ public class BCryptPasswordClient implements PasswordEncoderClient {
     private static final int BCRYPT_STRENGTH = 10;
 
     private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor hashingExecutor;
 
-    public BCryptPasswordClient() {
+    public BCryptPasswordClient(PasswordHashingExecutor hashingExecutor) {
         this.passwordEncoder = new BCryptPasswordEncoder(BCRYPT_STRENGTH);
+        this.hashingExecutor = hashingExecutor;
     }
 
     @Override
@@ -37,7 +42,7 @@ public class BCryptPasswordClient implements PasswordEncoderClient {
         if (rawPassword == null || rawPassword.isBlank()) {
             throw new IllegalArgumentException("Password cannot be null or blank");
         }
-        return passwordEncoder.encode(rawPassword);
+        return hashingExecutor.hash(() -> passwordEncoder.encode(rawPassword));
     }
 
     @Override
@@ -45,6 +50,7 @@ public class BCryptPasswordClient implements PasswordEncoderClient {
         if (rawPassword == null || hashedPassword == null) {
             return false;
         }
-        return passwordEncoder.matches(rawPassword, hashedPassword.value());
+        return hashingExecutor.matches(
+                () -> passwordEncoder.matches(rawPassword, hashedPassword.value()));
     }
 }
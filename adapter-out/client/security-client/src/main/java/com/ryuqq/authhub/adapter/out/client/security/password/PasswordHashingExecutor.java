@@ -0,0 +1,159 @@
+package com.ryuqq.authhub.adapter.out.client.security.password;
+
+import com.ryuqq.authhub.adapter.out.client.security.config.PasswordHashingProperties;
+import com.ryuqq.authhub.domain.token.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+/**
+ * PasswordHashingExecutor - 비밀번호 해싱 전용 실행 단계
+ *
+ * <p>BCrypt 해싱/검증(건당 수십 ms의 CPU 작업)을 요청 스레드가 아닌 고정 크기 전용 스레드 풀에서 수행합니다. 로그인이
+ * 몰려도 BCrypt가 사용하는 CPU는 풀 크기로 제한되므로 다른 API(게이트웨이용 Internal API 등)의 처리가 굶지 않습니다.
+ *
+ * <p><strong>Backpressure:</strong>
+ *
+ * <ul>
+ *   <li>스레드 수: CPU 코어 수 (기본값)
+ *   <li>대기열: 고정 크기, 가득 차면 대기하지 않고 즉시 {@link PasswordHashingBusyException} (429)
+ * </ul>
+ *
+ * <p><strong>Metrics:</strong>
+ *
+ * <ul>
+ *   <li>{@code authhub.password.hashing.queue.size} - 대기 중인 작업 수 (Gauge)
+ *   <li>{@code authhub.password.hashing.active} - 실행 중인 작업 수 (Gauge)
+ *   <li>{@code authhub.password.hashing.wait} - 대기열 대기 시간 (Timer)
+ *   <li>{@code authhub.password.hashing.duration} - 해싱 소요 시간, operation=hash|matches (Timer)
+ *   <li>{@code authhub.password.hashing.rejected} - 거절 건수 (Counter)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class PasswordHashingExecutor implements DisposableBean {
+
+    private static final String METRIC_PREFIX = "authhub.password.hashing";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5L;
+
+    private final ThreadPoolExecutor executor;
+    private final Timer waitTimer;
+    private final Timer hashTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingExecutor(
+            PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        int threads = properties.resolvedThreads();
+        this.executor =
+                new ThreadPoolExecutor(
+                        threads,
+                        threads,
+                        0L,
+                        TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                        Thread.ofPlatform().name("password-hashing-", 0).daemon().factory(),
+                        new ThreadPoolExecutor.AbortPolicy());
+        this.executor.prestartAllCoreThreads();
+
+        Gauge.builder(METRIC_PREFIX + ".queue.size", executor, pool -> pool.getQueue().size())
+                .description("Password hashing tasks waiting in queue")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashing tasks running")
+                .register(meterRegistry);
+        this.waitTimer =
+                Timer.builder(METRIC_PREFIX + ".wait")
+                        .description("Time spent waiting for a password hashing thread")
+                        .register(meterRegistry);
+        this.hashTimer = durationTimer(meterRegistry, "hash");
+        this.matchesTimer = durationTimer(meterRegistry, "matches");
+        this.rejectedCounter =
+                Counter.builder(METRIC_PREFIX + ".rejected")
+                        .description("Password hashing tasks rejected because the queue was full")
+                        .register(meterRegistry);
+    }
+
+    /**
+     * 해싱 작업 실행
+     *
+     * @param task 해싱 작업
+     * @return 해시 문자열
+     * @throws PasswordHashingBusyException 대기열이 가득 찬 경우
+     */
+    public String hash(Supplier<String> task) {
+        return execute(hashTimer, task);
+    }
+
+    /**
+     * 검증 작업 실행
+     *
+     * @param task 검증 작업
+     * @return 일치 여부
+     * @throws PasswordHashingBusyException 대기열이 가득 찬 경우
+     */
+    public boolean matches(Supplier<Boolean> task) {
+        return execute(matchesTimer, task);
+    }
+
+    private <T> T execute(Timer durationTimer, Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future =
+                    executor.submit(
+                            () -> {
+                                waitTimer.record(
+                                        System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                                return durationTimer.record(task);
+                            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new PasswordHashingBusyException();
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Password hashing failed", cause);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Timer durationTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder(METRIC_PREFIX + ".duration")
+                .description("Password hashing CPU time")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,387 @@
+package com.ryuqq.authhub.adapter.out.client.security.token;
+
+import com.ryuqq.authhub.adapter.out.client.security.config.JwtSigningAlgorithm;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.interfaces.RSAKey;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.function.Consumer;
+import javax.crypto.Mac;
+
+/**
+ * AccessTokenEncoder - Access Token 전용 JWS Compact 인코더
+ *
+ * <p>Access Token은 Claim 구성이 고정되어 있으므로 범용 JWT 빌더(Claim Map, JSON 트리, Base64 중간 버퍼) 대신 재사용
+ * 버퍼에 JSON과 Base64URL을 직접 씁니다.
+ *
+ * <p><strong>최적화:</strong>
+ *
+ * <ul>
+ *   <li>보호 헤더({@code alg}, {@code kid})는 생성 시 한 번만 인코딩
+ *   <li>Claim은 호출 순서대로 재사용 바이트 버퍼에 JSON으로 기록 (null 값은 생략)
+ *   <li>{@link Signature}/{@link Mac}과 버퍼는 풀에서 빌려 쓰므로 Platform/Virtual Thread 모두에서 재사용
+ * </ul>
+ *
+ * <p>출력은 RFC 7515 JWS Compact 형식이며 JJWT 등 표준 라이브러리로 검증됩니다. 같은 입력이면 같은 Payload 바이트를 만들고,
+ * HS256/RS256/EdDSA는 서명까지 결정적입니다 (ES256 서명은 매번 달라짐).
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+final class AccessTokenEncoder {
+
+    private static final int MIN_RSA_KEY_BITS = 2048;
+    private static final int POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+    private static final int INITIAL_BUFFER_SIZE = 2048;
+    private static final byte[] BASE64_URL =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"
+                    .getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+
+    private final JwtSigningAlgorithm algorithm;
+    private final Key signingKey;
+    private final byte[] encodedHeader;
+    private final ArrayBlockingQueue<EncoderState> pool = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    AccessTokenEncoder(JwtSigningAlgorithm algorithm, Key signingKey, String keyId) {
+        this.algorithm = algorithm;
+        this.signingKey = signingKey;
+        validateKey(algorithm, signingKey);
+        this.encodedHeader = encodeHeader(algorithm, keyId);
+        release(new EncoderState(createSigner()));
+    }
+
+    /**
+     * Access Token 인코딩
+     *
+     * @param claims Claim 기록 (호출 순서대로 Payload에 기록)
+     * @return JWS Compact 문자열
+     */
+    String encode(Consumer<ClaimWriter> claims) {
+        EncoderState state = acquire();
+        ClaimWriter payload = state.payload;
+        payload.begin();
+        claims.accept(payload);
+        payload.end();
+        String token = state.compact(encodedHeader, payload);
+        // 실패한 상태(서명기 중간 상태 포함)는 풀에 돌려놓지 않음
+        release(state);
+        return token;
+    }
+
+    private EncoderState acquire() {
+        EncoderState state = pool.poll();
+        return state != null ? state : new EncoderState(createSigner());
+    }
+
+    private void release(EncoderState state) {
+        pool.offer(state);
+    }
+
+    private Signer createSigner() {
+        try {
+            if (algorithm == JwtSigningAlgorithm.HS256) {
+                Mac mac = Mac.getInstance("HmacSHA256");
+                mac.init(signingKey);
+                return (data, length) -> {
+                    mac.update(data, 0, length);
+                    return mac.doFinal();
+                };
+            }
+            Signature signature = Signature.getInstance(jcaSignatureName(algorithm));
+            signature.initSign((PrivateKey) signingKey);
+            return (data, length) -> {
+                signature.update(data, 0, length);
+                return signature.sign();
+            };
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(
+                    "Failed to initialize " + algorithm.jwaName() + " signer", e);
+        }
+    }
+
+    private static String jcaSignatureName(JwtSigningAlgorithm algorithm) {
+        return switch (algorithm) {
+            case RS256 -> "SHA256withRSA";
+            case ES256 -> "SHA256withECDSAinP1363Format";
+            case EDDSA -> "Ed25519";
+            case HS256 -> throw new IllegalArgumentException("HS256 uses Mac");
+        };
+    }
+
+    private static void validateKey(JwtSigningAlgorithm algorithm, Key signingKey) {
+        if (algorithm == JwtSigningAlgorithm.RS256
+                && signingKey instanceof RSAKey rsaKey
+                && rsaKey.getModulus().bitLength() < MIN_RSA_KEY_BITS) {
+            throw new IllegalStateException(
+                    "RS256 requires an RSA key of at least " + MIN_RSA_KEY_BITS + " bits");
+        }
+    }
+
+    private static byte[] encodeHeader(JwtSigningAlgorithm algorithm, String keyId) {
+        ClaimWriter header = new ClaimWriter();
+        header.begin();
+        header.string("alg", algorithm.jwaName());
+        header.string("kid", keyId);
+        header.end();
+        byte[] encoded = new byte[base64Length(header.length)];
+        base64Url(header.buffer, header.length, encoded, 0);
+        return encoded;
+    }
+
+    private static int base64Length(int length) {
+        return (length / 3) * 4 + (length % 3 == 0 ? 0 : length % 3 + 1);
+    }
+
+    /** Base64URL(패딩 없음)로 dst[offset]부터 기록하고 기록한 바이트 수를 반환 */
+    private static int base64Url(byte[] src, int length, byte[] dst, int offset) {
+        int position = offset;
+        int full = length - length % 3;
+        for (int i = 0; i < full; i += 3) {
+            int bits = (src[i] & 0xff) << 16 | (src[i + 1] & 0xff) << 8 | (src[i + 2] & 0xff);
+            dst[position++] = BASE64_URL[bits >>> 18 & 0x3f];
+            dst[position++] = BASE64_URL[bits >>> 12 & 0x3f];
+            dst[position++] = BASE64_URL[bits >>> 6 & 0x3f];
+            dst[position++] = BASE64_URL[bits & 0x3f];
+        }
+        int remaining = length - full;
+        if (remaining > 0) {
+            int bits = (src[full] & 0xff) << 16;
+            if (remaining == 2) {
+                bits |= (src[full + 1] & 0xff) << 8;
+            }
+            dst[position++] = BASE64_URL[bits >>> 18 & 0x3f];
+            dst[position++] = BASE64_URL[bits >>> 12 & 0x3f];
+            if (remaining == 2) {
+                dst[position++] = BASE64_URL[bits >>> 6 & 0x3f];
+            }
+        }
+        return position - offset;
+    }
+
+    /** 서명 입력(버퍼 앞부분)에 대한 서명 */
+    @FunctionalInterface
+    private interface Signer {
+
+        byte[] sign(byte[] data, int length) throws GeneralSecurityException;
+    }
+
+    /** 풀에서 빌려 쓰는 서명기와 버퍼 */
+    private static final class EncoderState {
+
+        private final Signer signer;
+        private final ClaimWriter payload = new ClaimWriter();
+        private byte[] output = new byte[INITIAL_BUFFER_SIZE];
+
+        private EncoderState(Signer signer) {
+            this.signer = signer;
+        }
+
+        private String compact(byte[] header, ClaimWriter claims) {
+            ensureOutput(header.length + 1 + base64Length(claims.length));
+
+            System.arraycopy(header, 0, output, 0, header.length);
+            int position = header.length;
+            output[position++] = '.';
+            position += base64Url(claims.buffer, claims.length, output, position);
+
+            byte[] signature;
+            try {
+                signature = signer.sign(output, position);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Failed to sign access token", e);
+            }
+            ensureOutput(position + 1 + base64Length(signature.length));
+            output[position++] = '.';
+            position += base64Url(signature, signature.length, output, position);
+            return new String(output, 0, position, StandardCharsets.ISO_8859_1);
+        }
+
+        private void ensureOutput(int capacity) {
+            if (output.length < capacity) {
+                output = Arrays.copyOf(output, Math.max(capacity, output.length * 2));
+            }
+        }
+    }
+
+    /**
+     * ClaimWriter - 재사용 버퍼에 JSON 객체를 기록
+     *
+     * <p>문자열은 UTF-8로 쓰고, JJWT가 사용하는 Jackson 기본 설정과 같이 {@code "}, {@code \}, 제어 문자만 이스케이프합니다.
+     * 올바른 Surrogate 쌍은 Jackson과 같이 4바이트 UTF-8로 씁니다. 짝이 없는 Surrogate는 Jackson이 예외를 던지는 입력이며,
+     * 여기서는 유니코드 이스케이프로 기록합니다. 값이 null인 멤버는 기록하지 않습니다.
+     */
+    static final class ClaimWriter {
+
+        private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+        private int length;
+        private boolean first;
+
+        private ClaimWriter() {}
+
+        void string(String name, String value) {
+            if (value == null) {
+                return;
+            }
+            name(name);
+            quoted(value);
+        }
+
+        void number(String name, long value) {
+            name(name);
+            ascii(Long.toString(value));
+        }
+
+        void bool(String name, boolean value) {
+            name(name);
+            ascii(value ? "true" : "false");
+        }
+
+        void strings(String name, Collection<String> values) {
+            if (values == null) {
+                return;
+            }
+            name(name);
+            write('[');
+            boolean firstElement = true;
+            for (String value : values) {
+                if (!firstElement) {
+                    write(',');
+                }
+                firstElement = false;
+                if (value == null) {
+                    ascii("null");
+                } else {
+                    quoted(value);
+                }
+            }
+            write(']');
+        }
+
+        private void begin() {
+            length = 0;
+            first = true;
+            write('{');
+        }
+
+        private void end() {
+            write('}');
+        }
+
+        private void name(String name) {
+            if (!first) {
+                write(',');
+            }
+            first = false;
+            quoted(name);
+            write(':');
+        }
+
+        /**
+         * 따옴표로 감싼 문자열 기록
+         *
+         * <p>ASCII 구간은 남은 문자 수 + 닫는 따옴표만큼 미리 확보하고 바이트를 바로 씁니다. 이스케이프는 한 문자에 최대 6바이트를
+         * 쓰므로 이스케이프 직후 남은 구간만큼 다시 확보합니다.
+         */
+        private void quoted(String value) {
+            write('"');
+            int chars = value.length();
+            ensure(chars + 1);
+            for (int i = 0; i < chars; i++) {
+                char c = value.charAt(i);
+                if (c >= 0x20 && c < 0x80 && c != '"' && c != '\\') {
+                    buffer[length++] = (byte) c;
+                } else if (c < 0x80) {
+                    escape(c);
+                    ensure(chars - i);
+                } else {
+                    utf8(value, i);
+                    break;
+                }
+            }
+            write('"');
+        }
+
+        /** 비 ASCII 문자가 나온 위치부터 나머지를 UTF-8로 기록 */
+        private void utf8(String value, int from) {
+            int chars = value.length();
+            for (int i = from; i < chars; i++) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    if (c >= 0x20 && c != '"' && c != '\\') {
+                        write(c);
+                    } else {
+                        escape(c);
+                    }
+                    continue;
+                }
+                if (c < 0x800) {
+                    ensure(2);
+                    buffer[length++] = (byte) (0xc0 | c >>> 6);
+                    buffer[length++] = (byte) (0x80 | c & 0x3f);
+                } else if (!Character.isSurrogate(c)) {
+                    ensure(3);
+                    buffer[length++] = (byte) (0xe0 | c >>> 12);
+                    buffer[length++] = (byte) (0x80 | c >>> 6 & 0x3f);
+                    buffer[length++] = (byte) (0x80 | c & 0x3f);
+                } else if (Character.isHighSurrogate(c)
+                        && i + 1 < chars
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    ensure(4);
+                    buffer[length++] = (byte) (0xf0 | codePoint >>> 18);
+                    buffer[length++] = (byte) (0x80 | codePoint >>> 12 & 0x3f);
+                    buffer[length++] = (byte) (0x80 | codePoint >>> 6 & 0x3f);
+                    buffer[length++] = (byte) (0x80 | codePoint & 0x3f);
+                } else {
+                    escape(c);
+                }
+            }
+        }
+
+        private void escape(char c) {
+            ensure(6);
+            buffer[length++] = '\\';
+            switch (c) {
+                case '"' -> buffer[length++] = '"';
+                case '\\' -> buffer[length++] = '\\';
+                case '\b' -> buffer[length++] = 'b';
+                case '\f' -> buffer[length++] = 'f';
+                case '\n' -> buffer[length++] = 'n';
+                case '\r' -> buffer[length++] = 'r';
+                case '\t' -> buffer[length++] = 't';
+                default -> {
+                    buffer[length++] = 'u';
+                    buffer[length++] = HEX[c >>> 12 & 0xf];
+                    buffer[length++] = HEX[c >>> 8 & 0xf];
+                    buffer[length++] = HEX[c >>> 4 & 0xf];
+                    buffer[length++] = HEX[c & 0xf];
+                }
+            }
+        }
+
+        private void ascii(String value) {
+            int chars = value.length();
+            ensure(chars);
+            for (int i = 0; i < chars; i++) {
+                buffer[length++] = (byte) value.charAt(i);
+            }
+        }
+
+        private void write(char c) {
+            ensure(1);
+            buffer[length++] = (byte) c;
+        }
+
+        private void ensure(int additional) {
+            if (length + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(length + additional, buffer.length * 2));
+            }
+        }
+    }
+}
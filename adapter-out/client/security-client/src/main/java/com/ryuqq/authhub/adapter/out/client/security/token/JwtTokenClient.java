@@ -1,26 +1,25 @@
 package com.ryuqq.authhub.adapter.out.client.security.token;
 
-import com.ryuqq.authhub.adapter.out.client.security.common.RsaKeyLoader;
+import com.ryuqq.authhub.adapter.out.client.security.common.SigningKeyLoader;
 import com.ryuqq.authhub.adapter.out.client.security.config.JwtProperties;
+import com.ryuqq.authhub.application.permission.dto.composite.EncodedPermissions;
+import com.ryuqq.authhub.application.permission.dto.composite.PermissionSet;
+import com.ryuqq.authhub.application.token.dto.composite.PermissionClaimSource;
 import com.ryuqq.authhub.application.token.dto.composite.TokenClaimsComposite;
 import com.ryuqq.authhub.application.token.dto.response.TokenResponse;
 import com.ryuqq.authhub.application.token.port.out.client.TokenProviderClient;
 import com.ryuqq.authhub.application.userrole.dto.composite.RolesAndPermissionsComposite;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
-import java.nio.charset.StandardCharsets;
-import java.security.Key;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import java.util.Date;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Optional;
 import org.springframework.stereotype.Component;
 
 /**
  * JwtTokenClient - JWT 토큰 생성 Client
  *
- * <p>jjwt 라이브러리를 사용하여 JWT 토큰을 생성합니다.
+ * <p>Access Token은 고정된 Claim 구성에 맞춘 {@link AccessTokenEncoder}로 생성합니다. 범용 JWT 빌더(jjwt)와 같은 JWS
+ * Compact 형식과 Payload 바이트를 만들면서, 발급마다 생기던 Claim Map, JSON 트리, Base64 중간 버퍼와 서명 엔진 생성을
+ * 없앴습니다.
  *
  * <p><strong>토큰 구조:</strong>
  *
@@ -29,19 +28,43 @@ import org.springframework.stereotype.Component;
  *   <li>Refresh Token: 긴 만료 시간 (기본 7일), Access Token 갱신용
  * </ul>
  *
+ * <p><strong>Refresh Token 형식:</strong> JWT가 아닌 불투명(opaque) 랜덤 값입니다. {@link SecureRandom} 256비트를
+ * Base64URL(패딩 없음)로 인코딩한 43자 문자열이며, 서버는 다이제스트로만 저장/조회합니다. 토큰 자체에 정보가 없으므로 만료와 폐기는
+ * 저장소에서만 판단합니다.
+ *
  * <p><strong>서명 알고리즘:</strong>
  *
  * <ul>
- *   <li>RS256 (RSA 비대칭키): security.jwt.rsa.enabled=true 시 사용
- *   <li>HS256 (HMAC 대칭키): security.jwt.rsa.enabled=false 시 사용
+ *   <li>security.jwt.algorithm으로 지정 (HS256, RS256, ES256, EdDSA)
+ *   <li>미지정 시 security.jwt.rsa.enabled=true면 RS256, 아니면 HS256
  * </ul>
  *
+ * <p>ES256(P-256)과 EdDSA(Ed25519)는 RS256보다 서명이 빠르고 서명 길이가 짧아(64바이트, RS256은 256바이트)
+ * 토큰과 Gateway 헤더가 작아집니다. 대신 검증은 RS256보다 느리므로 검증 측(Gateway/SDK)은 검증 결과 캐싱을 함께
+ * 사용합니다. 비대칭 알고리즘은 헤더에 kid를 담아 JWKS에서 검증 키를 찾게 합니다.
+ *
+ * <p><strong>압축 권한 Claim:</strong> security.jwt.compact-permissions=true 시 permissions 배열 대신 권한 사전
+ * 비트맵({@code perm_bits}, Base64URL)과 사전 버전({@code perm_dict})을 담습니다. 권한 키 대신 사전 항목당 1비트만
+ * 사용하므로 권한이 많은 사용자의 토큰과 Gateway 헤더 크기가 크게 줄어듭니다. 사전은 Internal API({@code GET
+ * /api/v1/internal/permissions/dictionary})로 조회합니다. 사전에 없는 권한이 있으면 permissions 배열로 대체합니다.
+ * 비트맵이 security.jwt.compact-permissions-max-length를 넘으면 권한 집합을 등록해 {@code permission_hash}만
+ * 담고, 등록에 실패하면 비트맵과 permissions 배열 중 짧은 쪽을 담습니다.
+ *
+ * <p><strong>Thin Token:</strong> security.jwt.thin-permissions=true 시 권한 Claim 없이 {@code
+ * permission_hash}만 담습니다. 권한 집합은 발급 시 만료 없이 보관되는 저장소에 등록하며,
+ * Gateway/SDK는 {@code GET /api/v1/internal/permission-sets/{hash}}로 복원해 무기한 캐싱합니다. 권한 수와
+ * 무관하게 토큰 크기가 일정하며, 등록에 실패하면 압축 권한 또는 permissions 배열로 대체합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
 @Component
 public class JwtTokenClient implements TokenProviderClient {
 
+    private static final String SUBJECT_CLAIM = "sub";
+    private static final String ISSUER_CLAIM = "iss";
+    private static final String ISSUED_AT_CLAIM = "iat";
+    private static final String EXPIRATION_CLAIM = "exp";
     private static final String TOKEN_TYPE_CLAIM = "token_type";
     private static final String TENANT_ID_CLAIM = "tid";
     private static final String TENANT_NAME_CLAIM = "tenant_name";
@@ -50,37 +73,40 @@ public class JwtTokenClient implements TokenProviderClient {
     private static final String EMAIL_CLAIM = "email";
     private static final String ROLES_CLAIM = "roles";
     private static final String PERMISSIONS_CLAIM = "permissions";
+    private static final String PERMISSION_BITS_CLAIM = "perm_bits";
+    private static final String PERMISSION_DICTIONARY_CLAIM = "perm_dict";
     private static final String PERMISSION_HASH_CLAIM = "permission_hash";
     private static final String MFA_VERIFIED_CLAIM = "mfa_verified";
     private static final String ACCESS_TOKEN_TYPE = "access";
-    private static final String REFRESH_TOKEN_TYPE = "refresh";
     private static final String TOKEN_TYPE = "Bearer";
+    private static final int REFRESH_TOKEN_BYTES = 32;
+    private static final Base64.Encoder REFRESH_TOKEN_ENCODER =
+            Base64.getUrlEncoder().withoutPadding();
 
     private final JwtProperties jwtProperties;
-    private final RsaKeyLoader rsaKeyLoader;
-    private final Key signingKey;
+    private final AccessTokenEncoder accessTokenEncoder;
+    private final SecureRandom secureRandom = new SecureRandom();
 
-    public JwtTokenClient(JwtProperties jwtProperties, RsaKeyLoader rsaKeyLoader) {
+    public JwtTokenClient(JwtProperties jwtProperties, SigningKeyLoader signingKeyLoader) {
         this.jwtProperties = jwtProperties;
-        this.rsaKeyLoader = rsaKeyLoader;
-        this.signingKey = initializeSigningKey();
-    }
-
-    private Key initializeSigningKey() {
-        if (rsaKeyLoader.isRsaEnabled()) {
-            return rsaKeyLoader.loadPrivateKey();
-        }
-        return Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.accessTokenEncoder =
+                new AccessTokenEncoder(
+                        signingKeyLoader.getAlgorithm(),
+                        signingKeyLoader.loadSigningKey(),
+                        signingKeyLoader.getKeyId());
     }
 
     @Override
     public TokenResponse generateTokenPair(
-            TokenClaimsComposite context, RolesAndPermissionsComposite rolesAndPermissions) {
+            TokenClaimsComposite context,
+            RolesAndPermissionsComposite rolesAndPermissions,
+            PermissionClaimSource permissionClaims) {
         long now = System.currentTimeMillis();
         String userIdValue = context.userId().value().toString();
 
-        String accessToken = createAccessToken(context, rolesAndPermissions, userIdValue, now);
-        String refreshToken = createRefreshToken(userIdValue, now);
+        String accessToken =
+                createAccessToken(context, rolesAndPermissions, permissionClaims, userIdValue, now);
+        String refreshToken = createRefreshToken();
 
         return new TokenResponse(
                 accessToken,
@@ -93,80 +119,77 @@ public class JwtTokenClient implements TokenProviderClient {
     private String createAccessToken(
             TokenClaimsComposite context,
             RolesAndPermissionsComposite rolesAndPermissions,
+            PermissionClaimSource permissionClaims,
             String userId,
             long now) {
-        Date issuedAt = new Date(now);
-        Date expiration = new Date(now + jwtProperties.getAccessTokenExpirationMs());
-
-        Set<String> roles = rolesAndPermissions.roleNames();
-        Set<String> permissions = rolesAndPermissions.permissionKeys();
-
-        var builder =
-                Jwts.builder()
-                        .subject(userId)
-                        .issuer(jwtProperties.getIssuer())
-                        .issuedAt(issuedAt)
-                        .expiration(expiration)
-                        .claim(TOKEN_TYPE_CLAIM, ACCESS_TOKEN_TYPE)
-                        .claim(TENANT_ID_CLAIM, context.tenantId())
-                        .claim(TENANT_NAME_CLAIM, context.tenantName())
-                        .claim(ORGANIZATION_ID_CLAIM, context.organizationId())
-                        .claim(ORGANIZATION_NAME_CLAIM, context.organizationName())
-                        .claim(EMAIL_CLAIM, context.email())
-                        .claim(ROLES_CLAIM, roles)
-                        .claim(PERMISSIONS_CLAIM, permissions)
-                        .claim(PERMISSION_HASH_CLAIM, calculatePermissionHash(permissions))
-                        .claim(MFA_VERIFIED_CLAIM, context.mfaVerified());
-
-        if (rsaKeyLoader.isRsaEnabled()) {
-            builder.header().add("kid", rsaKeyLoader.getKeyId());
+        long issuedAt = now / 1000L;
+        long expiration = (now + jwtProperties.getAccessTokenExpirationMs()) / 1000L;
+
+        PermissionSet permissionSet = permissionClaims.permissionSet();
+        boolean published = isThinPermissionsPublished(permissionClaims);
+        Optional<EncodedPermissions> encoded =
+                !published && jwtProperties.isCompactPermissions()
+                        ? permissionClaims.compact()
+                        : Optional.empty();
+        if (encoded.isPresent() && exceedsBitmapBudget(encoded.get())) {
+            published = !jwtProperties.isThinPermissions() && permissionClaims.publish();
+            if (published
+                    || permissionListLength(permissionSet) < encoded.get().bitmap().length()) {
+                encoded = Optional.empty();
+            }
         }
-
-        return builder.signWith(signingKey).compact();
+        boolean thinPublished = published;
+        Optional<EncodedPermissions> encodedPermissions = encoded;
+
+        return accessTokenEncoder.encode(
+                claims -> {
+                    claims.string(SUBJECT_CLAIM, userId);
+                    claims.string(ISSUER_CLAIM, jwtProperties.getIssuer());
+                    claims.number(ISSUED_AT_CLAIM, issuedAt);
+                    claims.number(EXPIRATION_CLAIM, expiration);
+                    claims.string(TOKEN_TYPE_CLAIM, ACCESS_TOKEN_TYPE);
+                    claims.string(TENANT_ID_CLAIM, context.tenantId());
+                    claims.string(TENANT_NAME_CLAIM, context.tenantName());
+                    claims.string(ORGANIZATION_ID_CLAIM, context.organizationId());
+                    claims.string(ORGANIZATION_NAME_CLAIM, context.organizationName());
+                    claims.string(EMAIL_CLAIM, context.email());
+                    claims.strings(ROLES_CLAIM, rolesAndPermissions.roleNames());
+                    claims.string(PERMISSION_HASH_CLAIM, permissionSet.hash());
+                    claims.bool(MFA_VERIFIED_CLAIM, context.mfaVerified());
+                    if (thinPublished) {
+                        return;
+                    }
+                    if (encodedPermissions.isPresent()) {
+                        EncodedPermissions encoded = encodedPermissions.get();
+                        claims.string(PERMISSION_BITS_CLAIM, encoded.bitmap());
+                        claims.string(
+                                PERMISSION_DICTIONARY_CLAIM, encoded.dictionaryVersion());
+                    } else {
+                        claims.strings(PERMISSIONS_CLAIM, permissionSet.permissionKeys());
+                    }
+                });
     }
 
-    private String createRefreshToken(String userId, long now) {
-        Date issuedAt = new Date(now);
-        Date expiration = new Date(now + jwtProperties.getRefreshTokenExpirationMs());
-
-        var builder =
-                Jwts.builder()
-                        .subject(userId)
-                        .issuer(jwtProperties.getIssuer())
-                        .issuedAt(issuedAt)
-                        .expiration(expiration)
-                        .claim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE);
-
-        if (rsaKeyLoader.isRsaEnabled()) {
-            builder.header().add("kid", rsaKeyLoader.getKeyId());
-        }
+    private String createRefreshToken() {
+        byte[] randomBytes = new byte[REFRESH_TOKEN_BYTES];
+        secureRandom.nextBytes(randomBytes);
+        return REFRESH_TOKEN_ENCODER.encodeToString(randomBytes);
+    }
 
-        return builder.signWith(signingKey).compact();
+    private boolean isThinPermissionsPublished(PermissionClaimSource permissionClaims) {
+        return jwtProperties.isThinPermissions() && permissionClaims.publish();
     }
 
-    private String calculatePermissionHash(Set<String> permissions) {
-        if (permissions == null || permissions.isEmpty()) {
-            return "";
-        }
-        String sortedPermissions = permissions.stream().sorted().collect(Collectors.joining(","));
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(sortedPermissions.getBytes(StandardCharsets.UTF_8));
-            return bytesToHex(hash);
-        } catch (NoSuchAlgorithmException e) {
-            throw new IllegalStateException("SHA-256 algorithm not available", e);
-        }
+    private boolean exceedsBitmapBudget(EncodedPermissions encoded) {
+        return encoded.bitmap().length() > jwtProperties.getCompactPermissionsMaxLength();
     }
 
-    private String bytesToHex(byte[] bytes) {
-        StringBuilder hexString = new StringBuilder();
-        for (byte b : bytes) {
-            String hex = Integer.toHexString(0xff & b);
-            if (hex.length() == 1) {
-                hexString.append('0');
-            }
-            hexString.append(hex);
+    /** permissions 배열의 JSON 길이 근사치 (키마다 따옴표 2개와 쉼표 1개) */
+    private static int permissionListLength(PermissionSet permissionSet) {
+        int length = 2;
+        for (String permissionKey : permissionSet.permissionKeys()) {
+            length += permissionKey.length() + 3;
         }
-        return hexString.toString();
+        return length;
     }
 }
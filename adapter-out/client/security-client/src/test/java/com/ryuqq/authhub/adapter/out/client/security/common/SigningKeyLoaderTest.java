@@ -0,0 +1,116 @@
+package com.ryuqq.authhub.adapter.out.client.security.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ryuqq.authhub.adapter.out.client.security.config.JwtProperties;
+import com.ryuqq.authhub.adapter.out.client.security.config.JwtSigningAlgorithm;
+import com.ryuqq.authhub.adapter.out.client.security.fixture.SecurityClientFixtures;
+import java.security.KeyPair;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.EdECPrivateKey;
+import javax.crypto.SecretKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("SigningKeyLoader")
+class SigningKeyLoaderTest {
+
+    @Nested
+    @DisplayName("getAlgorithm")
+    class GetAlgorithm {
+
+        @Test
+        @DisplayName("algorithm 미지정, RSA 비활성화 시 HS256")
+        void defaultsToHs256() {
+            JwtProperties props = SecurityClientFixtures.jwtPropertiesHs256();
+
+            assertThat(createLoader(props).getAlgorithm()).isEqualTo(JwtSigningAlgorithm.HS256);
+        }
+
+        @Test
+        @DisplayName("algorithm 미지정, RSA 활성화 시 RS256")
+        void defaultsToRs256WhenRsaEnabled() throws Exception {
+            JwtProperties props = SecurityClientFixtures.jwtPropertiesRsaWithContent();
+
+            assertThat(createLoader(props).getAlgorithm()).isEqualTo(JwtSigningAlgorithm.RS256);
+        }
+
+        @Test
+        @DisplayName("algorithm 값은 대소문자를 구분하지 않고 Ed25519도 EdDSA로 인식")
+        void parsesAlgorithmName() {
+            assertThat(JwtSigningAlgorithm.from("es256")).isEqualTo(JwtSigningAlgorithm.ES256);
+            assertThat(JwtSigningAlgorithm.from("EdDSA")).isEqualTo(JwtSigningAlgorithm.EDDSA);
+            assertThat(JwtSigningAlgorithm.from("Ed25519")).isEqualTo(JwtSigningAlgorithm.EDDSA);
+            assertThatThrownBy(() -> JwtSigningAlgorithm.from("PS256"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("loadSigningKey")
+    class LoadSigningKey {
+
+        @Test
+        @DisplayName("HS256은 HMAC 키, kid 없음")
+        void loadsHmacKey() {
+            SigningKeyLoader sut = createLoader(SecurityClientFixtures.jwtPropertiesHs256());
+
+            assertThat(sut.loadSigningKey()).isInstanceOf(SecretKey.class);
+            assertThat(sut.getKeyId()).isNull();
+        }
+
+        @Test
+        @DisplayName("ES256은 P-256 비밀키와 EC kid")
+        void loadsEcKey() throws Exception {
+            KeyPair keyPair = SecurityClientFixtures.generateEcKeyPair("secp256r1");
+            SigningKeyLoader sut =
+                    createLoader(SecurityClientFixtures.jwtPropertiesEs256(keyPair));
+
+            assertThat(sut.loadSigningKey()).isInstanceOf(ECPrivateKey.class);
+            assertThat(sut.getKeyId()).isEqualTo("test-ec-key-1");
+        }
+
+        @Test
+        @DisplayName("EdDSA는 Ed25519 비밀키와 EdDSA kid")
+        void loadsEd25519Key() throws Exception {
+            KeyPair keyPair = SecurityClientFixtures.generateEd25519KeyPair();
+            SigningKeyLoader sut =
+                    createLoader(SecurityClientFixtures.jwtPropertiesEdDsa(keyPair));
+
+            assertThat(sut.loadSigningKey()).isInstanceOf(EdECPrivateKey.class);
+            assertThat(sut.getKeyId()).isEqualTo("test-ed-key-1");
+        }
+
+        @Test
+        @DisplayName("ES256에 P-256이 아닌 EC 키가 설정되면 IllegalStateException")
+        void rejectsNonP256Curve() throws Exception {
+            KeyPair keyPair = SecurityClientFixtures.generateEcKeyPair("secp384r1");
+            SigningKeyLoader sut =
+                    createLoader(SecurityClientFixtures.jwtPropertiesEs256(keyPair));
+
+            assertThatThrownBy(sut::loadSigningKey)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("P-256");
+        }
+
+        @Test
+        @DisplayName("ES256 비밀키가 없으면 IllegalStateException")
+        void throwsWhenEcKeyMissing() {
+            JwtProperties props = SecurityClientFixtures.jwtPropertiesHs256();
+            props.setAlgorithm("ES256");
+            SigningKeyLoader sut = createLoader(props);
+
+            assertThatThrownBy(sut::loadSigningKey)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("privateKey");
+        }
+    }
+
+    private static SigningKeyLoader createLoader(JwtProperties props) {
+        return new SigningKeyLoader(props, new RsaKeyLoader(props));
+    }
+}
@@ -4,9 +4,11 @@ import com.ryuqq.authhub.adapter.out.client.security.config.JwtProperties;
 import com.ryuqq.authhub.application.token.dto.composite.TokenClaimsComposite;
 import com.ryuqq.authhub.application.userrole.dto.composite.RolesAndPermissionsComposite;
 import com.ryuqq.authhub.domain.user.id.UserId;
+import java.security.InvalidAlgorithmParameterException;
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
 import java.security.NoSuchAlgorithmException;
+import java.security.spec.ECGenParameterSpec;
 import java.util.Base64;
 import java.util.Set;
 
@@ -55,6 +57,41 @@ public final class SecurityClientFixtures {
         return props;
     }
 
+    /** ES256 JwtProperties (P-256 공개키/비밀키 content) */
+    public static JwtProperties jwtPropertiesEs256(KeyPair keyPair) {
+        JwtProperties props = jwtPropertiesHs256();
+        props.setAlgorithm("ES256");
+        JwtProperties.KeyPairProperties ec = props.getEc();
+        ec.setKeyId("test-ec-key-1");
+        ec.setPublicKeyContent(toPublicKeyPem(keyPair));
+        ec.setPrivateKeyContent(toPrivateKeyPem(keyPair));
+        return props;
+    }
+
+    /** EdDSA JwtProperties (Ed25519 공개키/비밀키 content) */
+    public static JwtProperties jwtPropertiesEdDsa(KeyPair keyPair) {
+        JwtProperties props = jwtPropertiesHs256();
+        props.setAlgorithm("EdDSA");
+        JwtProperties.KeyPairProperties eddsa = props.getEddsa();
+        eddsa.setKeyId("test-ed-key-1");
+        eddsa.setPublicKeyContent(toPublicKeyPem(keyPair));
+        eddsa.setPrivateKeyContent(toPrivateKeyPem(keyPair));
+        return props;
+    }
+
+    /** EC KeyPair 생성 */
+    public static KeyPair generateEcKeyPair(String curve)
+            throws NoSuchAlgorithmException, InvalidAlgorithmParameterException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec(curve));
+        return generator.generateKeyPair();
+    }
+
+    /** Ed25519 KeyPair 생성 */
+    public static KeyPair generateEd25519KeyPair() throws NoSuchAlgorithmException {
+        return KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+    }
+
     /** RSA KeyPair 생성 */
     public static KeyPair generateRsaKeyPair() throws NoSuchAlgorithmException {
         KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
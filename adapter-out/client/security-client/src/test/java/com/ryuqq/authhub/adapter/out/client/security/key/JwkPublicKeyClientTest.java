@@ -0,0 +1,137 @@
+package com.ryuqq.authhub.adapter.out.client.security.key;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.authhub.adapter.out.client.security.common.RsaKeyLoader;
+import com.ryuqq.authhub.adapter.out.client.security.common.SigningKeyLoader;
+import com.ryuqq.authhub.adapter.out.client.security.config.JwtProperties;
+import com.ryuqq.authhub.adapter.out.client.security.fixture.SecurityClientFixtures;
+import com.ryuqq.authhub.application.token.dto.response.JwkResponse;
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.interfaces.ECPublicKey;
+import java.util.Base64;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwkPublicKeyClient")
+class JwkPublicKeyClientTest {
+
+    private JwkPublicKeyClient sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = createClient(createJwtPropertiesWithRsa());
+    }
+
+    @Nested
+    @DisplayName("getPublicKeys")
+    class GetPublicKeys {
+
+        @Test
+        @DisplayName("RSA 활성화 시 JWK 목록 반환")
+        void returnsJwkListWhenRsaEnabled() throws Exception {
+            sut = createClient(createJwtPropertiesWithRsa());
+
+            List<JwkResponse> result = sut.getPublicKeys();
+
+            assertThat(result).hasSize(1);
+            JwkResponse jwk = result.get(0);
+            assertThat(jwk.kid()).isEqualTo("test-key-1");
+            assertThat(jwk.kty()).isEqualTo("RSA");
+            assertThat(jwk.use()).isEqualTo("sig");
+            assertThat(jwk.alg()).isEqualTo("RS256");
+            assertThat(jwk.n()).isNotBlank();
+            assertThat(jwk.e()).isNotBlank();
+        }
+
+        @Test
+        @DisplayName("RSA 비활성화 시 빈 목록 반환")
+        void returnsEmptyListWhenRsaDisabled() {
+            JwtProperties props = new JwtProperties();
+            props.getRsa().setEnabled(false);
+            sut = createClient(props);
+
+            List<JwkResponse> result = sut.getPublicKeys();
+
+            assertThat(result).isEmpty();
+        }
+
+        @Test
+        @DisplayName("ES256 사용 시 32바이트 x, y 좌표의 EC JWK 반환")
+        void returnsEcJwkWhenEs256() throws Exception {
+            KeyPair keyPair = SecurityClientFixtures.generateEcKeyPair("secp256r1");
+            sut = createClient(SecurityClientFixtures.jwtPropertiesEs256(keyPair));
+
+            List<JwkResponse> result = sut.getPublicKeys();
+
+            assertThat(result).hasSize(1);
+            JwkResponse jwk = result.get(0);
+            assertThat(jwk.kid()).isEqualTo("test-ec-key-1");
+            assertThat(jwk.kty()).isEqualTo("EC");
+            assertThat(jwk.alg()).isEqualTo("ES256");
+            assertThat(jwk.crv()).isEqualTo("P-256");
+            assertThat(jwk.n()).isNull();
+            byte[] x = Base64.getUrlDecoder().decode(jwk.x());
+            byte[] y = Base64.getUrlDecoder().decode(jwk.y());
+            assertThat(x).hasSize(32);
+            assertThat(y).hasSize(32);
+            ECPublicKey publicKey = (ECPublicKey) keyPair.getPublic();
+            assertThat(new BigInteger(1, x)).isEqualTo(publicKey.getW().getAffineX());
+        }
+
+        @Test
+        @DisplayName("EdDSA 사용 시 32바이트 x의 OKP JWK 반환")
+        void returnsOkpJwkWhenEdDsa() throws Exception {
+            KeyPair keyPair = SecurityClientFixtures.generateEd25519KeyPair();
+            sut = createClient(SecurityClientFixtures.jwtPropertiesEdDsa(keyPair));
+
+            List<JwkResponse> result = sut.getPublicKeys();
+
+            assertThat(result).hasSize(1);
+            JwkResponse jwk = result.get(0);
+            assertThat(jwk.kid()).isEqualTo("test-ed-key-1");
+            assertThat(jwk.kty()).isEqualTo("OKP");
+            assertThat(jwk.alg()).isEqualTo("EdDSA");
+            assertThat(jwk.crv()).isEqualTo("Ed25519");
+            assertThat(Base64.getUrlDecoder().decode(jwk.x())).hasSize(32);
+            assertThat(jwk.y()).isNull();
+        }
+
+        @Test
+        @DisplayName("ES256 전환 중에는 RSA 키도 함께 공개")
+        void publishesRsaAndEcKeysDuringMigration() throws Exception {
+            KeyPair keyPair = SecurityClientFixtures.generateEcKeyPair("secp256r1");
+            JwtProperties props = SecurityClientFixtures.jwtPropertiesEs256(keyPair);
+            JwtProperties rsaProps = createJwtPropertiesWithRsa();
+            props.setRsa(rsaProps.getRsa());
+            sut = createClient(props);
+
+            List<JwkResponse> result = sut.getPublicKeys();
+
+            assertThat(result).extracting(JwkResponse::kty).containsExactly("RSA", "EC");
+        }
+    }
+
+    private static JwkPublicKeyClient createClient(JwtProperties props) {
+        RsaKeyLoader rsaKeyLoader = new RsaKeyLoader(props);
+        return new JwkPublicKeyClient(
+                props, rsaKeyLoader, new SigningKeyLoader(props, rsaKeyLoader));
+    }
+
+    private JwtProperties createJwtPropertiesWithRsa() {
+        try {
+            return SecurityClientFixtures.jwtPropertiesRsaWithContent();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -3,7 +3,10 @@ package com.ryuqq.authhub.adapter.out.client.security.password;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.ryuqq.authhub.adapter.out.client.security.config.PasswordHashingProperties;
 import com.ryuqq.authhub.domain.user.vo.HashedPassword;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -14,11 +17,20 @@ import org.junit.jupiter.api.Test;
 @DisplayName("BCryptPasswordClient")
 class BCryptPasswordClientTest {
 
+    private PasswordHashingExecutor hashingExecutor;
     private BCryptPasswordClient sut;
 
     @BeforeEach
     void setUp() {
-        sut = new BCryptPasswordClient();
+        hashingExecutor =
+                new PasswordHashingExecutor(
+                        new PasswordHashingProperties(), new SimpleMeterRegistry());
+        sut = new BCryptPasswordClient(hashingExecutor);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        hashingExecutor.destroy();
     }
 
     @Nested
@@ -0,0 +1,132 @@
+package com.ryuqq.authhub.adapter.out.client.security.password;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ryuqq.authhub.adapter.out.client.security.config.PasswordHashingProperties;
+import com.ryuqq.authhub.domain.token.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("PasswordHashingExecutor")
+class PasswordHashingExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordHashingExecutor sut;
+
+    @BeforeEach
+    void setUp() {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setThreads(1);
+        properties.setQueueCapacity(1);
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new PasswordHashingExecutor(properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        sut.destroy();
+    }
+
+    @Nested
+    @DisplayName("실행")
+    class Execute {
+
+        @Test
+        @DisplayName("작업 결과를 호출자에게 반환하고 소요 시간을 기록")
+        void returnsResultAndRecordsDuration() {
+            String result = sut.hash(() -> "hashed");
+            boolean matched = sut.matches(() -> true);
+
+            assertThat(result).isEqualTo("hashed");
+            assertThat(matched).isTrue();
+            assertThat(
+                            meterRegistry
+                                    .get("authhub.password.hashing.duration")
+                                    .tag("operation", "hash")
+                                    .timer()
+                                    .count())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("작업에서 발생한 RuntimeException을 그대로 전파")
+        void propagatesRuntimeException() {
+            assertThatThrownBy(
+                            () ->
+                                    sut.hash(
+                                            () -> {
+                                                throw new IllegalArgumentException("blank");
+                                            }))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("blank");
+        }
+    }
+
+    @Nested
+    @DisplayName("Backpressure")
+    class Backpressure {
+
+        @Test
+        @DisplayName("스레드와 대기열이 가득 차면 즉시 PasswordHashingBusyException")
+        void rejectsWhenSaturated() throws Exception {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            try (ExecutorService callers = Executors.newFixedThreadPool(2)) {
+                Future<String> running =
+                        callers.submit(
+                                () ->
+                                        sut.hash(
+                                                () -> {
+                                                    started.countDown();
+                                                    await(release);
+                                                    return "running";
+                                                }));
+                assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+                Future<String> queued = callers.submit(() -> sut.hash(() -> "queued"));
+                awaitQueueSize(1);
+
+                assertThatThrownBy(() -> sut.hash(() -> "rejected"))
+                        .isInstanceOf(PasswordHashingBusyException.class);
+                assertThat(
+                                meterRegistry
+                                        .get("authhub.password.hashing.rejected")
+                                        .counter()
+                                        .count())
+                        .isEqualTo(1.0);
+
+                release.countDown();
+                assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("running");
+                assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("queued");
+            }
+        }
+
+        private void awaitQueueSize(int expected) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (meterRegistry.get("authhub.password.hashing.queue.size").gauge().value()
+                    < expected) {
+                assertThat(System.nanoTime()).isLessThan(deadline);
+                Thread.sleep(10);
+            }
+        }
+
+        private void await(CountDownLatch latch) {
+            try {
+                latch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.ryuqq.authhub.adapter.out.client.security.token;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ryuqq.authhub.adapter.out.client.security.config.JwtSigningAlgorithm;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.crypto.SecretKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("AccessTokenEncoder")
+class AccessTokenEncoderTest {
+
+    private static final SecretKey HMAC_KEY =
+            Keys.hmacShaKeyFor(
+                    "test-secret-key-at-least-256-bits-long-for-hs256-algorithm"
+                            .getBytes(StandardCharsets.UTF_8));
+    private static final long ISSUED_AT = 1_700_000_000L;
+    private static final Set<String> ROLES =
+            new LinkedHashSet<>(List.of("ROLE_USER", "ROLE_ADMIN"));
+
+    @Nested
+    @DisplayName("encode")
+    class Encode {
+
+        @Test
+        @DisplayName("JJWT 빌더와 같은 Payload 바이트 생성")
+        void producesSamePayloadAsJjwt() {
+            AccessTokenEncoder sut = hs256Encoder();
+
+            String encoded = sut.encode(claims -> writeClaims(claims, "Test Tenant"));
+            String jjwt =
+                    Jwts.builder()
+                            .subject("user-1")
+                            .issuer("authhub")
+                            .issuedAt(new Date(ISSUED_AT * 1000L))
+                            .expiration(new Date((ISSUED_AT + 3600L) * 1000L))
+                            .claim("tenant_name", "Test Tenant")
+                            .claim("roles", ROLES)
+                            .claim("mfa_verified", false)
+                            .signWith(HMAC_KEY)
+                            .compact();
+
+            assertThat(encoded.split("\\.")[1]).isEqualTo(jjwt.split("\\.")[1]);
+        }
+
+        @Test
+        @DisplayName("같은 입력이면 같은 토큰 생성 (HS256)")
+        void isDeterministic() {
+            AccessTokenEncoder sut = hs256Encoder();
+
+            String first = sut.encode(claims -> writeClaims(claims, "Test Tenant"));
+            String second = sut.encode(claims -> writeClaims(claims, "Test Tenant"));
+
+            assertThat(first).isEqualTo(second);
+        }
+
+        @Test
+        @DisplayName("따옴표, 제어 문자, 한글, 이모지가 포함된 값도 그대로 복원")
+        void escapesSpecialCharacters() {
+            AccessTokenEncoder sut = hs256Encoder();
+            String tenantName = "테넌트 \"A\"\\B\n\t\u0001 😀";
+
+            String encoded = sut.encode(claims -> writeClaims(claims, tenantName));
+
+            assertThat(parseHs256(encoded).getPayload().get("tenant_name")).isEqualTo(tenantName);
+        }
+
+        @Test
+        @DisplayName("ASCII 값의 이스케이프가 버퍼 끝에 걸려도 그대로 복원")
+        void escapesAsciiValueAtBufferLimit() {
+            for (String escaped : List.of("\u0001", "\"\"\"", "\\\\\\")) {
+                for (int padding = 1_900; padding < 2_100; padding++) {
+                    AccessTokenEncoder sut = hs256Encoder();
+                    String tenantName = escaped + "a".repeat(padding) + "\"";
+
+                    String encoded = sut.encode(claims -> writeClaims(claims, tenantName));
+
+                    assertThat(parseHs256(encoded).getPayload().get("tenant_name"))
+                            .isEqualTo(tenantName);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Surrogate 쌍은 이스케이프하지 않고 4바이트 UTF-8로 기록")
+        void writesSurrogatePairAsUtf8() {
+            AccessTokenEncoder sut = hs256Encoder();
+
+            String encoded = sut.encode(claims -> writeClaims(claims, "A😀"));
+
+            String payload =
+                    new String(
+                            Base64.getUrlDecoder().decode(encoded.split("\\.")[1]),
+                            StandardCharsets.UTF_8);
+            assertThat(payload).contains("\"tenant_name\":\"A😀\"").doesNotContain("\\u");
+        }
+
+        @Test
+        @DisplayName("null 값 Claim은 생략")
+        void omitsNullClaims() {
+            AccessTokenEncoder sut = hs256Encoder();
+
+            String encoded = sut.encode(claims -> writeClaims(claims, null));
+
+            assertThat(parseHs256(encoded).getPayload()).doesNotContainKey("tenant_name");
+        }
+
+        @Test
+        @DisplayName("비대칭 알고리즘은 alg와 kid 헤더를 담고 공개키로 검증됨")
+        void containsAlgAndKidHeader() throws Exception {
+            KeyPair keyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+            AccessTokenEncoder sut =
+                    new AccessTokenEncoder(
+                            JwtSigningAlgorithm.EDDSA, keyPair.getPrivate(), "kid-1");
+
+            String encoded = sut.encode(claims -> writeClaims(claims, "Test Tenant"));
+
+            Jws<Claims> jws =
+                    Jwts.parser()
+                            .verifyWith(keyPair.getPublic())
+                            .clock(() -> new Date(ISSUED_AT * 1000L))
+                            .build()
+                            .parseSignedClaims(encoded);
+            assertThat(jws.getHeader().getAlgorithm()).isEqualTo("EdDSA");
+            assertThat(jws.getHeader().getKeyId()).isEqualTo("kid-1");
+        }
+
+        @Test
+        @DisplayName("여러 스레드에서 동시에 인코딩해도 모두 검증됨")
+        void encodesConcurrently() throws Exception {
+            AccessTokenEncoder sut = hs256Encoder();
+            List<Future<String>> futures = new ArrayList<>();
+
+            try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+                for (int i = 0; i < 200; i++) {
+                    String tenantName = "tenant-" + i;
+                    futures.add(
+                            executor.submit(
+                                    () -> sut.encode(claims -> writeClaims(claims, tenantName))));
+                }
+                for (int i = 0; i < futures.size(); i++) {
+                    assertThat(parseHs256(futures.get(i).get()).getPayload().get("tenant_name"))
+                            .isEqualTo("tenant-" + i);
+                }
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("생성")
+    class Create {
+
+        @Test
+        @DisplayName("RS256에 2048비트 미만 RSA 키면 IllegalStateException")
+        void rejectsWeakRsaKey() throws Exception {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(1024);
+            KeyPair keyPair = generator.generateKeyPair();
+
+            assertThatThrownBy(
+                            () ->
+                                    new AccessTokenEncoder(
+                                            JwtSigningAlgorithm.RS256, keyPair.getPrivate(), "kid"))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("2048");
+        }
+    }
+
+    private static AccessTokenEncoder hs256Encoder() {
+        return new AccessTokenEncoder(JwtSigningAlgorithm.HS256, HMAC_KEY, null);
+    }
+
+    private static void writeClaims(AccessTokenEncoder.ClaimWriter claims, String tenantName) {
+        claims.string("sub", "user-1");
+        claims.string("iss", "authhub");
+        claims.number("iat", ISSUED_AT);
+        claims.number("exp", ISSUED_AT + 3600L);
+        claims.string("tenant_name", tenantName);
+        claims.strings("roles", ROLES);
+        claims.bool("mfa_verified", false);
+    }
+
+    private static Jws<Claims> parseHs256(String token) {
+        // exp가 과거이므로 검증 시계를 발급 시점으로 고정
+        return Jwts.parser()
+                .verifyWith(HMAC_KEY)
+                .clock(() -> new Date(ISSUED_AT * 1000L))
+                .build()
+                .parseSignedClaims(token);
+    }
+}
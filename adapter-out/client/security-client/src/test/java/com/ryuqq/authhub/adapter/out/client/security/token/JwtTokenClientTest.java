@@ -5,17 +5,25 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ryuqq.authhub.adapter.out.client.security.common.RsaKeyLoader;
+import com.ryuqq.authhub.adapter.out.client.security.common.SigningKeyLoader;
 import com.ryuqq.authhub.adapter.out.client.security.config.JwtProperties;
 import com.ryuqq.authhub.adapter.out.client.security.fixture.SecurityClientFixtures;
+import com.ryuqq.authhub.application.permission.dto.composite.EncodedPermissions;
+import com.ryuqq.authhub.application.permission.dto.composite.PermissionSet;
+import com.ryuqq.authhub.application.token.dto.composite.PermissionClaimSource;
 import com.ryuqq.authhub.application.token.dto.composite.TokenClaimsComposite;
 import com.ryuqq.authhub.application.token.dto.response.TokenResponse;
 import com.ryuqq.authhub.application.userrole.dto.composite.RolesAndPermissionsComposite;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
 import java.util.Base64;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -33,7 +41,7 @@ class JwtTokenClientTest {
     @BeforeEach
     void setUp() {
         jwtProperties = SecurityClientFixtures.jwtPropertiesHs256();
-        sut = new JwtTokenClient(jwtProperties, createDisabledRsaKeyLoader());
+        sut = new JwtTokenClient(jwtProperties, signingKeyLoader(jwtProperties));
     }
 
     @Nested
@@ -43,7 +51,7 @@ class JwtTokenClientTest {
         @BeforeEach
         void setUpHs256() {
             jwtProperties = SecurityClientFixtures.jwtPropertiesHs256();
-            sut = new JwtTokenClient(jwtProperties, createDisabledRsaKeyLoader());
+            sut = new JwtTokenClient(jwtProperties, signingKeyLoader(jwtProperties));
         }
 
         @Test
@@ -53,7 +61,8 @@ class JwtTokenClientTest {
             RolesAndPermissionsComposite rolesAndPerms =
                     SecurityClientFixtures.rolesAndPermissionsComposite();
 
-            TokenResponse result = sut.generateTokenPair(claims, rolesAndPerms);
+            TokenResponse result =
+                    sut.generateTokenPair(claims, rolesAndPerms, listOnly(rolesAndPerms));
 
             assertThat(result).isNotNull();
             assertThat(result.accessToken()).isNotBlank();
@@ -70,7 +79,8 @@ class JwtTokenClientTest {
             RolesAndPermissionsComposite rolesAndPerms =
                     SecurityClientFixtures.rolesAndPermissionsComposite();
 
-            TokenResponse result = sut.generateTokenPair(claims, rolesAndPerms);
+            TokenResponse result =
+                    sut.generateTokenPair(claims, rolesAndPerms, listOnly(rolesAndPerms));
 
             Claims parsed =
                     Jwts.parser()
@@ -95,27 +105,20 @@ class JwtTokenClientTest {
         }
 
         @Test
-        @DisplayName("생성된 Refresh Token 파싱 및 검증")
-        void generatedRefreshTokenCanBeParsed() {
+        @DisplayName("Refresh Token은 256비트 랜덤 값의 Base64URL 문자열")
+        void generatedRefreshTokenIsOpaqueRandomValue() {
             TokenClaimsComposite claims = SecurityClientFixtures.tokenClaimsComposite();
             RolesAndPermissionsComposite rolesAndPerms =
                     SecurityClientFixtures.rolesAndPermissionsComposite();
 
-            TokenResponse result = sut.generateTokenPair(claims, rolesAndPerms);
+            TokenResponse first =
+                    sut.generateTokenPair(claims, rolesAndPerms, listOnly(rolesAndPerms));
+            TokenResponse second =
+                    sut.generateTokenPair(claims, rolesAndPerms, listOnly(rolesAndPerms));
 
-            Claims parsed =
-                    Jwts.parser()
-                            .verifyWith(
-                                    Keys.hmacShaKeyFor(
-                                            jwtProperties
-                                                    .getSecret()
-                                                    .getBytes(StandardCharsets.UTF_8)))
-                            .build()
-                            .parseSignedClaims(result.refreshToken())
-                            .getPayload();
-
-            assertThat(parsed.getSubject()).isEqualTo(claims.userId().value().toString());
-            assertThat(parsed.get("token_type")).isEqualTo("refresh");
+            assertThat(first.refreshToken()).hasSize(43).matches("[A-Za-z0-9_-]+");
+            assertThat(Base64.getUrlDecoder().decode(first.refreshToken())).hasSize(32);
+            assertThat(first.refreshToken()).isNotEqualTo(second.refreshToken());
         }
 
         @Test
@@ -125,13 +128,214 @@ class JwtTokenClientTest {
             RolesAndPermissionsComposite rolesAndPerms =
                     SecurityClientFixtures.emptyRolesAndPermissions();
 
-            TokenResponse result = sut.generateTokenPair(claims, rolesAndPerms);
+            TokenResponse result =
+                    sut.generateTokenPair(claims, rolesAndPerms, listOnly(rolesAndPerms));
 
             assertThat(result.accessToken()).isNotBlank();
             assertThat(result.refreshToken()).isNotBlank();
         }
     }
 
+    @Nested
+    @DisplayName("generateTokenPair - 압축 권한 Claim")
+    class GenerateTokenPairCompactPermissions {
+
+        @Test
+        @DisplayName("압축 비활성화 시 인코더를 호출하지 않고 permissions 배열 사용")
+        void usesPermissionListWhenDisabled() {
+            AtomicBoolean encoderCalled = new AtomicBoolean();
+
+            TokenResponse result =
+                    sut.generateTokenPair(
+                            SecurityClientFixtures.tokenClaimsComposite(),
+                            SecurityClientFixtures.rolesAndPermissionsComposite(),
+                            new PermissionClaimSource(
+                                    permissionSet(),
+                                    () -> {
+                                        encoderCalled.set(true);
+                                        return Optional.empty();
+                                    },
+                                    () -> false));
+
+            Claims parsed = parseHs256(result.accessToken());
+            assertThat(encoderCalled).isFalse();
+            assertThat(parsed.get("permissions")).isInstanceOf(List.class);
+            assertThat(parsed.get("perm_bits")).isNull();
+        }
+
+        @Test
+        @DisplayName("압축 활성화 시 perm_bits/perm_dict를 담고 permissions 배열 생략")
+        void usesBitmapWhenEnabled() {
+            jwtProperties.setCompactPermissions(true);
+            EncodedPermissions encoded = new EncodedPermissions("0123456789abcdef", "Bg");
+
+            TokenResponse result =
+                    sut.generateTokenPair(
+                            SecurityClientFixtures.tokenClaimsComposite(),
+                            SecurityClientFixtures.rolesAndPermissionsComposite(),
+                            new PermissionClaimSource(
+                                    permissionSet(),
+                                    () -> Optional.of(encoded),
+                                    () -> false));
+
+            Claims parsed = parseHs256(result.accessToken());
+            assertThat(parsed.get("perm_bits")).isEqualTo("Bg");
+            assertThat(parsed.get("perm_dict")).isEqualTo("0123456789abcdef");
+            assertThat(parsed.get("permissions")).isNull();
+            assertThat(parsed.get("permission_hash")).isNotNull();
+        }
+
+        @Test
+        @DisplayName("압축 활성화 상태에서 인코딩 실패 시 permissions 배열로 대체")
+        void fallsBackToPermissionListWhenEncodingFails() {
+            jwtProperties.setCompactPermissions(true);
+
+            TokenResponse result =
+                    sut.generateTokenPair(
+                            SecurityClientFixtures.tokenClaimsComposite(),
+                            SecurityClientFixtures.rolesAndPermissionsComposite(),
+                            PermissionClaimSource.listOnly(permissionSet()));
+
+            Claims parsed = parseHs256(result.accessToken());
+            assertThat(parsed.get("permissions")).isInstanceOf(List.class);
+            assertThat(parsed.get("perm_bits")).isNull();
+        }
+
+        @Test
+        @DisplayName("비트맵이 최대 길이를 넘으면 권한 집합을 등록하고 permission_hash만 담음")
+        void publishesHashWhenBitmapExceedsMaxLength() {
+            jwtProperties.setCompactPermissions(true);
+            jwtProperties.setCompactPermissionsMaxLength(4);
+            AtomicBoolean published = new AtomicBoolean();
+
+            TokenResponse result =
+                    sut.generateTokenPair(
+                            SecurityClientFixtures.tokenClaimsComposite(),
+                            SecurityClientFixtures.rolesAndPermissionsComposite(),
+                            new PermissionClaimSource(
+                                    permissionSet(),
+                                    () -> Optional.of(new EncodedPermissions("v1", "AAAAAAAA")),
+                                    () -> {
+                                        published.set(true);
+                                        return true;
+                                    }));
+
+            Claims parsed = parseHs256(result.accessToken());
+            assertThat(published).isTrue();
+            assertThat(parsed.get("perm_bits")).isNull();
+            assertThat(parsed.get("permissions")).isNull();
+            assertThat(parsed.get("permission_hash")).isEqualTo(permissionSet().hash());
+        }
+
+        @Test
+        @DisplayName("비트맵이 최대 길이를 넘고 등록도 실패하면 더 짧은 permissions 배열 사용")
+        void fallsBackToShorterPermissionListWhenBitmapExceedsMaxLength() {
+            jwtProperties.setCompactPermissions(true);
+            jwtProperties.setCompactPermissionsMaxLength(4);
+
+            TokenResponse result =
+                    sut.generateTokenPair(
+                            SecurityClientFixtures.tokenClaimsComposite(),
+                            SecurityClientFixtures.rolesAndPermissionsComposite(),
+                            new PermissionClaimSource(
+                                    permissionSet(),
+                                    () -> Optional.of(new EncodedPermissions("v1", "A".repeat(64))),
+                                    () -> false));
+
+            Claims parsed = parseHs256(result.accessToken());
+            assertThat(parsed.get("permissions")).isInstanceOf(List.class);
+            assertThat(parsed.get("perm_bits")).isNull();
+        }
+
+        @Test
+        @DisplayName("비트맵이 최대 길이를 넘어도 permissions 배열보다 짧으면 비트맵 유지")
+        void keepsBitmapWhenShorterThanPermissionList() {
+            jwtProperties.setCompactPermissions(true);
+            jwtProperties.setCompactPermissionsMaxLength(4);
+
+            TokenResponse result =
+                    sut.generateTokenPair(
+                            SecurityClientFixtures.tokenClaimsComposite(),
+                            SecurityClientFixtures.rolesAndPermissionsComposite(),
+                            new PermissionClaimSource(
+                                    permissionSet(),
+                                    () -> Optional.of(new EncodedPermissions("v1", "AAAAAAAA")),
+                                    () -> false));
+
+            Claims parsed = parseHs256(result.accessToken());
+            assertThat(parsed.get("perm_bits")).isEqualTo("AAAAAAAA");
+            assertThat(parsed.get("permissions")).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("generateTokenPair - Thin Token")
+    class GenerateTokenPairThinPermissions {
+
+        @Test
+        @DisplayName("Thin Token 비활성화 시 권한 집합을 등록하지 않음")
+        void doesNotPublishWhenDisabled() {
+            AtomicBoolean published = new AtomicBoolean();
+
+            TokenResponse result =
+                    sut.generateTokenPair(
+                            SecurityClientFixtures.tokenClaimsComposite(),
+                            SecurityClientFixtures.rolesAndPermissionsComposite(),
+                            new PermissionClaimSource(
+                                    permissionSet(),
+                                    Optional::empty,
+                                    () -> published.getAndSet(true)));
+
+            assertThat(published).isFalse();
+            assertThat(parseHs256(result.accessToken()).get("permissions"))
+                    .isInstanceOf(List.class);
+        }
+
+        @Test
+        @DisplayName("등록 성공 시 permission_hash만 담고 권한 Claim 생략")
+        void carriesOnlyHashWhenPublished() {
+            jwtProperties.setThinPermissions(true);
+            jwtProperties.setCompactPermissions(true);
+            AtomicBoolean published = new AtomicBoolean();
+            PermissionSet permissionSet = permissionSet();
+
+            TokenResponse result =
+                    sut.generateTokenPair(
+                            SecurityClientFixtures.tokenClaimsComposite(),
+                            SecurityClientFixtures.rolesAndPermissionsComposite(),
+                            new PermissionClaimSource(
+                                    permissionSet,
+                                    () -> {
+                                        throw new AssertionError("must not encode");
+                                    },
+                                    () -> {
+                                        published.set(true);
+                                        return true;
+                                    }));
+
+            Claims parsed = parseHs256(result.accessToken());
+            assertThat(parsed.get("permission_hash")).isEqualTo(permissionSet.hash());
+            assertThat(parsed.get("permissions")).isNull();
+            assertThat(parsed.get("perm_bits")).isNull();
+            assertThat(published).isTrue();
+        }
+
+        @Test
+        @DisplayName("등록 실패 시 permissions 배열로 대체")
+        void fallsBackToPermissionListWhenPublishFails() {
+            jwtProperties.setThinPermissions(true);
+
+            TokenResponse result =
+                    sut.generateTokenPair(
+                            SecurityClientFixtures.tokenClaimsComposite(),
+                            SecurityClientFixtures.rolesAndPermissionsComposite(),
+                            PermissionClaimSource.listOnly(permissionSet()));
+
+            assertThat(parseHs256(result.accessToken()).get("permissions"))
+                    .isInstanceOf(List.class);
+        }
+    }
+
     @Nested
     @DisplayName("generateTokenPair - RS256")
     class GenerateTokenPairRs256 {
@@ -139,7 +343,7 @@ class JwtTokenClientTest {
         @BeforeEach
         void setUpRs256() throws Exception {
             jwtProperties = SecurityClientFixtures.jwtPropertiesRsaWithContent();
-            sut = new JwtTokenClient(jwtProperties, new RsaKeyLoader(jwtProperties));
+            sut = new JwtTokenClient(jwtProperties, signingKeyLoader(jwtProperties));
         }
 
         @Test
@@ -149,7 +353,8 @@ class JwtTokenClientTest {
             RolesAndPermissionsComposite rolesAndPerms =
                     SecurityClientFixtures.rolesAndPermissionsComposite();
 
-            TokenResponse result = sut.generateTokenPair(claims, rolesAndPerms);
+            TokenResponse result =
+                    sut.generateTokenPair(claims, rolesAndPerms, listOnly(rolesAndPerms));
 
             assertThat(result).isNotNull();
             assertThat(result.accessToken()).isNotBlank();
@@ -163,7 +368,8 @@ class JwtTokenClientTest {
             RolesAndPermissionsComposite rolesAndPerms =
                     SecurityClientFixtures.rolesAndPermissionsComposite();
 
-            TokenResponse result = sut.generateTokenPair(claims, rolesAndPerms);
+            TokenResponse result =
+                    sut.generateTokenPair(claims, rolesAndPerms, listOnly(rolesAndPerms));
 
             String[] parts = result.accessToken().split("\\.");
             assertThat(parts).hasSize(3);
@@ -175,9 +381,98 @@ class JwtTokenClientTest {
         }
     }
 
-    private RsaKeyLoader createDisabledRsaKeyLoader() {
-        JwtProperties props = new JwtProperties();
-        props.getRsa().setEnabled(false);
-        return new RsaKeyLoader(props);
+    @Nested
+    @DisplayName("generateTokenPair - ES256")
+    class GenerateTokenPairEs256 {
+
+        private KeyPair keyPair;
+
+        @BeforeEach
+        void setUpEs256() throws Exception {
+            keyPair = SecurityClientFixtures.generateEcKeyPair("secp256r1");
+            jwtProperties = SecurityClientFixtures.jwtPropertiesEs256(keyPair);
+            sut = new JwtTokenClient(jwtProperties, signingKeyLoader(jwtProperties));
+        }
+
+        @Test
+        @DisplayName("P-256 키로 서명하고 alg=ES256, kid 헤더 포함")
+        void signsWithEs256AndContainsKid() {
+            RolesAndPermissionsComposite rolesAndPerms =
+                    SecurityClientFixtures.rolesAndPermissionsComposite();
+
+            TokenResponse result =
+                    sut.generateTokenPair(
+                            SecurityClientFixtures.tokenClaimsComposite(),
+                            rolesAndPerms,
+                            listOnly(rolesAndPerms));
+
+            Jws<Claims> jws =
+                    Jwts.parser()
+                            .verifyWith(keyPair.getPublic())
+                            .build()
+                            .parseSignedClaims(result.accessToken());
+            assertThat(jws.getHeader().getAlgorithm()).isEqualTo("ES256");
+            assertThat(jws.getHeader().getKeyId()).isEqualTo("test-ec-key-1");
+            assertThat(jws.getPayload().getSubject()).isNotBlank();
+        }
+    }
+
+    @Nested
+    @DisplayName("generateTokenPair - EdDSA")
+    class GenerateTokenPairEdDsa {
+
+        private KeyPair keyPair;
+
+        @BeforeEach
+        void setUpEdDsa() throws Exception {
+            keyPair = SecurityClientFixtures.generateEd25519KeyPair();
+            jwtProperties = SecurityClientFixtures.jwtPropertiesEdDsa(keyPair);
+            sut = new JwtTokenClient(jwtProperties, signingKeyLoader(jwtProperties));
+        }
+
+        @Test
+        @DisplayName("Ed25519 키로 서명하고 alg=EdDSA, kid 헤더 포함")
+        void signsWithEdDsaAndContainsKid() {
+            RolesAndPermissionsComposite rolesAndPerms =
+                    SecurityClientFixtures.rolesAndPermissionsComposite();
+
+            TokenResponse result =
+                    sut.generateTokenPair(
+                            SecurityClientFixtures.tokenClaimsComposite(),
+                            rolesAndPerms,
+                            listOnly(rolesAndPerms));
+
+            Jws<Claims> jws =
+                    Jwts.parser()
+                            .verifyWith(keyPair.getPublic())
+                            .build()
+                            .parseSignedClaims(result.accessToken());
+            assertThat(jws.getHeader().getAlgorithm()).isEqualTo("EdDSA");
+            assertThat(jws.getHeader().getKeyId()).isEqualTo("test-ed-key-1");
+            assertThat(jws.getPayload().getSubject()).isNotBlank();
+        }
+    }
+
+    private Claims parseHs256(String accessToken) {
+        return Jwts.parser()
+                .verifyWith(
+                        Keys.hmacShaKeyFor(
+                                jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(accessToken)
+                .getPayload();
+    }
+
+    private static PermissionSet permissionSet() {
+        return PermissionSet.of(
+                SecurityClientFixtures.rolesAndPermissionsComposite().permissionKeys());
+    }
+
+    private static PermissionClaimSource listOnly(RolesAndPermissionsComposite rolesAndPerms) {
+        return PermissionClaimSource.listOnly(PermissionSet.of(rolesAndPerms.permissionKeys()));
+    }
+
+    private static SigningKeyLoader signingKeyLoader(JwtProperties props) {
+        return new SigningKeyLoader(props, new RsaKeyLoader(props));
     }
 }
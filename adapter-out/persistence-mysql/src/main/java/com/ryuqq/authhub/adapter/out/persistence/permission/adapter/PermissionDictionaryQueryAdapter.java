@@ -0,0 +1,37 @@
+package com.ryuqq.authhub.adapter.out.persistence.permission.adapter;
+
+import com.ryuqq.authhub.adapter.out.persistence.permission.repository.PermissionQueryDslRepository;
+import com.ryuqq.authhub.application.permission.dto.response.PermissionDictionaryEntryResult;
+import com.ryuqq.authhub.application.permission.port.out.query.PermissionDictionaryQueryPort;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * PermissionDictionaryQueryAdapter - 권한 사전 적재용 조회 Adapter
+ *
+ * <p>권한 사전 구성에 필요한 (권한 ID, 권한 키) 목록을 Projection 조회로 제공합니다.
+ *
+ * <p><strong>Zero-Tolerance 규칙:</strong>
+ *
+ * <ul>
+ *   <li>Port 구현체로 @Component 등록
+ *   <li>Application DTO 반환 (Projection 조회이므로 예외적으로 DTO 직접 반환)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class PermissionDictionaryQueryAdapter implements PermissionDictionaryQueryPort {
+
+    private final PermissionQueryDslRepository queryDslRepository;
+
+    public PermissionDictionaryQueryAdapter(PermissionQueryDslRepository queryDslRepository) {
+        this.queryDslRepository = queryDslRepository;
+    }
+
+    @Override
+    public List<PermissionDictionaryEntryResult> findAllActiveEntries() {
+        return queryDslRepository.findAllActiveDictionaryEntries();
+    }
+}
@@ -0,0 +1,69 @@
+package com.ryuqq.authhub.adapter.out.persistence.permission.adapter;
+
+import com.ryuqq.authhub.adapter.out.persistence.permission.mapper.PermissionSetJpaEntityMapper;
+import com.ryuqq.authhub.adapter.out.persistence.permission.repository.PermissionSetJpaRepository;
+import com.ryuqq.authhub.application.common.time.TimeProvider;
+import com.ryuqq.authhub.application.permission.dto.composite.PermissionSet;
+import com.ryuqq.authhub.application.permission.port.out.command.PermissionSetCommandPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * PermissionSetCommandAdapter - 권한 집합 저장소 Command 어댑터
+ *
+ * <p>PermissionSetCommandPort 구현체입니다. 권한 집합을 {@code permission_sets} 테이블에 만료 없이 저장합니다. 해시가
+ * 내용으로 결정되므로 이미 있는 해시는 다시 쓰지 않습니다.
+ *
+ * <p><strong>장애 처리:</strong> 예외를 전파하지 않고 false를 반환합니다. 호출 측은 권한 Claim을 토큰에 직접 담는
+ * 방식으로 대체합니다. 저장은 Repository의 자체 트랜잭션으로 실행하므로 이 어댑터는 트랜잭션을 열지 않습니다.
+ *
+ * <p><strong>Zero-Tolerance 규칙:</strong>
+ *
+ * <ul>
+ *   <li>JpaRepository에 저장 로직 위임
+ *   <li>조회 메서드 금지 (QueryAdapter로 분리)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class PermissionSetCommandAdapter implements PermissionSetCommandPort {
+
+    private static final Logger log = LoggerFactory.getLogger(PermissionSetCommandAdapter.class);
+
+    private final PermissionSetJpaRepository permissionSetJpaRepository;
+    private final PermissionSetJpaEntityMapper permissionSetJpaEntityMapper;
+    private final TimeProvider timeProvider;
+
+    public PermissionSetCommandAdapter(
+            PermissionSetJpaRepository permissionSetJpaRepository,
+            PermissionSetJpaEntityMapper permissionSetJpaEntityMapper,
+            TimeProvider timeProvider) {
+        this.permissionSetJpaRepository = permissionSetJpaRepository;
+        this.permissionSetJpaEntityMapper = permissionSetJpaEntityMapper;
+        this.timeProvider = timeProvider;
+    }
+
+    /**
+     * 권한 집합 저장 (이미 있으면 무시)
+     *
+     * @param permissionSet 권한 집합
+     * @return 저장 성공 여부
+     */
+    @Override
+    public boolean save(PermissionSet permissionSet) {
+        try {
+            permissionSetJpaRepository.insertIfAbsent(
+                    permissionSet.hash(),
+                    permissionSetJpaEntityMapper.toPermissionKeys(permissionSet),
+                    timeProvider.now());
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("Failed to save permission set for hash: {}", permissionSet.hash(), e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.ryuqq.authhub.adapter.out.persistence.permission.adapter;
+
+import com.ryuqq.authhub.adapter.out.persistence.permission.mapper.PermissionSetJpaEntityMapper;
+import com.ryuqq.authhub.adapter.out.persistence.permission.repository.PermissionSetQueryDslRepository;
+import com.ryuqq.authhub.application.permission.dto.composite.PermissionSet;
+import com.ryuqq.authhub.application.permission.port.out.query.PermissionSetQueryPort;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+/**
+ * PermissionSetQueryAdapter - 권한 집합 저장소 Query 어댑터
+ *
+ * <p>PermissionSetQueryPort 구현체입니다. {@code permission_sets} 테이블에서 권한 해시로 권한 집합을 조회합니다.
+ *
+ * <p><strong>Zero-Tolerance 규칙:</strong>
+ *
+ * <ul>
+ *   <li>@Transactional 사용 금지 (읽기 전용)
+ *   <li>QueryDslRepository에 조회 로직 위임
+ *   <li>저장/수정/삭제 메서드 금지 (CommandAdapter로 분리)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class PermissionSetQueryAdapter implements PermissionSetQueryPort {
+
+    private final PermissionSetQueryDslRepository permissionSetQueryDslRepository;
+    private final PermissionSetJpaEntityMapper permissionSetJpaEntityMapper;
+
+    public PermissionSetQueryAdapter(
+            PermissionSetQueryDslRepository permissionSetQueryDslRepository,
+            PermissionSetJpaEntityMapper permissionSetJpaEntityMapper) {
+        this.permissionSetQueryDslRepository = permissionSetQueryDslRepository;
+        this.permissionSetJpaEntityMapper = permissionSetJpaEntityMapper;
+    }
+
+    /**
+     * 권한 해시로 권한 집합 조회
+     *
+     * @param hash 권한 해시
+     * @return 권한 집합 (없으면 empty)
+     */
+    @Override
+    public Optional<PermissionSet> findByHash(String hash) {
+        return permissionSetQueryDslRepository
+                .findByHash(hash)
+                .map(permissionSetJpaEntityMapper::toPermissionSet);
+    }
+}
@@ -0,0 +1,82 @@
+package com.ryuqq.authhub.adapter.out.persistence.permission.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+
+/**
+ * PermissionSetJpaEntity - 권한 집합 JPA Entity
+ *
+ * <p>Thin Token의 {@code permission_hash}를 권한 키 목록으로 복원하기 위한 권한 집합을 저장합니다.
+ *
+ * <p><strong>내용 주소(Content-Addressed) 저장:</strong>
+ *
+ * <ul>
+ *   <li>permissionHash(정렬된 권한 키의 SHA-256 hex)를 PK로 사용
+ *   <li>같은 해시의 내용은 바뀌지 않으므로 수정/삭제하지 않음 (만료 없음)
+ *   <li>이미 있는 해시는 다시 쓰지 않음 (INSERT ... ON DUPLICATE KEY)
+ * </ul>
+ *
+ * <p><strong>Zero-Tolerance 규칙:</strong>
+ *
+ * <ul>
+ *   <li>Lombok 사용 금지
+ *   <li>of() 팩토리 메서드 사용
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Entity
+@Table(name = "permission_sets")
+public class PermissionSetJpaEntity {
+
+    /** 권한 해시 (Primary Key) */
+    @Id
+    @Column(name = "permission_hash", nullable = false, columnDefinition = "CHAR(64)")
+    private String permissionHash;
+
+    /** 권한 키 목록 (오름차순, 콤마 구분) */
+    @Column(name = "permission_keys", nullable = false, columnDefinition = "TEXT")
+    private String permissionKeys;
+
+    /** 생성 시각 (UTC) */
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    protected PermissionSetJpaEntity() {}
+
+    private PermissionSetJpaEntity(
+            String permissionHash, String permissionKeys, Instant createdAt) {
+        this.permissionHash = permissionHash;
+        this.permissionKeys = permissionKeys;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * PermissionSet Entity 생성
+     *
+     * @param permissionHash 권한 해시
+     * @param permissionKeys 권한 키 목록 (오름차순, 콤마 구분)
+     * @param createdAt 생성 시각 (UTC)
+     * @return PermissionSetJpaEntity
+     */
+    public static PermissionSetJpaEntity of(
+            String permissionHash, String permissionKeys, Instant createdAt) {
+        return new PermissionSetJpaEntity(permissionHash, permissionKeys, createdAt);
+    }
+
+    public String getPermissionHash() {
+        return permissionHash;
+    }
+
+    public String getPermissionKeys() {
+        return permissionKeys;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
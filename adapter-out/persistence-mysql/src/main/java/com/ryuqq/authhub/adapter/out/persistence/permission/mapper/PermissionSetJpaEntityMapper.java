@@ -0,0 +1,49 @@
+package com.ryuqq.authhub.adapter.out.persistence.permission.mapper;
+
+import com.ryuqq.authhub.adapter.out.persistence.permission.entity.PermissionSetJpaEntity;
+import com.ryuqq.authhub.application.permission.dto.composite.PermissionSet;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+
+/**
+ * PermissionSetJpaEntityMapper - 권한 집합 저장 형식 변환 Mapper
+ *
+ * <p>권한 키는 오름차순으로 정렬해 콤마로 연결한 문자열로 저장합니다. 권한 해시의 원문과 같은 형식이므로 저장된 내용으로 해시를 다시
+ * 계산할 수 있습니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class PermissionSetJpaEntityMapper {
+
+    private static final String KEY_DELIMITER = ",";
+
+    /**
+     * PermissionSet → 저장 형식(권한 키 목록) 변환
+     *
+     * @param permissionSet 권한 집합
+     * @return 오름차순 정렬 후 콤마로 연결한 권한 키
+     */
+    public String toPermissionKeys(PermissionSet permissionSet) {
+        return permissionSet.permissionKeys().stream()
+                .sorted()
+                .collect(Collectors.joining(KEY_DELIMITER));
+    }
+
+    /**
+     * Entity → PermissionSet 변환
+     *
+     * @param entity PermissionSetJpaEntity
+     * @return PermissionSet
+     */
+    public PermissionSet toPermissionSet(PermissionSetJpaEntity entity) {
+        Set<String> permissionKeys =
+                Arrays.stream(entity.getPermissionKeys().split(KEY_DELIMITER))
+                        .filter(key -> !key.isEmpty())
+                        .collect(Collectors.toUnmodifiableSet());
+        return new PermissionSet(entity.getPermissionHash(), permissionKeys);
+    }
+}
@@ -4,9 +4,11 @@ import static com.ryuqq.authhub.adapter.out.persistence.permission.entity.QPermi
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.ryuqq.authhub.adapter.out.persistence.permission.condition.PermissionConditionBuilder;
 import com.ryuqq.authhub.adapter.out.persistence.permission.entity.PermissionJpaEntity;
+import com.ryuqq.authhub.application.permission.dto.response.PermissionDictionaryEntryResult;
 import com.ryuqq.authhub.domain.permission.query.criteria.PermissionSearchCriteria;
 import java.util.List;
 import java.util.Optional;
@@ -27,6 +29,7 @@ import org.springframework.stereotype.Repository;
  *   <li>findAllByCriteria() - 조건 검색
  *   <li>countByCriteria() - 조건 검색 개수
  *   <li>findAllByIds() - ID 목록으로 다건 조회
+ *   <li>findAllActiveDictionaryEntries() - 권한 사전 적재용 (ID, 권한 키) 조회
  * </ul>
  *
  * <p><strong>CQRS 패턴:</strong>
@@ -208,4 +211,23 @@ public class PermissionQueryDslRepository {
                         conditionBuilder.notDeleted())
                 .fetch();
     }
+
+    /**
+     * 권한 사전 적재용 (ID, 권한 키) 전체 조회
+     *
+     * <p>Entity 대신 두 컬럼만 Projection으로 조회합니다.
+     *
+     * @return 삭제되지 않은 권한의 (ID, 권한 키) 목록
+     */
+    public List<PermissionDictionaryEntryResult> findAllActiveDictionaryEntries() {
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                PermissionDictionaryEntryResult.class,
+                                permissionJpaEntity.permissionId,
+                                permissionJpaEntity.permissionKey))
+                .from(permissionJpaEntity)
+                .where(conditionBuilder.notDeleted())
+                .fetch();
+    }
 }
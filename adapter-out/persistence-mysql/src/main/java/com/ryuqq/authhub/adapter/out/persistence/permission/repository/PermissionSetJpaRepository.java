@@ -0,0 +1,57 @@
+package com.ryuqq.authhub.adapter.out.persistence.permission.repository;
+
+import com.ryuqq.authhub.adapter.out.persistence.permission.entity.PermissionSetJpaEntity;
+import java.time.Instant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * PermissionSetJpaRepository - 권한 집합 JPA Repository (Command 전용)
+ *
+ * <p><strong>책임:</strong>
+ *
+ * <ul>
+ *   <li>insertIfAbsent() - 권한 집합 저장 (이미 있는 해시는 무시)
+ * </ul>
+ *
+ * <p><strong>Zero-Tolerance 규칙:</strong>
+ *
+ * <ul>
+ *   <li>조회 로직은 QueryDslRepository에서 처리
+ *   <li>수정/삭제 금지 (해시의 내용은 바뀌지 않음)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Repository
+public interface PermissionSetJpaRepository extends JpaRepository<PermissionSetJpaEntity, String> {
+
+    /**
+     * 권한 집합 저장 (이미 있으면 무시)
+     *
+     * <p>PK 충돌 시 기존 행을 그대로 두는 단일 INSERT 문이므로, 여러 인스턴스가 같은 해시를 동시에 저장해도 조회 없이 한 번만
+     * 기록됩니다. 호출 측 트랜잭션과 분리된 자체 트랜잭션으로 실행해 실패가 호출 측 트랜잭션을 롤백 전용으로 만들지 않습니다.
+     *
+     * @param permissionHash 권한 해시
+     * @param permissionKeys 권한 키 목록 (오름차순, 콤마 구분)
+     * @param createdAt 생성 시각 (UTC)
+     * @return 영향받은 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query(
+            value =
+                    "INSERT INTO permission_sets (permission_hash, permission_keys, created_at)"
+                            + " VALUES (:permissionHash, :permissionKeys, :createdAt)"
+                            + " ON DUPLICATE KEY UPDATE permission_hash = permission_hash",
+            nativeQuery = true)
+    int insertIfAbsent(
+            @Param("permissionHash") String permissionHash,
+            @Param("permissionKeys") String permissionKeys,
+            @Param("createdAt") Instant createdAt);
+}
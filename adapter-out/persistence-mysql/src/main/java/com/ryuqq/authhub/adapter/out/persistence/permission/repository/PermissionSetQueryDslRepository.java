@@ -0,0 +1,46 @@
+package com.ryuqq.authhub.adapter.out.persistence.permission.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ryuqq.authhub.adapter.out.persistence.permission.entity.PermissionSetJpaEntity;
+import com.ryuqq.authhub.adapter.out.persistence.permission.entity.QPermissionSetJpaEntity;
+import java.util.Optional;
+import org.springframework.stereotype.Repository;
+
+/**
+ * PermissionSetQueryDslRepository - 권한 집합 QueryDSL Repository (Query)
+ *
+ * <p><strong>표준 메서드:</strong>
+ *
+ * <ul>
+ *   <li>findByHash(permissionHash) - 권한 해시(PK)로 조회
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Repository
+public class PermissionSetQueryDslRepository {
+
+    private final JPAQueryFactory queryFactory;
+    private static final QPermissionSetJpaEntity permissionSet =
+            QPermissionSetJpaEntity.permissionSetJpaEntity;
+
+    public PermissionSetQueryDslRepository(JPAQueryFactory queryFactory) {
+        this.queryFactory = queryFactory;
+    }
+
+    /**
+     * 권한 해시로 권한 집합 Entity 조회
+     *
+     * @param permissionHash 권한 해시
+     * @return PermissionSetJpaEntity (Optional)
+     */
+    public Optional<PermissionSetJpaEntity> findByHash(String permissionHash) {
+        PermissionSetJpaEntity result =
+                queryFactory
+                        .selectFrom(permissionSet)
+                        .where(permissionSet.permissionHash.eq(permissionHash))
+                        .fetchOne();
+        return Optional.ofNullable(result);
+    }
+}
@@ -4,11 +4,13 @@ import com.ryuqq.authhub.adapter.out.persistence.permissionendpoint.entity.Permi
 import com.ryuqq.authhub.adapter.out.persistence.permissionendpoint.mapper.PermissionEndpointJpaEntityMapper;
 import com.ryuqq.authhub.adapter.out.persistence.permissionendpoint.repository.PermissionEndpointJpaRepository;
 import com.ryuqq.authhub.adapter.out.persistence.permissionendpoint.repository.PermissionEndpointQueryDslRepository;
+import com.ryuqq.authhub.application.common.component.VersionedSnapshotHolder;
 import com.ryuqq.authhub.application.permissionendpoint.port.out.query.PermissionEndpointQueryPort;
 import com.ryuqq.authhub.domain.permission.id.PermissionId;
 import com.ryuqq.authhub.domain.permissionendpoint.aggregate.PermissionEndpoint;
 import com.ryuqq.authhub.domain.permissionendpoint.id.PermissionEndpointId;
 import com.ryuqq.authhub.domain.permissionendpoint.query.criteria.PermissionEndpointSearchCriteria;
+import com.ryuqq.authhub.domain.permissionendpoint.route.PermissionEndpointRouteIndex;
 import com.ryuqq.authhub.domain.permissionendpoint.vo.HttpMethod;
 import java.util.List;
 import java.util.Optional;
@@ -19,6 +21,10 @@ import org.springframework.stereotype.Component;
  *
  * <p>PermissionEndpoint Domain을 조회하는 Adapter입니다.
  *
+ * <p>요청 URL 매칭은 활성 엔드포인트로 구성한 {@link PermissionEndpointRouteIndex}로 수행합니다. 인덱스는 스펙 버전별로
+ * 한 번만 구성하며, 버전이 같은 동안에는 버전 조회 한 번으로 매칭합니다. 스펙 버전은 엔드포인트를 바꾸는 모든 트랜잭션에서
+ * 증가하므로 다른 인스턴스의 변경도 감지합니다.
+ *
  * <p><strong>Zero-Tolerance 규칙:</strong>
  *
  * <ul>
@@ -36,6 +42,8 @@ public class PermissionEndpointQueryAdapter implements PermissionEndpointQueryPo
     private final PermissionEndpointJpaRepository jpaRepository;
     private final PermissionEndpointQueryDslRepository queryDslRepository;
     private final PermissionEndpointJpaEntityMapper mapper;
+    private final VersionedSnapshotHolder<RouteIndexSnapshot, Long> routeIndexHolder =
+            new VersionedSnapshotHolder<>(RouteIndexSnapshot::version);
 
     public PermissionEndpointQueryAdapter(
             PermissionEndpointJpaRepository jpaRepository,
@@ -93,13 +101,10 @@ public class PermissionEndpointQueryAdapter implements PermissionEndpointQueryPo
     @Override
     public List<PermissionEndpoint> findMatchingEndpoints(
             String requestUrl, HttpMethod httpMethod) {
-        // Gateway용 매칭 로직 - 실제로는 더 정교한 URL 패턴 매칭이 필요할 수 있음
-        List<PermissionEndpointJpaEntity> entities =
-                queryDslRepository.findByUrlPatternLike(requestUrl);
-        return entities.stream()
-                .map(mapper::toDomain)
-                .filter(endpoint -> endpoint.matches(requestUrl, httpMethod))
-                .toList();
+        long version = queryDslRepository.findActiveSpecVersion().sequence();
+        RouteIndexSnapshot snapshot =
+                routeIndexHolder.getOrLoad(version, () -> loadRouteIndex(version));
+        return snapshot.index().resolveAll(httpMethod, requestUrl);
     }
 
     @Override
@@ -108,4 +113,12 @@ public class PermissionEndpointQueryAdapter implements PermissionEndpointQueryPo
                 queryDslRepository.findAllByUrlPatterns(urlPatterns);
         return entities.stream().map(mapper::toDomain).toList();
     }
+
+    private RouteIndexSnapshot loadRouteIndex(long version) {
+        List<PermissionEndpoint> endpoints =
+                queryDslRepository.findAllActive().stream().map(mapper::toDomain).toList();
+        return new RouteIndexSnapshot(version, PermissionEndpointRouteIndex.of(endpoints));
+    }
+
+    private record RouteIndexSnapshot(long version, PermissionEndpointRouteIndex index) {}
 }
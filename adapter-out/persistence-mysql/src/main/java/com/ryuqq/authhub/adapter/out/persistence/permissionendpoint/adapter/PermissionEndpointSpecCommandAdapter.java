@@ -0,0 +1,58 @@
+package com.ryuqq.authhub.adapter.out.persistence.permissionendpoint.adapter;
+
+import com.ryuqq.authhub.adapter.out.persistence.permissionendpoint.repository.PermissionSpecVersionJpaRepository;
+import com.ryuqq.authhub.application.common.time.TimeProvider;
+import com.ryuqq.authhub.application.permissionendpoint.port.out.command.PermissionEndpointSpecCommandPort;
+import java.util.Collection;
+import org.springframework.stereotype.Component;
+
+/**
+ * PermissionEndpointSpecCommandAdapter - Gateway용 엔드포인트-권한 스펙 버전 기록 Adapter
+ *
+ * <p>스펙 버전 카운터를 증가시켜 받은 번호를 변경된 엔드포인트의 {@code spec_version}에 기록합니다. 호출 측(Manager)
+ * 트랜잭션에 참여하므로 이 어댑터는 트랜잭션을 열지 않습니다.
+ *
+ * <p><strong>Zero-Tolerance 규칙:</strong>
+ *
+ * <ul>
+ *   <li>Port 구현체로 @Component 등록
+ *   <li>JpaRepository에 기록 로직 위임
+ *   <li>조회 메서드 금지 (QueryAdapter로 분리)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class PermissionEndpointSpecCommandAdapter implements PermissionEndpointSpecCommandPort {
+
+    private final PermissionSpecVersionJpaRepository specVersionRepository;
+    private final TimeProvider timeProvider;
+
+    public PermissionEndpointSpecCommandAdapter(
+            PermissionSpecVersionJpaRepository specVersionRepository, TimeProvider timeProvider) {
+        this.specVersionRepository = specVersionRepository;
+        this.timeProvider = timeProvider;
+    }
+
+    @Override
+    public long markChanged(Collection<Long> permissionEndpointIds) {
+        long specVersion = advance();
+        if (!permissionEndpointIds.isEmpty()) {
+            specVersionRepository.stampEndpoints(specVersion, permissionEndpointIds);
+        }
+        return specVersion;
+    }
+
+    @Override
+    public long markPermissionChanged(Long permissionId) {
+        long specVersion = advance();
+        specVersionRepository.stampEndpointsOfPermission(specVersion, permissionId);
+        return specVersion;
+    }
+
+    private long advance() {
+        specVersionRepository.advance(timeProvider.now());
+        return specVersionRepository.findCurrentVersion();
+    }
+}
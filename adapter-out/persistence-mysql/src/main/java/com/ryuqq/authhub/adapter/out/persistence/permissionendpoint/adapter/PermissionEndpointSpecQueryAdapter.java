@@ -1,7 +1,9 @@
 package com.ryuqq.authhub.adapter.out.persistence.permissionendpoint.adapter;
 
 import com.ryuqq.authhub.adapter.out.persistence.permissionendpoint.repository.PermissionEndpointQueryDslRepository;
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecChangeResult;
 import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecResult;
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecVersionResult;
 import com.ryuqq.authhub.application.permissionendpoint.port.out.query.PermissionEndpointSpecQueryPort;
 import java.time.Instant;
 import java.util.List;
@@ -41,4 +43,15 @@ public class PermissionEndpointSpecQueryAdapter implements PermissionEndpointSpe
     public Instant findLatestUpdatedAt() {
         return queryDslRepository.findLatestUpdatedAt();
     }
+
+    @Override
+    public EndpointPermissionSpecVersionResult findActiveSpecVersion() {
+        return queryDslRepository.findActiveSpecVersion();
+    }
+
+    @Override
+    public List<EndpointPermissionSpecChangeResult> findSpecChangesBetween(
+            long afterVersion, long upToVersion) {
+        return queryDslRepository.findSpecChangesBetween(afterVersion, upToVersion);
+    }
 }
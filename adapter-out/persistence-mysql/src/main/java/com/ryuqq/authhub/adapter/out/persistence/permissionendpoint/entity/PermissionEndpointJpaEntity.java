@@ -65,7 +65,9 @@ import java.time.Instant;
             @Index(name = "idx_permission_endpoints_service_name", columnList = "service_name"),
             @Index(name = "idx_permission_endpoints_url_pattern", columnList = "url_pattern"),
             @Index(name = "idx_permission_endpoints_http_method", columnList = "http_method"),
-            @Index(name = "idx_permission_endpoints_is_public", columnList = "is_public")
+            @Index(name = "idx_permission_endpoints_is_public", columnList = "is_public"),
+            @Index(name = "idx_permission_endpoints_updated_at", columnList = "updated_at"),
+            @Index(name = "idx_permission_endpoints_spec_version", columnList = "spec_version")
         })
 public class PermissionEndpointJpaEntity extends SoftDeletableEntity {
 
@@ -100,6 +102,19 @@ public class PermissionEndpointJpaEntity extends SoftDeletableEntity {
     @Column(name = "is_public", nullable = false)
     private boolean isPublic;
 
+    /**
+     * 마지막으로 이 엔드포인트를 바꾼 스펙 버전 (Gateway 변경분 조회 기준)
+     *
+     * <p>스펙 버전 카운터와 같은 트랜잭션에서 Native Query로만 기록하므로 엔티티 저장 시에는 쓰지 않습니다.
+     */
+    @Column(
+            name = "spec_version",
+            nullable = false,
+            insertable = false,
+            updatable = false,
+            columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private long specVersion;
+
     /**
      * JPA 기본 생성자 (protected)
      *
@@ -214,4 +229,8 @@ public class PermissionEndpointJpaEntity extends SoftDeletableEntity {
     public boolean isPublic() {
         return isPublic;
     }
+
+    public long getSpecVersion() {
+        return specVersion;
+    }
 }
@@ -0,0 +1,66 @@
+package com.ryuqq.authhub.adapter.out.persistence.permissionendpoint.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+
+/**
+ * PermissionSpecVersionJpaEntity - 엔드포인트-권한 스펙 버전 카운터 JPA Entity
+ *
+ * <p>Gateway 스펙 버전(ETag)과 변경분(delta) 조회 기준이 되는 단조 증가 번호를 단일 행({@link #SINGLETON_ID})으로
+ * 보관합니다.
+ *
+ * <p><strong>커밋 순서 보장:</strong>
+ *
+ * <ul>
+ *   <li>스펙을 바꾸는 트랜잭션은 이 행을 갱신해 번호를 올리고 변경된 엔드포인트에 같은 번호를 기록
+ *   <li>행 잠금으로 쓰기가 직렬화되므로 번호 순서가 커밋 순서와 같음
+ *   <li>번호 갱신은 Native Query로만 수행 (INSERT ... ON DUPLICATE KEY UPDATE)
+ * </ul>
+ *
+ * <p><strong>Zero-Tolerance 규칙:</strong>
+ *
+ * <ul>
+ *   <li>Lombok 사용 금지
+ *   <li>Setter 제공 금지
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Entity
+@Table(name = "permission_spec_versions")
+public class PermissionSpecVersionJpaEntity {
+
+    /** 카운터 행 ID (단일 행) */
+    public static final long SINGLETON_ID = 1L;
+
+    /** 카운터 행 ID (Primary Key) */
+    @Id
+    @Column(name = "id", nullable = false)
+    private Long id;
+
+    /** 현재 스펙 버전 */
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    /** 마지막 변경 시각 (UTC) */
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    protected PermissionSpecVersionJpaEntity() {}
+
+    public Long getId() {
+        return id;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -1,13 +1,20 @@
 package com.ryuqq.authhub.adapter.out.persistence.permissionendpoint.repository;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.ryuqq.authhub.adapter.out.persistence.permission.entity.QPermissionJpaEntity;
 import com.ryuqq.authhub.adapter.out.persistence.permissionendpoint.condition.PermissionEndpointConditionBuilder;
 import com.ryuqq.authhub.adapter.out.persistence.permissionendpoint.entity.PermissionEndpointJpaEntity;
+import com.ryuqq.authhub.adapter.out.persistence.permissionendpoint.entity.PermissionSpecVersionJpaEntity;
 import com.ryuqq.authhub.adapter.out.persistence.permissionendpoint.entity.QPermissionEndpointJpaEntity;
+import com.ryuqq.authhub.adapter.out.persistence.permissionendpoint.entity.QPermissionSpecVersionJpaEntity;
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecChangeResult;
 import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecResult;
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecVersionResult;
 import com.ryuqq.authhub.domain.permissionendpoint.query.criteria.PermissionEndpointSearchCriteria;
 import java.time.Instant;
 import java.util.List;
@@ -99,6 +106,18 @@ public class PermissionEndpointQueryDslRepository {
                 .fetch();
     }
 
+    /**
+     * 모든 활성 엔드포인트 조회 (라우트 인덱스 구성용)
+     *
+     * @return 삭제되지 않은 엔드포인트 목록
+     */
+    public List<PermissionEndpointJpaEntity> findAllActive() {
+        return queryFactory
+                .selectFrom(permissionEndpoint)
+                .where(permissionEndpoint.deletedAt.isNull())
+                .fetch();
+    }
+
     /**
      * URL 패턴 목록으로 엔드포인트 다건 조회 (벌크 동기화용)
      *
@@ -132,6 +151,7 @@ public class PermissionEndpointQueryDslRepository {
                 .select(
                         Projections.constructor(
                                 EndpointPermissionSpecResult.class,
+                                permissionEndpoint.permissionEndpointId,
                                 permissionEndpoint.serviceName,
                                 permissionEndpoint.urlPattern,
                                 permissionEndpoint.httpMethod.stringValue(),
@@ -157,4 +177,72 @@ public class PermissionEndpointQueryDslRepository {
                 .where(permissionEndpoint.deletedAt.isNull())
                 .fetchOne();
     }
+
+    /**
+     * 엔드포인트-권한 스펙 버전 조회 (Gateway ETag/변경분용)
+     *
+     * <p>스펙 버전 카운터 행을 PK로 조회합니다. 카운터 행이 없으면 버전 0으로 간주합니다.
+     *
+     * @return 스펙 버전 (단조 증가 번호 + 마지막 변경 시각)
+     */
+    public EndpointPermissionSpecVersionResult findActiveSpecVersion() {
+        QPermissionSpecVersionJpaEntity specVersion =
+                QPermissionSpecVersionJpaEntity.permissionSpecVersionJpaEntity;
+
+        Tuple tuple =
+                queryFactory
+                        .select(specVersion.version, specVersion.updatedAt)
+                        .from(specVersion)
+                        .where(specVersion.id.eq(PermissionSpecVersionJpaEntity.SINGLETON_ID))
+                        .fetchOne();
+
+        if (tuple == null) {
+            return EndpointPermissionSpecVersionResult.empty();
+        }
+        Long version = tuple.get(specVersion.version);
+        return EndpointPermissionSpecVersionResult.of(
+                version != null ? version : 0L, tuple.get(specVersion.updatedAt));
+    }
+
+    /**
+     * 스펙 버전 구간에 변경된 엔드포인트의 스펙 조회 (Gateway 변경분용)
+     *
+     * <p>{@code afterVersion < spec_version <= upToVersion}인 엔드포인트를 조회합니다. 엔드포인트 삭제와 연결된 권한 삭제도
+     * spec_version을 기록하므로 제외 대상까지 한 번에 포함됩니다. {@code idx_permission_endpoints_spec_version}
+     * 인덱스를 사용합니다.
+     *
+     * @param afterVersion 기준 스펙 버전 (제외)
+     * @param upToVersion 현재 스펙 버전 (포함)
+     * @return 변경된 스펙 목록 (삭제 여부 포함)
+     */
+    public List<EndpointPermissionSpecChangeResult> findSpecChangesBetween(
+            long afterVersion, long upToVersion) {
+        return fetchSpecChanges(
+                permissionEndpoint.specVersion.gt(afterVersion),
+                permissionEndpoint.specVersion.loe(upToVersion));
+    }
+
+    private List<EndpointPermissionSpecChangeResult> fetchSpecChanges(Predicate... conditions) {
+        QPermissionJpaEntity permission = QPermissionJpaEntity.permissionJpaEntity;
+        ConstructorExpression<EndpointPermissionSpecChangeResult> projection =
+                Projections.constructor(
+                        EndpointPermissionSpecChangeResult.class,
+                        permissionEndpoint.permissionEndpointId,
+                        permissionEndpoint.serviceName,
+                        permissionEndpoint.urlPattern,
+                        permissionEndpoint.httpMethod.stringValue(),
+                        permission.permissionKey,
+                        permissionEndpoint.isPublic,
+                        permissionEndpoint.description,
+                        permissionEndpoint.deletedAt,
+                        permission.deletedAt);
+
+        return queryFactory
+                .select(projection)
+                .from(permissionEndpoint)
+                .join(permission)
+                .on(permissionEndpoint.permissionId.eq(permission.permissionId))
+                .where(conditions)
+                .fetch();
+    }
 }
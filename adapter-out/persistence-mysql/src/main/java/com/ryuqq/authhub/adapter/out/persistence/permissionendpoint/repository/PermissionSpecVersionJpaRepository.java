@@ -0,0 +1,108 @@
+package com.ryuqq.authhub.adapter.out.persistence.permissionendpoint.repository;
+
+import com.ryuqq.authhub.adapter.out.persistence.permissionendpoint.entity.PermissionSpecVersionJpaEntity;
+import java.time.Instant;
+import java.util.Collection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * PermissionSpecVersionJpaRepository - 엔드포인트-권한 스펙 버전 JPA Repository (Command 전용)
+ *
+ * <p><strong>책임:</strong>
+ *
+ * <ul>
+ *   <li>advance() - 스펙 버전 카운터 증가 (행 잠금 획득)
+ *   <li>findCurrentVersion() - 증가시킨 번호 조회
+ *   <li>stampEndpoints*() - 변경된 엔드포인트에 스펙 버전 기록
+ * </ul>
+ *
+ * <p>모든 메서드는 호출 측 트랜잭션에 참여합니다. 카운터 증가와 엔드포인트 기록이 엔드포인트/권한 변경과 같은 트랜잭션에서
+ * 커밋되어야 번호 순서가 커밋 순서와 같아집니다.
+ *
+ * <p><strong>Zero-Tolerance 규칙:</strong>
+ *
+ * <ul>
+ *   <li>조회 로직은 QueryDslRepository에서 처리
+ *   <li>spec_version은 엔티티 저장으로 쓰지 않고 이 Repository로만 기록
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Repository
+public interface PermissionSpecVersionJpaRepository
+        extends JpaRepository<PermissionSpecVersionJpaEntity, Long> {
+
+    /**
+     * 스펙 버전 카운터 증가
+     *
+     * <p>카운터 행이 없으면 1로 만들고, 있으면 1 증가시킵니다. 갱신한 행의 잠금은 트랜잭션 종료까지 유지되어 다른 쓰기 트랜잭션의
+     * 증가를 커밋 시점까지 대기시킵니다.
+     *
+     * @param updatedAt 변경 시각 (UTC)
+     * @return 영향받은 행 수
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query(
+            value =
+                    "INSERT INTO permission_spec_versions (id, version, updated_at)"
+                            + " VALUES (1, 1, :updatedAt)"
+                            + " ON DUPLICATE KEY UPDATE version = version + 1,"
+                            + " updated_at = :updatedAt",
+            nativeQuery = true)
+    int advance(@Param("updatedAt") Instant updatedAt);
+
+    /**
+     * 현재 스펙 버전 조회
+     *
+     * <p>{@link #advance(Instant)} 직후 같은 트랜잭션에서 호출해 이 트랜잭션이 받은 번호를 읽습니다.
+     *
+     * @return 현재 스펙 버전
+     */
+    @Query(value = "SELECT version FROM permission_spec_versions WHERE id = 1", nativeQuery = true)
+    long findCurrentVersion();
+
+    /**
+     * 엔드포인트 ID 목록에 스펙 버전 기록
+     *
+     * @param specVersion 기록할 스펙 버전
+     * @param permissionEndpointIds 변경된 엔드포인트 ID 목록
+     * @return 영향받은 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query(
+            value =
+                    "UPDATE permission_endpoints SET spec_version = :specVersion"
+                            + " WHERE permission_endpoint_id IN (:permissionEndpointIds)",
+            nativeQuery = true)
+    int stampEndpoints(
+            @Param("specVersion") long specVersion,
+            @Param("permissionEndpointIds") Collection<Long> permissionEndpointIds);
+
+    /**
+     * 권한에 연결된 활성 엔드포인트에 스펙 버전 기록
+     *
+     * <p>권한 삭제처럼 엔드포인트 행은 그대로인데 스펙에서 제외되는 변경에 사용합니다. 이미 삭제된 엔드포인트는 Gateway가 이미
+     * 제외했으므로 기록하지 않습니다. {@code idx_permission_endpoints_permission_id} 인덱스를 사용합니다.
+     *
+     * @param specVersion 기록할 스펙 버전
+     * @param permissionId 권한 ID
+     * @return 영향받은 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query(
+            value =
+                    "UPDATE permission_endpoints SET spec_version = :specVersion"
+                            + " WHERE permission_id = :permissionId AND deleted_at IS NULL",
+            nativeQuery = true)
+    int stampEndpointsOfPermission(
+            @Param("specVersion") long specVersion, @Param("permissionId") Long permissionId);
+}
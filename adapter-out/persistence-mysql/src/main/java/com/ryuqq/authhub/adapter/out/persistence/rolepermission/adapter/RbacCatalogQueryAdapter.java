@@ -0,0 +1,37 @@
+package com.ryuqq.authhub.adapter.out.persistence.rolepermission.adapter;
+
+import com.ryuqq.authhub.adapter.out.persistence.rolepermission.repository.RolePermissionQueryDslRepository;
+import com.ryuqq.authhub.application.rolepermission.dto.response.RbacCatalogEntryResult;
+import com.ryuqq.authhub.application.rolepermission.port.out.query.RbacCatalogQueryPort;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * RbacCatalogQueryAdapter - RBAC 카탈로그 적재용 역할-권한 조회 Adapter
+ *
+ * <p>Role, RolePermission, Permission을 단일 쿼리로 조인하여 인메모리 RBAC 카탈로그 구성에 필요한 정보를 제공합니다.
+ *
+ * <p><strong>Zero-Tolerance 규칙:</strong>
+ *
+ * <ul>
+ *   <li>Port 구현체로 @Component 등록
+ *   <li>Application DTO 반환 (조인 쿼리이므로 예외적으로 DTO 직접 반환)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class RbacCatalogQueryAdapter implements RbacCatalogQueryPort {
+
+    private final RolePermissionQueryDslRepository queryDslRepository;
+
+    public RbacCatalogQueryAdapter(RolePermissionQueryDslRepository queryDslRepository) {
+        this.queryDslRepository = queryDslRepository;
+    }
+
+    @Override
+    public List<RbacCatalogEntryResult> findAllActiveEntries() {
+        return queryDslRepository.findAllActiveCatalogEntries();
+    }
+}
@@ -4,9 +4,13 @@ import static com.ryuqq.authhub.adapter.out.persistence.rolepermission.entity.QR
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ryuqq.authhub.adapter.out.persistence.permission.entity.QPermissionJpaEntity;
+import com.ryuqq.authhub.adapter.out.persistence.role.entity.QRoleJpaEntity;
 import com.ryuqq.authhub.adapter.out.persistence.rolepermission.condition.RolePermissionConditionBuilder;
 import com.ryuqq.authhub.adapter.out.persistence.rolepermission.entity.RolePermissionJpaEntity;
+import com.ryuqq.authhub.application.rolepermission.dto.response.RbacCatalogEntryResult;
 import com.ryuqq.authhub.domain.rolepermission.query.criteria.RolePermissionSearchCriteria;
 import java.util.List;
 import java.util.Optional;
@@ -27,6 +31,7 @@ import org.springframework.stereotype.Repository;
  *   <li>existsByPermissionId() - 권한 사용 여부 확인
  *   <li>findAllByCriteria() - 조건 검색
  *   <li>countByCriteria() - 조건 검색 개수
+ *   <li>findAllActiveCatalogEntries() - RBAC 카탈로그 적재용 전체 역할-권한 조인 조회
  * </ul>
  *
  * <p><strong>CQRS 패턴:</strong>
@@ -212,4 +217,37 @@ public class RolePermissionQueryDslRepository {
                 .where(conditionBuilder.roleIdIn(roleIds))
                 .fetch();
     }
+
+    /**
+     * RBAC 카탈로그 적재용 전체 활성 역할-권한 목록 조회 (단일 조인 쿼리)
+     *
+     * <ul>
+     *   <li>roles: deleted_at IS NULL (삭제된 역할 제외)
+     *   <li>role_permissions/permissions: LEFT JOIN (권한이 없는 역할도 카탈로그에 포함)
+     *   <li>permissions.deleted_at IS NULL 조건은 ON 절에 두어 삭제된 권한만 null로 만들고 역할 행은 유지
+     * </ul>
+     *
+     * @return (역할 ID, 역할 이름, 권한 키) 목록
+     */
+    public List<RbacCatalogEntryResult> findAllActiveCatalogEntries() {
+        QRoleJpaEntity role = QRoleJpaEntity.roleJpaEntity;
+        QPermissionJpaEntity permission = QPermissionJpaEntity.permissionJpaEntity;
+
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                RbacCatalogEntryResult.class,
+                                role.roleId,
+                                role.name,
+                                permission.permissionKey))
+                .from(role)
+                .leftJoin(rolePermissionJpaEntity)
+                .on(rolePermissionJpaEntity.roleId.eq(role.roleId))
+                .leftJoin(permission)
+                .on(
+                        rolePermissionJpaEntity.permissionId.eq(permission.permissionId),
+                        permission.deletedAt.isNull())
+                .where(role.deletedAt.isNull())
+                .fetch();
+    }
 }
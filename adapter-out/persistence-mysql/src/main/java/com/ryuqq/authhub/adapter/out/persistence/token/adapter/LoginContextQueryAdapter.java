@@ -0,0 +1,55 @@
+package com.ryuqq.authhub.adapter.out.persistence.token.adapter;
+
+import com.ryuqq.authhub.adapter.out.persistence.token.mapper.LoginContextMapper;
+import com.ryuqq.authhub.adapter.out.persistence.token.repository.LoginContextQueryDslRepository;
+import com.ryuqq.authhub.application.token.dto.composite.LoginContextComposite;
+import com.ryuqq.authhub.application.token.port.out.query.LoginContextQueryPort;
+import com.ryuqq.authhub.domain.user.id.UserId;
+import com.ryuqq.authhub.domain.user.vo.Identifier;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+/**
+ * LoginContextQueryAdapter - 로그인 컨텍스트 조회 Adapter
+ *
+ * <p>LoginContextQueryPort 구현체입니다.
+ *
+ * <p><strong>1:1 매핑 원칙:</strong>
+ *
+ * <ul>
+ *   <li>Repository (1개) + Mapper (1개)
+ *   <li>필드 2개만 허용
+ * </ul>
+ *
+ * <p><strong>책임:</strong>
+ *
+ * <ul>
+ *   <li>Repository 조회 결과를 Mapper로 Application DTO 변환
+ *   <li>도메인 VO와 Persistence 타입 간 변환
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class LoginContextQueryAdapter implements LoginContextQueryPort {
+
+    private final LoginContextQueryDslRepository repository;
+    private final LoginContextMapper mapper;
+
+    public LoginContextQueryAdapter(
+            LoginContextQueryDslRepository repository, LoginContextMapper mapper) {
+        this.repository = repository;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Optional<LoginContextComposite> findByIdentifier(Identifier identifier) {
+        return repository.findByIdentifier(identifier.value()).map(mapper::toComposite);
+    }
+
+    @Override
+    public Optional<LoginContextComposite> findByUserId(UserId userId) {
+        return repository.findByUserId(userId.value()).map(mapper::toComposite);
+    }
+}
@@ -1,6 +1,7 @@
 package com.ryuqq.authhub.adapter.out.persistence.token.adapter;
 
 import com.ryuqq.authhub.adapter.out.persistence.token.entity.RefreshTokenJpaEntity;
+import com.ryuqq.authhub.adapter.out.persistence.token.mapper.RefreshTokenJpaEntityMapper;
 import com.ryuqq.authhub.adapter.out.persistence.token.repository.RefreshTokenJpaRepository;
 import com.ryuqq.authhub.adapter.out.persistence.token.repository.RefreshTokenQueryDslRepository;
 import com.ryuqq.authhub.application.common.time.TimeProvider;
@@ -21,8 +22,12 @@ import org.springframework.transaction.annotation.Transactional;
  * <ul>
  *   <li>TimeProvider.now()로 현재 시각 획득 (Instant)
  *   <li>Entity 저장 시 Instant (UTC) 직접 전달
+ *   <li>만료 시각 = 현재 시각 + 만료 시간 (초)
  * </ul>
  *
+ * <p><strong>토큰 저장:</strong> SHA-256 다이제스트로 저장합니다. 확장 단계(V8) 동안에는 이전 버전 인스턴스가 조회할 수 있도록
+ * 원문도 함께 기록합니다 (수축 단계에서 제거).
+ *
  * <p><strong>Zero-Tolerance 규칙:</strong>
  *
  * <ul>
@@ -39,14 +44,17 @@ public class RefreshTokenCommandAdapter implements RefreshTokenCommandPort {
 
     private final RefreshTokenJpaRepository refreshTokenJpaRepository;
     private final RefreshTokenQueryDslRepository refreshTokenQueryDslRepository;
+    private final RefreshTokenJpaEntityMapper refreshTokenJpaEntityMapper;
     private final TimeProvider timeProvider;
 
     public RefreshTokenCommandAdapter(
             RefreshTokenJpaRepository refreshTokenJpaRepository,
             RefreshTokenQueryDslRepository refreshTokenQueryDslRepository,
+            RefreshTokenJpaEntityMapper refreshTokenJpaEntityMapper,
             TimeProvider timeProvider) {
         this.refreshTokenJpaRepository = refreshTokenJpaRepository;
         this.refreshTokenQueryDslRepository = refreshTokenQueryDslRepository;
+        this.refreshTokenJpaEntityMapper = refreshTokenJpaEntityMapper;
         this.timeProvider = timeProvider;
     }
 
@@ -57,22 +65,29 @@ public class RefreshTokenCommandAdapter implements RefreshTokenCommandPort {
      *
      * @param userId 사용자 ID (Value Object)
      * @param refreshToken RefreshToken 문자열
+     * @param expiresInSeconds 만료 시간 (초)
      */
     @Override
     @Transactional
-    public void persist(UserId userId, String refreshToken) {
+    public void persist(UserId userId, String refreshToken, long expiresInSeconds) {
         Instant now = timeProvider.now();
+        Instant expiresAt = now.plusSeconds(expiresInSeconds);
+        byte[] tokenHash = refreshTokenJpaEntityMapper.toTokenHash(refreshToken);
 
         refreshTokenQueryDslRepository
                 .findByUserId(UUID.fromString(userId.value()))
                 .ifPresentOrElse(
-                        existingEntity -> existingEntity.updateToken(refreshToken, now),
+                        existingEntity ->
+                                existingEntity.updateToken(
+                                        refreshToken, tokenHash, expiresAt, now),
                         () -> {
                             RefreshTokenJpaEntity newEntity =
                                     RefreshTokenJpaEntity.forNew(
                                             UUID.randomUUID(),
                                             UUID.fromString(userId.value()),
                                             refreshToken,
+                                            tokenHash,
+                                            expiresAt,
                                             now);
                             refreshTokenJpaRepository.save(newEntity);
                         });
@@ -1,8 +1,12 @@
 package com.ryuqq.authhub.adapter.out.persistence.token.adapter;
 
+import com.ryuqq.authhub.adapter.out.persistence.token.entity.RefreshTokenJpaEntity;
+import com.ryuqq.authhub.adapter.out.persistence.token.mapper.RefreshTokenJpaEntityMapper;
 import com.ryuqq.authhub.adapter.out.persistence.token.repository.RefreshTokenQueryDslRepository;
+import com.ryuqq.authhub.application.token.dto.response.RefreshTokenOwnerResult;
 import com.ryuqq.authhub.application.token.port.out.query.RefreshTokenQueryPort;
 import com.ryuqq.authhub.domain.user.id.UserId;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.stereotype.Component;
@@ -27,22 +31,13 @@ import org.springframework.stereotype.Component;
 public class RefreshTokenQueryAdapter implements RefreshTokenQueryPort {
 
     private final RefreshTokenQueryDslRepository refreshTokenQueryDslRepository;
+    private final RefreshTokenJpaEntityMapper refreshTokenJpaEntityMapper;
 
-    public RefreshTokenQueryAdapter(RefreshTokenQueryDslRepository refreshTokenQueryDslRepository) {
+    public RefreshTokenQueryAdapter(
+            RefreshTokenQueryDslRepository refreshTokenQueryDslRepository,
+            RefreshTokenJpaEntityMapper refreshTokenJpaEntityMapper) {
         this.refreshTokenQueryDslRepository = refreshTokenQueryDslRepository;
-    }
-
-    /**
-     * UserId로 RefreshToken 조회
-     *
-     * @param userId 사용자 ID (Value Object)
-     * @return RefreshToken 문자열 (Optional)
-     */
-    @Override
-    public Optional<String> findByUserId(UserId userId) {
-        return refreshTokenQueryDslRepository
-                .findByUserId(UUID.fromString(userId.value()))
-                .map(entity -> entity.getToken());
+        this.refreshTokenJpaEntityMapper = refreshTokenJpaEntityMapper;
     }
 
     /**
@@ -57,15 +52,29 @@ public class RefreshTokenQueryAdapter implements RefreshTokenQueryPort {
     }
 
     /**
-     * RefreshToken으로 UserId 조회
+     * RefreshToken으로 소유자 조회
+     *
+     * <p>토큰을 SHA-256 다이제스트로 변환하여 인덱스로 조회합니다.
+     *
+     * <p><strong>확장 단계 호환:</strong> 이전 버전 인스턴스는 token 컬럼만 기록/갱신하므로, 다이제스트로 찾은 행의 원문이 다르면
+     * (이전 버전이 교체한 행) 폐기된 토큰으로 보고, 다이제스트로 찾지 못하면 원문으로 다시 조회합니다.
      *
      * @param refreshToken RefreshToken 문자열
-     * @return UserId (Optional)
+     * @param now 만료 판단 기준 시각
+     * @return 소유자 ID와 만료 시각 (Optional)
      */
     @Override
-    public Optional<UserId> findUserIdByToken(String refreshToken) {
+    public Optional<RefreshTokenOwnerResult> findOwnerByToken(String refreshToken, Instant now) {
+        Optional<RefreshTokenJpaEntity> byHash =
+                refreshTokenQueryDslRepository.findActiveByTokenHash(
+                        refreshTokenJpaEntityMapper.toTokenHash(refreshToken), now);
+        if (byHash.isPresent()) {
+            return byHash.filter(entity -> refreshToken.equals(entity.getToken()))
+                    .map(refreshTokenJpaEntityMapper::toOwnerResult);
+        }
         return refreshTokenQueryDslRepository
-                .findByToken(refreshToken)
-                .map(entity -> UserId.of(entity.getUserId().toString()));
+                .findByLegacyToken(
+                        refreshToken, now.minus(RefreshTokenJpaEntityMapper.LEGACY_EXPIRES_IN))
+                .map(refreshTokenJpaEntityMapper::toLegacyOwnerResult);
     }
 }
@@ -5,6 +5,7 @@ import com.ryuqq.authhub.adapter.out.persistence.token.repository.UserContextCom
 import com.ryuqq.authhub.application.token.dto.composite.UserContextComposite;
 import com.ryuqq.authhub.application.token.port.out.query.UserContextCompositeQueryPort;
 import com.ryuqq.authhub.domain.user.id.UserId;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.stereotype.Component;
 
@@ -46,4 +47,12 @@ public class UserContextCompositeQueryAdapter implements UserContextCompositeQue
     public Optional<UserContextComposite> findUserContextByUserId(UserId userId) {
         return repository.findUserContextByUserId(userId.value()).map(mapper::toComposite);
     }
+
+    @Override
+    public List<UserContextComposite> findUserContextsByUserIds(List<UserId> userIds) {
+        List<String> values = userIds.stream().map(UserId::value).toList();
+        return repository.findUserContextsByUserIds(values).stream()
+                .map(mapper::toComposite)
+                .toList();
+    }
 }
@@ -6,6 +6,7 @@ import static com.ryuqq.authhub.adapter.out.persistence.user.entity.QUserJpaEnti
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import java.util.List;
 import org.springframework.stereotype.Component;
 
 /**
@@ -43,6 +44,36 @@ public class UserContextCompositeConditionBuilder {
         return builder;
     }
 
+    /**
+     * 여러 사용자 ID로 조회하는 전체 조건 생성
+     *
+     * @param userIds 사용자 ID 목록 (String)
+     * @return BooleanBuilder
+     */
+    public BooleanBuilder buildConditionByUserIds(List<String> userIds) {
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(userIdIn(userIds));
+        builder.and(userNotDeleted());
+        builder.and(organizationNotDeleted());
+        builder.and(tenantNotDeleted());
+        return builder;
+    }
+
+    /**
+     * 로그인 식별자로 조회하는 전체 조건 생성
+     *
+     * @param identifier 로그인 식별자
+     * @return BooleanBuilder
+     */
+    public BooleanBuilder buildConditionByIdentifier(String identifier) {
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(identifierEquals(identifier));
+        builder.and(userNotDeleted());
+        builder.and(organizationNotDeleted());
+        builder.and(tenantNotDeleted());
+        return builder;
+    }
+
     /**
      * 사용자 ID 일치 조건
      *
@@ -53,6 +84,26 @@ public class UserContextCompositeConditionBuilder {
         return userId != null ? userJpaEntity.userId.eq(userId) : null;
     }
 
+    /**
+     * 사용자 ID 목록 포함 조건
+     *
+     * @param userIds 사용자 ID 목록 (String)
+     * @return BooleanExpression (null 허용)
+     */
+    public BooleanExpression userIdIn(List<String> userIds) {
+        return userIds != null && !userIds.isEmpty() ? userJpaEntity.userId.in(userIds) : null;
+    }
+
+    /**
+     * 로그인 식별자 일치 조건
+     *
+     * @param identifier 로그인 식별자
+     * @return BooleanExpression (null 허용)
+     */
+    public BooleanExpression identifierEquals(String identifier) {
+        return identifier != null ? userJpaEntity.identifier.eq(identifier) : null;
+    }
+
     /**
      * User 삭제되지 않은 항목만 조건
      *
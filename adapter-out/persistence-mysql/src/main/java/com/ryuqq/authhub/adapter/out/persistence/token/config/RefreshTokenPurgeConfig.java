@@ -0,0 +1,16 @@
+package com.ryuqq.authhub.adapter.out.persistence.token.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * RefreshToken 정리(Purge) 설정
+ *
+ * <p>만료 RefreshToken 정리 작업에서 사용하는 Properties를 등록합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(RefreshTokenPurgeProperties.class)
+public class RefreshTokenPurgeConfig {}
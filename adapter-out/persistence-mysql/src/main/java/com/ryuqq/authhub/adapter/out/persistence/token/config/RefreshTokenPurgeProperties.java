@@ -0,0 +1,84 @@
+package com.ryuqq.authhub.adapter.out.persistence.token.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 만료 RefreshToken 정리(Purge) Properties
+ *
+ * <p>persistence.yml의 persistence.refresh-token.purge 설정을 매핑합니다.
+ *
+ * <p>사용 예시:
+ *
+ * <pre>
+ * persistence:
+ *   refresh-token:
+ *     purge:
+ *       enabled: true
+ *       interval: 10m
+ *       batch-size: 1000
+ *       max-batches-per-run: 100
+ *       lock-lease-time: 10m
+ * </pre>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "persistence.refresh-token.purge")
+public class RefreshTokenPurgeProperties {
+
+    /** 정리 작업 활성화 여부 */
+    private boolean enabled = true;
+
+    /** 정리 주기 (이전 실행 종료 시점 기준) */
+    private Duration interval = Duration.ofMinutes(10);
+
+    /** 배치당 최대 삭제 건수 (배치마다 별도 트랜잭션) */
+    private int batchSize = 1000;
+
+    /** 1회 실행당 최대 배치 수 (남은 건은 다음 주기에 정리) */
+    private int maxBatchesPerRun = 100;
+
+    /** 실행 분산락 유지 시간 (1회 실행 최대 소요 시간보다 길게 설정) */
+    private Duration lockLeaseTime = Duration.ofMinutes(10);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getInterval() {
+        return interval;
+    }
+
+    public void setInterval(Duration interval) {
+        this.interval = interval;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxBatchesPerRun() {
+        return maxBatchesPerRun;
+    }
+
+    public void setMaxBatchesPerRun(int maxBatchesPerRun) {
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    public Duration getLockLeaseTime() {
+        return lockLeaseTime;
+    }
+
+    public void setLockLeaseTime(Duration lockLeaseTime) {
+        this.lockLeaseTime = lockLeaseTime;
+    }
+}
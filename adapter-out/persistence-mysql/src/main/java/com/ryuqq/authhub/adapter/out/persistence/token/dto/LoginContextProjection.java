@@ -0,0 +1,29 @@
+package com.ryuqq.authhub.adapter.out.persistence.token.dto;
+
+import com.ryuqq.authhub.domain.user.vo.UserStatus;
+
+/**
+ * LoginContextProjection - 로그인 컨텍스트 조인 조회 결과 Projection
+ *
+ * <p>로그인/토큰 갱신용 User, Organization, Tenant 조인 쿼리 결과를 담는 DTO입니다.
+ *
+ * @param userId 사용자 ID
+ * @param identifier 로그인 식별자
+ * @param hashedPassword 해시된 비밀번호
+ * @param status 사용자 상태
+ * @param tenantId 테넌트 ID
+ * @param tenantName 테넌트 이름
+ * @param organizationId 조직 ID
+ * @param organizationName 조직 이름
+ * @author development-team
+ * @since 1.0.0
+ */
+public record LoginContextProjection(
+        String userId,
+        String identifier,
+        String hashedPassword,
+        UserStatus status,
+        String tenantId,
+        String tenantName,
+        String organizationId,
+        String organizationName) {}
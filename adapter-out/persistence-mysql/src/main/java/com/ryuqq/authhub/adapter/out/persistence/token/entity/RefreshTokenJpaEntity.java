@@ -28,11 +28,21 @@ import java.util.UUID;
  * <ul>
  *   <li>UUID refreshTokenId ← PK (UUIDv7)
  *   <li>UUID userId ← UserId.value() (UUID FK 전략)
- *   <li>String token ← RefreshToken 문자열
+ *   <li>String token ← RefreshToken 원문 (확장 단계 이중 기록용, 수축 단계에서 제거)
+ *   <li>byte[] tokenHash ← RefreshToken 문자열의 SHA-256 다이제스트 (32바이트)
+ *   <li>Instant expiresAt ← 만료 시각 (UTC)
  *   <li>Instant createdAt ← 생성 시각 (UTC)
  *   <li>Instant updatedAt ← 갱신 시각 (UTC)
  * </ul>
  *
+ * <p><strong>다이제스트 조회:</strong> 토큰은 다이제스트로 조회합니다. 고정 길이 컬럼의 유니크 인덱스로 토큰 조회가 인덱스
+ * 탐색(O(log n))으로 처리됩니다.
+ *
+ * <p><strong>확장/수축(Expand/Contract) 마이그레이션:</strong> 무중단 배포 중에는 이전 버전 인스턴스가 {@code token} 컬럼으로
+ * 토큰을 기록/조회하므로, 확장 단계(V8)에서는 원문과 다이제스트를 함께 기록합니다. 모든 인스턴스가 이 버전으로 교체된 뒤 수축 단계에서
+ * {@code token} 컬럼과 이중 기록을 제거하면 다이제스트만 남습니다. 이전 버전이 기록한 행은 {@code token_hash}/{@code
+ * expires_at}이 비어 있을 수 있습니다.
+ *
  * <p><strong>Zero-Tolerance 규칙:</strong>
  *
  * <ul>
@@ -50,9 +60,15 @@ import java.util.UUID;
         uniqueConstraints = {
             @UniqueConstraint(
                     name = "uk_refresh_tokens_user_id",
-                    columnNames = {"user_id"})
+                    columnNames = {"user_id"}),
+            @UniqueConstraint(
+                    name = "uk_refresh_tokens_token_hash",
+                    columnNames = {"token_hash"})
         },
-        indexes = {@Index(name = "idx_refresh_tokens_user_id", columnList = "user_id")})
+        indexes = {
+            @Index(name = "idx_refresh_tokens_user_id", columnList = "user_id"),
+            @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+        })
 public class RefreshTokenJpaEntity {
 
     /** RefreshToken UUID - UUIDv7 (Primary Key) */
@@ -64,10 +80,18 @@ public class RefreshTokenJpaEntity {
     @Column(name = "user_id", nullable = false, columnDefinition = "BINARY(16)")
     private UUID userId;
 
-    /** RefreshToken 문자열 */
+    /** RefreshToken 원문 (확장 단계 이중 기록용) */
     @Column(name = "token", nullable = false, length = 2000)
     private String token;
 
+    /** RefreshToken SHA-256 다이제스트 (이전 버전이 기록한 행은 null) */
+    @Column(name = "token_hash", columnDefinition = "BINARY(32)")
+    private byte[] tokenHash;
+
+    /** 만료 시각 (UTC, 이전 버전이 기록한 행은 null) */
+    @Column(name = "expires_at")
+    private Instant expiresAt;
+
     /** 생성 시각 (UTC) */
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
@@ -79,10 +103,18 @@ public class RefreshTokenJpaEntity {
     protected RefreshTokenJpaEntity() {}
 
     private RefreshTokenJpaEntity(
-            UUID refreshTokenId, UUID userId, String token, Instant createdAt, Instant updatedAt) {
+            UUID refreshTokenId,
+            UUID userId,
+            String token,
+            byte[] tokenHash,
+            Instant expiresAt,
+            Instant createdAt,
+            Instant updatedAt) {
         this.refreshTokenId = refreshTokenId;
         this.userId = userId;
         this.token = token;
+        this.tokenHash = tokenHash;
+        this.expiresAt = expiresAt;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
@@ -92,13 +124,21 @@ public class RefreshTokenJpaEntity {
      *
      * @param refreshTokenId RefreshToken UUID (PK)
      * @param userId 사용자 ID (UUID)
-     * @param token RefreshToken 문자열
+     * @param token RefreshToken 원문
+     * @param tokenHash RefreshToken SHA-256 다이제스트
+     * @param expiresAt 만료 시각 (UTC)
      * @param createdAt 생성 시각 (UTC)
      * @return RefreshTokenJpaEntity
      */
     public static RefreshTokenJpaEntity forNew(
-            UUID refreshTokenId, UUID userId, String token, Instant createdAt) {
-        return new RefreshTokenJpaEntity(refreshTokenId, userId, token, createdAt, createdAt);
+            UUID refreshTokenId,
+            UUID userId,
+            String token,
+            byte[] tokenHash,
+            Instant expiresAt,
+            Instant createdAt) {
+        return new RefreshTokenJpaEntity(
+                refreshTokenId, userId, token, tokenHash, expiresAt, createdAt, createdAt);
     }
 
     /**
@@ -106,24 +146,38 @@ public class RefreshTokenJpaEntity {
      *
      * @param refreshTokenId RefreshToken UUID (PK)
      * @param userId 사용자 ID (UUID)
-     * @param token RefreshToken 문자열
+     * @param token RefreshToken 원문
+     * @param tokenHash RefreshToken SHA-256 다이제스트
+     * @param expiresAt 만료 시각 (UTC)
      * @param createdAt 생성 시각 (UTC)
      * @param updatedAt 갱신 시각 (UTC)
      * @return RefreshTokenJpaEntity
      */
     public static RefreshTokenJpaEntity of(
-            UUID refreshTokenId, UUID userId, String token, Instant createdAt, Instant updatedAt) {
-        return new RefreshTokenJpaEntity(refreshTokenId, userId, token, createdAt, updatedAt);
+            UUID refreshTokenId,
+            UUID userId,
+            String token,
+            byte[] tokenHash,
+            Instant expiresAt,
+            Instant createdAt,
+            Instant updatedAt) {
+        return new RefreshTokenJpaEntity(
+                refreshTokenId, userId, token, tokenHash, expiresAt, createdAt, updatedAt);
     }
 
     /**
      * RefreshToken 갱신
      *
-     * @param newToken 새로운 토큰 문자열
+     * @param newToken 새로운 토큰 원문
+     * @param newTokenHash 새로운 토큰의 SHA-256 다이제스트
+     * @param newExpiresAt 새로운 만료 시각 (UTC)
      * @param updatedAt 갱신 시각 (UTC)
      */
-    public void updateToken(String newToken, Instant updatedAt) {
+    public void updateToken(
+            String newToken, byte[] newTokenHash, Instant newExpiresAt, Instant updatedAt) {
         this.token = newToken;
+        this.tokenHash = newTokenHash;
+        this.expiresAt = newExpiresAt;
         this.updatedAt = updatedAt;
     }
 
@@ -139,6 +193,14 @@ public class RefreshTokenJpaEntity {
         return token;
     }
 
+    public byte[] getTokenHash() {
+        return tokenHash;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,44 @@
+package com.ryuqq.authhub.adapter.out.persistence.token.mapper;
+
+import com.ryuqq.authhub.adapter.out.persistence.token.dto.LoginContextProjection;
+import com.ryuqq.authhub.application.token.dto.composite.LoginContextComposite;
+import com.ryuqq.authhub.domain.user.id.UserId;
+import com.ryuqq.authhub.domain.user.vo.HashedPassword;
+import org.springframework.stereotype.Component;
+
+/**
+ * LoginContextMapper - Projection → Application DTO 변환 Mapper
+ *
+ * <p>Persistence Layer의 Projection을 Application Layer의 Composite DTO로 변환합니다.
+ *
+ * <p><strong>변환 책임:</strong>
+ *
+ * <ul>
+ *   <li>LoginContextProjection → LoginContextComposite
+ *   <li>userId, hashedPassword → 도메인 VO
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class LoginContextMapper {
+
+    /**
+     * Projection → Composite 변환
+     *
+     * @param projection 조인 조회 결과
+     * @return Application layer Composite DTO
+     */
+    public LoginContextComposite toComposite(LoginContextProjection projection) {
+        return new LoginContextComposite(
+                UserId.of(projection.userId()),
+                projection.identifier(),
+                HashedPassword.of(projection.hashedPassword()),
+                projection.status(),
+                projection.tenantId(),
+                projection.tenantName(),
+                projection.organizationId(),
+                projection.organizationName());
+    }
+}
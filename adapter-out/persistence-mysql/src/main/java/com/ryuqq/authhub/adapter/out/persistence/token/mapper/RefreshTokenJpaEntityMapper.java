@@ -0,0 +1,78 @@
+package com.ryuqq.authhub.adapter.out.persistence.token.mapper;
+
+import com.ryuqq.authhub.adapter.out.persistence.token.entity.RefreshTokenJpaEntity;
+import com.ryuqq.authhub.application.token.dto.response.RefreshTokenOwnerResult;
+import com.ryuqq.authhub.domain.user.id.UserId;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import org.springframework.stereotype.Component;
+
+/**
+ * RefreshTokenJpaEntityMapper - RefreshToken 저장 형식 변환 Mapper
+ *
+ * <p>RefreshToken 원문을 저장/조회 키인 SHA-256 다이제스트로 변환하고, Entity를 Application DTO로 변환합니다.
+ *
+ * <p><strong>변환 책임:</strong>
+ *
+ * <ul>
+ *   <li>RefreshToken 문자열 → SHA-256 다이제스트 (32바이트, token_hash 컬럼)
+ *   <li>RefreshTokenJpaEntity → RefreshTokenOwnerResult
+ * </ul>
+ *
+ * <p>이전 버전이 기록한 행(확장 단계)은 만료 시각이 없으므로 갱신 시각 + {@link #LEGACY_EXPIRES_IN}을 만료 시각으로 사용합니다.
+ * V8 백필과 같은 기준입니다.
+ *
+ * <p>RefreshToken은 충분한 엔트로피를 가진 랜덤 값이므로 솔트 없는 단일 SHA-256으로 충분하며, 동일 토큰은 항상 동일 다이제스트가
+ * 되어 인덱스 조회가 가능합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class RefreshTokenJpaEntityMapper {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    /** 이전 버전이 기록한 행의 만료 기간 (V8 백필 기준) */
+    public static final Duration LEGACY_EXPIRES_IN = Duration.ofDays(7);
+
+    /**
+     * RefreshToken 문자열 → SHA-256 다이제스트 변환
+     *
+     * @param refreshToken RefreshToken 문자열
+     * @return SHA-256 다이제스트 (32바이트)
+     */
+    public byte[] toTokenHash(String refreshToken) {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM)
+                    .digest(refreshToken.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    /**
+     * Entity → 소유자 조회 결과 변환
+     *
+     * @param entity RefreshTokenJpaEntity
+     * @return 소유자 ID와 만료 시각
+     */
+    public RefreshTokenOwnerResult toOwnerResult(RefreshTokenJpaEntity entity) {
+        return new RefreshTokenOwnerResult(
+                UserId.of(entity.getUserId().toString()), entity.getExpiresAt());
+    }
+
+    /**
+     * 이전 버전이 기록한 Entity → 소유자 조회 결과 변환
+     *
+     * @param entity token 컬럼으로 조회한 RefreshTokenJpaEntity
+     * @return 소유자 ID와 만료 시각 (갱신 시각 + {@link #LEGACY_EXPIRES_IN})
+     */
+    public RefreshTokenOwnerResult toLegacyOwnerResult(RefreshTokenJpaEntity entity) {
+        return new RefreshTokenOwnerResult(
+                UserId.of(entity.getUserId().toString()),
+                entity.getUpdatedAt().plus(LEGACY_EXPIRES_IN));
+    }
+}
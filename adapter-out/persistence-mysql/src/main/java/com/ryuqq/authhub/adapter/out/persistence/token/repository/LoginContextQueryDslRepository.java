@@ -0,0 +1,97 @@
+package com.ryuqq.authhub.adapter.out.persistence.token.repository;
+
+import static com.ryuqq.authhub.adapter.out.persistence.organization.entity.QOrganizationJpaEntity.organizationJpaEntity;
+import static com.ryuqq.authhub.adapter.out.persistence.tenant.entity.QTenantJpaEntity.tenantJpaEntity;
+import static com.ryuqq.authhub.adapter.out.persistence.user.entity.QUserJpaEntity.userJpaEntity;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ryuqq.authhub.adapter.out.persistence.token.condition.UserContextCompositeConditionBuilder;
+import com.ryuqq.authhub.adapter.out.persistence.token.dto.LoginContextProjection;
+import java.util.Optional;
+import org.springframework.stereotype.Repository;
+
+/**
+ * LoginContextQueryDslRepository - 로그인 컨텍스트 조인 조회 Repository
+ *
+ * <p>로그인/토큰 갱신 경로에서 User, Organization, Tenant를 조인하여 자격 증명 검증과 토큰 발급에 필요한 컬럼만
+ * 조회합니다.
+ *
+ * <p><strong>조인 전략:</strong>
+ *
+ * <ul>
+ *   <li>User → Organization (organizationId)
+ *   <li>Organization → Tenant (tenantId)
+ *   <li>단일 쿼리로 비밀번호 해시, 상태, 조직/테넌트 이름 조회 (Validator 3회 조회 대체)
+ *   <li>Entity 대신 Projection 조회 (영속성 컨텍스트 적재 없음)
+ * </ul>
+ *
+ * <p><strong>규칙:</strong>
+ *
+ * <ul>
+ *   <li>ConditionBuilder 의존 필수
+ *   <li>비즈니스 로직 금지
+ *   <li>Projection 반환
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Repository
+public class LoginContextQueryDslRepository {
+
+    private final JPAQueryFactory queryFactory;
+    private final UserContextCompositeConditionBuilder conditionBuilder;
+
+    public LoginContextQueryDslRepository(
+            JPAQueryFactory queryFactory, UserContextCompositeConditionBuilder conditionBuilder) {
+        this.queryFactory = queryFactory;
+        this.conditionBuilder = conditionBuilder;
+    }
+
+    /**
+     * 로그인 식별자로 로그인 컨텍스트 조인 조회
+     *
+     * @param identifier 로그인 식별자
+     * @return Optional<LoginContextProjection>
+     */
+    public Optional<LoginContextProjection> findByIdentifier(String identifier) {
+        return fetchOne(conditionBuilder.buildConditionByIdentifier(identifier));
+    }
+
+    /**
+     * 사용자 ID로 로그인 컨텍스트 조인 조회
+     *
+     * @param userId 사용자 ID (String)
+     * @return Optional<LoginContextProjection>
+     */
+    public Optional<LoginContextProjection> findByUserId(String userId) {
+        return fetchOne(conditionBuilder.buildConditionByUserId(userId));
+    }
+
+    private Optional<LoginContextProjection> fetchOne(BooleanBuilder condition) {
+        LoginContextProjection result =
+                queryFactory
+                        .select(
+                                Projections.constructor(
+                                        LoginContextProjection.class,
+                                        userJpaEntity.userId,
+                                        userJpaEntity.identifier,
+                                        userJpaEntity.hashedPassword,
+                                        userJpaEntity.status,
+                                        tenantJpaEntity.tenantId,
+                                        tenantJpaEntity.name,
+                                        organizationJpaEntity.organizationId,
+                                        organizationJpaEntity.name))
+                        .from(userJpaEntity)
+                        .join(organizationJpaEntity)
+                        .on(userJpaEntity.organizationId.eq(organizationJpaEntity.organizationId))
+                        .join(tenantJpaEntity)
+                        .on(organizationJpaEntity.tenantId.eq(tenantJpaEntity.tenantId))
+                        .where(condition)
+                        .fetchOne();
+
+        return Optional.ofNullable(result);
+    }
+}
@@ -1,6 +1,7 @@
 package com.ryuqq.authhub.adapter.out.persistence.token.repository;
 
 import com.ryuqq.authhub.adapter.out.persistence.token.entity.RefreshTokenJpaEntity;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,6 +9,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * RefreshTokenJpaRepository - RefreshToken JPA Repository (Command)
@@ -27,6 +29,7 @@ import org.springframework.stereotype.Repository;
  *   <li>save() - JpaRepository 기본 메서드 사용
  *   <li>deleteByUserId() - 사용자별 토큰 삭제
  *   <li>findByUserId() - 사용자별 토큰 조회 (UPDATE용)
+ *   <li>deleteExpiredBatch() - 만료 토큰 배치 삭제 (Purge용)
  * </ul>
  *
  * <p><strong>Zero-Tolerance 규칙:</strong>
@@ -58,4 +61,30 @@ public interface RefreshTokenJpaRepository extends JpaRepository<RefreshTokenJpa
     @Modifying
     @Query("DELETE FROM RefreshTokenJpaEntity r WHERE r.userId = :userId")
     void deleteByUserId(@Param("userId") UUID userId);
+
+    /**
+     * 만료된 RefreshToken 배치 삭제
+     *
+     * <p>idx_refresh_tokens_expires_at 범위 검색으로 최대 batchSize건만 삭제합니다. 배치마다 별도 트랜잭션으로 실행되어 행 잠금
+     * 범위와 undo 로그 크기를 제한합니다.
+     *
+     * <p>확장 단계(V8) 동안 이전 버전이 교체한 행은 expires_at이 이전 토큰 기준으로 남아 있으므로, updatedBefore 이후 갱신된 행은
+     * 삭제하지 않습니다.
+     *
+     * @param expiredBefore 이 시각 이전에 만료된 토큰 삭제
+     * @param updatedBefore 이 시각 이전에 갱신된 토큰만 삭제
+     * @param batchSize 최대 삭제 건수
+     * @return 삭제된 건수
+     */
+    @Transactional
+    @Modifying
+    @Query(
+            value =
+                    "DELETE FROM refresh_tokens WHERE expires_at < :expiredBefore"
+                            + " AND updated_at < :updatedBefore LIMIT :batchSize",
+            nativeQuery = true)
+    int deleteExpiredBatch(
+            @Param("expiredBefore") Instant expiredBefore,
+            @Param("updatedBefore") Instant updatedBefore,
+            @Param("batchSize") int batchSize);
 }
@@ -3,6 +3,7 @@ package com.ryuqq.authhub.adapter.out.persistence.token.repository;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.ryuqq.authhub.adapter.out.persistence.token.entity.QRefreshTokenJpaEntity;
 import com.ryuqq.authhub.adapter.out.persistence.token.entity.RefreshTokenJpaEntity;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.stereotype.Repository;
@@ -17,6 +18,8 @@ import org.springframework.stereotype.Repository;
  * <ul>
  *   <li>findByUserId(userId) - 사용자 ID로 조회
  *   <li>existsByUserId(userId) - 존재 여부 확인
+ *   <li>findActiveByTokenHash(tokenHash, now) - 토큰 다이제스트로 만료되지 않은 토큰 조회
+ *   <li>findByLegacyToken(token, updatedAfter) - 이전 버전이 기록한 토큰을 원문으로 조회 (확장 단계 전용)
  * </ul>
  *
  * <p><strong>Zero-Tolerance 규칙:</strong>
@@ -72,17 +75,41 @@ public class RefreshTokenQueryDslRepository {
     }
 
     /**
-     * 토큰 문자열로 RefreshToken Entity 조회
+     * 토큰 다이제스트로 만료되지 않은 RefreshToken Entity 조회
      *
-     * @param token RefreshToken 문자열
-     * @return RefreshTokenJpaEntity (Optional)
+     * <p>uk_refresh_tokens_token_hash 유니크 인덱스로 조회합니다.
+     *
+     * @param tokenHash RefreshToken SHA-256 다이제스트
+     * @param now 만료 판단 기준 시각
+     * @return RefreshTokenJpaEntity (없거나 만료되었으면 Optional.empty())
      */
-    public Optional<RefreshTokenJpaEntity> findByToken(String token) {
+    public Optional<RefreshTokenJpaEntity> findActiveByTokenHash(byte[] tokenHash, Instant now) {
         RefreshTokenJpaEntity result =
                 queryFactory
                         .selectFrom(refreshToken)
-                        .where(refreshToken.token.eq(token))
+                        .where(refreshToken.tokenHash.eq(tokenHash), refreshToken.expiresAt.gt(now))
                         .fetchOne();
         return Optional.ofNullable(result);
     }
+
+    /**
+     * 토큰 원문으로 RefreshToken Entity 조회 (확장 단계 전용)
+     *
+     * <p>이전 버전 인스턴스는 token 컬럼만 기록하므로 다이제스트 조회에 실패한 경우에만 사용합니다. 인덱스가 없는 컬럼이므로 수축 단계에서
+     * token 컬럼과 함께 제거합니다.
+     *
+     * @param token RefreshToken 원문
+     * @param updatedAfter 이 시각 이후에 갱신된 토큰만 조회 (만료 판단)
+     * @return RefreshTokenJpaEntity (Optional)
+     */
+    public Optional<RefreshTokenJpaEntity> findByLegacyToken(String token, Instant updatedAfter) {
+        RefreshTokenJpaEntity result =
+                queryFactory
+                        .selectFrom(refreshToken)
+                        .where(
+                                refreshToken.token.eq(token),
+                                refreshToken.updatedAt.gt(updatedAfter))
+                        .fetchFirst();
+        return Optional.ofNullable(result);
+    }
 }
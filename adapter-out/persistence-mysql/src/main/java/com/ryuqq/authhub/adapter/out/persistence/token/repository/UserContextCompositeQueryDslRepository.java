@@ -6,9 +6,11 @@ import static com.ryuqq.authhub.adapter.out.persistence.user.entity.QUserJpaEnti
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.ryuqq.authhub.adapter.out.persistence.token.condition.UserContextCompositeConditionBuilder;
 import com.ryuqq.authhub.adapter.out.persistence.token.dto.UserContextProjection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.stereotype.Repository;
 
@@ -57,27 +59,43 @@ public class UserContextCompositeQueryDslRepository {
     public Optional<UserContextProjection> findUserContextByUserId(String userId) {
         BooleanBuilder condition = conditionBuilder.buildConditionByUserId(userId);
 
-        UserContextProjection result =
-                queryFactory
-                        .select(
-                                Projections.constructor(
-                                        UserContextProjection.class,
-                                        userJpaEntity.userId,
-                                        userJpaEntity.identifier,
-                                        userJpaEntity.identifier,
-                                        tenantJpaEntity.tenantId,
-                                        tenantJpaEntity.name,
-                                        organizationJpaEntity.organizationId,
-                                        organizationJpaEntity.name,
-                                        userJpaEntity.phoneNumber))
-                        .from(userJpaEntity)
-                        .join(organizationJpaEntity)
-                        .on(userJpaEntity.organizationId.eq(organizationJpaEntity.organizationId))
-                        .join(tenantJpaEntity)
-                        .on(organizationJpaEntity.tenantId.eq(tenantJpaEntity.tenantId))
-                        .where(condition)
-                        .fetchOne();
+        UserContextProjection result = selectUserContext().where(condition).fetchOne();
 
         return Optional.ofNullable(result);
     }
+
+    /**
+     * 여러 사용자 ID로 사용자 컨텍스트 조인 조회 (IN 절 단일 쿼리)
+     *
+     * @param userIds 사용자 ID 목록 (String)
+     * @return UserContextProjection 목록 (존재하지 않거나 삭제된 사용자는 제외)
+     */
+    public List<UserContextProjection> findUserContextsByUserIds(List<String> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
+        }
+        BooleanBuilder condition = conditionBuilder.buildConditionByUserIds(userIds);
+
+        return selectUserContext().where(condition).fetch();
+    }
+
+    private JPAQuery<UserContextProjection> selectUserContext() {
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                UserContextProjection.class,
+                                userJpaEntity.userId,
+                                userJpaEntity.identifier,
+                                userJpaEntity.identifier,
+                                tenantJpaEntity.tenantId,
+                                tenantJpaEntity.name,
+                                organizationJpaEntity.organizationId,
+                                organizationJpaEntity.name,
+                                userJpaEntity.phoneNumber))
+                .from(userJpaEntity)
+                .join(organizationJpaEntity)
+                .on(userJpaEntity.organizationId.eq(organizationJpaEntity.organizationId))
+                .join(tenantJpaEntity)
+                .on(organizationJpaEntity.tenantId.eq(tenantJpaEntity.tenantId));
+    }
 }
@@ -0,0 +1,142 @@
+package com.ryuqq.authhub.adapter.out.persistence.token.scheduler;
+
+import com.ryuqq.authhub.adapter.out.persistence.token.config.RefreshTokenPurgeProperties;
+import com.ryuqq.authhub.adapter.out.persistence.token.mapper.RefreshTokenJpaEntityMapper;
+import com.ryuqq.authhub.adapter.out.persistence.token.repository.RefreshTokenJpaRepository;
+import com.ryuqq.authhub.application.common.port.out.DistributedLockPort;
+import com.ryuqq.authhub.application.common.time.TimeProvider;
+import com.ryuqq.authhub.domain.token.vo.RefreshTokenPurgeLockKey;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * ExpiredRefreshTokenPurgeScheduler - 만료 RefreshToken 정리 스케줄러
+ *
+ * <p>MySQL은 Redis와 달리 TTL이 없으므로 만료된 refresh_tokens 행을 주기적으로 배치 삭제합니다. 만료 토큰은 조회 시
+ * expires_at 조건으로 이미 제외되므로 정리는 테이블 크기 관리 목적입니다.
+ *
+ * <p><strong>삭제 전략:</strong>
+ *
+ * <ul>
+ *   <li>idx_refresh_tokens_expires_at 범위 검색으로 batch-size 건씩 삭제
+ *   <li>확장 단계(V8) 동안은 최근 7일 내 갱신된 행을 남김 (이전 버전이 교체한 행의 expires_at은 갱신되지 않음)
+ *   <li>배치마다 별도 트랜잭션 - 장시간 행 잠금과 대량 undo 로그 방지
+ *   <li>삭제 건수가 batch-size 미만이면 종료, 1회 실행당 최대 max-batches-per-run 배치
+ *   <li>분산락(대기 없음)으로 다중 인스턴스 중 한 인스턴스만 실행, 획득 실패 시 이번 주기는 건너뜀
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class ExpiredRefreshTokenPurgeScheduler implements SmartLifecycle {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(ExpiredRefreshTokenPurgeScheduler.class);
+
+    private final RefreshTokenJpaRepository refreshTokenJpaRepository;
+    private final RefreshTokenPurgeProperties properties;
+    private final TimeProvider timeProvider;
+    private final DistributedLockPort distributedLockPort;
+
+    private volatile ScheduledExecutorService scheduler;
+
+    public ExpiredRefreshTokenPurgeScheduler(
+            RefreshTokenJpaRepository refreshTokenJpaRepository,
+            RefreshTokenPurgeProperties properties,
+            TimeProvider timeProvider,
+            DistributedLockPort distributedLockPort) {
+        this.refreshTokenJpaRepository = refreshTokenJpaRepository;
+        this.properties = properties;
+        this.timeProvider = timeProvider;
+        this.distributedLockPort = distributedLockPort;
+    }
+
+    /**
+     * 분산락을 획득한 경우에만 만료 RefreshToken 정리
+     *
+     * <p>다른 인스턴스가 실행 중이면 대기하지 않고 이번 주기를 건너뜁니다.
+     *
+     * @return 삭제된 건수 (락 획득 실패 시 0)
+     */
+    int purgeIfLeader() {
+        RefreshTokenPurgeLockKey lockKey = RefreshTokenPurgeLockKey.INSTANCE;
+        long leaseMillis = properties.getLockLeaseTime().toMillis();
+        if (!distributedLockPort.tryLock(lockKey, 0, leaseMillis, TimeUnit.MILLISECONDS)) {
+            return 0;
+        }
+        try {
+            return purge();
+        } finally {
+            distributedLockPort.unlock(lockKey);
+        }
+    }
+
+    /**
+     * 만료 RefreshToken 정리
+     *
+     * @return 삭제된 건수
+     */
+    int purge() {
+        Instant now = timeProvider.now();
+        Instant updatedBefore = now.minus(RefreshTokenJpaEntityMapper.LEGACY_EXPIRES_IN);
+        int batchSize = properties.getBatchSize();
+        int total = 0;
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            int deleted =
+                    refreshTokenJpaRepository.deleteExpiredBatch(now, updatedBefore, batchSize);
+            total += deleted;
+            if (deleted < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    // ========== Lifecycle ==========
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        ScheduledExecutorService executor =
+                Executors.newSingleThreadScheduledExecutor(
+                        Thread.ofPlatform().name("refresh-token-purge").daemon().factory());
+        long interval = properties.getInterval().toMillis();
+        executor.scheduleWithFixedDelay(
+                this::purgeSafely, interval, interval, TimeUnit.MILLISECONDS);
+        scheduler = executor;
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService executor = scheduler;
+        scheduler = null;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    private void purgeSafely() {
+        try {
+            int deleted = purgeIfLeader();
+            if (deleted > 0) {
+                log.info("만료 RefreshToken 정리 완료: {}건", deleted);
+            }
+        } catch (RuntimeException e) {
+            log.warn("만료 RefreshToken 정리 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.ryuqq.authhub.adapter.out.persistence.userrole.adapter;
+
+import com.ryuqq.authhub.adapter.out.persistence.userrole.dto.UserRolePermissionProjection;
+import com.ryuqq.authhub.adapter.out.persistence.userrole.repository.UserRoleQueryDslRepository;
+import com.ryuqq.authhub.application.userrole.dto.response.UserRolePermissionResult;
+import com.ryuqq.authhub.application.userrole.port.out.query.UserRolePermissionQueryPort;
+import com.ryuqq.authhub.domain.user.id.UserId;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+
+/**
+ * UserRolePermissionQueryAdapter - 사용자의 유효 역할/권한 조회 Adapter
+ *
+ * <p>UserRole, Role, RolePermission, Permission을 단일 쿼리로 조인하여 사용자의 (역할 이름, 권한 키) 목록을 제공합니다.
+ *
+ * <p><strong>Zero-Tolerance 규칙:</strong>
+ *
+ * <ul>
+ *   <li>Port 구현체로 @Component 등록
+ *   <li>Application DTO 반환 (조인 쿼리이므로 예외적으로 DTO 직접 반환)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class UserRolePermissionQueryAdapter implements UserRolePermissionQueryPort {
+
+    private final UserRoleQueryDslRepository queryDslRepository;
+
+    public UserRolePermissionQueryAdapter(UserRoleQueryDslRepository queryDslRepository) {
+        this.queryDslRepository = queryDslRepository;
+    }
+
+    @Override
+    public List<UserRolePermissionResult> findAllByUserId(UserId userId) {
+        return queryDslRepository.findRolePermissionsByUserId(userId.value());
+    }
+
+    @Override
+    public Map<UserId, List<UserRolePermissionResult>> findAllByUserIds(List<UserId> userIds) {
+        List<String> values = userIds.stream().map(UserId::value).toList();
+        return queryDslRepository.findRolePermissionsByUserIds(values).stream()
+                .collect(
+                        Collectors.groupingBy(
+                                projection -> UserId.of(projection.userId()),
+                                Collectors.mapping(
+                                        UserRolePermissionProjection::toResult,
+                                        Collectors.toList())));
+    }
+}
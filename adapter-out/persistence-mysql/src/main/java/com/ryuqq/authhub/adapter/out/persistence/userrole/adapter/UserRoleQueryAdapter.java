@@ -30,6 +30,7 @@ import org.springframework.stereotype.Component;
  *   <li>exists() - 사용자-역할 관계 존재 여부 확인
  *   <li>findByUserIdAndRoleId() - 사용자-역할 관계 조회
  *   <li>findAllByUserId() - 사용자의 역할 목록 조회
+ *   <li>findAllByUserIds() - 여러 사용자의 역할 목록 조회
  *   <li>findAllByRoleId() - 역할이 할당된 사용자 목록 조회
  *   <li>existsByRoleId() - 역할 사용 여부 확인
  *   <li>findAllBySearchCriteria() - SearchCriteria 기반 조건 검색
@@ -97,6 +98,18 @@ public class UserRoleQueryAdapter implements UserRoleQueryPort {
         return repository.findAllByUserId(userId.value()).stream().map(mapper::toDomain).toList();
     }
 
+    /**
+     * 여러 사용자의 역할 목록 조회 (단일 쿼리)
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 사용자-역할 관계 목록
+     */
+    @Override
+    public List<UserRole> findAllByUserIds(List<UserId> userIds) {
+        List<String> values = userIds.stream().map(UserId::value).toList();
+        return repository.findAllByUserIds(values).stream().map(mapper::toDomain).toList();
+    }
+
     /**
      * 역할이 할당된 사용자 목록 조회
      *
@@ -0,0 +1,27 @@
+package com.ryuqq.authhub.adapter.out.persistence.userrole.dto;
+
+import com.ryuqq.authhub.application.userrole.dto.response.UserRolePermissionResult;
+
+/**
+ * UserRolePermissionProjection - 여러 사용자의 유효 역할-권한 조인 조회 결과 Projection
+ *
+ * <p>user_roles → roles → role_permissions → permissions 조인 결과의 한 행에 사용자 ID를 더한 DTO입니다. 여러 사용자를
+ * 한 쿼리로 조회한 뒤 사용자별로 묶을 때 사용합니다.
+ *
+ * @param userId 사용자 ID
+ * @param roleName 역할 이름 (삭제되지 않은 역할만)
+ * @param permissionKey 권한 키 (연결된 권한이 없으면 null)
+ * @author development-team
+ * @since 1.0.0
+ */
+public record UserRolePermissionProjection(String userId, String roleName, String permissionKey) {
+
+    /**
+     * 사용자 ID를 제외한 역할-권한 결과로 변환
+     *
+     * @return UserRolePermissionResult
+     */
+    public UserRolePermissionResult toResult() {
+        return new UserRolePermissionResult(roleName, permissionKey);
+    }
+}
@@ -4,9 +4,15 @@ import static com.ryuqq.authhub.adapter.out.persistence.userrole.entity.QUserRol
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ryuqq.authhub.adapter.out.persistence.permission.entity.QPermissionJpaEntity;
+import com.ryuqq.authhub.adapter.out.persistence.role.entity.QRoleJpaEntity;
+import com.ryuqq.authhub.adapter.out.persistence.rolepermission.entity.QRolePermissionJpaEntity;
 import com.ryuqq.authhub.adapter.out.persistence.userrole.condition.UserRoleConditionBuilder;
+import com.ryuqq.authhub.adapter.out.persistence.userrole.dto.UserRolePermissionProjection;
 import com.ryuqq.authhub.adapter.out.persistence.userrole.entity.UserRoleJpaEntity;
+import com.ryuqq.authhub.application.userrole.dto.response.UserRolePermissionResult;
 import com.ryuqq.authhub.domain.userrole.query.criteria.UserRoleSearchCriteria;
 import java.util.List;
 import java.util.Optional;
@@ -97,6 +103,19 @@ public class UserRoleQueryDslRepository {
                 .fetch();
     }
 
+    /**
+     * 여러 사용자의 역할 목록 조회 (IN 절 단일 쿼리)
+     *
+     * @param userIds 사용자 ID 목록 (String)
+     * @return UserRoleJpaEntity 목록
+     */
+    public List<UserRoleJpaEntity> findAllByUserIds(List<String> userIds) {
+        return queryFactory
+                .selectFrom(userRoleJpaEntity)
+                .where(userRoleJpaEntity.userId.in(userIds))
+                .fetch();
+    }
+
     /**
      * 역할이 할당된 사용자 목록 조회
      *
@@ -181,4 +200,78 @@ public class UserRoleQueryDslRepository {
                 .where(userRoleJpaEntity.userId.eq(userId), userRoleJpaEntity.roleId.in(roleIds))
                 .fetch();
     }
+
+    /**
+     * 사용자의 유효 역할-권한 목록 조회 (단일 조인 쿼리)
+     *
+     * <p>user_roles → roles → role_permissions → permissions를 한 번에 조인합니다.
+     *
+     * <ul>
+     *   <li>roles: INNER JOIN + deleted_at IS NULL (삭제된 역할 제외)
+     *   <li>role_permissions/permissions: LEFT JOIN (권한이 없는 역할도 역할 이름은 반환)
+     *   <li>permissions.deleted_at IS NULL 조건은 ON 절에 두어 삭제된 권한만 null로 만들고 역할 행은 유지
+     * </ul>
+     *
+     * <p>idx_user_roles_user_id, idx_role_permission_role_id 인덱스와 PK 조인을 사용합니다.
+     *
+     * @param userId 사용자 ID (String)
+     * @return (역할 이름, 권한 키) 목록 (권한이 없으면 permissionKey null)
+     */
+    public List<UserRolePermissionResult> findRolePermissionsByUserId(String userId) {
+        QRoleJpaEntity role = QRoleJpaEntity.roleJpaEntity;
+        QRolePermissionJpaEntity rolePermission = QRolePermissionJpaEntity.rolePermissionJpaEntity;
+        QPermissionJpaEntity permission = QPermissionJpaEntity.permissionJpaEntity;
+
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                UserRolePermissionResult.class,
+                                role.name,
+                                permission.permissionKey))
+                .from(userRoleJpaEntity)
+                .join(role)
+                .on(userRoleJpaEntity.roleId.eq(role.roleId), role.deletedAt.isNull())
+                .leftJoin(rolePermission)
+                .on(rolePermission.roleId.eq(role.roleId))
+                .leftJoin(permission)
+                .on(
+                        rolePermission.permissionId.eq(permission.permissionId),
+                        permission.deletedAt.isNull())
+                .where(userRoleJpaEntity.userId.eq(userId))
+                .fetch();
+    }
+
+    /**
+     * 여러 사용자의 유효 역할-권한 목록 조회 (IN 절 단일 조인 쿼리)
+     *
+     * <p>{@link #findRolePermissionsByUserId(String)}와 같은 조인을 user_id IN 조건으로 수행하고, 사용자별로 묶을 수 있도록
+     * 사용자 ID를 함께 반환합니다.
+     *
+     * @param userIds 사용자 ID 목록 (String)
+     * @return (사용자 ID, 역할 이름, 권한 키) 목록 (권한이 없으면 permissionKey null)
+     */
+    public List<UserRolePermissionProjection> findRolePermissionsByUserIds(List<String> userIds) {
+        QRoleJpaEntity role = QRoleJpaEntity.roleJpaEntity;
+        QRolePermissionJpaEntity rolePermission = QRolePermissionJpaEntity.rolePermissionJpaEntity;
+        QPermissionJpaEntity permission = QPermissionJpaEntity.permissionJpaEntity;
+
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                UserRolePermissionProjection.class,
+                                userRoleJpaEntity.userId,
+                                role.name,
+                                permission.permissionKey))
+                .from(userRoleJpaEntity)
+                .join(role)
+                .on(userRoleJpaEntity.roleId.eq(role.roleId), role.deletedAt.isNull())
+                .leftJoin(rolePermission)
+                .on(rolePermission.roleId.eq(role.roleId))
+                .leftJoin(permission)
+                .on(
+                        rolePermission.permissionId.eq(permission.permissionId),
+                        permission.deletedAt.isNull())
+                .where(userRoleJpaEntity.userId.in(userIds))
+                .fetch();
+    }
 }
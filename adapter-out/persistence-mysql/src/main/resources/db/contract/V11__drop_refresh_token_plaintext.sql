@@ -0,0 +1,23 @@
+-- -----------------------------------------------------
+-- V11: Refresh Token 원문 컬럼 삭제 (수축 단계)
+--
+-- ⚠️ Flyway 경로(db/migration) 밖에 보관하는 대기 마이그레이션입니다.
+-- V8(확장 단계) 버전이 모든 인스턴스에 배포되어 이전 버전 인스턴스가 더 이상
+-- 없을 때, 다음 릴리스에서 아래 코드 변경과 함께 db/migration으로 옮깁니다.
+--   - RefreshTokenJpaEntity: token 필드 제거, token_hash/expires_at NOT NULL
+--   - RefreshTokenCommandAdapter: 원문 이중 기록 제거
+--   - RefreshTokenQueryAdapter: 원문 조회(findByLegacyToken) 제거
+--   - RefreshTokenJpaRepository.deleteExpiredBatch: updated_at 조건 제거
+-- -----------------------------------------------------
+
+-- 확장 단계 동안 이전 버전이 기록/교체한 행의 다이제스트와 만료 시각 재계산
+UPDATE refresh_tokens
+SET token_hash = UNHEX(SHA2(token, 256)),
+    expires_at = DATE_ADD(updated_at, INTERVAL 7 DAY)
+WHERE token_hash IS NULL
+   OR token_hash <> UNHEX(SHA2(token, 256));
+
+ALTER TABLE refresh_tokens
+    MODIFY COLUMN token_hash BINARY(32) NOT NULL,
+    MODIFY COLUMN expires_at DATETIME(6) NOT NULL,
+    DROP COLUMN token;
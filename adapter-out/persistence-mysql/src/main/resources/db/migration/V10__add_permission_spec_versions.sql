@@ -0,0 +1,24 @@
+-- -----------------------------------------------------
+-- V10: 엔드포인트-권한 스펙 버전 카운터 추가
+-- Gateway 스펙 버전(ETag)과 변경분(delta) 조회 기준을 단조 증가하는 번호로 관리
+--
+-- 스펙을 바꾸는 트랜잭션은 카운터 행을 갱신해 새 번호를 받고, 같은 트랜잭션에서
+-- 변경된 엔드포인트의 spec_version에 그 번호를 기록합니다. 카운터 행 잠금으로
+-- 쓰기가 직렬화되므로 번호 순서가 커밋 순서와 같고, 어떤 번호를 읽은 시점에는
+-- 그 이하 번호의 변경이 모두 커밋되어 있습니다.
+-- -----------------------------------------------------
+
+CREATE TABLE permission_spec_versions (
+    id BIGINT NOT NULL,
+    version BIGINT NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+
+    PRIMARY KEY (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+INSERT INTO permission_spec_versions (id, version, updated_at) VALUES (1, 1, NOW(6));
+
+-- 기존 행은 0으로 두고, Gateway는 이전 형식 버전으로 요청하면 전체 스펙을 받습니다
+ALTER TABLE permission_endpoints
+    ADD COLUMN spec_version BIGINT NOT NULL DEFAULT 0,
+    ADD INDEX idx_permission_endpoints_spec_version (spec_version);
@@ -0,0 +1,12 @@
+-- -----------------------------------------------------
+-- V7: 엔드포인트-권한 스펙 변경분(delta) 조회용 인덱스 추가
+-- Gateway가 보유한 스펙 버전 이후 변경분만 조회하기 위한 범위 검색 지원
+-- -----------------------------------------------------
+
+-- 엔드포인트 생성/수정/삭제 변경분 (삭제 시에도 updated_at 갱신)
+ALTER TABLE permission_endpoints
+    ADD INDEX idx_permission_endpoints_updated_at (updated_at);
+
+-- 권한 삭제로 스펙에서 제외되는 엔드포인트 변경분
+ALTER TABLE permissions
+    ADD INDEX idx_permissions_deleted_at (deleted_at);
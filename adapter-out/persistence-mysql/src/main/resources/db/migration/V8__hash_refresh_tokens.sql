@@ -0,0 +1,27 @@
+-- -----------------------------------------------------
+-- V8: Refresh Token SHA-256 다이제스트 컬럼 추가 (확장 단계)
+-- 토큰 조회를 전체 테이블 스캔에서 유니크 인덱스 조회로 전환하고,
+-- 만료 시각(expires_at) 기준으로 만료 토큰을 배치 정리할 수 있도록 인덱스 추가
+--
+-- 무중단 배포 호환 (Expand/Contract):
+--   - 이전 버전 인스턴스는 token 컬럼만 기록/조회하므로 token 컬럼은 유지
+--   - 새 버전은 token과 token_hash를 함께 기록 (이중 기록)
+--   - 이전 버전이 기록한 행은 token_hash/expires_at이 NULL일 수 있으므로 두 컬럼은 NULL 허용
+--   - token 컬럼 삭제와 NOT NULL 전환은 모든 인스턴스 교체 후 수축 단계
+--     (db/contract/V11__drop_refresh_token_plaintext.sql)에서 수행
+-- -----------------------------------------------------
+
+ALTER TABLE refresh_tokens
+    ADD COLUMN token_hash BINARY(32) NULL AFTER token,
+    ADD COLUMN expires_at DATETIME(6) NULL AFTER token_hash;
+
+-- 기존 토큰은 다이제스트로 백필 (발급 후 기본 만료 기간 7일 기준으로 만료 시각 설정)
+UPDATE refresh_tokens
+SET token_hash = UNHEX(SHA2(token, 256)),
+    expires_at = DATE_ADD(updated_at, INTERVAL 7 DAY)
+WHERE token_hash IS NULL;
+
+-- 유니크 인덱스는 NULL을 중복으로 보지 않으므로 이전 버전의 기록과 충돌하지 않음
+ALTER TABLE refresh_tokens
+    ADD UNIQUE KEY uk_refresh_tokens_token_hash (token_hash),
+    ADD INDEX idx_refresh_tokens_expires_at (expires_at);
@@ -0,0 +1,15 @@
+-- -----------------------------------------------------
+-- V9: 권한 집합(permission_sets) 테이블 추가
+-- Thin Token의 permission_hash를 권한 키 목록으로 복원하기 위한 저장소
+--
+-- 해시는 정렬된 권한 키의 SHA-256(hex)이므로 같은 해시의 내용은 바뀌지 않습니다.
+-- 행은 수정/삭제하지 않으며(만료 없음), 이미 있는 해시는 다시 쓰지 않습니다.
+-- -----------------------------------------------------
+
+CREATE TABLE permission_sets (
+    permission_hash CHAR(64) NOT NULL,
+    permission_keys TEXT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+
+    PRIMARY KEY (permission_hash)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
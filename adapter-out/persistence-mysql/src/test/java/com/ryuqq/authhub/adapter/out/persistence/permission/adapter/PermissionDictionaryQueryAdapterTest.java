@@ -0,0 +1,68 @@
+package com.ryuqq.authhub.adapter.out.persistence.permission.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.ryuqq.authhub.adapter.out.persistence.permission.repository.PermissionQueryDslRepository;
+import com.ryuqq.authhub.application.permission.dto.response.PermissionDictionaryEntryResult;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * PermissionDictionaryQueryAdapter 단위 테스트
+ *
+ * <p><strong>테스트 설계 원칙:</strong>
+ *
+ * <ul>
+ *   <li>Adapter는 QueryDslRepository 위임만 담당
+ *   <li>Repository를 Mock으로 대체
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PermissionDictionaryQueryAdapter 단위 테스트")
+class PermissionDictionaryQueryAdapterTest {
+
+    @Mock private PermissionQueryDslRepository queryDslRepository;
+
+    private PermissionDictionaryQueryAdapter sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new PermissionDictionaryQueryAdapter(queryDslRepository);
+    }
+
+    @Nested
+    @DisplayName("findAllActiveEntries 메서드")
+    class FindAllActiveEntries {
+
+        @Test
+        @DisplayName("성공: Repository 결과를 그대로 반환")
+        void shouldReturnEntries_FromRepository() {
+            // given
+            List<PermissionDictionaryEntryResult> expected =
+                    List.of(
+                            new PermissionDictionaryEntryResult(1L, "user:read"),
+                            new PermissionDictionaryEntryResult(2L, "user:write"));
+            given(queryDslRepository.findAllActiveDictionaryEntries()).willReturn(expected);
+
+            // when
+            List<PermissionDictionaryEntryResult> result = sut.findAllActiveEntries();
+
+            // then
+            assertThat(result).isEqualTo(expected);
+            then(queryDslRepository).should().findAllActiveDictionaryEntries();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.ryuqq.authhub.adapter.out.persistence.permission.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.ryuqq.authhub.adapter.out.persistence.permission.mapper.PermissionSetJpaEntityMapper;
+import com.ryuqq.authhub.adapter.out.persistence.permission.repository.PermissionSetJpaRepository;
+import com.ryuqq.authhub.application.common.time.TimeProvider;
+import com.ryuqq.authhub.application.permission.dto.composite.PermissionSet;
+import java.time.Instant;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+/**
+ * PermissionSetCommandAdapter 단위 테스트
+ *
+ * <p><strong>테스트 설계 원칙:</strong>
+ *
+ * <ul>
+ *   <li>Adapter는 JpaRepository의 insertIfAbsent에 위임
+ *   <li>권한 키는 정렬 후 콤마로 연결해 저장
+ *   <li>저장소 장애는 전파하지 않고 false 반환
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PermissionSetCommandAdapter 단위 테스트")
+class PermissionSetCommandAdapterTest {
+
+    @Mock private PermissionSetJpaRepository repository;
+
+    @Mock private TimeProvider timeProvider;
+
+    private PermissionSetCommandAdapter sut;
+
+    private static final Instant FIXED_TIME = Instant.parse("2025-01-01T00:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        sut =
+                new PermissionSetCommandAdapter(
+                        repository, new PermissionSetJpaEntityMapper(), timeProvider);
+    }
+
+    @Nested
+    @DisplayName("save 메서드")
+    class Save {
+
+        @Test
+        @DisplayName("성공: 정렬된 권한 키를 해시와 함께 저장 (이미 있으면 무시)")
+        void shouldInsertSortedKeysIfAbsent() {
+            // given
+            PermissionSet permissionSet = PermissionSet.of(Set.of("user:read", "order:read"));
+            given(timeProvider.now()).willReturn(FIXED_TIME);
+
+            // when
+            boolean result = sut.save(permissionSet);
+
+            // then
+            assertThat(result).isTrue();
+            then(repository)
+                    .should()
+                    .insertIfAbsent(permissionSet.hash(), "order:read,user:read", FIXED_TIME);
+        }
+
+        @Test
+        @DisplayName("실패: 저장소 장애 시 예외 없이 false 반환")
+        void shouldReturnFalse_WhenRepositoryFails() {
+            // given
+            PermissionSet permissionSet = PermissionSet.of(Set.of("user:read"));
+            given(timeProvider.now()).willReturn(FIXED_TIME);
+            given(repository.insertIfAbsent(anyString(), anyString(), any()))
+                    .willThrow(new QueryTimeoutException("timeout"));
+
+            // when
+            boolean result = sut.save(permissionSet);
+
+            // then
+            assertThat(result).isFalse();
+        }
+    }
+}
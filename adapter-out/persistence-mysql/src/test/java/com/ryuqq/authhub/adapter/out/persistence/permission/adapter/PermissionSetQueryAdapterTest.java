@@ -0,0 +1,85 @@
+package com.ryuqq.authhub.adapter.out.persistence.permission.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.ryuqq.authhub.adapter.out.persistence.permission.entity.PermissionSetJpaEntity;
+import com.ryuqq.authhub.adapter.out.persistence.permission.mapper.PermissionSetJpaEntityMapper;
+import com.ryuqq.authhub.adapter.out.persistence.permission.repository.PermissionSetQueryDslRepository;
+import com.ryuqq.authhub.application.permission.dto.composite.PermissionSet;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * PermissionSetQueryAdapter 단위 테스트
+ *
+ * <p><strong>테스트 설계 원칙:</strong>
+ *
+ * <ul>
+ *   <li>Adapter는 QueryDslRepository 위임 담당
+ *   <li>Entity → PermissionSet 변환 검증
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PermissionSetQueryAdapter 단위 테스트")
+class PermissionSetQueryAdapterTest {
+
+    @Mock private PermissionSetQueryDslRepository repository;
+
+    private PermissionSetQueryAdapter sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new PermissionSetQueryAdapter(repository, new PermissionSetJpaEntityMapper());
+    }
+
+    @Nested
+    @DisplayName("findByHash 메서드")
+    class FindByHash {
+
+        @Test
+        @DisplayName("성공: 저장된 권한 키를 권한 집합으로 변환")
+        void shouldReturnPermissionSet_WhenExists() {
+            // given
+            PermissionSet expected = PermissionSet.of(Set.of("user:read", "order:read"));
+            PermissionSetJpaEntity entity =
+                    PermissionSetJpaEntity.of(
+                            expected.hash(),
+                            "order:read,user:read",
+                            Instant.parse("2025-01-01T00:00:00Z"));
+            given(repository.findByHash(expected.hash())).willReturn(Optional.of(entity));
+
+            // when
+            Optional<PermissionSet> result = sut.findByHash(expected.hash());
+
+            // then
+            assertThat(result).contains(expected);
+        }
+
+        @Test
+        @DisplayName("없는 해시면 empty 반환")
+        void shouldReturnEmpty_WhenNotExists() {
+            // given
+            given(repository.findByHash("unknown")).willReturn(Optional.empty());
+
+            // when
+            Optional<PermissionSet> result = sut.findByHash("unknown");
+
+            // then
+            assertThat(result).isEmpty();
+        }
+    }
+}
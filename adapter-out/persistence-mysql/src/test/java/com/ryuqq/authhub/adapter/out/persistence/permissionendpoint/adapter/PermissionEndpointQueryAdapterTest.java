@@ -3,18 +3,21 @@ package com.ryuqq.authhub.adapter.out.persistence.permissionendpoint.adapter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
 
 import com.ryuqq.authhub.adapter.out.persistence.permissionendpoint.entity.PermissionEndpointJpaEntity;
 import com.ryuqq.authhub.adapter.out.persistence.permissionendpoint.fixture.PermissionEndpointJpaEntityFixture;
 import com.ryuqq.authhub.adapter.out.persistence.permissionendpoint.mapper.PermissionEndpointJpaEntityMapper;
 import com.ryuqq.authhub.adapter.out.persistence.permissionendpoint.repository.PermissionEndpointJpaRepository;
 import com.ryuqq.authhub.adapter.out.persistence.permissionendpoint.repository.PermissionEndpointQueryDslRepository;
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecVersionResult;
 import com.ryuqq.authhub.domain.permission.id.PermissionId;
 import com.ryuqq.authhub.domain.permissionendpoint.aggregate.PermissionEndpoint;
 import com.ryuqq.authhub.domain.permissionendpoint.fixture.PermissionEndpointFixture;
 import com.ryuqq.authhub.domain.permissionendpoint.id.PermissionEndpointId;
 import com.ryuqq.authhub.domain.permissionendpoint.query.criteria.PermissionEndpointSearchCriteria;
 import com.ryuqq.authhub.domain.permissionendpoint.vo.HttpMethod;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -45,6 +48,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @DisplayName("PermissionEndpointQueryAdapter 단위 테스트")
 class PermissionEndpointQueryAdapterTest {
 
+    private static final Instant FIXED_TIME = Instant.parse("2025-01-01T00:00:00Z");
+
     @Mock private PermissionEndpointJpaRepository jpaRepository;
 
     @Mock private PermissionEndpointQueryDslRepository queryDslRepository;
@@ -257,20 +262,52 @@ class PermissionEndpointQueryAdapterTest {
     class FindMatchingEndpoints {
 
         @Test
-        @DisplayName("QueryDsl 조회 후 Domain 변환 및 매칭 필터")
-        void shouldFindAndFilterMatching() {
+        @DisplayName("활성 엔드포인트로 라우트 인덱스를 구성하여 매칭")
+        void shouldResolveWithRouteIndex() {
             PermissionEndpointJpaEntity entity =
                     PermissionEndpointJpaEntityFixture.createWithPatternAndMethod(
-                            "/api/v1/users", HttpMethod.GET);
-            PermissionEndpoint domain = PermissionEndpointFixture.create();
-            given(queryDslRepository.findByUrlPatternLike("/api/v1/users"))
-                    .willReturn(List.of(entity));
+                            "/api/v1/users/{id}", HttpMethod.GET);
+            PermissionEndpoint domain =
+                    PermissionEndpointFixture.createWithPatternAndMethod(
+                            "/api/v1/users/{id}", HttpMethod.GET);
+            given(queryDslRepository.findActiveSpecVersion())
+                    .willReturn(EndpointPermissionSpecVersionResult.of(1L, FIXED_TIME));
+            given(queryDslRepository.findAllActive()).willReturn(List.of(entity));
             given(mapper.toDomain(entity)).willReturn(domain);
 
             List<PermissionEndpoint> result =
-                    sut.findMatchingEndpoints("/api/v1/users", HttpMethod.GET);
+                    sut.findMatchingEndpoints("/api/v1/users/123", HttpMethod.GET);
 
-            assertThat(result).hasSize(1);
+            assertThat(result).containsExactly(domain);
+            assertThat(sut.findMatchingEndpoints("/api/v1/users/123", HttpMethod.POST)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("스펙 버전이 같으면 인덱스를 다시 구성하지 않음")
+        void shouldReuseRouteIndex_WhenVersionUnchanged() {
+            given(queryDslRepository.findActiveSpecVersion())
+                    .willReturn(EndpointPermissionSpecVersionResult.of(1L, FIXED_TIME));
+            given(queryDslRepository.findAllActive()).willReturn(List.of());
+
+            sut.findMatchingEndpoints("/api/v1/users", HttpMethod.GET);
+            sut.findMatchingEndpoints("/api/v1/users", HttpMethod.GET);
+
+            then(queryDslRepository).should(times(1)).findAllActive();
+        }
+
+        @Test
+        @DisplayName("스펙 버전이 바뀌면 인덱스를 다시 구성")
+        void shouldRebuildRouteIndex_WhenVersionChanged() {
+            given(queryDslRepository.findActiveSpecVersion())
+                    .willReturn(
+                            EndpointPermissionSpecVersionResult.of(1L, FIXED_TIME),
+                            EndpointPermissionSpecVersionResult.of(2L, FIXED_TIME));
+            given(queryDslRepository.findAllActive()).willReturn(List.of());
+
+            sut.findMatchingEndpoints("/api/v1/users", HttpMethod.GET);
+            sut.findMatchingEndpoints("/api/v1/users", HttpMethod.GET);
+
+            then(queryDslRepository).should(times(2)).findAllActive();
         }
     }
 
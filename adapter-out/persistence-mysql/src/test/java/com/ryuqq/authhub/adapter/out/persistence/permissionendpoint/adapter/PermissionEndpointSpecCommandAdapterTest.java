@@ -0,0 +1,115 @@
+package com.ryuqq.authhub.adapter.out.persistence.permissionendpoint.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+
+import com.ryuqq.authhub.adapter.out.persistence.permissionendpoint.repository.PermissionSpecVersionJpaRepository;
+import com.ryuqq.authhub.application.common.time.TimeProvider;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * PermissionEndpointSpecCommandAdapter 단위 테스트
+ *
+ * <p><strong>테스트 설계 원칙:</strong>
+ *
+ * <ul>
+ *   <li>카운터 증가 → 증가시킨 번호 조회 → 엔드포인트 기록 순서로 위임
+ *   <li>Repository를 Mock으로 대체
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PermissionEndpointSpecCommandAdapter 단위 테스트")
+class PermissionEndpointSpecCommandAdapterTest {
+
+    private static final Instant FIXED_TIME = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock private PermissionSpecVersionJpaRepository repository;
+    @Mock private TimeProvider timeProvider;
+
+    private PermissionEndpointSpecCommandAdapter sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new PermissionEndpointSpecCommandAdapter(repository, timeProvider);
+    }
+
+    @Nested
+    @DisplayName("markChanged 메서드")
+    class MarkChanged {
+
+        @Test
+        @DisplayName("성공: 스펙 버전을 올린 뒤 변경된 엔드포인트에 기록하고 번호 반환")
+        void shouldAdvanceAndStampEndpoints() {
+            // given
+            given(timeProvider.now()).willReturn(FIXED_TIME);
+            given(repository.findCurrentVersion()).willReturn(8L);
+
+            // when
+            long result = sut.markChanged(List.of(1L, 2L));
+
+            // then
+            assertThat(result).isEqualTo(8L);
+            InOrder inOrder = inOrder(repository);
+            inOrder.verify(repository).advance(FIXED_TIME);
+            inOrder.verify(repository).findCurrentVersion();
+            inOrder.verify(repository).stampEndpoints(8L, List.of(1L, 2L));
+        }
+
+        @Test
+        @DisplayName("엔드포인트가 없으면 스펙 버전만 올리고 기록하지 않음")
+        void shouldNotStamp_WhenNoEndpoints() {
+            // given
+            given(timeProvider.now()).willReturn(FIXED_TIME);
+            given(repository.findCurrentVersion()).willReturn(8L);
+
+            // when
+            sut.markChanged(List.of());
+
+            // then
+            then(repository).should().advance(FIXED_TIME);
+            then(repository).should(never()).stampEndpoints(anyLong(), anyCollection());
+        }
+    }
+
+    @Nested
+    @DisplayName("markPermissionChanged 메서드")
+    class MarkPermissionChanged {
+
+        @Test
+        @DisplayName("성공: 스펙 버전을 올린 뒤 권한에 연결된 엔드포인트에 기록")
+        void shouldAdvanceAndStampEndpointsOfPermission() {
+            // given
+            given(timeProvider.now()).willReturn(FIXED_TIME);
+            given(repository.findCurrentVersion()).willReturn(9L);
+
+            // when
+            long result = sut.markPermissionChanged(3L);
+
+            // then
+            assertThat(result).isEqualTo(9L);
+            InOrder inOrder = inOrder(repository);
+            inOrder.verify(repository).advance(FIXED_TIME);
+            inOrder.verify(repository).findCurrentVersion();
+            inOrder.verify(repository).stampEndpointsOfPermission(9L, 3L);
+        }
+    }
+}
@@ -5,7 +5,9 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
 import com.ryuqq.authhub.adapter.out.persistence.permissionendpoint.repository.PermissionEndpointQueryDslRepository;
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecChangeResult;
 import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecResult;
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecVersionResult;
 import java.time.Instant;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -56,6 +58,7 @@ class PermissionEndpointSpecQueryAdapterTest {
             List<EndpointPermissionSpecResult> expected =
                     List.of(
                             new EndpointPermissionSpecResult(
+                                    1L,
                                     "authhub",
                                     "/api/v1/users",
                                     "GET",
@@ -105,4 +108,66 @@ class PermissionEndpointSpecQueryAdapterTest {
             assertThat(sut.findLatestUpdatedAt()).isNull();
         }
     }
+
+    @Nested
+    @DisplayName("findActiveSpecVersion 메서드")
+    class FindActiveSpecVersion {
+
+        @Test
+        @DisplayName("QueryDslRepository에 위임하여 스펙 버전 반환")
+        void shouldDelegateToRepository() {
+            EndpointPermissionSpecVersionResult expected =
+                    EndpointPermissionSpecVersionResult.of(
+                            5L, Instant.parse("2025-01-15T10:00:00Z"));
+            given(queryDslRepository.findActiveSpecVersion()).willReturn(expected);
+
+            EndpointPermissionSpecVersionResult result = sut.findActiveSpecVersion();
+
+            assertThat(result).isEqualTo(expected);
+            then(queryDslRepository).should().findActiveSpecVersion();
+        }
+    }
+
+    @Nested
+    @DisplayName("findSpecChangesBetween 메서드")
+    class FindSpecChangesBetween {
+
+        private final Instant deletedAt = Instant.parse("2025-01-15T11:00:00Z");
+
+        @Test
+        @DisplayName("QueryDslRepository에 스펙 버전 구간을 위임하여 변경분 반환")
+        void shouldDelegateToRepository() {
+            // given
+            List<EndpointPermissionSpecChangeResult> expected =
+                    List.of(
+                            change(1L, null, null),
+                            change(2L, deletedAt, null),
+                            change(3L, null, deletedAt));
+            given(queryDslRepository.findSpecChangesBetween(3L, 5L)).willReturn(expected);
+
+            // when
+            List<EndpointPermissionSpecChangeResult> result = sut.findSpecChangesBetween(3L, 5L);
+
+            // then
+            assertThat(result).isEqualTo(expected);
+            assertThat(result)
+                    .extracting(EndpointPermissionSpecChangeResult::removed)
+                    .containsExactly(false, true, true);
+            then(queryDslRepository).should().findSpecChangesBetween(3L, 5L);
+        }
+
+        private EndpointPermissionSpecChangeResult change(
+                Long endpointId, Instant endpointDeletedAt, Instant permissionDeletedAt) {
+            return new EndpointPermissionSpecChangeResult(
+                    endpointId,
+                    "authhub",
+                    "/api/v1/users/" + endpointId,
+                    "GET",
+                    "user:read",
+                    false,
+                    "사용자 조회",
+                    endpointDeletedAt,
+                    permissionDeletedAt);
+        }
+    }
 }
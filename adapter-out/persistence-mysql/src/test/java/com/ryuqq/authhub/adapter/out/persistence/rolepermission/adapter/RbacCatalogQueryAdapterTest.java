@@ -0,0 +1,68 @@
+package com.ryuqq.authhub.adapter.out.persistence.rolepermission.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.ryuqq.authhub.adapter.out.persistence.rolepermission.repository.RolePermissionQueryDslRepository;
+import com.ryuqq.authhub.application.rolepermission.dto.response.RbacCatalogEntryResult;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * RbacCatalogQueryAdapter 단위 테스트
+ *
+ * <p><strong>테스트 설계 원칙:</strong>
+ *
+ * <ul>
+ *   <li>Adapter는 QueryDslRepository 위임만 담당
+ *   <li>Repository를 Mock으로 대체
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RbacCatalogQueryAdapter 단위 테스트")
+class RbacCatalogQueryAdapterTest {
+
+    @Mock private RolePermissionQueryDslRepository queryDslRepository;
+
+    private RbacCatalogQueryAdapter sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new RbacCatalogQueryAdapter(queryDslRepository);
+    }
+
+    @Nested
+    @DisplayName("findAllActiveEntries 메서드")
+    class FindAllActiveEntries {
+
+        @Test
+        @DisplayName("성공: Repository 결과를 그대로 반환")
+        void shouldReturnEntries_FromRepository() {
+            // given
+            List<RbacCatalogEntryResult> expected =
+                    List.of(
+                            new RbacCatalogEntryResult(1L, "ADMIN", "user:read"),
+                            new RbacCatalogEntryResult(2L, "VIEWER", null));
+            given(queryDslRepository.findAllActiveCatalogEntries()).willReturn(expected);
+
+            // when
+            List<RbacCatalogEntryResult> result = sut.findAllActiveEntries();
+
+            // then
+            assertThat(result).isEqualTo(expected);
+            then(queryDslRepository).should().findAllActiveCatalogEntries();
+        }
+    }
+}
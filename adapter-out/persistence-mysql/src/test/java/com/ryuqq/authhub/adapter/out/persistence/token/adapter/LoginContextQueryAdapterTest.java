@@ -0,0 +1,134 @@
+package com.ryuqq.authhub.adapter.out.persistence.token.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.ryuqq.authhub.adapter.out.persistence.token.dto.LoginContextProjection;
+import com.ryuqq.authhub.adapter.out.persistence.token.mapper.LoginContextMapper;
+import com.ryuqq.authhub.adapter.out.persistence.token.repository.LoginContextQueryDslRepository;
+import com.ryuqq.authhub.application.token.dto.composite.LoginContextComposite;
+import com.ryuqq.authhub.domain.user.id.UserId;
+import com.ryuqq.authhub.domain.user.vo.HashedPassword;
+import com.ryuqq.authhub.domain.user.vo.Identifier;
+import com.ryuqq.authhub.domain.user.vo.UserStatus;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * LoginContextQueryAdapter 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LoginContextQueryAdapter 단위 테스트")
+class LoginContextQueryAdapterTest {
+
+    private static final UserId USER_ID = UserId.of("019450eb-4f1e-7000-8000-000000000001");
+    private static final String IDENTIFIER = "test@example.com";
+
+    @Mock private LoginContextQueryDslRepository repository;
+    @Mock private LoginContextMapper mapper;
+
+    private LoginContextQueryAdapter sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new LoginContextQueryAdapter(repository, mapper);
+    }
+
+    @Nested
+    @DisplayName("findByIdentifier 메서드")
+    class FindByIdentifier {
+
+        @Test
+        @DisplayName("성공: 로그인 컨텍스트가 존재하면 Composite로 변환하여 반환")
+        void shouldReturnComposite_WhenProjectionExists() {
+            // given
+            LoginContextProjection projection = projection();
+            LoginContextComposite expected = composite();
+
+            given(repository.findByIdentifier(IDENTIFIER)).willReturn(Optional.of(projection));
+            given(mapper.toComposite(projection)).willReturn(expected);
+
+            // when
+            Optional<LoginContextComposite> result =
+                    sut.findByIdentifier(Identifier.of(IDENTIFIER));
+
+            // then
+            assertThat(result).contains(expected);
+            then(repository).should().findByIdentifier(IDENTIFIER);
+        }
+
+        @Test
+        @DisplayName("성공: 로그인 컨텍스트가 존재하지 않으면 빈 Optional 반환")
+        void shouldReturnEmpty_WhenProjectionNotExists() {
+            // given
+            given(repository.findByIdentifier(IDENTIFIER)).willReturn(Optional.empty());
+
+            // when
+            Optional<LoginContextComposite> result =
+                    sut.findByIdentifier(Identifier.of(IDENTIFIER));
+
+            // then
+            assertThat(result).isEmpty();
+            then(mapper).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("findByUserId 메서드")
+    class FindByUserId {
+
+        @Test
+        @DisplayName("성공: 로그인 컨텍스트가 존재하면 Composite로 변환하여 반환")
+        void shouldReturnComposite_WhenProjectionExists() {
+            // given
+            LoginContextProjection projection = projection();
+            LoginContextComposite expected = composite();
+
+            given(repository.findByUserId(USER_ID.value())).willReturn(Optional.of(projection));
+            given(mapper.toComposite(projection)).willReturn(expected);
+
+            // when
+            Optional<LoginContextComposite> result = sut.findByUserId(USER_ID);
+
+            // then
+            assertThat(result).contains(expected);
+            then(repository).should().findByUserId(USER_ID.value());
+        }
+    }
+
+    private static LoginContextProjection projection() {
+        return new LoginContextProjection(
+                USER_ID.value(),
+                IDENTIFIER,
+                "$2a$10$hashed",
+                UserStatus.ACTIVE,
+                "tenant-123",
+                "Test Tenant",
+                "org-456",
+                "Test Organization");
+    }
+
+    private static LoginContextComposite composite() {
+        return new LoginContextComposite(
+                USER_ID,
+                IDENTIFIER,
+                HashedPassword.of("$2a$10$hashed"),
+                UserStatus.ACTIVE,
+                "tenant-123",
+                "Test Tenant",
+                "org-456",
+                "Test Organization");
+    }
+}
@@ -1,5 +1,6 @@
 package com.ryuqq.authhub.adapter.out.persistence.token.adapter;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
@@ -7,6 +8,7 @@ import static org.mockito.Mockito.never;
 
 import com.ryuqq.authhub.adapter.out.persistence.token.entity.RefreshTokenJpaEntity;
 import com.ryuqq.authhub.adapter.out.persistence.token.fixture.RefreshTokenJpaEntityFixture;
+import com.ryuqq.authhub.adapter.out.persistence.token.mapper.RefreshTokenJpaEntityMapper;
 import com.ryuqq.authhub.adapter.out.persistence.token.repository.RefreshTokenJpaRepository;
 import com.ryuqq.authhub.adapter.out.persistence.token.repository.RefreshTokenQueryDslRepository;
 import com.ryuqq.authhub.application.common.time.TimeProvider;
@@ -21,6 +23,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -33,6 +36,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
  *   <li>Adapter는 Repository 위임 담당
  *   <li>Repository/TimeProvider를 Mock으로 대체
  *   <li>persist는 기존 토큰 존재 여부에 따라 다른 흐름
+ *   <li>토큰 원문 대신 SHA-256 다이제스트와 만료 시각 저장 검증
  *   <li>deleteByUserId는 JpaRepository에 위임
  * </ul>
  *
@@ -52,11 +56,16 @@ class RefreshTokenCommandAdapterTest {
 
     private RefreshTokenCommandAdapter sut;
 
+    private final RefreshTokenJpaEntityMapper mapper = new RefreshTokenJpaEntityMapper();
+
     private static final Instant FIXED_TIME = Instant.parse("2025-01-01T00:00:00Z");
+    private static final long EXPIRES_IN_SECONDS = 604800L;
 
     @BeforeEach
     void setUp() {
-        sut = new RefreshTokenCommandAdapter(jpaRepository, queryDslRepository, timeProvider);
+        sut =
+                new RefreshTokenCommandAdapter(
+                        jpaRepository, queryDslRepository, mapper, timeProvider);
     }
 
     @Nested
@@ -75,10 +84,18 @@ class RefreshTokenCommandAdapterTest {
                     .willReturn(Optional.empty());
 
             // when
-            sut.persist(userId, refreshToken);
+            sut.persist(userId, refreshToken, EXPIRES_IN_SECONDS);
 
             // then
-            then(jpaRepository).should().save(any(RefreshTokenJpaEntity.class));
+            ArgumentCaptor<RefreshTokenJpaEntity> captor =
+                    ArgumentCaptor.forClass(RefreshTokenJpaEntity.class);
+            then(jpaRepository).should().save(captor.capture());
+            RefreshTokenJpaEntity saved = captor.getValue();
+            assertThat(saved.getToken()).isEqualTo(refreshToken);
+            assertThat(saved.getTokenHash())
+                    .hasSize(32)
+                    .isEqualTo(mapper.toTokenHash(refreshToken));
+            assertThat(saved.getExpiresAt()).isEqualTo(FIXED_TIME.plusSeconds(EXPIRES_IN_SECONDS));
         }
 
         @Test
@@ -94,10 +111,16 @@ class RefreshTokenCommandAdapterTest {
                     .willReturn(Optional.of(existingEntity));
 
             // when
-            sut.persist(userId, newRefreshToken);
+            sut.persist(userId, newRefreshToken, EXPIRES_IN_SECONDS);
 
             // then
             then(jpaRepository).should(never()).save(any(RefreshTokenJpaEntity.class));
+            assertThat(existingEntity.getToken()).isEqualTo(newRefreshToken);
+            assertThat(existingEntity.getTokenHash())
+                    .isEqualTo(mapper.toTokenHash(newRefreshToken));
+            assertThat(existingEntity.getExpiresAt())
+                    .isEqualTo(FIXED_TIME.plusSeconds(EXPIRES_IN_SECONDS));
+            assertThat(existingEntity.getUpdatedAt()).isEqualTo(FIXED_TIME);
         }
 
         @Test
@@ -112,7 +135,7 @@ class RefreshTokenCommandAdapterTest {
                     .willReturn(Optional.empty());
 
             // when
-            sut.persist(userId, refreshToken);
+            sut.persist(userId, refreshToken, EXPIRES_IN_SECONDS);
 
             // then
             then(timeProvider).should().now();
@@ -1,14 +1,21 @@
 package com.ryuqq.authhub.adapter.out.persistence.token.adapter;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
 import com.ryuqq.authhub.adapter.out.persistence.token.entity.RefreshTokenJpaEntity;
 import com.ryuqq.authhub.adapter.out.persistence.token.fixture.RefreshTokenJpaEntityFixture;
+import com.ryuqq.authhub.adapter.out.persistence.token.mapper.RefreshTokenJpaEntityMapper;
 import com.ryuqq.authhub.adapter.out.persistence.token.repository.RefreshTokenQueryDslRepository;
+import com.ryuqq.authhub.application.token.dto.response.RefreshTokenOwnerResult;
 import com.ryuqq.authhub.domain.user.fixture.UserFixture;
 import com.ryuqq.authhub.domain.user.id.UserId;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,7 +35,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
  * <ul>
  *   <li>Adapter는 Repository 위임 담당
  *   <li>QueryDslRepository를 Mock으로 대체
- *   <li>Entity → String/UserId 변환 검증
+ *   <li>토큰 → SHA-256 다이제스트, Entity → RefreshTokenOwnerResult 변환 검증
  * </ul>
  *
  * @author development-team
@@ -43,152 +50,167 @@ class RefreshTokenQueryAdapterTest {
 
     private RefreshTokenQueryAdapter sut;
 
+    private static final Instant NOW = Instant.parse("2025-01-02T00:00:00Z");
+
     @BeforeEach
     void setUp() {
-        sut = new RefreshTokenQueryAdapter(repository);
+        sut = new RefreshTokenQueryAdapter(repository, new RefreshTokenJpaEntityMapper());
     }
 
     @Nested
-    @DisplayName("findByUserId 메서드")
-    class FindByUserId {
-
-        @Test
-        @DisplayName("성공: Entity 조회 후 토큰 문자열 반환")
-        void shouldFindAndReturnToken_WhenEntityExists() {
-            // given
-            UserId userId = UserFixture.defaultId();
-            RefreshTokenJpaEntity entity = RefreshTokenJpaEntityFixture.create();
-            String expectedToken = entity.getToken();
-
-            given(repository.findByUserId(UUID.fromString(userId.value())))
-                    .willReturn(Optional.of(entity));
-
-            // when
-            Optional<String> result = sut.findByUserId(userId);
-
-            // then
-            assertThat(result).isPresent();
-            assertThat(result.get()).isEqualTo(expectedToken);
-        }
+    @DisplayName("existsByUserId 메서드")
+    class ExistsByUserId {
 
         @Test
-        @DisplayName("Entity가 없으면 빈 Optional 반환")
-        void shouldReturnEmpty_WhenEntityNotFound() {
+        @DisplayName("존재하면 true 반환")
+        void shouldReturnTrue_WhenExists() {
             // given
             UserId userId = UserFixture.defaultId();
 
-            given(repository.findByUserId(UUID.fromString(userId.value())))
-                    .willReturn(Optional.empty());
+            given(repository.existsByUserId(UUID.fromString(userId.value()))).willReturn(true);
 
             // when
-            Optional<String> result = sut.findByUserId(userId);
+            boolean result = sut.existsByUserId(userId);
 
             // then
-            assertThat(result).isEmpty();
+            assertThat(result).isTrue();
         }
 
         @Test
-        @DisplayName("UserId를 UUID로 변환하여 Repository 호출")
-        void shouldConvertUserIdToUuid_AndCallRepository() {
+        @DisplayName("존재하지 않으면 false 반환")
+        void shouldReturnFalse_WhenNotExists() {
             // given
             UserId userId = UserFixture.defaultId();
 
-            given(repository.findByUserId(UUID.fromString(userId.value())))
-                    .willReturn(Optional.empty());
+            given(repository.existsByUserId(UUID.fromString(userId.value()))).willReturn(false);
 
             // when
-            sut.findByUserId(userId);
+            boolean result = sut.existsByUserId(userId);
 
             // then
-            then(repository).should().findByUserId(UUID.fromString(userId.value()));
+            assertThat(result).isFalse();
         }
     }
 
     @Nested
-    @DisplayName("existsByUserId 메서드")
-    class ExistsByUserId {
+    @DisplayName("findOwnerByToken 메서드")
+    class FindOwnerByToken {
 
         @Test
-        @DisplayName("존재하면 true 반환")
-        void shouldReturnTrue_WhenExists() {
+        @DisplayName("성공: Entity 조회 후 소유자 ID와 만료 시각 반환")
+        void shouldFindAndReturnOwner_WhenEntityExists() {
             // given
-            UserId userId = UserFixture.defaultId();
+            String refreshToken = RefreshTokenJpaEntityFixture.defaultToken();
+            RefreshTokenJpaEntity entity = RefreshTokenJpaEntityFixture.create();
 
-            given(repository.existsByUserId(UUID.fromString(userId.value()))).willReturn(true);
+            given(repository.findActiveByTokenHash(any(byte[].class), eq(NOW)))
+                    .willReturn(Optional.of(entity));
 
             // when
-            boolean result = sut.existsByUserId(userId);
+            Optional<RefreshTokenOwnerResult> result = sut.findOwnerByToken(refreshToken, NOW);
 
             // then
-            assertThat(result).isTrue();
+            assertThat(result).isPresent();
+            assertThat(result.get().userId().value()).isEqualTo(entity.getUserId().toString());
+            assertThat(result.get().expiresAt()).isEqualTo(entity.getExpiresAt());
         }
 
         @Test
-        @DisplayName("존재하지 않으면 false 반환")
-        void shouldReturnFalse_WhenNotExists() {
+        @DisplayName("다이제스트로 찾은 행의 원문이 다르면 (이전 버전이 교체한 토큰) 빈 Optional 반환")
+        void shouldReturnEmpty_WhenRowWasRotatedByPreviousVersion() {
             // given
-            UserId userId = UserFixture.defaultId();
-
-            given(repository.existsByUserId(UUID.fromString(userId.value()))).willReturn(false);
+            String refreshToken = RefreshTokenJpaEntityFixture.defaultToken();
+            RefreshTokenJpaEntity rotated =
+                    RefreshTokenJpaEntity.of(
+                            RefreshTokenJpaEntityFixture.defaultRefreshTokenId(),
+                            RefreshTokenJpaEntityFixture.defaultUserId(),
+                            "rotated_by_previous_version",
+                            RefreshTokenJpaEntityFixture.defaultTokenHash(),
+                            RefreshTokenJpaEntityFixture.defaultExpiresAt(),
+                            RefreshTokenJpaEntityFixture.fixedTime(),
+                            NOW);
+
+            given(repository.findActiveByTokenHash(any(byte[].class), eq(NOW)))
+                    .willReturn(Optional.of(rotated));
 
             // when
-            boolean result = sut.existsByUserId(userId);
+            Optional<RefreshTokenOwnerResult> result = sut.findOwnerByToken(refreshToken, NOW);
 
             // then
-            assertThat(result).isFalse();
+            assertThat(result).isEmpty();
+            then(repository).should(never()).findByLegacyToken(any(), any());
         }
-    }
-
-    @Nested
-    @DisplayName("findUserIdByToken 메서드")
-    class FindUserIdByToken {
 
         @Test
-        @DisplayName("성공: Entity 조회 후 UserId 반환")
-        void shouldFindAndReturnUserId_WhenEntityExists() {
+        @DisplayName("다이제스트로 찾지 못하면 이전 버전이 기록한 행을 원문으로 조회한다")
+        void shouldFallbackToLegacyToken_WhenHashNotFound() {
             // given
-            String refreshToken = RefreshTokenJpaEntityFixture.defaultToken();
-            RefreshTokenJpaEntity entity = RefreshTokenJpaEntityFixture.create();
-            String expectedUserId = entity.getUserId().toString();
-
-            given(repository.findByToken(refreshToken)).willReturn(Optional.of(entity));
+            String refreshToken = "issued_by_previous_version";
+            RefreshTokenJpaEntity legacy =
+                    RefreshTokenJpaEntity.of(
+                            RefreshTokenJpaEntityFixture.defaultRefreshTokenId(),
+                            RefreshTokenJpaEntityFixture.defaultUserId(),
+                            refreshToken,
+                            null,
+                            null,
+                            RefreshTokenJpaEntityFixture.fixedTime(),
+                            RefreshTokenJpaEntityFixture.fixedTime());
+
+            given(repository.findActiveByTokenHash(any(byte[].class), eq(NOW)))
+                    .willReturn(Optional.empty());
+            given(
+                            repository.findByLegacyToken(
+                                    refreshToken,
+                                    NOW.minus(RefreshTokenJpaEntityMapper.LEGACY_EXPIRES_IN)))
+                    .willReturn(Optional.of(legacy));
 
             // when
-            Optional<UserId> result = sut.findUserIdByToken(refreshToken);
+            Optional<RefreshTokenOwnerResult> result = sut.findOwnerByToken(refreshToken, NOW);
 
             // then
             assertThat(result).isPresent();
-            assertThat(result.get().value()).isEqualTo(expectedUserId);
+            assertThat(result.get().expiresAt())
+                    .isEqualTo(
+                            RefreshTokenJpaEntityFixture.fixedTime()
+                                    .plus(RefreshTokenJpaEntityMapper.LEGACY_EXPIRES_IN));
         }
 
         @Test
         @DisplayName("Entity가 없으면 빈 Optional 반환")
         void shouldReturnEmpty_WhenEntityNotFound() {
             // given
-            String refreshToken = "nonexistent_token";
-
-            given(repository.findByToken(refreshToken)).willReturn(Optional.empty());
+            given(repository.findActiveByTokenHash(any(byte[].class), eq(NOW)))
+                    .willReturn(Optional.empty());
+            given(repository.findByLegacyToken(eq("nonexistent_token"), any()))
+                    .willReturn(Optional.empty());
 
             // when
-            Optional<UserId> result = sut.findUserIdByToken(refreshToken);
+            Optional<RefreshTokenOwnerResult> result =
+                    sut.findOwnerByToken("nonexistent_token", NOW);
 
             // then
             assertThat(result).isEmpty();
         }
 
         @Test
-        @DisplayName("Repository에 토큰 문자열 전달")
-        void shouldPassToken_ToRepository() {
+        @DisplayName("Repository에 토큰 원문 대신 SHA-256 다이제스트 전달")
+        void shouldPassTokenHash_ToRepository() {
             // given
-            String refreshToken = "test_token";
+            String refreshToken = RefreshTokenJpaEntityFixture.defaultToken();
 
-            given(repository.findByToken(refreshToken)).willReturn(Optional.empty());
+            given(repository.findActiveByTokenHash(any(byte[].class), eq(NOW)))
+                    .willReturn(Optional.empty());
+            given(repository.findByLegacyToken(eq(refreshToken), any()))
+                    .willReturn(Optional.empty());
 
             // when
-            sut.findUserIdByToken(refreshToken);
+            sut.findOwnerByToken(refreshToken, NOW);
 
             // then
-            then(repository).should().findByToken(refreshToken);
+            then(repository)
+                    .should()
+                    .findActiveByTokenHash(
+                            aryEq(RefreshTokenJpaEntityFixture.defaultTokenHash()), eq(NOW));
         }
     }
 }
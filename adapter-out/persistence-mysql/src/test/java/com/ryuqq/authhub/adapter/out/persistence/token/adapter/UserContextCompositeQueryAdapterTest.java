@@ -9,6 +9,7 @@ import com.ryuqq.authhub.adapter.out.persistence.token.mapper.UserContextComposi
 import com.ryuqq.authhub.adapter.out.persistence.token.repository.UserContextCompositeQueryDslRepository;
 import com.ryuqq.authhub.application.token.dto.composite.UserContextComposite;
 import com.ryuqq.authhub.domain.user.id.UserId;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -103,4 +104,53 @@ class UserContextCompositeQueryAdapterTest {
             then(mapper).shouldHaveNoInteractions();
         }
     }
+
+    @Nested
+    @DisplayName("findUserContextsByUserIds 메서드")
+    class FindUserContextsByUserIds {
+
+        @Test
+        @DisplayName("성공: 한 번의 IN 조회 결과를 Composite 목록으로 변환하여 반환")
+        void shouldReturnComposites_FromSingleQuery() {
+            // given
+            UserId userId = UserId.of("019450eb-4f1e-7000-8000-000000000001");
+            UserId missingUserId = UserId.of("019450eb-4f1e-7000-8000-000000000002");
+            UserContextProjection projection =
+                    new UserContextProjection(
+                            userId.value(),
+                            "test@example.com",
+                            "Test User",
+                            "tenant-123",
+                            "Test Tenant",
+                            "org-456",
+                            "Test Organization",
+                            null);
+            UserContextComposite expectedComposite =
+                    UserContextComposite.builder()
+                            .userId(userId.value())
+                            .email("test@example.com")
+                            .name("Test User")
+                            .tenantId("tenant-123")
+                            .tenantName("Test Tenant")
+                            .organizationId("org-456")
+                            .organizationName("Test Organization")
+                            .build();
+
+            given(
+                            repository.findUserContextsByUserIds(
+                                    List.of(userId.value(), missingUserId.value())))
+                    .willReturn(List.of(projection));
+            given(mapper.toComposite(projection)).willReturn(expectedComposite);
+
+            // when
+            List<UserContextComposite> result =
+                    sut.findUserContextsByUserIds(List.of(userId, missingUserId));
+
+            // then
+            assertThat(result).containsExactly(expectedComposite);
+            then(repository)
+                    .should()
+                    .findUserContextsByUserIds(List.of(userId.value(), missingUserId.value()));
+        }
+    }
 }
@@ -46,6 +46,32 @@ class UserContextCompositeConditionBuilderTest {
         }
     }
 
+    @Nested
+    @DisplayName("buildConditionByIdentifier 메서드")
+    class BuildConditionByIdentifier {
+
+        @Test
+        @DisplayName("성공: identifier로 BooleanBuilder 생성")
+        void shouldBuildCondition_WithIdentifier() {
+            // when
+            BooleanBuilder result = sut.buildConditionByIdentifier("test@example.com");
+
+            // then
+            assertThat(result).isNotNull();
+            assertThat(result.getValue()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("null identifier면 identifier 조건 제외")
+        void shouldReturnNull_WhenIdentifierIsNull() {
+            // when
+            BooleanExpression result = sut.identifierEquals(null);
+
+            // then
+            assertThat(result).isNull();
+        }
+    }
+
     @Nested
     @DisplayName("userIdEquals 메서드")
     class UserIdEquals {
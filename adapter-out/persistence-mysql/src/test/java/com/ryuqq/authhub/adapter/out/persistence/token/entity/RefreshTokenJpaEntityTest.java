@@ -31,7 +31,9 @@ class RefreshTokenJpaEntityTest {
     private static final UUID REFRESH_TOKEN_ID =
             UUID.fromString("01941234-5678-7000-8000-123456789abc");
     private static final UUID USER_ID = UUID.fromString("01941234-5678-7000-8000-123456789001");
-    private static final String TOKEN = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9.test";
+    private static final String TOKEN = "refresh-token-value";
+    private static final byte[] TOKEN_HASH = new byte[32];
+    private static final Instant EXPIRES_AT = Instant.parse("2025-01-08T00:00:00Z");
     private static final Instant CREATED_AT = Instant.parse("2025-01-01T00:00:00Z");
     private static final Instant UPDATED_AT = Instant.parse("2025-01-02T00:00:00Z");
 
@@ -45,12 +47,20 @@ class RefreshTokenJpaEntityTest {
             // when
             RefreshTokenJpaEntity entity =
                     RefreshTokenJpaEntity.of(
-                            REFRESH_TOKEN_ID, USER_ID, TOKEN, CREATED_AT, UPDATED_AT);
+                            REFRESH_TOKEN_ID,
+                            USER_ID,
+                            TOKEN,
+                            TOKEN_HASH,
+                            EXPIRES_AT,
+                            CREATED_AT,
+                            UPDATED_AT);
 
             // then
             assertThat(entity.getRefreshTokenId()).isEqualTo(REFRESH_TOKEN_ID);
             assertThat(entity.getUserId()).isEqualTo(USER_ID);
             assertThat(entity.getToken()).isEqualTo(TOKEN);
+            assertThat(entity.getTokenHash()).isEqualTo(TOKEN_HASH);
+            assertThat(entity.getExpiresAt()).isEqualTo(EXPIRES_AT);
             assertThat(entity.getCreatedAt()).isEqualTo(CREATED_AT);
             assertThat(entity.getUpdatedAt()).isEqualTo(UPDATED_AT);
         }
@@ -61,7 +71,13 @@ class RefreshTokenJpaEntityTest {
             // when
             RefreshTokenJpaEntity entity =
                     RefreshTokenJpaEntity.of(
-                            REFRESH_TOKEN_ID, USER_ID, TOKEN, CREATED_AT, UPDATED_AT);
+                            REFRESH_TOKEN_ID,
+                            USER_ID,
+                            TOKEN,
+                            TOKEN_HASH,
+                            EXPIRES_AT,
+                            CREATED_AT,
+                            UPDATED_AT);
 
             // then
             assertThat(entity.getCreatedAt()).isNotEqualTo(entity.getUpdatedAt());
@@ -77,12 +93,15 @@ class RefreshTokenJpaEntityTest {
         void shouldSetSameCreatedAndUpdatedAt_ForNewEntity() {
             // when
             RefreshTokenJpaEntity entity =
-                    RefreshTokenJpaEntity.forNew(REFRESH_TOKEN_ID, USER_ID, TOKEN, CREATED_AT);
+                    RefreshTokenJpaEntity.forNew(
+                            REFRESH_TOKEN_ID, USER_ID, TOKEN, TOKEN_HASH, EXPIRES_AT, CREATED_AT);
 
             // then
             assertThat(entity.getRefreshTokenId()).isEqualTo(REFRESH_TOKEN_ID);
             assertThat(entity.getUserId()).isEqualTo(USER_ID);
             assertThat(entity.getToken()).isEqualTo(TOKEN);
+            assertThat(entity.getTokenHash()).isEqualTo(TOKEN_HASH);
+            assertThat(entity.getExpiresAt()).isEqualTo(EXPIRES_AT);
             assertThat(entity.getCreatedAt()).isEqualTo(CREATED_AT);
             assertThat(entity.getUpdatedAt()).isEqualTo(CREATED_AT);
         }
@@ -93,19 +112,24 @@ class RefreshTokenJpaEntityTest {
     class UpdateToken {
 
         @Test
-        @DisplayName("성공: 토큰과 updatedAt이 갱신됨")
+        @DisplayName("성공: 토큰 다이제스트, 만료 시각, updatedAt이 갱신됨")
         void shouldUpdateTokenAndUpdatedAt() {
             // given
             RefreshTokenJpaEntity entity =
-                    RefreshTokenJpaEntity.forNew(REFRESH_TOKEN_ID, USER_ID, TOKEN, CREATED_AT);
-            String newToken = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9.new_token";
+                    RefreshTokenJpaEntity.forNew(
+                            REFRESH_TOKEN_ID, USER_ID, TOKEN, TOKEN_HASH, EXPIRES_AT, CREATED_AT);
+            byte[] newTokenHash = new byte[32];
+            newTokenHash[0] = 1;
+            Instant newExpiresAt = Instant.parse("2025-01-10T00:00:00Z");
             Instant newUpdatedAt = Instant.parse("2025-01-03T00:00:00Z");
 
             // when
-            entity.updateToken(newToken, newUpdatedAt);
+            entity.updateToken("new-refresh-token", newTokenHash, newExpiresAt, newUpdatedAt);
 
             // then
-            assertThat(entity.getToken()).isEqualTo(newToken);
+            assertThat(entity.getToken()).isEqualTo("new-refresh-token");
+            assertThat(entity.getTokenHash()).isEqualTo(newTokenHash);
+            assertThat(entity.getExpiresAt()).isEqualTo(newExpiresAt);
             assertThat(entity.getUpdatedAt()).isEqualTo(newUpdatedAt);
         }
 
@@ -114,12 +138,13 @@ class RefreshTokenJpaEntityTest {
         void shouldNotChangeOtherFields() {
             // given
             RefreshTokenJpaEntity entity =
-                    RefreshTokenJpaEntity.forNew(REFRESH_TOKEN_ID, USER_ID, TOKEN, CREATED_AT);
-            String newToken = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9.new_token";
+                    RefreshTokenJpaEntity.forNew(
+                            REFRESH_TOKEN_ID, USER_ID, TOKEN, TOKEN_HASH, EXPIRES_AT, CREATED_AT);
+            Instant newExpiresAt = Instant.parse("2025-01-10T00:00:00Z");
             Instant newUpdatedAt = Instant.parse("2025-01-03T00:00:00Z");
 
             // when
-            entity.updateToken(newToken, newUpdatedAt);
+            entity.updateToken("new-refresh-token", new byte[32], newExpiresAt, newUpdatedAt);
 
             // then
             assertThat(entity.getRefreshTokenId()).isEqualTo(REFRESH_TOKEN_ID);
@@ -137,12 +162,15 @@ class RefreshTokenJpaEntityTest {
         void shouldReturnTrue_WhenSameId() {
             // given
             RefreshTokenJpaEntity entity1 =
-                    RefreshTokenJpaEntity.forNew(REFRESH_TOKEN_ID, USER_ID, TOKEN, CREATED_AT);
+                    RefreshTokenJpaEntity.forNew(
+                            REFRESH_TOKEN_ID, USER_ID, TOKEN, TOKEN_HASH, EXPIRES_AT, CREATED_AT);
             RefreshTokenJpaEntity entity2 =
                     RefreshTokenJpaEntity.of(
                             REFRESH_TOKEN_ID,
                             UUID.randomUUID(),
-                            "different_token",
+                            "other-token",
+                            new byte[32],
+                            EXPIRES_AT,
                             CREATED_AT,
                             UPDATED_AT);
 
@@ -156,9 +184,11 @@ class RefreshTokenJpaEntityTest {
         void shouldReturnFalse_WhenDifferentId() {
             // given
             RefreshTokenJpaEntity entity1 =
-                    RefreshTokenJpaEntity.forNew(REFRESH_TOKEN_ID, USER_ID, TOKEN, CREATED_AT);
+                    RefreshTokenJpaEntity.forNew(
+                            REFRESH_TOKEN_ID, USER_ID, TOKEN, TOKEN_HASH, EXPIRES_AT, CREATED_AT);
             RefreshTokenJpaEntity entity2 =
-                    RefreshTokenJpaEntity.forNew(UUID.randomUUID(), USER_ID, TOKEN, CREATED_AT);
+                    RefreshTokenJpaEntity.forNew(
+                            UUID.randomUUID(), USER_ID, TOKEN, TOKEN_HASH, EXPIRES_AT, CREATED_AT);
 
             // then
             assertThat(entity1).isNotEqualTo(entity2);
@@ -169,7 +199,8 @@ class RefreshTokenJpaEntityTest {
         void shouldReturnFalse_WhenComparedWithNull() {
             // given
             RefreshTokenJpaEntity entity =
-                    RefreshTokenJpaEntity.forNew(REFRESH_TOKEN_ID, USER_ID, TOKEN, CREATED_AT);
+                    RefreshTokenJpaEntity.forNew(
+                            REFRESH_TOKEN_ID, USER_ID, TOKEN, TOKEN_HASH, EXPIRES_AT, CREATED_AT);
 
             // then
             assertThat(entity).isNotEqualTo(null);
@@ -188,7 +219,8 @@ class RefreshTokenJpaEntityTest {
 
             // when
             RefreshTokenJpaEntity entity =
-                    RefreshTokenJpaEntity.forNew(customId, USER_ID, TOKEN, CREATED_AT);
+                    RefreshTokenJpaEntity.forNew(
+                            customId, USER_ID, TOKEN, TOKEN_HASH, EXPIRES_AT, CREATED_AT);
 
             // then
             assertThat(entity.getRefreshTokenId()).isEqualTo(customId);
@@ -202,7 +234,13 @@ class RefreshTokenJpaEntityTest {
 
             // when
             RefreshTokenJpaEntity entity =
-                    RefreshTokenJpaEntity.forNew(REFRESH_TOKEN_ID, customUserId, TOKEN, CREATED_AT);
+                    RefreshTokenJpaEntity.forNew(
+                            REFRESH_TOKEN_ID,
+                            customUserId,
+                            TOKEN,
+                            TOKEN_HASH,
+                            EXPIRES_AT,
+                            CREATED_AT);
 
             // then
             assertThat(entity.getUserId()).isEqualTo(customUserId);
@@ -0,0 +1,65 @@
+package com.ryuqq.authhub.adapter.out.persistence.token.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.authhub.adapter.out.persistence.token.dto.LoginContextProjection;
+import com.ryuqq.authhub.application.token.dto.composite.LoginContextComposite;
+import com.ryuqq.authhub.domain.user.vo.UserStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LoginContextMapper 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@DisplayName("LoginContextMapper 단위 테스트")
+class LoginContextMapperTest {
+
+    private LoginContextMapper sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new LoginContextMapper();
+    }
+
+    @Nested
+    @DisplayName("toComposite 메서드")
+    class ToComposite {
+
+        @Test
+        @DisplayName("성공: Projection의 모든 필드를 Composite로 변환")
+        void shouldMapAllFields() {
+            // given
+            LoginContextProjection projection =
+                    new LoginContextProjection(
+                            "019450eb-4f1e-7000-8000-000000000001",
+                            "test@example.com",
+                            "$2a$10$hashed",
+                            UserStatus.SUSPENDED,
+                            "tenant-123",
+                            "Test Tenant",
+                            "org-456",
+                            "Test Organization");
+
+            // when
+            LoginContextComposite result = sut.toComposite(projection);
+
+            // then
+            assertThat(result.userId().value()).isEqualTo(projection.userId());
+            assertThat(result.identifier()).isEqualTo("test@example.com");
+            assertThat(result.hashedPassword().value()).isEqualTo("$2a$10$hashed");
+            assertThat(result.status()).isEqualTo(UserStatus.SUSPENDED);
+            assertThat(result.isActive()).isFalse();
+            assertThat(result.tenantId()).isEqualTo("tenant-123");
+            assertThat(result.tenantName()).isEqualTo("Test Tenant");
+            assertThat(result.organizationId()).isEqualTo("org-456");
+            assertThat(result.organizationName()).isEqualTo("Test Organization");
+        }
+    }
+}
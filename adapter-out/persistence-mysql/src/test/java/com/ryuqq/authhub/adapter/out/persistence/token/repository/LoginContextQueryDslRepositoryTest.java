@@ -0,0 +1,133 @@
+package com.ryuqq.authhub.adapter.out.persistence.token.repository;
+
+import static com.ryuqq.authhub.adapter.out.persistence.organization.entity.QOrganizationJpaEntity.organizationJpaEntity;
+import static com.ryuqq.authhub.adapter.out.persistence.tenant.entity.QTenantJpaEntity.tenantJpaEntity;
+import static com.ryuqq.authhub.adapter.out.persistence.user.entity.QUserJpaEntity.userJpaEntity;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ryuqq.authhub.adapter.out.persistence.token.condition.UserContextCompositeConditionBuilder;
+import com.ryuqq.authhub.adapter.out.persistence.token.dto.LoginContextProjection;
+import com.ryuqq.authhub.domain.user.vo.UserStatus;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+/**
+ * LoginContextQueryDslRepository 단위 테스트
+ *
+ * <p><strong>테스트 설계 원칙:</strong>
+ *
+ * <ul>
+ *   <li>JPAQueryFactory + JPAQuery 체인 Mock
+ *   <li>조회 결과 반환 검증
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("LoginContextQueryDslRepository 단위 테스트")
+class LoginContextQueryDslRepositoryTest {
+
+    private static final String USER_ID = "019450eb-4f1e-7000-8000-000000000001";
+
+    @Mock private JPAQueryFactory queryFactory;
+
+    @Mock private JPAQuery<LoginContextProjection> query;
+
+    private LoginContextQueryDslRepository sut;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        sut =
+                new LoginContextQueryDslRepository(
+                        queryFactory, new UserContextCompositeConditionBuilder());
+
+        given(queryFactory.select(any(Expression.class))).willReturn(query);
+        given(query.from(userJpaEntity)).willReturn(query);
+        given(query.join(organizationJpaEntity)).willReturn(query);
+        given(query.join(tenantJpaEntity)).willReturn(query);
+        given(query.on(any(Predicate.class))).willReturn(query);
+        given(query.where(any(Predicate.class))).willReturn(query);
+    }
+
+    @Nested
+    @DisplayName("findByIdentifier 메서드")
+    class FindByIdentifier {
+
+        @Test
+        @DisplayName("성공: Projection이 있으면 Optional에 담아 반환")
+        void shouldReturnOptionalWithProjection_WhenExists() {
+            // given
+            LoginContextProjection projection = projection();
+            given(query.fetchOne()).willReturn(projection);
+
+            // when
+            Optional<LoginContextProjection> result = sut.findByIdentifier("test@example.com");
+
+            // then
+            assertThat(result).contains(projection);
+        }
+
+        @Test
+        @DisplayName("Projection이 없으면 빈 Optional 반환")
+        void shouldReturnEmpty_WhenNotFound() {
+            // given
+            given(query.fetchOne()).willReturn(null);
+
+            // when
+            Optional<LoginContextProjection> result = sut.findByIdentifier("test@example.com");
+
+            // then
+            assertThat(result).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("findByUserId 메서드")
+    class FindByUserId {
+
+        @Test
+        @DisplayName("성공: Projection이 있으면 Optional에 담아 반환")
+        void shouldReturnOptionalWithProjection_WhenExists() {
+            // given
+            LoginContextProjection projection = projection();
+            given(query.fetchOne()).willReturn(projection);
+
+            // when
+            Optional<LoginContextProjection> result = sut.findByUserId(USER_ID);
+
+            // then
+            assertThat(result).contains(projection);
+        }
+    }
+
+    private static LoginContextProjection projection() {
+        return new LoginContextProjection(
+                USER_ID,
+                "test@example.com",
+                "$2a$10$hashed",
+                UserStatus.ACTIVE,
+                "tenant-123",
+                "Test Tenant",
+                "org-456",
+                "Test Organization");
+    }
+}
@@ -10,6 +10,7 @@ import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.ryuqq.authhub.adapter.out.persistence.token.entity.RefreshTokenJpaEntity;
 import com.ryuqq.authhub.adapter.out.persistence.token.fixture.RefreshTokenJpaEntityFixture;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -51,6 +52,8 @@ class RefreshTokenQueryDslRepositoryTest {
 
     private RefreshTokenQueryDslRepository sut;
 
+    private static final Instant NOW = Instant.parse("2025-01-02T00:00:00Z");
+
     @BeforeEach
     void setUp() {
         sut = new RefreshTokenQueryDslRepository(queryFactory);
@@ -59,6 +62,8 @@ class RefreshTokenQueryDslRepositoryTest {
     private void stubSelectFromChain(RefreshTokenJpaEntity fetchOneResult) {
         given(queryFactory.selectFrom(refreshTokenJpaEntity)).willReturn(selectFromQuery);
         given(selectFromQuery.where(any(BooleanExpression.class))).willReturn(selectFromQuery);
+        given(selectFromQuery.where(any(BooleanExpression.class), any(BooleanExpression.class)))
+                .willReturn(selectFromQuery);
         given(selectFromQuery.fetchOne()).willReturn(fetchOneResult);
     }
 
@@ -137,8 +142,8 @@ class RefreshTokenQueryDslRepositoryTest {
     }
 
     @Nested
-    @DisplayName("findByToken 메서드")
-    class FindByToken {
+    @DisplayName("findActiveByTokenHash 메서드")
+    class FindActiveByTokenHash {
 
         @Test
         @DisplayName("성공: Entity가 있으면 Optional에 담아 반환")
@@ -149,7 +154,9 @@ class RefreshTokenQueryDslRepositoryTest {
             stubSelectFromChain(entity);
 
             // when
-            Optional<RefreshTokenJpaEntity> result = sut.findByToken(token);
+            Optional<RefreshTokenJpaEntity> result =
+                    sut.findActiveByTokenHash(
+                            RefreshTokenJpaEntityFixture.defaultTokenHash(), NOW);
 
             // then
             assertThat(result).isPresent();
@@ -157,14 +164,13 @@ class RefreshTokenQueryDslRepositoryTest {
         }
 
         @Test
-        @DisplayName("Entity가 없으면 빈 Optional 반환")
+        @DisplayName("Entity가 없거나 만료되었으면 빈 Optional 반환")
         void shouldReturnEmpty_WhenNotFound() {
             // given
-            String token = "nonexistent-token-value";
             stubSelectFromChain(null);
 
             // when
-            Optional<RefreshTokenJpaEntity> result = sut.findByToken(token);
+            Optional<RefreshTokenJpaEntity> result = sut.findActiveByTokenHash(new byte[32], NOW);
 
             // then
             assertThat(result).isEmpty();
@@ -0,0 +1,221 @@
+package com.ryuqq.authhub.adapter.out.persistence.token.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.ryuqq.authhub.adapter.out.persistence.token.config.RefreshTokenPurgeProperties;
+import com.ryuqq.authhub.adapter.out.persistence.token.repository.RefreshTokenJpaRepository;
+import com.ryuqq.authhub.application.common.port.out.DistributedLockPort;
+import com.ryuqq.authhub.application.common.time.TimeProvider;
+import com.ryuqq.authhub.domain.token.vo.RefreshTokenPurgeLockKey;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * ExpiredRefreshTokenPurgeScheduler 단위 테스트
+ *
+ * <p><strong>테스트 설계 원칙:</strong>
+ *
+ * <ul>
+ *   <li>JpaRepository/TimeProvider/DistributedLockPort를 Mock으로 대체
+ *   <li>배치 반복 종료 조건 (batch-size 미만, max-batches-per-run) 검증
+ *   <li>분산락 획득 인스턴스만 정리 실행 검증
+ *   <li>비활성화 시 스케줄러 미기동 검증
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExpiredRefreshTokenPurgeScheduler 단위 테스트")
+class ExpiredRefreshTokenPurgeSchedulerTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-08T00:00:00Z");
+    private static final Instant UPDATED_BEFORE = Instant.parse("2025-01-01T00:00:00Z");
+    private static final int BATCH_SIZE = 100;
+
+    @Mock private RefreshTokenJpaRepository jpaRepository;
+
+    @Mock private TimeProvider timeProvider;
+
+    @Mock private DistributedLockPort distributedLockPort;
+
+    private RefreshTokenPurgeProperties properties;
+
+    private ExpiredRefreshTokenPurgeScheduler sut;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RefreshTokenPurgeProperties();
+        properties.setBatchSize(BATCH_SIZE);
+        properties.setMaxBatchesPerRun(3);
+        sut =
+                new ExpiredRefreshTokenPurgeScheduler(
+                        jpaRepository, properties, timeProvider, distributedLockPort);
+    }
+
+    @Nested
+    @DisplayName("purge 메서드")
+    class Purge {
+
+        @Test
+        @DisplayName("삭제 건수가 batch-size 미만이면 반복을 종료한다")
+        void shouldStop_WhenBatchIsNotFull() {
+            // given
+            given(timeProvider.now()).willReturn(NOW);
+            given(jpaRepository.deleteExpiredBatch(NOW, UPDATED_BEFORE, BATCH_SIZE))
+                    .willReturn(BATCH_SIZE, 30);
+
+            // when
+            int deleted = sut.purge();
+
+            // then
+            assertThat(deleted).isEqualTo(BATCH_SIZE + 30);
+            then(jpaRepository)
+                    .should(times(2))
+                    .deleteExpiredBatch(NOW, UPDATED_BEFORE, BATCH_SIZE);
+        }
+
+        @Test
+        @DisplayName("1회 실행당 max-batches-per-run 배치까지만 삭제한다")
+        void shouldStop_WhenMaxBatchesReached() {
+            // given
+            given(timeProvider.now()).willReturn(NOW);
+            given(jpaRepository.deleteExpiredBatch(NOW, UPDATED_BEFORE, BATCH_SIZE))
+                    .willReturn(BATCH_SIZE);
+
+            // when
+            int deleted = sut.purge();
+
+            // then
+            assertThat(deleted).isEqualTo(BATCH_SIZE * 3);
+            then(jpaRepository)
+                    .should(times(3))
+                    .deleteExpiredBatch(eq(NOW), eq(UPDATED_BEFORE), anyInt());
+        }
+
+        @Test
+        @DisplayName("만료 토큰이 없으면 한 번만 조회한다")
+        void shouldRunOnce_WhenNothingExpired() {
+            // given
+            given(timeProvider.now()).willReturn(NOW);
+            given(jpaRepository.deleteExpiredBatch(NOW, UPDATED_BEFORE, BATCH_SIZE))
+                    .willReturn(0);
+
+            // when
+            int deleted = sut.purge();
+
+            // then
+            assertThat(deleted).isZero();
+            then(jpaRepository)
+                    .should(times(1))
+                    .deleteExpiredBatch(NOW, UPDATED_BEFORE, BATCH_SIZE);
+        }
+    }
+
+    @Nested
+    @DisplayName("purgeIfLeader 메서드")
+    class PurgeIfLeader {
+
+        private static final RefreshTokenPurgeLockKey LOCK_KEY = RefreshTokenPurgeLockKey.INSTANCE;
+
+        @Test
+        @DisplayName("분산락을 획득하면 정리 후 락을 해제한다")
+        void shouldPurgeAndUnlock_WhenLockAcquired() {
+            // given
+            long leaseMillis = properties.getLockLeaseTime().toMillis();
+            given(distributedLockPort.tryLock(LOCK_KEY, 0, leaseMillis, TimeUnit.MILLISECONDS))
+                    .willReturn(true);
+            given(timeProvider.now()).willReturn(NOW);
+            given(jpaRepository.deleteExpiredBatch(NOW, UPDATED_BEFORE, BATCH_SIZE))
+                    .willReturn(10);
+
+            // when
+            int deleted = sut.purgeIfLeader();
+
+            // then
+            assertThat(deleted).isEqualTo(10);
+            then(distributedLockPort).should().unlock(LOCK_KEY);
+        }
+
+        @Test
+        @DisplayName("다른 인스턴스가 락을 보유 중이면 정리하지 않는다")
+        void shouldSkip_WhenLockNotAcquired() {
+            // given
+            given(distributedLockPort.tryLock(any(), anyLong(), anyLong(), any()))
+                    .willReturn(false);
+
+            // when
+            int deleted = sut.purgeIfLeader();
+
+            // then
+            assertThat(deleted).isZero();
+            then(jpaRepository).should(never()).deleteExpiredBatch(any(), any(), anyInt());
+            then(distributedLockPort).should(never()).unlock(any());
+        }
+
+        @Test
+        @DisplayName("정리 중 예외가 발생해도 락을 해제한다")
+        void shouldUnlock_WhenPurgeFails() {
+            // given
+            given(distributedLockPort.tryLock(any(), anyLong(), anyLong(), any()))
+                    .willReturn(true);
+            given(timeProvider.now()).willReturn(NOW);
+            given(jpaRepository.deleteExpiredBatch(NOW, UPDATED_BEFORE, BATCH_SIZE))
+                    .willThrow(new IllegalStateException("db down"));
+
+            // when & then
+            assertThatThrownBy(() -> sut.purgeIfLeader())
+                    .isInstanceOf(IllegalStateException.class);
+            then(distributedLockPort).should().unlock(LOCK_KEY);
+        }
+    }
+
+    @Nested
+    @DisplayName("Lifecycle")
+    class Lifecycle {
+
+        @Test
+        @DisplayName("비활성화되어 있으면 스케줄러를 기동하지 않는다")
+        void shouldNotStart_WhenDisabled() {
+            // given
+            properties.setEnabled(false);
+
+            // when
+            sut.start();
+
+            // then
+            assertThat(sut.isRunning()).isFalse();
+        }
+
+        @Test
+        @DisplayName("기동 후 종료하면 실행 중이 아니다")
+        void shouldStopRunning_AfterStop() {
+            // when
+            sut.start();
+            boolean runningAfterStart = sut.isRunning();
+            sut.stop();
+
+            // then
+            assertThat(runningAfterStart).isTrue();
+            assertThat(sut.isRunning()).isFalse();
+        }
+    }
+}
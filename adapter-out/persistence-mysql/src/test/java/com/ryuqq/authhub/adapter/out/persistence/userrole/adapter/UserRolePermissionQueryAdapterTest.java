@@ -0,0 +1,123 @@
+package com.ryuqq.authhub.adapter.out.persistence.userrole.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.ryuqq.authhub.adapter.out.persistence.userrole.dto.UserRolePermissionProjection;
+import com.ryuqq.authhub.adapter.out.persistence.userrole.repository.UserRoleQueryDslRepository;
+import com.ryuqq.authhub.application.userrole.dto.response.UserRolePermissionResult;
+import com.ryuqq.authhub.domain.user.id.UserId;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * UserRolePermissionQueryAdapter 단위 테스트
+ *
+ * <p><strong>테스트 설계 원칙:</strong>
+ *
+ * <ul>
+ *   <li>Adapter는 QueryDslRepository 위임만 담당
+ *   <li>Repository를 Mock으로 대체
+ *   <li>UserId VO → String 변환 검증
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserRolePermissionQueryAdapter 단위 테스트")
+class UserRolePermissionQueryAdapterTest {
+
+    private static final String USER_ID = "01941234-5678-7000-8000-123456789001";
+
+    @Mock private UserRoleQueryDslRepository queryDslRepository;
+
+    private UserRolePermissionQueryAdapter sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new UserRolePermissionQueryAdapter(queryDslRepository);
+    }
+
+    @Nested
+    @DisplayName("findAllByUserId 메서드")
+    class FindAllByUserId {
+
+        @Test
+        @DisplayName("성공: Repository 결과를 그대로 반환")
+        void shouldReturnRolePermissions_FromRepository() {
+            // given
+            List<UserRolePermissionResult> expected =
+                    List.of(
+                            new UserRolePermissionResult("ADMIN", "user:read"),
+                            new UserRolePermissionResult("VIEWER", null));
+
+            given(queryDslRepository.findRolePermissionsByUserId(USER_ID)).willReturn(expected);
+
+            // when
+            List<UserRolePermissionResult> result = sut.findAllByUserId(UserId.of(USER_ID));
+
+            // then
+            assertThat(result).isEqualTo(expected);
+            then(queryDslRepository).should().findRolePermissionsByUserId(USER_ID);
+        }
+
+        @Test
+        @DisplayName("할당된 역할이 없으면 빈 목록 반환")
+        void shouldReturnEmptyList_WhenNoRoles() {
+            // given
+            given(queryDslRepository.findRolePermissionsByUserId(USER_ID)).willReturn(List.of());
+
+            // when
+            List<UserRolePermissionResult> result = sut.findAllByUserId(UserId.of(USER_ID));
+
+            // then
+            assertThat(result).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("findAllByUserIds 메서드")
+    class FindAllByUserIds {
+
+        @Test
+        @DisplayName("성공: 한 번의 IN 조회 결과를 사용자별로 묶어 반환")
+        void shouldGroupRolePermissions_ByUserId() {
+            // given
+            String otherUserId = "01941234-5678-7000-8000-123456789002";
+            given(queryDslRepository.findRolePermissionsByUserIds(List.of(USER_ID, otherUserId)))
+                    .willReturn(
+                            List.of(
+                                    new UserRolePermissionProjection(USER_ID, "ADMIN", "user:read"),
+                                    new UserRolePermissionProjection(
+                                            otherUserId, "VIEWER", null),
+                                    new UserRolePermissionProjection(
+                                            USER_ID, "ADMIN", "user:write")));
+
+            // when
+            Map<UserId, List<UserRolePermissionResult>> result =
+                    sut.findAllByUserIds(List.of(UserId.of(USER_ID), UserId.of(otherUserId)));
+
+            // then
+            assertThat(result.get(UserId.of(USER_ID)))
+                    .containsExactly(
+                            new UserRolePermissionResult("ADMIN", "user:read"),
+                            new UserRolePermissionResult("ADMIN", "user:write"));
+            assertThat(result.get(UserId.of(otherUserId)))
+                    .containsExactly(new UserRolePermissionResult("VIEWER", null));
+            then(queryDslRepository)
+                    .should()
+                    .findRolePermissionsByUserIds(List.of(USER_ID, otherUserId));
+        }
+    }
+}
@@ -5,7 +5,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.BooleanExpression;
@@ -14,6 +16,7 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.ryuqq.authhub.adapter.out.persistence.userrole.condition.UserRoleConditionBuilder;
 import com.ryuqq.authhub.adapter.out.persistence.userrole.entity.UserRoleJpaEntity;
 import com.ryuqq.authhub.adapter.out.persistence.userrole.fixture.UserRoleJpaEntityFixture;
+import com.ryuqq.authhub.application.userrole.dto.response.UserRolePermissionResult;
 import com.ryuqq.authhub.domain.common.vo.PageRequest;
 import com.ryuqq.authhub.domain.common.vo.SortDirection;
 import com.ryuqq.authhub.domain.user.id.UserId;
@@ -27,6 +30,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -66,6 +70,9 @@ class UserRoleQueryDslRepositoryTest {
 
     @Mock private JPAQuery<Long> selectRoleIdQuery;
 
+    @Mock(answer = Answers.RETURNS_SELF)
+    private JPAQuery<UserRolePermissionResult> rolePermissionQuery;
+
     private UserRoleConditionBuilder conditionBuilder;
     private UserRoleQueryDslRepository sut;
 
@@ -317,4 +324,31 @@ class UserRoleQueryDslRepositoryTest {
             assertThat(result).isZero();
         }
     }
+
+    @Nested
+    @DisplayName("findRolePermissionsByUserId 메서드")
+    class FindRolePermissionsByUserId {
+
+        @Test
+        @DisplayName("성공: 단일 조인 쿼리 결과 (역할 이름, 권한 키) 목록 반환")
+        @SuppressWarnings("unchecked")
+        void shouldReturnRolePermissions_WithSingleQuery() {
+            // given
+            List<UserRolePermissionResult> expected =
+                    List.of(
+                            new UserRolePermissionResult("ADMIN", "user:read"),
+                            new UserRolePermissionResult("VIEWER", null));
+            given(queryFactory.select(any(Expression.class))).willReturn(rolePermissionQuery);
+            given(rolePermissionQuery.fetch()).willReturn(expected);
+
+            // when
+            List<UserRolePermissionResult> result = sut.findRolePermissionsByUserId(USER_ID);
+
+            // then
+            assertThat(result).isEqualTo(expected);
+            then(rolePermissionQuery).should().from(userRoleJpaEntity);
+            then(rolePermissionQuery).should().where(userRoleJpaEntity.userId.eq(USER_ID));
+            then(rolePermissionQuery).should().fetch();
+        }
+    }
 }
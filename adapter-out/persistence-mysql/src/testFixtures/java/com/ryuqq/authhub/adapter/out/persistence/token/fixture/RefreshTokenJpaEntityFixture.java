@@ -1,6 +1,7 @@
 package com.ryuqq.authhub.adapter.out.persistence.token.fixture;
 
 import com.ryuqq.authhub.adapter.out.persistence.token.entity.RefreshTokenJpaEntity;
+import com.ryuqq.authhub.adapter.out.persistence.token.mapper.RefreshTokenJpaEntityMapper;
 import com.ryuqq.authhub.domain.user.fixture.UserFixture;
 import java.time.Instant;
 import java.util.UUID;
@@ -27,11 +28,10 @@ public final class RefreshTokenJpaEntityFixture {
     private static final UUID DEFAULT_REFRESH_TOKEN_ID =
             UUID.fromString("01941234-5678-7000-8000-123456789abc");
     private static final UUID DEFAULT_USER_ID = UUID.fromString(UserFixture.defaultIdString());
-    private static final String DEFAULT_TOKEN =
-            "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9"
-                    + ".eyJzdWIiOiIxMjM0NTY3ODkwIiwibmFtZSI6IkpvaG4gRG9lIn0"
-                    + ".Gfx6VO9tcxwk6xqx9yYzSfebfeakZp5JYIgP_edcw_A";
+    private static final RefreshTokenJpaEntityMapper MAPPER = new RefreshTokenJpaEntityMapper();
+    private static final String DEFAULT_TOKEN = "q3Zt8nXW0aJfK2c9Lp1vYdR7sB4mE6uH5gTiOoNwQxA";
     private static final Instant FIXED_TIME = Instant.parse("2025-01-01T00:00:00Z");
+    private static final Instant DEFAULT_EXPIRES_AT = FIXED_TIME.plusSeconds(604800L);
 
     private RefreshTokenJpaEntityFixture() {}
 
@@ -44,7 +44,13 @@ public final class RefreshTokenJpaEntityFixture {
      */
     public static RefreshTokenJpaEntity create() {
         return RefreshTokenJpaEntity.of(
-                DEFAULT_REFRESH_TOKEN_ID, DEFAULT_USER_ID, DEFAULT_TOKEN, FIXED_TIME, FIXED_TIME);
+                DEFAULT_REFRESH_TOKEN_ID,
+                DEFAULT_USER_ID,
+                DEFAULT_TOKEN,
+                defaultTokenHash(),
+                DEFAULT_EXPIRES_AT,
+                FIXED_TIME,
+                FIXED_TIME);
     }
 
     /**
@@ -54,7 +60,12 @@ public final class RefreshTokenJpaEntityFixture {
      */
     public static RefreshTokenJpaEntity createNew() {
         return RefreshTokenJpaEntity.forNew(
-                DEFAULT_REFRESH_TOKEN_ID, DEFAULT_USER_ID, DEFAULT_TOKEN, FIXED_TIME);
+                DEFAULT_REFRESH_TOKEN_ID,
+                DEFAULT_USER_ID,
+                DEFAULT_TOKEN,
+                defaultTokenHash(),
+                DEFAULT_EXPIRES_AT,
+                FIXED_TIME);
     }
 
     /**
@@ -65,7 +76,13 @@ public final class RefreshTokenJpaEntityFixture {
      */
     public static RefreshTokenJpaEntity createWithUserId(UUID userId) {
         return RefreshTokenJpaEntity.of(
-                DEFAULT_REFRESH_TOKEN_ID, userId, DEFAULT_TOKEN, FIXED_TIME, FIXED_TIME);
+                DEFAULT_REFRESH_TOKEN_ID,
+                userId,
+                DEFAULT_TOKEN,
+                defaultTokenHash(),
+                DEFAULT_EXPIRES_AT,
+                FIXED_TIME,
+                FIXED_TIME);
     }
 
     /**
@@ -86,7 +103,30 @@ public final class RefreshTokenJpaEntityFixture {
      */
     public static RefreshTokenJpaEntity createWithToken(String token) {
         return RefreshTokenJpaEntity.of(
-                DEFAULT_REFRESH_TOKEN_ID, DEFAULT_USER_ID, token, FIXED_TIME, FIXED_TIME);
+                DEFAULT_REFRESH_TOKEN_ID,
+                DEFAULT_USER_ID,
+                token,
+                MAPPER.toTokenHash(token),
+                DEFAULT_EXPIRES_AT,
+                FIXED_TIME,
+                FIXED_TIME);
+    }
+
+    /**
+     * 지정된 만료 시각으로 Entity 생성
+     *
+     * @param expiresAt 만료 시각
+     * @return RefreshTokenJpaEntity
+     */
+    public static RefreshTokenJpaEntity createWithExpiresAt(Instant expiresAt) {
+        return RefreshTokenJpaEntity.of(
+                DEFAULT_REFRESH_TOKEN_ID,
+                DEFAULT_USER_ID,
+                DEFAULT_TOKEN,
+                defaultTokenHash(),
+                expiresAt,
+                FIXED_TIME,
+                FIXED_TIME);
     }
 
     /**
@@ -97,19 +137,33 @@ public final class RefreshTokenJpaEntityFixture {
      */
     public static RefreshTokenJpaEntity createWithId(UUID refreshTokenId) {
         return RefreshTokenJpaEntity.of(
-                refreshTokenId, DEFAULT_USER_ID, DEFAULT_TOKEN, FIXED_TIME, FIXED_TIME);
+                refreshTokenId,
+                DEFAULT_USER_ID,
+                DEFAULT_TOKEN,
+                defaultTokenHash(),
+                DEFAULT_EXPIRES_AT,
+                FIXED_TIME,
+                FIXED_TIME);
     }
 
     /**
      * 갱신된 토큰 Entity 생성
      *
      * @param newToken 새로운 토큰
+     * @param expiresAt 새로운 만료 시각
      * @param updatedAt 갱신 시각
      * @return RefreshTokenJpaEntity
      */
-    public static RefreshTokenJpaEntity createUpdated(String newToken, Instant updatedAt) {
+    public static RefreshTokenJpaEntity createUpdated(
+            String newToken, Instant expiresAt, Instant updatedAt) {
         return RefreshTokenJpaEntity.of(
-                DEFAULT_REFRESH_TOKEN_ID, DEFAULT_USER_ID, newToken, FIXED_TIME, updatedAt);
+                DEFAULT_REFRESH_TOKEN_ID,
+                DEFAULT_USER_ID,
+                newToken,
+                MAPPER.toTokenHash(newToken),
+                expiresAt,
+                FIXED_TIME,
+                updatedAt);
     }
 
     // ==================== 전체 필드 지정 ====================
@@ -119,14 +173,27 @@ public final class RefreshTokenJpaEntityFixture {
      *
      * @param refreshTokenId RefreshToken UUID
      * @param userId 사용자 UUID
-     * @param token 토큰 문자열
+     * @param token 토큰 문자열 (원문과 다이제스트를 함께 저장)
+     * @param expiresAt 만료 시각
      * @param createdAt 생성 시각
      * @param updatedAt 갱신 시각
      * @return RefreshTokenJpaEntity
      */
     public static RefreshTokenJpaEntity create(
-            UUID refreshTokenId, UUID userId, String token, Instant createdAt, Instant updatedAt) {
-        return RefreshTokenJpaEntity.of(refreshTokenId, userId, token, createdAt, updatedAt);
+            UUID refreshTokenId,
+            UUID userId,
+            String token,
+            Instant expiresAt,
+            Instant createdAt,
+            Instant updatedAt) {
+        return RefreshTokenJpaEntity.of(
+                refreshTokenId,
+                userId,
+                token,
+                MAPPER.toTokenHash(token),
+                expiresAt,
+                createdAt,
+                updatedAt);
     }
 
     // ==================== 기본값 접근자 ====================
@@ -158,6 +225,24 @@ public final class RefreshTokenJpaEntityFixture {
         return DEFAULT_TOKEN;
     }
 
+    /**
+     * 기본 토큰의 SHA-256 다이제스트 반환
+     *
+     * @return 토큰 다이제스트 (32바이트)
+     */
+    public static byte[] defaultTokenHash() {
+        return MAPPER.toTokenHash(DEFAULT_TOKEN);
+    }
+
+    /**
+     * 기본 만료 시각 반환 (고정 시간 + 7일)
+     *
+     * @return 만료 시각
+     */
+    public static Instant defaultExpiresAt() {
+        return DEFAULT_EXPIRES_AT;
+    }
+
     /**
      * 고정 시간 반환
      *
@@ -1,9 +1,12 @@
 package com.ryuqq.authhub.adapter.out.persistence.redis.auth.adapter;
 
+import com.ryuqq.authhub.adapter.out.persistence.redis.auth.script.RefreshTokenCacheScripts;
 import com.ryuqq.authhub.adapter.out.persistence.redis.common.RedisKeyGenerator;
+import com.ryuqq.authhub.adapter.out.persistence.redis.config.RefreshTokenCacheProperties;
 import com.ryuqq.authhub.application.token.port.out.command.RefreshTokenCacheCommandPort;
 import com.ryuqq.authhub.domain.user.id.UserId;
-import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
@@ -15,10 +18,15 @@ import org.springframework.stereotype.Component;
  * <p><strong>양방향 매핑:</strong>
  *
  * <ul>
- *   <li>UserId → Token: {@code refresh_token::user::{userId}}
- *   <li>Token → UserId: {@code refresh_token::token::{token}}
+ *   <li>UserId → Digest: {@code refresh_token::u::{userId}}
+ *   <li>Digest → UserId: {@code refresh_token::t::{digest}}
  * </ul>
  *
+ * <p>토큰 원문 대신 22자 Digest({@link RedisKeyGenerator#refreshTokenDigest(String)})를 키와 값에 사용합니다. 키
+ * 마이그레이션 모드({@link RefreshTokenCacheProperties#isLegacyKeyRead()})에서는 이전 형식 키도 함께 정리합니다.
+ *
+ * <p>두 키는 {@link RefreshTokenCacheScripts}의 Lua 스크립트로 한 번의 왕복에 원자적으로 변경됩니다.
+ *
  * <p><strong>Zero-Tolerance 규칙:</strong>
  *
  * <ul>
@@ -26,6 +34,7 @@ import org.springframework.stereotype.Component;
  *   <li>비즈니스 로직 금지 (단순 저장/삭제만)
  *   <li>TTL 필수 설정
  *   <li>KEYS 명령어 절대 금지
+ *   <li>양방향 키는 개별 명령으로 변경 금지 (스크립트 사용)
  * </ul>
  *
  * @author development-team
@@ -35,78 +44,126 @@ import org.springframework.stereotype.Component;
 public class RefreshTokenCacheCommandAdapter implements RefreshTokenCacheCommandPort {
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final RefreshTokenCacheProperties properties;
 
-    public RefreshTokenCacheCommandAdapter(RedisTemplate<String, String> redisTemplate) {
+    public RefreshTokenCacheCommandAdapter(
+            RedisTemplate<String, String> redisTemplate, RefreshTokenCacheProperties properties) {
         this.redisTemplate = redisTemplate;
+        this.properties = properties;
     }
 
     /**
      * RefreshToken 캐시 저장
      *
-     * <p>양방향 조회를 위해 두 개의 키를 저장합니다:
+     * <p>양방향 조회를 위해 두 개의 키를 한 번의 스크립트 실행으로 저장합니다:
      *
      * <ul>
-     *   <li>userId → token (userId로 token 조회용)
-     *   <li>token → userId (token으로 userId 조회용)
+     *   <li>userId → digest (userId로 현재 토큰 확인용)
+     *   <li>digest → userId (token으로 userId 조회용)
      * </ul>
      *
+     * <p>사용자에게 이전 토큰이 있으면 이전 토큰의 역방향 키도 함께 삭제합니다.
+     *
      * @param userId 사용자 ID (Value Object)
      * @param refreshToken RefreshToken 문자열
      * @param expiresInSeconds 만료 시간 (초)
      */
     @Override
     public void save(UserId userId, String refreshToken, long expiresInSeconds) {
-        Duration ttl = Duration.ofSeconds(expiresInSeconds);
         String userIdString = userId.value();
+        String digest = RedisKeyGenerator.refreshTokenDigest(refreshToken);
+        List<String> keys = new ArrayList<>(3);
+        keys.add(RedisKeyGenerator.refreshTokenByUser(userIdString));
+        keys.add(RedisKeyGenerator.refreshTokenTokenPrefix() + digest);
+        List<Object> args = new ArrayList<>(5);
+        args.add(digest);
+        args.add(userIdString);
+        args.add(String.valueOf(expiresInSeconds));
+        args.add(RedisKeyGenerator.refreshTokenTokenPrefix());
+        if (properties.isLegacyKeyRead()) {
+            keys.add(RedisKeyGenerator.legacyRefreshTokenByUser(userIdString));
+            args.add(RedisKeyGenerator.legacyRefreshTokenTokenPrefix());
+        }
+        redisTemplate.execute(RefreshTokenCacheScripts.SAVE, keys, args.toArray());
+    }
 
-        // userId → token 매핑 저장
-        String userKey = RedisKeyGenerator.refreshTokenByUser(userIdString);
-        redisTemplate.opsForValue().set(userKey, refreshToken, ttl);
-
-        // token → userId 역방향 매핑 저장
-        String tokenKey = RedisKeyGenerator.refreshTokenByToken(refreshToken);
-        redisTemplate.opsForValue().set(tokenKey, userIdString, ttl);
+    /**
+     * RefreshToken 캐시 교체
+     *
+     * <p>이전 토큰의 양방향 매핑 삭제와 새 토큰 저장을 한 번의 스크립트 실행으로 수행합니다.
+     *
+     * @param userId 사용자 ID (Value Object)
+     * @param oldRefreshToken 교체 대상 RefreshToken 값
+     * @param newRefreshToken 새 RefreshToken 값
+     * @param expiresInSeconds 새 토큰 만료 시간 (초)
+     * @return 교체 성공 여부 (이전 토큰이 이미 다른 토큰으로 교체된 경우 false)
+     */
+    @Override
+    public boolean rotate(
+            UserId userId, String oldRefreshToken, String newRefreshToken, long expiresInSeconds) {
+        String userIdString = userId.value();
+        String oldDigest = RedisKeyGenerator.refreshTokenDigest(oldRefreshToken);
+        String newDigest = RedisKeyGenerator.refreshTokenDigest(newRefreshToken);
+        List<String> keys = new ArrayList<>(5);
+        keys.add(RedisKeyGenerator.refreshTokenByUser(userIdString));
+        keys.add(RedisKeyGenerator.refreshTokenTokenPrefix() + oldDigest);
+        keys.add(RedisKeyGenerator.refreshTokenTokenPrefix() + newDigest);
+        List<Object> args = new ArrayList<>(6);
+        args.add(userIdString);
+        args.add(oldDigest);
+        args.add(newDigest);
+        args.add(String.valueOf(expiresInSeconds));
+        args.add(RedisKeyGenerator.refreshTokenTokenPrefix());
+        if (properties.isLegacyKeyRead()) {
+            keys.add(RedisKeyGenerator.legacyRefreshTokenByUser(userIdString));
+            keys.add(RedisKeyGenerator.legacyRefreshTokenByToken(oldRefreshToken));
+            args.add(RedisKeyGenerator.legacyRefreshTokenTokenPrefix());
+        }
+        Long result = redisTemplate.execute(RefreshTokenCacheScripts.ROTATE, keys, args.toArray());
+        return Long.valueOf(1L).equals(result);
     }
 
     /**
      * UserId로 RefreshToken 삭제
      *
-     * <p>양방향 매핑을 모두 삭제합니다.
+     * <p>양방향 매핑을 한 번의 스크립트 실행으로 모두 삭제합니다.
      *
      * @param userId 사용자 ID (Value Object)
      */
     @Override
     public void deleteByUserId(UserId userId) {
-        String userKey = RedisKeyGenerator.refreshTokenByUser(userId.value());
-
-        // 먼저 token 값을 조회하여 역방향 키도 삭제
-        String token = redisTemplate.opsForValue().get(userKey);
-        if (token != null) {
-            String tokenKey = RedisKeyGenerator.refreshTokenByToken(token);
-            redisTemplate.delete(tokenKey);
+        String userIdString = userId.value();
+        List<String> keys = new ArrayList<>(2);
+        keys.add(RedisKeyGenerator.refreshTokenByUser(userIdString));
+        List<Object> args = new ArrayList<>(2);
+        args.add(RedisKeyGenerator.refreshTokenTokenPrefix());
+        if (properties.isLegacyKeyRead()) {
+            keys.add(RedisKeyGenerator.legacyRefreshTokenByUser(userIdString));
+            args.add(RedisKeyGenerator.legacyRefreshTokenTokenPrefix());
         }
-
-        redisTemplate.delete(userKey);
+        redisTemplate.execute(RefreshTokenCacheScripts.REVOKE_BY_USER, keys, args.toArray());
     }
 
     /**
      * RefreshToken 값으로 삭제
      *
-     * <p>양방향 매핑을 모두 삭제합니다.
+     * <p>양방향 매핑을 한 번의 스크립트 실행으로 삭제합니다. 사용자 키가 이미 다른 토큰을 가리키면 사용자 키는 유지합니다.
      *
      * @param refreshToken RefreshToken 값
      */
     @Override
     public void deleteByToken(String refreshToken) {
-        String tokenKey = RedisKeyGenerator.refreshTokenByToken(refreshToken);
-
-        // 먼저 userId 값을 조회하여 역방향 키도 삭제
-        String userIdString = redisTemplate.opsForValue().get(tokenKey);
-        if (userIdString != null) {
-            String userKey = RedisKeyGenerator.refreshTokenByUser(userIdString);
-            redisTemplate.delete(userKey);
+        String digest = RedisKeyGenerator.refreshTokenDigest(refreshToken);
+        List<String> keys = new ArrayList<>(2);
+        keys.add(RedisKeyGenerator.refreshTokenTokenPrefix() + digest);
+        List<Object> args = new ArrayList<>(4);
+        args.add(digest);
+        args.add(RedisKeyGenerator.refreshTokenUserPrefix());
+        if (properties.isLegacyKeyRead()) {
+            keys.add(RedisKeyGenerator.legacyRefreshTokenByToken(refreshToken));
+            args.add(refreshToken);
+            args.add(RedisKeyGenerator.legacyRefreshTokenUserPrefix());
         }
-
-        redisTemplate.delete(tokenKey);
+        redisTemplate.execute(RefreshTokenCacheScripts.REVOKE_BY_TOKEN, keys, args.toArray());
     }
 }
@@ -1,8 +1,11 @@
 package com.ryuqq.authhub.adapter.out.persistence.redis.auth.adapter;
 
 import com.ryuqq.authhub.adapter.out.persistence.redis.common.RedisKeyGenerator;
+import com.ryuqq.authhub.adapter.out.persistence.redis.config.RefreshTokenCacheProperties;
 import com.ryuqq.authhub.application.token.port.out.query.RefreshTokenCacheQueryPort;
 import com.ryuqq.authhub.domain.user.id.UserId;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
@@ -12,13 +15,14 @@ import org.springframework.stereotype.Component;
  *
  * <p>RefreshTokenCacheQueryPort 구현체입니다. Redis에서 RefreshToken을 조회합니다.
  *
- * <p><strong>양방향 조회 지원:</strong>
+ * <p><strong>조회 지원:</strong>
  *
  * <ul>
- *   <li>findByUserId: userId로 token 조회
- *   <li>findUserIdByToken: token으로 userId 역조회
+ *   <li>findUserIdByToken: token Digest 키로 userId 역조회
  * </ul>
  *
+ * <p>userId → Digest 매핑은 토큰 원문을 보관하지 않으므로 userId 기준 토큰 조회는 제공하지 않습니다.
+ *
  * <p><strong>Zero-Tolerance 규칙:</strong>
  *
  * <ul>
@@ -35,39 +39,40 @@ import org.springframework.stereotype.Component;
 public class RefreshTokenCacheQueryAdapter implements RefreshTokenCacheQueryPort {
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final RefreshTokenCacheProperties properties;
 
-    public RefreshTokenCacheQueryAdapter(RedisTemplate<String, String> redisTemplate) {
+    public RefreshTokenCacheQueryAdapter(
+            RedisTemplate<String, String> redisTemplate, RefreshTokenCacheProperties properties) {
         this.redisTemplate = redisTemplate;
-    }
-
-    /**
-     * UserId로 RefreshToken 조회
-     *
-     * @param userId 사용자 ID (Value Object)
-     * @return RefreshToken 문자열 (Optional)
-     */
-    @Override
-    public Optional<String> findByUserId(UserId userId) {
-        String userKey = RedisKeyGenerator.refreshTokenByUser(userId.value());
-        String token = redisTemplate.opsForValue().get(userKey);
-        return Optional.ofNullable(token);
+        this.properties = properties;
     }
 
     /**
      * RefreshToken으로 UserId 조회
      *
+     * <p>키 마이그레이션 모드에서는 Digest 키와 이전 형식 키를 MGET 한 번으로 조회하고 Digest 키를 우선합니다.
+     *
      * @param refreshToken RefreshToken 값
      * @return UserId (Optional)
      */
     @Override
     public Optional<UserId> findUserIdByToken(String refreshToken) {
         String tokenKey = RedisKeyGenerator.refreshTokenByToken(refreshToken);
-        String userIdString = redisTemplate.opsForValue().get(tokenKey);
+        if (!properties.isLegacyKeyRead()) {
+            return Optional.ofNullable(redisTemplate.opsForValue().get(tokenKey)).map(UserId::of);
+        }
 
-        if (userIdString == null) {
+        List<String> values =
+                redisTemplate
+                        .opsForValue()
+                        .multiGet(
+                                List.of(
+                                        tokenKey,
+                                        RedisKeyGenerator.legacyRefreshTokenByToken(
+                                                refreshToken)));
+        if (values == null) {
             return Optional.empty();
         }
-
-        return Optional.of(UserId.of(userIdString));
+        return values.stream().filter(Objects::nonNull).findFirst().map(UserId::of);
     }
 }
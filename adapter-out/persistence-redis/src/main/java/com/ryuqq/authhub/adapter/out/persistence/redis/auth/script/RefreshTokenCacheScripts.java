@@ -0,0 +1,160 @@
+package com.ryuqq.authhub.adapter.out.persistence.redis.auth.script;
+
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * RefreshTokenCacheScripts - RefreshToken 양방향 매핑 Lua 스크립트
+ *
+ * <p>userId → token, token → userId 두 키를 한 번의 왕복(EVALSHA)으로 원자적으로 변경합니다. 스크립트 실행 중에는 다른
+ * 명령이 끼어들 수 없으므로 GET 후 DEL 사이의 경합이 발생하지 않습니다.
+ *
+ * <p><strong>키 조립:</strong> 조회한 값으로 만들어지는 키(예: 이전 token 키)는 스크립트 내부에서 ARGV로 전달한 Prefix와
+ * 조합합니다. 따라서 단일 노드(Standalone/Sentinel) Redis를 전제로 합니다.
+ *
+ * <p><strong>키 마이그레이션 모드:</strong> 괄호로 표시한 이전 형식 키/인자는 마이그레이션 모드에서만 전달되며, 전달된
+ * 경우 이전 형식 매핑도 함께 정리합니다.
+ *
+ * <p><strong>Zero-Tolerance 규칙:</strong>
+ *
+ * <ul>
+ *   <li>모든 SET은 EX(TTL)와 함께 수행
+ *   <li>KEYS/SCAN 명령어 사용 금지
+ *   <li>반환 타입은 Long (1: 성공, 0: 조건 불일치)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public final class RefreshTokenCacheScripts {
+
+    /**
+     * 저장 (이전 토큰 역방향 키 정리 포함)
+     *
+     * <p>KEYS: [userKey, tokenKey, (legacyUserKey)] / ARGV: [digest, userId, ttlSeconds,
+     * tokenKeyPrefix, (legacyTokenKeyPrefix)]
+     */
+    public static final RedisScript<Long> SAVE =
+            RedisScript.of(
+                    """
+                    local previous = redis.call('GET', KEYS[1])
+                    if previous and previous ~= ARGV[1] then
+                        redis.call('DEL', ARGV[4] .. previous)
+                    end
+                    redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[3])
+                    redis.call('SET', KEYS[2], ARGV[2], 'EX', ARGV[3])
+                    if KEYS[3] then
+                        local legacy = redis.call('GET', KEYS[3])
+                        if legacy then
+                            redis.call('DEL', ARGV[5] .. legacy, KEYS[3])
+                        end
+                    end
+                    return 1
+                    """,
+                    Long.class);
+
+    /**
+     * 교체 (이전 토큰 폐기 + 새 토큰 저장)
+     *
+     * <p>이전 토큰이 다른 토큰으로 이미 교체된 경우(동시 갱신, 재사용) 아무것도 변경하지 않고 0을 반환합니다. 이전 토큰 키가
+     * 만료/축출되어 없더라도 사용자 키가 비어있거나 이전 토큰을 가리키면 교체를 진행합니다.
+     *
+     * <p>KEYS: [userKey, oldTokenKey, newTokenKey, (legacyUserKey, legacyOldTokenKey)] / ARGV:
+     * [userId, oldDigest, newDigest, ttlSeconds, tokenKeyPrefix, (legacyTokenKeyPrefix)]
+     */
+    public static final RedisScript<Long> ROTATE =
+            RedisScript.of(
+                    """
+                    local current = redis.call('GET', KEYS[1])
+                    local owner = redis.call('GET', KEYS[2])
+                    local legacyCurrent = false
+                    if KEYS[4] then
+                        legacyCurrent = redis.call('GET', KEYS[4])
+                        if not owner then
+                            owner = redis.call('GET', KEYS[5])
+                        end
+                    end
+                    if owner then
+                        if owner ~= ARGV[1] then
+                            return 0
+                        end
+                    else
+                        if current and current ~= ARGV[2] then
+                            return 0
+                        end
+                        if legacyCurrent and ARGV[6] .. legacyCurrent ~= KEYS[5] then
+                            return 0
+                        end
+                    end
+                    redis.call('DEL', KEYS[2])
+                    if current and current ~= ARGV[2] and current ~= ARGV[3] then
+                        redis.call('DEL', ARGV[5] .. current)
+                    end
+                    redis.call('SET', KEYS[1], ARGV[3], 'EX', ARGV[4])
+                    redis.call('SET', KEYS[3], ARGV[1], 'EX', ARGV[4])
+                    if KEYS[4] then
+                        if legacyCurrent then
+                            redis.call('DEL', ARGV[6] .. legacyCurrent)
+                        end
+                        redis.call('DEL', KEYS[4], KEYS[5])
+                    end
+                    return 1
+                    """,
+                    Long.class);
+
+    /**
+     * UserId 기준 폐기
+     *
+     * <p>KEYS: [userKey, (legacyUserKey)] / ARGV: [tokenKeyPrefix, (legacyTokenKeyPrefix)]
+     */
+    public static final RedisScript<Long> REVOKE_BY_USER =
+            RedisScript.of(
+                    """
+                    local digest = redis.call('GET', KEYS[1])
+                    if digest then
+                        redis.call('DEL', ARGV[1] .. digest)
+                    end
+                    if KEYS[2] then
+                        local legacy = redis.call('GET', KEYS[2])
+                        if legacy then
+                            redis.call('DEL', ARGV[2] .. legacy)
+                        end
+                    end
+                    return redis.call('DEL', unpack(KEYS))
+                    """,
+                    Long.class);
+
+    /**
+     * Token 기준 폐기
+     *
+     * <p>사용자 키가 이미 새 토큰을 가리키는 경우 사용자 키는 유지합니다.
+     *
+     * <p>KEYS: [tokenKey, (legacyTokenKey)] / ARGV: [digest, userKeyPrefix, (token,
+     * legacyUserKeyPrefix)]
+     */
+    public static final RedisScript<Long> REVOKE_BY_TOKEN =
+            RedisScript.of(
+                    """
+                    local userId = redis.call('GET', KEYS[1])
+                    if userId then
+                        local userKey = ARGV[2] .. userId
+                        if redis.call('GET', userKey) == ARGV[1] then
+                            redis.call('DEL', userKey)
+                        end
+                    end
+                    if KEYS[2] then
+                        local legacyUserId = redis.call('GET', KEYS[2])
+                        if legacyUserId then
+                            local legacyUserKey = ARGV[4] .. legacyUserId
+                            if redis.call('GET', legacyUserKey) == ARGV[3] then
+                                redis.call('DEL', legacyUserKey)
+                            end
+                        end
+                    end
+                    return redis.call('DEL', unpack(KEYS))
+                    """,
+                    Long.class);
+
+    private RefreshTokenCacheScripts() {
+        // Utility class
+    }
+}
@@ -1,5 +1,11 @@
 package com.ryuqq.authhub.adapter.out.persistence.redis.common;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+
 /**
  * RedisKeyGenerator - Redis 키 생성 유틸리티
  *
@@ -25,6 +31,8 @@ package com.ryuqq.authhub.adapter.out.persistence.redis.common;
 public final class RedisKeyGenerator {
 
     private static final String DELIMITER = "::";
+    private static final int DIGEST_BYTES = 16;
+    private static final Base64.Encoder DIGEST_ENCODER = Base64.getUrlEncoder().withoutPadding();
 
     private RedisKeyGenerator() {
         // Utility class
@@ -33,25 +41,105 @@ public final class RedisKeyGenerator {
     /**
      * RefreshToken 키 생성 - UserId 기준
      *
-     * <p>패턴: {@code refresh_token::user::{userId}}
+     * <p>패턴: {@code refresh_token::u::{userId}} (값: 현재 토큰의 Digest)
      *
      * @param userId 사용자 ID
      * @return Redis 키
      */
     public static String refreshTokenByUser(String userId) {
-        return "refresh_token" + DELIMITER + "user" + DELIMITER + userId;
+        return refreshTokenUserPrefix() + userId;
     }
 
     /**
      * RefreshToken 키 생성 - Token 기준
      *
-     * <p>패턴: {@code refresh_token::token::{token}}
+     * <p>패턴: {@code refresh_token::t::{digest}} (값: 사용자 ID)
      *
      * @param token RefreshToken 값
      * @return Redis 키
+     * @see #refreshTokenDigest(String)
      */
     public static String refreshTokenByToken(String token) {
-        return "refresh_token" + DELIMITER + "token" + DELIMITER + token;
+        return refreshTokenTokenPrefix() + refreshTokenDigest(token);
+    }
+
+    /**
+     * RefreshToken UserId 기준 키 Prefix
+     *
+     * <p>Lua 스크립트 내부에서 조회한 값으로 키를 조립할 때 사용합니다.
+     *
+     * @return {@code refresh_token::u::}
+     */
+    public static String refreshTokenUserPrefix() {
+        return "refresh_token" + DELIMITER + "u" + DELIMITER;
+    }
+
+    /**
+     * RefreshToken Token 기준 키 Prefix
+     *
+     * <p>Lua 스크립트 내부에서 조회한 Digest로 키를 조립할 때 사용합니다.
+     *
+     * @return {@code refresh_token::t::}
+     */
+    public static String refreshTokenTokenPrefix() {
+        return "refresh_token" + DELIMITER + "t" + DELIMITER;
+    }
+
+    /**
+     * RefreshToken Digest 계산
+     *
+     * <p>SHA-256 앞 16바이트(128bit)를 Base64URL(패딩 없음)로 인코딩한 22자 문자열입니다. 토큰 원문 대신 키와 값에
+     * 사용하여 토큰 길이와 무관하게 캐시 메모리를 일정하게 유지하고, Redis에 토큰 원문이 남지 않도록 합니다.
+     *
+     * @param token RefreshToken 값
+     * @return 토큰 Digest
+     */
+    public static String refreshTokenDigest(String token) {
+        byte[] hash = sha256().digest(token.getBytes(StandardCharsets.UTF_8));
+        return DIGEST_ENCODER.encodeToString(Arrays.copyOf(hash, DIGEST_BYTES));
+    }
+
+    /**
+     * 이전 형식 RefreshToken 키 생성 - UserId 기준
+     *
+     * <p>패턴: {@code refresh_token::user::{userId}} (값: 토큰 원문). 키 마이그레이션 모드에서만 사용하며 마이그레이션
+     * 완료 후 제거합니다.
+     *
+     * @param userId 사용자 ID
+     * @return Redis 키
+     */
+    public static String legacyRefreshTokenByUser(String userId) {
+        return legacyRefreshTokenUserPrefix() + userId;
+    }
+
+    /**
+     * 이전 형식 RefreshToken 키 생성 - Token 기준
+     *
+     * <p>패턴: {@code refresh_token::token::{token}} (값: 사용자 ID). 키 마이그레이션 모드에서만 사용합니다.
+     *
+     * @param token RefreshToken 값
+     * @return Redis 키
+     */
+    public static String legacyRefreshTokenByToken(String token) {
+        return legacyRefreshTokenTokenPrefix() + token;
+    }
+
+    /**
+     * 이전 형식 RefreshToken UserId 기준 키 Prefix
+     *
+     * @return {@code refresh_token::user::}
+     */
+    public static String legacyRefreshTokenUserPrefix() {
+        return "refresh_token" + DELIMITER + "user" + DELIMITER;
+    }
+
+    /**
+     * 이전 형식 RefreshToken Token 기준 키 Prefix
+     *
+     * @return {@code refresh_token::token::}
+     */
+    public static String legacyRefreshTokenTokenPrefix() {
+        return "refresh_token" + DELIMITER + "token" + DELIMITER;
     }
 
     /**
@@ -66,4 +154,47 @@ public final class RedisKeyGenerator {
     public static String idempotency(String operation, String idempotencyKey) {
         return "idempotency" + DELIMITER + operation + DELIMITER + idempotencyKey;
     }
+
+    /**
+     * 사용자 역할/권한 캐시 키 생성
+     *
+     * <p>패턴: {@code user_authorization::user::{userId}}
+     *
+     * @param userId 사용자 ID
+     * @return Redis 키
+     */
+    public static String userAuthorizationByUser(String userId) {
+        return "user_authorization" + DELIMITER + "user" + DELIMITER + userId;
+    }
+
+    /**
+     * 사용자 역할/권한 캐시의 사용자 버전 키 생성
+     *
+     * <p>패턴: {@code user_authorization::user_version::{userId}}
+     *
+     * @param userId 사용자 ID
+     * @return Redis 키
+     */
+    public static String userAuthorizationUserVersion(String userId) {
+        return "user_authorization" + DELIMITER + "user_version" + DELIMITER + userId;
+    }
+
+    /**
+     * 권한 모델 버전 키 생성
+     *
+     * <p>패턴: {@code user_authorization::version}
+     *
+     * @return Redis 키
+     */
+    public static String userAuthorizationVersion() {
+        return "user_authorization" + DELIMITER + "version";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
 }
@@ -0,0 +1,46 @@
+package com.ryuqq.authhub.adapter.out.persistence.redis.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * RefreshToken 캐시 Properties
+ *
+ * <p>redis.yml의 persistence.redis.refresh-token 설정을 매핑합니다.
+ *
+ * <p>사용 예시:
+ *
+ * <pre>
+ * persistence:
+ *   redis:
+ *     refresh-token:
+ *       legacy-key-read: true
+ * </pre>
+ *
+ * <p><strong>legacy-key-read (키 마이그레이션 모드):</strong>
+ *
+ * <ul>
+ *   <li>Digest 키 도입 이전 형식({@code refresh_token::user::}, {@code refresh_token::token::})을 함께
+ *       조회하고, 저장/교체/폐기 시 이전 형식 키도 정리합니다
+ *   <li>배포 직후 캐시 Miss가 RDB로 몰리는 것을 막기 위한 설정이며, Refresh Token 최대 TTL이 지난 뒤 비활성화합니다
+ *   <li>비활성화 상태에서도 RDB가 원본이므로 이전 형식 토큰은 RDB 조회로 정상 검증됩니다
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+@ConfigurationProperties(prefix = "persistence.redis.refresh-token")
+public class RefreshTokenCacheProperties {
+
+    /** 이전 형식 키 조회/정리 여부 (롤아웃 기간 한정) */
+    private boolean legacyKeyRead = false;
+
+    public boolean isLegacyKeyRead() {
+        return legacyKeyRead;
+    }
+
+    public void setLegacyKeyRead(boolean legacyKeyRead) {
+        this.legacyKeyRead = legacyKeyRead;
+    }
+}
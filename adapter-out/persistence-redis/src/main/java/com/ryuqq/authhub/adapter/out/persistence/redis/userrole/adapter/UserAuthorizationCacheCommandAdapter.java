@@ -0,0 +1,172 @@
+package com.ryuqq.authhub.adapter.out.persistence.redis.userrole.adapter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ryuqq.authhub.adapter.out.persistence.redis.common.RedisKeyGenerator;
+import com.ryuqq.authhub.adapter.out.persistence.redis.userrole.script.UserAuthorizationCacheScripts;
+import com.ryuqq.authhub.application.userrole.dto.composite.RolesAndPermissionsComposite;
+import com.ryuqq.authhub.application.userrole.dto.composite.UserAuthorizationCacheLookup;
+import com.ryuqq.authhub.application.userrole.port.out.command.UserAuthorizationCacheCommandPort;
+import com.ryuqq.authhub.domain.user.id.UserId;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * UserAuthorizationCacheCommandAdapter - 사용자 역할/권한 캐시 Command 어댑터
+ *
+ * <p>UserAuthorizationCacheCommandPort 구현체입니다. 사용자 항목 저장/삭제와 권한 모델 버전 증가를 수행합니다.
+ *
+ * <p><strong>조건부 저장:</strong> 저장과 사용자 단위 무효화는 {@link UserAuthorizationCacheScripts}로 수행합니다. 무효화는
+ * 사용자 버전을 증가시킨 뒤 항목을 삭제하고, 저장은 조회 시점의 권한 모델 버전/사용자 버전이 그대로일 때만 반영됩니다. 따라서 DB 조회와
+ * 저장 사이에 무효화가 끼어들어도 무효화 이전의 역할/권한이 다시 캐시되지 않습니다.
+ *
+ * <p><strong>장애 처리:</strong> 캐시는 DB의 파생 데이터이므로 Redis 장애 시 예외를 전파하지 않고 로그만 남깁니다. 무효화 실패의 영향은
+ * {@link #TTL}로 제한됩니다.
+ *
+ * <p><strong>Zero-Tolerance 규칙:</strong>
+ *
+ * <ul>
+ *   <li>@Transactional 사용 금지 (Redis)
+ *   <li>조회 메서드 금지 (QueryAdapter로 분리)
+ *   <li>KEYS 명령어 절대 금지
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class UserAuthorizationCacheCommandAdapter implements UserAuthorizationCacheCommandPort {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(UserAuthorizationCacheCommandAdapter.class);
+
+    /** 사용자 항목 TTL (무효화 누락 시 최대 지연) */
+    static final Duration TTL = Duration.ofMinutes(10);
+
+    /** 사용자 버전 TTL (항목 TTL보다 길어야 하며, 무효화마다 갱신) */
+    static final Duration USER_VERSION_TTL = Duration.ofDays(1);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public UserAuthorizationCacheCommandAdapter(
+            RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 사용자 역할/권한 캐시 저장 (조회 이후 무효화되지 않은 경우에만)
+     *
+     * @param userId 사용자 ID (Value Object)
+     * @param rolesAndPermissions 역할/권한 Composite
+     * @param lookup 조회 직전의 캐시 조회 결과 (권한 모델 버전, 사용자 버전)
+     */
+    @Override
+    public void save(
+            UserId userId,
+            RolesAndPermissionsComposite rolesAndPermissions,
+            UserAuthorizationCacheLookup lookup) {
+        try {
+            String json =
+                    objectMapper.writeValueAsString(
+                            UserAuthorizationCacheEntry.of(
+                                    rolesAndPermissions, lookup.version(), lookup.userVersion()));
+            redisTemplate.execute(
+                    UserAuthorizationCacheScripts.SAVE_IF_CURRENT,
+                    List.of(
+                            RedisKeyGenerator.userAuthorizationVersion(),
+                            RedisKeyGenerator.userAuthorizationUserVersion(userId.value()),
+                            RedisKeyGenerator.userAuthorizationByUser(userId.value())),
+                    String.valueOf(TTL.toSeconds()),
+                    String.valueOf(lookup.version()),
+                    String.valueOf(lookup.userVersion()),
+                    json);
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("Failed to save user authorization cache for userId: {}", userId.value(), e);
+        }
+    }
+
+    /**
+     * 여러 사용자 역할/권한 캐시 저장 (스크립트 1회, 조회 이후 무효화되지 않은 사용자만)
+     *
+     * @param rolesAndPermissionsByUser 사용자별 역할/권한 Composite
+     * @param lookups 사용자별 조회 직전의 캐시 조회 결과 (권한 모델 버전, 사용자 버전)
+     */
+    @Override
+    public void saveAll(
+            Map<UserId, RolesAndPermissionsComposite> rolesAndPermissionsByUser,
+            Map<UserId, UserAuthorizationCacheLookup> lookups) {
+        List<String> keys = new ArrayList<>(rolesAndPermissionsByUser.size() * 2 + 1);
+        List<String> args = new ArrayList<>(rolesAndPermissionsByUser.size() * 3 + 1);
+        keys.add(RedisKeyGenerator.userAuthorizationVersion());
+        args.add(String.valueOf(TTL.toSeconds()));
+        try {
+            for (Map.Entry<UserId, RolesAndPermissionsComposite> entry :
+                    rolesAndPermissionsByUser.entrySet()) {
+                UserAuthorizationCacheLookup lookup = lookups.get(entry.getKey());
+                if (lookup == null) {
+                    continue;
+                }
+                keys.add(RedisKeyGenerator.userAuthorizationUserVersion(entry.getKey().value()));
+                keys.add(RedisKeyGenerator.userAuthorizationByUser(entry.getKey().value()));
+                args.add(String.valueOf(lookup.version()));
+                args.add(String.valueOf(lookup.userVersion()));
+                args.add(
+                        objectMapper.writeValueAsString(
+                                UserAuthorizationCacheEntry.of(
+                                        entry.getValue(), lookup.version(), lookup.userVersion())));
+            }
+            if (keys.size() == 1) {
+                return;
+            }
+            redisTemplate.execute(
+                    UserAuthorizationCacheScripts.SAVE_IF_CURRENT, keys, args.toArray());
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn(
+                    "Failed to save user authorization cache for {} users",
+                    rolesAndPermissionsByUser.size(),
+                    e);
+        }
+    }
+
+    /**
+     * 사용자 역할/권한 캐시 삭제 (사용자 버전 증가 + 항목 삭제)
+     *
+     * @param userIds 사용자 ID 목록
+     */
+    @Override
+    public void evict(Collection<UserId> userIds) {
+        List<String> keys = new ArrayList<>(userIds.size() * 2);
+        for (UserId userId : userIds) {
+            keys.add(RedisKeyGenerator.userAuthorizationUserVersion(userId.value()));
+            keys.add(RedisKeyGenerator.userAuthorizationByUser(userId.value()));
+        }
+        try {
+            redisTemplate.execute(
+                    UserAuthorizationCacheScripts.EVICT,
+                    keys,
+                    String.valueOf(USER_VERSION_TTL.toSeconds()));
+        } catch (DataAccessException e) {
+            log.warn("Failed to evict user authorization cache for {} users", userIds.size(), e);
+        }
+    }
+
+    /** 권한 모델 버전 증가 (모든 사용자 캐시 무효화) */
+    @Override
+    public void invalidateAll() {
+        try {
+            redisTemplate.opsForValue().increment(RedisKeyGenerator.userAuthorizationVersion());
+        } catch (DataAccessException e) {
+            log.warn("Failed to increment user authorization cache version", e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.ryuqq.authhub.adapter.out.persistence.redis.userrole.adapter;
+
+import com.ryuqq.authhub.application.userrole.dto.composite.RolesAndPermissionsComposite;
+import java.util.Set;
+
+/**
+ * UserAuthorizationCacheEntry - 사용자 역할/권한 캐시 항목 (Redis JSON)
+ *
+ * @param version 저장 시점의 권한 모델 버전
+ * @param userVersion 저장 시점의 사용자 버전
+ * @param roles 역할 이름 Set
+ * @param permissions 권한 키 Set
+ * @param hash 역할/권한 해시
+ * @author development-team
+ * @since 1.0.0
+ */
+record UserAuthorizationCacheEntry(
+        long version,
+        long userVersion,
+        Set<String> roles,
+        Set<String> permissions,
+        String hash) {
+
+    static UserAuthorizationCacheEntry of(
+            RolesAndPermissionsComposite rolesAndPermissions, long version, long userVersion) {
+        return new UserAuthorizationCacheEntry(
+                version,
+                userVersion,
+                rolesAndPermissions.roleNames(),
+                rolesAndPermissions.permissionKeys(),
+                rolesAndPermissions.permissionHash());
+    }
+
+    RolesAndPermissionsComposite toComposite() {
+        return new RolesAndPermissionsComposite(
+                Set.copyOf(roles), Set.copyOf(permissions), hash);
+    }
+}
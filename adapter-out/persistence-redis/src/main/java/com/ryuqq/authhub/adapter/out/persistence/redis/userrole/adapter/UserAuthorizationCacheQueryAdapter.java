@@ -0,0 +1,166 @@
+package com.ryuqq.authhub.adapter.out.persistence.redis.userrole.adapter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ryuqq.authhub.adapter.out.persistence.redis.common.RedisKeyGenerator;
+import com.ryuqq.authhub.application.userrole.dto.composite.UserAuthorizationCacheLookup;
+import com.ryuqq.authhub.application.userrole.port.out.query.UserAuthorizationCacheQueryPort;
+import com.ryuqq.authhub.domain.user.id.UserId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * UserAuthorizationCacheQueryAdapter - 사용자 역할/권한 캐시 Query 어댑터
+ *
+ * <p>UserAuthorizationCacheQueryPort 구현체입니다. 권한 모델 버전, 사용자 버전, 사용자 항목을 MGET 한 번으로 조회합니다. 여러
+ * 사용자도 버전 키와 모든 사용자의 버전/항목 키를 MGET 한 번으로 조회합니다.
+ *
+ * <p><strong>키 패턴:</strong>
+ *
+ * <ul>
+ *   <li>{@code user_authorization::version} - 권한 모델 버전 (없으면 0)
+ *   <li>{@code user_authorization::user_version::{userId}} - 사용자 버전 (없으면 0)
+ *   <li>{@code user_authorization::user::{userId}} - 사용자 항목 (JSON)
+ * </ul>
+ *
+ * <p>항목의 권한 모델 버전 또는 사용자 버전이 현재 버전과 다르면 Miss로 취급합니다. 버전 키가 유실되어 0으로 돌아가도 기존 항목과 일치하지
+ * 않으므로 오래된 항목이 사용되지 않습니다. 조회한 두 버전은 Miss 후 조건부 저장에 사용됩니다.
+ *
+ * <p><strong>Zero-Tolerance 규칙:</strong>
+ *
+ * <ul>
+ *   <li>@Transactional 사용 금지 (Redis)
+ *   <li>저장/수정/삭제 메서드 금지 (CommandAdapter로 분리)
+ *   <li>KEYS 명령어 절대 금지
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class UserAuthorizationCacheQueryAdapter implements UserAuthorizationCacheQueryPort {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(UserAuthorizationCacheQueryAdapter.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public UserAuthorizationCacheQueryAdapter(
+            RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 사용자 역할/권한 캐시 조회
+     *
+     * @param userId 사용자 ID (Value Object)
+     * @return 캐시 조회 결과 (Redis 장애 시 unavailable)
+     */
+    @Override
+    public UserAuthorizationCacheLookup lookup(UserId userId) {
+        List<String> values;
+        try {
+            values =
+                    redisTemplate
+                            .opsForValue()
+                            .multiGet(
+                                    List.of(
+                                            RedisKeyGenerator.userAuthorizationVersion(),
+                                            RedisKeyGenerator.userAuthorizationUserVersion(
+                                                    userId.value()),
+                                            RedisKeyGenerator.userAuthorizationByUser(
+                                                    userId.value())));
+        } catch (DataAccessException e) {
+            log.warn("Failed to read user authorization cache for userId: {}", userId.value(), e);
+            return UserAuthorizationCacheLookup.unavailable();
+        }
+        if (values == null || values.size() != 3) {
+            return UserAuthorizationCacheLookup.unavailable();
+        }
+
+        return toLookup(
+                userId, parseVersion(values.get(0)), parseVersion(values.get(1)), values.get(2));
+    }
+
+    /**
+     * 여러 사용자 역할/권한 캐시 조회 (MGET 1회)
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 사용자별 캐시 조회 결과 (Redis 장애 시 모두 unavailable)
+     */
+    @Override
+    public Map<UserId, UserAuthorizationCacheLookup> lookupAll(List<UserId> userIds) {
+        List<String> keys = new ArrayList<>(userIds.size() * 2 + 1);
+        keys.add(RedisKeyGenerator.userAuthorizationVersion());
+        for (UserId userId : userIds) {
+            keys.add(RedisKeyGenerator.userAuthorizationUserVersion(userId.value()));
+            keys.add(RedisKeyGenerator.userAuthorizationByUser(userId.value()));
+        }
+
+        List<String> values;
+        try {
+            values = redisTemplate.opsForValue().multiGet(keys);
+        } catch (DataAccessException e) {
+            log.warn("Failed to read user authorization cache for {} users", userIds.size(), e);
+            values = null;
+        }
+
+        Map<UserId, UserAuthorizationCacheLookup> lookups = new LinkedHashMap<>();
+        if (values == null || values.size() != keys.size()) {
+            for (UserId userId : userIds) {
+                lookups.put(userId, UserAuthorizationCacheLookup.unavailable());
+            }
+            return lookups;
+        }
+
+        long version = parseVersion(values.get(0));
+        for (int i = 0; i < userIds.size(); i++) {
+            UserId userId = userIds.get(i);
+            long userVersion = parseVersion(values.get(i * 2 + 1));
+            lookups.put(userId, toLookup(userId, version, userVersion, values.get(i * 2 + 2)));
+        }
+        return lookups;
+    }
+
+    private UserAuthorizationCacheLookup toLookup(
+            UserId userId, long version, long userVersion, String json) {
+        if (json == null || json.isBlank()) {
+            return UserAuthorizationCacheLookup.miss(version, userVersion);
+        }
+
+        try {
+            UserAuthorizationCacheEntry entry =
+                    objectMapper.readValue(json, UserAuthorizationCacheEntry.class);
+            if (entry.version() != version || entry.userVersion() != userVersion) {
+                return UserAuthorizationCacheLookup.miss(version, userVersion);
+            }
+            return UserAuthorizationCacheLookup.hit(entry.toComposite(), version, userVersion);
+        } catch (JsonProcessingException e) {
+            log.warn(
+                    "Failed to deserialize user authorization cache for userId: {}",
+                    userId.value(),
+                    e);
+            return UserAuthorizationCacheLookup.miss(version, userVersion);
+        }
+    }
+
+    private long parseVersion(String value) {
+        if (value == null) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+}
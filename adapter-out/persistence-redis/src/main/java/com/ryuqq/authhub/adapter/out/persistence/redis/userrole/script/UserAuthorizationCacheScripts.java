@@ -0,0 +1,75 @@
+package com.ryuqq.authhub.adapter.out.persistence.redis.userrole.script;
+
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * UserAuthorizationCacheScripts - 사용자 역할/권한 캐시 Lua 스크립트
+ *
+ * <p>캐시 저장과 사용자 단위 무효화를 버전 비교(Compare-And-Set)로 직렬화합니다. 조회 시점에 읽은 권한 모델 버전/사용자 버전이
+ * 저장 시점에도 그대로일 때만 항목을 저장하므로, DB 조회와 저장 사이에 끼어든 무효화가 덮어써지지 않습니다.
+ *
+ * <p><strong>키 조립:</strong> 여러 사용자의 키를 한 스크립트에서 다루므로 단일 노드(Standalone/Sentinel) Redis를
+ * 전제로 합니다.
+ *
+ * <p><strong>Zero-Tolerance 규칙:</strong>
+ *
+ * <ul>
+ *   <li>모든 SET은 EX(TTL)와 함께 수행
+ *   <li>KEYS/SCAN 명령어 사용 금지
+ *   <li>반환 타입은 Long (처리한 사용자 수)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public final class UserAuthorizationCacheScripts {
+
+    /**
+     * 조건부 저장 (권한 모델 버전과 사용자 버전이 조회 시점과 같은 사용자만)
+     *
+     * <p>버전 키가 없으면 0으로 간주합니다. 저장한 사용자 수를 반환합니다.
+     *
+     * <p>KEYS: [versionKey, (userVersionKey, userKey)...] / ARGV: [ttlSeconds, (version,
+     * userVersion, json)...]
+     */
+    public static final RedisScript<Long> SAVE_IF_CURRENT =
+            RedisScript.of(
+                    """
+                    local current = tonumber(redis.call('GET', KEYS[1]) or '0') or 0
+                    local saved = 0
+                    for i = 2, #KEYS, 2 do
+                        local arg = (i - 2) / 2 * 3 + 1
+                        local currentUser = tonumber(redis.call('GET', KEYS[i]) or '0') or 0
+                        if tonumber(ARGV[arg + 1]) == current
+                                and tonumber(ARGV[arg + 2]) == currentUser then
+                            redis.call('SET', KEYS[i + 1], ARGV[arg + 3], 'EX', ARGV[1])
+                            saved = saved + 1
+                        end
+                    end
+                    return saved
+                    """,
+                    Long.class);
+
+    /**
+     * 사용자 단위 무효화 (사용자 버전 증가 + 항목 삭제)
+     *
+     * <p>사용자 버전 키는 항목 TTL보다 긴 TTL을 가지며 무효화마다 갱신됩니다. 무효화한 사용자 수를 반환합니다.
+     *
+     * <p>KEYS: [(userVersionKey, userKey)...] / ARGV: [userVersionTtlSeconds]
+     */
+    public static final RedisScript<Long> EVICT =
+            RedisScript.of(
+                    """
+                    for i = 1, #KEYS, 2 do
+                        redis.call('INCR', KEYS[i])
+                        redis.call('EXPIRE', KEYS[i], ARGV[1])
+                        redis.call('DEL', KEYS[i + 1])
+                    end
+                    return #KEYS / 2
+                    """,
+                    Long.class);
+
+    private UserAuthorizationCacheScripts() {
+        // Utility class
+    }
+}
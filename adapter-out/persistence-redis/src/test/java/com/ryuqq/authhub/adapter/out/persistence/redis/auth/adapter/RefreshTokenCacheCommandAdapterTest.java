@@ -1,11 +1,18 @@
 package com.ryuqq.authhub.adapter.out.persistence.redis.auth.adapter;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
+import com.ryuqq.authhub.adapter.out.persistence.redis.auth.script.RefreshTokenCacheScripts;
+import com.ryuqq.authhub.adapter.out.persistence.redis.common.RedisKeyGenerator;
+import com.ryuqq.authhub.adapter.out.persistence.redis.config.RefreshTokenCacheProperties;
 import com.ryuqq.authhub.domain.user.id.UserId;
-import java.time.Duration;
+import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,7 +23,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 
 /**
  * RefreshTokenCacheCommandAdapter 단위 테스트
@@ -28,7 +34,7 @@ import org.springframework.data.redis.core.ValueOperations;
  * <ul>
  *   <li>MockitoExtension 사용 - {@code @SpringBootTest} 금지 (Zero-Tolerance)
  *   <li>RedisTemplate은 Mock으로 대체
- *   <li>Command 메서드(save, delete)의 동작 검증
+ *   <li>Command 메서드(save, rotate, delete)가 단일 스크립트 실행으로 수행되는지 검증
  * </ul>
  *
  * @author development-team
@@ -44,17 +50,32 @@ class RefreshTokenCacheCommandAdapterTest {
     private static final String TEST_USER_ID = UUID.randomUUID().toString();
     private static final String TEST_REFRESH_TOKEN =
             "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9.test.refreshToken";
+    private static final String NEW_REFRESH_TOKEN = "new-refresh-token";
     private static final long EXPIRES_IN_SECONDS = 1_209_600L; // 14 days
+    private static final String TTL = String.valueOf(EXPIRES_IN_SECONDS);
+    private static final String USER_KEY_PREFIX = "refresh_token::u::";
+    private static final String TOKEN_KEY_PREFIX = "refresh_token::t::";
+    private static final String LEGACY_USER_KEY_PREFIX = "refresh_token::user::";
+    private static final String LEGACY_TOKEN_KEY_PREFIX = "refresh_token::token::";
+    private static final String DIGEST = RedisKeyGenerator.refreshTokenDigest(TEST_REFRESH_TOKEN);
+    private static final String NEW_DIGEST =
+            RedisKeyGenerator.refreshTokenDigest(NEW_REFRESH_TOKEN);
+    private static final String USER_KEY = USER_KEY_PREFIX + TEST_USER_ID;
+    private static final String TOKEN_KEY = TOKEN_KEY_PREFIX + DIGEST;
+    private static final String NEW_TOKEN_KEY = TOKEN_KEY_PREFIX + NEW_DIGEST;
+    private static final String LEGACY_USER_KEY = LEGACY_USER_KEY_PREFIX + TEST_USER_ID;
+    private static final String LEGACY_TOKEN_KEY = LEGACY_TOKEN_KEY_PREFIX + TEST_REFRESH_TOKEN;
 
     @Mock private RedisTemplate<String, String> redisTemplate;
 
-    @Mock private ValueOperations<String, String> valueOperations;
+    private RefreshTokenCacheProperties properties;
 
     private RefreshTokenCacheCommandAdapter commandAdapter;
 
     @BeforeEach
     void setUp() {
-        commandAdapter = new RefreshTokenCacheCommandAdapter(redisTemplate);
+        properties = new RefreshTokenCacheProperties();
+        commandAdapter = new RefreshTokenCacheCommandAdapter(redisTemplate, properties);
     }
 
     @Nested
@@ -62,84 +83,98 @@ class RefreshTokenCacheCommandAdapterTest {
     class SaveMethod {
 
         @Test
-        @DisplayName("userId로 조회할 수 있도록 캐시에 저장한다")
-        void shouldSaveRefreshTokenWithUserIdKey() {
+        @DisplayName("양방향 Digest 키를 SAVE 스크립트 한 번으로 저장한다")
+        void shouldSaveBothKeysWithSingleScript() {
             // Given
             UserId userId = UserId.of(TEST_USER_ID);
-            String expectedUserKey = "refresh_token::user::" + TEST_USER_ID;
-
-            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
 
             // When
             commandAdapter.save(userId, TEST_REFRESH_TOKEN, EXPIRES_IN_SECONDS);
 
             // Then
-            verify(valueOperations)
-                    .set(
-                            eq(expectedUserKey),
-                            eq(TEST_REFRESH_TOKEN),
-                            eq(Duration.ofSeconds(EXPIRES_IN_SECONDS)));
+            verify(redisTemplate)
+                    .execute(
+                            RefreshTokenCacheScripts.SAVE,
+                            List.of(USER_KEY, TOKEN_KEY),
+                            DIGEST,
+                            TEST_USER_ID,
+                            TTL,
+                            TOKEN_KEY_PREFIX);
+            verifyNoMoreInteractions(redisTemplate);
         }
+    }
+
+    @Nested
+    @DisplayName("rotate() 메서드는")
+    class RotateMethod {
 
         @Test
-        @DisplayName("token으로 역조회할 수 있도록 캐시에 저장한다")
-        void shouldSaveUserIdWithTokenKey() {
+        @DisplayName("이전 토큰 키와 새 토큰 키를 ROTATE 스크립트 한 번으로 교체한다")
+        void shouldRotateWithSingleScript() {
             // Given
             UserId userId = UserId.of(TEST_USER_ID);
-            String expectedTokenKey = "refresh_token::token::" + TEST_REFRESH_TOKEN;
-
-            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            given(
+                            redisTemplate.execute(
+                                    RefreshTokenCacheScripts.ROTATE,
+                                    List.of(USER_KEY, TOKEN_KEY, NEW_TOKEN_KEY),
+                                    TEST_USER_ID,
+                                    DIGEST,
+                                    NEW_DIGEST,
+                                    TTL,
+                                    TOKEN_KEY_PREFIX))
+                    .willReturn(1L);
 
             // When
-            commandAdapter.save(userId, TEST_REFRESH_TOKEN, EXPIRES_IN_SECONDS);
+            boolean rotated =
+                    commandAdapter.rotate(
+                            userId, TEST_REFRESH_TOKEN, NEW_REFRESH_TOKEN, EXPIRES_IN_SECONDS);
 
             // Then
-            verify(valueOperations)
-                    .set(
-                            eq(expectedTokenKey),
-                            eq(TEST_USER_ID),
-                            eq(Duration.ofSeconds(EXPIRES_IN_SECONDS)));
+            assertThat(rotated).isTrue();
         }
-    }
-
-    @Nested
-    @DisplayName("deleteByUserId() 메서드는")
-    class DeleteByUserIdMethod {
 
         @Test
-        @DisplayName("userId로 캐시를 삭제한다")
-        void shouldDeleteByUserIdKey() {
+        @DisplayName("이전 토큰이 이미 교체된 경우 false를 반환한다")
+        void shouldReturnFalseWhenAlreadyRotated() {
             // Given
             UserId userId = UserId.of(TEST_USER_ID);
-            String userKey = "refresh_token::user::" + TEST_USER_ID;
-
-            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-            when(valueOperations.get(userKey)).thenReturn(TEST_REFRESH_TOKEN);
+            given(
+                            redisTemplate.execute(
+                                    eq(RefreshTokenCacheScripts.ROTATE),
+                                    anyList(),
+                                    any(Object[].class)))
+                    .willReturn(0L);
 
             // When
-            commandAdapter.deleteByUserId(userId);
+            boolean rotated =
+                    commandAdapter.rotate(
+                            userId, TEST_REFRESH_TOKEN, NEW_REFRESH_TOKEN, EXPIRES_IN_SECONDS);
 
             // Then
-            verify(redisTemplate).delete(userKey);
+            assertThat(rotated).isFalse();
         }
+    }
+
+    @Nested
+    @DisplayName("deleteByUserId() 메서드는")
+    class DeleteByUserIdMethod {
 
         @Test
-        @DisplayName("연관된 토큰 키도 함께 삭제한다")
-        void shouldDeleteAssociatedTokenKey() {
+        @DisplayName("REVOKE_BY_USER 스크립트로 양방향 키를 삭제한다")
+        void shouldRevokeByUserWithSingleScript() {
             // Given
             UserId userId = UserId.of(TEST_USER_ID);
-            String userKey = "refresh_token::user::" + TEST_USER_ID;
-            String tokenKey = "refresh_token::token::" + TEST_REFRESH_TOKEN;
-
-            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-            when(valueOperations.get(userKey)).thenReturn(TEST_REFRESH_TOKEN);
 
             // When
             commandAdapter.deleteByUserId(userId);
 
             // Then
-            verify(redisTemplate).delete(userKey);
-            verify(redisTemplate).delete(tokenKey);
+            verify(redisTemplate)
+                    .execute(
+                            RefreshTokenCacheScripts.REVOKE_BY_USER,
+                            List.of(USER_KEY),
+                            TOKEN_KEY_PREFIX);
+            verifyNoMoreInteractions(redisTemplate);
         }
     }
 
@@ -148,37 +183,92 @@ class RefreshTokenCacheCommandAdapterTest {
     class DeleteByTokenMethod {
 
         @Test
-        @DisplayName("token으로 캐시를 삭제한다")
-        void shouldDeleteByTokenKey() {
-            // Given
-            String tokenKey = "refresh_token::token::" + TEST_REFRESH_TOKEN;
+        @DisplayName("REVOKE_BY_TOKEN 스크립트로 양방향 키를 삭제한다")
+        void shouldRevokeByTokenWithSingleScript() {
+            // When
+            commandAdapter.deleteByToken(TEST_REFRESH_TOKEN);
+
+            // Then
+            verify(redisTemplate)
+                    .execute(
+                            RefreshTokenCacheScripts.REVOKE_BY_TOKEN,
+                            List.of(TOKEN_KEY),
+                            DIGEST,
+                            USER_KEY_PREFIX);
+            verifyNoMoreInteractions(redisTemplate);
+        }
+    }
+
+    @Nested
+    @DisplayName("키 마이그레이션 모드에서는")
+    class LegacyKeyReadMode {
 
-            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-            when(valueOperations.get(tokenKey)).thenReturn(TEST_USER_ID);
+        @BeforeEach
+        void enableLegacyKeyRead() {
+            properties.setLegacyKeyRead(true);
+        }
 
+        @Test
+        @DisplayName("save()가 이전 형식 사용자 키도 정리 대상으로 전달한다")
+        void shouldPassLegacyUserKeyOnSave() {
             // When
-            commandAdapter.deleteByToken(TEST_REFRESH_TOKEN);
+            commandAdapter.save(UserId.of(TEST_USER_ID), TEST_REFRESH_TOKEN, EXPIRES_IN_SECONDS);
 
             // Then
-            verify(redisTemplate).delete(tokenKey);
+            verify(redisTemplate)
+                    .execute(
+                            RefreshTokenCacheScripts.SAVE,
+                            List.of(USER_KEY, TOKEN_KEY, LEGACY_USER_KEY),
+                            DIGEST,
+                            TEST_USER_ID,
+                            TTL,
+                            TOKEN_KEY_PREFIX,
+                            LEGACY_TOKEN_KEY_PREFIX);
         }
 
         @Test
-        @DisplayName("연관된 사용자 키도 함께 삭제한다")
-        void shouldDeleteAssociatedUserKey() {
-            // Given
-            String tokenKey = "refresh_token::token::" + TEST_REFRESH_TOKEN;
-            String userKey = "refresh_token::user::" + TEST_USER_ID;
+        @DisplayName("rotate()가 이전 형식 사용자/토큰 키도 전달한다")
+        void shouldPassLegacyKeysOnRotate() {
+            // When
+            commandAdapter.rotate(
+                    UserId.of(TEST_USER_ID),
+                    TEST_REFRESH_TOKEN,
+                    NEW_REFRESH_TOKEN,
+                    EXPIRES_IN_SECONDS);
 
-            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-            when(valueOperations.get(tokenKey)).thenReturn(TEST_USER_ID);
+            // Then
+            verify(redisTemplate)
+                    .execute(
+                            RefreshTokenCacheScripts.ROTATE,
+                            List.of(
+                                    USER_KEY,
+                                    TOKEN_KEY,
+                                    NEW_TOKEN_KEY,
+                                    LEGACY_USER_KEY,
+                                    LEGACY_TOKEN_KEY),
+                            TEST_USER_ID,
+                            DIGEST,
+                            NEW_DIGEST,
+                            TTL,
+                            TOKEN_KEY_PREFIX,
+                            LEGACY_TOKEN_KEY_PREFIX);
+        }
 
+        @Test
+        @DisplayName("deleteByToken()이 이전 형식 토큰 키와 토큰 원문을 전달한다")
+        void shouldPassLegacyKeysOnDeleteByToken() {
             // When
             commandAdapter.deleteByToken(TEST_REFRESH_TOKEN);
 
             // Then
-            verify(redisTemplate).delete(tokenKey);
-            verify(redisTemplate).delete(userKey);
+            verify(redisTemplate)
+                    .execute(
+                            RefreshTokenCacheScripts.REVOKE_BY_TOKEN,
+                            List.of(TOKEN_KEY, LEGACY_TOKEN_KEY),
+                            DIGEST,
+                            USER_KEY_PREFIX,
+                            TEST_REFRESH_TOKEN,
+                            LEGACY_USER_KEY_PREFIX);
         }
     }
 }
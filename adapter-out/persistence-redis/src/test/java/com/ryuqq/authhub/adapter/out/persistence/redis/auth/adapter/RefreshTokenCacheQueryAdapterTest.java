@@ -3,7 +3,11 @@ package com.ryuqq.authhub.adapter.out.persistence.redis.auth.adapter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 
+import com.ryuqq.authhub.adapter.out.persistence.redis.common.RedisKeyGenerator;
+import com.ryuqq.authhub.adapter.out.persistence.redis.config.RefreshTokenCacheProperties;
 import com.ryuqq.authhub.domain.user.id.UserId;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -44,51 +48,52 @@ class RefreshTokenCacheQueryAdapterTest {
     private static final String TEST_REFRESH_TOKEN =
             "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9.test.refreshToken";
 
+    private static final String TOKEN_KEY =
+            "refresh_token::t::" + RedisKeyGenerator.refreshTokenDigest(TEST_REFRESH_TOKEN);
+    private static final String LEGACY_TOKEN_KEY = "refresh_token::token::" + TEST_REFRESH_TOKEN;
+
     @Mock private RedisTemplate<String, String> redisTemplate;
 
     @Mock private ValueOperations<String, String> valueOperations;
 
+    private RefreshTokenCacheProperties properties;
+
     private RefreshTokenCacheQueryAdapter queryAdapter;
 
     @BeforeEach
     void setUp() {
-        queryAdapter = new RefreshTokenCacheQueryAdapter(redisTemplate);
+        properties = new RefreshTokenCacheProperties();
+        queryAdapter = new RefreshTokenCacheQueryAdapter(redisTemplate, properties);
     }
 
     @Nested
-    @DisplayName("findByUserId() 메서드는")
-    class FindByUserIdMethod {
+    @DisplayName("findUserIdByToken() 메서드는")
+    class FindUserIdByTokenMethod {
 
         @Test
-        @DisplayName("캐시에서 refreshToken을 조회한다")
-        void shouldReturnRefreshTokenWhenExists() {
+        @DisplayName("Digest 키로 캐시에서 UserId를 조회한다")
+        void shouldReturnUserIdWhenExists() {
             // Given
-            UserId userId = UserId.of(TEST_USER_ID);
-            String expectedKey = "refresh_token::user::" + TEST_USER_ID;
-
             when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-            when(valueOperations.get(expectedKey)).thenReturn(TEST_REFRESH_TOKEN);
+            when(valueOperations.get(TOKEN_KEY)).thenReturn(TEST_USER_ID);
 
             // When
-            Optional<String> result = queryAdapter.findByUserId(userId);
+            Optional<UserId> result = queryAdapter.findUserIdByToken(TEST_REFRESH_TOKEN);
 
             // Then
             assertThat(result).isPresent();
-            assertThat(result.get()).isEqualTo(TEST_REFRESH_TOKEN);
+            assertThat(result.get().value()).isEqualTo(TEST_USER_ID);
         }
 
         @Test
         @DisplayName("캐시에 없으면 빈 Optional을 반환한다")
         void shouldReturnEmptyWhenNotExists() {
             // Given
-            UserId userId = UserId.of(TEST_USER_ID);
-            String expectedKey = "refresh_token::user::" + TEST_USER_ID;
-
             when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-            when(valueOperations.get(expectedKey)).thenReturn(null);
+            when(valueOperations.get(TOKEN_KEY)).thenReturn(null);
 
             // When
-            Optional<String> result = queryAdapter.findByUserId(userId);
+            Optional<UserId> result = queryAdapter.findUserIdByToken(TEST_REFRESH_TOKEN);
 
             // Then
             assertThat(result).isEmpty();
@@ -96,34 +101,36 @@ class RefreshTokenCacheQueryAdapterTest {
     }
 
     @Nested
-    @DisplayName("findUserIdByToken() 메서드는")
-    class FindUserIdByTokenMethod {
+    @DisplayName("키 마이그레이션 모드에서 findUserIdByToken() 메서드는")
+    class LegacyKeyReadMode {
+
+        @BeforeEach
+        void enableLegacyKeyRead() {
+            properties.setLegacyKeyRead(true);
+        }
 
         @Test
-        @DisplayName("캐시에서 UserId를 조회한다")
-        void shouldReturnUserIdWhenExists() {
+        @DisplayName("Digest 키가 없으면 이전 형식 키의 UserId를 반환한다")
+        void shouldFallbackToLegacyKey() {
             // Given
-            String expectedKey = "refresh_token::token::" + TEST_REFRESH_TOKEN;
-
             when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-            when(valueOperations.get(expectedKey)).thenReturn(TEST_USER_ID);
+            when(valueOperations.multiGet(List.of(TOKEN_KEY, LEGACY_TOKEN_KEY)))
+                    .thenReturn(Arrays.asList(null, TEST_USER_ID));
 
             // When
             Optional<UserId> result = queryAdapter.findUserIdByToken(TEST_REFRESH_TOKEN);
 
             // Then
-            assertThat(result).isPresent();
-            assertThat(result.get().value()).isEqualTo(TEST_USER_ID);
+            assertThat(result).map(UserId::value).hasValue(TEST_USER_ID);
         }
 
         @Test
-        @DisplayName("캐시에 없으면 빈 Optional을 반환한다")
-        void shouldReturnEmptyWhenNotExists() {
+        @DisplayName("두 키 모두 없으면 빈 Optional을 반환한다")
+        void shouldReturnEmptyWhenBothMissing() {
             // Given
-            String expectedKey = "refresh_token::token::" + TEST_REFRESH_TOKEN;
-
             when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-            when(valueOperations.get(expectedKey)).thenReturn(null);
+            when(valueOperations.multiGet(List.of(TOKEN_KEY, LEGACY_TOKEN_KEY)))
+                    .thenReturn(Arrays.asList(null, null));
 
             // When
             Optional<UserId> result = queryAdapter.findUserIdByToken(TEST_REFRESH_TOKEN);
@@ -35,42 +35,112 @@ class RedisKeyGeneratorTest {
             String key = RedisKeyGenerator.refreshTokenByUser(TEST_USER_ID);
 
             // Then
-            assertThat(key).isEqualTo("refresh_token::user::" + TEST_USER_ID);
+            assertThat(key).isEqualTo("refresh_token::u::" + TEST_USER_ID);
         }
+    }
+
+    @Nested
+    @DisplayName("refreshTokenByToken() 메서드는")
+    class RefreshTokenByTokenMethod {
 
         @Test
-        @DisplayName("키 접두사가 refresh_token::user::로 시작한다")
-        void shouldStartWithCorrectPrefix() {
+        @DisplayName("토큰 원문 대신 Digest로 키를 생성한다")
+        void shouldGenerateDigestKey() {
             // When
-            String key = RedisKeyGenerator.refreshTokenByUser(TEST_USER_ID);
+            String key = RedisKeyGenerator.refreshTokenByToken(TEST_TOKEN);
 
             // Then
-            assertThat(key).startsWith("refresh_token::user::");
+            assertThat(key)
+                    .isEqualTo(
+                            "refresh_token::t::" + RedisKeyGenerator.refreshTokenDigest(TEST_TOKEN))
+                    .doesNotContain(TEST_TOKEN);
+        }
+
+        @Test
+        @DisplayName("토큰 길이와 무관하게 키 길이가 일정하다")
+        void shouldHaveFixedLengthRegardlessOfTokenLength() {
+            // Given
+            String longToken = "x".repeat(512);
+
+            // When & Then
+            assertThat(RedisKeyGenerator.refreshTokenByToken(longToken))
+                    .hasSameSizeAs(RedisKeyGenerator.refreshTokenByToken(TEST_TOKEN));
         }
     }
 
     @Nested
-    @DisplayName("refreshTokenByToken() 메서드는")
-    class RefreshTokenByTokenMethod {
+    @DisplayName("refreshTokenDigest() 메서드는")
+    class RefreshTokenDigestMethod {
 
         @Test
-        @DisplayName("올바른 키 패턴을 생성한다")
-        void shouldGenerateCorrectKeyPattern() {
+        @DisplayName("22자 Base64URL 문자열을 생성한다")
+        void shouldGenerateBase64UrlDigest() {
             // When
-            String key = RedisKeyGenerator.refreshTokenByToken(TEST_TOKEN);
+            String digest = RedisKeyGenerator.refreshTokenDigest(TEST_TOKEN);
 
             // Then
-            assertThat(key).isEqualTo("refresh_token::token::" + TEST_TOKEN);
+            assertThat(digest).hasSize(22).matches("[A-Za-z0-9_-]+");
         }
 
         @Test
-        @DisplayName("키 접두사가 refresh_token::token::로 시작한다")
-        void shouldStartWithCorrectPrefix() {
+        @DisplayName("동일한 토큰은 동일한 Digest를, 다른 토큰은 다른 Digest를 생성한다")
+        void shouldBeDeterministic() {
+            // When & Then
+            assertThat(RedisKeyGenerator.refreshTokenDigest(TEST_TOKEN))
+                    .isEqualTo(RedisKeyGenerator.refreshTokenDigest(TEST_TOKEN))
+                    .isNotEqualTo(RedisKeyGenerator.refreshTokenDigest(TEST_TOKEN + "x"));
+        }
+    }
+
+    @Nested
+    @DisplayName("legacy refreshToken 키 메서드는")
+    class LegacyRefreshTokenMethods {
+
+        @Test
+        @DisplayName("Digest 도입 이전 키 패턴을 생성한다")
+        void shouldGenerateLegacyKeyPattern() {
+            // When & Then
+            assertThat(RedisKeyGenerator.legacyRefreshTokenByUser(TEST_USER_ID))
+                    .isEqualTo("refresh_token::user::" + TEST_USER_ID);
+            assertThat(RedisKeyGenerator.legacyRefreshTokenByToken(TEST_TOKEN))
+                    .isEqualTo("refresh_token::token::" + TEST_TOKEN);
+        }
+    }
+
+    @Nested
+    @DisplayName("refreshToken Prefix 메서드는")
+    class RefreshTokenPrefixMethods {
+
+        @Test
+        @DisplayName("Prefix와 식별자를 조합하면 키 생성 결과와 같다")
+        void shouldComposeSameKeyAsGenerator() {
+            // When & Then
+            assertThat(RedisKeyGenerator.refreshTokenUserPrefix() + TEST_USER_ID)
+                    .isEqualTo(RedisKeyGenerator.refreshTokenByUser(TEST_USER_ID));
+            assertThat(
+                            RedisKeyGenerator.refreshTokenTokenPrefix()
+                                    + RedisKeyGenerator.refreshTokenDigest(TEST_TOKEN))
+                    .isEqualTo(RedisKeyGenerator.refreshTokenByToken(TEST_TOKEN));
+        }
+    }
+
+    @Nested
+    @DisplayName("userAuthorization 키 메서드는")
+    class UserAuthorizationMethods {
+
+        @Test
+        @DisplayName("사용자 항목 키와 버전 키들을 올바른 패턴으로 생성한다")
+        void shouldGenerateCorrectKeyPatterns() {
             // When
-            String key = RedisKeyGenerator.refreshTokenByToken(TEST_TOKEN);
+            String userKey = RedisKeyGenerator.userAuthorizationByUser(TEST_USER_ID);
+            String versionKey = RedisKeyGenerator.userAuthorizationVersion();
+            String userVersionKey = RedisKeyGenerator.userAuthorizationUserVersion(TEST_USER_ID);
 
             // Then
-            assertThat(key).startsWith("refresh_token::token::");
+            assertThat(userKey).isEqualTo("user_authorization::user::" + TEST_USER_ID);
+            assertThat(versionKey).isEqualTo("user_authorization::version");
+            assertThat(userVersionKey)
+                    .isEqualTo("user_authorization::user_version::" + TEST_USER_ID);
         }
     }
 }
@@ -0,0 +1,141 @@
+package com.ryuqq.authhub.adapter.out.persistence.redis.lock.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ryuqq.authhub.domain.common.vo.LockKey;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+
+/**
+ * DistributedLockAdapter 단위 테스트
+ *
+ * <p>Mock 객체를 사용하여 외부 의존성 없이 Lock Adapter의 동작을 검증합니다.
+ *
+ * <p><strong>테스트 전략:</strong>
+ *
+ * <ul>
+ *   <li>MockitoExtension 사용 - {@code @SpringBootTest} 금지 (Zero-Tolerance)
+ *   <li>RedissonClient, RLock은 Mock으로 대체
+ *   <li>RLock 캐시 재사용, 인터럽트 처리, 보유 여부에 따른 해제 검증
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+@Tag("lock")
+@Tag("persistence-layer")
+@DisplayName("DistributedLockAdapter 단위 테스트")
+class DistributedLockAdapterTest {
+
+    private static final LockKey LOCK_KEY = () -> "lock:test:1";
+
+    @Mock private RedissonClient redissonClient;
+
+    @Mock private RLock lock;
+
+    private DistributedLockAdapter lockAdapter;
+
+    @BeforeEach
+    void setUp() {
+        lockAdapter = new DistributedLockAdapter(redissonClient);
+        when(redissonClient.getLock(LOCK_KEY.value())).thenReturn(lock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Thread.interrupted();
+    }
+
+    @Nested
+    @DisplayName("tryLock() 메서드는")
+    class TryLockMethod {
+
+        @Test
+        @DisplayName("RLock.tryLock 결과를 그대로 반환한다")
+        void shouldDelegateToRLock() throws InterruptedException {
+            // Given
+            when(lock.tryLock(0, 30, TimeUnit.SECONDS)).thenReturn(true);
+
+            // When
+            boolean acquired = lockAdapter.tryLock(LOCK_KEY, 0, 30, TimeUnit.SECONDS);
+
+            // Then
+            assertThat(acquired).isTrue();
+        }
+
+        @Test
+        @DisplayName("같은 키는 RLock 인스턴스를 재사용한다")
+        void shouldReuseLockInstanceForSameKey() throws InterruptedException {
+            // Given
+            when(lock.tryLock(0, 30, TimeUnit.SECONDS)).thenReturn(false);
+
+            // When
+            lockAdapter.tryLock(LOCK_KEY, 0, 30, TimeUnit.SECONDS);
+            lockAdapter.tryLock(LOCK_KEY, 0, 30, TimeUnit.SECONDS);
+
+            // Then
+            verify(redissonClient, times(1)).getLock(LOCK_KEY.value());
+        }
+
+        @Test
+        @DisplayName("대기 중 인터럽트되면 false를 반환하고 인터럽트 상태를 복구한다")
+        void shouldRestoreInterruptFlagWhenInterrupted() throws InterruptedException {
+            // Given
+            when(lock.tryLock(5, 30, TimeUnit.SECONDS)).thenThrow(new InterruptedException());
+
+            // When
+            boolean acquired = lockAdapter.tryLock(LOCK_KEY, 5, 30, TimeUnit.SECONDS);
+
+            // Then
+            assertThat(acquired).isFalse();
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("unlock() 메서드는")
+    class UnlockMethod {
+
+        @Test
+        @DisplayName("현재 스레드가 보유한 Lock을 해제한다")
+        void shouldUnlockWhenHeldByCurrentThread() {
+            // Given
+            when(lock.isHeldByCurrentThread()).thenReturn(true);
+
+            // When
+            lockAdapter.unlock(LOCK_KEY);
+
+            // Then
+            verify(lock).unlock();
+        }
+
+        @Test
+        @DisplayName("보유하지 않은 Lock(lease 만료 등)은 해제하지 않는다")
+        void shouldNotUnlockWhenNotHeld() {
+            // Given
+            when(lock.isHeldByCurrentThread()).thenReturn(false);
+
+            // When
+            lockAdapter.unlock(LOCK_KEY);
+
+            // Then
+            verify(lock, never()).unlock();
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.ryuqq.authhub.adapter.out.persistence.redis.userrole.adapter;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ryuqq.authhub.adapter.out.persistence.redis.userrole.script.UserAuthorizationCacheScripts;
+import com.ryuqq.authhub.application.userrole.dto.composite.RolesAndPermissionsComposite;
+import com.ryuqq.authhub.application.userrole.dto.composite.UserAuthorizationCacheLookup;
+import com.ryuqq.authhub.domain.user.id.UserId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+/**
+ * UserAuthorizationCacheCommandAdapter 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+@Tag("cache")
+@Tag("persistence-layer")
+@DisplayName("UserAuthorizationCacheCommandAdapter 단위 테스트")
+class UserAuthorizationCacheCommandAdapterTest {
+
+    private static final String TEST_USER_ID = UUID.randomUUID().toString();
+    private static final String VERSION_KEY = "user_authorization::version";
+    private static final String USER_VERSION_KEY =
+            "user_authorization::user_version::" + TEST_USER_ID;
+    private static final String USER_KEY = "user_authorization::user::" + TEST_USER_ID;
+
+    @Mock private RedisTemplate<String, String> redisTemplate;
+
+    @Mock private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private UserAuthorizationCacheCommandAdapter commandAdapter;
+
+    @BeforeEach
+    void setUp() {
+        commandAdapter = new UserAuthorizationCacheCommandAdapter(redisTemplate, objectMapper);
+    }
+
+    @Nested
+    @DisplayName("save() 메서드는")
+    class SaveMethod {
+
+        @Test
+        @DisplayName("조회 시점의 버전을 조건으로 조건부 저장 스크립트를 실행한다")
+        void shouldSaveEntryWithVersionCondition() throws Exception {
+            // Given
+            RolesAndPermissionsComposite composite =
+                    new RolesAndPermissionsComposite(Set.of("ADMIN"), Set.of("user:read"));
+            String expectedJson =
+                    objectMapper.writeValueAsString(
+                            UserAuthorizationCacheEntry.of(composite, 5L, 2L));
+
+            // When
+            commandAdapter.save(
+                    UserId.of(TEST_USER_ID), composite, UserAuthorizationCacheLookup.miss(5L, 2L));
+
+            // Then
+            verify(redisTemplate)
+                    .execute(
+                            UserAuthorizationCacheScripts.SAVE_IF_CURRENT,
+                            List.of(VERSION_KEY, USER_VERSION_KEY, USER_KEY),
+                            String.valueOf(UserAuthorizationCacheCommandAdapter.TTL.toSeconds()),
+                            "5",
+                            "2",
+                            expectedJson);
+        }
+    }
+
+    @Nested
+    @DisplayName("saveAll() 메서드는")
+    class SaveAllMethod {
+
+        @Test
+        @DisplayName("모든 사용자를 사용자별 조회 버전을 조건으로 한 번의 스크립트로 저장한다")
+        void shouldSaveAllEntriesInSingleScript() throws Exception {
+            // Given
+            String otherUserId = UUID.randomUUID().toString();
+            UserId userId = UserId.of(TEST_USER_ID);
+            UserId otherUser = UserId.of(otherUserId);
+            RolesAndPermissionsComposite admin =
+                    new RolesAndPermissionsComposite(Set.of("ADMIN"), Set.of("user:read"));
+            RolesAndPermissionsComposite empty = RolesAndPermissionsComposite.empty();
+            Map<UserId, RolesAndPermissionsComposite> composites = new LinkedHashMap<>();
+            composites.put(userId, admin);
+            composites.put(otherUser, empty);
+
+            // When
+            commandAdapter.saveAll(
+                    composites,
+                    Map.of(
+                            userId, UserAuthorizationCacheLookup.miss(5L, 2L),
+                            otherUser, UserAuthorizationCacheLookup.miss(5L, 0L)));
+
+            // Then
+            verify(redisTemplate)
+                    .execute(
+                            UserAuthorizationCacheScripts.SAVE_IF_CURRENT,
+                            List.of(
+                                    VERSION_KEY,
+                                    USER_VERSION_KEY,
+                                    USER_KEY,
+                                    "user_authorization::user_version::" + otherUserId,
+                                    "user_authorization::user::" + otherUserId),
+                            String.valueOf(UserAuthorizationCacheCommandAdapter.TTL.toSeconds()),
+                            "5",
+                            "2",
+                            objectMapper.writeValueAsString(
+                                    UserAuthorizationCacheEntry.of(admin, 5L, 2L)),
+                            "5",
+                            "0",
+                            objectMapper.writeValueAsString(
+                                    UserAuthorizationCacheEntry.of(empty, 5L, 0L)));
+        }
+
+        @Test
+        @DisplayName("저장할 항목이 없으면 Redis를 호출하지 않는다")
+        void shouldSkip_WhenEmpty() {
+            // When
+            commandAdapter.saveAll(Map.of(), Map.of());
+
+            // Then
+            verifyNoInteractions(redisTemplate);
+        }
+
+        @Test
+        @DisplayName("Redis 장애 시 예외를 전파하지 않는다")
+        void shouldNotThrow_WhenRedisFails() {
+            // Given
+            UserId userId = UserId.of(TEST_USER_ID);
+            when(redisTemplate.execute(
+                            eq(UserAuthorizationCacheScripts.SAVE_IF_CURRENT),
+                            anyList(),
+                            any(Object[].class)))
+                    .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+            // When & Then
+            assertThatCode(
+                            () ->
+                                    commandAdapter.saveAll(
+                                            Map.of(userId, RolesAndPermissionsComposite.empty()),
+                                            Map.of(
+                                                    userId,
+                                                    UserAuthorizationCacheLookup.miss(5L, 0L))))
+                    .doesNotThrowAnyException();
+        }
+    }
+
+    @Nested
+    @DisplayName("evict() 메서드는")
+    class EvictMethod {
+
+        @Test
+        @DisplayName("사용자 버전 증가와 항목 삭제를 한 번의 스크립트로 수행한다")
+        void shouldBumpUserVersionAndDeleteUserKeys() {
+            // When
+            commandAdapter.evict(List.of(UserId.of(TEST_USER_ID)));
+
+            // Then
+            verify(redisTemplate)
+                    .execute(
+                            UserAuthorizationCacheScripts.EVICT,
+                            List.of(USER_VERSION_KEY, USER_KEY),
+                            String.valueOf(
+                                    UserAuthorizationCacheCommandAdapter.USER_VERSION_TTL
+                                            .toSeconds()));
+        }
+    }
+
+    @Nested
+    @DisplayName("invalidateAll() 메서드는")
+    class InvalidateAllMethod {
+
+        @Test
+        @DisplayName("권한 모델 버전을 증가시킨다")
+        void shouldIncrementVersion() {
+            // Given
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+            // When
+            commandAdapter.invalidateAll();
+
+            // Then
+            verify(valueOperations).increment(VERSION_KEY);
+        }
+
+        @Test
+        @DisplayName("Redis 장애 시 예외를 전파하지 않는다")
+        void shouldNotThrow_WhenRedisFails() {
+            // Given
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.increment(anyString()))
+                    .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+            // When & Then
+            assertThatCode(() -> commandAdapter.invalidateAll()).doesNotThrowAnyException();
+            verify(valueOperations).increment(eq(VERSION_KEY));
+        }
+    }
+}
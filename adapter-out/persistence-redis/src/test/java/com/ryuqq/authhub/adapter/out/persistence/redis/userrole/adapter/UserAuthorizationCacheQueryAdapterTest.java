@@ -0,0 +1,208 @@
+package com.ryuqq.authhub.adapter.out.persistence.redis.userrole.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ryuqq.authhub.application.userrole.dto.composite.RolesAndPermissionsComposite;
+import com.ryuqq.authhub.application.userrole.dto.composite.UserAuthorizationCacheLookup;
+import com.ryuqq.authhub.domain.user.id.UserId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+/**
+ * UserAuthorizationCacheQueryAdapter 단위 테스트
+ *
+ * <p>RedisTemplate은 Mock, ObjectMapper는 실제 객체를 사용하여 직렬화 형식까지 검증합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+@Tag("cache")
+@Tag("persistence-layer")
+@DisplayName("UserAuthorizationCacheQueryAdapter 단위 테스트")
+class UserAuthorizationCacheQueryAdapterTest {
+
+    private static final String TEST_USER_ID = UUID.randomUUID().toString();
+    private static final List<String> KEYS =
+            List.of(
+                    "user_authorization::version",
+                    "user_authorization::user_version::" + TEST_USER_ID,
+                    "user_authorization::user::" + TEST_USER_ID);
+    private static final RolesAndPermissionsComposite COMPOSITE =
+            new RolesAndPermissionsComposite(Set.of("ADMIN"), Set.of("user:read", "user:write"));
+
+    @Mock private RedisTemplate<String, String> redisTemplate;
+
+    @Mock private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private UserAuthorizationCacheQueryAdapter queryAdapter;
+
+    @BeforeEach
+    void setUp() {
+        queryAdapter = new UserAuthorizationCacheQueryAdapter(redisTemplate, objectMapper);
+    }
+
+    private String entryJson(long version, long userVersion) throws Exception {
+        return objectMapper.writeValueAsString(
+                UserAuthorizationCacheEntry.of(COMPOSITE, version, userVersion));
+    }
+
+    @Nested
+    @DisplayName("lookup() 메서드는")
+    class LookupMethod {
+
+        @Test
+        @DisplayName("항목 버전이 현재 버전과 같으면 Hit를 반환한다")
+        void shouldReturnHit_WhenVersionMatches() throws Exception {
+            // Given
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.multiGet(KEYS)).thenReturn(List.of("3", "2", entryJson(3L, 2L)));
+
+            // When
+            UserAuthorizationCacheLookup result = queryAdapter.lookup(UserId.of(TEST_USER_ID));
+
+            // Then
+            assertThat(result.isHit()).isTrue();
+            assertThat(result.cached()).isEqualTo(COMPOSITE);
+            assertThat(result.version()).isEqualTo(3L);
+            assertThat(result.userVersion()).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("항목 버전이 현재 버전과 다르면 현재 버전으로 Miss를 반환한다")
+        void shouldReturnMiss_WhenVersionDiffers() throws Exception {
+            // Given
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.multiGet(KEYS)).thenReturn(List.of("4", "2", entryJson(3L, 2L)));
+
+            // When
+            UserAuthorizationCacheLookup result = queryAdapter.lookup(UserId.of(TEST_USER_ID));
+
+            // Then
+            assertThat(result.isHit()).isFalse();
+            assertThat(result.version()).isEqualTo(4L);
+        }
+
+        @Test
+        @DisplayName("항목의 사용자 버전이 현재 사용자 버전과 다르면 현재 사용자 버전으로 Miss를 반환한다")
+        void shouldReturnMiss_WhenUserVersionDiffers() throws Exception {
+            // Given
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.multiGet(KEYS)).thenReturn(List.of("3", "5", entryJson(3L, 4L)));
+
+            // When
+            UserAuthorizationCacheLookup result = queryAdapter.lookup(UserId.of(TEST_USER_ID));
+
+            // Then
+            assertThat(result.isHit()).isFalse();
+            assertThat(result.version()).isEqualTo(3L);
+            assertThat(result.userVersion()).isEqualTo(5L);
+        }
+
+        @Test
+        @DisplayName("버전 키와 항목이 없으면 버전 0으로 Miss를 반환한다")
+        void shouldReturnMissWithZeroVersion_WhenNothingCached() {
+            // Given
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.multiGet(KEYS)).thenReturn(Arrays.asList(null, null, null));
+
+            // When
+            UserAuthorizationCacheLookup result = queryAdapter.lookup(UserId.of(TEST_USER_ID));
+
+            // Then
+            assertThat(result.isHit()).isFalse();
+            assertThat(result.isCacheable()).isTrue();
+            assertThat(result.version()).isZero();
+            assertThat(result.userVersion()).isZero();
+        }
+
+        @Test
+        @DisplayName("Redis 장애 시 예외 대신 unavailable을 반환한다")
+        void shouldReturnUnavailable_WhenRedisFails() {
+            // Given
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.multiGet(KEYS))
+                    .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+            // When
+            UserAuthorizationCacheLookup result = queryAdapter.lookup(UserId.of(TEST_USER_ID));
+
+            // Then
+            assertThat(result.isHit()).isFalse();
+            assertThat(result.isCacheable()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("lookupAll() 메서드는")
+    class LookupAllMethod {
+
+        private final String otherUserId = UUID.randomUUID().toString();
+        private final List<String> batchKeys =
+                List.of(
+                        "user_authorization::version",
+                        "user_authorization::user_version::" + TEST_USER_ID,
+                        "user_authorization::user::" + TEST_USER_ID,
+                        "user_authorization::user_version::" + otherUserId,
+                        "user_authorization::user::" + otherUserId);
+
+        @Test
+        @DisplayName("버전 키와 모든 사용자 버전/항목을 한 번의 MGET으로 읽어 사용자별 결과를 반환한다")
+        void shouldLookupAllUsersWithSingleMultiGet() throws Exception {
+            // Given
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.multiGet(batchKeys))
+                    .thenReturn(Arrays.asList("3", "1", entryJson(3L, 1L), "2", null));
+
+            // When
+            Map<UserId, UserAuthorizationCacheLookup> result =
+                    queryAdapter.lookupAll(
+                            List.of(UserId.of(TEST_USER_ID), UserId.of(otherUserId)));
+
+            // Then
+            assertThat(result.get(UserId.of(TEST_USER_ID)).cached()).isEqualTo(COMPOSITE);
+            assertThat(result.get(UserId.of(otherUserId)).isHit()).isFalse();
+            assertThat(result.get(UserId.of(otherUserId)).version()).isEqualTo(3L);
+            assertThat(result.get(UserId.of(otherUserId)).userVersion()).isEqualTo(2L);
+            verify(valueOperations).multiGet(batchKeys);
+        }
+
+        @Test
+        @DisplayName("Redis 장애 시 모든 사용자에 대해 unavailable을 반환한다")
+        void shouldReturnUnavailableForAll_WhenRedisFails() {
+            // Given
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.multiGet(batchKeys))
+                    .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+            // When
+            Map<UserId, UserAuthorizationCacheLookup> result =
+                    queryAdapter.lookupAll(
+                            List.of(UserId.of(TEST_USER_ID), UserId.of(otherUserId)));
+
+            // Then
+            assertThat(result).hasSize(2);
+            assertThat(result.values()).noneMatch(UserAuthorizationCacheLookup::isCacheable);
+        }
+    }
+}
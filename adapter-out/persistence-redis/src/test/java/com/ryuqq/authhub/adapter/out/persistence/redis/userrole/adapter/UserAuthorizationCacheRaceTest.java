@@ -0,0 +1,151 @@
+package com.ryuqq.authhub.adapter.out.persistence.redis.userrole.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ryuqq.authhub.application.userrole.dto.composite.RolesAndPermissionsComposite;
+import com.ryuqq.authhub.application.userrole.dto.composite.UserAuthorizationCacheLookup;
+import com.ryuqq.authhub.domain.user.id.UserId;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 사용자 역할/권한 캐시 조회-저장 경합 테스트
+ *
+ * <p>실제 Redis에서 조건부 저장 스크립트를 실행하여, DB 조회와 저장 사이에 끼어든 무효화가 무효화 이전의 역할/권한을 다시 캐시하지
+ * 못하는지 검증합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@Tag("integration")
+@Tag("cache")
+@Tag("persistence-layer")
+@DisplayName("UserAuthorizationCache 조회-저장 경합 테스트")
+class UserAuthorizationCacheRaceTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static final RolesAndPermissionsComposite BEFORE_REVOKE =
+            new RolesAndPermissionsComposite(Set.of("ADMIN"), Set.of("user:read", "user:write"));
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, String> redisTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private UserAuthorizationCacheQueryAdapter queryAdapter;
+    private UserAuthorizationCacheCommandAdapter commandAdapter;
+    private UserId userId;
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory =
+                new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setDefaultSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        queryAdapter = new UserAuthorizationCacheQueryAdapter(redisTemplate, objectMapper);
+        commandAdapter = new UserAuthorizationCacheCommandAdapter(redisTemplate, objectMapper);
+        userId = UserId.of(UUID.randomUUID().toString());
+    }
+
+    @Test
+    @DisplayName("조회와 저장 사이에 사용자 항목이 무효화되면 이전 역할/권한을 저장하지 않는다")
+    void shouldRejectStaleSave_WhenEvictedBetweenLoadAndSave() {
+        // Given - 캐시 Miss 후 DB에서 역할 회수 이전의 역할/권한을 읽은 상태
+        UserAuthorizationCacheLookup lookup = queryAdapter.lookup(userId);
+
+        // When - 역할 회수 커밋 후 무효화가 저장보다 먼저 도착
+        commandAdapter.evict(List.of(userId));
+        commandAdapter.save(userId, BEFORE_REVOKE, lookup);
+
+        // Then
+        assertThat(queryAdapter.lookup(userId).isHit()).isFalse();
+        assertThat(redisTemplate.hasKey(userKey())).isFalse();
+    }
+
+    @Test
+    @DisplayName("조회와 저장 사이에 권한 모델 버전이 증가하면 이전 역할/권한을 저장하지 않는다")
+    void shouldRejectStaleSave_WhenInvalidatedAllBetweenLoadAndSave() {
+        // Given
+        UserAuthorizationCacheLookup lookup = queryAdapter.lookup(userId);
+
+        // When
+        commandAdapter.invalidateAll();
+        commandAdapter.save(userId, BEFORE_REVOKE, lookup);
+
+        // Then
+        assertThat(redisTemplate.hasKey(userKey())).isFalse();
+    }
+
+    @Test
+    @DisplayName("무효화 이후 다시 조회한 결과는 저장되고 다음 조회에서 Hit된다")
+    void shouldSave_WhenLookedUpAfterEviction() {
+        // Given
+        commandAdapter.evict(List.of(userId));
+        UserAuthorizationCacheLookup lookup = queryAdapter.lookup(userId);
+
+        // When
+        commandAdapter.save(userId, BEFORE_REVOKE, lookup);
+
+        // Then
+        UserAuthorizationCacheLookup result = queryAdapter.lookup(userId);
+        assertThat(result.isHit()).isTrue();
+        assertThat(result.cached()).isEqualTo(BEFORE_REVOKE);
+        assertThat(result.userVersion()).isEqualTo(lookup.userVersion());
+    }
+
+    @Test
+    @DisplayName("다건 저장도 조회와 저장 사이에 무효화된 사용자만 저장하지 않는다")
+    void shouldRejectOnlyEvictedUsers_WhenSavingAll() {
+        // Given
+        UserId otherUser = UserId.of(UUID.randomUUID().toString());
+        Map<UserId, UserAuthorizationCacheLookup> lookups =
+                queryAdapter.lookupAll(List.of(userId, otherUser));
+
+        // When
+        commandAdapter.evict(List.of(userId));
+        commandAdapter.saveAll(Map.of(userId, BEFORE_REVOKE, otherUser, BEFORE_REVOKE), lookups);
+
+        // Then
+        Map<UserId, UserAuthorizationCacheLookup> result =
+                queryAdapter.lookupAll(List.of(userId, otherUser));
+        assertThat(result.get(userId).isHit()).isFalse();
+        assertThat(result.get(otherUser).isHit()).isTrue();
+    }
+
+    private String userKey() {
+        return "user_authorization::user::" + userId.value();
+    }
+}
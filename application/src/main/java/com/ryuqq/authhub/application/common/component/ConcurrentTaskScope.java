@@ -0,0 +1,185 @@
+package com.ryuqq.authhub.application.common.component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.slf4j.MDC;
+
+/**
+ * ConcurrentTaskScope - 요청 범위 동시 실행 Scope
+ *
+ * <p>서로 독립적인 조회/저장 단계를 Virtual Thread로 동시에 실행하고, 모든 작업이 끝난 뒤에만 Scope를 벗어나도록
+ * 보장합니다. JDK 21의 {@code StructuredTaskScope.ShutdownOnFailure}(Preview)와 같은 규칙을 Preview 기능 없이
+ * 제공합니다.
+ *
+ * <p><strong>규칙:</strong>
+ *
+ * <ul>
+ *   <li>작업 하나가 실패하면 나머지 작업을 취소하고, {@link #join()}은 최초 실패 예외를 그대로 던짐
+ *   <li>취소는 협조적(cooperative)으로 동작: 시작 전 작업은 실행하지 않고, 실행 중 작업은 interrupt하지 않음 (JDBC 등
+ *       I/O 중 interrupt로 커넥션이 닫히는 것을 방지). 오래 걸리는 작업은 {@link #isShutdown()}을 확인해 스스로 중단
+ *   <li>Scope를 닫으면 끝나지 않은 작업을 취소하고 종료될 때까지 대기 (요청 밖으로 작업이 새지 않음)
+ *   <li>MDC(traceId 등)는 Fork 시점 값을 작업 스레드로 복사
+ * </ul>
+ *
+ * <p><strong>사용법:</strong>
+ *
+ * <pre>{@code
+ * try (ConcurrentTaskScope scope = ConcurrentTaskScope.open("login")) {
+ *     ConcurrentTaskScope.Subtask<Roles> roles = scope.fork(() -> loadRoles(userId));
+ *     ConcurrentTaskScope.Subtask<Tenant> tenant = scope.fork(() -> loadTenant(orgId));
+ *     scope.join();
+ *     return combine(roles.get(), tenant.get());
+ * }
+ * }</pre>
+ *
+ * <p><strong>주의:</strong> Fork된 작업은 호출 스레드의 ThreadLocal(트랜잭션, SecurityContext)을 이어받지 않습니다.
+ * 트랜잭션 외부에서, 각 작업이 자체 트랜잭션 경계를 갖는 Manager/Facade를 호출할 때만 사용합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public final class ConcurrentTaskScope implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final List<FutureTask<?>> tasks = new CopyOnWriteArrayList<>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private volatile boolean shutdown;
+
+    private ConcurrentTaskScope(String name) {
+        this.executor =
+                Executors.newThreadPerTaskExecutor(
+                        Thread.ofVirtual().name(name + "-", 0).factory());
+    }
+
+    /**
+     * Scope 생성
+     *
+     * @param name 작업 스레드 이름 접두사
+     * @return 새 Scope
+     */
+    public static ConcurrentTaskScope open(String name) {
+        return new ConcurrentTaskScope(name);
+    }
+
+    /**
+     * 작업을 새 Virtual Thread에서 실행
+     *
+     * @param task 실행할 작업
+     * @param <T> 결과 타입
+     * @return 결과 핸들 ({@link #join()} 이후 조회)
+     */
+    public <T> Subtask<T> fork(Supplier<T> task) {
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        FutureTask<T> future = new FutureTask<>(() -> run(task, mdc));
+        tasks.add(future);
+        if (shutdown) {
+            future.cancel(false);
+        } else {
+            executor.execute(future);
+        }
+        return new Subtask<>(future);
+    }
+
+    /**
+     * 취소 여부 확인
+     *
+     * <p>작업이 실패했거나 Scope가 닫히는 중이면 true입니다. 실행 중인 작업은 interrupt되지 않으므로, 여러 단계를 거치는
+     * 작업은 단계 사이에서 이 값을 확인해 남은 작업을 건너뛸 수 있습니다.
+     *
+     * @return 취소되었으면 true
+     */
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    /**
+     * 모든 작업 완료 또는 최초 실패까지 대기
+     *
+     * @throws RuntimeException 작업에서 발생한 최초 예외 (그대로 전파)
+     */
+    public void join() {
+        for (FutureTask<?> task : tasks) {
+            try {
+                task.get();
+            } catch (ExecutionException | CancellationException e) {
+                // 최초 실패는 failure에 기록됨
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                shutdown();
+                throw new IllegalStateException("Interrupted while joining concurrent tasks", e);
+            }
+        }
+        Throwable cause = failure.get();
+        if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+    }
+
+    /** 끝나지 않은 작업을 취소하고 모든 작업 스레드가 종료될 때까지 대기 */
+    @Override
+    public void close() {
+        shutdown();
+        executor.close();
+    }
+
+    private <T> T run(Supplier<T> task, Map<String, String> mdc) {
+        if (shutdown) {
+            throw new CancellationException("Concurrent task scope is shut down");
+        }
+        if (mdc != null) {
+            MDC.setContextMap(mdc);
+        }
+        try {
+            return task.get();
+        } catch (RuntimeException | Error e) {
+            if (failure.compareAndSet(null, e)) {
+                shutdown();
+            }
+            throw e;
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    private void shutdown() {
+        shutdown = true;
+        for (FutureTask<?> task : tasks) {
+            task.cancel(false);
+        }
+    }
+
+    /**
+     * Fork된 작업의 결과 핸들
+     *
+     * @param <T> 결과 타입
+     */
+    public static final class Subtask<T> {
+
+        private final FutureTask<T> future;
+
+        private Subtask(FutureTask<T> future) {
+            this.future = future;
+        }
+
+        /**
+         * 작업 결과 반환
+         *
+         * @return 작업 결과
+         * @throws IllegalStateException {@link ConcurrentTaskScope#join()}이 성공하기 전에 호출한 경우
+         */
+        public T get() {
+            return future.resultNow();
+        }
+    }
+}
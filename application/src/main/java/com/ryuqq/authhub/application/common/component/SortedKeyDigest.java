@@ -0,0 +1,159 @@
+package com.ryuqq.authhub.application.common.component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * SortedKeyDigest - 정렬된 키 집합의 SHA-256 해시
+ *
+ * <p>키 집합을 정렬해 {@code ,}로 연결하고, 집합이 여러 개면 {@code |}로 구분한 UTF-8 바이트의 SHA-256을 hex(64자)로
+ * 계산합니다. {@code String.join(",", new TreeSet<>(keys))}로 만든 문자열의 해시와 같은 값이며, 권한 해시 등 이미
+ * 저장/발급된 해시와 호환됩니다.
+ *
+ * <p>로그인/토큰 갱신마다 호출되므로 중간 문자열과 TreeSet을 만들지 않습니다. 키를 배열로 정렬한 뒤 재사용 버퍼에 UTF-8로 써서
+ * 다이제스트에 바로 넣고, {@link MessageDigest}는 스레드 종류(Platform/Virtual)와 무관하게 재사용되도록 작은 풀에서
+ * 빌려 씁니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public final class SortedKeyDigest {
+
+    private static final String ALGORITHM = "SHA-256";
+    private static final int POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+    private static final HexFormat HEX = HexFormat.of();
+
+    private static final ArrayBlockingQueue<DigestState> POOL =
+            new ArrayBlockingQueue<>(POOL_SIZE);
+
+    private SortedKeyDigest() {}
+
+    /**
+     * 키 집합 하나의 해시 계산
+     *
+     * @param keys 키 집합 (중복은 한 번만 반영)
+     * @return SHA-256 해시 (hex)
+     */
+    public static String sha256Hex(Collection<String> keys) {
+        DigestState state = acquire();
+        try {
+            state.appendSorted(keys);
+            return state.finish();
+        } finally {
+            release(state);
+        }
+    }
+
+    /**
+     * 키 집합 두 개의 해시 계산 ({@code first|second})
+     *
+     * @param first 첫 번째 키 집합
+     * @param second 두 번째 키 집합
+     * @return SHA-256 해시 (hex)
+     */
+    public static String sha256Hex(Collection<String> first, Collection<String> second) {
+        DigestState state = acquire();
+        try {
+            state.appendSorted(first);
+            state.append((byte) '|');
+            state.appendSorted(second);
+            return state.finish();
+        } finally {
+            release(state);
+        }
+    }
+
+    private static DigestState acquire() {
+        DigestState state = POOL.poll();
+        return state != null ? state : new DigestState();
+    }
+
+    private static void release(DigestState state) {
+        state.reset();
+        POOL.offer(state);
+    }
+
+    /** 재사용 다이제스트와 UTF-8 버퍼 */
+    private static final class DigestState {
+
+        private final MessageDigest digest;
+        private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+        private int length;
+
+        private DigestState() {
+            try {
+                this.digest = MessageDigest.getInstance(ALGORITHM);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 algorithm not available", e);
+            }
+        }
+
+        private void appendSorted(Collection<String> keys) {
+            String[] sorted = keys.toArray(new String[0]);
+            Arrays.sort(sorted);
+            String previous = null;
+            for (String key : sorted) {
+                if (key.equals(previous)) {
+                    continue;
+                }
+                if (previous != null) {
+                    append((byte) ',');
+                }
+                appendUtf8(key);
+                previous = key;
+            }
+        }
+
+        private void appendUtf8(String value) {
+            int chars = value.length();
+            ensureCapacity(chars);
+            for (int i = 0; i < chars; i++) {
+                char c = value.charAt(i);
+                if (c >= 0x80) {
+                    flush();
+                    digest.update(value.substring(i).getBytes(StandardCharsets.UTF_8));
+                    return;
+                }
+                buffer[length++] = (byte) c;
+            }
+        }
+
+        private void append(byte value) {
+            ensureCapacity(1);
+            buffer[length++] = value;
+        }
+
+        private void ensureCapacity(int additional) {
+            if (length + additional <= buffer.length) {
+                return;
+            }
+            flush();
+            if (additional > buffer.length) {
+                buffer = new byte[Math.max(additional, buffer.length * 2)];
+            }
+        }
+
+        private void flush() {
+            if (length > 0) {
+                digest.update(buffer, 0, length);
+                length = 0;
+            }
+        }
+
+        private String finish() {
+            flush();
+            return HEX.formatHex(digest.digest());
+        }
+
+        private void reset() {
+            length = 0;
+            digest.reset();
+        }
+    }
+}
@@ -19,9 +19,12 @@ import org.springframework.transaction.support.TransactionSynchronizationManager
  * <ul>
  *   <li>커밋 후 발행: 트랜잭션 성공 시에만 Event 발행
  *   <li>롤백 시 미발행: 트랜잭션 실패 시 Event 발행 안 함
- *   <li>Virtual Thread 안전: ThreadLocal 대신 TransactionSynchronization 사용
+ *   <li>Virtual Thread 안전: 별도 ThreadLocal 없이 TransactionSynchronization 사용
  * </ul>
  *
+ * <p><strong>Virtual Thread 모드:</strong> TransactionSynchronization은 트랜잭션을 시작한 요청 스레드에 바인딩되고
+ * afterCommit도 같은 스레드에서 실행됩니다. 트랜잭션은 스레드를 넘지 않으므로 Virtual Thread 위에서도 동작이 같습니다.
+ *
  * <p><strong>사용법</strong>:
  *
  * <pre>{@code
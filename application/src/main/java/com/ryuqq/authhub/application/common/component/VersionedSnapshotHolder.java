@@ -0,0 +1,108 @@
+package com.ryuqq.authhub.application.common.component;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * VersionedSnapshotHolder - 버전을 가진 불변 스냅샷의 single-flight 보관소
+ *
+ * <p>DB/Redis에서 재구성하는 비용이 큰 불변 스냅샷을 프로세스 내에 하나만 보관합니다. 스냅샷 종류별 보관소(Component)가
+ * 필드로 가지고 사용합니다.
+ *
+ * <p><strong>갱신 정책:</strong>
+ *
+ * <ul>
+ *   <li>요청된 버전과 스냅샷 버전이 같으면 재사용 ({@link #getOrLoad(Object, Supplier)})
+ *   <li>특정 스냅샷이 낡았다고 판단되면 그 스냅샷만 교체 ({@link #reload(Object, Supplier)})
+ *   <li>{@link #invalidate()}로 즉시 폐기. 폐기 전에 시작된 로드 결과는 반환하되 보관하지 않음
+ *   <li>로드는 한 번에 한 스레드만 수행하며, 대기하던 스레드는 먼저 로드된 스냅샷이 조건에 맞으면 재사용
+ * </ul>
+ *
+ * @param <T> 스냅샷 타입
+ * @param <V> 버전 타입
+ * @author development-team
+ * @since 1.0.0
+ */
+public final class VersionedSnapshotHolder<T, V> {
+
+    private final Function<T, V> versionOf;
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private final AtomicLong generation = new AtomicLong();
+
+    private volatile T snapshot;
+
+    /**
+     * 보관소 생성
+     *
+     * @param versionOf 스냅샷에서 버전을 꺼내는 함수
+     */
+    public VersionedSnapshotHolder(Function<T, V> versionOf) {
+        this.versionOf = Objects.requireNonNull(versionOf, "versionOf");
+    }
+
+    /**
+     * 보관 중인 스냅샷 조회
+     *
+     * @return 스냅샷 (없으면 null)
+     */
+    public T get() {
+        return snapshot;
+    }
+
+    /**
+     * 버전에 해당하는 스냅샷 조회 (없거나 버전이 다르면 로드)
+     *
+     * @param version 현재 버전
+     * @param loader 스냅샷 로더
+     * @return 버전에 해당하는 스냅샷
+     */
+    public T getOrLoad(V version, Supplier<T> loader) {
+        Predicate<T> isCurrent = current -> Objects.equals(versionOf.apply(current), version);
+        T current = snapshot;
+        if (current != null && isCurrent.test(current)) {
+            return current;
+        }
+        return load(isCurrent, loader);
+    }
+
+    /**
+     * 낡은 스냅샷 교체
+     *
+     * <p>대기하는 동안 다른 스레드가 이미 교체했으면 그 스냅샷을 재사용합니다.
+     *
+     * @param stale 교체 대상 스냅샷 (보관 중인 스냅샷이 없을 때는 null)
+     * @param loader 스냅샷 로더
+     * @return 최신 스냅샷
+     */
+    public T reload(T stale, Supplier<T> loader) {
+        return load(current -> current != stale, loader);
+    }
+
+    /** 스냅샷 폐기 (다음 조회 시 로드) */
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+
+    private T load(Predicate<T> reusable, Supplier<T> loader) {
+        loadLock.lock();
+        try {
+            T current = snapshot;
+            if (current != null && reusable.test(current)) {
+                return current;
+            }
+            long loadGeneration = generation.get();
+            T loaded = loader.get();
+            if (generation.get() == loadGeneration) {
+                snapshot = loaded;
+            }
+            return loaded;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+}
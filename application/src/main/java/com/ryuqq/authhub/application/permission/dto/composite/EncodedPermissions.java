@@ -0,0 +1,17 @@
+package com.ryuqq.authhub.application.permission.dto.composite;
+
+/**
+ * EncodedPermissions - 사전 인코딩된 권한 비트맵
+ *
+ * <p>권한 키 집합을 {@link PermissionDictionary}의 권한 ID 비트맵으로 인코딩한 결과입니다.
+ *
+ * <p><strong>비트맵 형식:</strong> {@link java.util.BitSet#toByteArray()} 바이트(권한 ID n → {@code
+ * bytes[n / 8]}의 {@code n % 8}번째 비트)를 Base64URL(패딩 없음)로 인코딩한 문자열입니다. 디코딩은 {@code
+ * BitSet.valueOf(Base64.getUrlDecoder().decode(bitmap))}로 수행합니다.
+ *
+ * @param dictionaryVersion 인코딩에 사용한 사전 버전
+ * @param bitmap Base64URL 권한 ID 비트맵
+ * @author development-team
+ * @since 1.0.0
+ */
+public record EncodedPermissions(String dictionaryVersion, String bitmap) {}
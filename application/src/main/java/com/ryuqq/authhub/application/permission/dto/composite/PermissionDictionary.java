@@ -0,0 +1,175 @@
+package com.ryuqq.authhub.application.permission.dto.composite;
+
+import com.ryuqq.authhub.application.permission.dto.response.PermissionDictionaryEntryResult;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * PermissionDictionary - 권한 키 ↔ 비트 인덱스 사전 (불변 스냅샷)
+ *
+ * <p>Access Token의 압축 권한 Claim을 위해 권한 키를 비트 인덱스에 대응시킵니다. 비트 인덱스는 DB 권한
+ * ID(permissions.permission_id)를 그대로 사용합니다. 권한은 소프트 삭제되어 행과 ID가 남으므로 한 번 쓴 ID는 다른 권한에
+ * 다시 배정되지 않고, 권한이 추가/삭제되어도 다른 권한의 비트 위치는 바뀌지 않습니다. 따라서 이전 사전으로 인코딩한 비트맵도
+ * 최신 사전으로 복원할 수 있으며, 삭제된 권한의 비트만 복원되지 않습니다.
+ *
+ * <p><strong>규칙:</strong>
+ *
+ * <ul>
+ *   <li>비트 인덱스: 권한 ID. int 범위를 넘는 ID는 비트로 표현할 수 없어 사전에서 제외 (해당 권한은 인코딩 불가)
+ *   <li>권한 키는 서비스별로 유일하므로 같은 키가 여러 서비스에 있으면 가장 작은 ID의 비트로 인코딩하고, 복원은 모든 ID에
+ *       대해 수행
+ *   <li>버전: 정렬된 (ID, 키) 목록의 SHA-256 앞 16자리 (hex) - 같은 사전이면 모든 인스턴스에서 같은 값. 복원 가능 여부가
+ *       아니라 보유 사전이 비트맵보다 오래되었는지(새 권한 누락) 판단해 재조회하는 데 사용
+ *   <li>비트맵 형식은 {@link EncodedPermissions} 참조
+ * </ul>
+ *
+ * <p>생성 이후 불변이므로 스레드 안전합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public final class PermissionDictionary {
+
+    private static final int VERSION_LENGTH = 16;
+    private static final Base64.Encoder BITMAP_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final String version;
+    private final List<PermissionDictionaryEntryResult> entries;
+    private final Map<String, Integer> bitsByKey;
+    private final Map<Integer, String> keysByBit;
+
+    private PermissionDictionary(
+            String version,
+            List<PermissionDictionaryEntryResult> entries,
+            Map<String, Integer> bitsByKey,
+            Map<Integer, String> keysByBit) {
+        this.version = version;
+        this.entries = entries;
+        this.bitsByKey = bitsByKey;
+        this.keysByBit = keysByBit;
+    }
+
+    /**
+     * 권한 (ID, 키) 목록으로 사전 구성
+     *
+     * @param rows 삭제되지 않은 권한의 (ID, 키) 목록
+     * @return 구성된 PermissionDictionary
+     */
+    public static PermissionDictionary of(List<PermissionDictionaryEntryResult> rows) {
+        List<PermissionDictionaryEntryResult> entries = new ArrayList<>(rows.size());
+        for (PermissionDictionaryEntryResult row : rows) {
+            if (row.permissionId() >= 0 && row.permissionId() <= Integer.MAX_VALUE) {
+                entries.add(row);
+            }
+        }
+        entries.sort(Comparator.comparing(PermissionDictionaryEntryResult::permissionId));
+
+        Map<String, Integer> bitsByKey = new HashMap<>(entries.size() * 2);
+        Map<Integer, String> keysByBit = new HashMap<>(entries.size() * 2);
+        for (PermissionDictionaryEntryResult entry : entries) {
+            int bit = entry.permissionId().intValue();
+            bitsByKey.putIfAbsent(entry.permissionKey(), bit);
+            keysByBit.put(bit, entry.permissionKey());
+        }
+        return new PermissionDictionary(
+                versionOf(entries), List.copyOf(entries), bitsByKey, keysByBit);
+    }
+
+    /**
+     * 권한 키 집합을 비트맵으로 인코딩
+     *
+     * <p>사전에 없는 권한 키가 하나라도 있으면 (사전 적재 이후 생성된 권한) 손실 없이 인코딩할 수 없으므로 empty를 반환합니다.
+     *
+     * @param permissionKeys 권한 키 집합
+     * @return 인코딩 결과 (사전에 없는 키가 있으면 empty)
+     */
+    public Optional<EncodedPermissions> encode(Collection<String> permissionKeys) {
+        BitSet bits = new BitSet();
+        for (String permissionKey : permissionKeys) {
+            Integer bit = bitsByKey.get(permissionKey);
+            if (bit == null) {
+                return Optional.empty();
+            }
+            bits.set(bit);
+        }
+        return Optional.of(
+                new EncodedPermissions(version, BITMAP_ENCODER.encodeToString(bits.toByteArray())));
+    }
+
+    /**
+     * 비트맵을 권한 키 집합으로 디코딩
+     *
+     * <p>사전에 없는 권한 ID의 비트(삭제된 권한, 사전 적재 이후 생성된 권한)는 무시합니다. 비트 위치가 사전 버전과 무관하므로
+     * 비트맵을 인코딩한 사전 버전과 달라도 복원할 수 있습니다.
+     *
+     * @param bits 권한 ID 비트셋
+     * @return 권한 키 집합
+     */
+    public Set<String> decode(BitSet bits) {
+        Set<String> permissionKeys = new HashSet<>(bits.cardinality() * 2);
+        for (int bit = bits.nextSetBit(0); bit >= 0; bit = bits.nextSetBit(bit + 1)) {
+            String permissionKey = keysByBit.get(bit);
+            if (permissionKey != null) {
+                permissionKeys.add(permissionKey);
+            }
+            if (bit == Integer.MAX_VALUE) {
+                break;
+            }
+        }
+        return permissionKeys;
+    }
+
+    /**
+     * 사전 버전
+     *
+     * @return 버전 (SHA-256 앞 16자리 hex)
+     */
+    public String version() {
+        return version;
+    }
+
+    /**
+     * 사전 크기
+     *
+     * @return 항목 수 (같은 키를 가진 권한도 각각 셈)
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 사전 항목 (권한 ID 오름차순, 권한 ID가 비트 인덱스)
+     *
+     * @return (권한 ID, 권한 키) 목록
+     */
+    public List<PermissionDictionaryEntryResult> entries() {
+        return entries;
+    }
+
+    private static String versionOf(List<PermissionDictionaryEntryResult> entries) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (PermissionDictionaryEntryResult entry : entries) {
+                digest.update(
+                        (entry.permissionId() + "=" + entry.permissionKey() + "\n")
+                                .getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest()).substring(0, VERSION_LENGTH);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.ryuqq.authhub.application.permission.dto.composite;
+
+import com.ryuqq.authhub.application.common.component.SortedKeyDigest;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * PermissionSet - 해시로 식별되는 권한 집합
+ *
+ * <p>Access Token의 {@code permission_hash} Claim과 같은 해시로 권한 키 집합을 식별합니다. 해시는 내용으로만 결정되므로
+ * 같은 권한을 가진 사용자들은 하나의 항목을 공유하고, 한 번 저장된 해시의 내용은 바뀌지 않습니다.
+ *
+ * <p><strong>해시 형식:</strong> 정렬된 권한 키를 {@code ,}로 연결한 문자열의 SHA-256 (hex, 64자). 권한이 없으면 빈
+ * 문자열입니다.
+ *
+ * @param hash 권한 해시
+ * @param permissionKeys 권한 키 Set
+ * @author development-team
+ * @since 1.0.0
+ */
+public record PermissionSet(String hash, Set<String> permissionKeys) {
+
+    private static final PermissionSet EMPTY = new PermissionSet("", Set.of());
+
+    public PermissionSet {
+        permissionKeys = Set.copyOf(permissionKeys);
+    }
+
+    /**
+     * 권한 키로 PermissionSet 생성 (해시 계산)
+     *
+     * @param permissionKeys 권한 키
+     * @return PermissionSet
+     */
+    public static PermissionSet of(Collection<String> permissionKeys) {
+        if (permissionKeys == null || permissionKeys.isEmpty()) {
+            return EMPTY;
+        }
+        Set<String> keys = Set.copyOf(permissionKeys);
+        return new PermissionSet(SortedKeyDigest.sha256Hex(keys), keys);
+    }
+
+    /**
+     * 권한이 없는 집합인지 확인
+     *
+     * @return 권한이 없으면 true
+     */
+    public boolean isEmpty() {
+        return permissionKeys.isEmpty();
+    }
+}
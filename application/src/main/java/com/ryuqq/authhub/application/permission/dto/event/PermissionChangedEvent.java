@@ -0,0 +1,26 @@
+package com.ryuqq.authhub.application.permission.dto.event;
+
+/**
+ * PermissionChangedEvent - 기존 Permission 변경 이벤트
+ *
+ * <p>기존 Permission의 수정/삭제가 커밋된 후 발행됩니다. {@code TransactionEventRegistry}를 통해 커밋 후에만 발행되며 롤백
+ * 시에는 발행되지 않습니다. 신규 Permission은 아직 역할에 부여되지 않았으므로 발행하지 않습니다.
+ *
+ * <p>사용자 역할/권한 캐시 등 권한 모델 파생 데이터 갱신에 사용합니다.
+ *
+ * @param changedCount 변경된 Permission 수
+ * @author development-team
+ * @since 1.0.0
+ */
+public record PermissionChangedEvent(int changedCount) {
+
+    /**
+     * 이벤트 생성
+     *
+     * @param changedCount 변경된 Permission 수
+     * @return PermissionChangedEvent
+     */
+    public static PermissionChangedEvent of(int changedCount) {
+        return new PermissionChangedEvent(changedCount);
+    }
+}
@@ -0,0 +1,13 @@
+package com.ryuqq.authhub.application.permission.dto.response;
+
+/**
+ * PermissionDictionaryEntryResult - 권한 사전 적재용 조회 결과 DTO
+ *
+ * <p>삭제되지 않은 권한의 (ID, 권한 키) 한 행입니다. 권한 사전은 권한 ID를 비트 인덱스로 사용합니다.
+ *
+ * @param permissionId 권한 ID
+ * @param permissionKey 권한 키 (예: "user:read")
+ * @author development-team
+ * @since 1.0.0
+ */
+public record PermissionDictionaryEntryResult(Long permissionId, String permissionKey) {}
@@ -0,0 +1,128 @@
+package com.ryuqq.authhub.application.permission.internal;
+
+import com.ryuqq.authhub.application.common.component.VersionedSnapshotHolder;
+import com.ryuqq.authhub.application.permission.dto.composite.EncodedPermissions;
+import com.ryuqq.authhub.application.permission.dto.composite.PermissionDictionary;
+import com.ryuqq.authhub.application.permission.manager.PermissionReadManager;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+/**
+ * PermissionDictionaryHolder - 인메모리 권한 사전 보관소
+ *
+ * <p>불변 {@link PermissionDictionary}를 프로세스 내에 보관하여 토큰 발급마다 권한 목록을 조회하지 않도록 합니다.
+ *
+ * <p><strong>갱신 정책:</strong>
+ *
+ * <ul>
+ *   <li>최초 조회 시 적재, 이후 재사용
+ *   <li>로컬 권한 수정/삭제 커밋 시 {@link #invalidate()}로 즉시 폐기
+ *   <li>사전에 없는 권한 키를 인코딩하려 하거나 보유 버전과 다른 버전을 요청하면 (다른 인스턴스에서 생성된 권한 등) 재적재.
+ *       재적재는 {@value #MIN_RELOAD_INTERVAL_SECONDS}초에 한 번으로 제한
+ *   <li>재구성은 단일 스레드만 수행 (single-flight)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class PermissionDictionaryHolder {
+
+    static final long MIN_RELOAD_INTERVAL_SECONDS = 5L;
+
+    private final PermissionReadManager readManager;
+    private final VersionedSnapshotHolder<Snapshot, String> holder =
+            new VersionedSnapshotHolder<>(snapshot -> snapshot.dictionary().version());
+
+    public PermissionDictionaryHolder(PermissionReadManager readManager) {
+        this.readManager = readManager;
+    }
+
+    /**
+     * 현재 권한 사전 조회 (없으면 적재)
+     *
+     * @return 권한 사전
+     */
+    public PermissionDictionary current() {
+        Snapshot current = holder.get();
+        if (current != null) {
+            return current.dictionary();
+        }
+        return reload(null).dictionary();
+    }
+
+    /**
+     * 지정한 버전의 권한 사전 조회
+     *
+     * <p>보유 사전의 버전이 다르면 (비트맵을 만든 인스턴스에서 생성된 권한이 없을 수 있으므로) 재적재합니다. 재적재 후에도 버전이
+     * 다를 수 있지만 (이미 지난 버전, 재적재 간격 제한) 비트 위치는 권한 ID로 고정이므로 반환된 사전으로 복원할 수 있습니다.
+     *
+     * @param version 필요한 사전 버전
+     * @return 현재 권한 사전
+     */
+    public PermissionDictionary current(String version) {
+        Snapshot current = holder.get();
+        if (current == null) {
+            return reload(null).dictionary();
+        }
+        if (current.dictionary().version().equals(version)
+                || !current.isReloadable(System.nanoTime())) {
+            return current.dictionary();
+        }
+        return reload(current).dictionary();
+    }
+
+    /**
+     * 권한 키 집합을 현재 사전으로 인코딩
+     *
+     * <p>사전에 없는 키가 있으면 재적재 후 한 번 더 시도합니다. 그래도 없으면 empty를 반환하며, 호출자는 압축하지 않은 권한
+     * 목록을 사용해야 합니다.
+     *
+     * @param permissionKeys 권한 키 집합
+     * @return 인코딩 결과 (사전에 없는 키가 있으면 empty)
+     */
+    public Optional<EncodedPermissions> encode(Collection<String> permissionKeys) {
+        Snapshot current = holder.get();
+        if (current == null) {
+            current = reload(null);
+        }
+        Optional<EncodedPermissions> encoded = current.dictionary().encode(permissionKeys);
+        if (encoded.isPresent() || !current.isReloadable(System.nanoTime())) {
+            return encoded;
+        }
+        return reload(current).dictionary().encode(permissionKeys);
+    }
+
+    /** 사전 폐기 (다음 조회 시 재적재) */
+    public void invalidate() {
+        holder.invalidate();
+    }
+
+    /**
+     * 사전 재적재
+     *
+     * <p>대기하는 동안 다른 스레드가 이미 교체했으면 그 결과를 재사용합니다. 적재 중 {@link #invalidate()}가 호출되면 적재
+     * 결과는 반환하되 보관하지 않습니다.
+     *
+     * @param stale 교체 대상 스냅샷 (없으면 null)
+     * @return 최신 스냅샷
+     */
+    private Snapshot reload(Snapshot stale) {
+        return holder.reload(
+                stale,
+                () ->
+                        new Snapshot(
+                                PermissionDictionary.of(readManager.findAllDictionaryEntries()),
+                                System.nanoTime()));
+    }
+
+    private record Snapshot(PermissionDictionary dictionary, long loadedAtNanos) {
+
+        boolean isReloadable(long nowNanos) {
+            return nowNanos - loadedAtNanos
+                    >= TimeUnit.SECONDS.toNanos(MIN_RELOAD_INTERVAL_SECONDS);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.ryuqq.authhub.application.permission.listener;
+
+import com.ryuqq.authhub.application.permission.dto.event.PermissionChangedEvent;
+import com.ryuqq.authhub.application.permission.internal.PermissionDictionaryHolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * PermissionDictionaryInvalidationListener - 권한 사전 무효화 리스너
+ *
+ * <p>기존 권한의 수정/삭제가 커밋된 후 로컬 권한 사전을 폐기합니다. 신규 권한은 인코딩 시 사전에 없는 키로 감지되어
+ * 재적재되므로 별도 이벤트가 필요하지 않습니다.
+ *
+ * <p>커밋 후 콜백에서 호출되므로 DB 조회를 수행하지 않습니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class PermissionDictionaryInvalidationListener {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(PermissionDictionaryInvalidationListener.class);
+
+    private final PermissionDictionaryHolder dictionaryHolder;
+
+    public PermissionDictionaryInvalidationListener(PermissionDictionaryHolder dictionaryHolder) {
+        this.dictionaryHolder = dictionaryHolder;
+    }
+
+    /**
+     * 권한 변경 이벤트 처리
+     *
+     * @param event 권한 변경 이벤트
+     */
+    @EventListener
+    public void handle(PermissionChangedEvent event) {
+        log.debug("권한 변경, 권한 사전 폐기: changedCount={}", event.changedCount());
+        dictionaryHolder.invalidate();
+    }
+}
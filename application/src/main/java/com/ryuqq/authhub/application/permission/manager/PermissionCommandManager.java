@@ -1,6 +1,9 @@
 package com.ryuqq.authhub.application.permission.manager;
 
+import com.ryuqq.authhub.application.common.component.TransactionEventRegistry;
+import com.ryuqq.authhub.application.permission.dto.event.PermissionChangedEvent;
 import com.ryuqq.authhub.application.permission.port.out.command.PermissionCommandPort;
+import com.ryuqq.authhub.application.permissionendpoint.port.out.command.PermissionEndpointSpecCommandPort;
 import com.ryuqq.authhub.domain.permission.aggregate.Permission;
 import java.util.HashMap;
 import java.util.List;
@@ -17,6 +20,9 @@ import org.springframework.transaction.annotation.Transactional;
  *
  * <p>C-005: Port를 직접 노출하지 않고 Manager로 래핑합니다.
  *
+ * <p>기존 Permission 영속화 시 {@link PermissionChangedEvent}를 커밋 후 발행하도록 등록합니다. 삭제/복원은 연결된
+ * 엔드포인트를 Gateway용 스펙에서 제외/포함시키므로, 같은 트랜잭션에서 스펙 버전을 올려 연결된 엔드포인트에 기록합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -24,9 +30,16 @@ import org.springframework.transaction.annotation.Transactional;
 public class PermissionCommandManager {
 
     private final PermissionCommandPort persistencePort;
+    private final PermissionEndpointSpecCommandPort permissionEndpointSpecCommandPort;
+    private final TransactionEventRegistry transactionEventRegistry;
 
-    public PermissionCommandManager(PermissionCommandPort persistencePort) {
+    public PermissionCommandManager(
+            PermissionCommandPort persistencePort,
+            PermissionEndpointSpecCommandPort permissionEndpointSpecCommandPort,
+            TransactionEventRegistry transactionEventRegistry) {
         this.persistencePort = persistencePort;
+        this.permissionEndpointSpecCommandPort = permissionEndpointSpecCommandPort;
+        this.transactionEventRegistry = transactionEventRegistry;
     }
 
     /**
@@ -37,7 +50,12 @@ public class PermissionCommandManager {
      */
     @Transactional
     public Long persist(Permission permission) {
-        return persistencePort.persist(permission);
+        Long id = persistencePort.persist(permission);
+        if (!permission.isNew()) {
+            permissionEndpointSpecCommandPort.markPermissionChanged(id);
+            transactionEventRegistry.registerObjectForPublish(PermissionChangedEvent.of(1));
+        }
+        return id;
     }
 
     /**
@@ -54,10 +72,19 @@ public class PermissionCommandManager {
             return Map.of();
         }
         Map<String, Long> result = new HashMap<>();
+        int changedCount = 0;
         for (Permission permission : permissions) {
             Long id = persistencePort.persist(permission);
+            if (!permission.isNew()) {
+                permissionEndpointSpecCommandPort.markPermissionChanged(id);
+                changedCount++;
+            }
             result.put(permission.permissionKeyValue(), id);
         }
+        if (changedCount > 0) {
+            transactionEventRegistry.registerObjectForPublish(
+                    PermissionChangedEvent.of(changedCount));
+        }
         return result;
     }
 }
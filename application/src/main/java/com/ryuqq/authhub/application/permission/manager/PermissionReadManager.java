@@ -1,5 +1,7 @@
 package com.ryuqq.authhub.application.permission.manager;
 
+import com.ryuqq.authhub.application.permission.dto.response.PermissionDictionaryEntryResult;
+import com.ryuqq.authhub.application.permission.port.out.query.PermissionDictionaryQueryPort;
 import com.ryuqq.authhub.application.permission.port.out.query.PermissionQueryPort;
 import com.ryuqq.authhub.domain.permission.aggregate.Permission;
 import com.ryuqq.authhub.domain.permission.exception.PermissionNotFoundException;
@@ -35,9 +37,12 @@ import org.springframework.transaction.annotation.Transactional;
 public class PermissionReadManager {
 
     private final PermissionQueryPort queryPort;
+    private final PermissionDictionaryQueryPort dictionaryQueryPort;
 
-    public PermissionReadManager(PermissionQueryPort queryPort) {
+    public PermissionReadManager(
+            PermissionQueryPort queryPort, PermissionDictionaryQueryPort dictionaryQueryPort) {
         this.queryPort = queryPort;
+        this.dictionaryQueryPort = dictionaryQueryPort;
     }
 
     /**
@@ -140,4 +145,14 @@ public class PermissionReadManager {
         }
         return queryPort.findAllByPermissionKeys(permissionKeys);
     }
+
+    /**
+     * 권한 사전 적재용 전체 (권한 ID, 권한 키) 조회
+     *
+     * @return 삭제되지 않은 권한의 (ID, 키) 목록
+     */
+    @Transactional(readOnly = true)
+    public List<PermissionDictionaryEntryResult> findAllDictionaryEntries() {
+        return dictionaryQueryPort.findAllActiveEntries();
+    }
 }
@@ -0,0 +1,65 @@
+package com.ryuqq.authhub.application.permission.manager;
+
+import com.ryuqq.authhub.application.permission.dto.composite.PermissionSet;
+import com.ryuqq.authhub.application.permission.port.out.command.PermissionSetCommandPort;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * PermissionSetCommandManager - 권한 집합 저장소 Command 관리자
+ *
+ * <p>권한 집합 저장소(RDB) 저장을 담당하는 Manager
+ *
+ * <p>저장은 단일 INSERT 문이므로 트랜잭션 없이 수행합니다. 저장 실패가 토큰 발급 트랜잭션을 롤백시키지 않고, 호출 측이 다른 권한 Claim
+ * 형식으로 대체할 수 있도록 결과만 반환합니다.
+ *
+ * <p>저장된 권한 집합은 바뀌거나 삭제되지 않으므로, 이 인스턴스가 저장에 성공한 해시는 기억해 두고 다시 저장하지 않습니다. 같은 권한을
+ * 가진 사용자의 반복 발급이 매번 DB 쓰기를 만들지 않습니다. 기억하는 해시 수가 {@link #MAX_STORED_HASHES}에 이르면 비우고 다시
+ * 채웁니다 (잊힌 해시는 한 번 더 저장을 시도할 뿐 결과는 같음).
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class PermissionSetCommandManager {
+
+    /** 저장을 확인한 해시를 기억하는 최대 개수 */
+    static final int MAX_STORED_HASHES = 10_000;
+
+    private final PermissionSetCommandPort permissionSetCommandPort;
+    private final Set<String> storedHashes = ConcurrentHashMap.newKeySet();
+
+    public PermissionSetCommandManager(PermissionSetCommandPort permissionSetCommandPort) {
+        this.permissionSetCommandPort = permissionSetCommandPort;
+    }
+
+    /**
+     * 권한 집합 저장
+     *
+     * <p>권한이 없는 집합은 해시(빈 문자열)만으로 해석되므로 저장하지 않습니다. 이미 저장을 확인한 해시도 저장하지 않습니다.
+     *
+     * @param permissionSet 권한 집합
+     * @return 저장 성공 여부
+     */
+    public boolean save(PermissionSet permissionSet) {
+        if (permissionSet.isEmpty()) {
+            return true;
+        }
+        if (storedHashes.contains(permissionSet.hash())) {
+            return true;
+        }
+        boolean saved = permissionSetCommandPort.save(permissionSet);
+        if (saved) {
+            rememberStored(permissionSet.hash());
+        }
+        return saved;
+    }
+
+    private void rememberStored(String hash) {
+        if (storedHashes.size() >= MAX_STORED_HASHES) {
+            storedHashes.clear();
+        }
+        storedHashes.add(hash);
+    }
+}
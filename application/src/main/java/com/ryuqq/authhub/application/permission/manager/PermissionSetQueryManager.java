@@ -0,0 +1,41 @@
+package com.ryuqq.authhub.application.permission.manager;
+
+import com.ryuqq.authhub.application.permission.dto.composite.PermissionSet;
+import com.ryuqq.authhub.application.permission.port.out.query.PermissionSetQueryPort;
+import com.ryuqq.authhub.domain.permission.exception.PermissionSetNotFoundException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * PermissionSetQueryManager - 권한 집합 저장소 Query 관리자
+ *
+ * <p>권한 집합 저장소(RDB) 조회를 담당하는 Manager
+ *
+ * <p>{@code @Transactional(readOnly = true)} 메서드 단위
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class PermissionSetQueryManager {
+
+    private final PermissionSetQueryPort permissionSetQueryPort;
+
+    public PermissionSetQueryManager(PermissionSetQueryPort permissionSetQueryPort) {
+        this.permissionSetQueryPort = permissionSetQueryPort;
+    }
+
+    /**
+     * 권한 해시로 권한 집합 조회 (존재하지 않으면 예외)
+     *
+     * @param hash 권한 해시
+     * @return 권한 집합
+     * @throws PermissionSetNotFoundException 권한 집합이 없는 경우
+     */
+    @Transactional(readOnly = true)
+    public PermissionSet getByHash(String hash) {
+        return permissionSetQueryPort
+                .findByHash(hash)
+                .orElseThrow(() -> new PermissionSetNotFoundException(hash));
+    }
+}
@@ -0,0 +1,40 @@
+package com.ryuqq.authhub.application.permission.port.in.query;
+
+import com.ryuqq.authhub.application.permission.dto.composite.PermissionDictionary;
+
+/**
+ * GetPermissionDictionaryUseCase - 권한 사전 조회 UseCase
+ *
+ * <p>Access Token의 압축 권한 Claim(perm_bits)과 Gateway 권한 비트맵 헤더를 해석하기 위한 권한 ID(비트 인덱스) ↔ 권한 키 사전을
+ * 조회합니다.
+ *
+ * <p><strong>사용 시나리오:</strong>
+ *
+ * <ul>
+ *   <li>Gateway/SDK가 Internal API로 사전을 받아 버전별로 캐싱
+ *   <li>Gateway 헤더 인증 필터가 권한 비트맵 헤더를 권한 키로 복원
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface GetPermissionDictionaryUseCase {
+
+    /**
+     * 현재 권한 사전 조회
+     *
+     * @return 권한 사전
+     */
+    PermissionDictionary execute();
+
+    /**
+     * 지정한 버전의 권한 사전 조회
+     *
+     * <p>보유 사전의 버전이 다르면 (다른 인스턴스에서 권한이 변경된 경우 등) 재적재합니다. 재적재는 간격이 제한되고 요청한 버전이
+     * 이미 지난 버전일 수도 있지만, 비트 위치는 권한 ID로 고정이므로 반환된 사전으로 비트맵을 복원할 수 있습니다.
+     *
+     * @param version 필요한 사전 버전 (토큰의 perm_dict)
+     * @return 현재 권한 사전 (버전이 다를 수 있음)
+     */
+    PermissionDictionary execute(String version);
+}
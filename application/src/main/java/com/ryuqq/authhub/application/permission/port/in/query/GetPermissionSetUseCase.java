@@ -0,0 +1,23 @@
+package com.ryuqq.authhub.application.permission.port.in.query;
+
+import com.ryuqq.authhub.application.permission.dto.composite.PermissionSet;
+
+/**
+ * GetPermissionSetUseCase - 권한 해시로 권한 집합 조회 UseCase
+ *
+ * <p>Thin Token(권한 목록 없이 permission_hash만 담은 Access Token)을 받은 Gateway/SDK가 해시를 권한 키로 복원할 때
+ * 사용합니다. 해시의 내용은 바뀌지 않으므로 호출자는 결과를 무기한 캐싱할 수 있습니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface GetPermissionSetUseCase {
+
+    /**
+     * 권한 집합 조회
+     *
+     * @param permissionHash 권한 해시 (permission_hash Claim)
+     * @return 권한 집합
+     */
+    PermissionSet execute(String permissionHash);
+}
@@ -0,0 +1,22 @@
+package com.ryuqq.authhub.application.permission.port.out.command;
+
+import com.ryuqq.authhub.application.permission.dto.composite.PermissionSet;
+
+/**
+ * PermissionSetCommandPort - 권한 집합 저장소 Command 포트
+ *
+ * <p>권한 해시 → 권한 집합을 만료 없이 저장합니다. 해시가 내용으로 결정되므로 이미 저장된 해시는 다시 쓰지 않습니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface PermissionSetCommandPort {
+
+    /**
+     * 권한 집합 저장 (이미 있으면 무시)
+     *
+     * @param permissionSet 권한 집합
+     * @return 저장 성공 여부 (이미 저장된 경우 true, 저장소 장애 시 false)
+     */
+    boolean save(PermissionSet permissionSet);
+}
@@ -0,0 +1,30 @@
+package com.ryuqq.authhub.application.permission.port.out.query;
+
+import com.ryuqq.authhub.application.permission.dto.response.PermissionDictionaryEntryResult;
+import java.util.List;
+
+/**
+ * PermissionDictionaryQueryPort - 권한 사전 적재용 조회 포트
+ *
+ * <p>Access Token의 압축 권한 Claim(비트맵)에 사용하는 비트 인덱스 ↔ 권한 키 사전을 구성하기 위해 전체 권한의 (ID, 권한
+ * 키) 목록을 제공합니다.
+ *
+ * <p><strong>Zero-Tolerance 규칙:</strong>
+ *
+ * <ul>
+ *   <li>조회 메서드만 제공
+ *   <li>Application DTO 반환 (Projection 조회이므로 예외적으로 DTO 반환 허용)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface PermissionDictionaryQueryPort {
+
+    /**
+     * 삭제되지 않은 모든 권한의 (ID, 권한 키) 조회
+     *
+     * @return (권한 ID, 권한 키) 목록
+     */
+    List<PermissionDictionaryEntryResult> findAllActiveEntries();
+}
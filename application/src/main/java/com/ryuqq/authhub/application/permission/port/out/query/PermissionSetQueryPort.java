@@ -0,0 +1,21 @@
+package com.ryuqq.authhub.application.permission.port.out.query;
+
+import com.ryuqq.authhub.application.permission.dto.composite.PermissionSet;
+import java.util.Optional;
+
+/**
+ * PermissionSetQueryPort - 권한 집합 저장소 Query 포트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface PermissionSetQueryPort {
+
+    /**
+     * 권한 해시로 권한 집합 조회
+     *
+     * @param hash 권한 해시
+     * @return 권한 집합 (없으면 empty)
+     */
+    Optional<PermissionSet> findByHash(String hash);
+}
@@ -0,0 +1,40 @@
+package com.ryuqq.authhub.application.permission.service.query;
+
+import com.ryuqq.authhub.application.permission.dto.composite.PermissionDictionary;
+import com.ryuqq.authhub.application.permission.internal.PermissionDictionaryHolder;
+import com.ryuqq.authhub.application.permission.port.in.query.GetPermissionDictionaryUseCase;
+import org.springframework.stereotype.Service;
+
+/**
+ * GetPermissionDictionaryService - 권한 사전 조회 Service
+ *
+ * <p>GetPermissionDictionaryUseCase를 구현합니다.
+ *
+ * <p>SVC-001: @Service 어노테이션 필수.
+ *
+ * <p>SVC-002: UseCase(Port-In) 인터페이스 구현 필수.
+ *
+ * <p>SVC-006: @Transactional 금지 → Manager에서 처리.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Service
+public class GetPermissionDictionaryService implements GetPermissionDictionaryUseCase {
+
+    private final PermissionDictionaryHolder dictionaryHolder;
+
+    public GetPermissionDictionaryService(PermissionDictionaryHolder dictionaryHolder) {
+        this.dictionaryHolder = dictionaryHolder;
+    }
+
+    @Override
+    public PermissionDictionary execute() {
+        return dictionaryHolder.current();
+    }
+
+    @Override
+    public PermissionDictionary execute(String version) {
+        return dictionaryHolder.current(version);
+    }
+}
@@ -0,0 +1,35 @@
+package com.ryuqq.authhub.application.permission.service.query;
+
+import com.ryuqq.authhub.application.permission.dto.composite.PermissionSet;
+import com.ryuqq.authhub.application.permission.manager.PermissionSetQueryManager;
+import com.ryuqq.authhub.application.permission.port.in.query.GetPermissionSetUseCase;
+import org.springframework.stereotype.Service;
+
+/**
+ * GetPermissionSetService - 권한 집합 조회 Service
+ *
+ * <p>GetPermissionSetUseCase를 구현합니다.
+ *
+ * <p>SVC-001: @Service 어노테이션 필수.
+ *
+ * <p>SVC-002: UseCase(Port-In) 인터페이스 구현 필수.
+ *
+ * <p>SVC-006: @Transactional 금지 → Manager에서 처리.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Service
+public class GetPermissionSetService implements GetPermissionSetUseCase {
+
+    private final PermissionSetQueryManager permissionSetQueryManager;
+
+    public GetPermissionSetService(PermissionSetQueryManager permissionSetQueryManager) {
+        this.permissionSetQueryManager = permissionSetQueryManager;
+    }
+
+    @Override
+    public PermissionSet execute(String permissionHash) {
+        return permissionSetQueryManager.getByHash(permissionHash);
+    }
+}
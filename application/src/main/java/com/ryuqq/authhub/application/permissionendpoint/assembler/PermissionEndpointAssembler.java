@@ -1,11 +1,13 @@
 package com.ryuqq.authhub.application.permissionendpoint.assembler;
 
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecChangeResult;
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecDeltaResult;
 import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecListResult;
 import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecResult;
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecVersionResult;
 import com.ryuqq.authhub.application.permissionendpoint.dto.response.PermissionEndpointPageResult;
 import com.ryuqq.authhub.application.permissionendpoint.dto.response.PermissionEndpointResult;
 import com.ryuqq.authhub.domain.permissionendpoint.aggregate.PermissionEndpoint;
-import java.time.Instant;
 import java.util.List;
 import org.springframework.stereotype.Component;
 
@@ -85,11 +87,29 @@ public class PermissionEndpointAssembler {
      * <p>Gateway용 엔드포인트-권한 스펙 목록을 변환합니다.
      *
      * @param specs EndpointPermissionSpecResult 목록
-     * @param latestUpdatedAt 가장 최근 수정 시간
+     * @param specVersion 스펙 버전 (가장 최근 수정 시간 + 활성 스펙 수)
      * @return EndpointPermissionSpecListResult
      */
     public EndpointPermissionSpecListResult toSpecListResult(
-            List<EndpointPermissionSpecResult> specs, Instant latestUpdatedAt) {
-        return EndpointPermissionSpecListResult.of(specs, latestUpdatedAt);
+            List<EndpointPermissionSpecResult> specs,
+            EndpointPermissionSpecVersionResult specVersion) {
+        return EndpointPermissionSpecListResult.of(specs, specVersion);
+    }
+
+    /**
+     * 변경 목록 → EndpointPermissionSpecDeltaResult 변환
+     *
+     * <p>Gateway용 엔드포인트-권한 스펙 변경분을 추가/변경 목록과 제외 ID 목록으로 분리합니다.
+     *
+     * @param sinceVersion 요청한 기준 스펙 버전
+     * @param specVersion 현재 스펙 버전
+     * @param changes 기준 버전 이후 변경 목록
+     * @return EndpointPermissionSpecDeltaResult
+     */
+    public EndpointPermissionSpecDeltaResult toSpecDeltaResult(
+            String sinceVersion,
+            EndpointPermissionSpecVersionResult specVersion,
+            List<EndpointPermissionSpecChangeResult> changes) {
+        return EndpointPermissionSpecDeltaResult.of(sinceVersion, specVersion, changes);
     }
 }
@@ -0,0 +1,26 @@
+package com.ryuqq.authhub.application.permissionendpoint.dto.event;
+
+/**
+ * EndpointPermissionSpecChangedEvent - 엔드포인트-권한 스펙 변경 이벤트
+ *
+ * <p>PermissionEndpoint 변경이 커밋된 후 발행됩니다. {@code TransactionEventRegistry}를 통해 커밋 후에만 발행되며 롤백 시에는
+ * 발행되지 않습니다.
+ *
+ * <p>Gateway용 스펙 스냅샷 무효화 등 스펙 파생 데이터 갱신에 사용합니다.
+ *
+ * @param changedCount 변경된 엔드포인트 수
+ * @author development-team
+ * @since 1.0.0
+ */
+public record EndpointPermissionSpecChangedEvent(int changedCount) {
+
+    /**
+     * 이벤트 생성
+     *
+     * @param changedCount 변경된 엔드포인트 수
+     * @return EndpointPermissionSpecChangedEvent
+     */
+    public static EndpointPermissionSpecChangedEvent of(int changedCount) {
+        return new EndpointPermissionSpecChangedEvent(changedCount);
+    }
+}
@@ -0,0 +1,68 @@
+package com.ryuqq.authhub.application.permissionendpoint.dto.response;
+
+import java.time.Instant;
+
+/**
+ * EndpointPermissionSpecChangeResult - 기준 버전 이후 변경된 엔드포인트-권한 스펙 DTO
+ *
+ * <p>변경분(delta) 조회에서 사용합니다. 삭제된 엔드포인트와 삭제된 권한에 연결된 엔드포인트도 포함하며, 이 경우 {@code removed}가
+ * true입니다.
+ *
+ * <p>RDTO-001: Response DTO는 Record로 정의.
+ *
+ * <p>RDTO-008: Response DTO는 Domain 타입 의존 금지.
+ *
+ * @param spec 변경된 엔드포인트-권한 스펙 (removed이면 삭제 직전 값)
+ * @param removed 스펙에서 제외 여부 (엔드포인트 또는 권한 삭제)
+ * @author development-team
+ * @since 1.0.0
+ */
+public record EndpointPermissionSpecChangeResult(
+        EndpointPermissionSpecResult spec, boolean removed) {
+
+    /**
+     * QueryDSL Projection용 생성자 - 삭제 시간으로 제외 여부 판단
+     *
+     * <p>QueryDSL Projections.constructor에서 사용됩니다.
+     *
+     * @param endpointId 엔드포인트 ID
+     * @param serviceName 서비스 이름
+     * @param pathPattern URL 패턴
+     * @param httpMethod HTTP 메서드
+     * @param permissionKey 권한 키 (단일)
+     * @param isPublic 공개 여부
+     * @param description 설명
+     * @param endpointDeletedAt 엔드포인트 삭제 시간 (활성이면 null)
+     * @param permissionDeletedAt 권한 삭제 시간 (활성이면 null)
+     */
+    public EndpointPermissionSpecChangeResult(
+            Long endpointId,
+            String serviceName,
+            String pathPattern,
+            String httpMethod,
+            String permissionKey,
+            boolean isPublic,
+            String description,
+            Instant endpointDeletedAt,
+            Instant permissionDeletedAt) {
+        this(
+                new EndpointPermissionSpecResult(
+                        endpointId,
+                        serviceName,
+                        pathPattern,
+                        httpMethod,
+                        permissionKey,
+                        isPublic,
+                        description),
+                endpointDeletedAt != null || permissionDeletedAt != null);
+    }
+
+    /**
+     * 엔드포인트 ID
+     *
+     * @return 엔드포인트 ID
+     */
+    public Long endpointId() {
+        return spec.endpointId();
+    }
+}
@@ -0,0 +1,103 @@
+package com.ryuqq.authhub.application.permissionendpoint.dto.response;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * EndpointPermissionSpecDeltaResult - Gateway용 엔드포인트-권한 스펙 변경분 DTO
+ *
+ * <p>Gateway가 보유한 스펙 버전({@code sinceVersion}) 이후의 변경분만 전달합니다. Gateway는 {@code endpoints}를
+ * endpointId 기준으로 추가/교체하고 {@code removedEndpointIds}를 제거한 뒤 {@code version}을 보관합니다.
+ *
+ * <p>{@code fullSync}가 true이면 기준 버전을 해석할 수 없거나 현재 버전보다 앞서 있어 전체 활성 스펙을 반환한 것이므로,
+ * Gateway는 보유 스펙을 {@code endpoints}로 교체해야 합니다.
+ *
+ * <p>RDTO-001: Response DTO는 Record로 정의.
+ *
+ * @param sinceVersion 요청한 기준 스펙 버전
+ * @param version 현재 스펙 버전 (다음 요청의 기준 버전)
+ * @param updatedAt 현재 스펙의 마지막 변경 시간
+ * @param fullSync 전체 스펙 반환 여부
+ * @param endpoints 추가/변경된 엔드포인트-권한 스펙 목록
+ * @param removedEndpointIds 스펙에서 제외된 엔드포인트 ID 목록
+ * @author development-team
+ * @since 1.0.0
+ */
+public record EndpointPermissionSpecDeltaResult(
+        String sinceVersion,
+        String version,
+        Instant updatedAt,
+        boolean fullSync,
+        List<EndpointPermissionSpecResult> endpoints,
+        List<Long> removedEndpointIds) {
+
+    /**
+     * 변경 없음 결과 생성
+     *
+     * @param sinceVersion 요청한 기준 스펙 버전
+     * @param specVersion 현재 스펙 버전
+     * @return 빈 변경분
+     */
+    public static EndpointPermissionSpecDeltaResult unchanged(
+            String sinceVersion, EndpointPermissionSpecVersionResult specVersion) {
+        return new EndpointPermissionSpecDeltaResult(
+                sinceVersion,
+                specVersion.version(),
+                specVersion.latestUpdatedAt(),
+                false,
+                List.of(),
+                List.of());
+    }
+
+    /**
+     * 전체 스펙 결과 생성
+     *
+     * @param sinceVersion 요청한 기준 스펙 버전
+     * @param specVersion 현재 스펙 버전
+     * @param endpoints 전체 활성 엔드포인트-권한 스펙 목록
+     * @return 전체 스펙을 담은 변경분
+     */
+    public static EndpointPermissionSpecDeltaResult fullSync(
+            String sinceVersion,
+            EndpointPermissionSpecVersionResult specVersion,
+            List<EndpointPermissionSpecResult> endpoints) {
+        return new EndpointPermissionSpecDeltaResult(
+                sinceVersion,
+                specVersion.version(),
+                specVersion.latestUpdatedAt(),
+                true,
+                endpoints,
+                List.of());
+    }
+
+    /**
+     * 변경 목록으로부터 결과 생성
+     *
+     * @param sinceVersion 요청한 기준 스펙 버전
+     * @param specVersion 현재 스펙 버전
+     * @param changes 기준 버전 이후 변경 목록
+     * @return 변경분
+     */
+    public static EndpointPermissionSpecDeltaResult of(
+            String sinceVersion,
+            EndpointPermissionSpecVersionResult specVersion,
+            List<EndpointPermissionSpecChangeResult> changes) {
+        List<EndpointPermissionSpecResult> endpoints = new ArrayList<>();
+        List<Long> removedEndpointIds = new ArrayList<>();
+        for (EndpointPermissionSpecChangeResult change : changes) {
+            if (change.removed()) {
+                removedEndpointIds.add(change.endpointId());
+            } else {
+                endpoints.add(change.spec());
+            }
+        }
+        return new EndpointPermissionSpecDeltaResult(
+                sinceVersion,
+                specVersion.version(),
+                specVersion.latestUpdatedAt(),
+                false,
+                List.copyOf(endpoints),
+                List.copyOf(removedEndpointIds));
+    }
+}
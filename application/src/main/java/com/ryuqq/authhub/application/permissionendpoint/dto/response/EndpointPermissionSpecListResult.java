@@ -11,7 +11,7 @@ import java.util.List;
  * <p>RDTO-001: Response DTO는 Record로 정의.
  *
  * @param version 스펙 버전 (ETag용)
- * @param updatedAt 마지막 수정 시간 (ISO 8601)
+ * @param updatedAt 마지막 변경 시간 (ISO 8601)
  * @param endpoints 엔드포인트-권한 매핑 목록
  * @author development-team
  * @since 1.0.0
@@ -29,16 +29,16 @@ public record EndpointPermissionSpecListResult(
     }
 
     /**
-     * 목록으로부터 결과 생성
+     * 목록과 스펙 버전으로부터 결과 생성
      *
      * @param endpoints 엔드포인트 목록
-     * @param latestUpdatedAt 가장 최근 수정 시간
+     * @param specVersion 스펙 버전 (단조 증가 번호 + 마지막 변경 시각)
      * @return EndpointPermissionSpecListResult
      */
     public static EndpointPermissionSpecListResult of(
-            List<EndpointPermissionSpecResult> endpoints, Instant latestUpdatedAt) {
-        String version =
-                String.valueOf(latestUpdatedAt != null ? latestUpdatedAt.toEpochMilli() : 0);
-        return new EndpointPermissionSpecListResult(version, latestUpdatedAt, endpoints);
+            List<EndpointPermissionSpecResult> endpoints,
+            EndpointPermissionSpecVersionResult specVersion) {
+        return new EndpointPermissionSpecListResult(
+                specVersion.version(), specVersion.latestUpdatedAt(), endpoints);
     }
 }
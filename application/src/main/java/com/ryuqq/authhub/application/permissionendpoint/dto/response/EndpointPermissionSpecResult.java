@@ -11,6 +11,7 @@ import java.util.List;
  *
  * <p>RDTO-008: Response DTO는 Domain 타입 의존 금지.
  *
+ * @param endpointId 엔드포인트 ID (변경분 조회 시 식별자)
  * @param serviceName 서비스 이름 (예: "product-service")
  * @param pathPattern URL 패턴 (예: "/api/v1/users/{id}")
  * @param httpMethod HTTP 메서드 (예: "GET", "POST")
@@ -22,6 +23,7 @@ import java.util.List;
  * @since 1.0.0
  */
 public record EndpointPermissionSpecResult(
+        Long endpointId,
         String serviceName,
         String pathPattern,
         String httpMethod,
@@ -35,6 +37,7 @@ public record EndpointPermissionSpecResult(
      *
      * <p>QueryDSL Projections.constructor에서 사용됩니다.
      *
+     * @param endpointId 엔드포인트 ID
      * @param serviceName 서비스 이름
      * @param pathPattern URL 패턴
      * @param httpMethod HTTP 메서드
@@ -43,6 +46,7 @@ public record EndpointPermissionSpecResult(
      * @param description 설명
      */
     public EndpointPermissionSpecResult(
+            Long endpointId,
             String serviceName,
             String pathPattern,
             String httpMethod,
@@ -50,6 +54,7 @@ public record EndpointPermissionSpecResult(
             boolean isPublic,
             String description) {
         this(
+                endpointId,
                 serviceName,
                 pathPattern,
                 httpMethod,
@@ -0,0 +1,78 @@
+package com.ryuqq.authhub.application.permissionendpoint.dto.response;
+
+import java.time.Instant;
+import java.util.OptionalLong;
+
+/**
+ * EndpointPermissionSpecVersionResult - Gateway용 엔드포인트-권한 스펙 버전 DTO
+ *
+ * <p>전체 스펙을 조회하지 않고 변경 여부만 판단하기 위한 경량 조회 결과입니다. 스펙을 바꾸는 트랜잭션마다 하나씩 증가하는 번호를
+ * 버전(ETag)으로 사용합니다.
+ *
+ * <p>번호는 쓰기 트랜잭션이 커밋 순서대로 받으므로, 어떤 번호를 읽은 시점에는 그 이하 번호의 변경이 모두 커밋되어 있습니다. 따라서
+ * 번호가 같으면 변경이 없고, 번호 구간으로 변경분을 누락 없이 조회할 수 있습니다.
+ *
+ * <p>RDTO-001: Response DTO는 Record로 정의.
+ *
+ * @param sequence 스펙 버전 번호 (스펙 변경 이력이 없으면 0)
+ * @param latestUpdatedAt 마지막 스펙 변경 시간 (없으면 null)
+ * @author development-team
+ * @since 1.0.0
+ */
+public record EndpointPermissionSpecVersionResult(long sequence, Instant latestUpdatedAt) {
+
+    private static final EndpointPermissionSpecVersionResult EMPTY =
+            new EndpointPermissionSpecVersionResult(0L, null);
+
+    /**
+     * 버전 번호와 변경 시간으로 결과 생성
+     *
+     * @param sequence 스펙 버전 번호
+     * @param latestUpdatedAt 마지막 스펙 변경 시간 (없으면 null)
+     * @return EndpointPermissionSpecVersionResult
+     */
+    public static EndpointPermissionSpecVersionResult of(long sequence, Instant latestUpdatedAt) {
+        return new EndpointPermissionSpecVersionResult(sequence, latestUpdatedAt);
+    }
+
+    /**
+     * 스펙 변경 이력이 없는 결과
+     *
+     * @return 버전 0
+     */
+    public static EndpointPermissionSpecVersionResult empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 스펙 버전 문자열
+     *
+     * <p>형식: 10진수 버전 번호. 스펙 변경 이력이 없으면 {@code "0"}.
+     *
+     * @return 스펙 버전 (ETag용)
+     */
+    public String version() {
+        return Long.toString(sequence);
+    }
+
+    /**
+     * 스펙 버전 문자열에서 버전 번호 추출
+     *
+     * <p>변경분 조회의 기준으로 사용합니다. {@code "0"}이거나 형식이 올바르지 않으면(이전 {@code {epochMillis}-{count}}
+     * 형식 포함) 기준이 없는 것으로 간주합니다.
+     *
+     * @param version 스펙 버전
+     * @return 버전 번호 (해석할 수 없으면 empty)
+     */
+    public static OptionalLong parseSequence(String version) {
+        if (version == null || version.isBlank()) {
+            return OptionalLong.empty();
+        }
+        try {
+            long sequence = Long.parseLong(version);
+            return sequence > 0 ? OptionalLong.of(sequence) : OptionalLong.empty();
+        } catch (NumberFormatException e) {
+            return OptionalLong.empty();
+        }
+    }
+}
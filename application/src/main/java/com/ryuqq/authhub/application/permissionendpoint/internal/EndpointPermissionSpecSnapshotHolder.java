@@ -0,0 +1,48 @@
+package com.ryuqq.authhub.application.permissionendpoint.internal;
+
+import com.ryuqq.authhub.application.common.component.VersionedSnapshotHolder;
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecListResult;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * EndpointPermissionSpecSnapshotHolder - Gateway용 엔드포인트-권한 스펙 인메모리 스냅샷
+ *
+ * <p>불변 {@link EndpointPermissionSpecListResult}를 프로세스 내에 보관하여 스펙이 변경되지 않은 동안 전체 조인 조회를 생략합니다.
+ *
+ * <p><strong>갱신 정책:</strong>
+ *
+ * <ul>
+ *   <li>요청된 버전(DB 집계 결과)과 스냅샷 버전이 같으면 스냅샷 재사용 - 다중 인스턴스 환경에서도 다른 인스턴스의 변경을 감지
+ *   <li>로컬 변경 커밋 시 {@link #invalidate()}로 즉시 폐기
+ *   <li>재구성은 단일 스레드만 수행 (single-flight), 대기하던 요청은 재구성된 스냅샷을 재사용
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class EndpointPermissionSpecSnapshotHolder {
+
+    private final VersionedSnapshotHolder<EndpointPermissionSpecListResult, String> holder =
+            new VersionedSnapshotHolder<>(EndpointPermissionSpecListResult::version);
+
+    /**
+     * 버전에 해당하는 스냅샷 조회 (없으면 로드)
+     *
+     * <p>로드 중 {@link #invalidate()}가 호출되면 로드 결과는 반환하되 스냅샷으로 보관하지 않습니다.
+     *
+     * @param version 현재 스펙 버전
+     * @param loader 스냅샷이 없거나 버전이 다를 때 호출되는 로더
+     * @return 버전에 해당하는 스펙 목록
+     */
+    public EndpointPermissionSpecListResult getOrLoad(
+            String version, Supplier<EndpointPermissionSpecListResult> loader) {
+        return holder.getOrLoad(version, loader);
+    }
+
+    /** 스냅샷 폐기 (다음 조회 시 재구성) */
+    public void invalidate() {
+        holder.invalidate();
+    }
+}
@@ -0,0 +1,43 @@
+package com.ryuqq.authhub.application.permissionendpoint.listener;
+
+import com.ryuqq.authhub.application.permissionendpoint.dto.event.EndpointPermissionSpecChangedEvent;
+import com.ryuqq.authhub.application.permissionendpoint.internal.EndpointPermissionSpecSnapshotHolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * EndpointPermissionSpecChangedEventListener - 스펙 변경 이벤트 리스너
+ *
+ * <p>PermissionEndpoint 변경 커밋 후 Gateway용 스펙 스냅샷을 폐기합니다. 재구성은 다음 스펙 조회 시 한 번만 수행됩니다.
+ *
+ * <p>커밋 후 콜백에서 호출되므로 DB 조회를 수행하지 않습니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class EndpointPermissionSpecChangedEventListener {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(EndpointPermissionSpecChangedEventListener.class);
+
+    private final EndpointPermissionSpecSnapshotHolder snapshotHolder;
+
+    public EndpointPermissionSpecChangedEventListener(
+            EndpointPermissionSpecSnapshotHolder snapshotHolder) {
+        this.snapshotHolder = snapshotHolder;
+    }
+
+    /**
+     * 스펙 변경 이벤트 처리
+     *
+     * @param event 스펙 변경 이벤트
+     */
+    @EventListener
+    public void handle(EndpointPermissionSpecChangedEvent event) {
+        log.debug("엔드포인트-권한 스펙 변경, 스냅샷 폐기: changedCount={}", event.changedCount());
+        snapshotHolder.invalidate();
+    }
+}
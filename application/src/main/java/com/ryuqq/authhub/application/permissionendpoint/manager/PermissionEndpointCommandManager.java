@@ -1,7 +1,11 @@
 package com.ryuqq.authhub.application.permissionendpoint.manager;
 
+import com.ryuqq.authhub.application.common.component.TransactionEventRegistry;
+import com.ryuqq.authhub.application.permissionendpoint.dto.event.EndpointPermissionSpecChangedEvent;
 import com.ryuqq.authhub.application.permissionendpoint.port.out.command.PermissionEndpointCommandPort;
+import com.ryuqq.authhub.application.permissionendpoint.port.out.command.PermissionEndpointSpecCommandPort;
 import com.ryuqq.authhub.domain.permissionendpoint.aggregate.PermissionEndpoint;
+import java.util.ArrayList;
 import java.util.List;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -11,11 +15,16 @@ import org.springframework.transaction.annotation.Transactional;
  *
  * <p>PermissionEndpoint 저장과 관련된 비즈니스 로직을 담당합니다.
  *
+ * <p>영속화 시 같은 트랜잭션에서 Gateway용 스펙 버전을 올려 변경된 엔드포인트에 기록하고, {@link
+ * EndpointPermissionSpecChangedEvent}를 커밋 후 발행하도록 등록합니다. 생성/수정/삭제/벌크 동기화가 모두 이 Manager를
+ * 거치므로 스펙 버전 기록과 스냅샷 무효화 지점이 한 곳으로 모입니다.
+ *
  * <p><strong>Zero-Tolerance 규칙:</strong>
  *
  * <ul>
  *   <li>{@code @Component} 어노테이션
- *   <li>CommandPort만 의존
+ *   <li>CommandPort만 의존 (커밋 후 이벤트 등록용 TransactionEventRegistry 제외)
+ *   <li>스펙 버전 기록은 영속화 이후 (버전 잠금 보유 시간 최소화)
  *   <li>영속화 로직만 담당
  * </ul>
  *
@@ -26,10 +35,16 @@ import org.springframework.transaction.annotation.Transactional;
 public class PermissionEndpointCommandManager {
 
     private final PermissionEndpointCommandPort permissionEndpointCommandPort;
+    private final PermissionEndpointSpecCommandPort permissionEndpointSpecCommandPort;
+    private final TransactionEventRegistry transactionEventRegistry;
 
     public PermissionEndpointCommandManager(
-            PermissionEndpointCommandPort permissionEndpointCommandPort) {
+            PermissionEndpointCommandPort permissionEndpointCommandPort,
+            PermissionEndpointSpecCommandPort permissionEndpointSpecCommandPort,
+            TransactionEventRegistry transactionEventRegistry) {
         this.permissionEndpointCommandPort = permissionEndpointCommandPort;
+        this.permissionEndpointSpecCommandPort = permissionEndpointSpecCommandPort;
+        this.transactionEventRegistry = transactionEventRegistry;
     }
 
     /**
@@ -40,7 +55,10 @@ public class PermissionEndpointCommandManager {
      */
     @Transactional
     public Long persist(PermissionEndpoint permissionEndpoint) {
-        return permissionEndpointCommandPort.persist(permissionEndpoint);
+        Long id = permissionEndpointCommandPort.persist(permissionEndpoint);
+        permissionEndpointSpecCommandPort.markChanged(List.of(id));
+        transactionEventRegistry.registerObjectForPublish(EndpointPermissionSpecChangedEvent.of(1));
+        return id;
     }
 
     /**
@@ -55,8 +73,12 @@ public class PermissionEndpointCommandManager {
         if (permissionEndpoints == null || permissionEndpoints.isEmpty()) {
             return;
         }
+        List<Long> ids = new ArrayList<>(permissionEndpoints.size());
         for (PermissionEndpoint endpoint : permissionEndpoints) {
-            permissionEndpointCommandPort.persist(endpoint);
+            ids.add(permissionEndpointCommandPort.persist(endpoint));
         }
+        permissionEndpointSpecCommandPort.markChanged(ids);
+        transactionEventRegistry.registerObjectForPublish(
+                EndpointPermissionSpecChangedEvent.of(permissionEndpoints.size()));
     }
 }
@@ -1,6 +1,8 @@
 package com.ryuqq.authhub.application.permissionendpoint.manager;
 
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecChangeResult;
 import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecResult;
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecVersionResult;
 import com.ryuqq.authhub.application.permissionendpoint.port.out.query.PermissionEndpointQueryPort;
 import com.ryuqq.authhub.application.permissionendpoint.port.out.query.PermissionEndpointSpecQueryPort;
 import com.ryuqq.authhub.domain.permissionendpoint.aggregate.PermissionEndpoint;
@@ -143,6 +145,33 @@ public class PermissionEndpointReadManager {
         return specQueryPort.findLatestUpdatedAt();
     }
 
+    /**
+     * 엔드포인트-권한 스펙 버전 조회
+     *
+     * <p>Gateway 조건부 조회(ETag)와 변경분 조회 기준을 위해 전체 스펙 대신 버전 번호만 조회합니다.
+     *
+     * @return 스펙 버전 (단조 증가 번호 + 마지막 변경 시각)
+     */
+    @Transactional(readOnly = true)
+    public EndpointPermissionSpecVersionResult findActiveSpecVersion() {
+        return specQueryPort.findActiveSpecVersion();
+    }
+
+    /**
+     * 스펙 버전 구간에 변경된 엔드포인트-권한 스펙 조회
+     *
+     * <p>Gateway 변경분(delta) 조회를 위해 사용합니다. 삭제된 엔드포인트와 삭제된 권한에 연결된 엔드포인트도 포함합니다.
+     *
+     * @param afterVersion 기준 스펙 버전 (제외)
+     * @param upToVersion 현재 스펙 버전 (포함)
+     * @return 변경된 엔드포인트-권한 스펙 목록
+     */
+    @Transactional(readOnly = true)
+    public List<EndpointPermissionSpecChangeResult> findSpecChangesBetween(
+            long afterVersion, long upToVersion) {
+        return specQueryPort.findSpecChangesBetween(afterVersion, upToVersion);
+    }
+
     /**
      * URL 패턴 목록으로 존재하는 PermissionEndpoint 조회 (IN절)
      *
@@ -0,0 +1,30 @@
+package com.ryuqq.authhub.application.permissionendpoint.port.in.query;
+
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecDeltaResult;
+
+/**
+ * GetEndpointPermissionSpecChangesUseCase - Gateway용 엔드포인트-권한 스펙 변경분 조회 UseCase
+ *
+ * <p>Gateway가 보유한 스펙 버전 이후에 추가/변경/삭제된 엔드포인트만 조회합니다.
+ *
+ * <p><strong>사용 시나리오:</strong>
+ *
+ * <ul>
+ *   <li>전체 스펙을 보유한 Gateway의 주기 갱신
+ *   <li>엔드포인트 동기화 후 소량 변경분만 반영
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface GetEndpointPermissionSpecChangesUseCase {
+
+    /**
+     * 기준 버전 이후 엔드포인트-권한 스펙 변경분 조회
+     *
+     * @param sinceVersion Gateway가 보유한 스펙 버전 ({@link
+     *     GetEndpointPermissionSpecUseCase#getAll(String)}의 version)
+     * @return 스펙 변경분 (기준 버전을 해석할 수 없으면 전체 스펙)
+     */
+    EndpointPermissionSpecDeltaResult getChangesSince(String sinceVersion);
+}
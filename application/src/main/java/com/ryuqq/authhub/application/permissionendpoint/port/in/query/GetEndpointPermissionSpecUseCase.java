@@ -22,9 +22,12 @@ public interface GetEndpointPermissionSpecUseCase {
     /**
      * 모든 활성 엔드포인트-권한 스펙 조회
      *
-     * <p>삭제되지 않은 모든 PermissionEndpoint와 연결된 Permission 정보를 반환합니다.
+     * <p>삭제되지 않은 모든 PermissionEndpoint와 연결된 Permission 정보를 반환합니다. 호출자가 이미 조회한 스펙 버전을
+     * 전달하면, 같은 버전의 스냅샷이 있을 때 버전을 다시 조회하지 않고 스냅샷을 반환합니다.
      *
+     * @param version 호출자가 조회한 현재 스펙 버전 ({@link
+     *     GetEndpointPermissionSpecVersionUseCase#getVersion()})
      * @return 엔드포인트-권한 스펙 목록
      */
-    EndpointPermissionSpecListResult getAll();
+    EndpointPermissionSpecListResult getAll(String version);
 }
@@ -0,0 +1,28 @@
+package com.ryuqq.authhub.application.permissionendpoint.port.in.query;
+
+/**
+ * GetEndpointPermissionSpecVersionUseCase - Gateway용 엔드포인트-권한 스펙 버전 조회 UseCase
+ *
+ * <p>전체 스펙을 조회하지 않고 현재 스펙 버전만 조회합니다.
+ *
+ * <p><strong>사용 시나리오:</strong>
+ *
+ * <ul>
+ *   <li>Gateway 주기 조회 시 조건부 요청(If-None-Match) 판단
+ *   <li>변경이 없으면 전체 스펙 조회 없이 304 Not Modified 응답
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface GetEndpointPermissionSpecVersionUseCase {
+
+    /**
+     * 현재 엔드포인트-권한 스펙 버전 조회
+     *
+     * <p>{@link GetEndpointPermissionSpecUseCase#getAll(String)} 결과의 version과 동일한 형식입니다.
+     *
+     * @return 스펙 버전 (ETag용)
+     */
+    String getVersion();
+}
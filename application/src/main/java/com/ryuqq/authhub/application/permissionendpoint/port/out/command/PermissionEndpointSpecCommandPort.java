@@ -0,0 +1,44 @@
+package com.ryuqq.authhub.application.permissionendpoint.port.out.command;
+
+import java.util.Collection;
+
+/**
+ * PermissionEndpointSpecCommandPort - Gateway용 엔드포인트-권한 스펙 버전 기록 포트 (Command)
+ *
+ * <p>스펙 버전은 단조 증가하는 번호입니다. 스펙을 바꾸는 트랜잭션은 번호를 하나 올리고, 같은 트랜잭션에서 변경된 엔드포인트에 그
+ * 번호를 기록합니다. 번호 증가가 트랜잭션 종료까지 다른 쓰기를 대기시키므로 번호 순서가 커밋 순서와 같고, Gateway는 보유한
+ * 버전보다 큰 번호가 기록된 엔드포인트만 받아 누락 없이 동기화합니다.
+ *
+ * <p><strong>Zero-Tolerance 규칙:</strong>
+ *
+ * <ul>
+ *   <li>엔드포인트/권한 영속화와 같은 트랜잭션에서 호출
+ *   <li>영속화 이후에 호출 (번호 잠금 보유 시간 최소화)
+ *   <li>조회 메서드 금지 (QueryPort로 분리)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface PermissionEndpointSpecCommandPort {
+
+    /**
+     * 엔드포인트 변경 기록
+     *
+     * <p>생성/수정/삭제된 엔드포인트에 새 스펙 버전을 기록합니다.
+     *
+     * @param permissionEndpointIds 변경된 엔드포인트 ID 목록
+     * @return 기록한 스펙 버전
+     */
+    long markChanged(Collection<Long> permissionEndpointIds);
+
+    /**
+     * 권한 변경 기록
+     *
+     * <p>권한 삭제처럼 엔드포인트 행은 그대로인데 스펙이 바뀌는 경우, 권한에 연결된 활성 엔드포인트에 새 스펙 버전을 기록합니다.
+     *
+     * @param permissionId 변경된 권한 ID
+     * @return 기록한 스펙 버전
+     */
+    long markPermissionChanged(Long permissionId);
+}
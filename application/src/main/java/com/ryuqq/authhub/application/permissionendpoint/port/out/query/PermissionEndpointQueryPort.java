@@ -91,7 +91,8 @@ public interface PermissionEndpointQueryPort {
     /**
      * URL 패턴에 매칭되는 모든 엔드포인트 조회 (Gateway용)
      *
-     * <p>URL 패턴 매칭을 통해 요청 URL에 해당하는 엔드포인트를 찾습니다.
+     * <p>URL 패턴 매칭을 통해 요청 URL에 해당하는 엔드포인트를 찾습니다. 여러 패턴이 매칭되면 서비스마다 가장 구체적인
+     * 엔드포인트 하나를 반환합니다.
      *
      * @param requestUrl 요청 URL
      * @param httpMethod HTTP 메서드
@@ -1,6 +1,8 @@
 package com.ryuqq.authhub.application.permissionendpoint.port.out.query;
 
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecChangeResult;
 import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecResult;
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecVersionResult;
 import java.time.Instant;
 import java.util.List;
 
@@ -38,4 +40,27 @@ public interface PermissionEndpointSpecQueryPort {
      * @return 가장 최근 수정 시간 (없으면 null)
      */
     Instant findLatestUpdatedAt();
+
+    /**
+     * 엔드포인트-권한 스펙 버전 조회
+     *
+     * <p>스펙을 바꿀 때마다 증가하는 단조 증가 번호를 조회합니다. Gateway의 조건부 조회(ETag)와 변경분 조회 기준으로 사용하며
+     * 전체 목록을 조회하지 않습니다.
+     *
+     * @return 스펙 버전 (단조 증가 번호 + 마지막 변경 시각)
+     */
+    EndpointPermissionSpecVersionResult findActiveSpecVersion();
+
+    /**
+     * 스펙 버전 구간에 변경된 엔드포인트-권한 스펙 조회
+     *
+     * <p>{@code afterVersion}보다 크고 {@code upToVersion} 이하인 스펙 버전이 기록된 엔드포인트를 반환합니다. 생성/수정/삭제된
+     * 엔드포인트와 삭제된 권한에 연결된 엔드포인트가 모두 포함됩니다.
+     *
+     * @param afterVersion 기준 스펙 버전 (제외)
+     * @param upToVersion 현재 스펙 버전 (포함)
+     * @return 변경된 엔드포인트-권한 스펙 목록 (제외 대상은 removed=true)
+     */
+    List<EndpointPermissionSpecChangeResult> findSpecChangesBetween(
+            long afterVersion, long upToVersion);
 }
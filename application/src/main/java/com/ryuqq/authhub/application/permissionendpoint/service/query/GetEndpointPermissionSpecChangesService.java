@@ -0,0 +1,71 @@
+package com.ryuqq.authhub.application.permissionendpoint.service.query;
+
+import com.ryuqq.authhub.application.permissionendpoint.assembler.PermissionEndpointAssembler;
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecChangeResult;
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecDeltaResult;
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecVersionResult;
+import com.ryuqq.authhub.application.permissionendpoint.manager.PermissionEndpointReadManager;
+import com.ryuqq.authhub.application.permissionendpoint.port.in.query.GetEndpointPermissionSpecChangesUseCase;
+import java.util.List;
+import java.util.OptionalLong;
+import org.springframework.stereotype.Service;
+
+/**
+ * GetEndpointPermissionSpecChangesService - Gateway용 엔드포인트-권한 스펙 변경분 조회 서비스
+ *
+ * <p>기준 버전보다 크고 현재 버전 이하인 스펙 버전이 기록된 엔드포인트를 조회합니다.
+ *
+ * <ul>
+ *   <li>기준 버전이 현재 버전과 같으면 조회 없이 빈 결과를 반환합니다
+ *   <li>기준 버전을 해석할 수 없거나({@code "0"}, 이전 형식 포함) 현재 버전보다 크면 전체 활성 스펙을 fullSync로 반환합니다
+ * </ul>
+ *
+ * <p><strong>누락/중복 없는 구간 조회:</strong> 스펙 버전은 쓰기 트랜잭션이 커밋 순서대로 받는 번호이므로, 현재 버전을 읽은
+ * 시점에는 그 이하 번호의 변경이 모두 커밋되어 있습니다. 따라서 {@code (기준 버전, 현재 버전]} 구간은 늦게 커밋된 변경도 빠짐없이
+ * 포함하고, 응답의 현재 버전을 다음 기준으로 쓰면 같은 변경이 다시 전달되지 않습니다. 엔드포인트 삭제와 권한 삭제도 번호를
+ * 기록하므로 제외 대상이 한 번만 전달됩니다.
+ *
+ * <p><strong>Zero-Tolerance 규칙:</strong>
+ *
+ * <ul>
+ *   <li>{@code @Service} 어노테이션
+ *   <li>{@code @Transactional} 금지 (Manager에서 처리)
+ *   <li>ReadManager → Assembler 흐름
+ *   <li>Port 직접 호출 금지
+ *   <li>Lombok 금지
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Service
+public class GetEndpointPermissionSpecChangesService
+        implements GetEndpointPermissionSpecChangesUseCase {
+
+    private final PermissionEndpointReadManager readManager;
+    private final PermissionEndpointAssembler assembler;
+
+    public GetEndpointPermissionSpecChangesService(
+            PermissionEndpointReadManager readManager, PermissionEndpointAssembler assembler) {
+        this.readManager = readManager;
+        this.assembler = assembler;
+    }
+
+    @Override
+    public EndpointPermissionSpecDeltaResult getChangesSince(String sinceVersion) {
+        EndpointPermissionSpecVersionResult specVersion = readManager.findActiveSpecVersion();
+        if (specVersion.version().equals(sinceVersion)) {
+            return EndpointPermissionSpecDeltaResult.unchanged(sinceVersion, specVersion);
+        }
+
+        OptionalLong since = EndpointPermissionSpecVersionResult.parseSequence(sinceVersion);
+        if (since.isEmpty() || since.getAsLong() > specVersion.sequence()) {
+            return EndpointPermissionSpecDeltaResult.fullSync(
+                    sinceVersion, specVersion, readManager.findAllActiveSpecs());
+        }
+
+        List<EndpointPermissionSpecChangeResult> changes =
+                readManager.findSpecChangesBetween(since.getAsLong(), specVersion.sequence());
+        return assembler.toSpecDeltaResult(sinceVersion, specVersion, changes);
+    }
+}
@@ -3,9 +3,10 @@ package com.ryuqq.authhub.application.permissionendpoint.service.query;
 import com.ryuqq.authhub.application.permissionendpoint.assembler.PermissionEndpointAssembler;
 import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecListResult;
 import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecResult;
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecVersionResult;
+import com.ryuqq.authhub.application.permissionendpoint.internal.EndpointPermissionSpecSnapshotHolder;
 import com.ryuqq.authhub.application.permissionendpoint.manager.PermissionEndpointReadManager;
 import com.ryuqq.authhub.application.permissionendpoint.port.in.query.GetEndpointPermissionSpecUseCase;
-import java.time.Instant;
 import java.util.List;
 import org.springframework.stereotype.Service;
 
@@ -14,6 +15,12 @@ import org.springframework.stereotype.Service;
  *
  * <p>Gateway가 URL 기반 권한 검사를 위해 전체 엔드포인트-권한 매핑 정보를 조회합니다.
  *
+ * <p>호출자가 이미 조회한 버전이 인메모리 스냅샷과 같으면 DB 조회 없이 스냅샷을 반환합니다. 버전이 다르거나 스냅샷이 폐기된
+ * 경우에만 한 번 재구성합니다.
+ *
+ * <p>재구성할 때는 버전을 스펙 목록보다 먼저 다시 조회합니다. 두 조회 사이에 변경이 발생하면 응답 버전이 실제 목록보다 과거 값이
+ * 되어 다음 조회에서 다시 갱신되므로, Gateway가 변경을 놓치지 않습니다.
+ *
  * <p><strong>Zero-Tolerance 규칙:</strong>
  *
  * <ul>
@@ -32,17 +39,25 @@ public class GetEndpointPermissionSpecService implements GetEndpointPermissionSp
 
     private final PermissionEndpointReadManager readManager;
     private final PermissionEndpointAssembler assembler;
+    private final EndpointPermissionSpecSnapshotHolder snapshotHolder;
 
     public GetEndpointPermissionSpecService(
-            PermissionEndpointReadManager readManager, PermissionEndpointAssembler assembler) {
+            PermissionEndpointReadManager readManager,
+            PermissionEndpointAssembler assembler,
+            EndpointPermissionSpecSnapshotHolder snapshotHolder) {
         this.readManager = readManager;
         this.assembler = assembler;
+        this.snapshotHolder = snapshotHolder;
     }
 
     @Override
-    public EndpointPermissionSpecListResult getAll() {
+    public EndpointPermissionSpecListResult getAll(String version) {
+        return snapshotHolder.getOrLoad(version, this::load);
+    }
+
+    private EndpointPermissionSpecListResult load() {
+        EndpointPermissionSpecVersionResult specVersion = readManager.findActiveSpecVersion();
         List<EndpointPermissionSpecResult> specs = readManager.findAllActiveSpecs();
-        Instant latestUpdatedAt = readManager.findLatestUpdatedAt();
-        return assembler.toSpecListResult(specs, latestUpdatedAt);
+        return assembler.toSpecListResult(specs, specVersion);
     }
 }
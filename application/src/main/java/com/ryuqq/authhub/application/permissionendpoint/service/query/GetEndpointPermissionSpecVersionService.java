@@ -0,0 +1,38 @@
+package com.ryuqq.authhub.application.permissionendpoint.service.query;
+
+import com.ryuqq.authhub.application.permissionendpoint.manager.PermissionEndpointReadManager;
+import com.ryuqq.authhub.application.permissionendpoint.port.in.query.GetEndpointPermissionSpecVersionUseCase;
+import org.springframework.stereotype.Service;
+
+/**
+ * GetEndpointPermissionSpecVersionService - Gateway용 엔드포인트-권한 스펙 버전 조회 서비스
+ *
+ * <p>가장 최근 수정 시간과 활성 스펙 수만 집계하여 스펙 버전을 반환합니다. 전체 스펙 조인 조회를 수행하지 않습니다.
+ *
+ * <p><strong>Zero-Tolerance 규칙:</strong>
+ *
+ * <ul>
+ *   <li>{@code @Service} 어노테이션
+ *   <li>{@code @Transactional} 금지 (Manager에서 처리)
+ *   <li>Port 직접 호출 금지
+ *   <li>Lombok 금지
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Service
+public class GetEndpointPermissionSpecVersionService
+        implements GetEndpointPermissionSpecVersionUseCase {
+
+    private final PermissionEndpointReadManager readManager;
+
+    public GetEndpointPermissionSpecVersionService(PermissionEndpointReadManager readManager) {
+        this.readManager = readManager;
+    }
+
+    @Override
+    public String getVersion() {
+        return readManager.findActiveSpecVersion().version();
+    }
+}
@@ -0,0 +1,28 @@
+package com.ryuqq.authhub.application.role.dto.event;
+
+import com.ryuqq.authhub.domain.role.id.RoleId;
+
+/**
+ * RoleChangedEvent - 기존 Role 변경 이벤트
+ *
+ * <p>기존 Role의 수정/삭제가 커밋된 후 발행됩니다. {@code TransactionEventRegistry}를 통해 커밋 후에만 발행되며 롤백 시에는
+ * 발행되지 않습니다. 신규 Role은 아직 할당된 사용자가 없으므로 발행하지 않습니다.
+ *
+ * <p>사용자 역할/권한 캐시 등 권한 모델 파생 데이터 갱신에 사용합니다.
+ *
+ * @param roleId 변경된 Role ID
+ * @author development-team
+ * @since 1.0.0
+ */
+public record RoleChangedEvent(RoleId roleId) {
+
+    /**
+     * 이벤트 생성
+     *
+     * @param roleId 변경된 Role ID
+     * @return RoleChangedEvent
+     */
+    public static RoleChangedEvent of(RoleId roleId) {
+        return new RoleChangedEvent(roleId);
+    }
+}
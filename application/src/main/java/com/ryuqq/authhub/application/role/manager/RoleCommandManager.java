@@ -1,5 +1,7 @@
 package com.ryuqq.authhub.application.role.manager;
 
+import com.ryuqq.authhub.application.common.component.TransactionEventRegistry;
+import com.ryuqq.authhub.application.role.dto.event.RoleChangedEvent;
 import com.ryuqq.authhub.application.role.port.out.command.RoleCommandPort;
 import com.ryuqq.authhub.domain.role.aggregate.Role;
 import org.springframework.stereotype.Component;
@@ -14,6 +16,8 @@ import org.springframework.transaction.annotation.Transactional;
  *
  * <p>C-005: Port를 직접 노출하지 않고 Manager로 래핑합니다.
  *
+ * <p>기존 Role 영속화 시 {@link RoleChangedEvent}를 커밋 후 발행하도록 등록합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -21,9 +25,12 @@ import org.springframework.transaction.annotation.Transactional;
 public class RoleCommandManager {
 
     private final RoleCommandPort persistencePort;
+    private final TransactionEventRegistry transactionEventRegistry;
 
-    public RoleCommandManager(RoleCommandPort persistencePort) {
+    public RoleCommandManager(
+            RoleCommandPort persistencePort, TransactionEventRegistry transactionEventRegistry) {
         this.persistencePort = persistencePort;
+        this.transactionEventRegistry = transactionEventRegistry;
     }
 
     /**
@@ -34,6 +41,11 @@ public class RoleCommandManager {
      */
     @Transactional
     public Long persist(Role role) {
-        return persistencePort.persist(role);
+        Long id = persistencePort.persist(role);
+        if (!role.isNew()) {
+            transactionEventRegistry.registerObjectForPublish(
+                    RoleChangedEvent.of(role.getRoleId()));
+        }
+        return id;
     }
 }
@@ -0,0 +1,43 @@
+package com.ryuqq.authhub.application.rolepermission.dto.event;
+
+import com.ryuqq.authhub.domain.role.id.RoleId;
+import java.util.List;
+
+/**
+ * RolePermissionChangedEvent - 역할-권한 관계 변경 이벤트
+ *
+ * <p>역할에 권한이 부여/회수된 후 커밋되면 발행됩니다. {@code TransactionEventRegistry}를 통해 커밋 후에만 발행되며 롤백 시에는
+ * 발행되지 않습니다.
+ *
+ * <p>사용자 역할/권한 캐시 등 권한 모델 파생 데이터 갱신에 사용합니다.
+ *
+ * @param roleIds 권한이 변경된 Role ID 목록 (중복 없음)
+ * @author development-team
+ * @since 1.0.0
+ */
+public record RolePermissionChangedEvent(List<RoleId> roleIds) {
+
+    public RolePermissionChangedEvent {
+        roleIds = List.copyOf(roleIds);
+    }
+
+    /**
+     * 이벤트 생성
+     *
+     * @param roleIds 권한이 변경된 Role ID 목록
+     * @return RolePermissionChangedEvent
+     */
+    public static RolePermissionChangedEvent of(List<RoleId> roleIds) {
+        return new RolePermissionChangedEvent(roleIds.stream().distinct().toList());
+    }
+
+    /**
+     * 단일 역할 이벤트 생성
+     *
+     * @param roleId 권한이 변경된 Role ID
+     * @return RolePermissionChangedEvent
+     */
+    public static RolePermissionChangedEvent of(RoleId roleId) {
+        return new RolePermissionChangedEvent(List.of(roleId));
+    }
+}
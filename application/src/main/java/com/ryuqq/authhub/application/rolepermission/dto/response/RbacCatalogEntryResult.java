@@ -0,0 +1,15 @@
+package com.ryuqq.authhub.application.rolepermission.dto.response;
+
+/**
+ * RbacCatalogEntryResult - RBAC 카탈로그 적재용 역할-권한 조회 결과 DTO
+ *
+ * <p>roles → role_permissions → permissions 조인 결과의 한 행입니다. 권한이 없는 역할도 카탈로그에 포함되어야 하므로 권한은
+ * LEFT JOIN으로 조회되며, 이 경우 permissionKey는 null입니다.
+ *
+ * @param roleId 역할 ID (삭제되지 않은 역할만)
+ * @param roleName 역할 이름
+ * @param permissionKey 권한 키 (삭제되지 않은 권한만, 연결된 권한이 없으면 null)
+ * @author development-team
+ * @since 1.0.0
+ */
+public record RbacCatalogEntryResult(Long roleId, String roleName, String permissionKey) {}
@@ -1,5 +1,7 @@
 package com.ryuqq.authhub.application.rolepermission.manager;
 
+import com.ryuqq.authhub.application.common.component.TransactionEventRegistry;
+import com.ryuqq.authhub.application.rolepermission.dto.event.RolePermissionChangedEvent;
 import com.ryuqq.authhub.application.rolepermission.port.out.command.RolePermissionCommandPort;
 import com.ryuqq.authhub.domain.permission.id.PermissionId;
 import com.ryuqq.authhub.domain.role.id.RoleId;
@@ -18,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
  * <ul>
  *   <li>Command 트랜잭션 관리 (@Transactional)
  *   <li>PersistencePort 위임
+ *   <li>커밋 후 {@link RolePermissionChangedEvent} 발행 등록
  * </ul>
  *
  * @author development-team
@@ -27,9 +30,13 @@ import org.springframework.transaction.annotation.Transactional;
 public class RolePermissionCommandManager {
 
     private final RolePermissionCommandPort persistencePort;
+    private final TransactionEventRegistry transactionEventRegistry;
 
-    public RolePermissionCommandManager(RolePermissionCommandPort persistencePort) {
+    public RolePermissionCommandManager(
+            RolePermissionCommandPort persistencePort,
+            TransactionEventRegistry transactionEventRegistry) {
         this.persistencePort = persistencePort;
+        this.transactionEventRegistry = transactionEventRegistry;
     }
 
     /**
@@ -40,7 +47,10 @@ public class RolePermissionCommandManager {
      */
     @Transactional
     public RolePermission persist(RolePermission rolePermission) {
-        return persistencePort.persist(rolePermission);
+        RolePermission persisted = persistencePort.persist(rolePermission);
+        transactionEventRegistry.registerObjectForPublish(
+                RolePermissionChangedEvent.of(rolePermission.getRoleId()));
+        return persisted;
     }
 
     /**
@@ -51,7 +61,13 @@ public class RolePermissionCommandManager {
      */
     @Transactional
     public List<RolePermission> persistAll(List<RolePermission> rolePermissions) {
-        return persistencePort.persistAll(rolePermissions);
+        List<RolePermission> persisted = persistencePort.persistAll(rolePermissions);
+        if (!rolePermissions.isEmpty()) {
+            transactionEventRegistry.registerObjectForPublish(
+                    RolePermissionChangedEvent.of(
+                            rolePermissions.stream().map(RolePermission::getRoleId).toList()));
+        }
+        return persisted;
     }
 
     /**
@@ -63,6 +79,7 @@ public class RolePermissionCommandManager {
     @Transactional
     public void delete(RoleId roleId, PermissionId permissionId) {
         persistencePort.delete(roleId, permissionId);
+        transactionEventRegistry.registerObjectForPublish(RolePermissionChangedEvent.of(roleId));
     }
 
     /**
@@ -73,6 +90,7 @@ public class RolePermissionCommandManager {
     @Transactional
     public void deleteAllByRoleId(RoleId roleId) {
         persistencePort.deleteAllByRoleId(roleId);
+        transactionEventRegistry.registerObjectForPublish(RolePermissionChangedEvent.of(roleId));
     }
 
     /**
@@ -84,5 +102,6 @@ public class RolePermissionCommandManager {
     @Transactional
     public void deleteAll(RoleId roleId, List<PermissionId> permissionIds) {
         persistencePort.deleteAll(roleId, permissionIds);
+        transactionEventRegistry.registerObjectForPublish(RolePermissionChangedEvent.of(roleId));
     }
 }
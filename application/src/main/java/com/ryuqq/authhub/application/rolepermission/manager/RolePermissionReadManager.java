@@ -1,5 +1,7 @@
 package com.ryuqq.authhub.application.rolepermission.manager;
 
+import com.ryuqq.authhub.application.rolepermission.dto.response.RbacCatalogEntryResult;
+import com.ryuqq.authhub.application.rolepermission.port.out.query.RbacCatalogQueryPort;
 import com.ryuqq.authhub.application.rolepermission.port.out.query.RolePermissionQueryPort;
 import com.ryuqq.authhub.domain.permission.id.PermissionId;
 import com.ryuqq.authhub.domain.role.id.RoleId;
@@ -28,9 +30,12 @@ import org.springframework.transaction.annotation.Transactional;
 public class RolePermissionReadManager {
 
     private final RolePermissionQueryPort queryPort;
+    private final RbacCatalogQueryPort catalogQueryPort;
 
-    public RolePermissionReadManager(RolePermissionQueryPort queryPort) {
+    public RolePermissionReadManager(
+            RolePermissionQueryPort queryPort, RbacCatalogQueryPort catalogQueryPort) {
         this.queryPort = queryPort;
+        this.catalogQueryPort = catalogQueryPort;
     }
 
     /**
@@ -112,4 +117,14 @@ public class RolePermissionReadManager {
     public List<RolePermission> findAllByRoleIds(List<RoleId> roleIds) {
         return queryPort.findAllByRoleIds(roleIds);
     }
+
+    /**
+     * RBAC 카탈로그 적재용 전체 활성 역할-권한 목록 조회 (단일 조인 쿼리)
+     *
+     * @return (역할 ID, 역할 이름, 권한 키) 목록
+     */
+    @Transactional(readOnly = true)
+    public List<RbacCatalogEntryResult> findAllActiveCatalogEntries() {
+        return catalogQueryPort.findAllActiveEntries();
+    }
 }
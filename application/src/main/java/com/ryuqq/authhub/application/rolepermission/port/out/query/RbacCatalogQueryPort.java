@@ -0,0 +1,33 @@
+package com.ryuqq.authhub.application.rolepermission.port.out.query;
+
+import com.ryuqq.authhub.application.rolepermission.dto.response.RbacCatalogEntryResult;
+import java.util.List;
+
+/**
+ * RbacCatalogQueryPort - RBAC 카탈로그 적재용 역할-권한 조회 포트
+ *
+ * <p>Role, RolePermission, Permission을 단일 쿼리로 조인하여 인메모리 RBAC 카탈로그 구성에 필요한 전체 (역할, 권한 키)
+ * 목록을 제공합니다.
+ *
+ * <p><strong>Zero-Tolerance 규칙:</strong>
+ *
+ * <ul>
+ *   <li>조회 메서드만 제공
+ *   <li>Application DTO 반환 (조인 쿼리이므로 예외적으로 DTO 반환 허용)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface RbacCatalogQueryPort {
+
+    /**
+     * 모든 활성 역할-권한 목록 조회
+     *
+     * <p>삭제된 역할과 삭제된 권한은 SQL 조건으로 제외됩니다. 권한이 연결되지 않은 역할은 permissionKey가 null인 행으로
+     * 반환됩니다.
+     *
+     * @return (역할 ID, 역할 이름, 권한 키) 목록
+     */
+    List<RbacCatalogEntryResult> findAllActiveEntries();
+}
@@ -0,0 +1,41 @@
+package com.ryuqq.authhub.application.token.dto.composite;
+
+import com.ryuqq.authhub.domain.user.id.UserId;
+import com.ryuqq.authhub.domain.user.vo.HashedPassword;
+import com.ryuqq.authhub.domain.user.vo.UserStatus;
+
+/**
+ * LoginContextComposite - 로그인/토큰 갱신 컨텍스트 Composite
+ *
+ * <p>User, Organization, Tenant 조인 조회 결과 중 토큰 발급과 자격 증명 검증에 필요한 값만 담는 Composite DTO입니다.
+ *
+ * @param userId 사용자 ID
+ * @param identifier 로그인 식별자 (이메일 등)
+ * @param hashedPassword 해시된 비밀번호
+ * @param status 사용자 상태
+ * @param tenantId 테넌트 ID
+ * @param tenantName 테넌트 이름
+ * @param organizationId 조직 ID
+ * @param organizationName 조직 이름
+ * @author development-team
+ * @since 1.0.0
+ */
+public record LoginContextComposite(
+        UserId userId,
+        String identifier,
+        HashedPassword hashedPassword,
+        UserStatus status,
+        String tenantId,
+        String tenantName,
+        String organizationId,
+        String organizationName) {
+
+    /**
+     * 활성 사용자 여부
+     *
+     * @return 활성 상태이면 true
+     */
+    public boolean isActive() {
+        return status.isActive();
+    }
+}
@@ -0,0 +1,77 @@
+package com.ryuqq.authhub.application.token.dto.composite;
+
+import com.ryuqq.authhub.application.permission.dto.composite.EncodedPermissions;
+import com.ryuqq.authhub.application.permission.dto.composite.PermissionSet;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * PermissionClaimSource - Access Token 권한 Claim 재료
+ *
+ * <p>토큰 발급 시 권한 Claim 형식(권한 목록, 압축 비트맵, Thin Token)을 고르는 것은 Token Provider 구현체의 설정이므로,
+ * Application은 각 형식에 필요한 작업을 지연 실행 가능한 형태로 넘기고 구현체가 필요한 것만 호출합니다.
+ *
+ * <ul>
+ *   <li>{@link #permissionSet()} - 권한 키와 permission_hash (항상 사용)
+ *   <li>{@link #compact()} - 권한 사전 비트맵 인코딩 (압축 모드에서만 호출, 사전 조회 발생)
+ *   <li>{@link #publish()} - 권한 집합 저장소 등록 (Thin Token 모드에서만 호출, 처음 보는 해시면 DB 쓰기 발생)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public final class PermissionClaimSource {
+
+    private final PermissionSet permissionSet;
+    private final Supplier<Optional<EncodedPermissions>> compactEncoder;
+    private final BooleanSupplier publisher;
+
+    /**
+     * @param permissionSet 권한 집합
+     * @param compactEncoder 권한 사전 비트맵 인코딩 함수 (사전에 없는 권한이 있으면 empty)
+     * @param publisher 권한 집합 등록 함수 (등록 성공 여부)
+     */
+    public PermissionClaimSource(
+            PermissionSet permissionSet,
+            Supplier<Optional<EncodedPermissions>> compactEncoder,
+            BooleanSupplier publisher) {
+        this.permissionSet = permissionSet;
+        this.compactEncoder = compactEncoder;
+        this.publisher = publisher;
+    }
+
+    /**
+     * 압축/등록 없이 권한 목록만 제공하는 Source 생성
+     *
+     * @param permissionSet 권한 집합
+     * @return PermissionClaimSource
+     */
+    public static PermissionClaimSource listOnly(PermissionSet permissionSet) {
+        return new PermissionClaimSource(permissionSet, Optional::empty, () -> false);
+    }
+
+    public PermissionSet permissionSet() {
+        return permissionSet;
+    }
+
+    /**
+     * 권한 사전 비트맵 인코딩
+     *
+     * @return 인코딩 결과 (사전에 없는 권한이 있으면 empty)
+     */
+    public Optional<EncodedPermissions> compact() {
+        return compactEncoder.get();
+    }
+
+    /**
+     * 권한 집합을 저장소에 등록
+     *
+     * <p>등록에 성공해야만 토큰에 permission_hash만 담을 수 있습니다. 등록된 권한 집합은 만료되지 않습니다.
+     *
+     * @return 등록 성공 여부
+     */
+    public boolean publish() {
+        return publisher.getAsBoolean();
+    }
+}
@@ -0,0 +1,16 @@
+package com.ryuqq.authhub.application.token.dto.composite;
+
+import com.ryuqq.authhub.application.userrole.dto.composite.RolesAndPermissionsComposite;
+
+/**
+ * TokenIssueComposite - 토큰 발급 입력 Composite
+ *
+ * <p>토큰 쌍 발급에 필요한 사용자 컨텍스트와 역할/권한을 함께 담습니다. 두 값은 로그인/토큰 갱신 시 동시에 조회됩니다.
+ *
+ * @param claims 토큰 Claims 컨텍스트 (사용자/조직/테넌트)
+ * @param rolesAndPermissions 사용자 역할/권한
+ * @author development-team
+ * @since 1.0.0
+ */
+public record TokenIssueComposite(
+        TokenClaimsComposite claims, RolesAndPermissionsComposite rolesAndPermissions) {}
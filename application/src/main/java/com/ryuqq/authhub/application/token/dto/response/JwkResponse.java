@@ -3,18 +3,41 @@ package com.ryuqq.authhub.application.token.dto.response;
 /**
  * JwkResponse - 개별 JWK Response DTO
  *
- * <p>RFC 7517 JSON Web Key (JWK) 명세에 따른 개별 키 정보입니다.
+ * <p>RFC 7517 JSON Web Key (JWK) 명세에 따른 개별 키 정보입니다. 키 타입에 해당하지 않는 필드는 null입니다.
+ *
+ * <ul>
+ *   <li>RSA (RS256) - n, e
+ *   <li>EC (ES256) - crv=P-256, x, y (RFC 7518)
+ *   <li>OKP (EdDSA) - crv=Ed25519, x (RFC 8037)
+ * </ul>
  *
  * @param kid Key ID
- * @param kty Key Type (RSA)
+ * @param kty Key Type (RSA, EC, OKP)
  * @param use Public Key Use (sig)
- * @param alg Algorithm (RS256)
+ * @param alg Algorithm (RS256, ES256, EdDSA)
  * @param n RSA modulus (Base64URL encoded)
  * @param e RSA public exponent (Base64URL encoded)
+ * @param crv Curve (P-256, Ed25519)
+ * @param x EC x 좌표 또는 Ed25519 공개키 (Base64URL encoded)
+ * @param y EC y 좌표 (Base64URL encoded)
  * @author development-team
  * @since 1.0.0
  */
-public record JwkResponse(String kid, String kty, String use, String alg, String n, String e) {
+public record JwkResponse(
+        String kid,
+        String kty,
+        String use,
+        String alg,
+        String n,
+        String e,
+        String crv,
+        String x,
+        String y) {
+
+    /** RSA JWK 생성자 */
+    public JwkResponse(String kid, String kty, String use, String alg, String n, String e) {
+        this(kid, kty, use, alg, n, e, null, null, null);
+    }
 
     /**
      * RSA 공개키로 JwkResponse 생성
@@ -27,4 +50,27 @@ public record JwkResponse(String kid, String kty, String use, String alg, String
     public static JwkResponse of(String kid, String n, String e) {
         return new JwkResponse(kid, "RSA", "sig", "RS256", n, e);
     }
+
+    /**
+     * P-256 공개키로 JwkResponse 생성 (ES256)
+     *
+     * @param kid Key ID
+     * @param x x 좌표 (32바이트, Base64URL)
+     * @param y y 좌표 (32바이트, Base64URL)
+     * @return JwkResponse
+     */
+    public static JwkResponse ofEc(String kid, String x, String y) {
+        return new JwkResponse(kid, "EC", "sig", "ES256", null, null, "P-256", x, y);
+    }
+
+    /**
+     * Ed25519 공개키로 JwkResponse 생성 (EdDSA)
+     *
+     * @param kid Key ID
+     * @param x 공개키 (32바이트, Base64URL)
+     * @return JwkResponse
+     */
+    public static JwkResponse ofOkp(String kid, String x) {
+        return new JwkResponse(kid, "OKP", "sig", "EdDSA", null, null, "Ed25519", x, null);
+    }
 }
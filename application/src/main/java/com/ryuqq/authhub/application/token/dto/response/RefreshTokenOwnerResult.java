@@ -0,0 +1,17 @@
+package com.ryuqq.authhub.application.token.dto.response;
+
+import com.ryuqq.authhub.domain.user.id.UserId;
+import java.time.Instant;
+
+/**
+ * RefreshTokenOwnerResult - Refresh Token 소유자 조회 결과 DTO
+ *
+ * <p>RDB에 저장된 만료되지 않은 Refresh Token의 소유자와 만료 시각입니다. Cache Warming 시 남은 만료 시간만큼만 캐시에
+ * 저장하기 위해 만료 시각을 함께 반환합니다.
+ *
+ * @param userId 토큰 소유자 ID
+ * @param expiresAt 토큰 만료 시각 (UTC)
+ * @author development-team
+ * @since 1.0.0
+ */
+public record RefreshTokenOwnerResult(UserId userId, Instant expiresAt) {}
@@ -1,5 +1,6 @@
 package com.ryuqq.authhub.application.token.factory;
 
+import com.ryuqq.authhub.application.token.dto.composite.LoginContextComposite;
 import com.ryuqq.authhub.application.token.dto.composite.TokenClaimsComposite;
 import com.ryuqq.authhub.domain.organization.aggregate.Organization;
 import com.ryuqq.authhub.domain.tenant.aggregate.Tenant;
@@ -14,7 +15,7 @@ import org.springframework.stereotype.Component;
  * <p><strong>책임:</strong>
  *
  * <ul>
- *   <li>User, Tenant, Organization 정보로 TokenClaimsContext 생성
+ *   <li>User, Tenant, Organization 정보(또는 로그인 컨텍스트)로 TokenClaimsContext 생성
  *   <li>JWT Payload에 포함될 Claim 정보 조립
  * </ul>
  *
@@ -52,4 +53,23 @@ public class TokenClaimsContextFactory {
                 .email(user.identifierValue())
                 .build();
     }
+
+    /**
+     * 로그인 컨텍스트로 TokenClaimsContext 생성
+     *
+     * <p>User/Organization/Tenant 조인 조회 결과로 컨텍스트를 생성합니다. roles/permissions는 포함되지 않습니다.
+     *
+     * @param context 로그인 컨텍스트
+     * @return TokenClaimsContext 토큰 발급용 컨텍스트
+     */
+    public TokenClaimsComposite create(LoginContextComposite context) {
+        return TokenClaimsComposite.builder()
+                .userId(context.userId())
+                .tenantId(context.tenantId())
+                .tenantName(context.tenantName())
+                .organizationId(context.organizationId())
+                .organizationName(context.organizationName())
+                .email(context.identifier())
+                .build();
+    }
 }
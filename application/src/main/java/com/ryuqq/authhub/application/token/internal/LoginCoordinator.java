@@ -1,90 +1,97 @@
 package com.ryuqq.authhub.application.token.internal;
 
-import com.ryuqq.authhub.application.organization.validator.OrganizationValidator;
-import com.ryuqq.authhub.application.tenant.validator.TenantValidator;
+import com.ryuqq.authhub.application.common.component.ConcurrentTaskScope;
+import com.ryuqq.authhub.application.common.component.ConcurrentTaskScope.Subtask;
 import com.ryuqq.authhub.application.token.dto.command.LoginCommand;
-import com.ryuqq.authhub.application.token.dto.composite.TokenClaimsComposite;
+import com.ryuqq.authhub.application.token.dto.composite.LoginContextComposite;
+import com.ryuqq.authhub.application.token.dto.composite.TokenIssueComposite;
 import com.ryuqq.authhub.application.token.factory.TokenClaimsContextFactory;
 import com.ryuqq.authhub.application.token.validator.LoginValidator;
-import com.ryuqq.authhub.application.user.validator.UserValidator;
-import com.ryuqq.authhub.domain.organization.aggregate.Organization;
-import com.ryuqq.authhub.domain.tenant.aggregate.Tenant;
+import com.ryuqq.authhub.application.userrole.dto.composite.LoadedRolesAndPermissions;
+import com.ryuqq.authhub.application.userrole.dto.composite.RolesAndPermissionsComposite;
+import com.ryuqq.authhub.application.userrole.facade.UserRoleReadFacade;
 import com.ryuqq.authhub.domain.token.exception.InvalidCredentialsException;
-import com.ryuqq.authhub.domain.user.aggregate.User;
 import com.ryuqq.authhub.domain.user.vo.Identifier;
 import org.springframework.stereotype.Component;
 
 /**
  * LoginCoordinator - 로그인 프로세스 Coordinator
  *
- * <p>크로스 도메인 검증 및 TokenClaimsContext 생성을 조율합니다.
+ * <p>크로스 도메인 검증 및 토큰 발급 입력(TokenIssueComposite) 생성을 조율합니다.
  *
  * <p><strong>책임:</strong>
  *
  * <ul>
- *   <li>User 조회 + 활성 상태 검증 (UserValidator)
- *   <li>Organization 존재 검증 (OrganizationValidator)
- *   <li>Tenant 존재 검증 (TenantValidator)
- *   <li>LoginValidator를 통한 비밀번호 검증
+ *   <li>로그인 컨텍스트 조회 + 활성 상태 검증 (LoginValidator, User/Organization/Tenant 조인 1회)
+ *   <li>LoginValidator를 통한 비밀번호 검증과 역할/권한 조회(UserRoleReadFacade) 동시 실행
  *   <li>TokenClaimsContextFactory를 통한 컨텍스트 생성
  * </ul>
  *
  * <p><strong>처리 흐름:</strong>
  *
  * <ol>
- *   <li>User 조회 + 활성 상태 검증 (UserValidator)
- *   <li>Organization 조회 및 검증
- *   <li>Tenant 조회 및 검증
- *   <li>비밀번호 검증 (LoginValidator)
- *   <li>TokenClaimsContext 생성 및 반환
+ *   <li>로그인 컨텍스트 조회 + 활성 상태 검증
+ *   <li>비밀번호 검증(BCrypt)과 역할/권한 조회를 {@link ConcurrentTaskScope}로 동시 실행
+ *   <li>비밀번호 검증 통과 시 조회한 역할/권한을 사용자 권한 캐시에 저장
+ *   <li>TokenIssueComposite 생성 및 반환
  * </ol>
  *
+ * <p>역할/권한 조회는 BCrypt 검증 시간 동안 함께 수행되며, 캐시에는 저장하지 않은 채로 조회합니다. 비밀번호 검증이 실패하면
+ * Scope가 아직 시작하지 않은 조회를 취소하고, 이미 끝난 조회 결과는 버립니다. 따라서 잘못된 비밀번호 요청은 사용자 권한 캐시를
+ * 적재하지 않습니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
 @Component
 public class LoginCoordinator {
 
-    private final UserValidator userValidator;
-    private final OrganizationValidator organizationValidator;
-    private final TenantValidator tenantValidator;
+    private static final String SCOPE_NAME = "login";
+
     private final LoginValidator loginValidator;
+    private final UserRoleReadFacade userRoleReadFacade;
     private final TokenClaimsContextFactory tokenClaimsContextFactory;
 
     public LoginCoordinator(
-            UserValidator userValidator,
-            OrganizationValidator organizationValidator,
-            TenantValidator tenantValidator,
             LoginValidator loginValidator,
+            UserRoleReadFacade userRoleReadFacade,
             TokenClaimsContextFactory tokenClaimsContextFactory) {
-        this.userValidator = userValidator;
-        this.organizationValidator = organizationValidator;
-        this.tenantValidator = tenantValidator;
         this.loginValidator = loginValidator;
+        this.userRoleReadFacade = userRoleReadFacade;
         this.tokenClaimsContextFactory = tokenClaimsContextFactory;
     }
 
     /**
      * 로그인 프로세스 조율
      *
-     * <p>사용자 인증 및 TokenClaimsContext 생성을 한 번에 처리합니다.
+     * <p>사용자 인증 및 토큰 발급 입력 생성을 한 번에 처리합니다.
      *
      * @param command 로그인 커맨드 (identifier, password)
-     * @return TokenClaimsContext 토큰 발급에 필요한 컨텍스트
+     * @return TokenIssueComposite 토큰 발급에 필요한 컨텍스트 + 역할/권한
      * @throws InvalidCredentialsException 인증 실패 시
      */
-    public TokenClaimsComposite coordinate(LoginCommand command) {
-        User user =
-                userValidator.findActiveUserByIdentifierOrThrow(
-                        Identifier.of(command.identifier()));
-
-        Organization organization =
-                organizationValidator.findExistingOrThrow(user.getOrganizationId());
-        Tenant tenant = tenantValidator.findExistingOrThrow(organization.getTenantId());
+    public TokenIssueComposite coordinate(LoginCommand command) {
+        LoginContextComposite context =
+                loginValidator.findActiveLoginContextOrThrow(Identifier.of(command.identifier()));
 
-        loginValidator.validatePassword(
-                command.password(), user, tenant.tenantIdValue(), command.identifier());
+        LoadedRolesAndPermissions loaded;
+        try (ConcurrentTaskScope scope = ConcurrentTaskScope.open(SCOPE_NAME)) {
+            Subtask<LoadedRolesAndPermissions> roles =
+                    scope.fork(
+                            () ->
+                                    userRoleReadFacade.loadRolesAndPermissionsByUserId(
+                                            context.userId()));
+            scope.fork(
+                    () -> {
+                        loginValidator.validatePassword(command.password(), context);
+                        return null;
+                    });
+            scope.join();
+            loaded = roles.get();
+        }
 
-        return tokenClaimsContextFactory.create(user, tenant, organization);
+        RolesAndPermissionsComposite rolesAndPermissions = userRoleReadFacade.cacheLoaded(loaded);
+        return new TokenIssueComposite(
+                tokenClaimsContextFactory.create(context), rolesAndPermissions);
     }
 }
@@ -6,6 +6,11 @@ import com.ryuqq.authhub.application.token.manager.query.UserContextCompositeRea
 import com.ryuqq.authhub.application.userrole.dto.composite.RolesAndPermissionsComposite;
 import com.ryuqq.authhub.application.userrole.facade.UserRoleReadFacade;
 import com.ryuqq.authhub.domain.user.id.UserId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
 
 /**
@@ -58,4 +63,39 @@ public class MyContextReadFacade {
 
         return new MyContextComposite(userContext, rolesAndPermissions);
     }
+
+    /**
+     * 여러 사용자 ID로 전체 컨텍스트 조회
+     *
+     * <p>사용자 컨텍스트 조인과 역할/권한 조회를 각각 사용자 ID IN 조건으로 한 번에 수행합니다. 존재하지 않는 사용자는 결과에서
+     * 제외합니다.
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 요청 순서를 유지한 사용자 전체 컨텍스트 Composite 목록 (중복 ID는 한 번만 포함)
+     */
+    public List<MyContextComposite> findMyContexts(List<UserId> userIds) {
+        List<UserId> distinctIds = userIds.stream().distinct().toList();
+        if (distinctIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UserId, UserContextComposite> userContexts =
+                userContextCompositeReadManager.findUserContextsByUserIds(distinctIds).stream()
+                        .collect(
+                                Collectors.toMap(
+                                        context -> UserId.of(context.userId()),
+                                        Function.identity()));
+        List<UserId> foundIds =
+                distinctIds.stream().filter(userContexts::containsKey).toList();
+        Map<UserId, RolesAndPermissionsComposite> rolesAndPermissions =
+                userRoleReadFacade.findRolesAndPermissionsByUserIds(foundIds);
+
+        List<MyContextComposite> composites = new ArrayList<>(foundIds.size());
+        for (UserId userId : foundIds) {
+            composites.add(
+                    new MyContextComposite(
+                            userContexts.get(userId), rolesAndPermissions.get(userId)));
+        }
+        return composites;
+    }
 }
@@ -14,7 +14,8 @@ import org.springframework.stereotype.Component;
  * <p><strong>책임:</strong>
  *
  * <ul>
- *   <li>Refresh Token 저장 (RDB + Cache)
+ *   <li>Refresh Token 저장 (RDB → Cache 순차 저장)
+ *   <li>Refresh Token 교체 (Cache 원자적 교체 + RDB, RDB 실패 시 Cache 보상)
  *   <li>Refresh Token 무효화 (RDB + Cache)
  * </ul>
  *
@@ -39,14 +40,54 @@ public class TokenCommandFacade {
     /**
      * Refresh Token 저장 (RDB + Cache)
      *
+     * <p>원본 저장소인 RDB에 먼저 저장한 뒤 Cache에 저장합니다. RDB 저장이 실패하면 Cache에는 쓰지 않으므로 Cache에만
+     * 존재하는 토큰이 생기지 않습니다. Cache 저장이 실패해도 토큰은 RDB에 남아 있으며, 조회 시 RDB fallback으로 다시
+     * 적재됩니다 ({@code RefreshTokenReader}).
+     *
      * @param refreshToken RefreshToken VO
      */
     public void persistRefreshToken(RefreshToken refreshToken) {
-        refreshTokenCommandManager.persist(refreshToken.userId(), refreshToken.token());
+        refreshTokenCommandManager.persist(
+                refreshToken.userId(), refreshToken.token(), refreshToken.expiresInSeconds());
         refreshTokenCacheCommandManager.save(
                 refreshToken.userId(), refreshToken.token(), refreshToken.expiresInSeconds());
     }
 
+    /**
+     * Refresh Token 교체 (토큰 갱신 시)
+     *
+     * <p>Cache에서 이전 토큰 폐기와 새 토큰 저장을 원자적으로 수행한 뒤 RDB에 새 토큰을 저장합니다. 이전 토큰이 이미 다른
+     * 요청에 의해 교체된 경우 RDB는 변경하지 않고 false를 반환합니다. Cache 교체 결과가 RDB 저장 여부를 결정하므로 저장과
+     * 달리 Cache를 먼저 변경합니다.
+     *
+     * <p><strong>보상:</strong> RDB 저장이 실패하면 Cache에 저장한 새 토큰을 삭제한 뒤 예외를 전파합니다. RDB에는 이전 토큰이
+     * 그대로 남아 있으므로 클라이언트는 이전 토큰으로 재시도할 수 있고, 이때 RDB fallback으로 Cache가 다시 적재됩니다. 보상
+     * 삭제마저 실패하면 원래 예외에 suppressed로 첨부합니다.
+     *
+     * @param previousToken 교체 대상 Refresh Token 값
+     * @param refreshToken 새 RefreshToken VO
+     * @return 교체 성공 여부
+     */
+    public boolean rotateRefreshToken(String previousToken, RefreshToken refreshToken) {
+        boolean rotated =
+                refreshTokenCacheCommandManager.rotate(
+                        refreshToken.userId(),
+                        previousToken,
+                        refreshToken.token(),
+                        refreshToken.expiresInSeconds());
+        if (!rotated) {
+            return false;
+        }
+        try {
+            refreshTokenCommandManager.persist(
+                    refreshToken.userId(), refreshToken.token(), refreshToken.expiresInSeconds());
+        } catch (RuntimeException e) {
+            revokeRotatedToken(refreshToken.token(), e);
+            throw e;
+        }
+        return true;
+    }
+
     /**
      * Refresh Token 무효화 (로그아웃 시)
      *
@@ -67,4 +108,12 @@ public class TokenCommandFacade {
     public void revokeToken(String refreshToken) {
         refreshTokenCacheCommandManager.deleteByToken(refreshToken);
     }
+
+    private void revokeRotatedToken(String rotatedToken, RuntimeException cause) {
+        try {
+            refreshTokenCacheCommandManager.deleteByToken(rotatedToken);
+        } catch (RuntimeException compensationFailure) {
+            cause.addSuppressed(compensationFailure);
+        }
+    }
 }
@@ -34,6 +34,20 @@ public class RefreshTokenCacheCommandManager {
         cacheCommandPort.save(userId, refreshToken, expiresInSeconds);
     }
 
+    /**
+     * Refresh Token 캐시 교체 (이전 토큰 삭제 + 새 토큰 저장)
+     *
+     * @param userId 사용자 ID (Value Object)
+     * @param oldRefreshToken 교체 대상 Refresh Token 값
+     * @param newRefreshToken 새 Refresh Token 값
+     * @param expiresInSeconds 새 토큰 만료 시간 (초)
+     * @return 교체 성공 여부
+     */
+    public boolean rotate(
+            UserId userId, String oldRefreshToken, String newRefreshToken, long expiresInSeconds) {
+        return cacheCommandPort.rotate(userId, oldRefreshToken, newRefreshToken, expiresInSeconds);
+    }
+
     /**
      * Refresh Token 삭제 (사용자 ID 기준)
      *
@@ -24,16 +24,6 @@ public class RefreshTokenCacheQueryManager {
         this.cacheQueryPort = cacheQueryPort;
     }
 
-    /**
-     * 사용자 ID로 Refresh Token 조회
-     *
-     * @param userId 사용자 ID (Value Object)
-     * @return Refresh Token (Optional)
-     */
-    public Optional<String> findByUserId(UserId userId) {
-        return cacheQueryPort.findByUserId(userId);
-    }
-
     /**
      * Refresh Token으로 사용자 ID 조회
      *
@@ -29,10 +29,11 @@ public class RefreshTokenCommandManager {
      *
      * @param userId 사용자 ID (Value Object)
      * @param refreshToken Refresh Token 값
+     * @param expiresInSeconds 만료 시간 (초)
      */
     @Transactional
-    public void persist(UserId userId, String refreshToken) {
-        refreshTokenCommandPort.persist(userId, refreshToken);
+    public void persist(UserId userId, String refreshToken, long expiresInSeconds) {
+        refreshTokenCommandPort.persist(userId, refreshToken, expiresInSeconds);
     }
 
     /**
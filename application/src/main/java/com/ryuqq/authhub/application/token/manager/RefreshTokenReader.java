@@ -1,7 +1,11 @@
 package com.ryuqq.authhub.application.token.manager;
 
+import com.ryuqq.authhub.application.common.time.TimeProvider;
+import com.ryuqq.authhub.application.token.dto.response.RefreshTokenOwnerResult;
 import com.ryuqq.authhub.application.token.port.out.query.RefreshTokenQueryPort;
 import com.ryuqq.authhub.domain.user.id.UserId;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Optional;
 import org.springframework.stereotype.Component;
 
@@ -14,11 +18,12 @@ import org.springframework.stereotype.Component;
  *
  * <ol>
  *   <li>Cache(Redis)에서 먼저 조회
- *   <li>Cache Miss 시 RDB에서 조회 (fallback)
+ *   <li>Cache Miss 시 RDB에서 조회 (fallback, 토큰 다이제스트 인덱스 조회)
  *   <li>RDB에서 조회 성공 시 Cache에 저장 (Cache Warming)
  * </ol>
  *
- * <p><strong>주의:</strong> Cache Warming 시 TTL은 기본값 사용 (토큰 만료 시간을 알 수 없으므로)
+ * <p><strong>주의:</strong> Cache Warming 시 TTL은 RDB에 저장된 만료 시각까지 남은 시간을 사용합니다. 만료된 토큰이 캐시를
+ * 통해 연장되지 않습니다.
  *
  * @author development-team
  * @since 1.0.0
@@ -26,19 +31,20 @@ import org.springframework.stereotype.Component;
 @Component
 public class RefreshTokenReader {
 
-    private static final long DEFAULT_CACHE_TTL_SECONDS = 60 * 60 * 24 * 7; // 7일 (기본 TTL)
-
     private final RefreshTokenCacheQueryManager refreshTokenCacheQueryManager;
     private final RefreshTokenCacheCommandManager refreshTokenCacheCommandManager;
     private final RefreshTokenQueryPort refreshTokenQueryPort;
+    private final TimeProvider timeProvider;
 
     public RefreshTokenReader(
             RefreshTokenCacheQueryManager refreshTokenCacheQueryManager,
             RefreshTokenCacheCommandManager refreshTokenCacheCommandManager,
-            RefreshTokenQueryPort refreshTokenQueryPort) {
+            RefreshTokenQueryPort refreshTokenQueryPort,
+            TimeProvider timeProvider) {
         this.refreshTokenCacheQueryManager = refreshTokenCacheQueryManager;
         this.refreshTokenCacheCommandManager = refreshTokenCacheCommandManager;
         this.refreshTokenQueryPort = refreshTokenQueryPort;
+        this.timeProvider = timeProvider;
     }
 
     /**
@@ -48,8 +54,8 @@ public class RefreshTokenReader {
      *
      * <ol>
      *   <li>Cache에서 토큰으로 UserId 조회
-     *   <li>Cache Miss 시 RDB에서 조회
-     *   <li>RDB 조회 성공 시 Cache에 저장 (Cache Warming)
+     *   <li>Cache Miss 시 RDB에서 조회 (만료된 토큰 제외)
+     *   <li>RDB 조회 성공 시 남은 만료 시간으로 Cache에 저장 (Cache Warming)
      * </ol>
      *
      * @param refreshToken RefreshToken 값
@@ -62,33 +68,19 @@ public class RefreshTokenReader {
             return cachedUserId;
         }
 
-        Optional<UserId> dbUserId = refreshTokenQueryPort.findUserIdByToken(refreshToken);
+        Instant now = timeProvider.now();
+        Optional<RefreshTokenOwnerResult> owner =
+                refreshTokenQueryPort.findOwnerByToken(refreshToken, now);
 
-        dbUserId.ifPresent(userId -> warmCache(userId, refreshToken));
+        owner.ifPresent(result -> warmCache(result, refreshToken, now));
 
-        return dbUserId;
+        return owner.map(RefreshTokenOwnerResult::userId);
     }
 
-    /**
-     * UserId로 RefreshToken 조회 (Cache → RDB fallback)
-     *
-     * @param userId 사용자 ID (Value Object)
-     * @return RefreshToken (Optional)
-     */
-    public Optional<String> findByUserId(UserId userId) {
-        Optional<String> cachedToken = refreshTokenCacheQueryManager.findByUserId(userId);
-        if (cachedToken.isPresent()) {
-            return cachedToken;
+    private void warmCache(RefreshTokenOwnerResult owner, String refreshToken, Instant now) {
+        long remainingSeconds = Duration.between(now, owner.expiresAt()).toSeconds();
+        if (remainingSeconds > 0) {
+            refreshTokenCacheCommandManager.save(owner.userId(), refreshToken, remainingSeconds);
         }
-
-        Optional<String> dbToken = refreshTokenQueryPort.findByUserId(userId);
-
-        dbToken.ifPresent(token -> warmCache(userId, token));
-
-        return dbToken;
-    }
-
-    private void warmCache(UserId userId, String refreshToken) {
-        refreshTokenCacheCommandManager.save(userId, refreshToken, DEFAULT_CACHE_TTL_SECONDS);
     }
 }
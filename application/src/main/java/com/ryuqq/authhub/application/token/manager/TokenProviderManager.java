@@ -1,5 +1,9 @@
 package com.ryuqq.authhub.application.token.manager;
 
+import com.ryuqq.authhub.application.permission.dto.composite.PermissionSet;
+import com.ryuqq.authhub.application.permission.internal.PermissionDictionaryHolder;
+import com.ryuqq.authhub.application.permission.manager.PermissionSetCommandManager;
+import com.ryuqq.authhub.application.token.dto.composite.PermissionClaimSource;
 import com.ryuqq.authhub.application.token.dto.composite.TokenClaimsComposite;
 import com.ryuqq.authhub.application.token.dto.response.TokenResponse;
 import com.ryuqq.authhub.application.token.port.out.client.TokenProviderClient;
@@ -16,6 +20,8 @@ import org.springframework.stereotype.Component;
  * <ul>
  *   <li>TokenProviderClient를 래핑하여 토큰 생성
  *   <li>외부 시스템(JWT 라이브러리) 호출 캡슐화
+ *   <li>압축 권한 Claim용 권한 사전 인코딩 제공 (Client가 요청할 때만 사전 조회)
+ *   <li>Thin Token용 권한 집합 등록 제공 (Client가 요청할 때만 저장소 쓰기)
  * </ul>
  *
  * <p><strong>주의:</strong> 트랜잭션 외부에서 호출해야 합니다.
@@ -27,9 +33,16 @@ import org.springframework.stereotype.Component;
 public class TokenProviderManager {
 
     private final TokenProviderClient tokenProviderClient;
+    private final PermissionDictionaryHolder permissionDictionaryHolder;
+    private final PermissionSetCommandManager permissionSetCommandManager;
 
-    public TokenProviderManager(TokenProviderClient tokenProviderClient) {
+    public TokenProviderManager(
+            TokenProviderClient tokenProviderClient,
+            PermissionDictionaryHolder permissionDictionaryHolder,
+            PermissionSetCommandManager permissionSetCommandManager) {
         this.tokenProviderClient = tokenProviderClient;
+        this.permissionDictionaryHolder = permissionDictionaryHolder;
+        this.permissionSetCommandManager = permissionSetCommandManager;
     }
 
     /**
@@ -41,6 +54,13 @@ public class TokenProviderManager {
      */
     public TokenResponse generateTokenPair(
             TokenClaimsComposite context, RolesAndPermissionsComposite rolesAndPermissions) {
-        return tokenProviderClient.generateTokenPair(context, rolesAndPermissions);
+        PermissionSet permissionSet = PermissionSet.of(rolesAndPermissions.permissionKeys());
+        PermissionClaimSource permissionClaims =
+                new PermissionClaimSource(
+                        permissionSet,
+                        () -> permissionDictionaryHolder.encode(permissionSet.permissionKeys()),
+                        () -> permissionSetCommandManager.save(permissionSet));
+        return tokenProviderClient.generateTokenPair(
+                context, rolesAndPermissions, permissionClaims);
     }
 }
@@ -0,0 +1,61 @@
+package com.ryuqq.authhub.application.token.manager.query;
+
+import com.ryuqq.authhub.application.token.dto.composite.LoginContextComposite;
+import com.ryuqq.authhub.application.token.port.out.query.LoginContextQueryPort;
+import com.ryuqq.authhub.domain.user.exception.UserNotFoundException;
+import com.ryuqq.authhub.domain.user.id.UserId;
+import com.ryuqq.authhub.domain.user.vo.Identifier;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * LoginContextReadManager - 로그인 컨텍스트 조회 Manager
+ *
+ * <p>로그인/토큰 갱신 경로에서 User, Organization, Tenant를 조인 쿼리 1회로 조회합니다.
+ *
+ * <p><strong>설계 원칙:</strong>
+ *
+ * <ul>
+ *   <li>메서드 단위 @Transactional(readOnly=true)
+ *   <li>QueryPort 1:1 래핑
+ *   <li>식별자 조회는 Optional 반환 (자격 증명 예외 변환은 Validator 책임)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class LoginContextReadManager {
+
+    private final LoginContextQueryPort loginContextQueryPort;
+
+    public LoginContextReadManager(LoginContextQueryPort loginContextQueryPort) {
+        this.loginContextQueryPort = loginContextQueryPort;
+    }
+
+    /**
+     * 로그인 식별자로 로그인 컨텍스트 조회
+     *
+     * @param identifier 로그인 식별자
+     * @return 로그인 컨텍스트 (없으면 empty)
+     */
+    @Transactional(readOnly = true)
+    public Optional<LoginContextComposite> findByIdentifier(Identifier identifier) {
+        return loginContextQueryPort.findByIdentifier(identifier);
+    }
+
+    /**
+     * 사용자 ID로 로그인 컨텍스트 조회
+     *
+     * @param userId 사용자 ID
+     * @return 로그인 컨텍스트
+     * @throws UserNotFoundException 사용자(또는 소속 조직/테넌트)가 존재하지 않을 경우
+     */
+    @Transactional(readOnly = true)
+    public LoginContextComposite getByUserId(UserId userId) {
+        return loginContextQueryPort
+                .findByUserId(userId)
+                .orElseThrow(() -> new UserNotFoundException(userId));
+    }
+}
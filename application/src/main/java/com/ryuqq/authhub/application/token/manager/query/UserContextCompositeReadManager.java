@@ -4,6 +4,7 @@ import com.ryuqq.authhub.application.token.dto.composite.UserContextComposite;
 import com.ryuqq.authhub.application.token.port.out.query.UserContextCompositeQueryPort;
 import com.ryuqq.authhub.domain.user.exception.UserNotFoundException;
 import com.ryuqq.authhub.domain.user.id.UserId;
+import java.util.List;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -47,4 +48,15 @@ public class UserContextCompositeReadManager {
                 .findUserContextByUserId(userId)
                 .orElseThrow(() -> new UserNotFoundException(userId));
     }
+
+    /**
+     * 여러 사용자 ID로 사용자 컨텍스트 조회
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 사용자 컨텍스트 목록 (존재하지 않는 사용자는 제외)
+     */
+    @Transactional(readOnly = true)
+    public List<UserContextComposite> findUserContextsByUserIds(List<UserId> userIds) {
+        return userContextCompositeQueryPort.findUserContextsByUserIds(userIds);
+    }
 }
@@ -0,0 +1,37 @@
+package com.ryuqq.authhub.application.token.port.in.query;
+
+import com.ryuqq.authhub.application.token.dto.response.MyContextResponse;
+import java.util.List;
+
+/**
+ * GetUserContextsUseCase - 사용자 컨텍스트 일괄 조회 UseCase 인터페이스
+ *
+ * <p>여러 사용자의 테넌트, 조직, 역할, 권한 등 전체 컨텍스트를 한 번에 조회합니다.
+ *
+ * <p><strong>사용 시나리오:</strong>
+ *
+ * <ul>
+ *   <li>내부 서비스: 사용자 목록 화면 렌더링 시 사용자별 컨텍스트 조회
+ * </ul>
+ *
+ * <p><strong>Zero-Tolerance 규칙:</strong>
+ *
+ * <ul>
+ *   <li>Query UseCase 인터페이스
+ *   <li>Response DTO 반환
+ *   <li>Lombok 금지
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface GetUserContextsUseCase {
+
+    /**
+     * 사용자 컨텍스트 일괄 조회
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 요청 순서를 유지한 사용자 전체 컨텍스트 목록 (존재하지 않는 사용자는 제외)
+     */
+    List<MyContextResponse> execute(List<String> userIds);
+}
@@ -1,5 +1,6 @@
 package com.ryuqq.authhub.application.token.port.out.client;
 
+import com.ryuqq.authhub.application.token.dto.composite.PermissionClaimSource;
 import com.ryuqq.authhub.application.token.dto.composite.TokenClaimsComposite;
 import com.ryuqq.authhub.application.token.dto.response.TokenResponse;
 import com.ryuqq.authhub.application.userrole.dto.composite.RolesAndPermissionsComposite;
@@ -37,13 +38,20 @@ public interface TokenProviderClient {
      *   <li>org_name: 조직 이름
      *   <li>email: 사용자 이메일
      *   <li>roles: 역할 목록
-     *   <li>permissions: 권한 목록
+     *   <li>permission_hash: 권한 집합 해시
+     *   <li>permissions: 권한 목록 (압축 모드에서는 perm_bits/perm_dict, Thin Token 모드에서는 생략)
      * </ul>
      *
+     * <p>구현체는 설정된 권한 Claim 형식에 필요한 {@link PermissionClaimSource} 작업만 호출합니다. 압축 인코딩이 empty이거나
+     * 권한 집합 등록에 실패하면 권한 목록을 그대로 담습니다.
+     *
      * @param context 토큰 생성에 필요한 사용자/조직 Claim 정보
      * @param rolesAndPermissions 역할/권한 정보
+     * @param permissionClaims 권한 Claim 재료 (권한 집합, 압축 인코딩, 권한 집합 등록)
      * @return 토큰 쌍
      */
     TokenResponse generateTokenPair(
-            TokenClaimsComposite context, RolesAndPermissionsComposite rolesAndPermissions);
+            TokenClaimsComposite context,
+            RolesAndPermissionsComposite rolesAndPermissions,
+            PermissionClaimSource permissionClaims);
 }
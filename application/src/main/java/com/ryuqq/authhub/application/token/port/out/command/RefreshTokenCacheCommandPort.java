@@ -29,6 +29,20 @@ public interface RefreshTokenCacheCommandPort {
      */
     void save(UserId userId, String refreshToken, long expiresInSeconds);
 
+    /**
+     * RefreshToken 캐시 교체 (원자적)
+     *
+     * <p>이전 토큰의 양방향 매핑 삭제와 새 토큰 저장을 하나의 원자적 연산으로 수행합니다.
+     *
+     * @param userId 사용자 ID (Value Object)
+     * @param oldRefreshToken 교체 대상 RefreshToken 값
+     * @param newRefreshToken 새 RefreshToken 값
+     * @param expiresInSeconds 새 토큰 만료 시간 (초)
+     * @return 교체 성공 여부 (이전 토큰이 이미 다른 토큰으로 교체된 경우 false)
+     */
+    boolean rotate(
+            UserId userId, String oldRefreshToken, String newRefreshToken, long expiresInSeconds);
+
     /**
      * UserId로 RefreshToken 삭제
      *
@@ -28,8 +28,9 @@ public interface RefreshTokenCommandPort {
      *
      * @param userId 사용자 ID (Value Object)
      * @param refreshToken RefreshToken 문자열
+     * @param expiresInSeconds 만료 시간 (초)
      */
-    void persist(UserId userId, String refreshToken);
+    void persist(UserId userId, String refreshToken, long expiresInSeconds);
 
     /**
      * UserId로 RefreshToken 삭제
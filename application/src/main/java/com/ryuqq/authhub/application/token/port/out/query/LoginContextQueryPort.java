@@ -0,0 +1,41 @@
+package com.ryuqq.authhub.application.token.port.out.query;
+
+import com.ryuqq.authhub.application.token.dto.composite.LoginContextComposite;
+import com.ryuqq.authhub.domain.user.id.UserId;
+import com.ryuqq.authhub.domain.user.vo.Identifier;
+import java.util.Optional;
+
+/**
+ * LoginContextQueryPort - 로그인 컨텍스트 조회 Port
+ *
+ * <p>로그인/토큰 갱신에 필요한 User, Organization, Tenant 정보를 한 번에 조회합니다.
+ *
+ * <p><strong>조회 방식:</strong>
+ *
+ * <ul>
+ *   <li>User → Organization → Tenant 조인 조회
+ *   <li>단일 쿼리로 비밀번호 해시, 상태, 조직/테넌트 이름까지 조회 (DB 왕복 1회)
+ *   <li>삭제된 User/Organization/Tenant는 조회되지 않음
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface LoginContextQueryPort {
+
+    /**
+     * 로그인 식별자로 로그인 컨텍스트 조회 (조인)
+     *
+     * @param identifier 로그인 식별자
+     * @return 로그인 컨텍스트 (없으면 empty)
+     */
+    Optional<LoginContextComposite> findByIdentifier(Identifier identifier);
+
+    /**
+     * 사용자 ID로 로그인 컨텍스트 조회 (조인)
+     *
+     * @param userId 사용자 ID
+     * @return 로그인 컨텍스트 (없으면 empty)
+     */
+    Optional<LoginContextComposite> findByUserId(UserId userId);
+}
@@ -21,14 +21,6 @@ import java.util.Optional;
  */
 public interface RefreshTokenCacheQueryPort {
 
-    /**
-     * UserId로 RefreshToken 조회
-     *
-     * @param userId 사용자 ID (Value Object)
-     * @return RefreshToken 문자열 (Optional)
-     */
-    Optional<String> findByUserId(UserId userId);
-
     /**
      * RefreshToken으로 UserId 조회
      *
@@ -1,6 +1,8 @@
 package com.ryuqq.authhub.application.token.port.out.query;
 
+import com.ryuqq.authhub.application.token.dto.response.RefreshTokenOwnerResult;
 import com.ryuqq.authhub.domain.user.id.UserId;
+import java.time.Instant;
 import java.util.Optional;
 
 /**
@@ -11,7 +13,7 @@ import java.util.Optional;
  * <p><strong>Zero-Tolerance 규칙:</strong>
  *
  * <ul>
- *   <li>조회 메서드만 제공 (findByUserId, existsByUserId)
+ *   <li>조회 메서드만 제공 (existsByUserId, findOwnerByToken)
  *   <li>저장/수정/삭제 메서드 금지 (PersistencePort로 분리)
  *   <li>Value Object 파라미터 (UserId)
  *   <li>Optional 반환 (단건 조회 시 null 방지)
@@ -22,14 +24,6 @@ import java.util.Optional;
  */
 public interface RefreshTokenQueryPort {
 
-    /**
-     * UserId로 RefreshToken 조회
-     *
-     * @param userId 사용자 ID (Value Object)
-     * @return RefreshToken 문자열 (Optional)
-     */
-    Optional<String> findByUserId(UserId userId);
-
     /**
      * UserId로 RefreshToken 존재 여부 확인
      *
@@ -39,10 +33,14 @@ public interface RefreshTokenQueryPort {
     boolean existsByUserId(UserId userId);
 
     /**
-     * RefreshToken으로 UserId 조회
+     * RefreshToken으로 소유자 조회
+     *
+     * <p>기준 시각에 만료된 토큰은 조회되지 않습니다. RDB에는 토큰 원문 대신 다이제스트만 저장되므로 사용자 ID로 토큰 원문을
+     * 조회하는 메서드는 제공하지 않습니다.
      *
      * @param refreshToken RefreshToken 문자열
-     * @return UserId (Optional)
+     * @param now 만료 판단 기준 시각
+     * @return 소유자 ID와 만료 시각 (없거나 만료되었으면 empty)
      */
-    Optional<UserId> findUserIdByToken(String refreshToken);
+    Optional<RefreshTokenOwnerResult> findOwnerByToken(String refreshToken, Instant now);
 }
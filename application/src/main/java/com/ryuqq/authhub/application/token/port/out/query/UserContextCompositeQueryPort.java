@@ -2,6 +2,7 @@ package com.ryuqq.authhub.application.token.port.out.query;
 
 import com.ryuqq.authhub.application.token.dto.composite.UserContextComposite;
 import com.ryuqq.authhub.domain.user.id.UserId;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -30,4 +31,12 @@ public interface UserContextCompositeQueryPort {
      * @return 사용자 컨텍스트 (없으면 empty)
      */
     Optional<UserContextComposite> findUserContextByUserId(UserId userId);
+
+    /**
+     * 여러 사용자 ID로 사용자 컨텍스트 조회 (조인, 단일 쿼리)
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 사용자 컨텍스트 목록 (존재하지 않는 사용자는 제외, 순서 보장 안 함)
+     */
+    List<UserContextComposite> findUserContextsByUserIds(List<UserId> userIds);
 }
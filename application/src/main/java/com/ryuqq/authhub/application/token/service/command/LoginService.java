@@ -3,14 +3,13 @@ package com.ryuqq.authhub.application.token.service.command;
 import com.ryuqq.authhub.application.token.assembler.LoginResponseAssembler;
 import com.ryuqq.authhub.application.token.dto.command.LoginCommand;
 import com.ryuqq.authhub.application.token.dto.composite.TokenClaimsComposite;
+import com.ryuqq.authhub.application.token.dto.composite.TokenIssueComposite;
 import com.ryuqq.authhub.application.token.dto.response.LoginResponse;
 import com.ryuqq.authhub.application.token.dto.response.TokenResponse;
 import com.ryuqq.authhub.application.token.internal.LoginCoordinator;
 import com.ryuqq.authhub.application.token.internal.TokenCommandFacade;
 import com.ryuqq.authhub.application.token.manager.TokenProviderManager;
 import com.ryuqq.authhub.application.token.port.in.command.LoginUseCase;
-import com.ryuqq.authhub.application.userrole.dto.composite.RolesAndPermissionsComposite;
-import com.ryuqq.authhub.application.userrole.facade.UserRoleReadFacade;
 import com.ryuqq.authhub.domain.token.vo.RefreshToken;
 import org.springframework.stereotype.Service;
 
@@ -22,10 +21,9 @@ import org.springframework.stereotype.Service;
  * <p><strong>책임 분리:</strong>
  *
  * <ul>
- *   <li>조율: LoginCoordinator (User/Organization/Tenant 조회, 검증, Context 생성)
- *   <li>역할/권한 조회: UserRoleReadFacade
+ *   <li>조율: LoginCoordinator (User/Organization/Tenant 조회, 비밀번호 검증과 역할/권한 조회 동시 실행)
  *   <li>토큰 발급: TokenProviderManager
- *   <li>토큰 저장: TokenCommandFacade
+ *   <li>토큰 저장: TokenCommandFacade (RDB → Cache 순차 저장)
  *   <li>응답 조립: LoginResponseAssembler
  * </ul>
  *
@@ -36,19 +34,16 @@ import org.springframework.stereotype.Service;
 public class LoginService implements LoginUseCase {
 
     private final LoginCoordinator loginCoordinator;
-    private final UserRoleReadFacade userRoleReadFacade;
     private final TokenProviderManager tokenProviderManager;
     private final TokenCommandFacade tokenCommandFacade;
     private final LoginResponseAssembler loginResponseAssembler;
 
     public LoginService(
             LoginCoordinator loginCoordinator,
-            UserRoleReadFacade userRoleReadFacade,
             TokenProviderManager tokenProviderManager,
             TokenCommandFacade tokenCommandFacade,
             LoginResponseAssembler loginResponseAssembler) {
         this.loginCoordinator = loginCoordinator;
-        this.userRoleReadFacade = userRoleReadFacade;
         this.tokenProviderManager = tokenProviderManager;
         this.tokenCommandFacade = tokenCommandFacade;
         this.loginResponseAssembler = loginResponseAssembler;
@@ -56,13 +51,11 @@ public class LoginService implements LoginUseCase {
 
     @Override
     public LoginResponse execute(LoginCommand command) {
-        TokenClaimsComposite context = loginCoordinator.coordinate(command);
-
-        RolesAndPermissionsComposite rolesAndPermissions =
-                userRoleReadFacade.findRolesAndPermissionsByUserId(context.userId());
+        TokenIssueComposite issue = loginCoordinator.coordinate(command);
+        TokenClaimsComposite context = issue.claims();
 
         TokenResponse tokenResponse =
-                tokenProviderManager.generateTokenPair(context, rolesAndPermissions);
+                tokenProviderManager.generateTokenPair(context, issue.rolesAndPermissions());
 
         RefreshToken refreshToken =
                 RefreshToken.of(
@@ -1,5 +1,7 @@
 package com.ryuqq.authhub.application.token.service.command;
 
+import com.ryuqq.authhub.application.common.component.ConcurrentTaskScope;
+import com.ryuqq.authhub.application.common.component.ConcurrentTaskScope.Subtask;
 import com.ryuqq.authhub.application.token.dto.command.RefreshTokenCommand;
 import com.ryuqq.authhub.application.token.dto.composite.TokenClaimsComposite;
 import com.ryuqq.authhub.application.token.dto.response.TokenResponse;
@@ -9,7 +11,9 @@ import com.ryuqq.authhub.application.token.port.in.command.RefreshTokenUseCase;
 import com.ryuqq.authhub.application.token.validator.TokenValidator;
 import com.ryuqq.authhub.application.userrole.dto.composite.RolesAndPermissionsComposite;
 import com.ryuqq.authhub.application.userrole.facade.UserRoleReadFacade;
+import com.ryuqq.authhub.domain.token.exception.InvalidRefreshTokenException;
 import com.ryuqq.authhub.domain.token.vo.RefreshToken;
+import com.ryuqq.authhub.domain.user.id.UserId;
 import org.springframework.stereotype.Service;
 
 /**
@@ -20,17 +24,17 @@ import org.springframework.stereotype.Service;
  * <p><strong>처리 흐름:</strong>
  *
  * <ol>
- *   <li>Refresh Token 검증 및 TokenClaimsContext 생성 (TokenValidator)
- *   <li>기존 Refresh Token 무효화 (TokenCommandFacade)
- *   <li>역할/권한 조회 (UserRoleReadFacade)
+ *   <li>Refresh Token 검증 및 UserId 조회 (TokenValidator)
+ *   <li>TokenClaimsContext 생성(TokenValidator)과 역할/권한 조회(UserRoleReadFacade)를 동시에 실행
  *   <li>새 토큰 쌍 발급 (TokenProviderManager)
- *   <li>새 Refresh Token 저장 (TokenCommandFacade)
+ *   <li>기존 Refresh Token 폐기 + 새 Refresh Token 저장 (TokenCommandFacade, 원자적 교체)
  * </ol>
  *
  * <p><strong>주의:</strong>
  *
  * <ul>
  *   <li>토큰 갱신은 트랜잭션 외부에서 수행
+ *   <li>동일 Refresh Token으로 동시 갱신 시 한 요청만 성공 (나머지는 InvalidRefreshTokenException)
  * </ul>
  *
  * @author development-team
@@ -39,6 +43,8 @@ import org.springframework.stereotype.Service;
 @Service
 public class RefreshTokenService implements RefreshTokenUseCase {
 
+    private static final String SCOPE_NAME = "token-refresh";
+
     private final TokenValidator tokenValidator;
     private final UserRoleReadFacade userRoleReadFacade;
     private final TokenProviderManager tokenProviderManager;
@@ -59,12 +65,19 @@ public class RefreshTokenService implements RefreshTokenUseCase {
     public TokenResponse execute(RefreshTokenCommand command) {
         String refreshTokenValue = command.refreshToken();
 
-        TokenClaimsComposite context = tokenValidator.validateAndBuildContext(refreshTokenValue);
-
-        tokenCommandFacade.revokeToken(refreshTokenValue);
+        UserId userId = tokenValidator.validateAndGetUserId(refreshTokenValue);
 
-        RolesAndPermissionsComposite rolesAndPermissions =
-                userRoleReadFacade.findRolesAndPermissionsByUserId(context.userId());
+        TokenClaimsComposite context;
+        RolesAndPermissionsComposite rolesAndPermissions;
+        try (ConcurrentTaskScope scope = ConcurrentTaskScope.open(SCOPE_NAME)) {
+            Subtask<TokenClaimsComposite> claims =
+                    scope.fork(() -> tokenValidator.buildContext(userId));
+            Subtask<RolesAndPermissionsComposite> roles =
+                    scope.fork(() -> userRoleReadFacade.findRolesAndPermissionsByUserId(userId));
+            scope.join();
+            context = claims.get();
+            rolesAndPermissions = roles.get();
+        }
 
         TokenResponse tokenResponse =
                 tokenProviderManager.generateTokenPair(context, rolesAndPermissions);
@@ -75,7 +88,9 @@ public class RefreshTokenService implements RefreshTokenUseCase {
                         tokenResponse.refreshToken(),
                         tokenResponse.refreshTokenExpiresIn());
 
-        tokenCommandFacade.persistRefreshToken(refreshToken);
+        if (!tokenCommandFacade.rotateRefreshToken(refreshTokenValue, refreshToken)) {
+            throw new InvalidRefreshTokenException();
+        }
 
         return tokenResponse;
     }
@@ -0,0 +1,54 @@
+package com.ryuqq.authhub.application.token.service.query;
+
+import com.ryuqq.authhub.application.token.assembler.MyContextCompositeAssembler;
+import com.ryuqq.authhub.application.token.dto.response.MyContextResponse;
+import com.ryuqq.authhub.application.token.internal.MyContextReadFacade;
+import com.ryuqq.authhub.application.token.port.in.query.GetUserContextsUseCase;
+import com.ryuqq.authhub.domain.user.id.UserId;
+import java.util.List;
+import org.springframework.stereotype.Service;
+
+/**
+ * GetUserContextsService - 사용자 컨텍스트 일괄 조회 Service
+ *
+ * <p>GetUserContextsUseCase 구현체입니다.
+ *
+ * <p><strong>처리 흐름:</strong>
+ *
+ * <ol>
+ *   <li>MyContextReadFacade: 사용자별 Composite 데이터 일괄 조회
+ *   <li>MyContextCompositeAssembler: Composite → Response 변환
+ * </ol>
+ *
+ * <p><strong>Zero-Tolerance 규칙:</strong>
+ *
+ * <ul>
+ *   <li>UseCase 1:1 Service 구현
+ *   <li>@Transactional 금지 (ReadFacade/Manager에서 처리)
+ *   <li>Lombok 금지
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Service
+public class GetUserContextsService implements GetUserContextsUseCase {
+
+    private final MyContextReadFacade myContextReadFacade;
+    private final MyContextCompositeAssembler myContextCompositeAssembler;
+
+    public GetUserContextsService(
+            MyContextReadFacade myContextReadFacade,
+            MyContextCompositeAssembler myContextCompositeAssembler) {
+        this.myContextReadFacade = myContextReadFacade;
+        this.myContextCompositeAssembler = myContextCompositeAssembler;
+    }
+
+    @Override
+    public List<MyContextResponse> execute(List<String> userIds) {
+        List<UserId> userIdVos = userIds.stream().map(UserId::of).toList();
+        return myContextReadFacade.findMyContexts(userIdVos).stream()
+                .map(myContextCompositeAssembler::toResponse)
+                .toList();
+    }
+}
@@ -1,8 +1,12 @@
 package com.ryuqq.authhub.application.token.validator;
 
+import com.ryuqq.authhub.application.token.dto.composite.LoginContextComposite;
+import com.ryuqq.authhub.application.token.manager.query.LoginContextReadManager;
 import com.ryuqq.authhub.application.user.port.out.client.PasswordEncoderClient;
 import com.ryuqq.authhub.domain.token.exception.InvalidCredentialsException;
-import com.ryuqq.authhub.domain.user.aggregate.User;
+import com.ryuqq.authhub.domain.token.exception.PasswordHashingBusyException;
+import com.ryuqq.authhub.domain.user.exception.UserNotActiveException;
+import com.ryuqq.authhub.domain.user.vo.Identifier;
 import org.springframework.stereotype.Component;
 
 /**
@@ -13,14 +17,16 @@ import org.springframework.stereotype.Component;
  * <p><strong>검증 범위:</strong>
  *
  * <ul>
- *   <li>비밀번호 일치 여부 검증
+ *   <li>로그인 컨텍스트(User + Organization + Tenant) 조회
  *   <li>사용자 활성 상태 검증
+ *   <li>비밀번호 일치 여부 검증
  * </ul>
  *
  * <p><strong>보안 고려사항:</strong>
  *
  * <ul>
  *   <li>비밀번호 불일치 시 "사용자 없음"과 동일한 예외 사용 (정보 노출 방지)
+ *   <li>BCrypt 검증은 해싱 전용 실행 단계에서 수행 (로그인 폭주 시 429로 즉시 거절)
  * </ul>
  *
  * @author development-team
@@ -29,27 +35,53 @@ import org.springframework.stereotype.Component;
 @Component
 public class LoginValidator {
 
+    private final LoginContextReadManager loginContextReadManager;
     private final PasswordEncoderClient passwordEncoderClient;
 
-    public LoginValidator(PasswordEncoderClient passwordEncoderClient) {
+    public LoginValidator(
+            LoginContextReadManager loginContextReadManager,
+            PasswordEncoderClient passwordEncoderClient) {
+        this.loginContextReadManager = loginContextReadManager;
         this.passwordEncoderClient = passwordEncoderClient;
     }
 
+    /**
+     * 활성 사용자의 로그인 컨텍스트 조회
+     *
+     * <p>User, Organization, Tenant를 조인 쿼리 1회로 조회하고 활성 상태를 검증합니다. 사용자 또는 소속 조직/테넌트가
+     * 없으면 자격 증명 오류로 처리합니다 (정보 노출 방지).
+     *
+     * @param identifier 로그인 식별자
+     * @return 활성 사용자의 로그인 컨텍스트
+     * @throws InvalidCredentialsException 사용자가 존재하지 않는 경우
+     * @throws UserNotActiveException 사용자가 활성 상태가 아닌 경우
+     */
+    public LoginContextComposite findActiveLoginContextOrThrow(Identifier identifier) {
+        LoginContextComposite context =
+                loginContextReadManager
+                        .findByIdentifier(identifier)
+                        .orElseThrow(InvalidCredentialsException::new);
+
+        if (!context.isActive()) {
+            throw new UserNotActiveException(context.userId(), context.status());
+        }
+
+        return context;
+    }
+
     /**
      * 비밀번호 검증
      *
      * <p>보안상 비밀번호 불일치와 사용자 미존재를 구분하지 않습니다.
      *
      * @param rawPassword 입력된 평문 비밀번호
-     * @param user 검증 대상 사용자
-     * @param tenantId 테넌트 ID (예외 메시지용)
-     * @param identifier 사용자 식별자 (예외 메시지용)
+     * @param context 검증 대상 로그인 컨텍스트
      * @throws InvalidCredentialsException 비밀번호가 일치하지 않는 경우
+     * @throws PasswordHashingBusyException 비밀번호 해싱 대기열이 가득 찬 경우
      */
-    public void validatePassword(
-            String rawPassword, User user, String tenantId, String identifier) {
-        if (!passwordEncoderClient.matches(rawPassword, user.getHashedPassword())) {
-            throw new InvalidCredentialsException(tenantId, identifier);
+    public void validatePassword(String rawPassword, LoginContextComposite context) {
+        if (!passwordEncoderClient.matches(rawPassword, context.hashedPassword())) {
+            throw new InvalidCredentialsException(context.tenantId(), context.identifier());
         }
     }
 }
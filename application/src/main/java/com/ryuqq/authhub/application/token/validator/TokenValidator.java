@@ -1,15 +1,11 @@
 package com.ryuqq.authhub.application.token.validator;
 
-import com.ryuqq.authhub.application.organization.validator.OrganizationValidator;
-import com.ryuqq.authhub.application.tenant.validator.TenantValidator;
 import com.ryuqq.authhub.application.token.dto.composite.TokenClaimsComposite;
 import com.ryuqq.authhub.application.token.factory.TokenClaimsContextFactory;
 import com.ryuqq.authhub.application.token.manager.RefreshTokenReader;
-import com.ryuqq.authhub.application.user.validator.UserValidator;
-import com.ryuqq.authhub.domain.organization.aggregate.Organization;
-import com.ryuqq.authhub.domain.tenant.aggregate.Tenant;
+import com.ryuqq.authhub.application.token.manager.query.LoginContextReadManager;
 import com.ryuqq.authhub.domain.token.exception.InvalidRefreshTokenException;
-import com.ryuqq.authhub.domain.user.aggregate.User;
+import com.ryuqq.authhub.domain.user.exception.UserNotFoundException;
 import com.ryuqq.authhub.domain.user.id.UserId;
 import org.springframework.stereotype.Component;
 
@@ -22,7 +18,7 @@ import org.springframework.stereotype.Component;
  *
  * <ul>
  *   <li>Refresh Token으로 UserId 조회 및 검증
- *   <li>사용자/조직/테넌트 조회 및 검증 (Validator 위임)
+ *   <li>사용자/조직/테넌트 조인 조회 (LoginContextReadManager, 쿼리 1회)
  *   <li>TokenClaimsContext 생성 (Factory 위임)
  * </ul>
  *
@@ -30,9 +26,7 @@ import org.springframework.stereotype.Component;
  *
  * <ol>
  *   <li>Refresh Token으로 UserId 조회 (Cache → RDB fallback)
- *   <li>User 조회 및 존재 검증 (UserValidator)
- *   <li>Organization 조회 및 존재 검증 (OrganizationValidator)
- *   <li>Tenant 조회 및 존재 검증 (TenantValidator)
+ *   <li>User + Organization + Tenant 조인 조회 및 존재 검증
  *   <li>TokenClaimsContext 생성 및 반환
  * </ol>
  *
@@ -43,21 +37,15 @@ import org.springframework.stereotype.Component;
 public class TokenValidator {
 
     private final RefreshTokenReader refreshTokenReader;
-    private final UserValidator userValidator;
-    private final OrganizationValidator organizationValidator;
-    private final TenantValidator tenantValidator;
+    private final LoginContextReadManager loginContextReadManager;
     private final TokenClaimsContextFactory tokenClaimsContextFactory;
 
     public TokenValidator(
             RefreshTokenReader refreshTokenReader,
-            UserValidator userValidator,
-            OrganizationValidator organizationValidator,
-            TenantValidator tenantValidator,
+            LoginContextReadManager loginContextReadManager,
             TokenClaimsContextFactory tokenClaimsContextFactory) {
         this.refreshTokenReader = refreshTokenReader;
-        this.userValidator = userValidator;
-        this.organizationValidator = organizationValidator;
-        this.tenantValidator = tenantValidator;
+        this.loginContextReadManager = loginContextReadManager;
         this.tokenClaimsContextFactory = tokenClaimsContextFactory;
     }
 
@@ -71,16 +59,32 @@ public class TokenValidator {
      * @throws InvalidRefreshTokenException 유효하지 않은 Refresh Token인 경우
      */
     public TokenClaimsComposite validateAndBuildContext(String refreshToken) {
-        UserId userId =
-                refreshTokenReader
-                        .findUserIdByToken(refreshToken)
-                        .orElseThrow(InvalidRefreshTokenException::new);
+        return buildContext(validateAndGetUserId(refreshToken));
+    }
 
-        User user = userValidator.findExistingOrThrow(userId);
-        Organization organization =
-                organizationValidator.findExistingOrThrow(user.getOrganizationId());
-        Tenant tenant = tenantValidator.findExistingOrThrow(organization.getTenantId());
+    /**
+     * Refresh Token 검증 및 UserId 조회
+     *
+     * @param refreshToken Refresh Token 값
+     * @return Refresh Token 소유자 ID
+     * @throws InvalidRefreshTokenException 유효하지 않은 Refresh Token인 경우
+     */
+    public UserId validateAndGetUserId(String refreshToken) {
+        return refreshTokenReader
+                .findUserIdByToken(refreshToken)
+                .orElseThrow(InvalidRefreshTokenException::new);
+    }
 
-        return tokenClaimsContextFactory.create(user, tenant, organization);
+    /**
+     * 검증된 UserId로 TokenClaimsContext 생성
+     *
+     * <p>역할/권한 조회와 동시에 실행할 수 있도록 Refresh Token 검증과 분리되어 있습니다.
+     *
+     * @param userId 검증된 사용자 ID
+     * @return TokenClaimsContext 토큰 발급에 필요한 컨텍스트
+     * @throws UserNotFoundException 사용자(또는 소속 조직/테넌트)가 존재하지 않는 경우
+     */
+    public TokenClaimsComposite buildContext(UserId userId) {
+        return tokenClaimsContextFactory.create(loginContextReadManager.getByUserId(userId));
     }
 }
@@ -13,6 +13,7 @@ import com.ryuqq.authhub.domain.user.vo.HashedPassword;
  *   <li>비밀번호 평문 저장 금지
  *   <li>BCrypt 등 보안 해시 알고리즘 사용
  *   <li>솔트 자동 생성 (동일 입력 → 다른 해시값)
+ *   <li>요청 스레드가 아닌 크기가 제한된 전용 실행 단계에서 수행 (포화 시 즉시 거절)
  * </ul>
  *
  * @author development-team
@@ -25,6 +26,8 @@ public interface PasswordEncoderClient {
      *
      * @param rawPassword 평문 비밀번호
      * @return 해싱된 비밀번호 문자열
+     * @throws com.ryuqq.authhub.domain.token.exception.PasswordHashingBusyException 해싱 대기열이 가득
+     *     찬 경우
      */
     String hash(String rawPassword);
 
@@ -34,6 +37,8 @@ public interface PasswordEncoderClient {
      * @param rawPassword 평문 비밀번호
      * @param hashedPassword 해싱된 비밀번호 VO
      * @return 일치하면 true
+     * @throws com.ryuqq.authhub.domain.token.exception.PasswordHashingBusyException 해싱 대기열이 가득
+     *     찬 경우
      */
     boolean matches(String rawPassword, HashedPassword hashedPassword);
 }
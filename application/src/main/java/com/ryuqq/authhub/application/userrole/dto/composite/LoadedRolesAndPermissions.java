@@ -0,0 +1,30 @@
+package com.ryuqq.authhub.application.userrole.dto.composite;
+
+import com.ryuqq.authhub.domain.user.id.UserId;
+
+/**
+ * LoadedRolesAndPermissions - 캐시 저장 전 역할/권한 조회 결과
+ *
+ * <p>조회와 캐시 저장을 분리해야 하는 호출자(로그인)가 사용합니다. 조회 결과와 조회 직전의 캐시 조회 결과를 함께 담아, 호출자가
+ * 저장 여부를 결정한 뒤 같은 버전 조건으로 저장할 수 있게 합니다.
+ *
+ * @param userId 사용자 ID
+ * @param rolesAndPermissions 조회한 역할/권한
+ * @param lookup 조회 직전의 캐시 조회 결과 (Hit이면 저장하지 않음)
+ * @author development-team
+ * @since 1.0.0
+ */
+public record LoadedRolesAndPermissions(
+        UserId userId,
+        RolesAndPermissionsComposite rolesAndPermissions,
+        UserAuthorizationCacheLookup lookup) {
+
+    /**
+     * 캐시 저장 필요 여부
+     *
+     * @return 캐시 Miss로 DB에서 조회한 결과이면 true
+     */
+    public boolean requiresCaching() {
+        return !lookup.isHit();
+    }
+}
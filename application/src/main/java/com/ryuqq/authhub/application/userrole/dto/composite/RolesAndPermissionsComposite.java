@@ -1,20 +1,51 @@
 package com.ryuqq.authhub.application.userrole.dto.composite;
 
+import com.ryuqq.authhub.application.common.component.SortedKeyDigest;
 import java.util.Set;
 
 /**
  * RolesAndPermissionsComposite - 역할 이름과 권한 키 Composite
  *
- * <p>사용자의 역할 이름과 권한 키를 함께 담는 Composite DTO입니다.
+ * <p>사용자의 역할 이름과 권한 키, 그리고 두 집합의 SHA-256 해시를 함께 담는 Composite DTO입니다.
+ *
+ * <p>해시는 생성 시 한 번만 계산되며, 캐시에서 복원할 때는 저장된 해시를 그대로 사용합니다.
  *
  * @param roleNames 역할 이름 Set
  * @param permissionKeys 권한 키 Set
+ * @param permissionHash 역할/권한 해시 (정렬된 역할/권한의 SHA-256, hex)
  * @author development-team
  * @since 1.0.0
  */
-public record RolesAndPermissionsComposite(Set<String> roleNames, Set<String> permissionKeys) {
+public record RolesAndPermissionsComposite(
+        Set<String> roleNames, Set<String> permissionKeys, String permissionHash) {
+
+    private static final RolesAndPermissionsComposite EMPTY =
+            new RolesAndPermissionsComposite(Set.of(), Set.of());
+
+    /**
+     * 역할/권한으로 Composite 생성 (해시 계산)
+     *
+     * @param roleNames 역할 이름 Set
+     * @param permissionKeys 권한 키 Set
+     */
+    public RolesAndPermissionsComposite(Set<String> roleNames, Set<String> permissionKeys) {
+        this(roleNames, permissionKeys, hashOf(roleNames, permissionKeys));
+    }
 
     public static RolesAndPermissionsComposite empty() {
-        return new RolesAndPermissionsComposite(Set.of(), Set.of());
+        return EMPTY;
+    }
+
+    /**
+     * 역할/권한 해시 계산
+     *
+     * <p>순서에 무관하도록 정렬 후 {@code roles|permissions} 형식으로 연결하여 SHA-256 해시를 계산합니다.
+     *
+     * @param roleNames 역할 이름 Set
+     * @param permissionKeys 권한 키 Set
+     * @return SHA-256 해시 (hex)
+     */
+    public static String hashOf(Set<String> roleNames, Set<String> permissionKeys) {
+        return SortedKeyDigest.sha256Hex(roleNames, permissionKeys);
     }
 }
@@ -0,0 +1,47 @@
+package com.ryuqq.authhub.application.userrole.dto.composite;
+
+/**
+ * UserAuthorizationCacheLookup - 사용자 역할/권한 캐시 조회 결과
+ *
+ * <p>캐시 Hit 여부와 조회 시점의 권한 모델 버전, 사용자 버전을 함께 담습니다. Miss 시 DB에서 조회한 결과는 이 두 버전을 조건으로
+ * 저장합니다. 저장 시점의 버전이 조회 시점과 다르면(조회와 저장 사이에 무효화가 일어났으면) 저장소가 쓰기를 거부하므로, 무효화 이전에 읽은
+ * 역할/권한이 다시 캐시되지 않습니다.
+ *
+ * @param cached 캐시된 역할/권한 (Miss 시 null)
+ * @param version 조회 시점의 권한 모델 버전 (캐시 저장소 장애 시 {@link #UNAVAILABLE_VERSION})
+ * @param userVersion 조회 시점의 사용자 버전 (사용자 항목 무효화마다 증가)
+ * @author development-team
+ * @since 1.0.0
+ */
+public record UserAuthorizationCacheLookup(
+        RolesAndPermissionsComposite cached, long version, long userVersion) {
+
+    /** 캐시 저장소를 사용할 수 없을 때의 버전 */
+    public static final long UNAVAILABLE_VERSION = -1L;
+
+    public static UserAuthorizationCacheLookup hit(
+            RolesAndPermissionsComposite cached, long version, long userVersion) {
+        return new UserAuthorizationCacheLookup(cached, version, userVersion);
+    }
+
+    public static UserAuthorizationCacheLookup miss(long version, long userVersion) {
+        return new UserAuthorizationCacheLookup(null, version, userVersion);
+    }
+
+    public static UserAuthorizationCacheLookup unavailable() {
+        return new UserAuthorizationCacheLookup(null, UNAVAILABLE_VERSION, UNAVAILABLE_VERSION);
+    }
+
+    public boolean isHit() {
+        return cached != null;
+    }
+
+    /**
+     * 조회 결과 저장 가능 여부
+     *
+     * @return 캐시 저장소 장애가 아니면 true
+     */
+    public boolean isCacheable() {
+        return version != UNAVAILABLE_VERSION;
+    }
+}
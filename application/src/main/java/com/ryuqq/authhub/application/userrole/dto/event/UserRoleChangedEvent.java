@@ -0,0 +1,43 @@
+package com.ryuqq.authhub.application.userrole.dto.event;
+
+import com.ryuqq.authhub.domain.user.id.UserId;
+import java.util.List;
+
+/**
+ * UserRoleChangedEvent - 사용자-역할 관계 변경 이벤트
+ *
+ * <p>사용자에게 역할이 할당/해제된 후 커밋되면 발행됩니다. {@code TransactionEventRegistry}를 통해 커밋 후에만 발행되며 롤백
+ * 시에는 발행되지 않습니다.
+ *
+ * <p>해당 사용자의 역할/권한 캐시 무효화에 사용합니다.
+ *
+ * @param userIds 역할이 변경된 사용자 ID 목록 (중복 없음)
+ * @author development-team
+ * @since 1.0.0
+ */
+public record UserRoleChangedEvent(List<UserId> userIds) {
+
+    public UserRoleChangedEvent {
+        userIds = List.copyOf(userIds);
+    }
+
+    /**
+     * 이벤트 생성
+     *
+     * @param userIds 역할이 변경된 사용자 ID 목록
+     * @return UserRoleChangedEvent
+     */
+    public static UserRoleChangedEvent of(List<UserId> userIds) {
+        return new UserRoleChangedEvent(userIds.stream().distinct().toList());
+    }
+
+    /**
+     * 단일 사용자 이벤트 생성
+     *
+     * @param userId 역할이 변경된 사용자 ID
+     * @return UserRoleChangedEvent
+     */
+    public static UserRoleChangedEvent of(UserId userId) {
+        return new UserRoleChangedEvent(List.of(userId));
+    }
+}
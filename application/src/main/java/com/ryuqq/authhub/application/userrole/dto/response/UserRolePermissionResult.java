@@ -0,0 +1,24 @@
+package com.ryuqq.authhub.application.userrole.dto.response;
+
+/**
+ * UserRolePermissionResult - 사용자의 유효 역할-권한 조회 결과 DTO
+ *
+ * <p>user_roles → roles → role_permissions → permissions 조인 결과의 한 행입니다. 권한이 없는 역할도 역할 이름을
+ * 반환해야 하므로 권한은 LEFT JOIN으로 조회되며, 이 경우 permissionKey는 null입니다.
+ *
+ * @param roleName 역할 이름 (삭제되지 않은 역할만)
+ * @param permissionKey 권한 키 (삭제되지 않은 권한만, 연결된 권한이 없으면 null)
+ * @author development-team
+ * @since 1.0.0
+ */
+public record UserRolePermissionResult(String roleName, String permissionKey) {
+
+    /**
+     * 권한 키 존재 여부
+     *
+     * @return 권한 키가 있으면 true
+     */
+    public boolean hasPermission() {
+        return permissionKey != null;
+    }
+}
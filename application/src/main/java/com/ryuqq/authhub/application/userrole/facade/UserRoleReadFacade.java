@@ -1,18 +1,24 @@
 package com.ryuqq.authhub.application.userrole.facade;
 
-import com.ryuqq.authhub.application.permission.manager.PermissionReadManager;
-import com.ryuqq.authhub.application.role.manager.RoleReadManager;
 import com.ryuqq.authhub.application.rolepermission.manager.RolePermissionReadManager;
+import com.ryuqq.authhub.application.userrole.dto.composite.LoadedRolesAndPermissions;
 import com.ryuqq.authhub.application.userrole.dto.composite.RolesAndPermissionsComposite;
+import com.ryuqq.authhub.application.userrole.dto.composite.UserAuthorizationCacheLookup;
+import com.ryuqq.authhub.application.userrole.dto.response.UserRolePermissionResult;
+import com.ryuqq.authhub.application.userrole.internal.RbacCatalog;
+import com.ryuqq.authhub.application.userrole.internal.RbacCatalogHolder;
+import com.ryuqq.authhub.application.userrole.manager.UserAuthorizationCacheCommandManager;
+import com.ryuqq.authhub.application.userrole.manager.UserAuthorizationCacheQueryManager;
 import com.ryuqq.authhub.application.userrole.manager.UserRoleReadManager;
-import com.ryuqq.authhub.domain.permission.aggregate.Permission;
-import com.ryuqq.authhub.domain.permission.id.PermissionId;
-import com.ryuqq.authhub.domain.role.aggregate.Role;
 import com.ryuqq.authhub.domain.role.id.RoleId;
-import com.ryuqq.authhub.domain.rolepermission.aggregate.RolePermission;
 import com.ryuqq.authhub.domain.user.id.UserId;
 import com.ryuqq.authhub.domain.userrole.aggregate.UserRole;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
@@ -20,17 +26,29 @@ import org.springframework.stereotype.Component;
 /**
  * UserRoleReadFacade - 사용자 역할/권한 조회 Facade
  *
- * <p>사용자의 역할과 권한 정보를 조회하기 위해 여러 ReadManager를 조율합니다.
+ * <p>사용자의 역할과 권한 정보를 조회하기 위해 캐시와 ReadManager를 조율합니다.
  *
- * <p><strong>조회 흐름:</strong>
+ * <p><strong>캐시 (Cache-Aside):</strong>
+ *
+ * <ul>
+ *   <li>로그인/토큰 갱신/내 정보/Gateway 권한 조회가 모두 이 Facade를 거치므로 사용자별 결과(역할, 권한, 해시)를 캐싱합니다
+ *   <li>Miss 시 DB 조회 결과를 조회 직전에 읽은 권한 모델 버전/사용자 버전이 그대로일 때만 저장합니다 (조회 도중 무효화되면 저장 거부)
+ *   <li>무효화는 커밋 후 이벤트로 수행합니다 ({@code UserAuthorizationCacheInvalidationListener})
+ * </ul>
+ *
+ * <p><strong>캐시 Miss 시 조회 흐름:</strong>
  *
  * <ol>
- *   <li>UserRoleReadManager: userId → UserRole 목록
- *   <li>RoleReadManager: roleIds → Role 목록 (IN절)
- *   <li>RolePermissionReadManager: roleIds → RolePermission 목록 (IN절)
- *   <li>PermissionReadManager: permissionIds → Permission 목록 (IN절)
+ *   <li>RBAC 카탈로그 (권한 모델 버전이 확인된 경우): user_roles만 조회하고 역할 비트셋 OR로 권한 계산
+ *   <li>DB 단일 조인 (버전 확인 불가 또는 카탈로그에 없는 역할 보유): user_roles → roles → role_permissions →
+ *       permissions
  * </ol>
  *
+ * <p>카탈로그는 권한 모델 버전이 바뀌거나 로컬 변경 커밋 시 재구성됩니다 ({@link RbacCatalogHolder}).
+ *
+ * <p><strong>다건 조회:</strong> 캐시는 MGET 1회, Miss 사용자는 위 흐름을 사용자 ID IN 조건 쿼리로 한 번에 수행하므로 조회
+ * 사용자 수와 무관하게 왕복 횟수가 일정합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -38,68 +56,198 @@ import org.springframework.stereotype.Component;
 public class UserRoleReadFacade {
 
     private final UserRoleReadManager userRoleReadManager;
-    private final RoleReadManager roleReadManager;
     private final RolePermissionReadManager rolePermissionReadManager;
-    private final PermissionReadManager permissionReadManager;
+    private final RbacCatalogHolder catalogHolder;
+    private final UserAuthorizationCacheQueryManager cacheQueryManager;
+    private final UserAuthorizationCacheCommandManager cacheCommandManager;
 
     public UserRoleReadFacade(
             UserRoleReadManager userRoleReadManager,
-            RoleReadManager roleReadManager,
             RolePermissionReadManager rolePermissionReadManager,
-            PermissionReadManager permissionReadManager) {
+            RbacCatalogHolder catalogHolder,
+            UserAuthorizationCacheQueryManager cacheQueryManager,
+            UserAuthorizationCacheCommandManager cacheCommandManager) {
         this.userRoleReadManager = userRoleReadManager;
-        this.roleReadManager = roleReadManager;
         this.rolePermissionReadManager = rolePermissionReadManager;
-        this.permissionReadManager = permissionReadManager;
+        this.catalogHolder = catalogHolder;
+        this.cacheQueryManager = cacheQueryManager;
+        this.cacheCommandManager = cacheCommandManager;
     }
 
     /**
      * 사용자 ID로 역할 이름과 권한 키 조회
      *
-     * <p>모든 조회를 IN절로 처리하여 N+1 문제를 방지합니다.
+     * <p>캐시에 현재 버전의 결과가 있으면 DB를 조회하지 않습니다. Miss 시 RBAC 카탈로그로 계산하고, 카탈로그를 사용할 수 없으면 단일 조인 쿼리로 조회합니다.
      *
      * @param userId 사용자 ID
      * @return 역할 이름과 권한 키를 담은 Composite
      */
     public RolesAndPermissionsComposite findRolesAndPermissionsByUserId(UserId userId) {
-        List<UserRole> userRoles = userRoleReadManager.findAllByUserId(userId);
+        return cacheLoaded(loadRolesAndPermissionsByUserId(userId));
+    }
 
-        if (userRoles.isEmpty()) {
-            return RolesAndPermissionsComposite.empty();
+    /**
+     * 사용자 ID로 역할 이름과 권한 키 조회 (캐시 저장 없음)
+     *
+     * <p>{@link #findRolesAndPermissionsByUserId(UserId)}와 같은 흐름으로 조회하되, Miss 결과를 캐시에 저장하지 않습니다.
+     * 조회 결과를 사용할지 나중에 결정하는 호출자(비밀번호 검증과 동시에 조회하는 로그인)가 사용하며, 사용하기로 한 경우에만
+     * {@link #cacheLoaded(LoadedRolesAndPermissions)}로 저장합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 조회 결과와 조회 직전의 캐시 조회 결과
+     */
+    public LoadedRolesAndPermissions loadRolesAndPermissionsByUserId(UserId userId) {
+        UserAuthorizationCacheLookup lookup = cacheQueryManager.lookup(userId);
+        if (lookup.isHit()) {
+            return new LoadedRolesAndPermissions(userId, lookup.cached(), lookup);
         }
 
-        List<RoleId> roleIds = userRoles.stream().map(UserRole::getRoleId).toList();
+        RolesAndPermissionsComposite loaded =
+                lookup.isCacheable()
+                        ? resolveFromCatalog(userId, lookup.version())
+                                .orElseGet(() -> loadRolesAndPermissions(userId))
+                        : loadRolesAndPermissions(userId);
+        return new LoadedRolesAndPermissions(userId, loaded, lookup);
+    }
 
-        Set<String> roleNames = findRoleNames(roleIds);
-        Set<String> permissionKeys = findPermissionKeys(roleIds);
+    /**
+     * 캐시 저장 없이 조회한 역할/권한을 캐시에 저장
+     *
+     * <p>캐시 Hit 결과는 저장하지 않습니다. 조회 이후 무효화가 있었다면 저장소가 저장을 거부합니다.
+     *
+     * @param loaded {@link #loadRolesAndPermissionsByUserId(UserId)} 결과
+     * @return 역할 이름과 권한 키를 담은 Composite
+     */
+    public RolesAndPermissionsComposite cacheLoaded(LoadedRolesAndPermissions loaded) {
+        if (loaded.requiresCaching()) {
+            cacheCommandManager.saveIfCacheable(
+                    loaded.userId(), loaded.rolesAndPermissions(), loaded.lookup());
+        }
+        return loaded.rolesAndPermissions();
+    }
 
-        return new RolesAndPermissionsComposite(roleNames, permissionKeys);
+    /**
+     * 여러 사용자 ID로 역할 이름과 권한 키 조회
+     *
+     * <p>캐시를 한 번에 조회하고, Miss 사용자만 카탈로그 또는 단일 조인 쿼리로 한 번에 계산합니다. 중복된 ID는 한 번만 조회합니다.
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 요청 순서를 유지한 사용자별 Composite (역할이 없는 사용자는 빈 Composite)
+     */
+    public Map<UserId, RolesAndPermissionsComposite> findRolesAndPermissionsByUserIds(
+            List<UserId> userIds) {
+        List<UserId> distinctIds = userIds.stream().distinct().toList();
+        if (distinctIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<UserId, UserAuthorizationCacheLookup> lookups =
+                cacheQueryManager.lookupAll(distinctIds);
+        Map<UserId, RolesAndPermissionsComposite> cached = new LinkedHashMap<>();
+        List<UserId> misses = new ArrayList<>();
+        for (UserId userId : distinctIds) {
+            UserAuthorizationCacheLookup lookup = lookups.get(userId);
+            if (lookup != null && lookup.isHit()) {
+                cached.put(userId, lookup.cached());
+            } else {
+                misses.add(userId);
+            }
+        }
+        if (misses.isEmpty()) {
+            return cached;
+        }
+
+        UserAuthorizationCacheLookup missLookup =
+                lookups.getOrDefault(misses.get(0), UserAuthorizationCacheLookup.unavailable());
+        Map<UserId, RolesAndPermissionsComposite> loaded =
+                missLookup.isCacheable()
+                        ? resolveAllFromCatalog(misses, missLookup.version())
+                        : loadRolesAndPermissions(misses);
+        cacheCommandManager.saveAllIfCacheable(loaded, lookups);
+
+        Map<UserId, RolesAndPermissionsComposite> results = new LinkedHashMap<>();
+        for (UserId userId : distinctIds) {
+            RolesAndPermissionsComposite composite = cached.get(userId);
+            results.put(userId, composite != null ? composite : loaded.get(userId));
+        }
+        return results;
     }
 
-    private Set<String> findRoleNames(List<RoleId> roleIds) {
-        List<Role> roles = roleReadManager.findAllByIds(roleIds);
+    private Optional<RolesAndPermissionsComposite> resolveFromCatalog(UserId userId, long version) {
+        RbacCatalog catalog = catalogOf(version);
+        List<RoleId> roleIds =
+                userRoleReadManager.findAllByUserId(userId).stream()
+                        .map(UserRole::getRoleId)
+                        .toList();
+        return catalog.resolve(roleIds);
+    }
 
-        return roles.stream()
-                .filter(Role::isActive)
-                .map(Role::nameValue)
-                .collect(Collectors.toSet());
+    private Map<UserId, RolesAndPermissionsComposite> resolveAllFromCatalog(
+            List<UserId> userIds, long version) {
+        RbacCatalog catalog = catalogOf(version);
+        Map<UserId, List<RoleId>> roleIdsByUser =
+                userRoleReadManager.findAllByUserIds(userIds).stream()
+                        .collect(
+                                Collectors.groupingBy(
+                                        UserRole::getUserId,
+                                        Collectors.mapping(
+                                                UserRole::getRoleId, Collectors.toList())));
+
+        Map<UserId, RolesAndPermissionsComposite> resolved = new LinkedHashMap<>();
+        List<UserId> unresolved = new ArrayList<>();
+        for (UserId userId : userIds) {
+            Optional<RolesAndPermissionsComposite> composite =
+                    catalog.resolve(roleIdsByUser.getOrDefault(userId, List.of()));
+            if (composite.isPresent()) {
+                resolved.put(userId, composite.get());
+            } else {
+                unresolved.add(userId);
+            }
+        }
+        if (!unresolved.isEmpty()) {
+            resolved.putAll(loadRolesAndPermissions(unresolved));
+        }
+        return resolved;
+    }
+
+    private RbacCatalog catalogOf(long version) {
+        return catalogHolder.getOrLoad(
+                version,
+                () ->
+                        RbacCatalog.of(
+                                version, rolePermissionReadManager.findAllActiveCatalogEntries()));
     }
 
-    private Set<String> findPermissionKeys(List<RoleId> roleIds) {
-        List<RolePermission> rolePermissions = rolePermissionReadManager.findAllByRoleIds(roleIds);
+    private Map<UserId, RolesAndPermissionsComposite> loadRolesAndPermissions(
+            List<UserId> userIds) {
+        Map<UserId, List<UserRolePermissionResult>> rowsByUser =
+                userRoleReadManager.findRolePermissionsByUserIds(userIds);
 
-        if (rolePermissions.isEmpty()) {
-            return Set.of();
+        Map<UserId, RolesAndPermissionsComposite> loaded = new LinkedHashMap<>();
+        for (UserId userId : userIds) {
+            loaded.put(userId, toComposite(rowsByUser.getOrDefault(userId, List.of())));
         }
+        return loaded;
+    }
+
+    private RolesAndPermissionsComposite loadRolesAndPermissions(UserId userId) {
+        return toComposite(userRoleReadManager.findRolePermissionsByUserId(userId));
+    }
 
-        List<PermissionId> permissionIds =
-                rolePermissions.stream().map(RolePermission::getPermissionId).distinct().toList();
+    private RolesAndPermissionsComposite toComposite(List<UserRolePermissionResult> rows) {
+        if (rows.isEmpty()) {
+            return RolesAndPermissionsComposite.empty();
+        }
 
-        List<Permission> permissions = permissionReadManager.findAllByIds(permissionIds);
+        Set<String> roleNames = new HashSet<>();
+        Set<String> permissionKeys = new HashSet<>();
+        for (UserRolePermissionResult row : rows) {
+            roleNames.add(row.roleName());
+            if (row.hasPermission()) {
+                permissionKeys.add(row.permissionKey());
+            }
+        }
 
-        return permissions.stream()
-                .filter(Permission::isActive)
-                .map(Permission::permissionKeyValue)
-                .collect(Collectors.toSet());
+        return new RolesAndPermissionsComposite(roleNames, permissionKeys);
     }
 }
@@ -0,0 +1,160 @@
+package com.ryuqq.authhub.application.userrole.internal;
+
+import com.ryuqq.authhub.application.rolepermission.dto.response.RbacCatalogEntryResult;
+import com.ryuqq.authhub.application.userrole.dto.composite.RolesAndPermissionsComposite;
+import com.ryuqq.authhub.domain.role.id.RoleId;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * RbacCatalog - 인메모리 RBAC 카탈로그 (불변 스냅샷)
+ *
+ * <p>전체 활성 역할과 권한을 메모리에 적재하고, 각 권한에 조밀한 정수 인덱스를 부여하여 역할별 권한 집합을 {@code long[]}
+ * 비트셋으로 보관합니다. 사용자의 유효 권한은 보유 역할 비트셋의 OR 연산으로 계산되므로 사용자별로는 user_roles 조회만
+ * 필요합니다.
+ *
+ * <p><strong>구조:</strong>
+ *
+ * <ul>
+ *   <li>permissionKeys: 인덱스 → 권한 키 (정렬된 순서로 인덱스 부여)
+ *   <li>roles: roleId → (역할 이름, 권한 비트셋)
+ *   <li>version: 적재 시점의 권한 모델 버전
+ * </ul>
+ *
+ * <p>생성 이후 불변이므로 스레드 안전합니다. 갱신은 {@link RbacCatalogHolder}에서 스냅샷 교체 방식으로 수행합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public final class RbacCatalog {
+
+    private static final int WORD_SHIFT = 6;
+
+    private final long version;
+    private final String[] permissionKeys;
+    private final Map<Long, RoleEntry> roles;
+
+    private RbacCatalog(long version, String[] permissionKeys, Map<Long, RoleEntry> roles) {
+        this.version = version;
+        this.permissionKeys = permissionKeys;
+        this.roles = roles;
+    }
+
+    /**
+     * 역할-권한 목록으로 카탈로그 구성
+     *
+     * @param version 적재 시점의 권한 모델 버전
+     * @param entries (역할 ID, 역할 이름, 권한 키) 목록 (권한이 없는 역할은 permissionKey null)
+     * @return 구성된 RbacCatalog
+     */
+    public static RbacCatalog of(long version, List<RbacCatalogEntryResult> entries) {
+        String[] permissionKeys =
+                entries.stream()
+                        .map(RbacCatalogEntryResult::permissionKey)
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .sorted()
+                        .toArray(String[]::new);
+        Map<String, Integer> indexByKey = new HashMap<>(permissionKeys.length * 2);
+        for (int i = 0; i < permissionKeys.length; i++) {
+            indexByKey.put(permissionKeys[i], i);
+        }
+
+        int wordCount = wordCount(permissionKeys.length);
+        Map<Long, String> roleNames = new HashMap<>();
+        Map<Long, long[]> roleBits = new HashMap<>();
+        for (RbacCatalogEntryResult entry : entries) {
+            roleNames.putIfAbsent(entry.roleId(), entry.roleName());
+            long[] bits = roleBits.computeIfAbsent(entry.roleId(), key -> new long[wordCount]);
+            if (entry.permissionKey() != null) {
+                int index = indexByKey.get(entry.permissionKey());
+                bits[index >>> WORD_SHIFT] |= 1L << index;
+            }
+        }
+
+        Map<Long, RoleEntry> roles = new HashMap<>(roleNames.size() * 2);
+        for (Map.Entry<Long, String> role : roleNames.entrySet()) {
+            roles.put(role.getKey(), new RoleEntry(role.getValue(), roleBits.get(role.getKey())));
+        }
+        return new RbacCatalog(version, permissionKeys, Map.copyOf(roles));
+    }
+
+    /**
+     * 역할 ID 목록의 유효 역할 이름/권한 키 계산
+     *
+     * <p>카탈로그에 없는 역할이 하나라도 있으면 (삭제된 역할 또는 적재 이후 생성된 역할) 결과를 신뢰할 수 없으므로 empty를
+     * 반환합니다. 호출자는 DB 조회로 대체해야 합니다.
+     *
+     * @param roleIds 사용자의 역할 ID 목록
+     * @return 역할 이름과 권한 키를 담은 Composite (카탈로그에 없는 역할이 있으면 empty)
+     */
+    public Optional<RolesAndPermissionsComposite> resolve(Collection<RoleId> roleIds) {
+        if (roleIds.isEmpty()) {
+            return Optional.of(RolesAndPermissionsComposite.empty());
+        }
+
+        long[] merged = new long[wordCount(permissionKeys.length)];
+        Set<String> roleNames = new HashSet<>(roleIds.size() * 2);
+        for (RoleId roleId : roleIds) {
+            RoleEntry role = roles.get(roleId.value());
+            if (role == null) {
+                return Optional.empty();
+            }
+            roleNames.add(role.name());
+            long[] bits = role.permissionBits();
+            for (int word = 0; word < merged.length; word++) {
+                merged[word] |= bits[word];
+            }
+        }
+
+        Set<String> resolvedKeys = new HashSet<>();
+        for (int word = 0; word < merged.length; word++) {
+            long remaining = merged[word];
+            while (remaining != 0) {
+                int bit = Long.numberOfTrailingZeros(remaining);
+                resolvedKeys.add(permissionKeys[(word << WORD_SHIFT) + bit]);
+                remaining &= remaining - 1;
+            }
+        }
+        return Optional.of(new RolesAndPermissionsComposite(roleNames, resolvedKeys));
+    }
+
+    /**
+     * 적재 시점의 권한 모델 버전
+     *
+     * @return 버전
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * 적재된 역할 수
+     *
+     * @return 역할 수
+     */
+    public int roleCount() {
+        return roles.size();
+    }
+
+    /**
+     * 적재된 권한 수 (비트셋 인덱스 크기)
+     *
+     * @return 권한 수
+     */
+    public int permissionCount() {
+        return permissionKeys.length;
+    }
+
+    private static int wordCount(int bitCount) {
+        return (bitCount + Long.SIZE - 1) >>> WORD_SHIFT;
+    }
+
+    private record RoleEntry(String name, long[] permissionBits) {}
+}
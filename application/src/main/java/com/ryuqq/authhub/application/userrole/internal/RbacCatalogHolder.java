@@ -0,0 +1,47 @@
+package com.ryuqq.authhub.application.userrole.internal;
+
+import com.ryuqq.authhub.application.common.component.VersionedSnapshotHolder;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * RbacCatalogHolder - 인메모리 RBAC 카탈로그 보관소
+ *
+ * <p>불변 {@link RbacCatalog}를 프로세스 내에 보관하여 권한 모델이 변경되지 않은 동안 역할/권한 조회를 생략합니다.
+ *
+ * <p><strong>갱신 정책:</strong>
+ *
+ * <ul>
+ *   <li>요청된 버전(Redis 권한 모델 버전)과 카탈로그 버전이 같으면 재사용 - 다중 인스턴스 환경에서도 다른 인스턴스의 변경을
+ *       감지
+ *   <li>로컬 변경 커밋 시 {@link #invalidate()}로 즉시 폐기
+ *   <li>재구성은 단일 스레드만 수행 (single-flight), 대기하던 요청은 재구성된 카탈로그를 재사용
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class RbacCatalogHolder {
+
+    private final VersionedSnapshotHolder<RbacCatalog, Long> holder =
+            new VersionedSnapshotHolder<>(RbacCatalog::version);
+
+    /**
+     * 버전에 해당하는 카탈로그 조회 (없으면 로드)
+     *
+     * <p>로드 중 {@link #invalidate()}가 호출되면 로드 결과는 반환하되 카탈로그로 보관하지 않습니다.
+     *
+     * @param version 현재 권한 모델 버전
+     * @param loader 카탈로그가 없거나 버전이 다를 때 호출되는 로더
+     * @return 버전에 해당하는 카탈로그
+     */
+    public RbacCatalog getOrLoad(long version, Supplier<RbacCatalog> loader) {
+        return holder.getOrLoad(version, loader);
+    }
+
+    /** 카탈로그 폐기 (다음 조회 시 재구성) */
+    public void invalidate() {
+        holder.invalidate();
+    }
+}
@@ -0,0 +1,95 @@
+package com.ryuqq.authhub.application.userrole.listener;
+
+import com.ryuqq.authhub.application.permission.dto.event.PermissionChangedEvent;
+import com.ryuqq.authhub.application.role.dto.event.RoleChangedEvent;
+import com.ryuqq.authhub.application.rolepermission.dto.event.RolePermissionChangedEvent;
+import com.ryuqq.authhub.application.userrole.dto.event.UserRoleChangedEvent;
+import com.ryuqq.authhub.application.userrole.internal.RbacCatalogHolder;
+import com.ryuqq.authhub.application.userrole.manager.UserAuthorizationCacheCommandManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * UserAuthorizationCacheInvalidationListener - 사용자 역할/권한 캐시 무효화 리스너
+ *
+ * <p>권한 모델 변경이 커밋된 후 사용자 역할/권한 캐시와 로컬 RBAC 카탈로그를 무효화합니다.
+ *
+ * <p><strong>무효화 범위:</strong>
+ *
+ * <ul>
+ *   <li>{@link UserRoleChangedEvent}: 해당 사용자의 버전을 증가시키고 항목 삭제 (진행 중이던 조회의 저장도 거부됨)
+ *   <li>{@link RoleChangedEvent}, {@link RolePermissionChangedEvent}, {@link
+ *       PermissionChangedEvent}: 영향받는 사용자가 많을 수 있으므로 권한 모델 버전을 증가시켜 전체 무효화하고 로컬 RBAC 카탈로그 폐기 (다른
+ *       인스턴스는 증가된 버전으로 카탈로그를 재구성)
+ * </ul>
+ *
+ * <p>커밋 후 콜백에서 호출되므로 DB 조회를 수행하지 않습니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class UserAuthorizationCacheInvalidationListener {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(UserAuthorizationCacheInvalidationListener.class);
+
+    private final UserAuthorizationCacheCommandManager cacheCommandManager;
+    private final RbacCatalogHolder catalogHolder;
+
+    public UserAuthorizationCacheInvalidationListener(
+            UserAuthorizationCacheCommandManager cacheCommandManager,
+            RbacCatalogHolder catalogHolder) {
+        this.cacheCommandManager = cacheCommandManager;
+        this.catalogHolder = catalogHolder;
+    }
+
+    /**
+     * 사용자-역할 변경 이벤트 처리
+     *
+     * @param event 사용자-역할 변경 이벤트
+     */
+    @EventListener
+    public void handle(UserRoleChangedEvent event) {
+        log.debug("사용자-역할 변경, 사용자 권한 캐시 삭제: userCount={}", event.userIds().size());
+        cacheCommandManager.evict(event.userIds());
+    }
+
+    /**
+     * 역할 변경 이벤트 처리
+     *
+     * @param event 역할 변경 이벤트
+     */
+    @EventListener
+    public void handle(RoleChangedEvent event) {
+        log.debug("역할 변경, 사용자 권한 캐시 전체 무효화: roleId={}", event.roleId());
+        catalogHolder.invalidate();
+        cacheCommandManager.invalidateAll();
+    }
+
+    /**
+     * 역할-권한 변경 이벤트 처리
+     *
+     * @param event 역할-권한 변경 이벤트
+     */
+    @EventListener
+    public void handle(RolePermissionChangedEvent event) {
+        log.debug("역할-권한 변경, 사용자 권한 캐시 전체 무효화: roleIds={}", event.roleIds());
+        catalogHolder.invalidate();
+        cacheCommandManager.invalidateAll();
+    }
+
+    /**
+     * 권한 변경 이벤트 처리
+     *
+     * @param event 권한 변경 이벤트
+     */
+    @EventListener
+    public void handle(PermissionChangedEvent event) {
+        log.debug("권한 변경, 사용자 권한 캐시 전체 무효화: changedCount={}", event.changedCount());
+        catalogHolder.invalidate();
+        cacheCommandManager.invalidateAll();
+    }
+}
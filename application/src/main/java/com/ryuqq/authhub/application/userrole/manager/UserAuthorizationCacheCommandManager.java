@@ -0,0 +1,92 @@
+package com.ryuqq.authhub.application.userrole.manager;
+
+import com.ryuqq.authhub.application.userrole.dto.composite.RolesAndPermissionsComposite;
+import com.ryuqq.authhub.application.userrole.dto.composite.UserAuthorizationCacheLookup;
+import com.ryuqq.authhub.application.userrole.port.out.command.UserAuthorizationCacheCommandPort;
+import com.ryuqq.authhub.domain.user.id.UserId;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * UserAuthorizationCacheCommandManager - 사용자 역할/권한 캐시 Command 관리자
+ *
+ * <p>사용자 역할/권한 캐시(Redis) 저장/무효화를 담당하는 Manager
+ *
+ * <p>Redis 작업은 트랜잭션 없이 수행 (외부 시스템)
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class UserAuthorizationCacheCommandManager {
+
+    private final UserAuthorizationCacheCommandPort cacheCommandPort;
+
+    public UserAuthorizationCacheCommandManager(
+            UserAuthorizationCacheCommandPort cacheCommandPort) {
+        this.cacheCommandPort = cacheCommandPort;
+    }
+
+    /**
+     * 캐시 Miss 후 조회한 역할/권한 저장
+     *
+     * <p>캐시 저장소를 사용할 수 없던 조회였다면 저장하지 않습니다. 조회 이후 무효화가 있었다면 저장소가 저장을 거부합니다.
+     *
+     * @param userId 사용자 ID (Value Object)
+     * @param rolesAndPermissions DB에서 조회한 역할/권한
+     * @param lookup 조회 직전의 캐시 조회 결과 (권한 모델 버전, 사용자 버전)
+     */
+    public void saveIfCacheable(
+            UserId userId,
+            RolesAndPermissionsComposite rolesAndPermissions,
+            UserAuthorizationCacheLookup lookup) {
+        if (!lookup.isCacheable()) {
+            return;
+        }
+        cacheCommandPort.save(userId, rolesAndPermissions, lookup);
+    }
+
+    /**
+     * 캐시 Miss 후 조회한 여러 사용자의 역할/권한 저장
+     *
+     * <p>캐시 저장소를 사용할 수 없던 조회의 사용자는 저장하지 않습니다. 조회 이후 무효화된 사용자는 저장소가 저장을 거부합니다.
+     *
+     * @param rolesAndPermissionsByUser 사용자별 DB 조회 역할/권한
+     * @param lookups 사용자별 조회 직전의 캐시 조회 결과 (권한 모델 버전, 사용자 버전)
+     */
+    public void saveAllIfCacheable(
+            Map<UserId, RolesAndPermissionsComposite> rolesAndPermissionsByUser,
+            Map<UserId, UserAuthorizationCacheLookup> lookups) {
+        Map<UserId, RolesAndPermissionsComposite> cacheable = new LinkedHashMap<>();
+        rolesAndPermissionsByUser.forEach(
+                (userId, rolesAndPermissions) -> {
+                    UserAuthorizationCacheLookup lookup = lookups.get(userId);
+                    if (lookup != null && lookup.isCacheable()) {
+                        cacheable.put(userId, rolesAndPermissions);
+                    }
+                });
+        if (cacheable.isEmpty()) {
+            return;
+        }
+        cacheCommandPort.saveAll(cacheable, lookups);
+    }
+
+    /**
+     * 사용자 역할/권한 캐시 삭제
+     *
+     * @param userIds 사용자 ID 목록
+     */
+    public void evict(Collection<UserId> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return;
+        }
+        cacheCommandPort.evict(userIds);
+    }
+
+    /** 모든 사용자 역할/권한 캐시 무효화 */
+    public void invalidateAll() {
+        cacheCommandPort.invalidateAll();
+    }
+}
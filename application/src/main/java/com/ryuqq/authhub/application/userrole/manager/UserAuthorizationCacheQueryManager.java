@@ -0,0 +1,48 @@
+package com.ryuqq.authhub.application.userrole.manager;
+
+import com.ryuqq.authhub.application.userrole.dto.composite.UserAuthorizationCacheLookup;
+import com.ryuqq.authhub.application.userrole.port.out.query.UserAuthorizationCacheQueryPort;
+import com.ryuqq.authhub.domain.user.id.UserId;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * UserAuthorizationCacheQueryManager - 사용자 역할/권한 캐시 Query 관리자
+ *
+ * <p>사용자 역할/권한 캐시(Redis) 조회를 담당하는 Manager
+ *
+ * <p>Redis 작업은 트랜잭션 없이 수행 (외부 시스템)
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class UserAuthorizationCacheQueryManager {
+
+    private final UserAuthorizationCacheQueryPort cacheQueryPort;
+
+    public UserAuthorizationCacheQueryManager(UserAuthorizationCacheQueryPort cacheQueryPort) {
+        this.cacheQueryPort = cacheQueryPort;
+    }
+
+    /**
+     * 사용자 역할/권한 캐시 조회
+     *
+     * @param userId 사용자 ID (Value Object)
+     * @return 캐시 조회 결과
+     */
+    public UserAuthorizationCacheLookup lookup(UserId userId) {
+        return cacheQueryPort.lookup(userId);
+    }
+
+    /**
+     * 여러 사용자 역할/권한 캐시 조회
+     *
+     * @param userIds 사용자 ID 목록 (Value Object)
+     * @return 사용자별 캐시 조회 결과
+     */
+    public Map<UserId, UserAuthorizationCacheLookup> lookupAll(List<UserId> userIds) {
+        return cacheQueryPort.lookupAll(userIds);
+    }
+}
@@ -1,5 +1,7 @@
 package com.ryuqq.authhub.application.userrole.manager;
 
+import com.ryuqq.authhub.application.common.component.TransactionEventRegistry;
+import com.ryuqq.authhub.application.userrole.dto.event.UserRoleChangedEvent;
 import com.ryuqq.authhub.application.userrole.port.out.command.UserRoleCommandPort;
 import com.ryuqq.authhub.domain.role.id.RoleId;
 import com.ryuqq.authhub.domain.user.id.UserId;
@@ -18,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
  * <ul>
  *   <li>Command 트랜잭션 관리 (@Transactional)
  *   <li>PersistencePort 위임
+ *   <li>커밋 후 {@link UserRoleChangedEvent} 발행 등록
  * </ul>
  *
  * @author development-team
@@ -27,9 +30,13 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserRoleCommandManager {
 
     private final UserRoleCommandPort persistencePort;
+    private final TransactionEventRegistry transactionEventRegistry;
 
-    public UserRoleCommandManager(UserRoleCommandPort persistencePort) {
+    public UserRoleCommandManager(
+            UserRoleCommandPort persistencePort,
+            TransactionEventRegistry transactionEventRegistry) {
         this.persistencePort = persistencePort;
+        this.transactionEventRegistry = transactionEventRegistry;
     }
 
     /**
@@ -40,7 +47,10 @@ public class UserRoleCommandManager {
      */
     @Transactional
     public UserRole persist(UserRole userRole) {
-        return persistencePort.persist(userRole);
+        UserRole persisted = persistencePort.persist(userRole);
+        transactionEventRegistry.registerObjectForPublish(
+                UserRoleChangedEvent.of(userRole.getUserId()));
+        return persisted;
     }
 
     /**
@@ -51,7 +61,12 @@ public class UserRoleCommandManager {
      */
     @Transactional
     public List<UserRole> persistAll(List<UserRole> userRoles) {
-        return persistencePort.persistAll(userRoles);
+        List<UserRole> persisted = persistencePort.persistAll(userRoles);
+        if (!userRoles.isEmpty()) {
+            transactionEventRegistry.registerObjectForPublish(
+                    UserRoleChangedEvent.of(userRoles.stream().map(UserRole::getUserId).toList()));
+        }
+        return persisted;
     }
 
     /**
@@ -63,6 +78,7 @@ public class UserRoleCommandManager {
     @Transactional
     public void delete(UserId userId, RoleId roleId) {
         persistencePort.delete(userId, roleId);
+        transactionEventRegistry.registerObjectForPublish(UserRoleChangedEvent.of(userId));
     }
 
     /**
@@ -73,6 +89,7 @@ public class UserRoleCommandManager {
     @Transactional
     public void deleteAllByUserId(UserId userId) {
         persistencePort.deleteAllByUserId(userId);
+        transactionEventRegistry.registerObjectForPublish(UserRoleChangedEvent.of(userId));
     }
 
     /**
@@ -84,5 +101,6 @@ public class UserRoleCommandManager {
     @Transactional
     public void deleteAll(UserId userId, List<RoleId> roleIds) {
         persistencePort.deleteAll(userId, roleIds);
+        transactionEventRegistry.registerObjectForPublish(UserRoleChangedEvent.of(userId));
     }
 }
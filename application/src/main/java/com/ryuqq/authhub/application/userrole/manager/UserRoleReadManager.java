@@ -1,11 +1,14 @@
 package com.ryuqq.authhub.application.userrole.manager;
 
+import com.ryuqq.authhub.application.userrole.dto.response.UserRolePermissionResult;
+import com.ryuqq.authhub.application.userrole.port.out.query.UserRolePermissionQueryPort;
 import com.ryuqq.authhub.application.userrole.port.out.query.UserRoleQueryPort;
 import com.ryuqq.authhub.domain.role.id.RoleId;
 import com.ryuqq.authhub.domain.user.id.UserId;
 import com.ryuqq.authhub.domain.userrole.aggregate.UserRole;
 import com.ryuqq.authhub.domain.userrole.query.criteria.UserRoleSearchCriteria;
 import java.util.List;
+import java.util.Map;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,9 +31,12 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserRoleReadManager {
 
     private final UserRoleQueryPort queryPort;
+    private final UserRolePermissionQueryPort rolePermissionQueryPort;
 
-    public UserRoleReadManager(UserRoleQueryPort queryPort) {
+    public UserRoleReadManager(
+            UserRoleQueryPort queryPort, UserRolePermissionQueryPort rolePermissionQueryPort) {
         this.queryPort = queryPort;
+        this.rolePermissionQueryPort = rolePermissionQueryPort;
     }
 
     /**
@@ -56,6 +62,40 @@ public class UserRoleReadManager {
         return queryPort.findAllByUserId(userId);
     }
 
+    /**
+     * 여러 사용자의 역할 목록 조회 (IN 절 단일 쿼리)
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 사용자-역할 관계 목록
+     */
+    @Transactional(readOnly = true)
+    public List<UserRole> findAllByUserIds(List<UserId> userIds) {
+        return queryPort.findAllByUserIds(userIds);
+    }
+
+    /**
+     * 사용자의 유효 역할-권한 목록 조회 (단일 조인 쿼리)
+     *
+     * @param userId 사용자 ID
+     * @return (역할 이름, 권한 키) 목록
+     */
+    @Transactional(readOnly = true)
+    public List<UserRolePermissionResult> findRolePermissionsByUserId(UserId userId) {
+        return rolePermissionQueryPort.findAllByUserId(userId);
+    }
+
+    /**
+     * 여러 사용자의 유효 역할-권한 목록 조회 (IN 절 단일 조인 쿼리)
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 사용자별 (역할 이름, 권한 키) 목록 (역할이 없는 사용자는 포함되지 않음)
+     */
+    @Transactional(readOnly = true)
+    public Map<UserId, List<UserRolePermissionResult>> findRolePermissionsByUserIds(
+            List<UserId> userIds) {
+        return rolePermissionQueryPort.findAllByUserIds(userIds);
+    }
+
     /**
      * 역할이 어떤 사용자에게라도 할당되어 있는지 확인
      *
@@ -1,6 +1,7 @@
 package com.ryuqq.authhub.application.userrole.port.in.query;
 
 import com.ryuqq.authhub.application.userrole.dto.response.UserPermissionsResult;
+import java.util.List;
 
 /**
  * GetUserPermissionsUseCase - Gateway용 사용자 권한 조회 UseCase
@@ -28,4 +29,14 @@ public interface GetUserPermissionsUseCase {
      * @return 사용자 역할/권한 정보
      */
     UserPermissionsResult getByUserId(String userId);
+
+    /**
+     * 여러 사용자 ID로 역할/권한 일괄 조회
+     *
+     * <p>목록 화면처럼 여러 사용자를 한 번에 검증할 때 사용합니다. 사용자 수와 무관하게 조회 쿼리 수가 일정합니다.
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 요청 순서를 유지한 사용자별 역할/권한 정보 (중복 ID는 한 번만 포함)
+     */
+    List<UserPermissionsResult> getByUserIds(List<String> userIds);
 }
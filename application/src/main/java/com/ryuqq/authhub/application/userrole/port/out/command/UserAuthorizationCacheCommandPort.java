@@ -0,0 +1,64 @@
+package com.ryuqq.authhub.application.userrole.port.out.command;
+
+import com.ryuqq.authhub.application.userrole.dto.composite.RolesAndPermissionsComposite;
+import com.ryuqq.authhub.application.userrole.dto.composite.UserAuthorizationCacheLookup;
+import com.ryuqq.authhub.domain.user.id.UserId;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * UserAuthorizationCacheCommandPort - 사용자 역할/권한 캐시 Command 포트
+ *
+ * <p>사용자별 역할/권한 캐시(Redis)를 저장/무효화하는 Command Port입니다.
+ *
+ * <p><strong>무효화 방식:</strong>
+ *
+ * <ul>
+ *   <li>사용자 단위: 사용자-역할 변경 시 해당 사용자의 버전을 증가시키고 항목 삭제
+ *   <li>전체: 역할/권한/역할-권한 변경 시 권한 모델 버전을 증가시켜 모든 항목을 한 번에 무효화
+ * </ul>
+ *
+ * <p><strong>조건부 저장:</strong> 저장은 조회 시점의 권한 모델 버전과 사용자 버전이 모두 그대로일 때만 반영됩니다. DB 조회와 저장
+ * 사이에 무효화가 끼어들면 저장이 거부되어, 무효화 이전의 역할/권한이 TTL 동안 남지 않습니다.
+ *
+ * <p>캐시 저장소 장애는 예외 대신 로그로 처리합니다. 캐시는 TTL로 만료되므로 무효화 실패의 영향은 TTL로 제한됩니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface UserAuthorizationCacheCommandPort {
+
+    /**
+     * 사용자 역할/권한 캐시 저장 (조회 이후 무효화되지 않은 경우에만)
+     *
+     * @param userId 사용자 ID (Value Object)
+     * @param rolesAndPermissions 역할/권한 Composite
+     * @param lookup 조회 직전의 캐시 조회 결과 (권한 모델 버전, 사용자 버전)
+     */
+    void save(
+            UserId userId,
+            RolesAndPermissionsComposite rolesAndPermissions,
+            UserAuthorizationCacheLookup lookup);
+
+    /**
+     * 여러 사용자 역할/권한 캐시 저장 (조회 이후 무효화되지 않은 사용자만)
+     *
+     * @param rolesAndPermissionsByUser 사용자별 역할/권한 Composite
+     * @param lookups 사용자별 조회 직전의 캐시 조회 결과 (권한 모델 버전, 사용자 버전)
+     */
+    void saveAll(
+            Map<UserId, RolesAndPermissionsComposite> rolesAndPermissionsByUser,
+            Map<UserId, UserAuthorizationCacheLookup> lookups);
+
+    /**
+     * 사용자 역할/권한 캐시 삭제
+     *
+     * <p>사용자 버전을 증가시킨 뒤 항목을 삭제하므로, 진행 중이던 조회의 저장도 거부됩니다.
+     *
+     * @param userIds 사용자 ID 목록
+     */
+    void evict(Collection<UserId> userIds);
+
+    /** 권한 모델 버전 증가 (모든 사용자 캐시 무효화) */
+    void invalidateAll();
+}
@@ -0,0 +1,43 @@
+package com.ryuqq.authhub.application.userrole.port.out.query;
+
+import com.ryuqq.authhub.application.userrole.dto.composite.UserAuthorizationCacheLookup;
+import com.ryuqq.authhub.domain.user.id.UserId;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * UserAuthorizationCacheQueryPort - 사용자 역할/권한 캐시 Query 포트
+ *
+ * <p>사용자별 역할 이름, 권한 키, 권한 해시를 캐시(Redis)에서 조회하는 Query Port입니다.
+ *
+ * <p><strong>특징:</strong>
+ *
+ * <ul>
+ *   <li>Cache Query 전용 Port (조회만)
+ *   <li>캐시된 항목의 버전이 현재 권한 모델 버전과 다르면 Miss로 취급
+ *   <li>캐시 저장소 장애 시 예외 대신 {@link UserAuthorizationCacheLookup#unavailable()} 반환
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface UserAuthorizationCacheQueryPort {
+
+    /**
+     * 사용자 역할/권한 캐시 조회
+     *
+     * @param userId 사용자 ID (Value Object)
+     * @return 캐시 조회 결과 (현재 권한 모델 버전 포함)
+     */
+    UserAuthorizationCacheLookup lookup(UserId userId);
+
+    /**
+     * 여러 사용자 역할/권한 캐시 조회
+     *
+     * <p>권한 모델 버전과 모든 사용자 항목을 한 번에 조회하므로 모든 결과의 버전이 같습니다.
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 사용자별 캐시 조회 결과
+     */
+    Map<UserId, UserAuthorizationCacheLookup> lookupAll(List<UserId> userIds);
+}
@@ -0,0 +1,47 @@
+package com.ryuqq.authhub.application.userrole.port.out.query;
+
+import com.ryuqq.authhub.application.userrole.dto.response.UserRolePermissionResult;
+import com.ryuqq.authhub.domain.user.id.UserId;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * UserRolePermissionQueryPort - 사용자의 유효 역할/권한 조회 포트
+ *
+ * <p>UserRole, Role, RolePermission, Permission을 단일 쿼리로 조인하여 사용자의 유효한 (역할 이름, 권한 키) 목록을
+ * 제공합니다. 로그인/토큰 갱신 시 DB 왕복을 1회로 줄이기 위해 사용합니다.
+ *
+ * <p><strong>Zero-Tolerance 규칙:</strong>
+ *
+ * <ul>
+ *   <li>조회 메서드만 제공
+ *   <li>Value Object 파라미터 (원시 타입 금지)
+ *   <li>Application DTO 반환 (조인 쿼리이므로 예외적으로 DTO 반환 허용)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface UserRolePermissionQueryPort {
+
+    /**
+     * 사용자의 유효 역할-권한 목록 조회
+     *
+     * <p>삭제된 역할과 삭제된 권한은 SQL 조건으로 제외됩니다. 권한이 연결되지 않은 역할은 permissionKey가 null인 행으로
+     * 반환됩니다.
+     *
+     * @param userId 사용자 ID
+     * @return (역할 이름, 권한 키) 목록 (할당된 역할이 없으면 빈 목록)
+     */
+    List<UserRolePermissionResult> findAllByUserId(UserId userId);
+
+    /**
+     * 여러 사용자의 유효 역할-권한 목록 조회 (단일 쿼리)
+     *
+     * <p>{@link #findAllByUserId(UserId)}와 같은 조건을 사용자 ID IN 조건으로 한 번에 조회합니다.
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 사용자별 (역할 이름, 권한 키) 목록 (할당된 역할이 없는 사용자는 포함되지 않음)
+     */
+    Map<UserId, List<UserRolePermissionResult>> findAllByUserIds(List<UserId> userIds);
+}
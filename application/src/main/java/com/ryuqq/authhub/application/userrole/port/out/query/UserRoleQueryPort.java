@@ -53,6 +53,14 @@ public interface UserRoleQueryPort {
      */
     List<UserRole> findAllByUserId(UserId userId);
 
+    /**
+     * 여러 사용자의 역할 목록 조회 (단일 쿼리)
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 사용자-역할 관계 목록 (사용자 구분은 {@link UserRole#getUserId()})
+     */
+    List<UserRole> findAllByUserIds(List<UserId> userIds);
+
     /**
      * 역할이 할당된 사용자 목록 조회
      *
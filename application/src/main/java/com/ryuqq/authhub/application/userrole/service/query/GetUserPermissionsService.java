@@ -5,13 +5,9 @@ import com.ryuqq.authhub.application.userrole.dto.response.UserPermissionsResult
 import com.ryuqq.authhub.application.userrole.facade.UserRoleReadFacade;
 import com.ryuqq.authhub.application.userrole.port.in.query.GetUserPermissionsUseCase;
 import com.ryuqq.authhub.domain.user.id.UserId;
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
-import java.util.HexFormat;
-import java.util.Set;
-import java.util.TreeSet;
+import java.util.List;
+import java.util.Map;
 import org.springframework.stereotype.Service;
 
 /**
@@ -44,25 +40,30 @@ public class GetUserPermissionsService implements GetUserPermissionsUseCase {
         RolesAndPermissionsComposite composite =
                 userRoleReadFacade.findRolesAndPermissionsByUserId(UserId.of(userId));
 
-        Set<String> roles = composite.roleNames();
-        Set<String> permissions = composite.permissionKeys();
-        String hash = computeHash(roles, permissions);
-        Instant generatedAt = Instant.now();
-
-        return new UserPermissionsResult(userId, roles, permissions, hash, generatedAt);
+        return new UserPermissionsResult(
+                userId,
+                composite.roleNames(),
+                composite.permissionKeys(),
+                composite.permissionHash(),
+                Instant.now());
     }
 
-    private String computeHash(Set<String> roles, Set<String> permissions) {
-        TreeSet<String> sortedRoles = new TreeSet<>(roles);
-        TreeSet<String> sortedPermissions = new TreeSet<>(permissions);
-        String content = String.join(",", sortedRoles) + "|" + String.join(",", sortedPermissions);
+    @Override
+    public List<UserPermissionsResult> getByUserIds(List<String> userIds) {
+        List<UserId> ids = userIds.stream().map(UserId::of).toList();
+        Map<UserId, RolesAndPermissionsComposite> composites =
+                userRoleReadFacade.findRolesAndPermissionsByUserIds(ids);
 
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hashBytes = digest.digest(content.getBytes(StandardCharsets.UTF_8));
-            return HexFormat.of().formatHex(hashBytes);
-        } catch (NoSuchAlgorithmException e) {
-            throw new IllegalStateException("SHA-256 algorithm not available", e);
-        }
+        Instant generatedAt = Instant.now();
+        return composites.entrySet().stream()
+                .map(
+                        entry ->
+                                new UserPermissionsResult(
+                                        entry.getKey().value(),
+                                        entry.getValue().roleNames(),
+                                        entry.getValue().permissionKeys(),
+                                        entry.getValue().permissionHash(),
+                                        generatedAt))
+                .toList();
     }
 }
@@ -0,0 +1,154 @@
+package com.ryuqq.authhub.application.common.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ryuqq.authhub.application.common.component.ConcurrentTaskScope.Subtask;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+/**
+ * ConcurrentTaskScope 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@DisplayName("ConcurrentTaskScope 단위 테스트")
+class ConcurrentTaskScopeTest {
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Nested
+    @DisplayName("join 메서드")
+    class Join {
+
+        @Test
+        @DisplayName("성공: 모든 작업 완료 후 각 결과 반환")
+        void shouldReturnResults_WhenAllTasksSucceed() {
+            // given
+            try (ConcurrentTaskScope scope = ConcurrentTaskScope.open("test")) {
+                Subtask<String> first = scope.fork(() -> "first");
+                Subtask<Integer> second = scope.fork(() -> 2);
+
+                // when
+                scope.join();
+
+                // then
+                assertThat(first.get()).isEqualTo("first");
+                assertThat(second.get()).isEqualTo(2);
+            }
+        }
+
+        @Test
+        @DisplayName("실패: 작업 하나가 실패하면 나머지를 interrupt 없이 취소하고 최초 예외 전파")
+        void shouldCancelSiblingsCooperativelyAndRethrow_WhenTaskFails() {
+            // given
+            CountDownLatch started = new CountDownLatch(1);
+            AtomicBoolean observedShutdown = new AtomicBoolean();
+            AtomicBoolean interrupted = new AtomicBoolean();
+
+            // when & then
+            assertThatThrownBy(
+                            () -> {
+                                try (ConcurrentTaskScope scope =
+                                        ConcurrentTaskScope.open("test")) {
+                                    scope.fork(
+                                            () -> {
+                                                started.countDown();
+                                                observedShutdown.set(
+                                                        awaitShutdown(scope, interrupted));
+                                                return null;
+                                            });
+                                    scope.fork(
+                                            () -> {
+                                                awaitQuietly(started);
+                                                throw new IllegalArgumentException("failed");
+                                            });
+                                    scope.join();
+                                }
+                            })
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("failed");
+            assertThat(observedShutdown).isTrue();
+            assertThat(interrupted).isFalse();
+        }
+
+        @Test
+        @DisplayName("성공: 취소된 Scope에서 시작되지 않은 작업은 실행하지 않는다")
+        void shouldNotRunTask_WhenForkedAfterFailure() {
+            // given
+            AtomicBoolean ran = new AtomicBoolean();
+
+            // when & then
+            assertThatThrownBy(
+                            () -> {
+                                try (ConcurrentTaskScope scope =
+                                        ConcurrentTaskScope.open("test")) {
+                                    scope.fork(
+                                            () -> {
+                                                throw new IllegalArgumentException("failed");
+                                            });
+                                    awaitShutdown(scope, new AtomicBoolean());
+                                    scope.fork(
+                                            () -> {
+                                                ran.set(true);
+                                                return null;
+                                            });
+                                    scope.join();
+                                }
+                            })
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThat(ran).isFalse();
+        }
+
+        @Test
+        @DisplayName("성공: Fork 시점의 MDC를 작업 스레드로 복사")
+        void shouldPropagateMdc_ToForkedTask() {
+            // given
+            MDC.put("traceId", "trace-1");
+            AtomicReference<String> captured = new AtomicReference<>();
+
+            // when
+            try (ConcurrentTaskScope scope = ConcurrentTaskScope.open("test")) {
+                scope.fork(
+                        () -> {
+                            captured.set(MDC.get("traceId"));
+                            return null;
+                        });
+                scope.join();
+            }
+
+            // then
+            assertThat(captured.get()).isEqualTo("trace-1");
+        }
+    }
+
+    private static boolean awaitShutdown(ConcurrentTaskScope scope, AtomicBoolean interrupted) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!scope.isShutdown() && System.nanoTime() < deadline) {
+            Thread.yield();
+        }
+        interrupted.set(Thread.currentThread().isInterrupted());
+        return scope.isShutdown();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
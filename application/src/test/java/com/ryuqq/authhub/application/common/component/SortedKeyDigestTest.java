@@ -0,0 +1,93 @@
+package com.ryuqq.authhub.application.common.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * SortedKeyDigest 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@DisplayName("SortedKeyDigest 단위 테스트")
+class SortedKeyDigestTest {
+
+    @Nested
+    @DisplayName("sha256Hex 메서드")
+    class Sha256Hex {
+
+        @Test
+        @DisplayName("성공: 정렬 후 쉼표로 연결한 문자열의 해시와 동일")
+        void shouldMatchJoinedSortedHash() throws Exception {
+            // given
+            Set<String> keys = Set.of("user:write", "role:read", "user:read", "권한:조회");
+
+            // when
+            String result = SortedKeyDigest.sha256Hex(keys);
+
+            // then
+            assertThat(result).isEqualTo(sha256(String.join(",", new TreeSet<>(keys))));
+        }
+
+        @Test
+        @DisplayName("성공: 두 집합은 | 로 구분한 문자열의 해시와 동일")
+        void shouldMatchJoinedHash_WhenTwoGroups() throws Exception {
+            // given
+            Set<String> roles = Set.of("ROLE_USER", "ROLE_ADMIN");
+            Set<String> permissions = Set.of("user:read", "user:write");
+
+            // when
+            String result = SortedKeyDigest.sha256Hex(roles, permissions);
+
+            // then
+            assertThat(result)
+                    .isEqualTo(
+                            sha256(
+                                    String.join(",", new TreeSet<>(roles))
+                                            + "|"
+                                            + String.join(",", new TreeSet<>(permissions))));
+        }
+
+        @Test
+        @DisplayName("성공: 중복 키는 한 번만 반영")
+        void shouldIgnoreDuplicates() {
+            // when
+            String withDuplicates = SortedKeyDigest.sha256Hex(List.of("b", "a", "b"));
+
+            // then
+            assertThat(withDuplicates).isEqualTo(SortedKeyDigest.sha256Hex(Set.of("a", "b")));
+        }
+
+        @Test
+        @DisplayName("성공: 버퍼보다 긴 키도 동일한 해시")
+        void shouldHashKeysLongerThanBuffer() throws Exception {
+            // given
+            String longKey = "resource:".repeat(500);
+            Set<String> keys = Set.of(longKey, "a:read");
+
+            // when
+            String result = SortedKeyDigest.sha256Hex(keys);
+
+            // then
+            assertThat(result).isEqualTo(sha256(String.join(",", new TreeSet<>(keys))));
+        }
+    }
+
+    private static String sha256(String content) throws Exception {
+        return HexFormat.of()
+                .formatHex(
+                        MessageDigest.getInstance("SHA-256")
+                                .digest(content.getBytes(StandardCharsets.UTF_8)));
+    }
+}
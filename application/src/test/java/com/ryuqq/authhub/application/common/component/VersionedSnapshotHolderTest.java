@@ -0,0 +1,144 @@
+package com.ryuqq.authhub.application.common.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * VersionedSnapshotHolder 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@DisplayName("VersionedSnapshotHolder 단위 테스트")
+class VersionedSnapshotHolderTest {
+
+    private static final Snapshot SNAPSHOT_V1 = new Snapshot("v1");
+    private static final Snapshot SNAPSHOT_V2 = new Snapshot("v2");
+
+    private VersionedSnapshotHolder<Snapshot, String> sut;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        sut = new VersionedSnapshotHolder<>(Snapshot::version);
+        loadCount = new AtomicInteger();
+    }
+
+    @Nested
+    @DisplayName("getOrLoad 메서드")
+    class GetOrLoad {
+
+        @Test
+        @DisplayName("성공: 같은 버전이면 로더를 다시 호출하지 않음")
+        void shouldReuseSnapshot_WhenVersionMatches() {
+            // given
+            Snapshot first = sut.getOrLoad("v1", () -> load(SNAPSHOT_V1));
+
+            // when
+            Snapshot second = sut.getOrLoad("v1", () -> load(SNAPSHOT_V1));
+
+            // then
+            assertThat(second).isSameAs(first);
+            assertThat(loadCount).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("성공: 버전이 다르면 다시 로드하고 보관")
+        void shouldReload_WhenVersionDiffers() {
+            // given
+            sut.getOrLoad("v1", () -> load(SNAPSHOT_V1));
+
+            // when
+            Snapshot result = sut.getOrLoad("v2", () -> load(SNAPSHOT_V2));
+
+            // then
+            assertThat(result).isSameAs(SNAPSHOT_V2);
+            assertThat(sut.get()).isSameAs(SNAPSHOT_V2);
+            assertThat(loadCount).hasValue(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("reload 메서드")
+    class Reload {
+
+        @Test
+        @DisplayName("성공: 교체 대상 스냅샷이면 다시 로드")
+        void shouldReplaceStaleSnapshot() {
+            // given
+            Snapshot stale = sut.reload(null, () -> load(SNAPSHOT_V1));
+
+            // when
+            Snapshot result = sut.reload(stale, () -> load(SNAPSHOT_V2));
+
+            // then
+            assertThat(result).isSameAs(SNAPSHOT_V2);
+            assertThat(loadCount).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("성공: 이미 다른 스냅샷으로 교체되었으면 로드하지 않고 재사용")
+        void shouldReuseSnapshot_WhenAlreadyReplaced() {
+            // given
+            Snapshot stale = sut.reload(null, () -> load(SNAPSHOT_V1));
+            sut.reload(stale, () -> load(SNAPSHOT_V2));
+
+            // when
+            Snapshot result = sut.reload(stale, () -> load(SNAPSHOT_V1));
+
+            // then
+            assertThat(result).isSameAs(SNAPSHOT_V2);
+            assertThat(loadCount).hasValue(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("invalidate 메서드")
+    class Invalidate {
+
+        @Test
+        @DisplayName("성공: 폐기 후에는 같은 버전이라도 다시 로드")
+        void shouldReload_AfterInvalidate() {
+            // given
+            sut.getOrLoad("v1", () -> load(SNAPSHOT_V1));
+
+            // when
+            sut.invalidate();
+            sut.getOrLoad("v1", () -> load(SNAPSHOT_V1));
+
+            // then
+            assertThat(loadCount).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("성공: 로드 중 폐기되면 로드 결과를 반환하되 보관하지 않음")
+        void shouldNotKeepSnapshot_WhenInvalidatedDuringLoad() {
+            // when
+            Snapshot loaded =
+                    sut.getOrLoad(
+                            "v1",
+                            () -> {
+                                sut.invalidate();
+                                return load(SNAPSHOT_V1);
+                            });
+
+            // then
+            assertThat(loaded).isSameAs(SNAPSHOT_V1);
+            assertThat(sut.get()).isNull();
+        }
+    }
+
+    private Snapshot load(Snapshot snapshot) {
+        loadCount.incrementAndGet();
+        return snapshot;
+    }
+
+    private record Snapshot(String version) {}
+}
@@ -0,0 +1,202 @@
+package com.ryuqq.authhub.application.permission.dto.composite;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.authhub.application.permission.dto.response.PermissionDictionaryEntryResult;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * PermissionDictionary 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@DisplayName("PermissionDictionary 단위 테스트")
+class PermissionDictionaryTest {
+
+    private static final List<PermissionDictionaryEntryResult> ROWS =
+            List.of(
+                    new PermissionDictionaryEntryResult(9L, "order:read"),
+                    new PermissionDictionaryEntryResult(1L, "user:read"),
+                    new PermissionDictionaryEntryResult(2L, "user:write"),
+                    new PermissionDictionaryEntryResult(5L, "user:read"));
+
+    @Nested
+    @DisplayName("of 메서드")
+    class Of {
+
+        @Test
+        @DisplayName("성공: 모든 항목을 ID 오름차순 정렬")
+        void shouldSortEntriesById() {
+            // when
+            PermissionDictionary result = PermissionDictionary.of(ROWS);
+
+            // then
+            assertThat(result.size()).isEqualTo(4);
+            assertThat(result.entries())
+                    .containsExactly(
+                            new PermissionDictionaryEntryResult(1L, "user:read"),
+                            new PermissionDictionaryEntryResult(2L, "user:write"),
+                            new PermissionDictionaryEntryResult(5L, "user:read"),
+                            new PermissionDictionaryEntryResult(9L, "order:read"));
+        }
+
+        @Test
+        @DisplayName("성공: 비트 인덱스로 쓸 수 없는 ID는 제외")
+        void shouldExcludeIdsOutOfBitRange() {
+            // when
+            PermissionDictionary result =
+                    PermissionDictionary.of(
+                            List.of(
+                                    new PermissionDictionaryEntryResult(1L, "user:read"),
+                                    new PermissionDictionaryEntryResult(
+                                            Integer.MAX_VALUE + 1L, "order:read")));
+
+            // then
+            assertThat(result.entries())
+                    .containsExactly(new PermissionDictionaryEntryResult(1L, "user:read"));
+            assertThat(result.encode(Set.of("order:read"))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("성공: 같은 항목이면 입력 순서와 무관하게 같은 버전")
+        void shouldProduceSameVersion_RegardlessOfOrder() {
+            // when
+            PermissionDictionary first = PermissionDictionary.of(ROWS);
+            PermissionDictionary second = PermissionDictionary.of(ROWS.reversed());
+
+            // then
+            assertThat(first.version()).hasSize(16).isEqualTo(second.version());
+        }
+
+        @Test
+        @DisplayName("성공: 항목이 바뀌면 버전도 바뀜")
+        void shouldChangeVersion_WhenEntriesChange() {
+            // when
+            PermissionDictionary before = PermissionDictionary.of(ROWS);
+            PermissionDictionary after =
+                    PermissionDictionary.of(
+                            List.of(new PermissionDictionaryEntryResult(1L, "user:read")));
+
+            // then
+            assertThat(after.version()).isNotEqualTo(before.version());
+        }
+    }
+
+    @Nested
+    @DisplayName("encode/decode 메서드")
+    class EncodeDecode {
+
+        @Test
+        @DisplayName("성공: 권한 ID 위치의 비트를 Base64URL로 인코딩 (중복 키는 가장 작은 ID)")
+        void shouldEncodeBitsAtPermissionIndices() {
+            // given
+            PermissionDictionary dictionary = PermissionDictionary.of(ROWS);
+
+            // when
+            Optional<EncodedPermissions> result =
+                    dictionary.encode(Set.of("user:read", "order:read"));
+
+            // then
+            assertThat(result).isPresent();
+            assertThat(result.get().dictionaryVersion()).isEqualTo(dictionary.version());
+            BitSet bits = BitSet.valueOf(Base64.getUrlDecoder().decode(result.get().bitmap()));
+            assertThat(bits.stream().boxed().toList()).containsExactly(1, 9);
+        }
+
+        @Test
+        @DisplayName("성공: 인코딩한 비트맵을 같은 권한 키로 복원")
+        void shouldRoundTrip() {
+            // given
+            PermissionDictionary dictionary = PermissionDictionary.of(ROWS);
+            Set<String> permissionKeys = Set.of("user:read", "user:write", "order:read");
+            String bitmap = dictionary.encode(permissionKeys).orElseThrow().bitmap();
+
+            // when
+            Set<String> result =
+                    dictionary.decode(BitSet.valueOf(Base64.getUrlDecoder().decode(bitmap)));
+
+            // then
+            assertThat(result).isEqualTo(permissionKeys);
+        }
+
+        @Test
+        @DisplayName("사전에 없는 키가 있으면 empty 반환")
+        void shouldReturnEmpty_WhenKeyIsUnknown() {
+            // given
+            PermissionDictionary dictionary = PermissionDictionary.of(ROWS);
+
+            // when
+            Optional<EncodedPermissions> result =
+                    dictionary.encode(Set.of("user:read", "unknown:read"));
+
+            // then
+            assertThat(result).isEmpty();
+        }
+
+        @Test
+        @DisplayName("사전에 없는 권한 ID의 비트는 무시")
+        void shouldIgnoreUnknownIds_WhenDecoding() {
+            // given
+            PermissionDictionary dictionary = PermissionDictionary.of(ROWS);
+            BitSet bits = new BitSet();
+            bits.set(2);
+            bits.set(3);
+            bits.set(100);
+
+            // when
+            Set<String> result = dictionary.decode(bits);
+
+            // then
+            assertThat(result).containsExactly("user:write");
+        }
+
+        @Test
+        @DisplayName("성공: 권한이 추가/삭제된 사전으로도 이전 비트맵을 복원하고 삭제된 권한만 제외")
+        void shouldDecodeWithChangedDictionary() {
+            // given
+            String bitmap =
+                    PermissionDictionary.of(ROWS)
+                            .encode(Set.of("user:read", "user:write", "order:read"))
+                            .orElseThrow()
+                            .bitmap();
+            PermissionDictionary changed =
+                    PermissionDictionary.of(
+                            List.of(
+                                    new PermissionDictionaryEntryResult(1L, "user:read"),
+                                    new PermissionDictionaryEntryResult(9L, "order:read"),
+                                    new PermissionDictionaryEntryResult(10L, "order:write")));
+
+            // when
+            Set<String> result =
+                    changed.decode(BitSet.valueOf(Base64.getUrlDecoder().decode(bitmap)));
+
+            // then
+            assertThat(result).containsExactlyInAnyOrder("user:read", "order:read");
+        }
+
+        @Test
+        @DisplayName("성공: 같은 키를 가진 다른 ID의 비트도 그 키로 복원")
+        void shouldDecodeEveryIdOfDuplicateKey() {
+            // given
+            PermissionDictionary dictionary = PermissionDictionary.of(ROWS);
+            BitSet bits = new BitSet();
+            bits.set(5);
+
+            // when
+            Set<String> result = dictionary.decode(bits);
+
+            // then
+            assertThat(result).containsExactly("user:read");
+        }
+    }
+}
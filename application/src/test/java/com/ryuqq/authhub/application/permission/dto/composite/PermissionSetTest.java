@@ -0,0 +1,61 @@
+package com.ryuqq.authhub.application.permission.dto.composite;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * PermissionSet 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@DisplayName("PermissionSet 단위 테스트")
+class PermissionSetTest {
+
+    @Nested
+    @DisplayName("of 메서드")
+    class Of {
+
+        @Test
+        @DisplayName("성공: 정렬된 권한 키의 SHA-256 hex를 해시로 사용")
+        void shouldHashSortedKeys() {
+            // when
+            PermissionSet result = PermissionSet.of(List.of("user:write", "user:read"));
+
+            // then
+            assertThat(result.hash())
+                    .isEqualTo("0586fe3af3420aa2b44d97e802224451bd46cdb00435b12b1afeec99e3615f65");
+            assertThat(result.permissionKeys())
+                    .containsExactlyInAnyOrder("user:read", "user:write");
+        }
+
+        @Test
+        @DisplayName("성공: 권한이 없으면 빈 해시")
+        void shouldReturnEmptyHash_WhenNoPermissions() {
+            // when
+            PermissionSet result = PermissionSet.of(Set.of());
+
+            // then
+            assertThat(result.hash()).isEmpty();
+            assertThat(result.isEmpty()).isTrue();
+        }
+
+        @Test
+        @DisplayName("성공: 권한 키가 다르면 해시도 다름")
+        void shouldProduceDifferentHash_ForDifferentKeys() {
+            // when
+            PermissionSet first = PermissionSet.of(Set.of("user:read"));
+            PermissionSet second = PermissionSet.of(Set.of("user:write"));
+
+            // then
+            assertThat(first.hash()).isNotEqualTo(second.hash());
+        }
+    }
+}
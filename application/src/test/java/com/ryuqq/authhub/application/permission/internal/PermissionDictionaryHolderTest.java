@@ -0,0 +1,157 @@
+package com.ryuqq.authhub.application.permission.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import com.ryuqq.authhub.application.permission.dto.composite.EncodedPermissions;
+import com.ryuqq.authhub.application.permission.dto.composite.PermissionDictionary;
+import com.ryuqq.authhub.application.permission.dto.response.PermissionDictionaryEntryResult;
+import com.ryuqq.authhub.application.permission.manager.PermissionReadManager;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * PermissionDictionaryHolder 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PermissionDictionaryHolder 단위 테스트")
+class PermissionDictionaryHolderTest {
+
+    private static final List<PermissionDictionaryEntryResult> ENTRIES =
+            List.of(
+                    new PermissionDictionaryEntryResult(1L, "user:read"),
+                    new PermissionDictionaryEntryResult(2L, "user:write"));
+
+    @Mock private PermissionReadManager readManager;
+
+    private PermissionDictionaryHolder sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new PermissionDictionaryHolder(readManager);
+    }
+
+    @Nested
+    @DisplayName("current 메서드")
+    class Current {
+
+        @Test
+        @DisplayName("성공: 최초 조회 시 적재하고 이후에는 재사용")
+        void shouldLoadOnce_AndReuse() {
+            // given
+            given(readManager.findAllDictionaryEntries()).willReturn(ENTRIES);
+
+            // when
+            PermissionDictionary first = sut.current();
+            PermissionDictionary second = sut.current();
+
+            // then
+            assertThat(second).isSameAs(first);
+            then(readManager).should(times(1)).findAllDictionaryEntries();
+        }
+
+        @Test
+        @DisplayName("성공: 보유 사전과 같은 버전을 요청하면 재적재하지 않음")
+        void shouldNotReload_WhenVersionMatches() {
+            // given
+            given(readManager.findAllDictionaryEntries()).willReturn(ENTRIES);
+            PermissionDictionary first = sut.current();
+
+            // when
+            PermissionDictionary result = sut.current(first.version());
+
+            // then
+            assertThat(result).isSameAs(first);
+            then(readManager).should(times(1)).findAllDictionaryEntries();
+        }
+
+        @Test
+        @DisplayName("적재 직후 다른 버전을 요청하면 재적재하지 않고 보유 사전 반환")
+        void shouldNotReload_ForOtherVersionWithinMinimumInterval() {
+            // given
+            given(readManager.findAllDictionaryEntries()).willReturn(ENTRIES);
+            PermissionDictionary first = sut.current();
+
+            // when
+            PermissionDictionary result = sut.current("0000000000000000");
+
+            // then
+            assertThat(result).isSameAs(first);
+            then(readManager).should(times(1)).findAllDictionaryEntries();
+        }
+    }
+
+    @Nested
+    @DisplayName("encode 메서드")
+    class Encode {
+
+        @Test
+        @DisplayName("성공: 사전에 있는 키는 현재 사전으로 인코딩")
+        void shouldEncode_WithCurrentDictionary() {
+            // given
+            given(readManager.findAllDictionaryEntries()).willReturn(ENTRIES);
+
+            // when
+            Optional<EncodedPermissions> result = sut.encode(Set.of("user:read"));
+
+            // then
+            assertThat(result).isPresent();
+            assertThat(result.get().dictionaryVersion()).isEqualTo(sut.current().version());
+        }
+
+        @Test
+        @DisplayName("적재 직후 사전에 없는 키는 재적재하지 않고 empty 반환")
+        void shouldNotReload_WithinMinimumInterval() {
+            // given
+            given(readManager.findAllDictionaryEntries()).willReturn(ENTRIES);
+
+            // when
+            Optional<EncodedPermissions> result = sut.encode(Set.of("order:read"));
+
+            // then
+            assertThat(result).isEmpty();
+            then(readManager).should(times(1)).findAllDictionaryEntries();
+        }
+    }
+
+    @Nested
+    @DisplayName("invalidate 메서드")
+    class Invalidate {
+
+        @Test
+        @DisplayName("성공: 폐기 후 다음 조회 시 다시 적재")
+        void shouldReload_AfterInvalidate() {
+            // given
+            given(readManager.findAllDictionaryEntries())
+                    .willReturn(ENTRIES)
+                    .willReturn(
+                            List.of(
+                                    new PermissionDictionaryEntryResult(1L, "user:read"),
+                                    new PermissionDictionaryEntryResult(3L, "order:read")));
+            PermissionDictionary before = sut.current();
+
+            // when
+            sut.invalidate();
+            PermissionDictionary after = sut.current();
+
+            // then
+            assertThat(after.version()).isNotEqualTo(before.version());
+            assertThat(sut.encode(Set.of("order:read"))).isPresent();
+        }
+    }
+}
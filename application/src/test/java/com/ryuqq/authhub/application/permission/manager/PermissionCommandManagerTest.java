@@ -1,10 +1,15 @@
 package com.ryuqq.authhub.application.permission.manager;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
+import com.ryuqq.authhub.application.common.component.TransactionEventRegistry;
+import com.ryuqq.authhub.application.permission.dto.event.PermissionChangedEvent;
 import com.ryuqq.authhub.application.permission.port.out.command.PermissionCommandPort;
+import com.ryuqq.authhub.application.permissionendpoint.port.out.command.PermissionEndpointSpecCommandPort;
 import com.ryuqq.authhub.domain.permission.aggregate.Permission;
 import com.ryuqq.authhub.domain.permission.fixture.PermissionFixture;
 import java.util.List;
@@ -37,12 +42,18 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class PermissionCommandManagerTest {
 
     @Mock private PermissionCommandPort persistencePort;
+    @Mock private PermissionEndpointSpecCommandPort permissionEndpointSpecCommandPort;
+    @Mock private TransactionEventRegistry transactionEventRegistry;
 
     private PermissionCommandManager sut;
 
     @BeforeEach
     void setUp() {
-        sut = new PermissionCommandManager(persistencePort);
+        sut =
+                new PermissionCommandManager(
+                        persistencePort,
+                        permissionEndpointSpecCommandPort,
+                        transactionEventRegistry);
     }
 
     @Nested
@@ -64,6 +75,8 @@ class PermissionCommandManagerTest {
             // then
             assertThat(result).isEqualTo(expectedId);
             then(persistencePort).should().persist(permission);
+            then(permissionEndpointSpecCommandPort).shouldHaveNoInteractions();
+            then(transactionEventRegistry).should(never()).registerObjectForPublish(any());
         }
 
         @Test
@@ -80,6 +93,25 @@ class PermissionCommandManagerTest {
 
             // then
             then(persistencePort).should().persist(permission);
+            then(transactionEventRegistry)
+                    .should()
+                    .registerObjectForPublish(PermissionChangedEvent.of(1));
+        }
+
+        @Test
+        @DisplayName("성공: 기존 Permission 삭제 시 연결된 엔드포인트에 스펙 버전 기록")
+        void shouldMarkPermissionChanged_WhenPermissionDeleted() {
+            // given
+            Permission permission = PermissionFixture.createDeleted();
+            Long persistedId = PermissionFixture.defaultIdValue();
+
+            given(persistencePort.persist(permission)).willReturn(persistedId);
+
+            // when
+            sut.persist(permission);
+
+            // then
+            then(permissionEndpointSpecCommandPort).should().markPermissionChanged(persistedId);
         }
     }
 
@@ -106,6 +138,8 @@ class PermissionCommandManagerTest {
             assertThat(result).hasSize(2);
             assertThat(result.get("user:read")).isEqualTo(1L);
             assertThat(result.get("role:create")).isEqualTo(2L);
+            then(permissionEndpointSpecCommandPort).shouldHaveNoInteractions();
+            then(transactionEventRegistry).should(never()).registerObjectForPublish(any());
         }
 
         @Test
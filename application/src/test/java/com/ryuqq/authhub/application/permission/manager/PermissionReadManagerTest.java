@@ -5,6 +5,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
+import com.ryuqq.authhub.application.permission.dto.response.PermissionDictionaryEntryResult;
+import com.ryuqq.authhub.application.permission.port.out.query.PermissionDictionaryQueryPort;
 import com.ryuqq.authhub.application.permission.port.out.query.PermissionQueryPort;
 import com.ryuqq.authhub.domain.common.vo.DateRange;
 import com.ryuqq.authhub.domain.permission.aggregate.Permission;
@@ -44,11 +46,13 @@ class PermissionReadManagerTest {
 
     @Mock private PermissionQueryPort queryPort;
 
+    @Mock private PermissionDictionaryQueryPort dictionaryQueryPort;
+
     private PermissionReadManager sut;
 
     @BeforeEach
     void setUp() {
-        sut = new PermissionReadManager(queryPort);
+        sut = new PermissionReadManager(queryPort, dictionaryQueryPort);
     }
 
     @Nested
@@ -333,4 +337,25 @@ class PermissionReadManagerTest {
             then(queryPort).shouldHaveNoInteractions();
         }
     }
+
+    @Nested
+    @DisplayName("findAllDictionaryEntries 메서드")
+    class FindAllDictionaryEntries {
+
+        @Test
+        @DisplayName("성공: DictionaryQueryPort 결과를 그대로 반환")
+        void shouldReturnEntries_FromDictionaryQueryPort() {
+            // given
+            List<PermissionDictionaryEntryResult> expected =
+                    List.of(new PermissionDictionaryEntryResult(1L, "user:read"));
+            given(dictionaryQueryPort.findAllActiveEntries()).willReturn(expected);
+
+            // when
+            List<PermissionDictionaryEntryResult> result = sut.findAllDictionaryEntries();
+
+            // then
+            assertThat(result).isEqualTo(expected);
+            then(dictionaryQueryPort).should().findAllActiveEntries();
+        }
+    }
 }
@@ -0,0 +1,102 @@
+package com.ryuqq.authhub.application.permission.manager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import com.ryuqq.authhub.application.permission.dto.composite.PermissionSet;
+import com.ryuqq.authhub.application.permission.port.out.command.PermissionSetCommandPort;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * PermissionSetCommandManager 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PermissionSetCommandManager 단위 테스트")
+class PermissionSetCommandManagerTest {
+
+    @Mock private PermissionSetCommandPort commandPort;
+
+    private PermissionSetCommandManager sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new PermissionSetCommandManager(commandPort);
+    }
+
+    @Nested
+    @DisplayName("save 메서드")
+    class Save {
+
+        @Test
+        @DisplayName("성공: Port에 저장을 위임하고 결과 반환")
+        void shouldDelegateToPort() {
+            // given
+            PermissionSet permissionSet = PermissionSet.of(Set.of("user:read"));
+            given(commandPort.save(permissionSet)).willReturn(false);
+
+            // when
+            boolean result = sut.save(permissionSet);
+
+            // then
+            assertThat(result).isFalse();
+            then(commandPort).should().save(permissionSet, 3600L);
+        }
+
+        @Test
+        @DisplayName("성공: 저장에 성공한 해시는 다시 저장하지 않음")
+        void shouldSkipAlreadyStoredHash() {
+            // given
+            PermissionSet permissionSet = PermissionSet.of(Set.of("user:read"));
+            given(commandPort.save(permissionSet)).willReturn(true);
+            sut.save(permissionSet);
+
+            // when
+            boolean result = sut.save(PermissionSet.of(Set.of("user:read")));
+
+            // then
+            assertThat(result).isTrue();
+            then(commandPort).should(times(1)).save(permissionSet);
+        }
+
+        @Test
+        @DisplayName("성공: 저장에 실패한 해시는 다음 발급 때 다시 저장 시도")
+        void shouldRetryAfterFailedSave() {
+            // given
+            PermissionSet permissionSet = PermissionSet.of(Set.of("user:read"));
+            given(commandPort.save(permissionSet)).willReturn(false, true);
+            sut.save(permissionSet);
+
+            // when
+            boolean result = sut.save(permissionSet);
+
+            // then
+            assertThat(result).isTrue();
+            then(commandPort).should(times(2)).save(permissionSet);
+        }
+
+        @Test
+        @DisplayName("성공: 빈 권한 집합은 저장하지 않고 성공 처리")
+        void shouldSkipEmptyPermissionSet() {
+            // when
+            boolean result = sut.save(PermissionSet.of(Set.of()));
+
+            // then
+            assertThat(result).isTrue();
+            then(commandPort).shouldHaveNoInteractions();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.ryuqq.authhub.application.permission.manager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+import com.ryuqq.authhub.application.permission.dto.composite.PermissionSet;
+import com.ryuqq.authhub.application.permission.port.out.query.PermissionSetQueryPort;
+import com.ryuqq.authhub.domain.permission.exception.PermissionSetNotFoundException;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * PermissionSetQueryManager 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PermissionSetQueryManager 단위 테스트")
+class PermissionSetQueryManagerTest {
+
+    @Mock private PermissionSetQueryPort queryPort;
+
+    private PermissionSetQueryManager sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new PermissionSetQueryManager(queryPort);
+    }
+
+    @Nested
+    @DisplayName("getByHash 메서드")
+    class GetByHash {
+
+        @Test
+        @DisplayName("성공: 저장된 권한 집합 반환")
+        void shouldReturnPermissionSet_WhenExists() {
+            // given
+            PermissionSet expected = PermissionSet.of(Set.of("user:read"));
+            given(queryPort.findByHash(expected.hash())).willReturn(Optional.of(expected));
+
+            // when
+            PermissionSet result = sut.getByHash(expected.hash());
+
+            // then
+            assertThat(result).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("실패: 권한 집합이 없으면 PermissionSetNotFoundException")
+        void shouldThrowException_WhenNotFound() {
+            // given
+            given(queryPort.findByHash("unknown")).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> sut.getByHash("unknown"))
+                    .isInstanceOf(PermissionSetNotFoundException.class);
+        }
+    }
+}
@@ -2,8 +2,11 @@ package com.ryuqq.authhub.application.permissionendpoint.assembler;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecChangeResult;
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecDeltaResult;
 import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecListResult;
 import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecResult;
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecVersionResult;
 import com.ryuqq.authhub.application.permissionendpoint.dto.response.PermissionEndpointPageResult;
 import com.ryuqq.authhub.application.permissionendpoint.dto.response.PermissionEndpointResult;
 import com.ryuqq.authhub.domain.permissionendpoint.aggregate.PermissionEndpoint;
@@ -129,6 +132,7 @@ class PermissionEndpointAssemblerTest {
             List<EndpointPermissionSpecResult> specs =
                     List.of(
                             new EndpointPermissionSpecResult(
+                                    1L,
                                     "authhub",
                                     "/api/v1/users",
                                     "GET",
@@ -136,14 +140,77 @@ class PermissionEndpointAssemblerTest {
                                     false,
                                     "사용자 목록 조회"));
 
+            EndpointPermissionSpecVersionResult specVersion =
+                    EndpointPermissionSpecVersionResult.of(7L, latestUpdatedAt);
+
             // when
-            EndpointPermissionSpecListResult result = sut.toSpecListResult(specs, latestUpdatedAt);
+            EndpointPermissionSpecListResult result = sut.toSpecListResult(specs, specVersion);
 
             // then
             assertThat(result.endpoints()).hasSize(1);
             assertThat(result.endpoints().get(0).pathPattern()).isEqualTo("/api/v1/users");
-            assertThat(result.version()).isEqualTo(String.valueOf(latestUpdatedAt.toEpochMilli()));
+            assertThat(result.version()).isEqualTo("7");
             assertThat(result.updatedAt()).isEqualTo(latestUpdatedAt);
         }
     }
+
+    @Nested
+    @DisplayName("toSpecDeltaResult 메서드")
+    class ToSpecDeltaResult {
+
+        @Test
+        @DisplayName("성공: 변경 목록을 추가/변경 스펙과 제외 ID 목록으로 분리")
+        void shouldSplitChangesIntoEndpointsAndRemovedIds() {
+            // given
+            Instant latestUpdatedAt = Instant.parse("2025-01-15T11:00:00Z");
+            Instant deletedAt = Instant.parse("2025-01-15T10:30:00Z");
+            EndpointPermissionSpecVersionResult specVersion =
+                    EndpointPermissionSpecVersionResult.of(5L, latestUpdatedAt);
+            List<EndpointPermissionSpecChangeResult> changes =
+                    List.of(
+                            new EndpointPermissionSpecChangeResult(
+                                    1L,
+                                    "authhub",
+                                    "/api/v1/users",
+                                    "GET",
+                                    "user:read",
+                                    false,
+                                    "사용자 목록 조회",
+                                    null,
+                                    null),
+                            new EndpointPermissionSpecChangeResult(
+                                    2L,
+                                    "authhub",
+                                    "/api/v1/users/{id}",
+                                    "DELETE",
+                                    "user:delete",
+                                    false,
+                                    "사용자 삭제",
+                                    deletedAt,
+                                    null),
+                            new EndpointPermissionSpecChangeResult(
+                                    3L,
+                                    "authhub",
+                                    "/api/v1/roles",
+                                    "GET",
+                                    "role:read",
+                                    false,
+                                    "역할 목록 조회",
+                                    null,
+                                    deletedAt));
+
+            // when
+            EndpointPermissionSpecDeltaResult result =
+                    sut.toSpecDeltaResult("3", specVersion, changes);
+
+            // then
+            assertThat(result.sinceVersion()).isEqualTo("3");
+            assertThat(result.version()).isEqualTo(specVersion.version());
+            assertThat(result.fullSync()).isFalse();
+            assertThat(result.endpoints())
+                    .extracting(EndpointPermissionSpecResult::endpointId)
+                    .containsExactly(1L);
+            assertThat(result.removedEndpointIds()).containsExactly(2L, 3L);
+        }
+    }
 }
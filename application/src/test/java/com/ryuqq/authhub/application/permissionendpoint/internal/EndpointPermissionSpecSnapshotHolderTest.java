@@ -0,0 +1,111 @@
+package com.ryuqq.authhub.application.permissionendpoint.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecListResult;
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecVersionResult;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * EndpointPermissionSpecSnapshotHolder 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@DisplayName("EndpointPermissionSpecSnapshotHolder 단위 테스트")
+class EndpointPermissionSpecSnapshotHolderTest {
+
+    private static final EndpointPermissionSpecListResult SNAPSHOT_V1 =
+            EndpointPermissionSpecListResult.of(
+                    List.of(),
+                    EndpointPermissionSpecVersionResult.of(
+                            1L, Instant.parse("2025-01-15T10:00:00Z")));
+    private static final EndpointPermissionSpecListResult SNAPSHOT_V2 =
+            EndpointPermissionSpecListResult.of(
+                    List.of(),
+                    EndpointPermissionSpecVersionResult.of(
+                            2L, Instant.parse("2025-01-15T11:00:00Z")));
+
+    private EndpointPermissionSpecSnapshotHolder sut;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        sut = new EndpointPermissionSpecSnapshotHolder();
+        loadCount = new AtomicInteger();
+    }
+
+    @Nested
+    @DisplayName("getOrLoad 메서드")
+    class GetOrLoad {
+
+        @Test
+        @DisplayName("성공: 같은 버전이면 로더를 다시 호출하지 않음")
+        void shouldReuseSnapshot_WhenVersionMatches() {
+            EndpointPermissionSpecListResult first =
+                    sut.getOrLoad(SNAPSHOT_V1.version(), () -> load(SNAPSHOT_V1));
+            EndpointPermissionSpecListResult second =
+                    sut.getOrLoad(SNAPSHOT_V1.version(), () -> load(SNAPSHOT_V1));
+
+            assertThat(second).isSameAs(first);
+            assertThat(loadCount).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("성공: 버전이 다르면 다시 로드")
+        void shouldReload_WhenVersionDiffers() {
+            sut.getOrLoad(SNAPSHOT_V1.version(), () -> load(SNAPSHOT_V1));
+
+            EndpointPermissionSpecListResult result =
+                    sut.getOrLoad(SNAPSHOT_V2.version(), () -> load(SNAPSHOT_V2));
+
+            assertThat(result).isSameAs(SNAPSHOT_V2);
+            assertThat(loadCount).hasValue(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("invalidate 메서드")
+    class Invalidate {
+
+        @Test
+        @DisplayName("성공: 폐기 후에는 같은 버전이라도 다시 로드")
+        void shouldReload_AfterInvalidate() {
+            sut.getOrLoad(SNAPSHOT_V1.version(), () -> load(SNAPSHOT_V1));
+
+            sut.invalidate();
+            sut.getOrLoad(SNAPSHOT_V1.version(), () -> load(SNAPSHOT_V1));
+
+            assertThat(loadCount).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("성공: 로드 중 폐기되면 로드 결과를 스냅샷으로 보관하지 않음")
+        void shouldNotKeepSnapshot_WhenInvalidatedDuringLoad() {
+            EndpointPermissionSpecListResult loaded =
+                    sut.getOrLoad(
+                            SNAPSHOT_V1.version(),
+                            () -> {
+                                sut.invalidate();
+                                return load(SNAPSHOT_V1);
+                            });
+            sut.getOrLoad(SNAPSHOT_V1.version(), () -> load(SNAPSHOT_V1));
+
+            assertThat(loaded).isSameAs(SNAPSHOT_V1);
+            assertThat(loadCount).hasValue(2);
+        }
+    }
+
+    private EndpointPermissionSpecListResult load(EndpointPermissionSpecListResult result) {
+        loadCount.incrementAndGet();
+        return result;
+    }
+}
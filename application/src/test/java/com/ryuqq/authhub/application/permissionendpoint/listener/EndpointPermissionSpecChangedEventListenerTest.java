@@ -0,0 +1,48 @@
+package com.ryuqq.authhub.application.permissionendpoint.listener;
+
+import static org.mockito.BDDMockito.then;
+
+import com.ryuqq.authhub.application.permissionendpoint.dto.event.EndpointPermissionSpecChangedEvent;
+import com.ryuqq.authhub.application.permissionendpoint.internal.EndpointPermissionSpecSnapshotHolder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * EndpointPermissionSpecChangedEventListener 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EndpointPermissionSpecChangedEventListener 단위 테스트")
+class EndpointPermissionSpecChangedEventListenerTest {
+
+    @Mock private EndpointPermissionSpecSnapshotHolder snapshotHolder;
+
+    private EndpointPermissionSpecChangedEventListener sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new EndpointPermissionSpecChangedEventListener(snapshotHolder);
+    }
+
+    @Nested
+    @DisplayName("handle 메서드")
+    class Handle {
+
+        @Test
+        @DisplayName("성공: 스펙 변경 이벤트 수신 시 스냅샷 폐기")
+        void shouldInvalidateSnapshot() {
+            sut.handle(EndpointPermissionSpecChangedEvent.of(3));
+
+            then(snapshotHolder).should().invalidate();
+        }
+    }
+}
@@ -4,7 +4,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
+import com.ryuqq.authhub.application.common.component.TransactionEventRegistry;
+import com.ryuqq.authhub.application.permissionendpoint.dto.event.EndpointPermissionSpecChangedEvent;
 import com.ryuqq.authhub.application.permissionendpoint.port.out.command.PermissionEndpointCommandPort;
+import com.ryuqq.authhub.application.permissionendpoint.port.out.command.PermissionEndpointSpecCommandPort;
 import com.ryuqq.authhub.domain.permissionendpoint.aggregate.PermissionEndpoint;
 import com.ryuqq.authhub.domain.permissionendpoint.fixture.PermissionEndpointFixture;
 import java.util.List;
@@ -29,12 +32,18 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class PermissionEndpointCommandManagerTest {
 
     @Mock private PermissionEndpointCommandPort permissionEndpointCommandPort;
+    @Mock private PermissionEndpointSpecCommandPort permissionEndpointSpecCommandPort;
+    @Mock private TransactionEventRegistry transactionEventRegistry;
 
     private PermissionEndpointCommandManager sut;
 
     @BeforeEach
     void setUp() {
-        sut = new PermissionEndpointCommandManager(permissionEndpointCommandPort);
+        sut =
+                new PermissionEndpointCommandManager(
+                        permissionEndpointCommandPort,
+                        permissionEndpointSpecCommandPort,
+                        transactionEventRegistry);
     }
 
     @Nested
@@ -42,7 +51,7 @@ class PermissionEndpointCommandManagerTest {
     class Persist {
 
         @Test
-        @DisplayName("성공: PermissionEndpoint 영속화 후 ID 반환")
+        @DisplayName("성공: PermissionEndpoint 영속화 후 스펙 버전 기록 및 ID 반환")
         void shouldPersistAndReturnId() {
             // given
             PermissionEndpoint permissionEndpoint = PermissionEndpointFixture.createNew();
@@ -56,6 +65,10 @@ class PermissionEndpointCommandManagerTest {
             // then
             assertThat(result).isEqualTo(expectedId);
             then(permissionEndpointCommandPort).should().persist(permissionEndpoint);
+            then(permissionEndpointSpecCommandPort).should().markChanged(List.of(expectedId));
+            then(transactionEventRegistry)
+                    .should()
+                    .registerObjectForPublish(EndpointPermissionSpecChangedEvent.of(1));
         }
     }
 
@@ -64,17 +77,23 @@ class PermissionEndpointCommandManagerTest {
     class PersistAll {
 
         @Test
-        @DisplayName("성공: PermissionEndpoint 목록 영속화")
+        @DisplayName("성공: PermissionEndpoint 목록 영속화 후 스펙 버전을 한 번에 기록")
         void shouldPersistAll() {
             // given
             List<PermissionEndpoint> permissionEndpoints =
                     List.of(PermissionEndpointFixture.createNew());
+            given(permissionEndpointCommandPort.persist(permissionEndpoints.get(0)))
+                    .willReturn(10L);
 
             // when
             sut.persistAll(permissionEndpoints);
 
             // then
             then(permissionEndpointCommandPort).should().persist(permissionEndpoints.get(0));
+            then(permissionEndpointSpecCommandPort).should().markChanged(List.of(10L));
+            then(transactionEventRegistry)
+                    .should()
+                    .registerObjectForPublish(EndpointPermissionSpecChangedEvent.of(1));
         }
 
         @Test
@@ -85,6 +104,8 @@ class PermissionEndpointCommandManagerTest {
 
             // then
             then(permissionEndpointCommandPort).shouldHaveNoInteractions();
+            then(permissionEndpointSpecCommandPort).shouldHaveNoInteractions();
+            then(transactionEventRegistry).shouldHaveNoInteractions();
         }
     }
 }
@@ -5,7 +5,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecChangeResult;
 import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecResult;
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecVersionResult;
 import com.ryuqq.authhub.application.permissionendpoint.port.out.query.PermissionEndpointQueryPort;
 import com.ryuqq.authhub.application.permissionendpoint.port.out.query.PermissionEndpointSpecQueryPort;
 import com.ryuqq.authhub.domain.permissionendpoint.aggregate.PermissionEndpoint;
@@ -237,6 +239,7 @@ class PermissionEndpointReadManagerTest {
             List<EndpointPermissionSpecResult> expected =
                     List.of(
                             new EndpointPermissionSpecResult(
+                                    1L,
                                     "authhub",
                                     "/api/v1/users",
                                     "GET",
@@ -269,6 +272,53 @@ class PermissionEndpointReadManagerTest {
         }
     }
 
+    @Nested
+    @DisplayName("findActiveSpecVersion 메서드")
+    class FindActiveSpecVersion {
+
+        @Test
+        @DisplayName("스펙 버전 반환")
+        void shouldReturnActiveSpecVersion() {
+            EndpointPermissionSpecVersionResult expected =
+                    EndpointPermissionSpecVersionResult.of(
+                            3L, Instant.parse("2025-01-15T10:00:00Z"));
+            given(specQueryPort.findActiveSpecVersion()).willReturn(expected);
+
+            EndpointPermissionSpecVersionResult result = sut.findActiveSpecVersion();
+
+            assertThat(result).isEqualTo(expected);
+            then(specQueryPort).should().findActiveSpecVersion();
+        }
+    }
+
+    @Nested
+    @DisplayName("findSpecChangesBetween 메서드")
+    class FindSpecChangesBetween {
+
+        @Test
+        @DisplayName("스펙 버전 구간에 변경된 스펙 목록 반환")
+        void shouldReturnSpecChangesBetween() {
+            List<EndpointPermissionSpecChangeResult> expected =
+                    List.of(
+                            new EndpointPermissionSpecChangeResult(
+                                    1L,
+                                    "authhub",
+                                    "/api/v1/users",
+                                    "GET",
+                                    "user:read",
+                                    false,
+                                    "사용자 목록 조회",
+                                    null,
+                                    null));
+            given(specQueryPort.findSpecChangesBetween(3L, 5L)).willReturn(expected);
+
+            List<EndpointPermissionSpecChangeResult> result = sut.findSpecChangesBetween(3L, 5L);
+
+            assertThat(result).isEqualTo(expected);
+            then(specQueryPort).should().findSpecChangesBetween(3L, 5L);
+        }
+    }
+
     @Nested
     @DisplayName("findAllByUrlPatterns 메서드")
     class FindAllByUrlPatterns {
@@ -0,0 +1,173 @@
+package com.ryuqq.authhub.application.permissionendpoint.service.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.ryuqq.authhub.application.permissionendpoint.assembler.PermissionEndpointAssembler;
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecChangeResult;
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecDeltaResult;
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecResult;
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecVersionResult;
+import com.ryuqq.authhub.application.permissionendpoint.manager.PermissionEndpointReadManager;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * GetEndpointPermissionSpecChangesService 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetEndpointPermissionSpecChangesService 단위 테스트")
+class GetEndpointPermissionSpecChangesServiceTest {
+
+    private static final String SINCE_VERSION = "3";
+    private static final EndpointPermissionSpecVersionResult CURRENT_VERSION =
+            EndpointPermissionSpecVersionResult.of(5L, Instant.parse("2025-01-15T11:00:00Z"));
+
+    @Mock private PermissionEndpointReadManager readManager;
+    @Mock private PermissionEndpointAssembler assembler;
+
+    private GetEndpointPermissionSpecChangesService sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new GetEndpointPermissionSpecChangesService(readManager, assembler);
+    }
+
+    @Nested
+    @DisplayName("getChangesSince 메서드")
+    class GetChangesSince {
+
+        @Test
+        @DisplayName("성공: 기준 버전 초과 현재 버전 이하 구간의 변경분 조회 → Assembler")
+        void shouldReturnDelta_WhenVersionChanged() {
+            // given
+            List<EndpointPermissionSpecChangeResult> changes =
+                    List.of(
+                            new EndpointPermissionSpecChangeResult(
+                                    7L,
+                                    "authhub",
+                                    "/api/v1/users",
+                                    "GET",
+                                    "user:read",
+                                    false,
+                                    "사용자 조회",
+                                    null,
+                                    null),
+                            new EndpointPermissionSpecChangeResult(
+                                    9L,
+                                    "authhub",
+                                    "/api/v1/legacy",
+                                    "GET",
+                                    "legacy:read",
+                                    false,
+                                    "삭제된 권한의 엔드포인트",
+                                    null,
+                                    Instant.parse("2025-01-15T10:30:00Z")));
+            EndpointPermissionSpecDeltaResult expected =
+                    EndpointPermissionSpecDeltaResult.of(SINCE_VERSION, CURRENT_VERSION, changes);
+            given(readManager.findActiveSpecVersion()).willReturn(CURRENT_VERSION);
+            given(readManager.findSpecChangesBetween(3L, 5L)).willReturn(changes);
+            given(assembler.toSpecDeltaResult(SINCE_VERSION, CURRENT_VERSION, changes))
+                    .willReturn(expected);
+
+            // when
+            EndpointPermissionSpecDeltaResult result = sut.getChangesSince(SINCE_VERSION);
+
+            // then
+            assertThat(result).isEqualTo(expected);
+            assertThat(result.removedEndpointIds()).containsExactly(9L);
+            then(readManager).should(never()).findAllActiveSpecs();
+        }
+
+        @Test
+        @DisplayName("성공: 기준 버전이 현재 버전과 같으면 변경분 조회 없이 빈 결과 반환")
+        void shouldReturnUnchanged_WhenVersionMatches() {
+            // given
+            given(readManager.findActiveSpecVersion()).willReturn(CURRENT_VERSION);
+
+            // when
+            EndpointPermissionSpecDeltaResult result =
+                    sut.getChangesSince(CURRENT_VERSION.version());
+
+            // then
+            assertThat(result.version()).isEqualTo(CURRENT_VERSION.version());
+            assertThat(result.fullSync()).isFalse();
+            assertThat(result.endpoints()).isEmpty();
+            assertThat(result.removedEndpointIds()).isEmpty();
+            then(readManager).should(never()).findSpecChangesBetween(anyLong(), anyLong());
+            then(assembler).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("성공: 기준 버전을 해석할 수 없으면 전체 스펙을 fullSync로 반환")
+        void shouldReturnFullSync_WhenSinceVersionIsInvalid() {
+            // given
+            List<EndpointPermissionSpecResult> specs =
+                    List.of(
+                            new EndpointPermissionSpecResult(
+                                    7L,
+                                    "authhub",
+                                    "/api/v1/users",
+                                    "GET",
+                                    "user:read",
+                                    false,
+                                    "사용자 조회"));
+            given(readManager.findActiveSpecVersion()).willReturn(CURRENT_VERSION);
+            given(readManager.findAllActiveSpecs()).willReturn(specs);
+
+            // when
+            EndpointPermissionSpecDeltaResult result = sut.getChangesSince("0");
+
+            // then
+            assertThat(result.fullSync()).isTrue();
+            assertThat(result.version()).isEqualTo(CURRENT_VERSION.version());
+            assertThat(result.endpoints()).isEqualTo(specs);
+            then(readManager).should(never()).findSpecChangesBetween(anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("성공: 이전 형식({epochMillis}-{count}) 버전이면 전체 스펙을 fullSync로 반환")
+        void shouldReturnFullSync_WhenSinceVersionIsLegacyFormat() {
+            // given
+            given(readManager.findActiveSpecVersion()).willReturn(CURRENT_VERSION);
+            given(readManager.findAllActiveSpecs()).willReturn(List.of());
+
+            // when
+            EndpointPermissionSpecDeltaResult result = sut.getChangesSince("1736935200000-3");
+
+            // then
+            assertThat(result.fullSync()).isTrue();
+            then(readManager).should(never()).findSpecChangesBetween(anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("성공: 기준 버전이 현재 버전보다 크면 전체 스펙을 fullSync로 반환")
+        void shouldReturnFullSync_WhenSinceVersionIsAhead() {
+            // given
+            given(readManager.findActiveSpecVersion()).willReturn(CURRENT_VERSION);
+            given(readManager.findAllActiveSpecs()).willReturn(List.of());
+
+            // when
+            EndpointPermissionSpecDeltaResult result = sut.getChangesSince("6");
+
+            // then
+            assertThat(result.fullSync()).isTrue();
+            then(readManager).should(never()).findSpecChangesBetween(anyLong(), anyLong());
+        }
+    }
+}
@@ -3,10 +3,13 @@ package com.ryuqq.authhub.application.permissionendpoint.service.query;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
 
 import com.ryuqq.authhub.application.permissionendpoint.assembler.PermissionEndpointAssembler;
 import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecListResult;
 import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecResult;
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecVersionResult;
+import com.ryuqq.authhub.application.permissionendpoint.internal.EndpointPermissionSpecSnapshotHolder;
 import com.ryuqq.authhub.application.permissionendpoint.manager.PermissionEndpointReadManager;
 import java.time.Instant;
 import java.util.List;
@@ -37,7 +40,9 @@ class GetEndpointPermissionSpecServiceTest {
 
     @BeforeEach
     void setUp() {
-        sut = new GetEndpointPermissionSpecService(readManager, assembler);
+        sut =
+                new GetEndpointPermissionSpecService(
+                        readManager, assembler, new EndpointPermissionSpecSnapshotHolder());
     }
 
     @Nested
@@ -46,49 +51,100 @@ class GetEndpointPermissionSpecServiceTest {
 
         @Test
         @DisplayName(
-                "성공: ReadManager findAllActiveSpecs·findLatestUpdatedAt → Assembler"
+                "성공: ReadManager findActiveSpecVersion·findAllActiveSpecs → Assembler"
                         + " toSpecListResult")
         void shouldReturnSpecListResult() {
             List<EndpointPermissionSpecResult> specs =
                     List.of(
                             new EndpointPermissionSpecResult(
+                                    1L,
                                     "authhub",
                                     "/api/v1/users",
                                     "GET",
                                     "user:read",
                                     false,
                                     "User list"));
-            Instant latestUpdatedAt = Instant.parse("2025-01-15T10:00:00Z");
+            EndpointPermissionSpecVersionResult specVersion =
+                    EndpointPermissionSpecVersionResult.of(
+                            1L, Instant.parse("2025-01-15T10:00:00Z"));
             EndpointPermissionSpecListResult expected =
-                    EndpointPermissionSpecListResult.of(specs, latestUpdatedAt);
+                    EndpointPermissionSpecListResult.of(specs, specVersion);
 
+            given(readManager.findActiveSpecVersion()).willReturn(specVersion);
             given(readManager.findAllActiveSpecs()).willReturn(specs);
-            given(readManager.findLatestUpdatedAt()).willReturn(latestUpdatedAt);
-            given(assembler.toSpecListResult(specs, latestUpdatedAt)).willReturn(expected);
+            given(assembler.toSpecListResult(specs, specVersion)).willReturn(expected);
 
-            EndpointPermissionSpecListResult result = sut.getAll();
+            EndpointPermissionSpecListResult result = sut.getAll(specVersion.version());
 
             assertThat(result).isEqualTo(expected);
+            then(readManager).should().findActiveSpecVersion();
             then(readManager).should().findAllActiveSpecs();
-            then(readManager).should().findLatestUpdatedAt();
-            then(assembler).should().toSpecListResult(specs, latestUpdatedAt);
+            then(assembler).should().toSpecListResult(specs, specVersion);
         }
 
         @Test
         @DisplayName("성공: 스펙이 없으면 빈 결과 반환")
         void shouldReturnEmpty_WhenNoSpecs() {
             List<EndpointPermissionSpecResult> specs = List.of();
-            Instant latestUpdatedAt = null;
+            EndpointPermissionSpecVersionResult specVersion =
+                    EndpointPermissionSpecVersionResult.empty();
             EndpointPermissionSpecListResult expected = EndpointPermissionSpecListResult.empty();
 
+            given(readManager.findActiveSpecVersion()).willReturn(specVersion);
             given(readManager.findAllActiveSpecs()).willReturn(specs);
-            given(readManager.findLatestUpdatedAt()).willReturn(latestUpdatedAt);
-            given(assembler.toSpecListResult(specs, latestUpdatedAt)).willReturn(expected);
+            given(assembler.toSpecListResult(specs, specVersion)).willReturn(expected);
 
-            EndpointPermissionSpecListResult result = sut.getAll();
+            EndpointPermissionSpecListResult result = sut.getAll(specVersion.version());
 
             assertThat(result).isEqualTo(expected);
             assertThat(result.endpoints()).isEmpty();
         }
+
+        @Test
+        @DisplayName("성공: 전달한 버전이 스냅샷과 같으면 버전과 전체 스펙을 다시 조회하지 않음")
+        void shouldReuseSnapshot_WhenVersionUnchanged() {
+            List<EndpointPermissionSpecResult> specs = List.of();
+            EndpointPermissionSpecVersionResult specVersion =
+                    EndpointPermissionSpecVersionResult.of(
+                            2L, Instant.parse("2025-01-15T10:00:00Z"));
+            EndpointPermissionSpecListResult expected =
+                    EndpointPermissionSpecListResult.of(specs, specVersion);
+
+            given(readManager.findActiveSpecVersion()).willReturn(specVersion);
+            given(readManager.findAllActiveSpecs()).willReturn(specs);
+            given(assembler.toSpecListResult(specs, specVersion)).willReturn(expected);
+
+            EndpointPermissionSpecListResult first = sut.getAll(specVersion.version());
+            EndpointPermissionSpecListResult second = sut.getAll(specVersion.version());
+
+            assertThat(second).isSameAs(first);
+            then(readManager).should(times(1)).findActiveSpecVersion();
+            then(readManager).should(times(1)).findAllActiveSpecs();
+        }
+
+        @Test
+        @DisplayName("성공: 버전이 바뀌면 스냅샷을 재구성")
+        void shouldReload_WhenVersionChanged() {
+            List<EndpointPermissionSpecResult> specs = List.of();
+            EndpointPermissionSpecVersionResult oldVersion =
+                    EndpointPermissionSpecVersionResult.of(
+                            2L, Instant.parse("2025-01-15T10:00:00Z"));
+            EndpointPermissionSpecVersionResult newVersion =
+                    EndpointPermissionSpecVersionResult.of(
+                            3L, Instant.parse("2025-01-15T11:00:00Z"));
+
+            given(readManager.findActiveSpecVersion()).willReturn(oldVersion, newVersion);
+            given(readManager.findAllActiveSpecs()).willReturn(specs);
+            given(assembler.toSpecListResult(specs, oldVersion))
+                    .willReturn(EndpointPermissionSpecListResult.of(specs, oldVersion));
+            given(assembler.toSpecListResult(specs, newVersion))
+                    .willReturn(EndpointPermissionSpecListResult.of(specs, newVersion));
+
+            sut.getAll(oldVersion.version());
+            EndpointPermissionSpecListResult result = sut.getAll(newVersion.version());
+
+            assertThat(result.version()).isEqualTo(newVersion.version());
+            then(readManager).should(times(2)).findAllActiveSpecs();
+        }
     }
 }
@@ -0,0 +1,68 @@
+package com.ryuqq.authhub.application.permissionendpoint.service.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.ryuqq.authhub.application.permissionendpoint.dto.response.EndpointPermissionSpecVersionResult;
+import com.ryuqq.authhub.application.permissionendpoint.manager.PermissionEndpointReadManager;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * GetEndpointPermissionSpecVersionService 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetEndpointPermissionSpecVersionService 단위 테스트")
+class GetEndpointPermissionSpecVersionServiceTest {
+
+    @Mock private PermissionEndpointReadManager readManager;
+
+    private GetEndpointPermissionSpecVersionService sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new GetEndpointPermissionSpecVersionService(readManager);
+    }
+
+    @Nested
+    @DisplayName("getVersion 메서드")
+    class GetVersion {
+
+        @Test
+        @DisplayName("성공: 스펙 버전 번호를 문자열로 반환")
+        void shouldReturnVersionFromSequence() {
+            Instant latestUpdatedAt = Instant.parse("2025-01-15T10:00:00Z");
+            given(readManager.findActiveSpecVersion())
+                    .willReturn(EndpointPermissionSpecVersionResult.of(42L, latestUpdatedAt));
+
+            String result = sut.getVersion();
+
+            assertThat(result).isEqualTo("42");
+            then(readManager).should().findActiveSpecVersion();
+            then(readManager).shouldHaveNoMoreInteractions();
+        }
+
+        @Test
+        @DisplayName("성공: 스펙 변경 이력이 없으면 \"0\" 반환")
+        void shouldReturnZero_WhenNoSpecs() {
+            given(readManager.findActiveSpecVersion())
+                    .willReturn(EndpointPermissionSpecVersionResult.empty());
+
+            String result = sut.getVersion();
+
+            assertThat(result).isEqualTo("0");
+        }
+    }
+}
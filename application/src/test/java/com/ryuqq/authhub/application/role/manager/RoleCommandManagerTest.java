@@ -1,9 +1,13 @@
 package com.ryuqq.authhub.application.role.manager;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
+import com.ryuqq.authhub.application.common.component.TransactionEventRegistry;
+import com.ryuqq.authhub.application.role.dto.event.RoleChangedEvent;
 import com.ryuqq.authhub.application.role.port.out.command.RoleCommandPort;
 import com.ryuqq.authhub.domain.role.aggregate.Role;
 import com.ryuqq.authhub.domain.role.fixture.RoleFixture;
@@ -36,12 +40,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class RoleCommandManagerTest {
 
     @Mock private RoleCommandPort persistencePort;
+    @Mock private TransactionEventRegistry transactionEventRegistry;
 
     private RoleCommandManager sut;
 
     @BeforeEach
     void setUp() {
-        sut = new RoleCommandManager(persistencePort);
+        sut = new RoleCommandManager(persistencePort, transactionEventRegistry);
     }
 
     @Nested
@@ -63,6 +68,7 @@ class RoleCommandManagerTest {
             // then
             assertThat(result).isEqualTo(expectedId);
             then(persistencePort).should().persist(role);
+            then(transactionEventRegistry).should(never()).registerObjectForPublish(any());
         }
 
         @Test
@@ -79,6 +85,9 @@ class RoleCommandManagerTest {
 
             // then
             then(persistencePort).should().persist(role);
+            then(transactionEventRegistry)
+                    .should()
+                    .registerObjectForPublish(RoleChangedEvent.of(role.getRoleId()));
         }
     }
 }
@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
+import com.ryuqq.authhub.application.common.component.TransactionEventRegistry;
+import com.ryuqq.authhub.application.rolepermission.dto.event.RolePermissionChangedEvent;
 import com.ryuqq.authhub.application.rolepermission.port.out.command.RolePermissionCommandPort;
 import com.ryuqq.authhub.domain.permission.id.PermissionId;
 import com.ryuqq.authhub.domain.role.id.RoleId;
@@ -38,12 +40,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class RolePermissionCommandManagerTest {
 
     @Mock private RolePermissionCommandPort persistencePort;
+    @Mock private TransactionEventRegistry transactionEventRegistry;
 
     private RolePermissionCommandManager sut;
 
     @BeforeEach
     void setUp() {
-        sut = new RolePermissionCommandManager(persistencePort);
+        sut = new RolePermissionCommandManager(persistencePort, transactionEventRegistry);
     }
 
     @Nested
@@ -65,6 +68,10 @@ class RolePermissionCommandManagerTest {
             // then
             assertThat(result).isEqualTo(persisted);
             then(persistencePort).should().persist(rolePermission);
+            then(transactionEventRegistry)
+                    .should()
+                    .registerObjectForPublish(
+                            RolePermissionChangedEvent.of(rolePermission.getRoleId()));
         }
     }
 
@@ -87,6 +94,10 @@ class RolePermissionCommandManagerTest {
             // then
             assertThat(result).hasSize(1);
             then(persistencePort).should().persistAll(rolePermissions);
+            then(transactionEventRegistry)
+                    .should()
+                    .registerObjectForPublish(
+                            RolePermissionChangedEvent.of(RolePermissionFixture.defaultRoleId()));
         }
     }
 
@@ -106,6 +117,9 @@ class RolePermissionCommandManagerTest {
 
             // then
             then(persistencePort).should().deleteAll(roleId, permissionIds);
+            then(transactionEventRegistry)
+                    .should()
+                    .registerObjectForPublish(RolePermissionChangedEvent.of(roleId));
         }
     }
 }
@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
+import com.ryuqq.authhub.application.rolepermission.dto.response.RbacCatalogEntryResult;
+import com.ryuqq.authhub.application.rolepermission.port.out.query.RbacCatalogQueryPort;
 import com.ryuqq.authhub.application.rolepermission.port.out.query.RolePermissionQueryPort;
 import com.ryuqq.authhub.domain.permission.id.PermissionId;
 import com.ryuqq.authhub.domain.role.id.RoleId;
@@ -40,11 +42,13 @@ class RolePermissionReadManagerTest {
 
     @Mock private RolePermissionQueryPort queryPort;
 
+    @Mock private RbacCatalogQueryPort catalogQueryPort;
+
     private RolePermissionReadManager sut;
 
     @BeforeEach
     void setUp() {
-        sut = new RolePermissionReadManager(queryPort);
+        sut = new RolePermissionReadManager(queryPort, catalogQueryPort);
     }
 
     @Nested
@@ -262,4 +266,28 @@ class RolePermissionReadManagerTest {
             assertThat(result).isEmpty();
         }
     }
+
+    @Nested
+    @DisplayName("findAllActiveCatalogEntries 메서드")
+    class FindAllActiveCatalogEntries {
+
+        @Test
+        @DisplayName("성공: 카탈로그 포트에 위임하여 역할-권한 목록 반환")
+        void shouldDelegateToCatalogQueryPort() {
+            // given
+            List<RbacCatalogEntryResult> expected =
+                    List.of(
+                            new RbacCatalogEntryResult(1L, "ADMIN", "user:read"),
+                            new RbacCatalogEntryResult(2L, "VIEWER", null));
+            given(catalogQueryPort.findAllActiveEntries()).willReturn(expected);
+
+            // when
+            List<RbacCatalogEntryResult> result = sut.findAllActiveCatalogEntries();
+
+            // then
+            assertThat(result).isEqualTo(expected);
+            then(catalogQueryPort).should().findAllActiveEntries();
+            then(queryPort).shouldHaveNoInteractions();
+        }
+    }
 }
@@ -2,6 +2,7 @@ package com.ryuqq.authhub.application.token.factory;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.ryuqq.authhub.application.token.dto.composite.LoginContextComposite;
 import com.ryuqq.authhub.application.token.dto.composite.TokenClaimsComposite;
 import com.ryuqq.authhub.domain.organization.aggregate.Organization;
 import com.ryuqq.authhub.domain.organization.fixture.OrganizationFixture;
@@ -9,6 +10,8 @@ import com.ryuqq.authhub.domain.tenant.aggregate.Tenant;
 import com.ryuqq.authhub.domain.tenant.fixture.TenantFixture;
 import com.ryuqq.authhub.domain.user.aggregate.User;
 import com.ryuqq.authhub.domain.user.fixture.UserFixture;
+import com.ryuqq.authhub.domain.user.vo.HashedPassword;
+import com.ryuqq.authhub.domain.user.vo.UserStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -56,5 +59,32 @@ class TokenClaimsContextFactoryTest {
             assertThat(result.organizationName()).isEqualTo(organization.nameValue());
             assertThat(result.email()).isEqualTo(user.identifierValue());
         }
+
+        @Test
+        @DisplayName("성공: 로그인 컨텍스트로 TokenClaimsComposite 생성")
+        void shouldCreateTokenClaimsComposite_FromLoginContext() {
+            // given
+            LoginContextComposite context =
+                    new LoginContextComposite(
+                            UserFixture.defaultId(),
+                            "test@example.com",
+                            HashedPassword.of("$2a$10$hashed"),
+                            UserStatus.ACTIVE,
+                            "tenant-123",
+                            "Test Tenant",
+                            "org-456",
+                            "Test Organization");
+
+            // when
+            TokenClaimsComposite result = sut.create(context);
+
+            // then
+            assertThat(result.userId()).isEqualTo(context.userId());
+            assertThat(result.tenantId()).isEqualTo("tenant-123");
+            assertThat(result.tenantName()).isEqualTo("Test Tenant");
+            assertThat(result.organizationId()).isEqualTo("org-456");
+            assertThat(result.organizationName()).isEqualTo("Test Organization");
+            assertThat(result.email()).isEqualTo("test@example.com");
+        }
     }
 }
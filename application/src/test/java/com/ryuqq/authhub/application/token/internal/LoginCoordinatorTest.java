@@ -0,0 +1,170 @@
+package com.ryuqq.authhub.application.token.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+
+import com.ryuqq.authhub.application.token.dto.command.LoginCommand;
+import com.ryuqq.authhub.application.token.dto.composite.LoginContextComposite;
+import com.ryuqq.authhub.application.token.dto.composite.TokenClaimsComposite;
+import com.ryuqq.authhub.application.token.dto.composite.TokenIssueComposite;
+import com.ryuqq.authhub.application.token.factory.TokenClaimsContextFactory;
+import com.ryuqq.authhub.application.token.validator.LoginValidator;
+import com.ryuqq.authhub.application.userrole.dto.composite.LoadedRolesAndPermissions;
+import com.ryuqq.authhub.application.userrole.dto.composite.RolesAndPermissionsComposite;
+import com.ryuqq.authhub.application.userrole.dto.composite.UserAuthorizationCacheLookup;
+import com.ryuqq.authhub.application.userrole.facade.UserRoleReadFacade;
+import com.ryuqq.authhub.domain.token.exception.InvalidCredentialsException;
+import com.ryuqq.authhub.domain.user.id.UserId;
+import com.ryuqq.authhub.domain.user.vo.HashedPassword;
+import com.ryuqq.authhub.domain.user.vo.Identifier;
+import com.ryuqq.authhub.domain.user.vo.UserStatus;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * LoginCoordinator 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LoginCoordinator 단위 테스트")
+class LoginCoordinatorTest {
+
+    private static final UserId USER_ID = UserId.of("019450eb-4f1e-7000-8000-000000000001");
+    private static final LoginCommand COMMAND = new LoginCommand("test@example.com", "password");
+    private static final LoginContextComposite CONTEXT =
+            new LoginContextComposite(
+                    USER_ID,
+                    "test@example.com",
+                    HashedPassword.of("$2a$10$hashed"),
+                    UserStatus.ACTIVE,
+                    "tenant-123",
+                    "Test Tenant",
+                    "org-456",
+                    "Test Organization");
+
+    @Mock private LoginValidator loginValidator;
+    @Mock private UserRoleReadFacade userRoleReadFacade;
+    @Mock private TokenClaimsContextFactory tokenClaimsContextFactory;
+
+    private LoginCoordinator sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new LoginCoordinator(loginValidator, userRoleReadFacade, tokenClaimsContextFactory);
+    }
+
+    @Nested
+    @DisplayName("coordinate 메서드")
+    class Coordinate {
+
+        @Test
+        @DisplayName("성공: 비밀번호 검증 통과 후 조회한 역할/권한을 캐시에 저장하고 TokenIssueComposite 반환")
+        void shouldCacheRolesAfterPasswordValidated() {
+            // given
+            TokenClaimsComposite claims =
+                    TokenClaimsComposite.builder()
+                            .userId(USER_ID)
+                            .tenantId(CONTEXT.tenantId())
+                            .tenantName(CONTEXT.tenantName())
+                            .organizationId(CONTEXT.organizationId())
+                            .organizationName(CONTEXT.organizationName())
+                            .email(CONTEXT.identifier())
+                            .build();
+            RolesAndPermissionsComposite rolesAndPermissions =
+                    new RolesAndPermissionsComposite(Set.of("USER"), Set.of("user:read"));
+            LoadedRolesAndPermissions loaded =
+                    new LoadedRolesAndPermissions(
+                            USER_ID,
+                            rolesAndPermissions,
+                            UserAuthorizationCacheLookup.miss(1L, 0L));
+            given(loginValidator.findActiveLoginContextOrThrow(any(Identifier.class)))
+                    .willReturn(CONTEXT);
+            given(userRoleReadFacade.loadRolesAndPermissionsByUserId(USER_ID)).willReturn(loaded);
+            given(userRoleReadFacade.cacheLoaded(loaded)).willReturn(rolesAndPermissions);
+            given(tokenClaimsContextFactory.create(CONTEXT)).willReturn(claims);
+
+            // when
+            TokenIssueComposite result = sut.coordinate(COMMAND);
+
+            // then
+            assertThat(result.claims()).isEqualTo(claims);
+            assertThat(result.rolesAndPermissions()).isEqualTo(rolesAndPermissions);
+            InOrder order = inOrder(loginValidator, userRoleReadFacade);
+            order.verify(loginValidator).validatePassword(COMMAND.password(), CONTEXT);
+            order.verify(userRoleReadFacade).cacheLoaded(loaded);
+        }
+
+        @Test
+        @DisplayName("성공: 역할/권한 조회를 비밀번호 검증과 동시에 실행한다")
+        void shouldLoadRolesWhilePasswordValidating() {
+            // given
+            CountDownLatch rolesLoading = new CountDownLatch(1);
+            RolesAndPermissionsComposite rolesAndPermissions = RolesAndPermissionsComposite.empty();
+            LoadedRolesAndPermissions loaded =
+                    new LoadedRolesAndPermissions(
+                            USER_ID,
+                            rolesAndPermissions,
+                            UserAuthorizationCacheLookup.miss(1L, 0L));
+            given(loginValidator.findActiveLoginContextOrThrow(any(Identifier.class)))
+                    .willReturn(CONTEXT);
+            given(userRoleReadFacade.loadRolesAndPermissionsByUserId(USER_ID))
+                    .willAnswer(
+                            invocation -> {
+                                rolesLoading.countDown();
+                                return loaded;
+                            });
+            willAnswer(
+                            invocation -> {
+                                assertThat(rolesLoading.await(5, TimeUnit.SECONDS)).isTrue();
+                                return null;
+                            })
+                    .given(loginValidator)
+                    .validatePassword(COMMAND.password(), CONTEXT);
+            given(userRoleReadFacade.cacheLoaded(loaded)).willReturn(rolesAndPermissions);
+
+            // when
+            TokenIssueComposite result = sut.coordinate(COMMAND);
+
+            // then
+            assertThat(result.rolesAndPermissions()).isEqualTo(rolesAndPermissions);
+        }
+
+        @Test
+        @DisplayName("실패: 비밀번호가 일치하지 않으면 역할/권한을 캐시에 저장하지 않는다")
+        void shouldNotCacheRoles_WhenPasswordInvalid() {
+            // given
+            given(loginValidator.findActiveLoginContextOrThrow(any(Identifier.class)))
+                    .willReturn(CONTEXT);
+            willThrow(new InvalidCredentialsException())
+                    .given(loginValidator)
+                    .validatePassword(COMMAND.password(), CONTEXT);
+
+            // when & then
+            assertThatThrownBy(() -> sut.coordinate(COMMAND))
+                    .isInstanceOf(InvalidCredentialsException.class);
+            then(userRoleReadFacade).should(never()).cacheLoaded(any());
+            then(userRoleReadFacade).should(never()).findRolesAndPermissionsByUserId(any());
+            then(tokenClaimsContextFactory).shouldHaveNoInteractions();
+        }
+    }
+}
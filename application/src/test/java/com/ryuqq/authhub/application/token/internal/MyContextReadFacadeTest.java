@@ -13,6 +13,8 @@ import com.ryuqq.authhub.application.userrole.dto.composite.RolesAndPermissionsC
 import com.ryuqq.authhub.application.userrole.facade.UserRoleReadFacade;
 import com.ryuqq.authhub.domain.user.exception.UserNotFoundException;
 import com.ryuqq.authhub.domain.user.id.UserId;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -135,4 +137,67 @@ class MyContextReadFacadeTest {
             assertThat(result.rolesAndPermissions().permissionKeys()).isEmpty();
         }
     }
+
+    @Nested
+    @DisplayName("findMyContexts 메서드")
+    class FindMyContexts {
+
+        @Test
+        @DisplayName("성공: 사용자 컨텍스트와 역할/권한을 각각 한 번에 조회해 요청 순서대로 조합한다")
+        void shouldCombineInRequestOrder_AndSkipMissingUsers() {
+            // given
+            UserId first = UserId.of("019450eb-4f1e-7000-8000-000000000001");
+            UserId second = UserId.of("019450eb-4f1e-7000-8000-000000000002");
+            UserId missing = UserId.of("019450eb-4f1e-7000-8000-000000000003");
+            List<UserId> requested = List.of(second, missing, first);
+
+            UserContextComposite firstContext = userContext(first);
+            UserContextComposite secondContext = userContext(second);
+            RolesAndPermissionsComposite admin =
+                    new RolesAndPermissionsComposite(Set.of("ADMIN"), Set.of("user:read"));
+
+            given(userContextCompositeReadManager.findUserContextsByUserIds(requested))
+                    .willReturn(List.of(firstContext, secondContext));
+            given(userRoleReadFacade.findRolesAndPermissionsByUserIds(List.of(second, first)))
+                    .willReturn(
+                            Map.of(
+                                    first, admin,
+                                    second, RolesAndPermissionsComposite.empty()));
+
+            // when
+            List<MyContextComposite> result = sut.findMyContexts(requested);
+
+            // then
+            assertThat(result)
+                    .extracting(MyContextComposite::userContext)
+                    .containsExactly(secondContext, firstContext);
+            assertThat(result.get(1).rolesAndPermissions()).isEqualTo(admin);
+            then(userContextCompositeReadManager).should(never()).getUserContextByUserId(first);
+            then(userRoleReadFacade).should(never()).findRolesAndPermissionsByUserId(first);
+        }
+
+        @Test
+        @DisplayName("빈 목록이면 아무것도 조회하지 않는다")
+        void shouldReturnEmpty_WhenUserIdsEmpty() {
+            // when
+            List<MyContextComposite> result = sut.findMyContexts(List.of());
+
+            // then
+            assertThat(result).isEmpty();
+            then(userContextCompositeReadManager).shouldHaveNoInteractions();
+            then(userRoleReadFacade).shouldHaveNoInteractions();
+        }
+
+        private UserContextComposite userContext(UserId userId) {
+            return UserContextComposite.builder()
+                    .userId(userId.value())
+                    .email(userId.value() + "@example.com")
+                    .name("Test User")
+                    .tenantId("tenant-123")
+                    .tenantName("Test Tenant")
+                    .organizationId("org-456")
+                    .organizationName("Test Organization")
+                    .build();
+        }
+    }
 }
@@ -0,0 +1,176 @@
+package com.ryuqq.authhub.application.token.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+
+import com.ryuqq.authhub.application.token.manager.RefreshTokenCacheCommandManager;
+import com.ryuqq.authhub.application.token.manager.RefreshTokenCommandManager;
+import com.ryuqq.authhub.domain.token.vo.RefreshToken;
+import com.ryuqq.authhub.domain.user.fixture.UserFixture;
+import com.ryuqq.authhub.domain.user.id.UserId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * TokenCommandFacade 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenCommandFacade 단위 테스트")
+class TokenCommandFacadeTest {
+
+    private static final UserId USER_ID = UserFixture.defaultId();
+    private static final long EXPIRES_IN = 604800L;
+
+    @Mock private RefreshTokenCommandManager refreshTokenCommandManager;
+    @Mock private RefreshTokenCacheCommandManager refreshTokenCacheCommandManager;
+
+    private TokenCommandFacade sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new TokenCommandFacade(refreshTokenCommandManager, refreshTokenCacheCommandManager);
+    }
+
+    @Nested
+    @DisplayName("persistRefreshToken 메서드")
+    class PersistRefreshToken {
+
+        @Test
+        @DisplayName("성공: RDB에 먼저 저장한 뒤 Cache에 저장한다")
+        void shouldPersistToDatabaseBeforeCache() {
+            // given
+            RefreshToken refreshToken = RefreshToken.of(USER_ID, "new-token", EXPIRES_IN);
+
+            // when
+            sut.persistRefreshToken(refreshToken);
+
+            // then
+            InOrder order = inOrder(refreshTokenCommandManager, refreshTokenCacheCommandManager);
+            order.verify(refreshTokenCommandManager).persist(USER_ID, "new-token", EXPIRES_IN);
+            order.verify(refreshTokenCacheCommandManager).save(USER_ID, "new-token", EXPIRES_IN);
+        }
+
+        @Test
+        @DisplayName("실패: RDB 저장이 실패하면 Cache에 저장하지 않는다")
+        void shouldNotSaveCache_WhenDatabasePersistFails() {
+            // given
+            RefreshToken refreshToken = RefreshToken.of(USER_ID, "new-token", EXPIRES_IN);
+            willThrow(new IllegalStateException("db down"))
+                    .given(refreshTokenCommandManager)
+                    .persist(USER_ID, "new-token", EXPIRES_IN);
+
+            // when & then
+            assertThatThrownBy(() -> sut.persistRefreshToken(refreshToken))
+                    .isInstanceOf(IllegalStateException.class);
+            then(refreshTokenCacheCommandManager).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("rotateRefreshToken 메서드")
+    class RotateRefreshToken {
+
+        private static final String PREVIOUS_TOKEN = "previous-token";
+
+        @Test
+        @DisplayName("성공: Cache 교체 후 RDB에 새 토큰을 저장한다")
+        void shouldPersistToDatabase_WhenCacheRotated() {
+            // given
+            RefreshToken refreshToken = RefreshToken.of(USER_ID, "new-token", EXPIRES_IN);
+            given(
+                            refreshTokenCacheCommandManager.rotate(
+                                    USER_ID, PREVIOUS_TOKEN, "new-token", EXPIRES_IN))
+                    .willReturn(true);
+
+            // when
+            boolean rotated = sut.rotateRefreshToken(PREVIOUS_TOKEN, refreshToken);
+
+            // then
+            assertThat(rotated).isTrue();
+            then(refreshTokenCommandManager).should().persist(USER_ID, "new-token", EXPIRES_IN);
+            then(refreshTokenCacheCommandManager).should(never()).deleteByToken(any());
+        }
+
+        @Test
+        @DisplayName("실패: 이전 토큰이 이미 교체되었으면 RDB를 변경하지 않는다")
+        void shouldNotPersist_WhenCacheRotationRejected() {
+            // given
+            RefreshToken refreshToken = RefreshToken.of(USER_ID, "new-token", EXPIRES_IN);
+            given(
+                            refreshTokenCacheCommandManager.rotate(
+                                    USER_ID, PREVIOUS_TOKEN, "new-token", EXPIRES_IN))
+                    .willReturn(false);
+
+            // when
+            boolean rotated = sut.rotateRefreshToken(PREVIOUS_TOKEN, refreshToken);
+
+            // then
+            assertThat(rotated).isFalse();
+            then(refreshTokenCommandManager).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("실패: RDB 저장이 실패하면 Cache의 새 토큰을 삭제하고 예외를 전파한다")
+        void shouldRevokeRotatedToken_WhenDatabasePersistFails() {
+            // given
+            RefreshToken refreshToken = RefreshToken.of(USER_ID, "new-token", EXPIRES_IN);
+            given(
+                            refreshTokenCacheCommandManager.rotate(
+                                    USER_ID, PREVIOUS_TOKEN, "new-token", EXPIRES_IN))
+                    .willReturn(true);
+            willThrow(new IllegalStateException("db down"))
+                    .given(refreshTokenCommandManager)
+                    .persist(USER_ID, "new-token", EXPIRES_IN);
+
+            // when & then
+            assertThatThrownBy(() -> sut.rotateRefreshToken(PREVIOUS_TOKEN, refreshToken))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("db down");
+            then(refreshTokenCacheCommandManager).should().deleteByToken("new-token");
+        }
+
+        @Test
+        @DisplayName("실패: 보상 삭제도 실패하면 원래 예외에 suppressed로 첨부한다")
+        void shouldAttachCompensationFailure_WhenRevokeFails() {
+            // given
+            RefreshToken refreshToken = RefreshToken.of(USER_ID, "new-token", EXPIRES_IN);
+            given(
+                            refreshTokenCacheCommandManager.rotate(
+                                    USER_ID, PREVIOUS_TOKEN, "new-token", EXPIRES_IN))
+                    .willReturn(true);
+            willThrow(new IllegalStateException("db down"))
+                    .given(refreshTokenCommandManager)
+                    .persist(USER_ID, "new-token", EXPIRES_IN);
+            willThrow(new IllegalStateException("redis down"))
+                    .given(refreshTokenCacheCommandManager)
+                    .deleteByToken("new-token");
+
+            // when & then
+            assertThatThrownBy(() -> sut.rotateRefreshToken(PREVIOUS_TOKEN, refreshToken))
+                    .hasMessage("db down")
+                    .satisfies(
+                            e ->
+                                    assertThat(e.getSuppressed())
+                                            .singleElement()
+                                            .extracting(Throwable::getMessage)
+                                            .isEqualTo("redis down"));
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.ryuqq.authhub.application.token.manager.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.ryuqq.authhub.application.token.dto.composite.LoginContextComposite;
+import com.ryuqq.authhub.application.token.port.out.query.LoginContextQueryPort;
+import com.ryuqq.authhub.domain.user.exception.UserNotFoundException;
+import com.ryuqq.authhub.domain.user.id.UserId;
+import com.ryuqq.authhub.domain.user.vo.HashedPassword;
+import com.ryuqq.authhub.domain.user.vo.Identifier;
+import com.ryuqq.authhub.domain.user.vo.UserStatus;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * LoginContextReadManager 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LoginContextReadManager 단위 테스트")
+class LoginContextReadManagerTest {
+
+    private static final UserId USER_ID = UserId.of("019450eb-4f1e-7000-8000-000000000001");
+
+    @Mock private LoginContextQueryPort queryPort;
+
+    private LoginContextReadManager sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new LoginContextReadManager(queryPort);
+    }
+
+    @Nested
+    @DisplayName("findByIdentifier 메서드")
+    class FindByIdentifier {
+
+        @Test
+        @DisplayName("성공: QueryPort 조회 결과를 그대로 반환")
+        void shouldDelegateToQueryPort() {
+            // given
+            Identifier identifier = Identifier.of("test@example.com");
+            LoginContextComposite expected = loginContext();
+
+            given(queryPort.findByIdentifier(identifier)).willReturn(Optional.of(expected));
+
+            // when
+            Optional<LoginContextComposite> result = sut.findByIdentifier(identifier);
+
+            // then
+            assertThat(result).contains(expected);
+            then(queryPort).should().findByIdentifier(identifier);
+        }
+    }
+
+    @Nested
+    @DisplayName("getByUserId 메서드")
+    class GetByUserId {
+
+        @Test
+        @DisplayName("성공: 로그인 컨텍스트가 존재하면 해당 Composite 반환")
+        void shouldReturnComposite_WhenExists() {
+            // given
+            LoginContextComposite expected = loginContext();
+
+            given(queryPort.findByUserId(USER_ID)).willReturn(Optional.of(expected));
+
+            // when
+            LoginContextComposite result = sut.getByUserId(USER_ID);
+
+            // then
+            assertThat(result).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("실패: 로그인 컨텍스트가 존재하지 않으면 UserNotFoundException 발생")
+        void shouldThrowException_WhenNotExists() {
+            // given
+            given(queryPort.findByUserId(USER_ID)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> sut.getByUserId(USER_ID))
+                    .isInstanceOf(UserNotFoundException.class);
+        }
+    }
+
+    private static LoginContextComposite loginContext() {
+        return new LoginContextComposite(
+                USER_ID,
+                "test@example.com",
+                HashedPassword.of("$2a$10$hashed"),
+                UserStatus.ACTIVE,
+                "tenant-123",
+                "Test Tenant",
+                "org-456",
+                "Test Organization");
+    }
+}
@@ -0,0 +1,96 @@
+package com.ryuqq.authhub.application.token.service.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.ryuqq.authhub.application.token.assembler.MyContextCompositeAssembler;
+import com.ryuqq.authhub.application.token.dto.composite.MyContextComposite;
+import com.ryuqq.authhub.application.token.dto.composite.UserContextComposite;
+import com.ryuqq.authhub.application.token.dto.response.MyContextResponse;
+import com.ryuqq.authhub.application.token.internal.MyContextReadFacade;
+import com.ryuqq.authhub.application.userrole.dto.composite.RolesAndPermissionsComposite;
+import com.ryuqq.authhub.domain.user.id.UserId;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * GetUserContextsService 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetUserContextsService 단위 테스트")
+class GetUserContextsServiceTest {
+
+    @Mock private MyContextReadFacade myContextReadFacade;
+    @Mock private MyContextCompositeAssembler myContextCompositeAssembler;
+
+    private GetUserContextsService sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new GetUserContextsService(myContextReadFacade, myContextCompositeAssembler);
+    }
+
+    @Nested
+    @DisplayName("execute 메서드")
+    class Execute {
+
+        @Test
+        @DisplayName("성공: Facade로 한 번에 조회하고 Assembler로 변환한 Response 목록을 반환")
+        void shouldOrchestrate_FacadeThenAssembler_ForAllUsers() {
+            // given
+            String userId = "019450eb-4f1e-7000-8000-000000000001";
+            String missingUserId = "019450eb-4f1e-7000-8000-000000000002";
+            UserContextComposite userContext =
+                    UserContextComposite.builder()
+                            .userId(userId)
+                            .email("test@example.com")
+                            .name("Test User")
+                            .tenantId("tenant-123")
+                            .tenantName("Test Tenant")
+                            .organizationId("org-456")
+                            .organizationName("Test Organization")
+                            .build();
+            MyContextComposite composite =
+                    new MyContextComposite(userContext, RolesAndPermissionsComposite.empty());
+            MyContextResponse expectedResponse =
+                    new MyContextResponse(
+                            userId,
+                            "test@example.com",
+                            "Test User",
+                            "tenant-123",
+                            "Test Tenant",
+                            "org-456",
+                            "Test Organization",
+                            null,
+                            List.of(),
+                            List.of());
+
+            given(
+                            myContextReadFacade.findMyContexts(
+                                    List.of(UserId.of(userId), UserId.of(missingUserId))))
+                    .willReturn(List.of(composite));
+            given(myContextCompositeAssembler.toResponse(composite)).willReturn(expectedResponse);
+
+            // when
+            List<MyContextResponse> result = sut.execute(List.of(userId, missingUserId));
+
+            // then
+            assertThat(result).containsExactly(expectedResponse);
+            then(myContextReadFacade)
+                    .should()
+                    .findMyContexts(List.of(UserId.of(userId), UserId.of(missingUserId)));
+        }
+    }
+}
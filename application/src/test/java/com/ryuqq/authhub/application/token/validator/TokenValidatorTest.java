@@ -5,20 +5,17 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
-import com.ryuqq.authhub.application.organization.validator.OrganizationValidator;
-import com.ryuqq.authhub.application.tenant.validator.TenantValidator;
+import com.ryuqq.authhub.application.token.dto.composite.LoginContextComposite;
 import com.ryuqq.authhub.application.token.dto.composite.TokenClaimsComposite;
 import com.ryuqq.authhub.application.token.factory.TokenClaimsContextFactory;
 import com.ryuqq.authhub.application.token.manager.RefreshTokenReader;
-import com.ryuqq.authhub.application.user.validator.UserValidator;
-import com.ryuqq.authhub.domain.organization.aggregate.Organization;
-import com.ryuqq.authhub.domain.organization.fixture.OrganizationFixture;
-import com.ryuqq.authhub.domain.tenant.aggregate.Tenant;
-import com.ryuqq.authhub.domain.tenant.fixture.TenantFixture;
+import com.ryuqq.authhub.application.token.manager.query.LoginContextReadManager;
 import com.ryuqq.authhub.domain.token.exception.InvalidRefreshTokenException;
-import com.ryuqq.authhub.domain.user.aggregate.User;
+import com.ryuqq.authhub.domain.user.exception.UserNotFoundException;
 import com.ryuqq.authhub.domain.user.fixture.UserFixture;
 import com.ryuqq.authhub.domain.user.id.UserId;
+import com.ryuqq.authhub.domain.user.vo.HashedPassword;
+import com.ryuqq.authhub.domain.user.vo.UserStatus;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -42,11 +39,7 @@ class TokenValidatorTest {
 
     @Mock private RefreshTokenReader refreshTokenReader;
 
-    @Mock private UserValidator userValidator;
-
-    @Mock private OrganizationValidator organizationValidator;
-
-    @Mock private TenantValidator tenantValidator;
+    @Mock private LoginContextReadManager loginContextReadManager;
 
     @Mock private TokenClaimsContextFactory tokenClaimsContextFactory;
 
@@ -56,11 +49,7 @@ class TokenValidatorTest {
     void setUp() {
         sut =
                 new TokenValidator(
-                        refreshTokenReader,
-                        userValidator,
-                        organizationValidator,
-                        tenantValidator,
-                        tokenClaimsContextFactory);
+                        refreshTokenReader, loginContextReadManager, tokenClaimsContextFactory);
     }
 
     @Nested
@@ -73,28 +62,21 @@ class TokenValidatorTest {
             // given
             String refreshToken = "valid-refresh-token";
             UserId userId = UserFixture.defaultId();
-            User user = UserFixture.create();
-            Organization organization = OrganizationFixture.create();
-            Tenant tenant = TenantFixture.create();
+            LoginContextComposite loginContext = loginContext(userId);
             TokenClaimsComposite expected =
                     TokenClaimsComposite.builder()
                             .userId(userId)
-                            .tenantId(tenant.tenantIdValue())
-                            .tenantName(tenant.nameValue())
-                            .organizationId(organization.organizationIdValue())
-                            .organizationName(organization.nameValue())
-                            .email(user.identifierValue())
+                            .tenantId(loginContext.tenantId())
+                            .tenantName(loginContext.tenantName())
+                            .organizationId(loginContext.organizationId())
+                            .organizationName(loginContext.organizationName())
+                            .email(loginContext.identifier())
                             .build();
 
             given(refreshTokenReader.findUserIdByToken(refreshToken))
                     .willReturn(Optional.of(userId));
-            given(userValidator.findExistingOrThrow(userId)).willReturn(user);
-            given(organizationValidator.findExistingOrThrow(user.getOrganizationId()))
-                    .willReturn(organization);
-            given(tenantValidator.findExistingOrThrow(organization.getTenantId()))
-                    .willReturn(tenant);
-            given(tokenClaimsContextFactory.create(user, tenant, organization))
-                    .willReturn(expected);
+            given(loginContextReadManager.getByUserId(userId)).willReturn(loginContext);
+            given(tokenClaimsContextFactory.create(loginContext)).willReturn(expected);
 
             // when
             TokenClaimsComposite result = sut.validateAndBuildContext(refreshToken);
@@ -102,10 +84,8 @@ class TokenValidatorTest {
             // then
             assertThat(result).isEqualTo(expected);
             then(refreshTokenReader).should().findUserIdByToken(refreshToken);
-            then(userValidator).should().findExistingOrThrow(userId);
-            then(organizationValidator).should().findExistingOrThrow(user.getOrganizationId());
-            then(tenantValidator).should().findExistingOrThrow(organization.getTenantId());
-            then(tokenClaimsContextFactory).should().create(user, tenant, organization);
+            then(loginContextReadManager).should().getByUserId(userId);
+            then(tokenClaimsContextFactory).should().create(loginContext);
         }
 
         @Test
@@ -119,7 +99,37 @@ class TokenValidatorTest {
             // when & then
             assertThatThrownBy(() -> sut.validateAndBuildContext(refreshToken))
                     .isInstanceOf(InvalidRefreshTokenException.class);
-            then(userValidator).shouldHaveNoInteractions();
+            then(loginContextReadManager).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("실패: 사용자 또는 소속 조직/테넌트가 없으면 UserNotFoundException 발생")
+        void shouldThrowException_WhenLoginContextNotFound() {
+            // given
+            String refreshToken = "valid-refresh-token";
+            UserId userId = UserFixture.defaultId();
+
+            given(refreshTokenReader.findUserIdByToken(refreshToken))
+                    .willReturn(Optional.of(userId));
+            given(loginContextReadManager.getByUserId(userId))
+                    .willThrow(new UserNotFoundException(userId));
+
+            // when & then
+            assertThatThrownBy(() -> sut.validateAndBuildContext(refreshToken))
+                    .isInstanceOf(UserNotFoundException.class);
+            then(tokenClaimsContextFactory).shouldHaveNoInteractions();
         }
     }
+
+    private static LoginContextComposite loginContext(UserId userId) {
+        return new LoginContextComposite(
+                userId,
+                "test@example.com",
+                HashedPassword.of("$2a$10$hashed"),
+                UserStatus.ACTIVE,
+                "tenant-123",
+                "Test Tenant",
+                "org-456",
+                "Test Organization");
+    }
 }
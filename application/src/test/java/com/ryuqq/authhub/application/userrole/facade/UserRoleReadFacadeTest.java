@@ -1,26 +1,25 @@
 package com.ryuqq.authhub.application.userrole.facade;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
-import com.ryuqq.authhub.application.permission.manager.PermissionReadManager;
-import com.ryuqq.authhub.application.role.manager.RoleReadManager;
+import com.ryuqq.authhub.application.rolepermission.dto.response.RbacCatalogEntryResult;
 import com.ryuqq.authhub.application.rolepermission.manager.RolePermissionReadManager;
+import com.ryuqq.authhub.application.userrole.dto.composite.LoadedRolesAndPermissions;
 import com.ryuqq.authhub.application.userrole.dto.composite.RolesAndPermissionsComposite;
+import com.ryuqq.authhub.application.userrole.dto.composite.UserAuthorizationCacheLookup;
+import com.ryuqq.authhub.application.userrole.dto.response.UserRolePermissionResult;
+import com.ryuqq.authhub.application.userrole.internal.RbacCatalogHolder;
+import com.ryuqq.authhub.application.userrole.manager.UserAuthorizationCacheCommandManager;
+import com.ryuqq.authhub.application.userrole.manager.UserAuthorizationCacheQueryManager;
 import com.ryuqq.authhub.application.userrole.manager.UserRoleReadManager;
-import com.ryuqq.authhub.domain.permission.aggregate.Permission;
-import com.ryuqq.authhub.domain.permission.fixture.PermissionFixture;
-import com.ryuqq.authhub.domain.role.aggregate.Role;
-import com.ryuqq.authhub.domain.role.fixture.RoleFixture;
-import com.ryuqq.authhub.domain.role.id.RoleId;
-import com.ryuqq.authhub.domain.rolepermission.aggregate.RolePermission;
-import com.ryuqq.authhub.domain.rolepermission.fixture.RolePermissionFixture;
 import com.ryuqq.authhub.domain.user.id.UserId;
-import com.ryuqq.authhub.domain.userrole.aggregate.UserRole;
 import com.ryuqq.authhub.domain.userrole.fixture.UserRoleFixture;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -42,9 +41,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class UserRoleReadFacadeTest {
 
     @Mock private UserRoleReadManager userRoleReadManager;
-    @Mock private RoleReadManager roleReadManager;
     @Mock private RolePermissionReadManager rolePermissionReadManager;
-    @Mock private PermissionReadManager permissionReadManager;
+    @Mock private UserAuthorizationCacheQueryManager cacheQueryManager;
+    @Mock private UserAuthorizationCacheCommandManager cacheCommandManager;
 
     private UserRoleReadFacade sut;
 
@@ -53,64 +52,330 @@ class UserRoleReadFacadeTest {
         sut =
                 new UserRoleReadFacade(
                         userRoleReadManager,
-                        roleReadManager,
                         rolePermissionReadManager,
-                        permissionReadManager);
+                        new RbacCatalogHolder(),
+                        cacheQueryManager,
+                        cacheCommandManager);
     }
 
     @Nested
-    @DisplayName("findRolesAndPermissionsByUserId 메서드")
+    @DisplayName("RBAC 카탈로그 조회 (권한 모델 버전 확인 가능)")
+    class ResolveFromCatalog {
+
+        @Test
+        @DisplayName("성공: user_roles만 조회하고 카탈로그로 역할/권한을 계산한다")
+        void shouldResolveFromCatalog_WhenVersionAvailable() {
+            // given
+            UserId userId = UserRoleFixture.defaultUserId();
+            Long roleId = UserRoleFixture.defaultRoleId().value();
+            UserAuthorizationCacheLookup lookup = UserAuthorizationCacheLookup.miss(3L, 0L);
+
+            given(cacheQueryManager.lookup(userId)).willReturn(lookup);
+            given(rolePermissionReadManager.findAllActiveCatalogEntries())
+                    .willReturn(
+                            List.of(
+                                    new RbacCatalogEntryResult(roleId, "ADMIN", "user:read"),
+                                    new RbacCatalogEntryResult(roleId, "ADMIN", "user:write"),
+                                    new RbacCatalogEntryResult(999L, "OTHER", "post:read")));
+            given(userRoleReadManager.findAllByUserId(userId))
+                    .willReturn(List.of(UserRoleFixture.create()));
+
+            // when
+            RolesAndPermissionsComposite result = sut.findRolesAndPermissionsByUserId(userId);
+
+            // then
+            assertThat(result.roleNames()).containsExactly("ADMIN");
+            assertThat(result.permissionKeys())
+                    .containsExactlyInAnyOrder("user:read", "user:write");
+            then(userRoleReadManager).should(never()).findRolePermissionsByUserId(userId);
+            then(cacheCommandManager).should().saveIfCacheable(userId, result, lookup);
+        }
+
+        @Test
+        @DisplayName("같은 버전이면 카탈로그를 다시 적재하지 않는다")
+        void shouldReuseCatalog_WhenVersionUnchanged() {
+            // given
+            UserId userId = UserRoleFixture.defaultUserId();
+
+            given(cacheQueryManager.lookup(userId))
+                    .willReturn(UserAuthorizationCacheLookup.miss(3L, 0L));
+            given(rolePermissionReadManager.findAllActiveCatalogEntries()).willReturn(List.of());
+            given(userRoleReadManager.findAllByUserId(userId)).willReturn(List.of());
+
+            // when
+            sut.findRolesAndPermissionsByUserId(userId);
+            sut.findRolesAndPermissionsByUserId(userId);
+
+            // then
+            then(rolePermissionReadManager).should().findAllActiveCatalogEntries();
+        }
+
+        @Test
+        @DisplayName("카탈로그에 없는 역할을 보유하면 단일 조인 쿼리로 대체한다")
+        void shouldFallbackToJoinQuery_WhenRoleUnknownToCatalog() {
+            // given
+            UserId userId = UserRoleFixture.defaultUserId();
+
+            given(cacheQueryManager.lookup(userId))
+                    .willReturn(UserAuthorizationCacheLookup.miss(3L, 0L));
+            given(rolePermissionReadManager.findAllActiveCatalogEntries()).willReturn(List.of());
+            given(userRoleReadManager.findAllByUserId(userId))
+                    .willReturn(List.of(UserRoleFixture.create()));
+            given(userRoleReadManager.findRolePermissionsByUserId(userId))
+                    .willReturn(List.of(new UserRolePermissionResult("NEW_ROLE", "user:read")));
+
+            // when
+            RolesAndPermissionsComposite result = sut.findRolesAndPermissionsByUserId(userId);
+
+            // then
+            assertThat(result.roleNames()).containsExactly("NEW_ROLE");
+            assertThat(result.permissionKeys()).containsExactly("user:read");
+        }
+    }
+
+    @Nested
+    @DisplayName("findRolesAndPermissionsByUserId 메서드 (캐시 Hit / 버전 확인 불가 시 단일 조인)")
     class FindRolesAndPermissionsByUserId {
 
         @Test
-        @DisplayName("성공: UserRole 있으면 roleNames와 permissionKeys 조립하여 Composite 반환")
+        @DisplayName("성공: 조인 결과로 roleNames와 permissionKeys 조립하여 Composite 반환")
         void shouldReturnComposite_WhenUserHasRoles() {
             // given
             UserId userId = UserRoleFixture.defaultUserId();
-            List<UserRole> userRoles = List.of(UserRoleFixture.create());
-            List<RoleId> roleIds = List.of(UserRoleFixture.defaultRoleId());
-            List<Role> roles = List.of(RoleFixture.create());
-            List<RolePermission> rolePermissions = List.of(RolePermissionFixture.create());
-            List<Permission> permissions = List.of(PermissionFixture.create());
-
-            given(userRoleReadManager.findAllByUserId(userId)).willReturn(userRoles);
-            given(roleReadManager.findAllByIds(roleIds)).willReturn(roles);
-            given(rolePermissionReadManager.findAllByRoleIds(roleIds)).willReturn(rolePermissions);
-            given(permissionReadManager.findAllByIds(List.of(PermissionFixture.defaultId())))
-                    .willReturn(permissions);
+            List<UserRolePermissionResult> rows =
+                    List.of(
+                            new UserRolePermissionResult("ADMIN", "user:read"),
+                            new UserRolePermissionResult("ADMIN", "user:write"),
+                            new UserRolePermissionResult("EDITOR", "user:read"));
+            UserAuthorizationCacheLookup lookup = UserAuthorizationCacheLookup.unavailable();
+
+            given(cacheQueryManager.lookup(userId)).willReturn(lookup);
+            given(userRoleReadManager.findRolePermissionsByUserId(userId)).willReturn(rows);
 
             // when
             RolesAndPermissionsComposite result = sut.findRolesAndPermissionsByUserId(userId);
 
             // then
-            assertThat(result.roleNames()).isNotEmpty();
-            assertThat(result.permissionKeys()).isNotEmpty();
+            assertThat(result.roleNames()).containsExactlyInAnyOrder("ADMIN", "EDITOR");
+            assertThat(result.permissionKeys())
+                    .containsExactlyInAnyOrder("user:read", "user:write");
 
-            then(userRoleReadManager).should().findAllByUserId(userId);
-            then(roleReadManager).should().findAllByIds(roleIds);
-            then(rolePermissionReadManager).should().findAllByRoleIds(roleIds);
-            then(permissionReadManager).should().findAllByIds(anyList());
+            then(userRoleReadManager).should().findRolePermissionsByUserId(userId);
+            then(rolePermissionReadManager).shouldHaveNoInteractions();
+            then(cacheCommandManager).should().saveIfCacheable(userId, result, lookup);
         }
 
         @Test
-        @DisplayName("UserRole 빈 목록이면 empty Composite 반환")
-        void shouldReturnEmptyComposite_WhenUserHasNoRoles() {
+        @DisplayName("권한이 없는 역할은 역할 이름만 포함")
+        void shouldIncludeRoleName_WhenRoleHasNoPermission() {
             // given
             UserId userId = UserRoleFixture.defaultUserId();
 
-            given(userRoleReadManager.findAllByUserId(userId)).willReturn(List.of());
+            given(cacheQueryManager.lookup(userId))
+                    .willReturn(UserAuthorizationCacheLookup.unavailable());
+            given(userRoleReadManager.findRolePermissionsByUserId(userId))
+                    .willReturn(List.of(new UserRolePermissionResult("VIEWER", null)));
 
             // when
             RolesAndPermissionsComposite result = sut.findRolesAndPermissionsByUserId(userId);
 
             // then
-            assertThat(result.roleNames()).isEmpty();
+            assertThat(result.roleNames()).containsExactly("VIEWER");
             assertThat(result.permissionKeys()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("조인 결과가 비어 있으면 empty Composite 반환")
+        void shouldReturnEmptyComposite_WhenUserHasNoRoles() {
+            // given
+            UserId userId = UserRoleFixture.defaultUserId();
+
+            given(cacheQueryManager.lookup(userId))
+                    .willReturn(UserAuthorizationCacheLookup.unavailable());
+            given(userRoleReadManager.findRolePermissionsByUserId(userId)).willReturn(List.of());
+
+            // when
+            RolesAndPermissionsComposite result = sut.findRolesAndPermissionsByUserId(userId);
+
+            // then
+            assertThat(result).isEqualTo(RolesAndPermissionsComposite.empty());
+            then(userRoleReadManager).should().findRolePermissionsByUserId(userId);
+        }
+
+        @Test
+        @DisplayName("캐시 Hit이면 DB를 조회하지 않고 캐시된 Composite 반환")
+        void shouldReturnCachedComposite_WhenCacheHit() {
+            // given
+            UserId userId = UserRoleFixture.defaultUserId();
+            RolesAndPermissionsComposite cached =
+                    new RolesAndPermissionsComposite(Set.of("ADMIN"), Set.of("user:read"));
+
+            given(cacheQueryManager.lookup(userId))
+                    .willReturn(UserAuthorizationCacheLookup.hit(cached, 3L, 0L));
+
+            // when
+            RolesAndPermissionsComposite result = sut.findRolesAndPermissionsByUserId(userId);
+
+            // then
+            assertThat(result).isEqualTo(cached);
+            then(userRoleReadManager).shouldHaveNoInteractions();
+            then(cacheCommandManager).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("loadRolesAndPermissionsByUserId / cacheLoaded 메서드 (조회와 캐시 저장 분리)")
+    class LoadAndCache {
+
+        @Test
+        @DisplayName("조회만 하고 캐시에는 저장하지 않는다")
+        void shouldNotSaveCache_WhenOnlyLoaded() {
+            // given
+            UserId userId = UserRoleFixture.defaultUserId();
+            UserAuthorizationCacheLookup lookup = UserAuthorizationCacheLookup.unavailable();
+            given(cacheQueryManager.lookup(userId)).willReturn(lookup);
+            given(userRoleReadManager.findRolePermissionsByUserId(userId))
+                    .willReturn(List.of(new UserRolePermissionResult("ADMIN", "user:read")));
+
+            // when
+            LoadedRolesAndPermissions result = sut.loadRolesAndPermissionsByUserId(userId);
+
+            // then
+            assertThat(result.rolesAndPermissions().roleNames()).containsExactly("ADMIN");
+            assertThat(result.lookup()).isEqualTo(lookup);
+            then(cacheCommandManager).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("캐시 Miss로 조회한 결과는 조회 시점 버전 조건으로 저장한다")
+        void shouldSaveLoadedResult_WhenCacheMissed() {
+            // given
+            UserId userId = UserRoleFixture.defaultUserId();
+            RolesAndPermissionsComposite composite =
+                    new RolesAndPermissionsComposite(Set.of("ADMIN"), Set.of("user:read"));
+            UserAuthorizationCacheLookup lookup = UserAuthorizationCacheLookup.miss(3L, 1L);
+            LoadedRolesAndPermissions loaded =
+                    new LoadedRolesAndPermissions(userId, composite, lookup);
+
+            // when
+            RolesAndPermissionsComposite result = sut.cacheLoaded(loaded);
+
+            // then
+            assertThat(result).isEqualTo(composite);
+            then(cacheCommandManager).should().saveIfCacheable(userId, composite, lookup);
+        }
+
+        @Test
+        @DisplayName("캐시 Hit 결과는 다시 저장하지 않는다")
+        void shouldNotSave_WhenCacheHit() {
+            // given
+            UserId userId = UserRoleFixture.defaultUserId();
+            RolesAndPermissionsComposite cached =
+                    new RolesAndPermissionsComposite(Set.of("ADMIN"), Set.of("user:read"));
+            LoadedRolesAndPermissions loaded =
+                    new LoadedRolesAndPermissions(
+                            userId, cached, UserAuthorizationCacheLookup.hit(cached, 3L, 1L));
+
+            // when
+            RolesAndPermissionsComposite result = sut.cacheLoaded(loaded);
+
+            // then
+            assertThat(result).isEqualTo(cached);
+            then(cacheCommandManager).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("findRolesAndPermissionsByUserIds 메서드 (다건 조회)")
+    class FindRolesAndPermissionsByUserIds {
+
+        private final UserId cachedUser = UserId.of("01941234-5678-7000-8000-000000000001");
+        private final UserId roleUser = UserId.of("01941234-5678-7000-8000-000000000002");
+        private final UserId noRoleUser = UserId.of("01941234-5678-7000-8000-000000000003");
+
+        @Test
+        @DisplayName("Miss 사용자만 한 번의 IN 조회와 카탈로그로 계산해 요청 순서대로 반환한다")
+        void shouldLoadOnlyMissesWithSingleQuery() {
+            // given
+            Long roleId = UserRoleFixture.defaultRoleId().value();
+            RolesAndPermissionsComposite cached =
+                    new RolesAndPermissionsComposite(Set.of("VIEWER"), Set.of("post:read"));
+            List<UserId> misses = List.of(roleUser, noRoleUser);
+            Map<UserId, UserAuthorizationCacheLookup> lookups =
+                    Map.of(
+                            cachedUser, UserAuthorizationCacheLookup.hit(cached, 3L, 0L),
+                            roleUser, UserAuthorizationCacheLookup.miss(3L, 2L),
+                            noRoleUser, UserAuthorizationCacheLookup.miss(3L, 0L));
+
+            given(cacheQueryManager.lookupAll(List.of(cachedUser, roleUser, noRoleUser)))
+                    .willReturn(lookups);
+            given(rolePermissionReadManager.findAllActiveCatalogEntries())
+                    .willReturn(List.of(new RbacCatalogEntryResult(roleId, "ADMIN", "user:read")));
+            given(userRoleReadManager.findAllByUserIds(misses))
+                    .willReturn(
+                            List.of(
+                                    UserRoleFixture.createWithUserAndRole(
+                                            roleUser.value(), roleId)));
+
+            // when
+            Map<UserId, RolesAndPermissionsComposite> result =
+                    sut.findRolesAndPermissionsByUserIds(
+                            List.of(cachedUser, roleUser, noRoleUser, roleUser));
+
+            // then
+            assertThat(result.keySet()).containsExactly(cachedUser, roleUser, noRoleUser);
+            assertThat(result.get(cachedUser)).isEqualTo(cached);
+            assertThat(result.get(roleUser).roleNames()).containsExactly("ADMIN");
+            assertThat(result.get(noRoleUser).roleNames()).isEmpty();
+            then(userRoleReadManager).should().findAllByUserIds(misses);
+            then(userRoleReadManager).should(never()).findAllByUserId(roleUser);
+            then(cacheCommandManager)
+                    .should()
+                    .saveAllIfCacheable(
+                            Map.of(
+                                    roleUser, result.get(roleUser),
+                                    noRoleUser, result.get(noRoleUser)),
+                            lookups);
+        }
+
+        @Test
+        @DisplayName("버전 확인이 불가하면 Miss 사용자를 한 번의 조인 IN 쿼리로 조회한다")
+        void shouldFallbackToJoinQuery_WhenCacheUnavailable() {
+            // given
+            List<UserId> userIds = List.of(roleUser, noRoleUser);
+
+            given(cacheQueryManager.lookupAll(userIds))
+                    .willReturn(
+                            Map.of(
+                                    roleUser, UserAuthorizationCacheLookup.unavailable(),
+                                    noRoleUser, UserAuthorizationCacheLookup.unavailable()));
+            given(userRoleReadManager.findRolePermissionsByUserIds(userIds))
+                    .willReturn(
+                            Map.of(
+                                    roleUser,
+                                    List.of(new UserRolePermissionResult("ADMIN", "user:read"))));
+
+            // when
+            Map<UserId, RolesAndPermissionsComposite> result =
+                    sut.findRolesAndPermissionsByUserIds(userIds);
 
-            then(userRoleReadManager).should().findAllByUserId(userId);
-            then(roleReadManager).shouldHaveNoInteractions();
+            // then
+            assertThat(result.get(roleUser).permissionKeys()).containsExactly("user:read");
+            assertThat(result.get(noRoleUser).roleNames()).isEmpty();
             then(rolePermissionReadManager).shouldHaveNoInteractions();
-            then(permissionReadManager).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("빈 목록이면 아무것도 조회하지 않는다")
+        void shouldReturnEmpty_WhenUserIdsEmpty() {
+            // when
+            Map<UserId, RolesAndPermissionsComposite> result =
+                    sut.findRolesAndPermissionsByUserIds(List.of());
+
+            // then
+            assertThat(result).isEmpty();
+            then(cacheQueryManager).shouldHaveNoInteractions();
+            then(userRoleReadManager).shouldHaveNoInteractions();
         }
     }
 }
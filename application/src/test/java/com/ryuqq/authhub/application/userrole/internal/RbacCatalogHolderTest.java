@@ -0,0 +1,97 @@
+package com.ryuqq.authhub.application.userrole.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * RbacCatalogHolder 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@DisplayName("RbacCatalogHolder 단위 테스트")
+class RbacCatalogHolderTest {
+
+    private static final RbacCatalog CATALOG_V1 = RbacCatalog.of(1L, List.of());
+    private static final RbacCatalog CATALOG_V2 = RbacCatalog.of(2L, List.of());
+
+    private RbacCatalogHolder sut;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        sut = new RbacCatalogHolder();
+        loadCount = new AtomicInteger();
+    }
+
+    @Nested
+    @DisplayName("getOrLoad 메서드")
+    class GetOrLoad {
+
+        @Test
+        @DisplayName("성공: 같은 버전이면 로더를 다시 호출하지 않음")
+        void shouldReuseCatalog_WhenVersionMatches() {
+            RbacCatalog first = sut.getOrLoad(1L, () -> load(CATALOG_V1));
+            RbacCatalog second = sut.getOrLoad(1L, () -> load(CATALOG_V1));
+
+            assertThat(second).isSameAs(first);
+            assertThat(loadCount).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("성공: 버전이 다르면 다시 로드")
+        void shouldReload_WhenVersionDiffers() {
+            sut.getOrLoad(1L, () -> load(CATALOG_V1));
+
+            RbacCatalog result = sut.getOrLoad(2L, () -> load(CATALOG_V2));
+
+            assertThat(result).isSameAs(CATALOG_V2);
+            assertThat(loadCount).hasValue(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("invalidate 메서드")
+    class Invalidate {
+
+        @Test
+        @DisplayName("성공: 폐기 후에는 같은 버전이라도 다시 로드")
+        void shouldReload_AfterInvalidate() {
+            sut.getOrLoad(1L, () -> load(CATALOG_V1));
+
+            sut.invalidate();
+            sut.getOrLoad(1L, () -> load(CATALOG_V1));
+
+            assertThat(loadCount).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("성공: 로드 중 폐기되면 로드 결과를 카탈로그로 보관하지 않음")
+        void shouldNotKeepCatalog_WhenInvalidatedDuringLoad() {
+            RbacCatalog loaded =
+                    sut.getOrLoad(
+                            1L,
+                            () -> {
+                                sut.invalidate();
+                                return load(CATALOG_V1);
+                            });
+            sut.getOrLoad(1L, () -> load(CATALOG_V1));
+
+            assertThat(loaded).isSameAs(CATALOG_V1);
+            assertThat(loadCount).hasValue(2);
+        }
+    }
+
+    private RbacCatalog load(RbacCatalog catalog) {
+        loadCount.incrementAndGet();
+        return catalog;
+    }
+}
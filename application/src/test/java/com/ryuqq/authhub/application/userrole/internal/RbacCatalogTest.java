@@ -0,0 +1,141 @@
+package com.ryuqq.authhub.application.userrole.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.authhub.application.rolepermission.dto.response.RbacCatalogEntryResult;
+import com.ryuqq.authhub.application.userrole.dto.composite.RolesAndPermissionsComposite;
+import com.ryuqq.authhub.domain.role.id.RoleId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * RbacCatalog 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@DisplayName("RbacCatalog 단위 테스트")
+class RbacCatalogTest {
+
+    private static final List<RbacCatalogEntryResult> ENTRIES =
+            List.of(
+                    new RbacCatalogEntryResult(1L, "ADMIN", "user:read"),
+                    new RbacCatalogEntryResult(1L, "ADMIN", "user:write"),
+                    new RbacCatalogEntryResult(2L, "EDITOR", "user:read"),
+                    new RbacCatalogEntryResult(2L, "EDITOR", "post:write"),
+                    new RbacCatalogEntryResult(3L, "VIEWER", null));
+
+    @Nested
+    @DisplayName("카탈로그 구성 테스트")
+    class CreateTests {
+
+        @Test
+        @DisplayName("역할과 중복 없는 권한 수를 적재한다")
+        void shouldIndexRolesAndDistinctPermissions() {
+            // when
+            RbacCatalog catalog = RbacCatalog.of(7L, ENTRIES);
+
+            // then
+            assertThat(catalog.version()).isEqualTo(7L);
+            assertThat(catalog.roleCount()).isEqualTo(3);
+            assertThat(catalog.permissionCount()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("resolve 메서드")
+    class Resolve {
+
+        @Test
+        @DisplayName("성공: 역할 비트셋의 OR로 유효 권한을 계산한다")
+        void shouldUnionPermissionsOfRoles() {
+            // given
+            RbacCatalog catalog = RbacCatalog.of(1L, ENTRIES);
+
+            // when
+            Optional<RolesAndPermissionsComposite> result =
+                    catalog.resolve(List.of(RoleId.of(1L), RoleId.of(2L)));
+
+            // then
+            assertThat(result)
+                    .hasValueSatisfying(
+                            composite -> {
+                                assertThat(composite.roleNames())
+                                        .containsExactlyInAnyOrder("ADMIN", "EDITOR");
+                                assertThat(composite.permissionKeys())
+                                        .containsExactlyInAnyOrder(
+                                                "user:read", "user:write", "post:write");
+                            });
+        }
+
+        @Test
+        @DisplayName("권한이 없는 역할은 역할 이름만 포함한다")
+        void shouldIncludeRoleName_WhenRoleHasNoPermission() {
+            // given
+            RbacCatalog catalog = RbacCatalog.of(1L, ENTRIES);
+
+            // when
+            Optional<RolesAndPermissionsComposite> result =
+                    catalog.resolve(List.of(RoleId.of(3L)));
+
+            // then
+            assertThat(result)
+                    .hasValueSatisfying(
+                            composite -> {
+                                assertThat(composite.roleNames()).containsExactly("VIEWER");
+                                assertThat(composite.permissionKeys()).isEmpty();
+                            });
+        }
+
+        @Test
+        @DisplayName("역할이 없으면 empty Composite를 반환한다")
+        void shouldReturnEmptyComposite_WhenNoRoles() {
+            // given
+            RbacCatalog catalog = RbacCatalog.of(1L, ENTRIES);
+
+            // when & then
+            assertThat(catalog.resolve(List.of())).hasValue(RolesAndPermissionsComposite.empty());
+        }
+
+        @Test
+        @DisplayName("카탈로그에 없는 역할이 있으면 empty를 반환한다")
+        void shouldReturnEmpty_WhenRoleUnknown() {
+            // given
+            RbacCatalog catalog = RbacCatalog.of(1L, ENTRIES);
+
+            // when & then
+            assertThat(catalog.resolve(List.of(RoleId.of(1L), RoleId.of(99L)))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("64개를 넘는 권한도 여러 워드에 걸쳐 계산한다")
+        void shouldResolvePermissionsAcrossWords() {
+            // given
+            List<RbacCatalogEntryResult> entries = new ArrayList<>();
+            for (int i = 0; i < 130; i++) {
+                entries.add(new RbacCatalogEntryResult(1L, "ADMIN", "resource-" + i + ":read"));
+            }
+            entries.add(new RbacCatalogEntryResult(2L, "EDITOR", "resource-129:read"));
+            RbacCatalog catalog = RbacCatalog.of(1L, entries);
+
+            // when
+            Optional<RolesAndPermissionsComposite> admin = catalog.resolve(List.of(RoleId.of(1L)));
+            Optional<RolesAndPermissionsComposite> editor =
+                    catalog.resolve(List.of(RoleId.of(2L)));
+
+            // then
+            assertThat(admin).hasValueSatisfying(c -> assertThat(c.permissionKeys()).hasSize(130));
+            assertThat(editor)
+                    .hasValueSatisfying(
+                            c ->
+                                    assertThat(c.permissionKeys())
+                                            .containsExactly("resource-129:read"));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.ryuqq.authhub.application.userrole.listener;
+
+import static org.mockito.BDDMockito.then;
+
+import com.ryuqq.authhub.application.permission.dto.event.PermissionChangedEvent;
+import com.ryuqq.authhub.application.role.dto.event.RoleChangedEvent;
+import com.ryuqq.authhub.application.rolepermission.dto.event.RolePermissionChangedEvent;
+import com.ryuqq.authhub.application.userrole.dto.event.UserRoleChangedEvent;
+import com.ryuqq.authhub.application.userrole.internal.RbacCatalogHolder;
+import com.ryuqq.authhub.application.userrole.manager.UserAuthorizationCacheCommandManager;
+import com.ryuqq.authhub.domain.role.id.RoleId;
+import com.ryuqq.authhub.domain.userrole.fixture.UserRoleFixture;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * UserAuthorizationCacheInvalidationListener 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserAuthorizationCacheInvalidationListener 단위 테스트")
+class UserAuthorizationCacheInvalidationListenerTest {
+
+    @Mock private UserAuthorizationCacheCommandManager cacheCommandManager;
+
+    @Mock private RbacCatalogHolder catalogHolder;
+
+    private UserAuthorizationCacheInvalidationListener sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new UserAuthorizationCacheInvalidationListener(cacheCommandManager, catalogHolder);
+    }
+
+    @Test
+    @DisplayName("사용자-역할 변경 시 해당 사용자 캐시만 삭제한다")
+    void shouldEvictUsers_WhenUserRoleChanged() {
+        // given
+        UserRoleChangedEvent event = UserRoleChangedEvent.of(UserRoleFixture.defaultUserId());
+
+        // when
+        sut.handle(event);
+
+        // then
+        then(cacheCommandManager).should().evict(event.userIds());
+        then(cacheCommandManager).shouldHaveNoMoreInteractions();
+        then(catalogHolder).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("역할 변경 시 전체 캐시와 RBAC 카탈로그를 무효화한다")
+    void shouldInvalidateAll_WhenRoleChanged() {
+        // when
+        sut.handle(RoleChangedEvent.of(RoleId.of(1L)));
+
+        // then
+        then(cacheCommandManager).should().invalidateAll();
+        then(catalogHolder).should().invalidate();
+    }
+
+    @Test
+    @DisplayName("역할-권한 변경 시 전체 캐시와 RBAC 카탈로그를 무효화한다")
+    void shouldInvalidateAll_WhenRolePermissionChanged() {
+        // when
+        sut.handle(RolePermissionChangedEvent.of(List.of(RoleId.of(1L), RoleId.of(2L))));
+
+        // then
+        then(cacheCommandManager).should().invalidateAll();
+        then(catalogHolder).should().invalidate();
+    }
+
+    @Test
+    @DisplayName("권한 변경 시 전체 캐시와 RBAC 카탈로그를 무효화한다")
+    void shouldInvalidateAll_WhenPermissionChanged() {
+        // when
+        sut.handle(PermissionChangedEvent.of(1));
+
+        // then
+        then(cacheCommandManager).should().invalidateAll();
+        then(catalogHolder).should().invalidate();
+    }
+}
@@ -0,0 +1,132 @@
+package com.ryuqq.authhub.application.userrole.manager;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.ryuqq.authhub.application.userrole.dto.composite.RolesAndPermissionsComposite;
+import com.ryuqq.authhub.application.userrole.dto.composite.UserAuthorizationCacheLookup;
+import com.ryuqq.authhub.application.userrole.port.out.command.UserAuthorizationCacheCommandPort;
+import com.ryuqq.authhub.domain.user.id.UserId;
+import com.ryuqq.authhub.domain.userrole.fixture.UserRoleFixture;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * UserAuthorizationCacheCommandManager 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserAuthorizationCacheCommandManager 단위 테스트")
+class UserAuthorizationCacheCommandManagerTest {
+
+    private static final RolesAndPermissionsComposite COMPOSITE =
+            new RolesAndPermissionsComposite(Set.of("ADMIN"), Set.of("user:read"));
+
+    @Mock private UserAuthorizationCacheCommandPort cacheCommandPort;
+
+    private UserAuthorizationCacheCommandManager sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new UserAuthorizationCacheCommandManager(cacheCommandPort);
+    }
+
+    @Nested
+    @DisplayName("saveIfCacheable 메서드")
+    class SaveIfCacheable {
+
+        @Test
+        @DisplayName("조회 시점의 버전을 조건으로 저장한다")
+        void shouldSaveWithLookupVersion() {
+            // given
+            UserId userId = UserRoleFixture.defaultUserId();
+            UserAuthorizationCacheLookup lookup = UserAuthorizationCacheLookup.miss(7L, 2L);
+
+            // when
+            sut.saveIfCacheable(userId, COMPOSITE, lookup);
+
+            // then
+            then(cacheCommandPort).should().save(userId, COMPOSITE, lookup);
+        }
+
+        @Test
+        @DisplayName("캐시 저장소 장애 중 조회였다면 저장하지 않는다")
+        void shouldNotSave_WhenCacheUnavailable() {
+            // when
+            sut.saveIfCacheable(
+                    UserRoleFixture.defaultUserId(),
+                    COMPOSITE,
+                    UserAuthorizationCacheLookup.unavailable());
+
+            // then
+            then(cacheCommandPort).should(never()).save(any(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("saveAllIfCacheable 메서드")
+    class SaveAllIfCacheable {
+
+        @Test
+        @DisplayName("사용자별 조회 결과와 함께 저장 가능한 사용자만 저장한다")
+        void shouldSaveOnlyCacheableUsersWithLookups() {
+            // given
+            UserId cacheableUser = UserId.of("01941234-5678-7000-8000-000000000001");
+            UserId unavailableUser = UserId.of("01941234-5678-7000-8000-000000000002");
+            Map<UserId, UserAuthorizationCacheLookup> lookups =
+                    Map.of(
+                            cacheableUser, UserAuthorizationCacheLookup.miss(7L, 2L),
+                            unavailableUser, UserAuthorizationCacheLookup.unavailable());
+
+            // when
+            sut.saveAllIfCacheable(
+                    Map.of(cacheableUser, COMPOSITE, unavailableUser, COMPOSITE), lookups);
+
+            // then
+            then(cacheCommandPort).should().saveAll(Map.of(cacheableUser, COMPOSITE), lookups);
+        }
+
+        @Test
+        @DisplayName("저장 가능한 사용자가 없으면 포트를 호출하지 않는다")
+        void shouldSkip_WhenNoCacheableUser() {
+            // given
+            UserId userId = UserRoleFixture.defaultUserId();
+
+            // when
+            sut.saveAllIfCacheable(
+                    Map.of(userId, COMPOSITE),
+                    Map.of(userId, UserAuthorizationCacheLookup.unavailable()));
+
+            // then
+            then(cacheCommandPort).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("evict 메서드")
+    class Evict {
+
+        @Test
+        @DisplayName("빈 목록이면 포트를 호출하지 않는다")
+        void shouldSkip_WhenUserIdsEmpty() {
+            // when
+            sut.evict(List.of());
+
+            // then
+            then(cacheCommandPort).shouldHaveNoInteractions();
+        }
+    }
+}
@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
+import com.ryuqq.authhub.application.common.component.TransactionEventRegistry;
+import com.ryuqq.authhub.application.userrole.dto.event.UserRoleChangedEvent;
 import com.ryuqq.authhub.application.userrole.port.out.command.UserRoleCommandPort;
 import com.ryuqq.authhub.domain.role.id.RoleId;
 import com.ryuqq.authhub.domain.user.id.UserId;
@@ -31,12 +33,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class UserRoleCommandManagerTest {
 
     @Mock private UserRoleCommandPort persistencePort;
+    @Mock private TransactionEventRegistry transactionEventRegistry;
 
     private UserRoleCommandManager sut;
 
     @BeforeEach
     void setUp() {
-        sut = new UserRoleCommandManager(persistencePort);
+        sut = new UserRoleCommandManager(persistencePort, transactionEventRegistry);
     }
 
     @Nested
@@ -58,6 +61,33 @@ class UserRoleCommandManagerTest {
             // then
             assertThat(result).isEqualTo(persisted);
             then(persistencePort).should().persist(userRole);
+            then(transactionEventRegistry)
+                    .should()
+                    .registerObjectForPublish(UserRoleChangedEvent.of(userRole.getUserId()));
+        }
+    }
+
+    @Nested
+    @DisplayName("persistAll 메서드")
+    class PersistAll {
+
+        @Test
+        @DisplayName("성공: 여러 역할을 할당해도 사용자별로 한 번만 이벤트에 포함")
+        void shouldRegisterDistinctUserIds() {
+            // given
+            List<UserRole> userRoles =
+                    List.of(UserRoleFixture.createNew(), UserRoleFixture.createNew());
+
+            given(persistencePort.persistAll(userRoles)).willReturn(userRoles);
+
+            // when
+            sut.persistAll(userRoles);
+
+            // then
+            then(transactionEventRegistry)
+                    .should()
+                    .registerObjectForPublish(
+                            UserRoleChangedEvent.of(UserRoleFixture.defaultUserId()));
         }
     }
 
@@ -77,6 +107,9 @@ class UserRoleCommandManagerTest {
 
             // then
             then(persistencePort).should().deleteAll(userId, roleIds);
+            then(transactionEventRegistry)
+                    .should()
+                    .registerObjectForPublish(UserRoleChangedEvent.of(userId));
         }
     }
 }
@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
+import com.ryuqq.authhub.application.userrole.dto.response.UserRolePermissionResult;
+import com.ryuqq.authhub.application.userrole.port.out.query.UserRolePermissionQueryPort;
 import com.ryuqq.authhub.application.userrole.port.out.query.UserRoleQueryPort;
 import com.ryuqq.authhub.domain.role.id.RoleId;
 import com.ryuqq.authhub.domain.user.id.UserId;
@@ -33,11 +35,13 @@ class UserRoleReadManagerTest {
 
     @Mock private UserRoleQueryPort queryPort;
 
+    @Mock private UserRolePermissionQueryPort rolePermissionQueryPort;
+
     private UserRoleReadManager sut;
 
     @BeforeEach
     void setUp() {
-        sut = new UserRoleReadManager(queryPort);
+        sut = new UserRoleReadManager(queryPort, rolePermissionQueryPort);
     }
 
     @Nested
@@ -205,4 +209,30 @@ class UserRoleReadManagerTest {
             then(queryPort).should().findAssignedRoleIds(userId, roleIds);
         }
     }
+
+    @Nested
+    @DisplayName("findRolePermissionsByUserId 메서드")
+    class FindRolePermissionsByUserId {
+
+        @Test
+        @DisplayName("단일 조인 포트에 위임하여 (역할 이름, 권한 키) 목록 반환")
+        void shouldDelegateToRolePermissionQueryPort() {
+            // given
+            UserId userId = UserRoleFixture.defaultUserId();
+            List<UserRolePermissionResult> expected =
+                    List.of(
+                            new UserRolePermissionResult("ADMIN", "user:read"),
+                            new UserRolePermissionResult("VIEWER", null));
+
+            given(rolePermissionQueryPort.findAllByUserId(userId)).willReturn(expected);
+
+            // when
+            List<UserRolePermissionResult> result = sut.findRolePermissionsByUserId(userId);
+
+            // then
+            assertThat(result).isEqualTo(expected);
+            then(rolePermissionQueryPort).should().findAllByUserId(userId);
+            then(queryPort).shouldHaveNoInteractions();
+        }
+    }
 }
@@ -9,6 +9,9 @@ import com.ryuqq.authhub.application.userrole.dto.composite.RolesAndPermissionsC
 import com.ryuqq.authhub.application.userrole.dto.response.UserPermissionsResult;
 import com.ryuqq.authhub.application.userrole.facade.UserRoleReadFacade;
 import com.ryuqq.authhub.domain.user.id.UserId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -139,4 +142,40 @@ class GetUserPermissionsServiceTest {
             assertThat(result1.hash()).isEqualTo(result2.hash());
         }
     }
+
+    @Nested
+    @DisplayName("getByUserIds 메서드")
+    class GetByUserIds {
+
+        @Test
+        @DisplayName("성공: Facade를 한 번만 호출하고 Facade가 반환한 순서대로 결과를 만든다")
+        void shouldReturnResultsInFacadeOrder_WithSingleFacadeCall() {
+            // given
+            UserId first = UserId.of("019450eb-4f1e-7000-8000-000000000001");
+            UserId second = UserId.of("019450eb-4f1e-7000-8000-000000000002");
+            Map<UserId, RolesAndPermissionsComposite> composites = new LinkedHashMap<>();
+            composites.put(
+                    second,
+                    new RolesAndPermissionsComposite(Set.of("ADMIN"), Set.of("user:read")));
+            composites.put(first, RolesAndPermissionsComposite.empty());
+
+            given(userRoleReadFacade.findRolesAndPermissionsByUserIds(List.of(second, first)))
+                    .willReturn(composites);
+
+            // when
+            List<UserPermissionsResult> results =
+                    sut.getByUserIds(List.of(second.value(), first.value()));
+
+            // then
+            assertThat(results)
+                    .extracting(UserPermissionsResult::userId)
+                    .containsExactly(second.value(), first.value());
+            assertThat(results.get(0).roles()).containsExactly("ADMIN");
+            assertThat(results.get(1).roles()).isEmpty();
+            assertThat(results.get(0).generatedAt()).isEqualTo(results.get(1).generatedAt());
+            then(userRoleReadFacade)
+                    .should()
+                    .findRolesAndPermissionsByUserIds(List.of(second, first));
+        }
+    }
 }
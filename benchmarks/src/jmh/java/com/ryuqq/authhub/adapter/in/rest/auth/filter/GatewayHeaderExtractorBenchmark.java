@@ -0,0 +1,57 @@
+package com.ryuqq.authhub.adapter.in.rest.auth.filter;
+
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * GatewayHeaderExtractorBenchmark - Gateway 헤더 파싱 벤치마크
+ *
+ * <p>모든 인증 요청에서 실행되는 X-User-Roles / X-Permissions 헤더 파싱 비용을 측정합니다.
+ *
+ * <p>{@link GatewayHeaderExtractor}가 package-private이므로 동일 패키지에 위치합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GatewayHeaderExtractorBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int entryCount;
+
+    private String rolesHeader;
+    private String permissionsHeader;
+
+    @Setup
+    public void setUp() {
+        StringJoiner roles = new StringJoiner(",");
+        StringJoiner permissions = new StringJoiner(", ");
+        for (int i = 0; i < entryCount; i++) {
+            roles.add(i % 2 == 0 ? "ROLE_ROLE" + i : "ROLE" + i);
+            permissions.add("resource-" + (i / 4) + ":action-" + (i % 4));
+        }
+        rolesHeader = roles.toString();
+        permissionsHeader = permissions.toString();
+    }
+
+    @Benchmark
+    public Set<String> parseRoles() {
+        return GatewayHeaderExtractor.parseRoles(rolesHeader);
+    }
+
+    @Benchmark
+    public Set<String> parsePermissions() {
+        return GatewayHeaderExtractor.parsePermissions(permissionsHeader);
+    }
+}
@@ -0,0 +1,112 @@
+package com.ryuqq.authhub.adapter.out.client.security.token;
+
+import com.ryuqq.authhub.adapter.out.client.security.config.JwtSigningAlgorithm;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyPairGenerator;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * AccessTokenEncoderBenchmark - Access Token 인코딩 벤치마크
+ *
+ * <p>같은 Claim 구성으로 범용 JJWT 빌더와 {@link AccessTokenEncoder}의 발급 비용을 비교합니다. 할당량은 {@code -prof
+ * gc}로 함께 측정합니다.
+ *
+ * <p>{@link AccessTokenEncoder}가 package-private이므로 동일 패키지에 위치합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AccessTokenEncoderBenchmark {
+
+    private static final String HS256_SECRET =
+            "benchmark-secret-key-at-least-256-bits-long-for-hs256-algorithm";
+
+    @Param({"HS256", "RS256"})
+    private String algorithm;
+
+    @Param({"10", "100"})
+    private int permissionCount;
+
+    private Key signingKey;
+    private AccessTokenEncoder encoder;
+    private Set<String> roles;
+    private Set<String> permissions;
+
+    @Setup
+    public void setUp() throws GeneralSecurityException {
+        if ("RS256".equals(algorithm)) {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            signingKey = generator.generateKeyPair().getPrivate();
+        } else {
+            signingKey = Keys.hmacShaKeyFor(HS256_SECRET.getBytes(StandardCharsets.UTF_8));
+        }
+        encoder =
+                new AccessTokenEncoder(
+                        JwtSigningAlgorithm.from(algorithm), signingKey, "benchmark-key-1");
+        roles = new LinkedHashSet<>(Set.of("ROLE_USER", "ROLE_ADMIN"));
+        permissions = new LinkedHashSet<>();
+        for (int i = 0; i < permissionCount; i++) {
+            permissions.add("resource-" + (i / 4) + ":action-" + (i % 4));
+        }
+    }
+
+    @Benchmark
+    public String jjwtBuilder() {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .header()
+                .add("kid", "benchmark-key-1")
+                .and()
+                .subject("01941234-5678-7000-8000-123456789001")
+                .issuer("authhub")
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + 3_600_000L))
+                .claim("token_type", "access")
+                .claim("tid", "01941234-5678-7000-8000-123456789002")
+                .claim("tenant_name", "Benchmark Tenant")
+                .claim("email", "bench@example.com")
+                .claim("roles", roles)
+                .claim("mfa_verified", false)
+                .claim("permissions", permissions)
+                .signWith(signingKey)
+                .compact();
+    }
+
+    @Benchmark
+    public String accessTokenEncoder() {
+        long now = System.currentTimeMillis();
+        return encoder.encode(
+                claims -> {
+                    claims.string("sub", "01941234-5678-7000-8000-123456789001");
+                    claims.string("iss", "authhub");
+                    claims.number("iat", now / 1000L);
+                    claims.number("exp", (now + 3_600_000L) / 1000L);
+                    claims.string("token_type", "access");
+                    claims.string("tid", "01941234-5678-7000-8000-123456789002");
+                    claims.string("tenant_name", "Benchmark Tenant");
+                    claims.string("email", "bench@example.com");
+                    claims.strings("roles", roles);
+                    claims.bool("mfa_verified", false);
+                    claims.strings("permissions", permissions);
+                });
+    }
+}
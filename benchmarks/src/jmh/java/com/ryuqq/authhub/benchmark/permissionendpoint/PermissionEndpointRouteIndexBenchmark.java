@@ -0,0 +1,114 @@
+package com.ryuqq.authhub.benchmark.permissionendpoint;
+
+import com.ryuqq.authhub.domain.common.vo.DeletionStatus;
+import com.ryuqq.authhub.domain.permissionendpoint.aggregate.PermissionEndpoint;
+import com.ryuqq.authhub.domain.permissionendpoint.route.PermissionEndpointRouteIndex;
+import com.ryuqq.authhub.domain.permissionendpoint.vo.HttpMethod;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * PermissionEndpointRouteIndexBenchmark - 엔드포인트 라우트 해석 벤치마크
+ *
+ * <p>{@link PermissionEndpointRouteIndex#resolve}와 기존 방식(전체 엔드포인트 순회 + {@code UrlPattern.matches})의
+ * 요청당 비용을 엔드포인트 수별로 비교합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PermissionEndpointRouteIndexBenchmark {
+
+    private static final String SERVICE_NAME = "authhub";
+    private static final Instant FIXED_TIME = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Param({"100", "1000", "5000"})
+    private int endpointCount;
+
+    private List<PermissionEndpoint> endpoints;
+    private PermissionEndpointRouteIndex index;
+    private String matchingUrl;
+    private String nonMatchingUrl;
+
+    @Setup
+    public void setUp() {
+        endpoints = new ArrayList<>(endpointCount);
+        for (int i = 0; i < endpointCount; i++) {
+            endpoints.add(endpoint(i + 1L, patternOf(i)));
+        }
+        index = PermissionEndpointRouteIndex.of(endpoints);
+        matchingUrl = "/api/v1/resources-" + (endpointCount / 8 - 1) + "/item-123/members";
+        nonMatchingUrl = "/api/v1/unknown/item-123/members";
+    }
+
+    @Benchmark
+    public Optional<PermissionEndpoint> routeIndexHit() {
+        return index.resolve(SERVICE_NAME, HttpMethod.GET, matchingUrl);
+    }
+
+    @Benchmark
+    public Optional<PermissionEndpoint> routeIndexMiss() {
+        return index.resolve(SERVICE_NAME, HttpMethod.GET, nonMatchingUrl);
+    }
+
+    @Benchmark
+    public Optional<PermissionEndpoint> linearScanHit() {
+        return linearScan(matchingUrl);
+    }
+
+    @Benchmark
+    public Optional<PermissionEndpoint> linearScanMiss() {
+        return linearScan(nonMatchingUrl);
+    }
+
+    private Optional<PermissionEndpoint> linearScan(String url) {
+        for (PermissionEndpoint endpoint : endpoints) {
+            if (endpoint.matches(url, HttpMethod.GET)) {
+                return Optional.of(endpoint);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /** 리소스당 8개 패턴 (리터럴/Path Variable/와일드카드 혼합) */
+    private static String patternOf(int i) {
+        String resource = "/api/v1/resources-" + (i / 8);
+        return switch (i % 8) {
+            case 0 -> resource;
+            case 1 -> resource + "/{id}";
+            case 2 -> resource + "/{id}/members";
+            case 3 -> resource + "/{id}/members/{memberId}";
+            case 4 -> resource + "/search";
+            case 5 -> resource + "/*/settings";
+            case 6 -> resource + "/{id}/files/**";
+            default -> resource + "/{id}/export.csv";
+        };
+    }
+
+    private static PermissionEndpoint endpoint(Long id, String urlPattern) {
+        return PermissionEndpoint.reconstitute(
+                id,
+                1L,
+                SERVICE_NAME,
+                urlPattern,
+                HttpMethod.GET,
+                urlPattern,
+                false,
+                DeletionStatus.active(),
+                FIXED_TIME,
+                FIXED_TIME);
+    }
+}
@@ -0,0 +1,67 @@
+package com.ryuqq.authhub.benchmark.permissionendpoint;
+
+import com.ryuqq.authhub.domain.permissionendpoint.vo.UrlPattern;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * UrlPatternBenchmark - URL 패턴 매칭 벤치마크
+ *
+ * <p>{@link UrlPattern#matches}의 호출당 비용을 패턴 유형별로 측정합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UrlPatternBenchmark {
+
+    @Param({"LITERAL", "PATH_VARIABLE", "SINGLE_WILDCARD", "DOUBLE_WILDCARD"})
+    private String patternType;
+
+    private UrlPattern pattern;
+    private String matchingUrl;
+    private String nonMatchingUrl;
+
+    @Setup
+    public void setUp() {
+        switch (patternType) {
+            case "LITERAL" -> {
+                pattern = UrlPattern.of("/api/v1/organizations/members");
+                matchingUrl = "/api/v1/organizations/members";
+            }
+            case "PATH_VARIABLE" -> {
+                pattern = UrlPattern.of("/api/v1/organizations/{orgId}/members/{memberId}");
+                matchingUrl = "/api/v1/organizations/org-123/members/member-456";
+            }
+            case "SINGLE_WILDCARD" -> {
+                pattern = UrlPattern.of("/api/v1/organizations/*/members");
+                matchingUrl = "/api/v1/organizations/org-123/members";
+            }
+            case "DOUBLE_WILDCARD" -> {
+                pattern = UrlPattern.of("/api/v1/organizations/**");
+                matchingUrl = "/api/v1/organizations/org-123/members/member-456";
+            }
+            default -> throw new IllegalArgumentException("Unknown patternType: " + patternType);
+        }
+        nonMatchingUrl = "/api/v1/tenants/tenant-123/config";
+    }
+
+    @Benchmark
+    public boolean matchHit() {
+        return pattern.matches(matchingUrl);
+    }
+
+    @Benchmark
+    public boolean matchMiss() {
+        return pattern.matches(nonMatchingUrl);
+    }
+}
@@ -0,0 +1,63 @@
+package com.ryuqq.authhub.benchmark.security;
+
+import com.ryuqq.authhub.adapter.out.client.security.config.PasswordHashingProperties;
+import com.ryuqq.authhub.adapter.out.client.security.password.BCryptPasswordClient;
+import com.ryuqq.authhub.adapter.out.client.security.password.PasswordHashingExecutor;
+import com.ryuqq.authhub.domain.user.vo.HashedPassword;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * BCryptPasswordClientBenchmark - 비밀번호 검증 벤치마크
+ *
+ * <p>로그인 시 호출되는 {@link BCryptPasswordClient#matches}의 지연 시간을 측정합니다. 해싱 전용 실행 단계({@link
+ * PasswordHashingExecutor})로의 작업 전달 비용이 포함됩니다.
+ *
+ * <p>일치/불일치 두 경우를 모두 측정합니다. BCrypt는 두 경우 모두 동일한 비용이 들어야 합니다 (타이밍 공격 방지).
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BCryptPasswordClientBenchmark {
+
+    private static final String RAW_PASSWORD = "Benchmark-Passw0rd!";
+
+    private PasswordHashingExecutor hashingExecutor;
+    private BCryptPasswordClient client;
+    private HashedPassword hashedPassword;
+
+    @Setup
+    public void setUp() {
+        hashingExecutor =
+                new PasswordHashingExecutor(
+                        new PasswordHashingProperties(), new SimpleMeterRegistry());
+        client = new BCryptPasswordClient(hashingExecutor);
+        hashedPassword = HashedPassword.of(client.hash(RAW_PASSWORD));
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        hashingExecutor.destroy();
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return client.matches(RAW_PASSWORD, hashedPassword);
+    }
+
+    @Benchmark
+    public boolean mismatches() {
+        return client.matches("Wrong-Passw0rd!", hashedPassword);
+    }
+}
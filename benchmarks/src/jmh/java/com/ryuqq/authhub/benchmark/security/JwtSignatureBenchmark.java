@@ -0,0 +1,109 @@
+package com.ryuqq.authhub.benchmark.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JwtSignatureBenchmark - JWT 서명 알고리즘별 서명/검증 벤치마크
+ *
+ * <p>동일한 Claim(권한 5개)으로 알고리즘별 서명(발급 측, AuthHub)과 검증(Gateway/SDK 측) 처리량을 측정합니다. 토큰
+ * 길이는 Setup 시 표준 출력으로 기록합니다.
+ *
+ * <p><strong>파라미터:</strong>
+ *
+ * <ul>
+ *   <li>algorithm: RS256 (RSA-2048) / ES256 (P-256) / EdDSA (Ed25519) / HS256
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtSignatureBenchmark {
+
+    private static final String HS256_SECRET =
+            "benchmark-secret-key-at-least-256-bits-long-for-hs256-algorithm";
+
+    @Param({"RS256", "ES256", "EdDSA", "HS256"})
+    private String algorithm;
+
+    private Key signingKey;
+    private JwtParser parser;
+    private List<String> permissions;
+    private String token;
+
+    @Setup
+    public void setUp() throws GeneralSecurityException {
+        permissions = List.of("user:read", "user:write", "role:read", "role:write", "org:read");
+        if ("HS256".equals(algorithm)) {
+            SecretKey secretKey =
+                    Keys.hmacShaKeyFor(HS256_SECRET.getBytes(StandardCharsets.UTF_8));
+            signingKey = secretKey;
+            parser = Jwts.parser().verifyWith(secretKey).build();
+        } else {
+            KeyPair keyPair = keyPair(algorithm);
+            signingKey = keyPair.getPrivate();
+            parser = Jwts.parser().verifyWith(keyPair.getPublic()).build();
+        }
+        token = sign();
+        System.out.printf("%n[%s] access token length: %d chars%n", algorithm, token.length());
+    }
+
+    @Benchmark
+    public String sign() {
+        return Jwts.builder()
+                .subject("01941234-5678-7000-8000-123456789001")
+                .issuer("authhub")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 3_600_000L))
+                .claim("tid", "01941234-5678-7000-8000-123456789002")
+                .claim("roles", List.of("ROLE_USER", "ROLE_ADMIN"))
+                .claim("permissions", permissions)
+                .signWith(signingKey)
+                .compact();
+    }
+
+    @Benchmark
+    public Claims verify() {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    private static KeyPair keyPair(String algorithm) throws GeneralSecurityException {
+        return switch (algorithm) {
+            case "RS256" -> {
+                KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+                generator.initialize(2048);
+                yield generator.generateKeyPair();
+            }
+            case "ES256" -> {
+                KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+                generator.initialize(new ECGenParameterSpec("secp256r1"));
+                yield generator.generateKeyPair();
+            }
+            case "EdDSA" -> KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+            default -> throw new IllegalArgumentException("Unsupported algorithm: " + algorithm);
+        };
+    }
+}
@@ -0,0 +1,186 @@
+package com.ryuqq.authhub.benchmark.security;
+
+import com.ryuqq.authhub.adapter.out.client.security.common.RsaKeyLoader;
+import com.ryuqq.authhub.adapter.out.client.security.common.SigningKeyLoader;
+import com.ryuqq.authhub.adapter.out.client.security.config.JwtProperties;
+import com.ryuqq.authhub.adapter.out.client.security.token.JwtTokenClient;
+import com.ryuqq.authhub.application.permission.dto.composite.PermissionDictionary;
+import com.ryuqq.authhub.application.permission.dto.composite.PermissionSet;
+import com.ryuqq.authhub.application.permission.dto.response.PermissionDictionaryEntryResult;
+import com.ryuqq.authhub.application.token.dto.composite.PermissionClaimSource;
+import com.ryuqq.authhub.application.token.dto.composite.TokenClaimsComposite;
+import com.ryuqq.authhub.application.token.dto.response.TokenResponse;
+import com.ryuqq.authhub.application.userrole.dto.composite.RolesAndPermissionsComposite;
+import com.ryuqq.authhub.domain.user.id.UserId;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JwtTokenClientBenchmark - 토큰 쌍 발급 벤치마크
+ *
+ * <p>로그인/갱신 시 호출되는 {@link JwtTokenClient#generateTokenPair}의 비용을 측정합니다.
+ *
+ * <p><strong>파라미터:</strong>
+ *
+ * <ul>
+ *   <li>algorithm: RS256 (RSA-2048) / ES256 (P-256) / EdDSA (Ed25519) / HS256
+ *   <li>permissionCount: Access Token에 포함되는 권한 수 (10 / 100 / 1000)
+ *   <li>permissionMode: 권한 Claim 형식 - LIST (permissions 배열) / COMPACT (사전 비트맵 perm_bits) /
+ *       THIN (permission_hash만, 권한 집합 저장은 즉시 성공으로 가정)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtTokenClientBenchmark {
+
+    private static final String HS256_SECRET =
+            "benchmark-secret-key-at-least-256-bits-long-for-hs256-algorithm";
+
+    @Param({"RS256", "ES256", "EdDSA", "HS256"})
+    private String algorithm;
+
+    @Param({"10", "100", "1000"})
+    private int permissionCount;
+
+    @Param({"LIST", "COMPACT", "THIN"})
+    private String permissionMode;
+
+    private JwtTokenClient client;
+    private TokenClaimsComposite claims;
+    private RolesAndPermissionsComposite rolesAndPermissions;
+    private PermissionDictionary dictionary;
+    private PermissionSet permissionSet;
+
+    @Setup
+    public void setUp() throws GeneralSecurityException {
+        JwtProperties properties =
+                switch (algorithm) {
+                    case "RS256" -> rsaProperties();
+                    case "ES256" -> ecProperties();
+                    case "EdDSA" -> edDsaProperties();
+                    default -> hmacProperties();
+                };
+        properties.setCompactPermissions("COMPACT".equals(permissionMode));
+        properties.setThinPermissions("THIN".equals(permissionMode));
+        client =
+                new JwtTokenClient(
+                        properties,
+                        new SigningKeyLoader(properties, new RsaKeyLoader(properties)));
+        claims =
+                TokenClaimsComposite.builder()
+                        .userId(UserId.of("01941234-5678-7000-8000-123456789001"))
+                        .tenantId("01941234-5678-7000-8000-123456789002")
+                        .tenantName("Benchmark Tenant")
+                        .organizationId("01941234-5678-7000-8000-123456789003")
+                        .organizationName("Benchmark Org")
+                        .email("bench@example.com")
+                        .mfaVerified(false)
+                        .build();
+        rolesAndPermissions =
+                new RolesAndPermissionsComposite(
+                        Set.of("ROLE_USER", "ROLE_ADMIN"), permissions(permissionCount));
+        dictionary = dictionary(rolesAndPermissions.permissionKeys());
+        permissionSet = PermissionSet.of(rolesAndPermissions.permissionKeys());
+    }
+
+    @Benchmark
+    public TokenResponse generateTokenPair() {
+        return client.generateTokenPair(
+                claims,
+                rolesAndPermissions,
+                new PermissionClaimSource(
+                        permissionSet,
+                        () -> dictionary.encode(permissionSet.permissionKeys()),
+                        () -> true));
+    }
+
+    private static PermissionDictionary dictionary(Set<String> permissionKeys) {
+        List<PermissionDictionaryEntryResult> entries = new ArrayList<>(permissionKeys.size());
+        long id = 1L;
+        for (String permissionKey : permissionKeys) {
+            entries.add(new PermissionDictionaryEntryResult(id++, permissionKey));
+        }
+        return PermissionDictionary.of(entries);
+    }
+
+    private static Set<String> permissions(int count) {
+        Set<String> permissions = new HashSet<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            permissions.add("resource-" + (i / 4) + ":action-" + (i % 4));
+        }
+        return permissions;
+    }
+
+    private static JwtProperties hmacProperties() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(HS256_SECRET);
+        properties.setIssuer("authhub");
+        return properties;
+    }
+
+    private static JwtProperties ecProperties() throws GeneralSecurityException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        JwtProperties properties = hmacProperties();
+        properties.setAlgorithm("ES256");
+        setKeyPair(properties.getEc(), generator.generateKeyPair());
+        return properties;
+    }
+
+    private static JwtProperties edDsaProperties() throws GeneralSecurityException {
+        JwtProperties properties = hmacProperties();
+        properties.setAlgorithm("EdDSA");
+        setKeyPair(
+                properties.getEddsa(), KeyPairGenerator.getInstance("Ed25519").generateKeyPair());
+        return properties;
+    }
+
+    private static void setKeyPair(JwtProperties.KeyPairProperties target, KeyPair keyPair) {
+        target.setPublicKeyContent(toPem("PUBLIC KEY", keyPair.getPublic().getEncoded()));
+        target.setPrivateKeyContent(toPem("PRIVATE KEY", keyPair.getPrivate().getEncoded()));
+    }
+
+    private static JwtProperties rsaProperties() throws GeneralSecurityException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+
+        JwtProperties properties = hmacProperties();
+        JwtProperties.RsaKeyProperties rsa = properties.getRsa();
+        rsa.setEnabled(true);
+        rsa.setKeyId("benchmark-key-1");
+        rsa.setPublicKeyContent(toPem("PUBLIC KEY", keyPair.getPublic().getEncoded()));
+        rsa.setPrivateKeyContent(toPem("PRIVATE KEY", keyPair.getPrivate().getEncoded()));
+        return properties;
+    }
+
+    private static String toPem(String type, byte[] encoded) {
+        return "-----BEGIN "
+                + type
+                + "-----\n"
+                + Base64.getEncoder().encodeToString(encoded)
+                + "\n-----END "
+                + type
+                + "-----";
+    }
+}
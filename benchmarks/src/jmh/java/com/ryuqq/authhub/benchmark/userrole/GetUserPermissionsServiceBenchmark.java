@@ -0,0 +1,85 @@
+package com.ryuqq.authhub.benchmark.userrole;
+
+import com.ryuqq.authhub.application.userrole.dto.composite.RolesAndPermissionsComposite;
+import com.ryuqq.authhub.application.userrole.dto.response.UserPermissionsResult;
+import com.ryuqq.authhub.application.userrole.facade.UserRoleReadFacade;
+import com.ryuqq.authhub.application.userrole.service.query.GetUserPermissionsService;
+import com.ryuqq.authhub.domain.user.id.UserId;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * GetUserPermissionsServiceBenchmark - 사용자 권한 조회/해시 계산 벤치마크
+ *
+ * <ul>
+ *   <li>{@code getByUserId}: {@link GetUserPermissionsService#getByUserId}에서 DB/캐시 조회를 제외한 비용
+ *       (캐시 Hit 경로, 해시는 Composite에 미리 계산됨)
+ *   <li>{@code computeHash}: 캐시 Miss 시 Composite 생성 비용 (정렬 + SHA-256 해시)
+ * </ul>
+ *
+ * <p>UserRoleReadFacade는 고정된 역할/권한을 반환하는 Stub으로 대체합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GetUserPermissionsServiceBenchmark {
+
+    private static final String USER_ID = "01941234-5678-7000-8000-123456789001";
+
+    @Param({"10", "100", "1000"})
+    private int permissionCount;
+
+    private GetUserPermissionsService service;
+    private Set<String> roles;
+    private Set<String> permissions;
+
+    @Setup
+    public void setUp() {
+        roles = Set.of("ADMIN", "USER");
+        permissions = new HashSet<>(permissionCount * 2);
+        for (int i = 0; i < permissionCount; i++) {
+            permissions.add("resource-" + (i / 4) + ":action-" + (i % 4));
+        }
+        RolesAndPermissionsComposite composite =
+                new RolesAndPermissionsComposite(roles, permissions);
+        service = new GetUserPermissionsService(new FixedUserRoleReadFacade(composite));
+    }
+
+    @Benchmark
+    public UserPermissionsResult getByUserId() {
+        return service.getByUserId(USER_ID);
+    }
+
+    @Benchmark
+    public RolesAndPermissionsComposite computeHash() {
+        return new RolesAndPermissionsComposite(roles, permissions);
+    }
+
+    /** DB 조회 없이 고정 결과를 반환하는 Facade Stub */
+    private static final class FixedUserRoleReadFacade extends UserRoleReadFacade {
+
+        private final RolesAndPermissionsComposite composite;
+
+        private FixedUserRoleReadFacade(RolesAndPermissionsComposite composite) {
+            super(null, null, null, null, null);
+            this.composite = composite;
+        }
+
+        @Override
+        public RolesAndPermissionsComposite findRolesAndPermissionsByUserId(UserId userId) {
+            return composite;
+        }
+    }
+}
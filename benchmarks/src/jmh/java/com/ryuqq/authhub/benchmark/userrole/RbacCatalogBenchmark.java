@@ -0,0 +1,67 @@
+package com.ryuqq.authhub.benchmark.userrole;
+
+import com.ryuqq.authhub.application.rolepermission.dto.response.RbacCatalogEntryResult;
+import com.ryuqq.authhub.application.userrole.dto.composite.RolesAndPermissionsComposite;
+import com.ryuqq.authhub.application.userrole.internal.RbacCatalog;
+import com.ryuqq.authhub.domain.role.id.RoleId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * RbacCatalogBenchmark - 인메모리 RBAC 카탈로그 권한 계산 벤치마크
+ *
+ * <p>캐시 Miss 시 {@link RbacCatalog#resolve}로 사용자 역할 3개의 비트셋을 OR 연산하여 역할/권한 Composite를 만드는
+ * 비용을 측정합니다 (해시 계산 포함, user_roles 조회 제외).
+ *
+ * <p><strong>파라미터:</strong>
+ *
+ * <ul>
+ *   <li>permissionCount: 카탈로그 전체 권한 수 (10 / 100 / 1000), 역할 10개에 균등 분배
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RbacCatalogBenchmark {
+
+    private static final int ROLE_COUNT = 10;
+
+    @Param({"10", "100", "1000"})
+    private int permissionCount;
+
+    private RbacCatalog catalog;
+    private List<RoleId> userRoleIds;
+
+    @Setup
+    public void setUp() {
+        List<RbacCatalogEntryResult> entries = new ArrayList<>(permissionCount);
+        for (int i = 0; i < permissionCount; i++) {
+            long roleId = i % ROLE_COUNT + 1;
+            entries.add(
+                    new RbacCatalogEntryResult(
+                            roleId,
+                            "ROLE_" + roleId,
+                            "resource-" + (i / 4) + ":action-" + (i % 4)));
+        }
+        catalog = RbacCatalog.of(1L, entries);
+        userRoleIds = List.of(RoleId.of(1L), RoleId.of(2L), RoleId.of(3L));
+    }
+
+    @Benchmark
+    public Optional<RolesAndPermissionsComposite> resolve() {
+        return catalog.resolve(userRoleIds);
+    }
+}
@@ -0,0 +1,56 @@
+package com.ryuqq.authhub.bootstrap.config;
+
+import com.ryuqq.authhub.bootstrap.thread.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Virtual Thread Configuration.
+ *
+ * <p>{@code spring.threads.virtual.enabled=true}이면 Spring Boot가 Tomcat 요청 처리 스레드를 Virtual
+ * Thread로 전환하고, 요청 스레드에서 동기 호출되는 JDBC/Redis Adapter도 Virtual Thread 위에서 실행됩니다. 이
+ * 설정은 그 모드에서 Carrier Thread 고정(pinning)을 감지하는 모니터를 등록합니다.
+ *
+ * <p><strong>Virtual Thread 모드 전제:</strong>
+ *
+ * <ul>
+ *   <li>동시 요청 수는 {@code server.tomcat.max-connections}로 제한되며, DB 동시성은 Hikari 풀 크기 그대로
+ *       유지됩니다 (커넥션 대기는 Carrier Thread를 점유하지 않음)
+ *   <li>BCrypt 해싱은 CPU 작업이므로 Virtual Thread로 옮기지 않고 전용 Platform 스레드 풀에서 수행합니다
+ *   <li>요청 범위 ThreadLocal(SecurityContextHolder, MDC, TransactionSynchronizationManager)은 요청마다
+ *       새 Virtual Thread에 설정되고 finally/트랜잭션 종료 시 정리됩니다
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(VirtualThreadProperties.class)
+public class VirtualThreadConfiguration {
+
+    /**
+     * Virtual Thread Pinning 모니터 등록.
+     *
+     * <p>Virtual Thread 모드이고 authhub.virtual-threads.pinning.enabled=true인 경우에만 등록됩니다.
+     *
+     * @param properties Pinning 감지 설정
+     * @param meterRegistry 메트릭 레지스트리
+     * @return VirtualThreadPinningMonitor
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    @ConditionalOnProperty(
+            prefix = "authhub.virtual-threads.pinning",
+            name = "enabled",
+            havingValue = "true",
+            matchIfMissing = true)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            VirtualThreadProperties properties, MeterRegistry meterRegistry) {
+        return new VirtualThreadPinningMonitor(properties, meterRegistry);
+    }
+}
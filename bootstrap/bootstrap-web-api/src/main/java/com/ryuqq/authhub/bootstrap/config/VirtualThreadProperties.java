@@ -0,0 +1,59 @@
+package com.ryuqq.authhub.bootstrap.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Virtual Thread Pinning 감지 Properties
+ *
+ * <p>application.yml의 authhub.virtual-threads.pinning 설정을 매핑합니다. Virtual Thread 모드 자체는
+ * {@code spring.threads.virtual.enabled}로 활성화하며, 이 설정은 활성화된 경우에만 적용됩니다.
+ *
+ * <pre>
+ * authhub:
+ *   virtual-threads:
+ *     pinning:
+ *       enabled: true
+ *       threshold: 20ms
+ *       stack-depth: 16
+ * </pre>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "authhub.virtual-threads.pinning")
+public class VirtualThreadProperties {
+
+    /** JFR 기반 Pinning 감지 활성화 여부 */
+    private boolean enabled = true;
+
+    /** 기록할 최소 Pinning 시간 (JFR 이벤트 threshold) */
+    private Duration threshold = Duration.ofMillis(20);
+
+    /** 경고 로그에 남길 스택 프레임 수 */
+    private int stackDepth = 16;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getThreshold() {
+        return threshold;
+    }
+
+    public void setThreshold(Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    public int getStackDepth() {
+        return stackDepth;
+    }
+
+    public void setStackDepth(int stackDepth) {
+        this.stackDepth = stackDepth;
+    }
+}
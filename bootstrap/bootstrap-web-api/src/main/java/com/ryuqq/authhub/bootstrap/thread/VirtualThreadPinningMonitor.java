@@ -0,0 +1,251 @@
+package com.ryuqq.authhub.bootstrap.thread;
+
+import com.ryuqq.authhub.bootstrap.config.VirtualThreadProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * VirtualThreadPinningMonitor - Virtual Thread Carrier 고정(pinning) 감지
+ *
+ * <p>JFR {@code jdk.VirtualThreadPinned} 이벤트를 같은 프로세스에서 스트리밍으로 구독합니다. Virtual Thread가
+ * {@code synchronized} 블록이나 네이티브 프레임 안에서 블로킹되면 Carrier Thread를 놓지 못하므로, 드라이버/클라이언트
+ * 라이브러리의 고정이 누적되면 Virtual Thread 모드의 동시성 이점이 사라집니다.
+ *
+ * <p><strong>분류 (client 태그):</strong>
+ *
+ * <ul>
+ *   <li>jdbc - MySQL Connector/J, HikariCP, Hibernate 프레임 포함
+ *   <li>redis - Lettuce, Spring Data Redis, Redisson, commons-pool2 프레임 포함
+ *   <li>other - 그 외
+ * </ul>
+ *
+ * <p><strong>Metrics:</strong>
+ *
+ * <ul>
+ *   <li>{@code authhub.virtual_thread.pinned} - 고정 발생 건수, client=jdbc|redis|other (Counter)
+ *   <li>{@code authhub.virtual_thread.pinned.duration} - 고정 시간, client=jdbc|redis|other (Timer)
+ * </ul>
+ *
+ * <p>경고 로그는 고정 위치(스택 최상단 프레임)별로 최초 1회만 남기고, 이후에는 메트릭으로만 집계합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final String METRIC_NAME = "authhub.virtual_thread.pinned";
+    private static final int MAX_LOGGED_SITES = 256;
+
+    private static final List<String> JDBC_PACKAGES =
+            List.of("com.mysql.", "com.zaxxer.hikari.", "org.hibernate.");
+    private static final List<String> REDIS_PACKAGES =
+            List.of(
+                    "io.lettuce.",
+                    "org.springframework.data.redis.",
+                    "org.redisson.",
+                    "org.apache.commons.pool2.");
+
+    /** 고정 발생 위치 분류 */
+    enum PinnedClient {
+        JDBC,
+        REDIS,
+        OTHER;
+
+        String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final VirtualThreadProperties properties;
+    private final Map<PinnedClient, Counter> counters = new EnumMap<>(PinnedClient.class);
+    private final Map<PinnedClient, Timer> timers = new EnumMap<>(PinnedClient.class);
+    private final Set<String> loggedSites = ConcurrentHashMap.newKeySet();
+
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(
+            VirtualThreadProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        for (PinnedClient client : PinnedClient.values()) {
+            counters.put(
+                    client,
+                    Counter.builder(METRIC_NAME)
+                            .description("Virtual thread carrier pinning events")
+                            .tag("client", client.tag())
+                            .register(meterRegistry));
+            timers.put(
+                    client,
+                    Timer.builder(METRIC_NAME + ".duration")
+                            .description("Time a virtual thread stayed pinned to its carrier")
+                            .tag("client", client.tag())
+                            .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 고정 이벤트 처리
+     *
+     * @param event jdk.VirtualThreadPinned 이벤트
+     */
+    private void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = frames(event.getStackTrace());
+        PinnedClient client = classify(classNames(frames));
+        record(client, event.getDuration());
+
+        String site = frames.isEmpty() ? "unknown" : describe(frames.get(0));
+        if (loggedSites.size() < MAX_LOGGED_SITES && loggedSites.add(site)) {
+            log.warn(
+                    "Virtual Thread pinning 감지: client={}, duration={}ms, thread={}\n{}",
+                    client.tag(),
+                    event.getDuration().toMillis(),
+                    event.getThread() != null ? event.getThread().getJavaName() : "unknown",
+                    formatStack(frames));
+        }
+    }
+
+    /**
+     * 고정 건수와 시간 집계
+     *
+     * @param client 고정 위치 분류
+     * @param duration 고정 시간
+     */
+    void record(PinnedClient client, Duration duration) {
+        counters.get(client).increment();
+        timers.get(client).record(duration);
+    }
+
+    /**
+     * 스택 프레임의 클래스 이름으로 고정 위치 분류
+     *
+     * <p>스택 최상단부터 탐색하여 처음 일치하는 클라이언트 패키지로 분류합니다.
+     *
+     * @param classNames Java 프레임의 클래스 이름 (최상단 우선)
+     * @return 분류 결과
+     */
+    static PinnedClient classify(List<String> classNames) {
+        for (String className : classNames) {
+            PinnedClient client = classify(className);
+            if (client != PinnedClient.OTHER) {
+                return client;
+            }
+        }
+        return PinnedClient.OTHER;
+    }
+
+    /**
+     * 클래스 이름으로 고정 위치 분류
+     *
+     * @param className 프레임의 클래스 이름
+     * @return 분류 결과
+     */
+    private static PinnedClient classify(String className) {
+        if (startsWithAny(className, JDBC_PACKAGES)) {
+            return PinnedClient.JDBC;
+        }
+        if (startsWithAny(className, REDIS_PACKAGES)) {
+            return PinnedClient.REDIS;
+        }
+        return PinnedClient.OTHER;
+    }
+
+    // ========== Lifecycle ==========
+
+    @Override
+    public void start() {
+        RecordingStream recordingStream = new RecordingStream();
+        recordingStream
+                .enable(PINNED_EVENT)
+                .withThreshold(properties.getThreshold())
+                .withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinnedSafely);
+        recordingStream.startAsync();
+        stream = recordingStream;
+        log.info(
+                "Virtual Thread pinning 감지 시작: threshold={}ms",
+                properties.getThreshold().toMillis());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recordingStream = stream;
+        stream = null;
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void onPinnedSafely(RecordedEvent event) {
+        try {
+            onPinned(event);
+        } catch (RuntimeException e) {
+            log.warn("Virtual Thread pinning 이벤트 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    private String formatStack(List<RecordedFrame> frames) {
+        StringBuilder builder = new StringBuilder();
+        int depth = Math.min(frames.size(), properties.getStackDepth());
+        for (int i = 0; i < depth; i++) {
+            builder.append("\tat ").append(describe(frames.get(i))).append('\n');
+        }
+        if (frames.size() > depth) {
+            builder.append("\t... ").append(frames.size() - depth).append(" more");
+        }
+        return builder.toString();
+    }
+
+    private static List<RecordedFrame> frames(RecordedStackTrace stackTrace) {
+        return stackTrace != null ? stackTrace.getFrames() : List.of();
+    }
+
+    private static List<String> classNames(List<RecordedFrame> frames) {
+        return frames.stream()
+                .filter(frame -> frame.isJavaFrame() && frame.getMethod() != null)
+                .map(frame -> frame.getMethod().getType().getName())
+                .toList();
+    }
+
+    private static String describe(RecordedFrame frame) {
+        if (frame.getMethod() == null) {
+            return frame.getType();
+        }
+        return frame.getMethod().getType().getName()
+                + "."
+                + frame.getMethod().getName()
+                + ":"
+                + frame.getLineNumber();
+    }
+
+    private static boolean startsWithAny(String className, List<String> packages) {
+        for (String prefix : packages) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
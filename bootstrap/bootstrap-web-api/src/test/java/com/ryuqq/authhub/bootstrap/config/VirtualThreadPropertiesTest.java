@@ -0,0 +1,80 @@
+package com.ryuqq.authhub.bootstrap.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+/**
+ * VirtualThreadProperties 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@DisplayName("VirtualThreadProperties 단위 테스트")
+class VirtualThreadPropertiesTest {
+
+    private static final String PREFIX = "authhub.virtual-threads.pinning";
+
+    @Nested
+    @DisplayName("기본값")
+    class DefaultValues {
+
+        @Test
+        @DisplayName("Pinning 감지는 기본 활성화, threshold 20ms, 스택 16프레임이다")
+        void shouldHaveDefaults() {
+            VirtualThreadProperties properties = new VirtualThreadProperties();
+
+            assertThat(properties.isEnabled()).isTrue();
+            assertThat(properties.getThreshold()).isEqualTo(Duration.ofMillis(20));
+            assertThat(properties.getStackDepth()).isEqualTo(16);
+        }
+    }
+
+    @Nested
+    @DisplayName("Properties 바인딩")
+    class PropertiesBinding {
+
+        @Test
+        @DisplayName("authhub.virtual-threads.pinning 설정을 바인딩한다")
+        void shouldBindFromConfiguration() {
+            Binder binder =
+                    new Binder(
+                            new MapConfigurationPropertySource(
+                                    Map.of(
+                                            PREFIX + ".enabled", "false",
+                                            PREFIX + ".threshold", "5ms",
+                                            PREFIX + ".stack-depth", "4")));
+
+            VirtualThreadProperties properties =
+                    binder.bind(PREFIX, VirtualThreadProperties.class).get();
+
+            assertThat(properties.isEnabled()).isFalse();
+            assertThat(properties.getThreshold()).isEqualTo(Duration.ofMillis(5));
+            assertThat(properties.getStackDepth()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("설정하지 않은 항목은 기본값을 유지한다")
+        void shouldKeepDefaultsForMissingKeys() {
+            Binder binder =
+                    new Binder(
+                            new MapConfigurationPropertySource(
+                                    Map.of(PREFIX + ".threshold", "50ms")));
+
+            VirtualThreadProperties properties =
+                    binder.bind(PREFIX, VirtualThreadProperties.class).get();
+
+            assertThat(properties.isEnabled()).isTrue();
+            assertThat(properties.getThreshold()).isEqualTo(Duration.ofMillis(50));
+            assertThat(properties.getStackDepth()).isEqualTo(16);
+        }
+    }
+}
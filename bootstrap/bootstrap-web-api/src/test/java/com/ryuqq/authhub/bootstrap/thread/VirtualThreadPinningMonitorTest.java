@@ -0,0 +1,137 @@
+package com.ryuqq.authhub.bootstrap.thread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.authhub.bootstrap.config.VirtualThreadProperties;
+import com.ryuqq.authhub.bootstrap.thread.VirtualThreadPinningMonitor.PinnedClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * VirtualThreadPinningMonitor 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@DisplayName("VirtualThreadPinningMonitor 단위 테스트")
+class VirtualThreadPinningMonitorTest {
+
+    private static final String METRIC_NAME = "authhub.virtual_thread.pinned";
+
+    @Nested
+    @DisplayName("classify 메서드")
+    class Classify {
+
+        @Test
+        @DisplayName("MySQL/HikariCP/Hibernate 프레임이 있으면 jdbc로 분류한다")
+        void shouldClassifyJdbc() {
+            assertThat(classify("java.lang.Object", "com.mysql.cj.NativeSession"))
+                    .isEqualTo(PinnedClient.JDBC);
+            assertThat(classify("com.zaxxer.hikari.pool.HikariPool")).isEqualTo(PinnedClient.JDBC);
+            assertThat(classify("org.hibernate.internal.SessionImpl"))
+                    .isEqualTo(PinnedClient.JDBC);
+        }
+
+        @Test
+        @DisplayName("Lettuce/Spring Data Redis/Redisson/commons-pool2 프레임이 있으면 redis로 분류한다")
+        void shouldClassifyRedis() {
+            assertThat(classify("io.lettuce.core.RedisChannelHandler"))
+                    .isEqualTo(PinnedClient.REDIS);
+            assertThat(classify("org.springframework.data.redis.core.RedisTemplate"))
+                    .isEqualTo(PinnedClient.REDIS);
+            assertThat(classify("org.redisson.RedissonLock")).isEqualTo(PinnedClient.REDIS);
+            assertThat(classify("org.apache.commons.pool2.impl.GenericObjectPool"))
+                    .isEqualTo(PinnedClient.REDIS);
+        }
+
+        @Test
+        @DisplayName("스택 최상단부터 처음 일치하는 클라이언트로 분류한다")
+        void shouldUseTopMostMatch() {
+            assertThat(
+                            classify(
+                                    "java.util.concurrent.locks.LockSupport",
+                                    "io.lettuce.core.protocol.DefaultEndpoint",
+                                    "com.zaxxer.hikari.pool.HikariPool"))
+                    .isEqualTo(PinnedClient.REDIS);
+        }
+
+        @Test
+        @DisplayName("일치하는 클라이언트 프레임이 없으면 other로 분류한다")
+        void shouldClassifyOther() {
+            assertThat(classify("java.lang.Thread", "com.ryuqq.authhub.SomeService"))
+                    .isEqualTo(PinnedClient.OTHER);
+            assertThat(classify()).isEqualTo(PinnedClient.OTHER);
+        }
+
+        @Test
+        @DisplayName("패키지 이름 접두사가 같아도 패키지 경계가 다르면 분류하지 않는다")
+        void shouldMatchPackageBoundary() {
+            assertThat(classify("com.mysqlx.Driver", "io.lettucex.Client"))
+                    .isEqualTo(PinnedClient.OTHER);
+        }
+
+        private PinnedClient classify(String... classNames) {
+            return VirtualThreadPinningMonitor.classify(List.of(classNames));
+        }
+    }
+
+    @Nested
+    @DisplayName("record 메서드")
+    class RecordMethod {
+
+        private SimpleMeterRegistry meterRegistry;
+        private VirtualThreadPinningMonitor sut;
+
+        @BeforeEach
+        void setUp() {
+            meterRegistry = new SimpleMeterRegistry();
+            sut = new VirtualThreadPinningMonitor(new VirtualThreadProperties(), meterRegistry);
+        }
+
+        @Test
+        @DisplayName("생성 시 분류별 Counter와 Timer를 0으로 등록한다")
+        void shouldRegisterMetersForEveryClient() {
+            for (String client : List.of("jdbc", "redis", "other")) {
+                assertThat(meterRegistry.get(METRIC_NAME).tag("client", client).counter().count())
+                        .isZero();
+                assertThat(
+                                meterRegistry
+                                        .get(METRIC_NAME + ".duration")
+                                        .tag("client", client)
+                                        .timer()
+                                        .count())
+                        .isZero();
+            }
+        }
+
+        @Test
+        @DisplayName("분류별로 고정 건수와 시간을 집계한다")
+        void shouldRecordCountAndDurationPerClient() {
+            sut.record(PinnedClient.JDBC, Duration.ofMillis(30));
+            sut.record(PinnedClient.JDBC, Duration.ofMillis(50));
+            sut.record(PinnedClient.REDIS, Duration.ofMillis(25));
+
+            assertThat(meterRegistry.get(METRIC_NAME).tag("client", "jdbc").counter().count())
+                    .isEqualTo(2.0);
+            assertThat(meterRegistry.get(METRIC_NAME).tag("client", "redis").counter().count())
+                    .isEqualTo(1.0);
+            assertThat(meterRegistry.get(METRIC_NAME).tag("client", "other").counter().count())
+                    .isZero();
+            assertThat(
+                            meterRegistry
+                                    .get(METRIC_NAME + ".duration")
+                                    .tag("client", "jdbc")
+                                    .timer()
+                                    .totalTime(TimeUnit.MILLISECONDS))
+                    .isEqualTo(80.0);
+        }
+    }
+}
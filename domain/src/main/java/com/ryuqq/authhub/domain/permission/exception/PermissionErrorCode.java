@@ -15,7 +15,8 @@ public enum PermissionErrorCode implements ErrorCode {
     DUPLICATE_PERMISSION_KEY("PERM-002", 409, "Permission key already exists"),
     SYSTEM_PERMISSION_NOT_MODIFIABLE("PERM-003", 403, "System permission cannot be modified"),
     SYSTEM_PERMISSION_NOT_DELETABLE("PERM-004", 403, "System permission cannot be deleted"),
-    PERMISSION_IN_USE("PERM-005", 409, "Permission is currently in use and cannot be deleted");
+    PERMISSION_IN_USE("PERM-005", 409, "Permission is currently in use and cannot be deleted"),
+    PERMISSION_SET_NOT_FOUND("PERM-006", 404, "Permission set not found");
 
     private final String code;
     private final int httpStatus;
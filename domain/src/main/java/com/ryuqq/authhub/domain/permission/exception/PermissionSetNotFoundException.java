@@ -0,0 +1,19 @@
+package com.ryuqq.authhub.domain.permission.exception;
+
+import com.ryuqq.authhub.domain.common.exception.DomainException;
+import java.util.Map;
+
+/**
+ * PermissionSetNotFoundException - 권한 해시에 해당하는 권한 집합을 찾을 수 없을 때 발생하는 예외
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public class PermissionSetNotFoundException extends DomainException {
+
+    public PermissionSetNotFoundException(String permissionHash) {
+        super(
+                PermissionErrorCode.PERMISSION_SET_NOT_FOUND,
+                Map.of("permissionHash", permissionHash));
+    }
+}
@@ -0,0 +1,183 @@
+package com.ryuqq.authhub.domain.permissionendpoint.route;
+
+import com.ryuqq.authhub.domain.permissionendpoint.aggregate.PermissionEndpoint;
+import com.ryuqq.authhub.domain.permissionendpoint.vo.HttpMethod;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * PermissionEndpointRouteIndex - 사전 컴파일된 엔드포인트 라우트 인덱스
+ *
+ * <p>활성 PermissionEndpoint 목록으로부터 (serviceName, httpMethod)별 세그먼트 트라이를 한 번만 구성하고, 요청 경로를
+ * 매칭되는 엔드포인트로 해석합니다.
+ *
+ * <p><strong>설계 목적:</strong>
+ *
+ * <ul>
+ *   <li>{@link com.ryuqq.authhub.domain.permissionendpoint.vo.UrlPattern#matches}는 호출마다 정규식을 생성하므로
+ *       수천 개의 엔드포인트를 순회하는 매칭에 부적합
+ *   <li>조회 비용 O(경로 세그먼트 수), 조회 시 객체 생성 없음
+ *   <li>구성 이후 불변 (스레드 안전, 스냅샷 교체 방식으로 갱신)
+ * </ul>
+ *
+ * <p><strong>지원 세그먼트:</strong>
+ *
+ * <ul>
+ *   <li>리터럴: {@code /api/v1/users}
+ *   <li>Path Variable: {@code /api/v1/users/{id}} - 비어있지 않은 세그먼트 1개
+ *   <li>단일 와일드카드: {@code /api/v1/users/*} - 세그먼트 1개
+ *   <li>더블 와일드카드: {@code /api/v1/admin/**} - 세그먼트 1개 이상
+ *   <li>세그먼트 내부 혼합: {@code /files/{name}.json}, {@code /api/v1/user*}
+ * </ul>
+ *
+ * <p><strong>매칭 우선순위:</strong> 여러 패턴이 매칭되면 세그먼트 단위로 리터럴 → 혼합 → Path Variable → {@code *} →
+ * {@code **} 순서로 더 구체적인 패턴이 선택됩니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public final class PermissionEndpointRouteIndex {
+
+    private static final PermissionEndpointRouteIndex EMPTY =
+            new PermissionEndpointRouteIndex(Map.of(), 0);
+
+    private final Map<String, Map<HttpMethod, RouteNode>> routes;
+    private final int size;
+
+    private PermissionEndpointRouteIndex(
+            Map<String, Map<HttpMethod, RouteNode>> routes, int size) {
+        this.routes = routes;
+        this.size = size;
+    }
+
+    // ========== Factory Methods ==========
+
+    /**
+     * 빈 인덱스 반환
+     *
+     * @return 빈 PermissionEndpointRouteIndex
+     */
+    public static PermissionEndpointRouteIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 엔드포인트 목록으로 인덱스 구성
+     *
+     * <p>삭제된 엔드포인트는 제외합니다. 동일한 (serviceName, httpMethod, urlPattern) 조합이 중복되면 먼저 나온 엔드포인트를
+     * 사용합니다.
+     *
+     * @param endpoints PermissionEndpoint 목록
+     * @return 구성된 PermissionEndpointRouteIndex
+     */
+    public static PermissionEndpointRouteIndex of(Collection<PermissionEndpoint> endpoints) {
+        if (endpoints == null || endpoints.isEmpty()) {
+            return EMPTY;
+        }
+
+        Map<String, Map<HttpMethod, RouteNode>> routes = new HashMap<>();
+        int size = 0;
+        for (PermissionEndpoint endpoint : endpoints) {
+            if (endpoint.isDeleted()) {
+                continue;
+            }
+            RouteNode node =
+                    routes.computeIfAbsent(
+                                    endpoint.serviceNameValue(),
+                                    key -> new EnumMap<>(HttpMethod.class))
+                            .computeIfAbsent(endpoint.getHttpMethod(), key -> new RouteNode());
+            for (String segment : segmentsOf(endpoint.urlPatternValue())) {
+                node = node.childFor(segment);
+            }
+            if (node.register(endpoint)) {
+                size++;
+            }
+        }
+
+        for (Map<HttpMethod, RouteNode> byMethod : routes.values()) {
+            for (RouteNode root : byMethod.values()) {
+                root.freeze();
+            }
+        }
+        return new PermissionEndpointRouteIndex(Map.copyOf(routes), size);
+    }
+
+    // ========== Query Methods ==========
+
+    /**
+     * 요청을 매칭되는 엔드포인트로 해석
+     *
+     * @param serviceName 서비스 이름
+     * @param httpMethod HTTP 메서드
+     * @param path 요청 경로 ('/'로 시작, 쿼리 스트링 제외)
+     * @return 매칭된 PermissionEndpoint (없으면 empty)
+     */
+    public Optional<PermissionEndpoint> resolve(
+            String serviceName, HttpMethod httpMethod, String path) {
+        if (serviceName == null || httpMethod == null || path == null || path.isEmpty()) {
+            return Optional.empty();
+        }
+        if (path.charAt(0) != '/') {
+            return Optional.empty();
+        }
+        Map<HttpMethod, RouteNode> byMethod = routes.get(serviceName);
+        if (byMethod == null) {
+            return Optional.empty();
+        }
+        RouteNode root = byMethod.get(httpMethod);
+        if (root == null) {
+            return Optional.empty();
+        }
+        return root.find(path, 1);
+    }
+
+    /**
+     * 서비스 구분 없이 요청을 매칭되는 엔드포인트로 해석
+     *
+     * <p>서비스마다 가장 구체적인 엔드포인트 하나씩을 반환합니다.
+     *
+     * @param httpMethod HTTP 메서드
+     * @param path 요청 경로 ('/'로 시작, 쿼리 스트링 제외)
+     * @return 매칭된 PermissionEndpoint 목록 (없으면 빈 목록)
+     */
+    public List<PermissionEndpoint> resolveAll(HttpMethod httpMethod, String path) {
+        if (httpMethod == null || path == null || path.isEmpty() || path.charAt(0) != '/') {
+            return List.of();
+        }
+        List<PermissionEndpoint> matched = new ArrayList<>();
+        for (Map<HttpMethod, RouteNode> byMethod : routes.values()) {
+            RouteNode root = byMethod.get(httpMethod);
+            if (root != null) {
+                root.find(path, 1).ifPresent(matched::add);
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * 인덱싱된 엔드포인트 수
+     *
+     * @return 엔드포인트 수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 빈 인덱스 여부
+     *
+     * @return 인덱싱된 엔드포인트가 없으면 true
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private static List<String> segmentsOf(String urlPattern) {
+        return List.of(urlPattern.substring(1).split("/", -1));
+    }
+}
@@ -0,0 +1,287 @@
+package com.ryuqq.authhub.domain.permissionendpoint.route;
+
+import com.ryuqq.authhub.domain.permissionendpoint.aggregate.PermissionEndpoint;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * RouteNode - PermissionEndpointRouteIndex의 세그먼트 트라이 노드
+ *
+ * <p>빌드 단계에서는 TreeMap으로 자식을 누적하고, {@link #freeze()} 이후에는 정렬된 배열만 사용합니다. freeze 이후에는 불변입니다.
+ *
+ * <p><strong>세그먼트 종류:</strong>
+ *
+ * <ul>
+ *   <li>LITERAL: {@code users} - 정확히 일치
+ *   <li>GLOB: {@code user*}, {@code {id}.json} - 세그먼트 내부 와일드카드/변수
+ *   <li>VARIABLE: {@code {id}} - 비어있지 않은 세그먼트 1개
+ *   <li>WILDCARD: {@code *} - 세그먼트 1개 (빈 세그먼트 포함)
+ *   <li>DOUBLE_WILDCARD: {@code **} - 세그먼트 1개 이상
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+final class RouteNode {
+
+    /** GLOB 세그먼트의 {@code {var}} 토큰 (문자 1개 이상) */
+    static final char GLOB_ONE_OR_MORE = '\u0001';
+
+    /** GLOB 세그먼트의 {@code *} 토큰 (문자 0개 이상) */
+    static final char GLOB_ZERO_OR_MORE = '\u0002';
+
+    private static final String[] EMPTY_KEYS = new String[0];
+    private static final RouteNode[] EMPTY_NODES = new RouteNode[0];
+
+    private TreeMap<String, RouteNode> literalBuilder = new TreeMap<>();
+    private TreeMap<String, RouteNode> globBuilder = new TreeMap<>();
+
+    private String[] literalKeys = EMPTY_KEYS;
+    private RouteNode[] literalChildren = EMPTY_NODES;
+    private String[] globPatterns = EMPTY_KEYS;
+    private RouteNode[] globChildren = EMPTY_NODES;
+    private RouteNode variableChild;
+    private RouteNode wildcardChild;
+    private RouteNode doubleWildcardChild;
+    private Optional<PermissionEndpoint> match = Optional.empty();
+
+    // ========== Build ==========
+
+    /**
+     * 패턴 세그먼트에 해당하는 자식 노드 반환 (없으면 생성)
+     *
+     * @param segment URL 패턴 세그먼트
+     * @return 자식 노드
+     */
+    RouteNode childFor(String segment) {
+        if ("**".equals(segment)) {
+            if (doubleWildcardChild == null) {
+                doubleWildcardChild = new RouteNode();
+            }
+            return doubleWildcardChild;
+        }
+        if ("*".equals(segment)) {
+            if (wildcardChild == null) {
+                wildcardChild = new RouteNode();
+            }
+            return wildcardChild;
+        }
+        if (isVariable(segment)) {
+            if (variableChild == null) {
+                variableChild = new RouteNode();
+            }
+            return variableChild;
+        }
+        if (segment.indexOf('*') >= 0 || segment.indexOf('{') >= 0) {
+            return globBuilder.computeIfAbsent(compileGlob(segment), key -> new RouteNode());
+        }
+        return literalBuilder.computeIfAbsent(segment, key -> new RouteNode());
+    }
+
+    /**
+     * 종단 노드에 엔드포인트 등록
+     *
+     * <p>동일한 (serviceName, httpMethod, urlPattern) 조합이 이미 등록되어 있으면 먼저 등록된 엔드포인트를 유지합니다.
+     *
+     * @param endpoint 등록할 엔드포인트
+     * @return 새로 등록되었으면 true
+     */
+    boolean register(PermissionEndpoint endpoint) {
+        if (match.isPresent()) {
+            return false;
+        }
+        match = Optional.of(endpoint);
+        return true;
+    }
+
+    /** 빌드용 TreeMap을 정렬된 배열로 변환하고 하위 노드까지 재귀적으로 고정 */
+    void freeze() {
+        literalKeys = literalBuilder.keySet().toArray(EMPTY_KEYS);
+        literalChildren = literalBuilder.values().toArray(EMPTY_NODES);
+        globPatterns = globBuilder.keySet().toArray(EMPTY_KEYS);
+        globChildren = globBuilder.values().toArray(EMPTY_NODES);
+        literalBuilder = null;
+        globBuilder = null;
+
+        for (RouteNode child : literalChildren) {
+            child.freeze();
+        }
+        for (RouteNode child : globChildren) {
+            child.freeze();
+        }
+        if (variableChild != null) {
+            variableChild.freeze();
+        }
+        if (wildcardChild != null) {
+            wildcardChild.freeze();
+        }
+        if (doubleWildcardChild != null) {
+            doubleWildcardChild.freeze();
+        }
+    }
+
+    // ========== Lookup ==========
+
+    /**
+     * 경로의 {@code start} 위치부터 남은 세그먼트를 매칭
+     *
+     * <p>우선순위: LITERAL → GLOB → VARIABLE → WILDCARD → DOUBLE_WILDCARD. 상위 우선순위 분기에서 매칭에 실패하면
+     * 다음 분기로 백트래킹합니다. 경로 문자열을 자르지 않고 인덱스로만 비교하므로 조회 시 객체를 생성하지 않습니다.
+     *
+     * @param path 요청 경로 ('/'로 시작)
+     * @param start 현재 세그먼트 시작 인덱스 ({@code path.length()} 초과 시 경로 소진)
+     * @return 매칭된 엔드포인트 (미매칭 시 {@link Optional#empty()})
+     */
+    Optional<PermissionEndpoint> find(String path, int start) {
+        int length = path.length();
+        if (start > length) {
+            return match;
+        }
+        int end = path.indexOf('/', start);
+        if (end < 0) {
+            end = length;
+        }
+        int next = end + 1;
+
+        RouteNode literal = findLiteral(path, start, end);
+        if (literal != null) {
+            Optional<PermissionEndpoint> found = literal.find(path, next);
+            if (found.isPresent()) {
+                return found;
+            }
+        }
+
+        for (int i = 0; i < globPatterns.length; i++) {
+            if (globMatches(globPatterns[i], 0, path, start, end)) {
+                Optional<PermissionEndpoint> found = globChildren[i].find(path, next);
+                if (found.isPresent()) {
+                    return found;
+                }
+            }
+        }
+
+        if (variableChild != null && end > start) {
+            Optional<PermissionEndpoint> found = variableChild.find(path, next);
+            if (found.isPresent()) {
+                return found;
+            }
+        }
+
+        if (wildcardChild != null) {
+            Optional<PermissionEndpoint> found = wildcardChild.find(path, next);
+            if (found.isPresent()) {
+                return found;
+            }
+        }
+
+        if (doubleWildcardChild != null) {
+            int segmentEnd = end;
+            while (true) {
+                Optional<PermissionEndpoint> found = doubleWildcardChild.find(path, segmentEnd + 1);
+                if (found.isPresent()) {
+                    return found;
+                }
+                if (segmentEnd >= length) {
+                    break;
+                }
+                int slash = path.indexOf('/', segmentEnd + 1);
+                segmentEnd = slash < 0 ? length : slash;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private RouteNode findLiteral(String path, int start, int end) {
+        int low = 0;
+        int high = literalKeys.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compareRegion(literalKeys[mid], path, start, end);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return literalChildren[mid];
+            }
+        }
+        return null;
+    }
+
+    /** {@link String#compareTo}와 동일한 순서로 key와 path[start, end)를 비교 */
+    private static int compareRegion(String key, String path, int start, int end) {
+        int keyLength = key.length();
+        int regionLength = end - start;
+        int limit = Math.min(keyLength, regionLength);
+        for (int i = 0; i < limit; i++) {
+            int diff = key.charAt(i) - path.charAt(start + i);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return keyLength - regionLength;
+    }
+
+    private static boolean globMatches(String glob, int globIndex, String path, int pos, int end) {
+        int gi = globIndex;
+        int pi = pos;
+        while (gi < glob.length()) {
+            char token = glob.charAt(gi);
+            if (token == GLOB_ZERO_OR_MORE || token == GLOB_ONE_OR_MORE) {
+                int min = token == GLOB_ONE_OR_MORE ? pi + 1 : pi;
+                for (int candidate = end; candidate >= min; candidate--) {
+                    if (globMatches(glob, gi + 1, path, candidate, end)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            if (pi >= end || path.charAt(pi) != token) {
+                return false;
+            }
+            gi++;
+            pi++;
+        }
+        return pi == end;
+    }
+
+    // ========== Segment Parsing ==========
+
+    private static boolean isVariable(String segment) {
+        return segment.length() > 2
+                && segment.charAt(0) == '{'
+                && segment.indexOf('}') == segment.length() - 1
+                && segment.indexOf('*') < 0;
+    }
+
+    /**
+     * 세그먼트 내부 와일드카드/변수를 토큰 문자로 치환
+     *
+     * <p>{@code {var}} → {@link #GLOB_ONE_OR_MORE}, 연속된 {@code *} → {@link
+     * #GLOB_ZERO_OR_MORE}. 닫히지 않은 {@code {}는 리터럴로 취급합니다.
+     *
+     * @param segment 원본 세그먼트
+     * @return 토큰화된 GLOB 패턴
+     */
+    static String compileGlob(String segment) {
+        StringBuilder compiled = new StringBuilder(segment.length());
+        int i = 0;
+        while (i < segment.length()) {
+            char c = segment.charAt(i);
+            if (c == '*') {
+                if (compiled.length() == 0
+                        || compiled.charAt(compiled.length() - 1) != GLOB_ZERO_OR_MORE) {
+                    compiled.append(GLOB_ZERO_OR_MORE);
+                }
+                i++;
+            } else if (c == '{' && segment.indexOf('}', i) > i + 1) {
+                compiled.append(GLOB_ONE_OR_MORE);
+                i = segment.indexOf('}', i) + 1;
+            } else {
+                compiled.append(c);
+                i++;
+            }
+        }
+        return compiled.toString();
+    }
+}
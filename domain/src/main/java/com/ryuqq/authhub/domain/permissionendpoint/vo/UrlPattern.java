@@ -23,18 +23,27 @@ import java.util.regex.Pattern;
  *   <li>/api/v1/organizations/{orgId}/members - 중첩 리소스
  * </ul>
  *
- * @param value URL 패턴 문자열
+ * <p>매칭용 정규식은 처음 매칭할 때 한 번만 컴파일하여 보관합니다. 컴파일 결과를 인스턴스에 보관해야 하므로 record 대신 값 기반
+ * final 클래스로 정의하며, 동등성과 문자열 표현은 {@code value}만으로 결정됩니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
-public record UrlPattern(String value) {
+public final class UrlPattern {
 
     private static final int MAX_LENGTH = 500;
 
-    /** Regex 메타문자 escape 패턴 (URL에서 사용될 수 있는 문자들) */
-    private static final Pattern REGEX_META_CHARS = Pattern.compile("([.+?^$|()\\[\\]\\\\])");
+    private final String value;
+
+    /** 매칭용 정규식 (처음 매칭 시 컴파일, 동시에 컴파일되어도 결과가 같으므로 동기화하지 않음) */
+    private volatile Pattern compiled;
 
-    public UrlPattern {
+    /**
+     * 생성자
+     *
+     * @param value URL 패턴 문자열
+     */
+    public UrlPattern(String value) {
         if (value == null || value.isBlank()) {
             throw new IllegalArgumentException("urlPattern은 null이거나 빈 값일 수 없습니다");
         }
@@ -44,6 +53,7 @@ public record UrlPattern(String value) {
         if (value.length() > MAX_LENGTH) {
             throw new IllegalArgumentException("urlPattern은 " + MAX_LENGTH + "자를 초과할 수 없습니다");
         }
+        this.value = value;
     }
 
     /**
@@ -56,15 +66,34 @@ public record UrlPattern(String value) {
         return new UrlPattern(value);
     }
 
+    /**
+     * URL 패턴 문자열
+     *
+     * @return URL 패턴 문자열
+     */
+    public String value() {
+        return value;
+    }
+
     /**
      * 요청 URL이 이 패턴과 매칭되는지 확인
      *
      * <p>Path Variable({id})을 정규식으로 변환하여 매칭합니다. regex 메타문자를 안전하게 escape하여 정확한 매칭을 보장합니다.
+     * 변환한 정규식은 처음 호출 시 한 번만 컴파일합니다.
      *
      * @param requestUrl 요청 URL
      * @return 매칭되면 true
      */
     public boolean matches(String requestUrl) {
+        Pattern pattern = compiled;
+        if (pattern == null) {
+            pattern = Pattern.compile(toRegex());
+            compiled = pattern;
+        }
+        return pattern.matcher(requestUrl).matches();
+    }
+
+    private String toRegex() {
         // 1. Path Variable({id}) → [^/]+ 변환
         String withPathVariables = value.replaceAll("\\{[^}]+\\}", "[^/]+");
 
@@ -80,9 +109,7 @@ public record UrlPattern(String value) {
         // 5. URL에서 사용될 수 있는 regex 메타문자 escape (., +, ? 등)
         //    단, 이미 변환된 regex 패턴([^/]+, [^/]*, .*)은 보존해야 함
         //    → 변환 전에 메타문자를 escape하는 것이 아니라, 원본 패턴에서 escape 필요 부분만 처리
-        String regex = escapeRegexMetaCharsInLiterals(withAllWildcards);
-
-        return requestUrl.matches("^" + regex + "$");
+        return escapeRegexMetaCharsInLiterals(withAllWildcards);
     }
 
     /**
@@ -105,4 +132,22 @@ public record UrlPattern(String value) {
         String escaped = preserved.replace(".", "\\.");
         return escaped.replace("\u0001DOTSTAR\u0001", ".*");
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof UrlPattern other && value.equals(other.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "UrlPattern[value=" + value + "]";
+    }
 }
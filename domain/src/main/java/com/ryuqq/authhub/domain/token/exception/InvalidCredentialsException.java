@@ -13,10 +13,19 @@ import java.util.Map;
  */
 public class InvalidCredentialsException extends DomainException {
 
+    /** 사용자(로그인 컨텍스트)를 찾지 못한 경우 - 존재 여부를 노출하지 않도록 상세 정보 없이 생성 */
     public InvalidCredentialsException() {
         super(TokenErrorCode.INVALID_CREDENTIALS);
     }
 
+    /**
+     * 비밀번호가 일치하지 않는 경우
+     *
+     * <p>로그인 컨텍스트(User/Organization/Tenant 조인)를 먼저 조회한 뒤 비밀번호를 검증하므로 테넌트 ID를 항상 알 수 있습니다.
+     *
+     * @param tenantId 테넌트 ID
+     * @param identifier 사용자 식별자
+     */
     public InvalidCredentialsException(String tenantId, String identifier) {
         super(
                 TokenErrorCode.INVALID_CREDENTIALS,
@@ -0,0 +1,18 @@
+package com.ryuqq.authhub.domain.token.exception;
+
+import com.ryuqq.authhub.domain.common.exception.DomainException;
+
+/**
+ * PasswordHashingBusyException - 비밀번호 해싱 과부하 예외
+ *
+ * <p>비밀번호 해싱/검증 작업 대기열이 가득 차 요청을 즉시 거절할 때 발생합니다. 클라이언트는 잠시 후 재시도해야 합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public class PasswordHashingBusyException extends DomainException {
+
+    public PasswordHashingBusyException() {
+        super(TokenErrorCode.PASSWORD_HASHING_BUSY);
+    }
+}
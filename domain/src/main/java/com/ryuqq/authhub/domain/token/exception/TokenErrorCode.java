@@ -17,7 +17,8 @@ public enum TokenErrorCode implements ErrorCode {
     INVALID_ACCESS_TOKEN("AUTH-004", 401, "Invalid access token"),
     EXPIRED_ACCESS_TOKEN("AUTH-005", 401, "Access token has expired"),
     UNAUTHORIZED("AUTH-006", 401, "Unauthorized access"),
-    FORBIDDEN("AUTH-007", 403, "Access forbidden");
+    FORBIDDEN("AUTH-007", 403, "Access forbidden"),
+    PASSWORD_HASHING_BUSY("AUTH-008", 429, "Too many password verification requests");
 
     private final String code;
     private final int httpStatus;
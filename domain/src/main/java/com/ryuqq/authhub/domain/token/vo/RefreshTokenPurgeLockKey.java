@@ -0,0 +1,24 @@
+package com.ryuqq.authhub.domain.token.vo;
+
+import com.ryuqq.authhub.domain.common.vo.LockKey;
+
+/**
+ * RefreshTokenPurgeLockKey - 만료 RefreshToken 정리 작업 분산락 키
+ *
+ * <p>다중 인스턴스 중 한 인스턴스만 정리 작업을 실행하도록 사용하는 단일 키입니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public record RefreshTokenPurgeLockKey() implements LockKey {
+
+    private static final String KEY = "lock:token:refresh-token-purge";
+
+    /** 공용 인스턴스 (구성 요소가 없으므로 모든 인스턴스가 동일) */
+    public static final RefreshTokenPurgeLockKey INSTANCE = new RefreshTokenPurgeLockKey();
+
+    @Override
+    public String value() {
+        return KEY;
+    }
+}
@@ -0,0 +1,276 @@
+package com.ryuqq.authhub.domain.permissionendpoint.route;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.authhub.domain.common.vo.DeletionStatus;
+import com.ryuqq.authhub.domain.permissionendpoint.aggregate.PermissionEndpoint;
+import com.ryuqq.authhub.domain.permissionendpoint.fixture.PermissionEndpointFixture;
+import com.ryuqq.authhub.domain.permissionendpoint.vo.HttpMethod;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * PermissionEndpointRouteIndex 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@DisplayName("PermissionEndpointRouteIndex 테스트")
+class PermissionEndpointRouteIndexTest {
+
+    private static final String SERVICE_NAME = "authhub";
+    private static final Instant FIXED_TIME = Instant.parse("2025-01-01T00:00:00Z");
+
+    private static PermissionEndpointRouteIndex indexOf(String... urlPatterns) {
+        return PermissionEndpointRouteIndex.of(
+                Arrays.stream(urlPatterns)
+                        .map(PermissionEndpointFixture::createWithPattern)
+                        .toList());
+    }
+
+    private static Optional<String> resolvePattern(
+            PermissionEndpointRouteIndex index, String path) {
+        return index.resolve(SERVICE_NAME, HttpMethod.GET, path)
+                .map(PermissionEndpoint::urlPatternValue);
+    }
+
+    private static PermissionEndpoint endpoint(
+            Long id, String serviceName, String urlPattern, DeletionStatus deletionStatus) {
+        return PermissionEndpoint.reconstitute(
+                id,
+                1L,
+                serviceName,
+                urlPattern,
+                HttpMethod.GET,
+                urlPattern + " 엔드포인트",
+                false,
+                deletionStatus,
+                FIXED_TIME,
+                FIXED_TIME);
+    }
+
+    @Nested
+    @DisplayName("인덱스 생성 테스트")
+    class CreateTests {
+
+        @Test
+        @DisplayName("빈 목록이면 빈 인덱스를 반환한다")
+        void shouldReturnEmptyIndexWhenEndpointsIsEmpty() {
+            // when
+            PermissionEndpointRouteIndex index = PermissionEndpointRouteIndex.of(List.of());
+
+            // then
+            assertThat(index.isEmpty()).isTrue();
+            assertThat(index.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("삭제된 엔드포인트는 인덱싱하지 않는다")
+        void shouldSkipDeletedEndpoints() {
+            // given
+            PermissionEndpoint deleted = PermissionEndpointFixture.createDeleted();
+
+            // when
+            PermissionEndpointRouteIndex index = PermissionEndpointRouteIndex.of(List.of(deleted));
+
+            // then
+            assertThat(index.isEmpty()).isTrue();
+            assertThat(index.resolve(SERVICE_NAME, HttpMethod.GET, deleted.urlPatternValue()))
+                    .isEmpty();
+        }
+
+        @Test
+        @DisplayName("동일한 패턴이 중복되면 먼저 나온 엔드포인트를 사용한다")
+        void shouldKeepFirstEndpointWhenDuplicated() {
+            // given
+            PermissionEndpoint first =
+                    endpoint(1L, SERVICE_NAME, "/api/v1/users", DeletionStatus.active());
+            PermissionEndpoint second =
+                    endpoint(2L, SERVICE_NAME, "/api/v1/users", DeletionStatus.active());
+
+            // when
+            PermissionEndpointRouteIndex index =
+                    PermissionEndpointRouteIndex.of(List.of(first, second));
+
+            // then
+            assertThat(index.size()).isEqualTo(1);
+            assertThat(index.resolve(SERVICE_NAME, HttpMethod.GET, "/api/v1/users"))
+                    .hasValueSatisfying(
+                            found -> assertThat(found.permissionEndpointIdValue()).isEqualTo(1L));
+        }
+    }
+
+    @Nested
+    @DisplayName("패턴 매칭 테스트")
+    class MatchTests {
+
+        @ParameterizedTest
+        @DisplayName("UrlPattern.matches와 동일한 규칙으로 매칭한다")
+        @CsvSource({
+            "/api/v1/users, /api/v1/users, true",
+            "/api/v1/users, /api/v1/users/1, false",
+            "/api/v1/users/{id}, /api/v1/users/123, true",
+            "/api/v1/users/{id}, /api/v1/users/, false",
+            "/api/v1/users/{id}, /api/v1/users/123/roles, false",
+            "/api/v1/users/*, /api/v1/users/123, true",
+            "/api/v1/users/*, /api/v1/users/, true",
+            "/api/v1/users/*, /api/v1/users/123/roles, false",
+            "/api/v1/admin/**, /api/v1/admin/users, true",
+            "/api/v1/admin/**, /api/v1/admin/users/1/roles, true",
+            "/api/v1/admin/**, /api/v1/admin/, true",
+            "/api/v1/admin/**, /api/v1/admin, false",
+            "/api/v1/**/roles, /api/v1/users/1/roles, true",
+            "/api/v1/**/roles, /api/v1/roles, false",
+            "/files/{name}.json, /files/report.json, true",
+            "/files/{name}.json, /files/.json, false",
+            "/api/v1/user*, /api/v1/users, true",
+            "/api/v1/user*, /api/v1/tenants, false"
+        })
+        void shouldMatchLikeUrlPattern(String urlPattern, String path, boolean expected) {
+            // given
+            PermissionEndpointRouteIndex index = indexOf(urlPattern);
+
+            // when
+            boolean matched = resolvePattern(index, path).isPresent();
+
+            // then
+            assertThat(matched).isEqualTo(expected);
+            assertThat(matched)
+                    .isEqualTo(
+                            PermissionEndpointFixture.createWithPattern(urlPattern)
+                                    .getUrlPattern()
+                                    .matches(path));
+        }
+
+        @Test
+        @DisplayName("'/'로 시작하지 않는 경로는 매칭하지 않는다")
+        void shouldNotMatchRelativePath() {
+            // given
+            PermissionEndpointRouteIndex index = indexOf("/api/v1/users");
+
+            // when & then
+            assertThat(resolvePattern(index, "api/v1/users")).isEmpty();
+            assertThat(resolvePattern(index, "")).isEmpty();
+            assertThat(resolvePattern(index, null)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("매칭 우선순위 테스트")
+    class PrecedenceTests {
+
+        @Test
+        @DisplayName("리터럴 패턴이 Path Variable과 와일드카드보다 우선한다")
+        void shouldPreferLiteralOverVariable() {
+            // given
+            PermissionEndpointRouteIndex index =
+                    indexOf(
+                            "/api/v1/users/**",
+                            "/api/v1/users/*",
+                            "/api/v1/users/{id}",
+                            "/api/v1/users/me");
+
+            // when & then
+            assertThat(resolvePattern(index, "/api/v1/users/me")).hasValue("/api/v1/users/me");
+            assertThat(resolvePattern(index, "/api/v1/users/123")).hasValue("/api/v1/users/{id}");
+            assertThat(resolvePattern(index, "/api/v1/users/")).hasValue("/api/v1/users/*");
+            assertThat(resolvePattern(index, "/api/v1/users/1/roles"))
+                    .hasValue("/api/v1/users/**");
+        }
+
+        @Test
+        @DisplayName("구체적인 분기에서 실패하면 다음 분기로 백트래킹한다")
+        void shouldBacktrackWhenSpecificBranchFails() {
+            // given
+            PermissionEndpointRouteIndex index =
+                    indexOf("/api/v1/users/me/profile", "/api/v1/users/{id}/roles");
+
+            // when
+            Optional<String> resolved = resolvePattern(index, "/api/v1/users/me/roles");
+
+            // then
+            assertThat(resolved).hasValue("/api/v1/users/{id}/roles");
+        }
+    }
+
+    @Nested
+    @DisplayName("서비스/메서드 분리 테스트")
+    class IsolationTests {
+
+        @Test
+        @DisplayName("서비스 이름이 다르면 매칭하지 않는다")
+        void shouldIsolateByServiceName() {
+            // given
+            PermissionEndpointRouteIndex index =
+                    PermissionEndpointRouteIndex.of(
+                            List.of(
+                                    endpoint(
+                                            1L,
+                                            "product-service",
+                                            "/api/v1/products",
+                                            DeletionStatus.active())));
+
+            // when & then
+            assertThat(index.resolve("product-service", HttpMethod.GET, "/api/v1/products"))
+                    .isPresent();
+            assertThat(index.resolve(SERVICE_NAME, HttpMethod.GET, "/api/v1/products")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("HTTP 메서드가 다르면 매칭하지 않는다")
+        void shouldIsolateByHttpMethod() {
+            // given
+            PermissionEndpointRouteIndex index =
+                    PermissionEndpointRouteIndex.of(
+                            List.of(
+                                    PermissionEndpointFixture.createWithPatternAndMethod(
+                                            "/api/v1/users", HttpMethod.POST)));
+
+            // when & then
+            assertThat(index.resolve(SERVICE_NAME, HttpMethod.POST, "/api/v1/users")).isPresent();
+            assertThat(index.resolve(SERVICE_NAME, HttpMethod.GET, "/api/v1/users")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("resolveAll은 서비스마다 가장 구체적인 엔드포인트를 반환한다")
+        void shouldResolveAcrossServices() {
+            // given
+            PermissionEndpointRouteIndex index =
+                    PermissionEndpointRouteIndex.of(
+                            List.of(
+                                    endpoint(
+                                            1L,
+                                            SERVICE_NAME,
+                                            "/api/v1/users/{id}",
+                                            DeletionStatus.active()),
+                                    endpoint(
+                                            2L,
+                                            SERVICE_NAME,
+                                            "/api/v1/users/me",
+                                            DeletionStatus.active()),
+                                    endpoint(
+                                            3L,
+                                            "product-service",
+                                            "/api/v1/**",
+                                            DeletionStatus.active())));
+
+            // when
+            List<PermissionEndpoint> result = index.resolveAll(HttpMethod.GET, "/api/v1/users/me");
+
+            // then
+            assertThat(result)
+                    .extracting(PermissionEndpoint::urlPatternValue)
+                    .containsExactlyInAnyOrder("/api/v1/users/me", "/api/v1/**");
+            assertThat(index.resolveAll(HttpMethod.POST, "/api/v1/users/me")).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.ryuqq.authhub.domain.token.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.authhub.domain.common.exception.DomainException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * InvalidCredentialsException 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@DisplayName("InvalidCredentialsException 테스트")
+class InvalidCredentialsExceptionTest {
+
+    @Nested
+    @DisplayName("InvalidCredentialsException 생성 테스트")
+    class CreateTests {
+
+        @Test
+        @DisplayName("무인자로 예외를 생성한다")
+        void shouldCreateWithNoArgs() {
+            // when
+            InvalidCredentialsException exception = new InvalidCredentialsException();
+
+            // then
+            assertThat(exception).isInstanceOf(DomainException.class);
+            assertThat(exception.getErrorCode()).isEqualTo(TokenErrorCode.INVALID_CREDENTIALS);
+            assertThat(exception.code()).isEqualTo("AUTH-001");
+            assertThat(exception.httpStatus()).isEqualTo(401);
+            assertThat(exception.args()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("tenantId와 identifier로 예외를 생성한다")
+        void shouldCreateWithTenantIdAndIdentifier() {
+            // given
+            String tenantId = "tenant-123";
+            String identifier = "user@test.com";
+
+            // when
+            InvalidCredentialsException exception =
+                    new InvalidCredentialsException(tenantId, identifier);
+
+            // then
+            assertThat(exception.getErrorCode()).isEqualTo(TokenErrorCode.INVALID_CREDENTIALS);
+            assertThat(exception.httpStatus()).isEqualTo(401);
+            assertThat(exception.args())
+                    .containsEntry("tenantId", tenantId)
+                    .containsEntry("identifier", identifier)
+                    .hasSize(2);
+        }
+    }
+}
@@ -16,6 +16,7 @@ import com.ryuqq.authhub.adapter.out.persistence.permission.entity.PermissionJpa
 import com.ryuqq.authhub.adapter.out.persistence.permission.repository.PermissionJpaRepository;
 import com.ryuqq.authhub.adapter.out.persistence.permissionendpoint.entity.PermissionEndpointJpaEntity;
 import com.ryuqq.authhub.adapter.out.persistence.permissionendpoint.repository.PermissionEndpointJpaRepository;
+import com.ryuqq.authhub.adapter.out.persistence.permissionendpoint.repository.PermissionSpecVersionJpaRepository;
 import com.ryuqq.authhub.adapter.out.persistence.role.entity.RoleJpaEntity;
 import com.ryuqq.authhub.adapter.out.persistence.role.repository.RoleJpaRepository;
 import com.ryuqq.authhub.adapter.out.persistence.rolepermission.repository.RolePermissionJpaRepository;
@@ -79,6 +80,7 @@ class InternalApiE2ETest extends E2ETestBase {
     @Autowired private RolePermissionJpaRepository rolePermissionRepository;
     @Autowired private PermissionJpaRepository permissionRepository;
     @Autowired private PermissionEndpointJpaRepository permissionEndpointRepository;
+    @Autowired private PermissionSpecVersionJpaRepository specVersionRepository;
     @Autowired private ServiceJpaRepository serviceRepository;
 
     // Test Data
@@ -98,6 +100,8 @@ class InternalApiE2ETest extends E2ETestBase {
         organizationRepository.deleteAll();
         tenantRepository.deleteAll();
         serviceRepository.deleteAll();
+        // 저장소에 직접 넣은 데이터는 스펙 버전을 올리지 않으므로 테스트마다 버전을 올려 스냅샷을 새로 만든다
+        specVersionRepository.advance(Instant.now());
 
         // 2. 부모 엔티티 생성 (공통 사전 데이터)
         savedTenant = tenantRepository.save(TenantJpaEntityFixture.create());
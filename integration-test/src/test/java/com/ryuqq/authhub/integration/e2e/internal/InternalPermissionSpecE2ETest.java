@@ -10,6 +10,7 @@ import com.ryuqq.authhub.adapter.out.persistence.permission.entity.PermissionJpa
 import com.ryuqq.authhub.adapter.out.persistence.permission.repository.PermissionJpaRepository;
 import com.ryuqq.authhub.adapter.out.persistence.permissionendpoint.entity.PermissionEndpointJpaEntity;
 import com.ryuqq.authhub.adapter.out.persistence.permissionendpoint.repository.PermissionEndpointJpaRepository;
+import com.ryuqq.authhub.adapter.out.persistence.permissionendpoint.repository.PermissionSpecVersionJpaRepository;
 import com.ryuqq.authhub.domain.permission.vo.PermissionType;
 import com.ryuqq.authhub.domain.permissionendpoint.vo.HttpMethod;
 import com.ryuqq.authhub.integration.common.base.E2ETestBase;
@@ -42,10 +43,14 @@ class InternalPermissionSpecE2ETest extends E2ETestBase {
 
     @Autowired private PermissionJpaRepository permissionRepository;
 
+    @Autowired private PermissionSpecVersionJpaRepository specVersionRepository;
+
     @BeforeEach
     void setUp() {
         permissionEndpointRepository.deleteAll();
         permissionRepository.deleteAll();
+        // 저장소에 직접 넣은 데이터는 스펙 버전을 올리지 않으므로 테스트마다 버전을 올려 스냅샷을 새로 만든다
+        specVersionRepository.advance(Instant.now());
     }
 
     @Nested
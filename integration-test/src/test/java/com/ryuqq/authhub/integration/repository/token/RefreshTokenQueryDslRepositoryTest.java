@@ -3,6 +3,7 @@ package com.ryuqq.authhub.integration.repository.token;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.ryuqq.authhub.adapter.out.persistence.token.entity.RefreshTokenJpaEntity;
+import com.ryuqq.authhub.adapter.out.persistence.token.mapper.RefreshTokenJpaEntityMapper;
 import com.ryuqq.authhub.adapter.out.persistence.token.repository.RefreshTokenJpaRepository;
 import com.ryuqq.authhub.adapter.out.persistence.token.repository.RefreshTokenQueryDslRepository;
 import com.ryuqq.authhub.integration.common.base.RepositoryTestBase;
@@ -25,7 +26,8 @@ import org.springframework.beans.factory.annotation.Autowired;
  * <ul>
  *   <li>findByUserId - 사용자 ID로 단건 조회
  *   <li>existsByUserId - 사용자 ID 존재 여부
- *   <li>findByToken - 토큰 문자열로 단건 조회
+ *   <li>findActiveByTokenHash - 토큰 다이제스트로 만료되지 않은 토큰 단건 조회
+ *   <li>findByLegacyToken - 이전 버전이 기록한 토큰을 원문으로 조회
  * </ul>
  */
 @Tag(TestTags.REPOSITORY)
@@ -34,6 +36,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 class RefreshTokenQueryDslRepositoryTest extends RepositoryTestBase {
 
     private static final Instant FIXED_TIME = Instant.parse("2025-01-01T00:00:00Z");
+    private static final Instant EXPIRES_AT = FIXED_TIME.plusSeconds(604800L);
+    private static final RefreshTokenJpaEntityMapper MAPPER = new RefreshTokenJpaEntityMapper();
 
     @Autowired private RefreshTokenJpaRepository jpaRepository;
     @Autowired private RefreshTokenQueryDslRepository queryDslRepository;
@@ -44,6 +48,10 @@ class RefreshTokenQueryDslRepositoryTest extends RepositoryTestBase {
         flushAndClear();
     }
 
+    private static byte[] hashOf(String token) {
+        return MAPPER.toTokenHash(token);
+    }
+
     @Nested
     @DisplayName("findByUserId 테스트")
     class FindByUserIdTest {
@@ -56,7 +64,12 @@ class RefreshTokenQueryDslRepositoryTest extends RepositoryTestBase {
             UUID userId = UUID.randomUUID();
             RefreshTokenJpaEntity entity =
                     RefreshTokenJpaEntity.forNew(
-                            refreshTokenId, userId, "refresh-token-value", FIXED_TIME);
+                            refreshTokenId,
+                            userId,
+                            "refresh-token-value",
+                            hashOf("refresh-token-value"),
+                            EXPIRES_AT,
+                            FIXED_TIME);
             jpaRepository.save(entity);
             flushAndClear();
 
@@ -67,7 +80,7 @@ class RefreshTokenQueryDslRepositoryTest extends RepositoryTestBase {
             assertThat(found).isPresent();
             assertThat(found.get().getRefreshTokenId()).isEqualTo(refreshTokenId);
             assertThat(found.get().getUserId()).isEqualTo(userId);
-            assertThat(found.get().getToken()).isEqualTo("refresh-token-value");
+            assertThat(found.get().getTokenHash()).isEqualTo(hashOf("refresh-token-value"));
         }
 
         @Test
@@ -93,7 +106,12 @@ class RefreshTokenQueryDslRepositoryTest extends RepositoryTestBase {
             UUID userId = UUID.randomUUID();
             jpaRepository.save(
                     RefreshTokenJpaEntity.forNew(
-                            UUID.randomUUID(), userId, "token-exists", FIXED_TIME));
+                            UUID.randomUUID(),
+                            userId,
+                            "token-exists",
+                            hashOf("token-exists"),
+                            EXPIRES_AT,
+                            FIXED_TIME));
             flushAndClear();
 
             // when
@@ -115,27 +133,58 @@ class RefreshTokenQueryDslRepositoryTest extends RepositoryTestBase {
     }
 
     @Nested
-    @DisplayName("findByToken 테스트")
-    class FindByTokenTest {
+    @DisplayName("findActiveByTokenHash 테스트")
+    class FindActiveByTokenHashTest {
 
         @Test
-        @DisplayName("토큰 문자열로 리프레시 토큰 조회 성공")
-        void shouldFindByToken() {
+        @DisplayName("토큰 다이제스트로 만료되지 않은 리프레시 토큰 조회 성공")
+        void shouldFindByTokenHash() {
             // given
             UUID refreshTokenId = UUID.randomUUID();
             UUID userId = UUID.randomUUID();
-            String tokenValue = "jwt-refresh-token-abc123";
+            String tokenValue = "q3Zt8nXW0aJfK2c9Lp1vYdR7sB4mE6uH5gTiOoNwQxA";
             jpaRepository.save(
-                    RefreshTokenJpaEntity.forNew(refreshTokenId, userId, tokenValue, FIXED_TIME));
+                    RefreshTokenJpaEntity.forNew(
+                            refreshTokenId,
+                            userId,
+                            tokenValue,
+                            hashOf(tokenValue),
+                            EXPIRES_AT,
+                            FIXED_TIME));
             flushAndClear();
 
             // when
-            Optional<RefreshTokenJpaEntity> found = queryDslRepository.findByToken(tokenValue);
+            Optional<RefreshTokenJpaEntity> found =
+                    queryDslRepository.findActiveByTokenHash(hashOf(tokenValue), FIXED_TIME);
 
             // then
             assertThat(found).isPresent();
             assertThat(found.get().getRefreshTokenId()).isEqualTo(refreshTokenId);
-            assertThat(found.get().getToken()).isEqualTo(tokenValue);
+            assertThat(found.get().getTokenHash()).isEqualTo(hashOf(tokenValue));
+            assertThat(found.get().getExpiresAt()).isEqualTo(EXPIRES_AT);
+        }
+
+        @Test
+        @DisplayName("만료된 토큰은 조회되지 않음")
+        void shouldNotFindExpiredToken() {
+            // given
+            String tokenValue = "expired-token-value";
+            jpaRepository.save(
+                    RefreshTokenJpaEntity.forNew(
+                            UUID.randomUUID(),
+                            UUID.randomUUID(),
+                            tokenValue,
+                            hashOf(tokenValue),
+                            EXPIRES_AT,
+                            FIXED_TIME));
+            flushAndClear();
+
+            // when
+            Optional<RefreshTokenJpaEntity> found =
+                    queryDslRepository.findActiveByTokenHash(hashOf(tokenValue), EXPIRES_AT);
+
+            // then
+            assertThat(found).isEmpty();
         }
 
         @Test
@@ -143,7 +192,62 @@ class RefreshTokenQueryDslRepositoryTest extends RepositoryTestBase {
         void shouldReturnEmptyWhenTokenNotFound() {
             // when
             Optional<RefreshTokenJpaEntity> found =
-                    queryDslRepository.findByToken("nonexistent-token");
+                    queryDslRepository.findActiveByTokenHash(
+                            hashOf("nonexistent-token"), FIXED_TIME);
+
+            // then
+            assertThat(found).isEmpty();
+        }
+    }
+    @Nested
+    @DisplayName("findByLegacyToken 테스트")
+    class FindByLegacyTokenTest {
+
+        @Test
+        @DisplayName("이전 버전이 기록한 (다이제스트 없는) 토큰을 원문으로 조회한다")
+        void shouldFindByPlaintextToken() {
+            // given
+            String tokenValue = "issued-by-previous-version";
+            UUID userId = UUID.randomUUID();
+            jpaRepository.save(
+                    RefreshTokenJpaEntity.of(
+                            UUID.randomUUID(),
+                            userId,
+                            tokenValue,
+                            null,
+                            null,
+                            FIXED_TIME,
+                            FIXED_TIME));
+            flushAndClear();
+
+            // when
+            Optional<RefreshTokenJpaEntity> found =
+                    queryDslRepository.findByLegacyToken(tokenValue, FIXED_TIME.minusSeconds(1));
+
+            // then
+            assertThat(found).isPresent();
+            assertThat(found.get().getUserId()).isEqualTo(userId);
+        }
+
+        @Test
+        @DisplayName("updatedAfter 이전에 갱신된 토큰은 조회되지 않는다")
+        void shouldNotFindStaleToken() {
+            // given
+            String tokenValue = "stale-previous-version-token";
+            jpaRepository.save(
+                    RefreshTokenJpaEntity.of(
+                            UUID.randomUUID(),
+                            UUID.randomUUID(),
+                            tokenValue,
+                            null,
+                            null,
+                            FIXED_TIME,
+                            FIXED_TIME));
+            flushAndClear();
+
+            // when
+            Optional<RefreshTokenJpaEntity> found =
+                    queryDslRepository.findByLegacyToken(tokenValue, FIXED_TIME);
 
             // then
             assertThat(found).isEmpty();
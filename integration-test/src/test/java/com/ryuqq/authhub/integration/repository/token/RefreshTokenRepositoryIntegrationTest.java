@@ -3,6 +3,7 @@ package com.ryuqq.authhub.integration.repository.token;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.ryuqq.authhub.adapter.out.persistence.token.entity.RefreshTokenJpaEntity;
+import com.ryuqq.authhub.adapter.out.persistence.token.mapper.RefreshTokenJpaEntityMapper;
 import com.ryuqq.authhub.adapter.out.persistence.token.repository.RefreshTokenJpaRepository;
 import com.ryuqq.authhub.integration.common.base.RepositoryTestBase;
 import com.ryuqq.authhub.integration.common.tag.TestTags;
@@ -28,6 +29,8 @@ class RefreshTokenRepositoryIntegrationTest extends RepositoryTestBase {
     @Autowired private RefreshTokenJpaRepository refreshTokenJpaRepository;
 
     private static final Instant FIXED_TIME = Instant.parse("2025-01-01T00:00:00Z");
+    private static final Instant EXPIRES_AT = FIXED_TIME.plusSeconds(604800L);
+    private static final RefreshTokenJpaEntityMapper MAPPER = new RefreshTokenJpaEntityMapper();
 
     @BeforeEach
     void setUp() {
@@ -35,6 +38,10 @@ class RefreshTokenRepositoryIntegrationTest extends RepositoryTestBase {
         flushAndClear();
     }
 
+    private static byte[] hashOf(String token) {
+        return MAPPER.toTokenHash(token);
+    }
+
     @Nested
     @DisplayName("save 테스트")
     class SaveTest {
@@ -47,7 +54,8 @@ class RefreshTokenRepositoryIntegrationTest extends RepositoryTestBase {
             UUID userId = UUID.randomUUID();
             String token = "refresh-token-value";
             RefreshTokenJpaEntity entity =
-                    RefreshTokenJpaEntity.forNew(refreshTokenId, userId, token, FIXED_TIME);
+                    RefreshTokenJpaEntity.forNew(
+                            refreshTokenId, userId, token, hashOf(token), EXPIRES_AT, FIXED_TIME);
 
             // when
             RefreshTokenJpaEntity saved = refreshTokenJpaRepository.save(entity);
@@ -60,7 +68,7 @@ class RefreshTokenRepositoryIntegrationTest extends RepositoryTestBase {
                     refreshTokenJpaRepository.findById(refreshTokenId);
             assertThat(found).isPresent();
             assertThat(found.get().getUserId()).isEqualTo(userId);
-            assertThat(found.get().getToken()).isEqualTo(token);
+            assertThat(found.get().getTokenHash()).isEqualTo(hashOf(token));
         }
     }
 
@@ -75,7 +83,13 @@ class RefreshTokenRepositoryIntegrationTest extends RepositoryTestBase {
             UUID refreshTokenId = UUID.randomUUID();
             UUID userId = UUID.randomUUID();
             RefreshTokenJpaEntity entity =
-                    RefreshTokenJpaEntity.forNew(refreshTokenId, userId, "token-value", FIXED_TIME);
+                    RefreshTokenJpaEntity.forNew(
+                            refreshTokenId,
+                            userId,
+                            "token-value",
+                            hashOf("token-value"),
+                            EXPIRES_AT,
+                            FIXED_TIME);
             refreshTokenJpaRepository.save(entity);
             flushAndClear();
 
@@ -85,7 +99,7 @@ class RefreshTokenRepositoryIntegrationTest extends RepositoryTestBase {
 
             // then
             assertThat(found).isPresent();
-            assertThat(found.get().getToken()).isEqualTo("token-value");
+            assertThat(found.get().getTokenHash()).isEqualTo(hashOf("token-value"));
         }
 
         @Test
@@ -114,7 +128,13 @@ class RefreshTokenRepositoryIntegrationTest extends RepositoryTestBase {
             UUID refreshTokenId = UUID.randomUUID();
             UUID userId = UUID.randomUUID();
             RefreshTokenJpaEntity entity =
-                    RefreshTokenJpaEntity.forNew(refreshTokenId, userId, "user-token", FIXED_TIME);
+                    RefreshTokenJpaEntity.forNew(
+                            refreshTokenId,
+                            userId,
+                            "user-token",
+                            hashOf("user-token"),
+                            EXPIRES_AT,
+                            FIXED_TIME);
             refreshTokenJpaRepository.save(entity);
             flushAndClear();
 
@@ -139,7 +159,12 @@ class RefreshTokenRepositoryIntegrationTest extends RepositoryTestBase {
             UUID userId = UUID.randomUUID();
             RefreshTokenJpaEntity entity =
                     RefreshTokenJpaEntity.forNew(
-                            refreshTokenId, userId, "token-to-delete", FIXED_TIME);
+                            refreshTokenId,
+                            userId,
+                            "token-to-delete",
+                            hashOf("token-to-delete"),
+                            EXPIRES_AT,
+                            FIXED_TIME);
             refreshTokenJpaRepository.save(entity);
             flushAndClear();
 
@@ -161,7 +186,12 @@ class RefreshTokenRepositoryIntegrationTest extends RepositoryTestBase {
             UUID userId = UUID.randomUUID();
             RefreshTokenJpaEntity entity =
                     RefreshTokenJpaEntity.forNew(
-                            refreshTokenId, userId, "token-to-delete", FIXED_TIME);
+                            refreshTokenId,
+                            userId,
+                            "token-to-delete",
+                            hashOf("token-to-delete"),
+                            EXPIRES_AT,
+                            FIXED_TIME);
             refreshTokenJpaRepository.save(entity);
             flushAndClear();
 
@@ -174,4 +204,69 @@ class RefreshTokenRepositoryIntegrationTest extends RepositoryTestBase {
             assertThat(found).isEmpty();
         }
     }
+
+    @Nested
+    @DisplayName("deleteExpiredBatch 테스트")
+    class DeleteExpiredBatchTest {
+
+        @Test
+        @DisplayName("만료된 리프레시 토큰만 batchSize 건까지 삭제한다")
+        void shouldDeleteExpiredTokensUpToBatchSize() {
+            // given
+            for (int i = 0; i < 3; i++) {
+                refreshTokenJpaRepository.save(
+                        RefreshTokenJpaEntity.forNew(
+                                UUID.randomUUID(),
+                                UUID.randomUUID(),
+                                "expired-token-" + i,
+                                hashOf("expired-token-" + i),
+                                FIXED_TIME,
+                                FIXED_TIME));
+            }
+            UUID activeUserId = UUID.randomUUID();
+            refreshTokenJpaRepository.save(
+                    RefreshTokenJpaEntity.forNew(
+                            UUID.randomUUID(),
+                            activeUserId,
+                            "active-token",
+                            hashOf("active-token"),
+                            EXPIRES_AT,
+                            FIXED_TIME));
+            flushAndClear();
+            Instant now = FIXED_TIME.plusSeconds(60);
+
+            // when
+            int firstBatch = refreshTokenJpaRepository.deleteExpiredBatch(now, now, 2);
+            int secondBatch = refreshTokenJpaRepository.deleteExpiredBatch(now, now, 2);
+            flushAndClear();
+
+            // then
+            assertThat(firstBatch).isEqualTo(2);
+            assertThat(secondBatch).isEqualTo(1);
+            assertThat(refreshTokenJpaRepository.count()).isEqualTo(1);
+            assertThat(refreshTokenJpaRepository.findByUserId(activeUserId)).isPresent();
+        }
+
+        @Test
+        @DisplayName("만료되었더라도 updatedBefore 이후 갱신된 토큰은 삭제하지 않는다")
+        void shouldKeepRecentlyUpdatedTokens() {
+            // given
+            refreshTokenJpaRepository.save(
+                    RefreshTokenJpaEntity.forNew(
+                            UUID.randomUUID(),
+                            UUID.randomUUID(),
+                            "expired-token",
+                            hashOf("expired-token"),
+                            FIXED_TIME,
+                            FIXED_TIME));
+            flushAndClear();
+            Instant now = FIXED_TIME.plusSeconds(60);
+
+            // when
+            int deleted = refreshTokenJpaRepository.deleteExpiredBatch(now, FIXED_TIME, 2);
+
+            // then
+            assertThat(deleted).isZero();
+        }
+    }
 }
@@ -10,11 +10,15 @@ import com.ryuqq.authhub.sdk.model.auth.TokenResponse;
 import com.ryuqq.authhub.sdk.model.common.ApiResponse;
 import com.ryuqq.authhub.sdk.model.user.UpdateUserRequest;
 import com.ryuqq.authhub.sdk.model.user.UserIdResponse;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 인증 관련 API 인터페이스.
  *
  * <p>로그인, 로그아웃, 토큰 갱신, 내 정보 조회 기능을 제공합니다.
+ *
+ * <p>{@code *Async} 메서드는 응답을 기다리지 않고 {@link java.util.concurrent.CompletableFuture}를 즉시 반환합니다.
+ * 인증 토큰은 호출 스레드에서 확인하며, 실패 시 동기 메서드와 같은 {@code AuthHubException}으로 Future가 완료됩니다.
  */
 public interface AuthApi {
 
@@ -76,4 +80,60 @@ public interface AuthApi {
      * @param request 비밀번호 변경 요청 (currentPassword, newPassword)
      */
     void changePassword(String userId, ChangePasswordRequest request);
+
+    /**
+     * 로그인을 비동기로 수행합니다.
+     *
+     * @param request 로그인 요청 (identifier, password)
+     * @return 로그인 응답 Future
+     * @see #login(LoginRequest)
+     */
+    CompletableFuture<ApiResponse<LoginResponse>> loginAsync(LoginRequest request);
+
+    /**
+     * 토큰을 비동기로 갱신합니다.
+     *
+     * @param request 토큰 갱신 요청 (refreshToken)
+     * @return 토큰 응답 Future
+     * @see #refresh(RefreshTokenRequest)
+     */
+    CompletableFuture<ApiResponse<TokenResponse>> refreshAsync(RefreshTokenRequest request);
+
+    /**
+     * 로그아웃을 비동기로 수행합니다.
+     *
+     * @param request 로그아웃 요청 (userId)
+     * @return 완료 Future
+     * @see #logout(LogoutRequest)
+     */
+    CompletableFuture<Void> logoutAsync(LogoutRequest request);
+
+    /**
+     * 현재 로그인한 사용자의 정보를 비동기로 조회합니다.
+     *
+     * @return 사용자 컨텍스트 응답 Future
+     * @see #getMe()
+     */
+    CompletableFuture<ApiResponse<MyContextResponse>> getMeAsync();
+
+    /**
+     * 사용자 정보를 비동기로 수정합니다.
+     *
+     * @param userId 사용자 ID
+     * @param request 수정 요청 (phoneNumber)
+     * @return 수정된 사용자 ID Future
+     * @see #updateUser(String, UpdateUserRequest)
+     */
+    CompletableFuture<ApiResponse<UserIdResponse>> updateUserAsync(
+            String userId, UpdateUserRequest request);
+
+    /**
+     * 비밀번호를 비동기로 변경합니다.
+     *
+     * @param userId 사용자 ID
+     * @param request 비밀번호 변경 요청 (currentPassword, newPassword)
+     * @return 완료 Future
+     * @see #changePassword(String, ChangePasswordRequest)
+     */
+    CompletableFuture<Void> changePasswordAsync(String userId, ChangePasswordRequest request);
 }
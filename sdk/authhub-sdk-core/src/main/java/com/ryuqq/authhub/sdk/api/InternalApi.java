@@ -1,17 +1,27 @@
 package com.ryuqq.authhub.sdk.api;
 
 import com.ryuqq.authhub.sdk.model.common.ApiResponse;
+import com.ryuqq.authhub.sdk.model.internal.EndpointPermissionSpecDelta;
 import com.ryuqq.authhub.sdk.model.internal.EndpointPermissionSpecList;
 import com.ryuqq.authhub.sdk.model.internal.ForceChangePasswordRequest;
+import com.ryuqq.authhub.sdk.model.internal.PermissionDictionary;
+import com.ryuqq.authhub.sdk.model.internal.PermissionSet;
 import com.ryuqq.authhub.sdk.model.internal.PublicKeys;
 import com.ryuqq.authhub.sdk.model.internal.TenantConfig;
 import com.ryuqq.authhub.sdk.model.internal.UserContext;
+import com.ryuqq.authhub.sdk.model.internal.UserIdsBatchRequest;
 import com.ryuqq.authhub.sdk.model.internal.UserPermissions;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Internal API 인터페이스.
  *
  * <p>Gateway 및 내부 서비스 간 통신을 위한 API를 제공합니다. 서비스 토큰 인증을 사용합니다.
+ *
+ * <p>{@code *Async} 메서드는 응답을 기다리지 않고 {@link java.util.concurrent.CompletableFuture}를 즉시 반환합니다.
+ * 실패 시 동기 메서드와 같은 {@code AuthHubException}으로 Future가 완료됩니다.
  */
 public interface InternalApi {
 
@@ -24,6 +34,39 @@ public interface InternalApi {
      */
     ApiResponse<EndpointPermissionSpecList> getPermissionSpec();
 
+    /**
+     * 엔드포인트-권한 스펙 변경분 조회.
+     *
+     * <p>전체 스펙을 보유한 Gateway가 보유 버전 이후의 변경분만 조회합니다. 응답의 endpoints를 endpointId 기준으로
+     * 추가/교체하고 removedEndpointIds를 제거한 뒤 version을 보관합니다. fullSync가 true이면 보유 스펙을 endpoints로
+     * 교체합니다.
+     *
+     * @param sinceVersion 보유한 스펙 버전 ({@link EndpointPermissionSpecList#version()})
+     * @return 엔드포인트-권한 스펙 변경분
+     */
+    ApiResponse<EndpointPermissionSpecDelta> getPermissionSpecChanges(String sinceVersion);
+
+    /**
+     * 권한 사전 조회 (압축 권한 비트맵 복원용).
+     *
+     * <p>토큰의 perm_bits 클레임 또는 X-User-Permission-Bits 헤더를 권한 키로 복원할 때 사용합니다. 보유한 사전의
+     * version이 토큰의 perm_dict와 다를 때만 다시 조회합니다.
+     *
+     * @return 권한 사전
+     */
+    ApiResponse<PermissionDictionary> getPermissionDictionary();
+
+    /**
+     * 권한 집합 조회 (Thin Token 권한 복원용).
+     *
+     * <p>토큰의 permission_hash 클레임 또는 X-User-Permission-Hash 헤더를 권한 키로 복원할 때 사용합니다. 같은 해시의
+     * 응답은 바뀌지 않으므로 해시별로 한 번만 조회해 캐싱합니다. 발급된 적 없는 해시면 404를 반환합니다.
+     *
+     * @param permissionHash 권한 해시
+     * @return 권한 집합
+     */
+    ApiResponse<PermissionSet> getPermissionSet(String permissionHash);
+
     /**
      * JWKS 공개키 조회 (JWT 서명 검증용).
      *
@@ -53,6 +96,22 @@ public interface InternalApi {
      */
     ApiResponse<UserPermissions> getUserPermissions(String userId);
 
+    /**
+     * 사용자 권한 조건부 조회 (보유 권한 재검증용).
+     *
+     * <p>보유한 권한 해시({@link UserPermissions#hash()})를 If-None-Match로 보내 권한이 바뀌었을 때만 본문을 받습니다.
+     * 기본 구현은 전체를 조회한 뒤 해시를 비교합니다.
+     *
+     * @param userId 사용자 ID
+     * @param knownHash 보유한 권한 해시
+     * @return 바뀐 사용자 권한 (해시가 같으면 빈 Optional)
+     */
+    default Optional<ApiResponse<UserPermissions>> getUserPermissionsIfChanged(
+            String userId, String knownHash) {
+        ApiResponse<UserPermissions> response = getUserPermissions(userId);
+        return hasHash(response, knownHash) ? Optional.empty() : Optional.of(response);
+    }
+
     /**
      * 사용자 컨텍스트 조회 (사용자 전체 정보 조회용).
      *
@@ -63,6 +122,28 @@ public interface InternalApi {
      */
     ApiResponse<UserContext> getUserContext(String userId);
 
+    /**
+     * 사용자 권한 일괄 조회 (목록 화면 등 다건 인가 정보 조회용).
+     *
+     * <p>사용자마다 {@link #getUserPermissions(String)}를 호출하지 않고 한 번의 요청으로 조회합니다. 결과는 요청 순서를
+     * 유지하며 중복 ID는 한 번만 포함합니다. 역할이 없는 사용자는 빈 역할/권한으로 반환합니다.
+     *
+     * @param userIds 사용자 ID 목록 (1개 이상 {@value UserIdsBatchRequest#MAX_USER_IDS}개 이하)
+     * @return 사용자별 역할/권한 정보 목록
+     */
+    ApiResponse<List<UserPermissions>> getUserPermissionsBatch(List<String> userIds);
+
+    /**
+     * 사용자 컨텍스트 일괄 조회 (목록 화면 등 다건 사용자 정보 조회용).
+     *
+     * <p>사용자마다 {@link #getUserContext(String)}를 호출하지 않고 한 번의 요청으로 조회합니다. 결과는 요청 순서를 유지하며
+     * 존재하지 않는 사용자는 제외됩니다.
+     *
+     * @param userIds 사용자 ID 목록 (1개 이상 {@value UserIdsBatchRequest#MAX_USER_IDS}개 이하)
+     * @return 사용자 컨텍스트 정보 목록
+     */
+    ApiResponse<List<UserContext>> getUserContextsBatch(List<String> userIds);
+
     /**
      * 비밀번호를 강제 변경합니다 (서비스 간 M2M 호출용).
      *
@@ -72,4 +153,129 @@ public interface InternalApi {
      * @param request 강제 비밀번호 변경 요청 (newPassword)
      */
     void changePassword(String userId, ForceChangePasswordRequest request);
+
+    /**
+     * 엔드포인트-권한 스펙 전체를 비동기로 조회합니다.
+     *
+     * @return 엔드포인트-권한 스펙 목록 Future
+     * @see #getPermissionSpec()
+     */
+    CompletableFuture<ApiResponse<EndpointPermissionSpecList>> getPermissionSpecAsync();
+
+    /**
+     * 엔드포인트-권한 스펙 변경분을 비동기로 조회합니다.
+     *
+     * @param sinceVersion 보유한 스펙 버전
+     * @return 엔드포인트-권한 스펙 변경분 Future
+     * @see #getPermissionSpecChanges(String)
+     */
+    CompletableFuture<ApiResponse<EndpointPermissionSpecDelta>> getPermissionSpecChangesAsync(
+            String sinceVersion);
+
+    /**
+     * 권한 사전을 비동기로 조회합니다.
+     *
+     * @return 권한 사전 Future
+     * @see #getPermissionDictionary()
+     */
+    CompletableFuture<ApiResponse<PermissionDictionary>> getPermissionDictionaryAsync();
+
+    /**
+     * 권한 집합을 비동기로 조회합니다.
+     *
+     * @param permissionHash 권한 해시
+     * @return 권한 집합 Future
+     * @see #getPermissionSet(String)
+     */
+    CompletableFuture<ApiResponse<PermissionSet>> getPermissionSetAsync(String permissionHash);
+
+    /**
+     * JWKS 공개키를 비동기로 조회합니다.
+     *
+     * @return 공개키 목록 Future
+     * @see #getJwks()
+     */
+    CompletableFuture<PublicKeys> getJwksAsync();
+
+    /**
+     * 테넌트 설정을 비동기로 조회합니다.
+     *
+     * @param tenantId 테넌트 ID
+     * @return 테넌트 설정 Future
+     * @see #getTenantConfig(String)
+     */
+    CompletableFuture<ApiResponse<TenantConfig>> getTenantConfigAsync(String tenantId);
+
+    /**
+     * 사용자 권한을 비동기로 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 사용자 역할/권한 정보 Future
+     * @see #getUserPermissions(String)
+     */
+    CompletableFuture<ApiResponse<UserPermissions>> getUserPermissionsAsync(String userId);
+
+    /**
+     * 사용자 권한을 비동기로 조건부 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param knownHash 보유한 권한 해시
+     * @return 바뀐 사용자 권한 Future (해시가 같으면 빈 Optional)
+     * @see #getUserPermissionsIfChanged(String, String)
+     */
+    default CompletableFuture<Optional<ApiResponse<UserPermissions>>>
+            getUserPermissionsIfChangedAsync(String userId, String knownHash) {
+        return getUserPermissionsAsync(userId)
+                .thenApply(
+                        response ->
+                                hasHash(response, knownHash)
+                                        ? Optional.empty()
+                                        : Optional.of(response));
+    }
+
+    /**
+     * 사용자 컨텍스트를 비동기로 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 사용자 컨텍스트 정보 Future
+     * @see #getUserContext(String)
+     */
+    CompletableFuture<ApiResponse<UserContext>> getUserContextAsync(String userId);
+
+    /**
+     * 사용자 권한을 비동기로 일괄 조회합니다.
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 사용자별 역할/권한 정보 목록 Future
+     * @see #getUserPermissionsBatch(List)
+     */
+    CompletableFuture<ApiResponse<List<UserPermissions>>> getUserPermissionsBatchAsync(
+            List<String> userIds);
+
+    /**
+     * 사용자 컨텍스트를 비동기로 일괄 조회합니다.
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 사용자 컨텍스트 정보 목록 Future
+     * @see #getUserContextsBatch(List)
+     */
+    CompletableFuture<ApiResponse<List<UserContext>>> getUserContextsBatchAsync(
+            List<String> userIds);
+
+    /**
+     * 비밀번호를 비동기로 강제 변경합니다.
+     *
+     * @param userId 대상 사용자 ID
+     * @param request 강제 비밀번호 변경 요청 (newPassword)
+     * @return 완료 Future
+     * @see #changePassword(String, ForceChangePasswordRequest)
+     */
+    CompletableFuture<Void> changePasswordAsync(String userId, ForceChangePasswordRequest request);
+
+    private static boolean hasHash(ApiResponse<UserPermissions> response, String hash) {
+        return response != null
+                && response.data() != null
+                && hash != null
+                && hash.equals(response.data().hash());
+    }
 }
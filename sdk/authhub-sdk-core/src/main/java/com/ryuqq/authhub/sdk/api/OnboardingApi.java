@@ -3,6 +3,7 @@ package com.ryuqq.authhub.sdk.api;
 import com.ryuqq.authhub.sdk.model.common.ApiResponse;
 import com.ryuqq.authhub.sdk.model.onboarding.TenantOnboardingRequest;
 import com.ryuqq.authhub.sdk.model.onboarding.TenantOnboardingResponse;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Onboarding 관련 API 인터페이스. 테넌트 온보딩(테넌트+조직 일괄 생성) 기능을 제공합니다.
@@ -29,4 +30,15 @@ public interface OnboardingApi {
      */
     ApiResponse<TenantOnboardingResponse> onboard(
             TenantOnboardingRequest request, String idempotencyKey);
+
+    /**
+     * 테넌트 온보딩을 비동기로 수행합니다.
+     *
+     * @param request 온보딩 요청
+     * @param idempotencyKey 멱등키 (필수, UUID 권장, X-Idempotency-Key 헤더로 전송)
+     * @return 온보딩 결과 Future
+     * @see #onboard(TenantOnboardingRequest, String)
+     */
+    CompletableFuture<ApiResponse<TenantOnboardingResponse>> onboardAsync(
+            TenantOnboardingRequest request, String idempotencyKey);
 }
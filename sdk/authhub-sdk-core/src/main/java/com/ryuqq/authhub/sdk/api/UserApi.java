@@ -3,11 +3,15 @@ package com.ryuqq.authhub.sdk.api;
 import com.ryuqq.authhub.sdk.model.common.ApiResponse;
 import com.ryuqq.authhub.sdk.model.user.CreateUserWithRolesRequest;
 import com.ryuqq.authhub.sdk.model.user.CreateUserWithRolesResponse;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 사용자 관련 Internal API 인터페이스.
  *
  * <p>사용자 생성 + 역할 할당 기능을 제공합니다.
+ *
+ * <p>{@code *Async} 메서드는 응답을 기다리지 않고 {@link java.util.concurrent.CompletableFuture}를 즉시 반환합니다.
+ * 인증 토큰은 호출 스레드에서 확인하며, 실패 시 동기 메서드와 같은 {@code AuthHubException}으로 Future가 완료됩니다.
  */
 public interface UserApi {
 
@@ -21,4 +25,14 @@ public interface UserApi {
      */
     ApiResponse<CreateUserWithRolesResponse> createUserWithRoles(
             CreateUserWithRolesRequest request);
+
+    /**
+     * 사용자를 비동기로 생성하고 선택적으로 역할을 할당합니다.
+     *
+     * @param request 사용자 생성 + 역할 할당 요청
+     * @return 생성된 userId, assignedRoleCount Future
+     * @see #createUserWithRoles(CreateUserWithRolesRequest)
+     */
+    CompletableFuture<ApiResponse<CreateUserWithRolesResponse>> createUserWithRolesAsync(
+            CreateUserWithRolesRequest request);
 }
@@ -0,0 +1,305 @@
+package com.ryuqq.authhub.sdk.cache;
+
+import com.ryuqq.authhub.sdk.api.InternalApi;
+import com.ryuqq.authhub.sdk.model.common.ApiResponse;
+import com.ryuqq.authhub.sdk.model.internal.EndpointPermissionSpecDelta;
+import com.ryuqq.authhub.sdk.model.internal.EndpointPermissionSpecList;
+import com.ryuqq.authhub.sdk.model.internal.ForceChangePasswordRequest;
+import com.ryuqq.authhub.sdk.model.internal.PermissionDictionary;
+import com.ryuqq.authhub.sdk.model.internal.PermissionSet;
+import com.ryuqq.authhub.sdk.model.internal.PublicKeys;
+import com.ryuqq.authhub.sdk.model.internal.TenantConfig;
+import com.ryuqq.authhub.sdk.model.internal.UserContext;
+import com.ryuqq.authhub.sdk.model.internal.UserPermissions;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 요청마다 호출되는 Internal API 조회를 캐싱하는 InternalApi 데코레이터.
+ *
+ * <p>사용자 권한, 사용자 컨텍스트, 테넌트 설정을 키별로 TTL 동안 캐싱하고 보관 개수는 LRU로 제한합니다. 같은 키를 동시에 여러
+ * 요청이 조회해도 AuthHub 호출은 한 번만 하며, 실패는 캐싱하지 않습니다. 만료된 사용자 권한은 보유한 권한 해시로 조건부
+ * 조회({@link InternalApi#getUserPermissionsIfChanged})해 바뀌지 않았으면 본문 없이 TTL만 연장합니다. 일괄 조회를
+ * 포함한 나머지 메서드는 그대로 위임합니다.
+ *
+ * <p>사용 예시:
+ *
+ * <pre>{@code
+ * InternalApi internal = CachingInternalApi.builder(gatewayClient.internal())
+ *     .ttl(Duration.ofSeconds(30))
+ *     .maxEntries(10_000)
+ *     .build();
+ * }</pre>
+ */
+public final class CachingInternalApi implements InternalApi {
+
+    /** 기본 TTL (30초). */
+    public static final Duration DEFAULT_TTL = Duration.ofSeconds(30);
+
+    /** 기본 최대 보관 개수 (캐시별). */
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+    private final InternalApi delegate;
+    private final TtlLruCache<String, ApiResponse<UserPermissions>> userPermissions;
+    private final TtlLruCache<String, ApiResponse<UserContext>> userContexts;
+    private final TtlLruCache<String, ApiResponse<TenantConfig>> tenantConfigs;
+
+    private CachingInternalApi(Builder builder) {
+        this.delegate = builder.delegate;
+        this.userPermissions = new TtlLruCache<>(builder.ttl, builder.maxEntries, builder.clock);
+        this.userContexts = new TtlLruCache<>(builder.ttl, builder.maxEntries, builder.clock);
+        this.tenantConfigs = new TtlLruCache<>(builder.ttl, builder.maxEntries, builder.clock);
+    }
+
+    /**
+     * CachingInternalApi Builder를 반환합니다.
+     *
+     * @param delegate 실제 조회를 수행할 InternalApi
+     * @return Builder
+     */
+    public static Builder builder(InternalApi delegate) {
+        return new Builder(delegate);
+    }
+
+    /**
+     * 사용자의 캐싱된 권한과 컨텍스트를 제거합니다. 역할이 바뀐 것을 알고 있을 때 TTL을 기다리지 않고 반영합니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void invalidateUser(String userId) {
+        userPermissions.invalidate(userId);
+        userContexts.invalidate(userId);
+    }
+
+    /**
+     * 테넌트의 캐싱된 설정을 제거합니다.
+     *
+     * @param tenantId 테넌트 ID
+     */
+    public void invalidateTenant(String tenantId) {
+        tenantConfigs.invalidate(tenantId);
+    }
+
+    /** 캐싱된 모든 항목을 제거합니다. */
+    public void invalidateAll() {
+        userPermissions.invalidateAll();
+        userContexts.invalidateAll();
+        tenantConfigs.invalidateAll();
+    }
+
+    @Override
+    public ApiResponse<UserPermissions> getUserPermissions(String userId) {
+        return userPermissions.get(userId, this::loadUserPermissions);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<UserPermissions>> getUserPermissionsAsync(
+            String userId) {
+        return userPermissions.getAsync(userId, this::loadUserPermissionsAsync);
+    }
+
+    @Override
+    public ApiResponse<UserContext> getUserContext(String userId) {
+        return userContexts.get(userId, (key, stale) -> delegate.getUserContext(key));
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<UserContext>> getUserContextAsync(String userId) {
+        return userContexts.getAsync(userId, (key, stale) -> delegate.getUserContextAsync(key));
+    }
+
+    @Override
+    public ApiResponse<TenantConfig> getTenantConfig(String tenantId) {
+        return tenantConfigs.get(tenantId, (key, stale) -> delegate.getTenantConfig(key));
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<TenantConfig>> getTenantConfigAsync(String tenantId) {
+        return tenantConfigs.getAsync(
+                tenantId, (key, stale) -> delegate.getTenantConfigAsync(key));
+    }
+
+    private ApiResponse<UserPermissions> loadUserPermissions(
+            String userId, ApiResponse<UserPermissions> stale) {
+        String knownHash = hashOf(stale);
+        if (knownHash == null) {
+            return delegate.getUserPermissions(userId);
+        }
+        return delegate.getUserPermissionsIfChanged(userId, knownHash).orElse(stale);
+    }
+
+    private CompletableFuture<ApiResponse<UserPermissions>> loadUserPermissionsAsync(
+            String userId, ApiResponse<UserPermissions> stale) {
+        String knownHash = hashOf(stale);
+        if (knownHash == null) {
+            return delegate.getUserPermissionsAsync(userId);
+        }
+        return delegate.getUserPermissionsIfChangedAsync(userId, knownHash)
+                .thenApply(changed -> changed.orElse(stale));
+    }
+
+    private static String hashOf(ApiResponse<UserPermissions> response) {
+        if (response == null || response.data() == null) {
+            return null;
+        }
+        String hash = response.data().hash();
+        return hash == null || hash.isBlank() ? null : hash;
+    }
+
+    @Override
+    public Optional<ApiResponse<UserPermissions>> getUserPermissionsIfChanged(
+            String userId, String knownHash) {
+        return delegate.getUserPermissionsIfChanged(userId, knownHash);
+    }
+
+    @Override
+    public CompletableFuture<Optional<ApiResponse<UserPermissions>>>
+            getUserPermissionsIfChangedAsync(String userId, String knownHash) {
+        return delegate.getUserPermissionsIfChangedAsync(userId, knownHash);
+    }
+
+    @Override
+    public ApiResponse<List<UserPermissions>> getUserPermissionsBatch(List<String> userIds) {
+        return delegate.getUserPermissionsBatch(userIds);
+    }
+
+    @Override
+    public ApiResponse<List<UserContext>> getUserContextsBatch(List<String> userIds) {
+        return delegate.getUserContextsBatch(userIds);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<List<UserPermissions>>> getUserPermissionsBatchAsync(
+            List<String> userIds) {
+        return delegate.getUserPermissionsBatchAsync(userIds);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<List<UserContext>>> getUserContextsBatchAsync(
+            List<String> userIds) {
+        return delegate.getUserContextsBatchAsync(userIds);
+    }
+
+    @Override
+    public ApiResponse<EndpointPermissionSpecList> getPermissionSpec() {
+        return delegate.getPermissionSpec();
+    }
+
+    @Override
+    public ApiResponse<EndpointPermissionSpecDelta> getPermissionSpecChanges(String sinceVersion) {
+        return delegate.getPermissionSpecChanges(sinceVersion);
+    }
+
+    @Override
+    public ApiResponse<PermissionDictionary> getPermissionDictionary() {
+        return delegate.getPermissionDictionary();
+    }
+
+    @Override
+    public ApiResponse<PermissionSet> getPermissionSet(String permissionHash) {
+        return delegate.getPermissionSet(permissionHash);
+    }
+
+    @Override
+    public PublicKeys getJwks() {
+        return delegate.getJwks();
+    }
+
+    @Override
+    public void changePassword(String userId, ForceChangePasswordRequest request) {
+        delegate.changePassword(userId, request);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<EndpointPermissionSpecList>> getPermissionSpecAsync() {
+        return delegate.getPermissionSpecAsync();
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<EndpointPermissionSpecDelta>>
+            getPermissionSpecChangesAsync(String sinceVersion) {
+        return delegate.getPermissionSpecChangesAsync(sinceVersion);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<PermissionDictionary>> getPermissionDictionaryAsync() {
+        return delegate.getPermissionDictionaryAsync();
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<PermissionSet>> getPermissionSetAsync(
+            String permissionHash) {
+        return delegate.getPermissionSetAsync(permissionHash);
+    }
+
+    @Override
+    public CompletableFuture<PublicKeys> getJwksAsync() {
+        return delegate.getJwksAsync();
+    }
+
+    @Override
+    public CompletableFuture<Void> changePasswordAsync(
+            String userId, ForceChangePasswordRequest request) {
+        return delegate.changePasswordAsync(userId, request);
+    }
+
+    /** CachingInternalApi 빌더. */
+    public static final class Builder {
+
+        private final InternalApi delegate;
+        private Duration ttl = DEFAULT_TTL;
+        private int maxEntries = DEFAULT_MAX_ENTRIES;
+        private Clock clock = Clock.systemUTC();
+
+        private Builder(InternalApi delegate) {
+            this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        }
+
+        /**
+         * 캐시 TTL을 설정합니다. 기본값: 30초
+         *
+         * @param ttl 항목 유효 기간
+         * @return this
+         */
+        public Builder ttl(Duration ttl) {
+            Objects.requireNonNull(ttl, "ttl must not be null");
+            if (ttl.isNegative() || ttl.isZero()) {
+                throw new IllegalArgumentException("ttl must be positive");
+            }
+            this.ttl = ttl;
+            return this;
+        }
+
+        /**
+         * 캐시별 최대 보관 개수를 설정합니다. 초과 시 가장 오래 사용하지 않은 항목부터 제거합니다. 기본값: 10,000
+         *
+         * @param maxEntries 최대 보관 개수
+         * @return this
+         */
+        public Builder maxEntries(int maxEntries) {
+            if (maxEntries <= 0) {
+                throw new IllegalArgumentException("maxEntries must be positive");
+            }
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        Builder clock(Clock clock) {
+            this.clock = Objects.requireNonNull(clock, "clock must not be null");
+            return this;
+        }
+
+        /**
+         * CachingInternalApi를 생성합니다.
+         *
+         * @return CachingInternalApi
+         */
+        public CachingInternalApi build() {
+            return new CachingInternalApi(this);
+        }
+    }
+}
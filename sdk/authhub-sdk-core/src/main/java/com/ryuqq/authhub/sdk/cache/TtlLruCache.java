@@ -0,0 +1,231 @@
+package com.ryuqq.authhub.sdk.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+
+/**
+ * TTL과 최대 보관 개수를 가진 LRU 캐시.
+ *
+ * <p>만료된 항목도 보관 개수 안에서는 지우지 않고 다음 조회의 로더에 이전 값으로 넘깁니다. 로더는 이전 값으로 조건부 조회(재검증)를
+ * 하고 같은 값을 돌려줄 수 있습니다. 같은 키의 동시 미스는 로더를 한 번만 호출하고 나머지는 결과를 공유하며, 실패는 캐싱하지 않고
+ * 대기 중인 호출 모두에 전달합니다. {@link Error}를 포함한 모든 실패를 전달하므로 대기 중인 호출이 멈춰 있지 않습니다.
+ *
+ * <p>무효화는 세대(generation)를 올립니다. 로더는 시작할 때의 세대를 기억하고, 그 사이 무효화가 있었으면 결과를 호출자에게만
+ * 돌려주고 저장하지 않습니다. 무효화 이전에 시작된 로드가 무효화 직후 이전 값을 다시 채우지 않도록 하기 위함입니다. 무효화 이후의
+ * 조회는 진행 중인 로드를 공유하지 않고 새로 로드합니다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+final class TtlLruCache<K, V> {
+
+    private final Duration ttl;
+    private final Clock clock;
+    private final Map<K, Entry<V>> entries;
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** 무효화 세대 ({@link #lock}으로 보호) */
+    private long generation;
+
+    TtlLruCache(Duration ttl, int maxEntries, Clock clock) {
+        this.ttl = ttl;
+        this.clock = clock;
+        this.entries =
+                new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                        return size() > maxEntries;
+                    }
+                };
+    }
+
+    /**
+     * 유효한 값을 반환하고, 없거나 만료되었으면 로더로 조회합니다.
+     *
+     * @param key 키
+     * @param loader (키, 만료된 이전 값 또는 null) → 새 값
+     * @return 값
+     */
+    V get(K key, BiFunction<K, V, V> loader) {
+        Entry<V> entry = lookup(key);
+        if (isFresh(entry)) {
+            return entry.value();
+        }
+
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            return join(existing);
+        }
+        try {
+            long loadGeneration = currentGeneration();
+            Entry<V> latest = lookup(key);
+            if (isFresh(latest)) {
+                mine.complete(latest.value());
+                return latest.value();
+            }
+            V loaded = loader.apply(key, valueOf(latest));
+            store(key, loaded, loadGeneration);
+            mine.complete(loaded);
+            return loaded;
+        } catch (Throwable t) {
+            mine.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 유효한 값을 완료된 Future로 반환하고, 없거나 만료되었으면 비동기 로더로 조회합니다.
+     *
+     * @param key 키
+     * @param loader (키, 만료된 이전 값 또는 null) → 새 값 Future
+     * @return 값 Future
+     */
+    CompletableFuture<V> getAsync(K key, BiFunction<K, V, CompletableFuture<V>> loader) {
+        Entry<V> entry = lookup(key);
+        if (isFresh(entry)) {
+            return CompletableFuture.completedFuture(entry.value());
+        }
+
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            return existing.copy();
+        }
+        long loadGeneration = currentGeneration();
+        Entry<V> latest = lookup(key);
+        if (isFresh(latest)) {
+            inFlight.remove(key, mine);
+            mine.complete(latest.value());
+            return mine.copy();
+        }
+        CompletableFuture<V> loading;
+        try {
+            loading = loader.apply(key, valueOf(latest));
+        } catch (Throwable t) {
+            loading = CompletableFuture.failedFuture(t);
+        }
+        loading.whenComplete(
+                (loaded, failure) -> {
+                    if (failure == null) {
+                        store(key, loaded, loadGeneration);
+                    }
+                    inFlight.remove(key, mine);
+                    if (failure == null) {
+                        mine.complete(loaded);
+                    } else {
+                        mine.completeExceptionally(unwrap(failure));
+                    }
+                });
+        return mine.copy();
+    }
+
+    /**
+     * 키의 값을 지웁니다. 진행 중인 로드의 결과는 저장하지 않습니다.
+     *
+     * @param key 키
+     */
+    void invalidate(K key) {
+        lock.lock();
+        try {
+            generation++;
+            entries.remove(key);
+            inFlight.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 모든 값을 지웁니다. 진행 중인 로드의 결과는 저장하지 않습니다. */
+    void invalidateAll() {
+        lock.lock();
+        try {
+            generation++;
+            entries.clear();
+            inFlight.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Entry<V> lookup(K key) {
+        lock.lock();
+        try {
+            return entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long currentGeneration() {
+        lock.lock();
+        try {
+            return generation;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void store(K key, V value, long loadGeneration) {
+        Entry<V> entry = new Entry<>(value, clock.instant().plus(ttl));
+        lock.lock();
+        try {
+            if (generation == loadGeneration) {
+                entries.put(key, entry);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isFresh(Entry<V> entry) {
+        return entry != null && clock.instant().isBefore(entry.expiresAt());
+    }
+
+    private static <V> V valueOf(Entry<V> entry) {
+        return entry == null ? null : entry.value();
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        if (failure instanceof CompletionException && failure.getCause() != null) {
+            return failure.getCause();
+        }
+        return failure;
+    }
+
+    private record Entry<V>(V value, Instant expiresAt) {}
+}
@@ -1,5 +1,6 @@
 package com.ryuqq.authhub.sdk.client;
 
+import com.ryuqq.authhub.sdk.cache.CachingInternalApi;
 import com.ryuqq.authhub.sdk.client.internal.DefaultGatewayClient;
 import com.ryuqq.authhub.sdk.config.GatewayClientConfig;
 import java.time.Duration;
@@ -25,6 +26,8 @@ public final class GatewayClientBuilder {
     private String serviceToken;
     private Duration connectTimeout = GatewayClientConfig.DEFAULT_CONNECT_TIMEOUT;
     private Duration readTimeout = GatewayClientConfig.DEFAULT_READ_TIMEOUT;
+    private Duration cacheTtl;
+    private int cacheMaxEntries;
 
     /** GatewayClientBuilder 생성자. GatewayClient.builder()를 통해 생성합니다. */
     public GatewayClientBuilder() {}
@@ -85,6 +88,20 @@ public final class GatewayClientBuilder {
         return this;
     }
 
+    /**
+     * 사용자 권한, 사용자 컨텍스트, 테넌트 설정 조회 캐시를 켭니다. 설정하지 않으면 매 호출마다 AuthHub를 조회합니다.
+     *
+     * @param ttl 항목 유효 기간
+     * @param maxEntries 캐시별 최대 보관 개수
+     * @return this
+     * @see CachingInternalApi
+     */
+    public GatewayClientBuilder cache(Duration ttl, int maxEntries) {
+        this.cacheTtl = Objects.requireNonNull(ttl, "ttl must not be null");
+        this.cacheMaxEntries = maxEntries;
+        return this;
+    }
+
     /**
      * GatewayClient를 빌드합니다.
      *
@@ -96,7 +113,15 @@ public final class GatewayClientBuilder {
         GatewayClientConfig config =
                 new GatewayClientConfig(
                         baseUrl, serviceName, serviceToken, connectTimeout, readTimeout);
-        return new DefaultGatewayClient(config);
+        DefaultGatewayClient client = new DefaultGatewayClient(config);
+        if (cacheTtl == null) {
+            return client;
+        }
+        return new DefaultGatewayClient(
+                CachingInternalApi.builder(client.internal())
+                        .ttl(cacheTtl)
+                        .maxEntries(cacheMaxEntries)
+                        .build());
     }
 
     private void validate() {
@@ -12,6 +12,8 @@ import com.ryuqq.authhub.sdk.model.auth.TokenResponse;
 import com.ryuqq.authhub.sdk.model.common.ApiResponse;
 import com.ryuqq.authhub.sdk.model.user.UpdateUserRequest;
 import com.ryuqq.authhub.sdk.model.user.UserIdResponse;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * AuthApi의 기본 구현체.
@@ -54,7 +56,7 @@ final class DefaultAuthApi implements AuthApi {
     public ApiResponse<MyContextResponse> getMe() {
         return httpClient.get(
                 ME_PATH,
-                java.util.Map.of(),
+                Map.of(),
                 new TypeReference<ApiResponse<MyContextResponse>>() {});
     }
 
@@ -69,4 +71,47 @@ final class DefaultAuthApi implements AuthApi {
         String path = USERS_PATH + "/" + userId + "/password";
         httpClient.put(path, request, new TypeReference<ApiResponse<Void>>() {});
     }
+
+    @Override
+    public CompletableFuture<ApiResponse<LoginResponse>> loginAsync(LoginRequest request) {
+        return httpClient.postPublicAsync(
+                LOGIN_PATH, request, new TypeReference<ApiResponse<LoginResponse>>() {});
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<TokenResponse>> refreshAsync(
+            RefreshTokenRequest request) {
+        return httpClient.postPublicAsync(
+                REFRESH_PATH, request, new TypeReference<ApiResponse<TokenResponse>>() {});
+    }
+
+    @Override
+    public CompletableFuture<Void> logoutAsync(LogoutRequest request) {
+        return httpClient
+                .postAsync(LOGOUT_PATH, request, new TypeReference<ApiResponse<Void>>() {})
+                .thenApply(response -> null);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<MyContextResponse>> getMeAsync() {
+        return httpClient.getAsync(
+                ME_PATH, Map.of(), new TypeReference<ApiResponse<MyContextResponse>>() {});
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<UserIdResponse>> updateUserAsync(
+            String userId, UpdateUserRequest request) {
+        String path = USERS_PATH + "/" + userId;
+        return httpClient.putAsync(
+                path, request, new TypeReference<ApiResponse<UserIdResponse>>() {});
+    }
+
+    @Override
+    public CompletableFuture<Void> changePasswordAsync(
+            String userId, ChangePasswordRequest request) {
+        String path = USERS_PATH + "/" + userId + "/password";
+        return httpClient
+                .putAsync(path, request, new TypeReference<ApiResponse<Void>>() {})
+                .thenApply(response -> null);
+    }
 }
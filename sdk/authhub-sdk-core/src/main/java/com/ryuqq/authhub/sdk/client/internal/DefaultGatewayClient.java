@@ -18,6 +18,15 @@ public final class DefaultGatewayClient implements GatewayClient {
         this.internalApi = new DefaultInternalApi(httpClient);
     }
 
+    /**
+     * 이미 구성된 InternalApi(예: 캐싱 데코레이터)로 생성합니다.
+     *
+     * @param internalApi InternalApi
+     */
+    public DefaultGatewayClient(InternalApi internalApi) {
+        this.internalApi = internalApi;
+    }
+
     @Override
     public InternalApi internal() {
         return internalApi;
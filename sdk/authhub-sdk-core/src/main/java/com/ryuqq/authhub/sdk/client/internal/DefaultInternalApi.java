@@ -3,12 +3,19 @@ package com.ryuqq.authhub.sdk.client.internal;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.ryuqq.authhub.sdk.api.InternalApi;
 import com.ryuqq.authhub.sdk.model.common.ApiResponse;
+import com.ryuqq.authhub.sdk.model.internal.EndpointPermissionSpecDelta;
 import com.ryuqq.authhub.sdk.model.internal.EndpointPermissionSpecList;
 import com.ryuqq.authhub.sdk.model.internal.ForceChangePasswordRequest;
+import com.ryuqq.authhub.sdk.model.internal.PermissionDictionary;
+import com.ryuqq.authhub.sdk.model.internal.PermissionSet;
 import com.ryuqq.authhub.sdk.model.internal.PublicKeys;
 import com.ryuqq.authhub.sdk.model.internal.TenantConfig;
 import com.ryuqq.authhub.sdk.model.internal.UserContext;
+import com.ryuqq.authhub.sdk.model.internal.UserIdsBatchRequest;
 import com.ryuqq.authhub.sdk.model.internal.UserPermissions;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * InternalApi의 기본 구현체.
@@ -18,11 +25,41 @@ import com.ryuqq.authhub.sdk.model.internal.UserPermissions;
 final class DefaultInternalApi implements InternalApi {
 
     private static final String PERMISSION_SPEC_PATH = "/api/v1/internal/endpoint-permissions/spec";
+    private static final String PERMISSION_SPEC_CHANGES_PATH =
+            "/api/v1/internal/endpoint-permissions/spec/changes?since=%s";
+    private static final String PERMISSION_DICTIONARY_PATH =
+            "/api/v1/internal/permissions/dictionary";
+    private static final String PERMISSION_SET_PATH = "/api/v1/internal/permission-sets/%s";
     private static final String JWKS_PATH = "/api/v1/auth/jwks";
     private static final String TENANT_CONFIG_PATH = "/api/v1/internal/tenants/%s/config";
     private static final String USER_PERMISSIONS_PATH = "/api/v1/internal/users/%s/permissions";
     private static final String USER_CONTEXT_PATH = "/api/v1/internal/users/%s/context";
     private static final String USER_PASSWORD_PATH = "/api/v1/internal/users/%s/password";
+    private static final String USER_PERMISSIONS_BATCH_PATH =
+            "/api/v1/internal/users/permissions:batch";
+    private static final String USER_CONTEXT_BATCH_PATH = "/api/v1/internal/users/context:batch";
+
+    // 응답 타입은 호출마다 만들지 않고 재사용합니다 (JsonCodec의 리더 캐시 키).
+    private static final TypeReference<ApiResponse<EndpointPermissionSpecList>>
+            PERMISSION_SPEC_TYPE = new TypeReference<>() {};
+    private static final TypeReference<ApiResponse<EndpointPermissionSpecDelta>>
+            PERMISSION_SPEC_DELTA_TYPE = new TypeReference<>() {};
+    private static final TypeReference<ApiResponse<PermissionDictionary>>
+            PERMISSION_DICTIONARY_TYPE = new TypeReference<>() {};
+    private static final TypeReference<ApiResponse<PermissionSet>> PERMISSION_SET_TYPE =
+            new TypeReference<>() {};
+    private static final TypeReference<PublicKeys> PUBLIC_KEYS_TYPE = new TypeReference<>() {};
+    private static final TypeReference<ApiResponse<TenantConfig>> TENANT_CONFIG_TYPE =
+            new TypeReference<>() {};
+    private static final TypeReference<ApiResponse<UserPermissions>> USER_PERMISSIONS_TYPE =
+            new TypeReference<>() {};
+    private static final TypeReference<ApiResponse<UserContext>> USER_CONTEXT_TYPE =
+            new TypeReference<>() {};
+    private static final TypeReference<ApiResponse<List<UserPermissions>>>
+            USER_PERMISSIONS_LIST_TYPE = new TypeReference<>() {};
+    private static final TypeReference<ApiResponse<List<UserContext>>> USER_CONTEXT_LIST_TYPE =
+            new TypeReference<>() {};
+    private static final TypeReference<ApiResponse<Void>> VOID_TYPE = new TypeReference<>() {};
 
     private final ServiceTokenHttpClientSupport httpClient;
 
@@ -32,42 +69,147 @@ final class DefaultInternalApi implements InternalApi {
 
     @Override
     public ApiResponse<EndpointPermissionSpecList> getPermissionSpec() {
+        return httpClient.get(PERMISSION_SPEC_PATH, PERMISSION_SPEC_TYPE);
+    }
+
+    @Override
+    public ApiResponse<EndpointPermissionSpecDelta> getPermissionSpecChanges(String sinceVersion) {
         return httpClient.get(
-                PERMISSION_SPEC_PATH,
-                new TypeReference<ApiResponse<EndpointPermissionSpecList>>() {});
+                String.format(PERMISSION_SPEC_CHANGES_PATH, sinceVersion),
+                PERMISSION_SPEC_DELTA_TYPE);
+    }
+
+    @Override
+    public ApiResponse<PermissionDictionary> getPermissionDictionary() {
+        return httpClient.get(PERMISSION_DICTIONARY_PATH, PERMISSION_DICTIONARY_TYPE);
+    }
+
+    @Override
+    public ApiResponse<PermissionSet> getPermissionSet(String permissionHash) {
+        return httpClient.get(
+                String.format(PERMISSION_SET_PATH, permissionHash), PERMISSION_SET_TYPE);
     }
 
     @Override
     public PublicKeys getJwks() {
-        return httpClient.get(JWKS_PATH, new TypeReference<PublicKeys>() {});
+        return httpClient.get(JWKS_PATH, PUBLIC_KEYS_TYPE);
     }
 
     @Override
     public ApiResponse<TenantConfig> getTenantConfig(String tenantId) {
-        return httpClient.get(
-                String.format(TENANT_CONFIG_PATH, tenantId),
-                new TypeReference<ApiResponse<TenantConfig>>() {});
+        return httpClient.get(String.format(TENANT_CONFIG_PATH, tenantId), TENANT_CONFIG_TYPE);
     }
 
     @Override
     public ApiResponse<UserPermissions> getUserPermissions(String userId) {
-        return httpClient.get(
-                String.format(USER_PERMISSIONS_PATH, userId),
-                new TypeReference<ApiResponse<UserPermissions>>() {});
+        return httpClient.get(String.format(USER_PERMISSIONS_PATH, userId), USER_PERMISSIONS_TYPE);
+    }
+
+    @Override
+    public Optional<ApiResponse<UserPermissions>> getUserPermissionsIfChanged(
+            String userId, String knownHash) {
+        return httpClient.getIfNoneMatch(
+                String.format(USER_PERMISSIONS_PATH, userId), knownHash, USER_PERMISSIONS_TYPE);
     }
 
     @Override
     public ApiResponse<UserContext> getUserContext(String userId) {
-        return httpClient.get(
-                String.format(USER_CONTEXT_PATH, userId),
-                new TypeReference<ApiResponse<UserContext>>() {});
+        return httpClient.get(String.format(USER_CONTEXT_PATH, userId), USER_CONTEXT_TYPE);
+    }
+
+    @Override
+    public ApiResponse<List<UserPermissions>> getUserPermissionsBatch(List<String> userIds) {
+        return httpClient.post(
+                USER_PERMISSIONS_BATCH_PATH,
+                new UserIdsBatchRequest(userIds),
+                USER_PERMISSIONS_LIST_TYPE);
+    }
+
+    @Override
+    public ApiResponse<List<UserContext>> getUserContextsBatch(List<String> userIds) {
+        return httpClient.post(
+                USER_CONTEXT_BATCH_PATH, new UserIdsBatchRequest(userIds), USER_CONTEXT_LIST_TYPE);
     }
 
     @Override
     public void changePassword(String userId, ForceChangePasswordRequest request) {
-        httpClient.put(
-                String.format(USER_PASSWORD_PATH, userId),
-                request,
-                new TypeReference<ApiResponse<Void>>() {});
+        httpClient.put(String.format(USER_PASSWORD_PATH, userId), request, VOID_TYPE);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<EndpointPermissionSpecList>> getPermissionSpecAsync() {
+        return httpClient.getAsync(PERMISSION_SPEC_PATH, PERMISSION_SPEC_TYPE);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<EndpointPermissionSpecDelta>>
+            getPermissionSpecChangesAsync(String sinceVersion) {
+        return httpClient.getAsync(
+                String.format(PERMISSION_SPEC_CHANGES_PATH, sinceVersion),
+                PERMISSION_SPEC_DELTA_TYPE);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<PermissionDictionary>> getPermissionDictionaryAsync() {
+        return httpClient.getAsync(PERMISSION_DICTIONARY_PATH, PERMISSION_DICTIONARY_TYPE);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<PermissionSet>> getPermissionSetAsync(
+            String permissionHash) {
+        return httpClient.getAsync(
+                String.format(PERMISSION_SET_PATH, permissionHash), PERMISSION_SET_TYPE);
+    }
+
+    @Override
+    public CompletableFuture<PublicKeys> getJwksAsync() {
+        return httpClient.getAsync(JWKS_PATH, PUBLIC_KEYS_TYPE);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<TenantConfig>> getTenantConfigAsync(String tenantId) {
+        return httpClient.getAsync(String.format(TENANT_CONFIG_PATH, tenantId), TENANT_CONFIG_TYPE);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<UserPermissions>> getUserPermissionsAsync(
+            String userId) {
+        return httpClient.getAsync(
+                String.format(USER_PERMISSIONS_PATH, userId), USER_PERMISSIONS_TYPE);
+    }
+
+    @Override
+    public CompletableFuture<Optional<ApiResponse<UserPermissions>>>
+            getUserPermissionsIfChangedAsync(String userId, String knownHash) {
+        return httpClient.getIfNoneMatchAsync(
+                String.format(USER_PERMISSIONS_PATH, userId), knownHash, USER_PERMISSIONS_TYPE);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<UserContext>> getUserContextAsync(String userId) {
+        return httpClient.getAsync(String.format(USER_CONTEXT_PATH, userId), USER_CONTEXT_TYPE);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<List<UserPermissions>>> getUserPermissionsBatchAsync(
+            List<String> userIds) {
+        UserIdsBatchRequest request = new UserIdsBatchRequest(userIds);
+        return httpClient.postAsync(
+                USER_PERMISSIONS_BATCH_PATH, request, USER_PERMISSIONS_LIST_TYPE);
+    }
+
+    @Override
+    public CompletableFuture<ApiResponse<List<UserContext>>> getUserContextsBatchAsync(
+            List<String> userIds) {
+        UserIdsBatchRequest request = new UserIdsBatchRequest(userIds);
+        return httpClient.postAsync(USER_CONTEXT_BATCH_PATH, request, USER_CONTEXT_LIST_TYPE);
+    }
+
+    @Override
+    public CompletableFuture<Void> changePasswordAsync(
+            String userId, ForceChangePasswordRequest request) {
+        return httpClient
+                .putAsync(String.format(USER_PASSWORD_PATH, userId), request, VOID_TYPE)
+                .thenApply(response -> null);
     }
 }
@@ -6,6 +6,7 @@ import com.ryuqq.authhub.sdk.model.common.ApiResponse;
 import com.ryuqq.authhub.sdk.model.onboarding.TenantOnboardingRequest;
 import com.ryuqq.authhub.sdk.model.onboarding.TenantOnboardingResponse;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * OnboardingApi의 기본 구현체.
@@ -36,4 +37,18 @@ final class DefaultOnboardingApi implements OnboardingApi {
                 new TypeReference<ApiResponse<TenantOnboardingResponse>>() {},
                 headers);
     }
+
+    @Override
+    public CompletableFuture<ApiResponse<TenantOnboardingResponse>> onboardAsync(
+            TenantOnboardingRequest request, String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            throw new IllegalArgumentException("idempotencyKey must not be null or blank");
+        }
+        Map<String, String> headers = Map.of(IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+        return httpClient.postAsync(
+                BASE_PATH,
+                request,
+                new TypeReference<ApiResponse<TenantOnboardingResponse>>() {},
+                headers);
+    }
 }
@@ -5,6 +5,7 @@ import com.ryuqq.authhub.sdk.api.UserApi;
 import com.ryuqq.authhub.sdk.model.common.ApiResponse;
 import com.ryuqq.authhub.sdk.model.user.CreateUserWithRolesRequest;
 import com.ryuqq.authhub.sdk.model.user.CreateUserWithRolesResponse;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * UserApi의 기본 구현체.
@@ -29,4 +30,13 @@ final class DefaultUserApi implements UserApi {
                 request,
                 new TypeReference<ApiResponse<CreateUserWithRolesResponse>>() {});
     }
+
+    @Override
+    public CompletableFuture<ApiResponse<CreateUserWithRolesResponse>> createUserWithRolesAsync(
+            CreateUserWithRolesRequest request) {
+        return httpClient.postAsync(
+                BASE_PATH + "/register",
+                request,
+                new TypeReference<ApiResponse<CreateUserWithRolesResponse>>() {});
+    }
 }
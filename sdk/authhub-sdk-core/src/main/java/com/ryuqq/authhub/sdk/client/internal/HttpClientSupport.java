@@ -1,20 +1,14 @@
 package com.ryuqq.authhub.sdk.client.internal;
 
-import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.ryuqq.authhub.sdk.auth.TokenResolver;
 import com.ryuqq.authhub.sdk.config.AuthHubConfig;
-import com.ryuqq.authhub.sdk.exception.AuthHubBadRequestException;
 import com.ryuqq.authhub.sdk.exception.AuthHubException;
-import com.ryuqq.authhub.sdk.exception.AuthHubForbiddenException;
-import com.ryuqq.authhub.sdk.exception.AuthHubNotFoundException;
 import com.ryuqq.authhub.sdk.exception.AuthHubServerException;
 import com.ryuqq.authhub.sdk.exception.AuthHubUnauthorizedException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.net.http.HttpClient;
@@ -23,6 +17,9 @@ import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,6 +28,13 @@ import org.slf4j.LoggerFactory;
  *
  * <p>이 클래스는 HTTP 요청/응답 처리의 모든 공통 로직을 담당합니다. GodClass 경고가 발생하지만, HTTP 클라이언트의 특성상
  * GET/POST/PUT/PATCH/DELETE 메서드들이 함께 있어야 응집도가 높습니다.
+ *
+ * <p>{@code *Async} 메서드는 {@link HttpClient#sendAsync}로 요청을 보내고 즉시 {@link CompletableFuture}를 반환합니다.
+ * 토큰은 호출 스레드에서 확인하므로(ThreadLocal 토큰 지원) 요청 생성 실패는 실패한 Future로, 응답 오류는 동기 메서드와 같은
+ * {@link AuthHubException}으로 완료됩니다.
+ *
+ * <p>응답 본문은 {@code String}을 거치지 않고 {@link JsonCodec}의 타입별 캐싱된 리더로 바로 역직렬화하며, 요청은 공통 헤더와
+ * 타임아웃이 설정된 템플릿을 복사해 만듭니다.
  */
 @SuppressWarnings("PMD.GodClass")
 class HttpClientSupport {
@@ -44,20 +48,18 @@ class HttpClientSupport {
     private final AuthHubConfig config;
     private final TokenResolver tokenResolver;
     private final HttpClient httpClient;
-    private final ObjectMapper objectMapper;
+    private final JsonCodec jsonCodec;
+    private final HttpRequest.Builder requestTemplate;
 
     public HttpClientSupport(AuthHubConfig config, TokenResolver tokenResolver) {
         this.config = config;
         this.tokenResolver = tokenResolver;
-        this.httpClient = HttpClient.newBuilder().connectTimeout(config.connectTimeout()).build();
-        this.objectMapper = createObjectMapper();
-    }
-
-    private ObjectMapper createObjectMapper() {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.registerModule(new JavaTimeModule());
-        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-        return mapper;
+        this.httpClient = SharedHttpClients.forConnectTimeout(config.connectTimeout());
+        this.jsonCodec = JsonCodec.shared();
+        this.requestTemplate =
+                HttpRequest.newBuilder()
+                        .header(CONTENT_TYPE_HEADER, APPLICATION_JSON)
+                        .timeout(config.readTimeout());
     }
 
     /** GET 요청을 수행합니다. */
@@ -67,98 +69,44 @@ class HttpClientSupport {
 
     /** GET 요청을 수행합니다 (쿼리 파라미터 포함). */
     public <T> T get(String path, Map<String, Object> queryParams, Class<T> responseType) {
-        String url = buildUrl(path, queryParams);
-        HttpRequest request =
-                HttpRequest.newBuilder()
-                        .uri(URI.create(url))
-                        .header(CONTENT_TYPE_HEADER, APPLICATION_JSON)
-                        .header(AUTHORIZATION_HEADER, getAuthorizationHeader())
-                        .GET()
-                        .timeout(config.readTimeout())
-                        .build();
+        HttpRequest request = authorizedRequest(path, queryParams).GET().build();
 
-        return execute(request, responseType);
+        return execute(request, jsonCodec.readerFor(responseType));
     }
 
     /** GET 요청을 수행합니다 (제네릭 타입 지원). */
     public <T> T get(String path, Map<String, Object> queryParams, TypeReference<T> typeReference) {
-        String url = buildUrl(path, queryParams);
-        HttpRequest request =
-                HttpRequest.newBuilder()
-                        .uri(URI.create(url))
-                        .header(CONTENT_TYPE_HEADER, APPLICATION_JSON)
-                        .header(AUTHORIZATION_HEADER, getAuthorizationHeader())
-                        .GET()
-                        .timeout(config.readTimeout())
-                        .build();
+        HttpRequest request = authorizedRequest(path, queryParams).GET().build();
 
-        return executeWithTypeReference(request, typeReference);
+        return execute(request, jsonCodec.readerFor(typeReference));
     }
 
     /** POST 요청을 수행합니다. */
     public <T> T post(String path, Object body, Class<T> responseType) {
-        String url = buildUrl(path, Map.of());
-        String jsonBody = toJson(body);
+        HttpRequest request = authorizedRequest(path).POST(jsonCodec.toBody(body)).build();
 
-        HttpRequest request =
-                HttpRequest.newBuilder()
-                        .uri(URI.create(url))
-                        .header(CONTENT_TYPE_HEADER, APPLICATION_JSON)
-                        .header(AUTHORIZATION_HEADER, getAuthorizationHeader())
-                        .POST(HttpRequest.BodyPublishers.ofString(jsonBody))
-                        .timeout(config.readTimeout())
-                        .build();
-
-        return execute(request, responseType);
+        return execute(request, jsonCodec.readerFor(responseType));
     }
 
     /** POST 요청을 수행합니다 (인증 없이 - Public API용). */
     public <T> T postPublic(String path, Object body, Class<T> responseType) {
-        String url = buildUrl(path, Map.of());
-        String jsonBody = toJson(body);
-
-        HttpRequest request =
-                HttpRequest.newBuilder()
-                        .uri(URI.create(url))
-                        .header(CONTENT_TYPE_HEADER, APPLICATION_JSON)
-                        .POST(HttpRequest.BodyPublishers.ofString(jsonBody))
-                        .timeout(config.readTimeout())
-                        .build();
+        HttpRequest request = request(path, Map.of()).POST(jsonCodec.toBody(body)).build();
 
-        return execute(request, responseType);
+        return execute(request, jsonCodec.readerFor(responseType));
     }
 
     /** POST 요청을 수행합니다 (인증 없이 - Public API용, 제네릭 타입 지원). */
     public <T> T postPublic(String path, Object body, TypeReference<T> typeReference) {
-        String url = buildUrl(path, Map.of());
-        String jsonBody = toJson(body);
+        HttpRequest request = request(path, Map.of()).POST(jsonCodec.toBody(body)).build();
 
-        HttpRequest request =
-                HttpRequest.newBuilder()
-                        .uri(URI.create(url))
-                        .header(CONTENT_TYPE_HEADER, APPLICATION_JSON)
-                        .POST(HttpRequest.BodyPublishers.ofString(jsonBody))
-                        .timeout(config.readTimeout())
-                        .build();
-
-        return executeWithTypeReference(request, typeReference);
+        return execute(request, jsonCodec.readerFor(typeReference));
     }
 
     /** POST 요청을 수행합니다 (제네릭 타입 지원). */
     public <T> T post(String path, Object body, TypeReference<T> typeReference) {
-        String url = buildUrl(path, Map.of());
-        String jsonBody = toJson(body);
-
-        HttpRequest request =
-                HttpRequest.newBuilder()
-                        .uri(URI.create(url))
-                        .header(CONTENT_TYPE_HEADER, APPLICATION_JSON)
-                        .header(AUTHORIZATION_HEADER, getAuthorizationHeader())
-                        .POST(HttpRequest.BodyPublishers.ofString(jsonBody))
-                        .timeout(config.readTimeout())
-                        .build();
+        HttpRequest request = authorizedRequest(path).POST(jsonCodec.toBody(body)).build();
 
-        return executeWithTypeReference(request, typeReference);
+        return execute(request, jsonCodec.readerFor(typeReference));
     }
 
     /**
@@ -175,174 +123,139 @@ class HttpClientSupport {
             Object body,
             TypeReference<T> typeReference,
             Map<String, String> extraHeaders) {
-        String url = buildUrl(path, Map.of());
-        String jsonBody = toJson(body);
+        HttpRequest request = postWithHeaders(path, body, extraHeaders);
 
-        HttpRequest.Builder builder =
-                HttpRequest.newBuilder()
-                        .uri(URI.create(url))
-                        .header(CONTENT_TYPE_HEADER, APPLICATION_JSON)
-                        .header(AUTHORIZATION_HEADER, getAuthorizationHeader())
-                        .POST(HttpRequest.BodyPublishers.ofString(jsonBody))
-                        .timeout(config.readTimeout());
-
-        // 추가 헤더 설정
-        if (extraHeaders != null) {
-            extraHeaders.forEach(
-                    (key, value) -> {
-                        if (value != null && !value.isBlank()) {
-                            builder.header(key, value);
-                        }
-                    });
-        }
-
-        return executeWithTypeReference(builder.build(), typeReference);
+        return execute(request, jsonCodec.readerFor(typeReference));
     }
 
     /** PUT 요청을 수행합니다. */
     public <T> T put(String path, Object body, Class<T> responseType) {
-        String url = buildUrl(path, Map.of());
-        String jsonBody = toJson(body);
-
-        HttpRequest request =
-                HttpRequest.newBuilder()
-                        .uri(URI.create(url))
-                        .header(CONTENT_TYPE_HEADER, APPLICATION_JSON)
-                        .header(AUTHORIZATION_HEADER, getAuthorizationHeader())
-                        .PUT(HttpRequest.BodyPublishers.ofString(jsonBody))
-                        .timeout(config.readTimeout())
-                        .build();
+        HttpRequest request = authorizedRequest(path).PUT(jsonCodec.toBody(body)).build();
 
-        return execute(request, responseType);
+        return execute(request, jsonCodec.readerFor(responseType));
     }
 
     /** PUT 요청을 수행합니다 (제네릭 타입 지원). */
     public <T> T put(String path, Object body, TypeReference<T> typeReference) {
-        String url = buildUrl(path, Map.of());
-        String jsonBody = toJson(body);
+        HttpRequest request = authorizedRequest(path).PUT(jsonCodec.toBody(body)).build();
 
-        HttpRequest request =
-                HttpRequest.newBuilder()
-                        .uri(URI.create(url))
-                        .header(CONTENT_TYPE_HEADER, APPLICATION_JSON)
-                        .header(AUTHORIZATION_HEADER, getAuthorizationHeader())
-                        .PUT(HttpRequest.BodyPublishers.ofString(jsonBody))
-                        .timeout(config.readTimeout())
-                        .build();
-
-        return executeWithTypeReference(request, typeReference);
+        return execute(request, jsonCodec.readerFor(typeReference));
     }
 
     /** PATCH 요청을 수행합니다. */
     public <T> T patch(String path, Object body, Class<T> responseType) {
-        String url = buildUrl(path, Map.of());
-        String jsonBody = toJson(body);
-
         HttpRequest request =
-                HttpRequest.newBuilder()
-                        .uri(URI.create(url))
-                        .header(CONTENT_TYPE_HEADER, APPLICATION_JSON)
-                        .header(AUTHORIZATION_HEADER, getAuthorizationHeader())
-                        .method("PATCH", HttpRequest.BodyPublishers.ofString(jsonBody))
-                        .timeout(config.readTimeout())
-                        .build();
+                authorizedRequest(path).method("PATCH", jsonCodec.toBody(body)).build();
 
-        return execute(request, responseType);
+        return execute(request, jsonCodec.readerFor(responseType));
     }
 
     /** PATCH 요청을 수행합니다 (제네릭 타입 지원). */
     public <T> T patch(String path, Object body, TypeReference<T> typeReference) {
-        String url = buildUrl(path, Map.of());
-        String jsonBody = toJson(body);
-
         HttpRequest request =
-                HttpRequest.newBuilder()
-                        .uri(URI.create(url))
-                        .header(CONTENT_TYPE_HEADER, APPLICATION_JSON)
-                        .header(AUTHORIZATION_HEADER, getAuthorizationHeader())
-                        .method("PATCH", HttpRequest.BodyPublishers.ofString(jsonBody))
-                        .timeout(config.readTimeout())
-                        .build();
+                authorizedRequest(path).method("PATCH", jsonCodec.toBody(body)).build();
 
-        return executeWithTypeReference(request, typeReference);
+        return execute(request, jsonCodec.readerFor(typeReference));
     }
 
     /** DELETE 요청을 수행합니다. */
     public void delete(String path) {
-        String url = buildUrl(path, Map.of());
-
-        HttpRequest request =
-                HttpRequest.newBuilder()
-                        .uri(URI.create(url))
-                        .header(CONTENT_TYPE_HEADER, APPLICATION_JSON)
-                        .header(AUTHORIZATION_HEADER, getAuthorizationHeader())
-                        .DELETE()
-                        .timeout(config.readTimeout())
-                        .build();
+        HttpRequest request = authorizedRequest(path).DELETE().build();
 
         executeVoid(request);
     }
 
     /** DELETE 요청을 수행합니다 (본문 포함). */
     public void delete(String path, Object body) {
-        String url = buildUrl(path, Map.of());
-        String jsonBody = toJson(body);
-
         HttpRequest request =
-                HttpRequest.newBuilder()
-                        .uri(URI.create(url))
-                        .header(CONTENT_TYPE_HEADER, APPLICATION_JSON)
-                        .header(AUTHORIZATION_HEADER, getAuthorizationHeader())
-                        .method("DELETE", HttpRequest.BodyPublishers.ofString(jsonBody))
-                        .timeout(config.readTimeout())
-                        .build();
+                authorizedRequest(path).method("DELETE", jsonCodec.toBody(body)).build();
 
         executeVoid(request);
     }
 
     /** DELETE 요청을 수행합니다 (본문 포함, 제네릭 타입 지원). */
     public <T> T delete(String path, Object body, TypeReference<T> typeReference) {
-        String url = buildUrl(path, Map.of());
-        String jsonBody = toJson(body);
-
         HttpRequest request =
-                HttpRequest.newBuilder()
-                        .uri(URI.create(url))
-                        .header(CONTENT_TYPE_HEADER, APPLICATION_JSON)
-                        .header(AUTHORIZATION_HEADER, getAuthorizationHeader())
-                        .method("DELETE", HttpRequest.BodyPublishers.ofString(jsonBody))
-                        .timeout(config.readTimeout())
-                        .build();
+                authorizedRequest(path).method("DELETE", jsonCodec.toBody(body)).build();
 
-        return executeWithTypeReference(request, typeReference);
+        return execute(request, jsonCodec.readerFor(typeReference));
     }
 
-    private <T> T execute(HttpRequest request, Class<T> responseType) {
-        try {
-            log.debug("Executing {} {}", request.method(), request.uri());
-            HttpResponse<String> response =
-                    httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            handleErrorResponse(response);
-            return fromJson(response.body(), responseType);
-        } catch (AuthHubException e) {
-            throw e;
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new AuthHubServerException(
-                    500, "REQUEST_INTERRUPTED", "Request was interrupted", e);
-        } catch (IOException e) {
-            throw new AuthHubServerException(
-                    500, "CONNECTION_ERROR", "Failed to connect to AuthHub server", e);
+    /** GET 요청을 비동기로 수행합니다 (제네릭 타입 지원). */
+    public <T> CompletableFuture<T> getAsync(
+            String path, Map<String, Object> queryParams, TypeReference<T> typeReference) {
+        return executeAsync(
+                () -> authorizedRequest(path, queryParams).GET().build(), typeReference);
+    }
+
+    /** POST 요청을 비동기로 수행합니다 (제네릭 타입 지원). */
+    public <T> CompletableFuture<T> postAsync(
+            String path, Object body, TypeReference<T> typeReference) {
+        return postAsync(path, body, typeReference, Map.of());
+    }
+
+    /** POST 요청을 비동기로 수행합니다 (제네릭 타입 지원, 커스텀 헤더 포함). */
+    public <T> CompletableFuture<T> postAsync(
+            String path,
+            Object body,
+            TypeReference<T> typeReference,
+            Map<String, String> extraHeaders) {
+        return executeAsync(() -> postWithHeaders(path, body, extraHeaders), typeReference);
+    }
+
+    /** POST 요청을 비동기로 수행합니다 (인증 없이 - Public API용, 제네릭 타입 지원). */
+    public <T> CompletableFuture<T> postPublicAsync(
+            String path, Object body, TypeReference<T> typeReference) {
+        return executeAsync(
+                () -> request(path, Map.of()).POST(jsonCodec.toBody(body)).build(),
+                typeReference);
+    }
+
+    /** PUT 요청을 비동기로 수행합니다 (제네릭 타입 지원). */
+    public <T> CompletableFuture<T> putAsync(
+            String path, Object body, TypeReference<T> typeReference) {
+        return executeAsync(
+                () -> authorizedRequest(path).PUT(jsonCodec.toBody(body)).build(), typeReference);
+    }
+
+    private HttpRequest postWithHeaders(
+            String path, Object body, Map<String, String> extraHeaders) {
+        HttpRequest.Builder builder = authorizedRequest(path).POST(jsonCodec.toBody(body));
+
+        // 추가 헤더 설정
+        if (extraHeaders != null) {
+            extraHeaders.forEach(
+                    (key, value) -> {
+                        if (value != null && !value.isBlank()) {
+                            builder.header(key, value);
+                        }
+                    });
         }
+        return builder.build();
+    }
+
+    /**
+     * 공통 헤더와 타임아웃이 설정된 템플릿을 복사해 요청 빌더를 만듭니다. 템플릿은 생성 후 수정하지 않으므로 여러 스레드에서 동시에
+     * 복사해도 안전합니다.
+     */
+    private HttpRequest.Builder request(String path, Map<String, Object> queryParams) {
+        return requestTemplate.copy().uri(URI.create(buildUrl(path, queryParams)));
+    }
+
+    private HttpRequest.Builder authorizedRequest(String path) {
+        return authorizedRequest(path, Map.of());
     }
 
-    private <T> T executeWithTypeReference(HttpRequest request, TypeReference<T> typeReference) {
+    private HttpRequest.Builder authorizedRequest(String path, Map<String, Object> queryParams) {
+        return request(path, queryParams).header(AUTHORIZATION_HEADER, getAuthorizationHeader());
+    }
+
+    private <T> T execute(HttpRequest request, ObjectReader reader) {
         try {
             log.debug("Executing {} {}", request.method(), request.uri());
-            HttpResponse<String> response =
-                    httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            handleErrorResponse(response);
-            return fromJson(response.body(), typeReference);
+            HttpResponse<InputStream> response =
+                    httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            return jsonCodec.read(response, reader);
         } catch (AuthHubException e) {
             throw e;
         } catch (InterruptedException e) {
@@ -358,9 +271,9 @@ class HttpClientSupport {
     private void executeVoid(HttpRequest request) {
         try {
             log.debug("Executing {} {}", request.method(), request.uri());
-            HttpResponse<String> response =
-                    httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            handleErrorResponse(response);
+            HttpResponse<InputStream> response =
+                    httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            jsonCodec.discard(response);
         } catch (AuthHubException e) {
             throw e;
         } catch (InterruptedException e) {
@@ -373,41 +286,43 @@ class HttpClientSupport {
         }
     }
 
-    private void handleErrorResponse(HttpResponse<String> response) {
-        int statusCode = response.statusCode();
-        if (statusCode >= 200 && statusCode < 300) {
-            return;
-        }
-
-        ErrorResponse error = parseErrorResponse(response.body());
-
-        switch (statusCode) {
-            case 400 -> throw new AuthHubBadRequestException(error.errorCode(), error.message());
-            case 401 -> throw new AuthHubUnauthorizedException(error.errorCode(), error.message());
-            case 403 -> throw new AuthHubForbiddenException(error.errorCode(), error.message());
-            case 404 -> throw new AuthHubNotFoundException(error.errorCode(), error.message());
-            default -> {
-                if (statusCode >= 500) {
-                    throw new AuthHubServerException(
-                            statusCode, error.errorCode(), error.message());
-                }
-                throw new AuthHubException(statusCode, error.errorCode(), error.message());
-            }
+    /**
+     * 비동기 응답은 HttpClient 스레드에서 완료되므로 스트림으로 블로킹하며 읽지 않고 바이트 배열로 받은 뒤 역직렬화합니다.
+     */
+    private <T> CompletableFuture<T> executeAsync(
+            Supplier<HttpRequest> requestFactory, TypeReference<T> typeReference) {
+        HttpRequest request;
+        try {
+            request = requestFactory.get();
+        } catch (AuthHubException e) {
+            return CompletableFuture.failedFuture(e);
         }
+        ObjectReader reader = jsonCodec.readerFor(typeReference);
+        log.debug("Executing async {} {}", request.method(), request.uri());
+        return httpClient
+                .sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .handle(
+                        (response, failure) -> {
+                            if (failure != null) {
+                                throw toAuthHubException(failure);
+                            }
+                            return jsonCodec.read(response.statusCode(), response.body(), reader);
+                        });
     }
 
-    private ErrorResponse parseErrorResponse(String body) {
-        try {
-            ProblemDetailResponse problemDetail =
-                    objectMapper.readValue(body, ProblemDetailResponse.class);
-            return problemDetail.toErrorResponse();
-        } catch (JsonProcessingException e) {
-            return new ErrorResponse("UNKNOWN_ERROR", body);
+    private AuthHubException toAuthHubException(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+        if (cause instanceof AuthHubException authHubException) {
+            return authHubException;
         }
+        return new AuthHubServerException(
+                500, "CONNECTION_ERROR", "Failed to connect to AuthHub server", cause);
     }
 
     private String buildUrl(String path, Map<String, Object> queryParams) {
-        StringBuilder url = new StringBuilder(config.baseUrl());
+        String baseUrl = config.baseUrl();
+        StringBuilder url = new StringBuilder(baseUrl.length() + path.length() + 1);
+        url.append(baseUrl);
         if (!path.startsWith("/")) {
             url.append("/");
         }
@@ -438,95 +353,4 @@ class HttpClientSupport {
         }
         return BEARER_PREFIX + token.get();
     }
-
-    private String toJson(Object object) {
-        try {
-            return objectMapper.writeValueAsString(object);
-        } catch (JsonProcessingException e) {
-            throw new AuthHubBadRequestException(
-                    "SERIALIZATION_ERROR", "Failed to serialize request body", e);
-        }
-    }
-
-    private <T> T fromJson(String json, Class<T> type) {
-        try {
-            return objectMapper.readValue(json, type);
-        } catch (JsonProcessingException e) {
-            throw new AuthHubServerException(
-                    500, "DESERIALIZATION_ERROR", "Failed to parse response", e);
-        }
-    }
-
-    private <T> T fromJson(String json, TypeReference<T> typeReference) {
-        try {
-            return objectMapper.readValue(json, typeReference);
-        } catch (JsonProcessingException e) {
-            throw new AuthHubServerException(
-                    500, "DESERIALIZATION_ERROR", "Failed to parse response", e);
-        }
-    }
-
-    private record ErrorResponse(String errorCode, String message) {}
-
-    /**
-     * RFC 7807 ProblemDetail 및 레거시 에러 응답을 파싱하기 위한 레코드.
-     *
-     * <p>지원 형식:
-     *
-     * <ul>
-     *   <li>RFC 7807 ProblemDetail: adapter-in GlobalExceptionHandler 형식 (type, title, status,
-     *       detail, code)
-     *   <li>레거시 형식: 기존 SDK 호환 형식 (errorCode, message)
-     * </ul>
-     */
-    @JsonIgnoreProperties(ignoreUnknown = true)
-    private record ProblemDetailResponse(
-            String type,
-            String title,
-            Integer status,
-            String detail,
-            String instance,
-            String timestamp,
-            String code,
-            Object errors,
-            String errorCode,
-            String message) {
-
-        /**
-         * ProblemDetail 또는 레거시 형식을 ErrorResponse로 변환합니다.
-         *
-         * @return RFC 7807이면 code→errorCode, detail→message. 레거시면 errorCode, message 그대로 사용.
-         */
-        ErrorResponse toErrorResponse() {
-            String resolvedErrorCode = resolveErrorCode();
-            String resolvedMessage = resolveMessage();
-            return new ErrorResponse(resolvedErrorCode, resolvedMessage);
-        }
-
-        private String resolveErrorCode() {
-            if (errorCode != null && !errorCode.isBlank()) {
-                return errorCode;
-            }
-            if (code != null && !code.isBlank()) {
-                return code;
-            }
-            if (title != null && !title.isBlank()) {
-                return title.toUpperCase().replace(" ", "_");
-            }
-            return "UNKNOWN_ERROR";
-        }
-
-        private String resolveMessage() {
-            if (message != null && !message.isBlank()) {
-                return message;
-            }
-            if (detail != null && !detail.isBlank()) {
-                return detail;
-            }
-            if (title != null && !title.isBlank()) {
-                return title;
-            }
-            return "An unknown error occurred";
-        }
-    }
 }
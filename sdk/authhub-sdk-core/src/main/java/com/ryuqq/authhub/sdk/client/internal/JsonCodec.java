@@ -0,0 +1,264 @@
+package com.ryuqq.authhub.sdk.client.internal;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ryuqq.authhub.sdk.exception.AuthHubBadRequestException;
+import com.ryuqq.authhub.sdk.exception.AuthHubException;
+import com.ryuqq.authhub.sdk.exception.AuthHubForbiddenException;
+import com.ryuqq.authhub.sdk.exception.AuthHubNotFoundException;
+import com.ryuqq.authhub.sdk.exception.AuthHubServerException;
+import com.ryuqq.authhub.sdk.exception.AuthHubUnauthorizedException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * SDK HTTP 요청/응답 JSON 변환기.
+ *
+ * <p>응답 본문을 {@code String}으로 만들지 않고 바이트 스트림(동기) 또는 바이트 배열(비동기)에서 바로 역직렬화합니다. 타입별
+ * {@link ObjectReader}는 처음 사용할 때 만들어 캐싱하므로 호출마다 타입을 다시 해석하지 않습니다. 요청 본문도 UTF-8 바이트로
+ * 바로 직렬화합니다.
+ *
+ * <p>설정이 모든 클라이언트에서 같으므로 프로세스에서 하나를 공유합니다({@link #shared()}).
+ */
+final class JsonCodec {
+
+    private static final JsonCodec SHARED = new JsonCodec();
+
+    private final ObjectWriter writer;
+    private final ObjectReader errorReader;
+    private final ObjectMapper objectMapper;
+    private final ConcurrentMap<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    private JsonCodec() {
+        this.objectMapper = createObjectMapper();
+        this.writer = objectMapper.writer();
+        this.errorReader = objectMapper.readerFor(ProblemDetailResponse.class);
+    }
+
+    /**
+     * 프로세스 공유 인스턴스를 반환합니다.
+     *
+     * @return 공유 JsonCodec
+     */
+    static JsonCodec shared() {
+        return SHARED;
+    }
+
+    private static ObjectMapper createObjectMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        // 남은 본문을 끝까지 읽은 뒤 닫아야 커넥션이 풀로 돌아가므로 스트림은 직접 닫습니다.
+        mapper.configure(JsonParser.Feature.AUTO_CLOSE_SOURCE, false);
+        return mapper;
+    }
+
+    /**
+     * 요청 객체를 JSON 바이트 본문으로 변환합니다.
+     *
+     * @param body 요청 객체
+     * @return BodyPublisher
+     */
+    HttpRequest.BodyPublisher toBody(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(writer.writeValueAsBytes(body));
+        } catch (JsonProcessingException e) {
+            throw new AuthHubBadRequestException(
+                    "SERIALIZATION_ERROR", "Failed to serialize request body", e);
+        }
+    }
+
+    /**
+     * 타입에 해당하는 캐싱된 ObjectReader를 반환합니다.
+     *
+     * @param typeReference 응답 타입 참조
+     * @return ObjectReader
+     */
+    ObjectReader readerFor(TypeReference<?> typeReference) {
+        return readers.computeIfAbsent(typeReference.getType(), this::newReader);
+    }
+
+    /**
+     * 타입에 해당하는 캐싱된 ObjectReader를 반환합니다.
+     *
+     * @param type 응답 타입
+     * @return ObjectReader
+     */
+    ObjectReader readerFor(Class<?> type) {
+        return readers.computeIfAbsent(type, this::newReader);
+    }
+
+    /**
+     * 스트림 응답을 검사하고 본문을 역직렬화합니다. 스트림은 항상 닫습니다.
+     *
+     * @param response 응답
+     * @param reader 응답 타입의 ObjectReader
+     * @return 응답 객체
+     * @throws IOException 본문을 읽는 중 연결이 끊긴 경우
+     */
+    <T> T read(HttpResponse<InputStream> response, ObjectReader reader) throws IOException {
+        try (InputStream body = response.body()) {
+            requireSuccess(response.statusCode(), body);
+            T value;
+            try {
+                value = reader.readValue(body);
+            } catch (JsonProcessingException e) {
+                throw deserializationError(e);
+            }
+            body.transferTo(OutputStream.nullOutputStream());
+            return value;
+        }
+    }
+
+    /**
+     * 스트림 응답을 검사하고 본문은 버립니다. 스트림은 항상 닫습니다.
+     *
+     * @param response 응답
+     * @throws IOException 본문을 읽는 중 연결이 끊긴 경우
+     */
+    void discard(HttpResponse<InputStream> response) throws IOException {
+        try (InputStream body = response.body()) {
+            requireSuccess(response.statusCode(), body);
+            body.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+
+    /**
+     * 바이트 배열 응답을 검사하고 본문을 역직렬화합니다.
+     *
+     * @param statusCode HTTP 상태 코드
+     * @param body 응답 본문
+     * @param reader 응답 타입의 ObjectReader
+     * @return 응답 객체
+     */
+    <T> T read(int statusCode, byte[] body, ObjectReader reader) {
+        if (statusCode < 200 || statusCode >= 300) {
+            throw toException(statusCode, body);
+        }
+        try {
+            return reader.readValue(body);
+        } catch (IOException e) {
+            throw deserializationError(e);
+        }
+    }
+
+    private ObjectReader newReader(Type type) {
+        return objectMapper.readerFor(objectMapper.constructType(type));
+    }
+
+    private void requireSuccess(int statusCode, InputStream body) throws IOException {
+        if (statusCode < 200 || statusCode >= 300) {
+            throw toException(statusCode, body.readAllBytes());
+        }
+    }
+
+    private AuthHubException deserializationError(IOException e) {
+        return new AuthHubServerException(
+                500, "DESERIALIZATION_ERROR", "Failed to parse response", e);
+    }
+
+    private AuthHubException toException(int statusCode, byte[] body) {
+        ErrorResponse error = parseErrorResponse(body);
+
+        return switch (statusCode) {
+            case 400 -> new AuthHubBadRequestException(error.errorCode(), error.message());
+            case 401 -> new AuthHubUnauthorizedException(error.errorCode(), error.message());
+            case 403 -> new AuthHubForbiddenException(error.errorCode(), error.message());
+            case 404 -> new AuthHubNotFoundException(error.errorCode(), error.message());
+            default -> {
+                if (statusCode >= 500) {
+                    yield new AuthHubServerException(
+                            statusCode, error.errorCode(), error.message());
+                }
+                yield new AuthHubException(statusCode, error.errorCode(), error.message());
+            }
+        };
+    }
+
+    private ErrorResponse parseErrorResponse(byte[] body) {
+        try {
+            ProblemDetailResponse problemDetail = errorReader.readValue(body);
+            return problemDetail.toErrorResponse();
+        } catch (IOException e) {
+            return new ErrorResponse("UNKNOWN_ERROR", new String(body, StandardCharsets.UTF_8));
+        }
+    }
+
+    private record ErrorResponse(String errorCode, String message) {}
+
+    /**
+     * RFC 7807 ProblemDetail 및 레거시 에러 응답을 파싱하기 위한 레코드.
+     *
+     * <p>지원 형식:
+     *
+     * <ul>
+     *   <li>RFC 7807 ProblemDetail: adapter-in GlobalExceptionHandler 형식 (type, title, status,
+     *       detail, code)
+     *   <li>레거시 형식: 기존 SDK 호환 형식 (errorCode, message)
+     * </ul>
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record ProblemDetailResponse(
+            String type,
+            String title,
+            Integer status,
+            String detail,
+            String instance,
+            String timestamp,
+            String code,
+            Object errors,
+            String errorCode,
+            String message) {
+
+        /**
+         * ProblemDetail 또는 레거시 형식을 ErrorResponse로 변환합니다.
+         *
+         * @return RFC 7807이면 code→errorCode, detail→message. 레거시면 errorCode, message 그대로 사용.
+         */
+        ErrorResponse toErrorResponse() {
+            String resolvedErrorCode = resolveErrorCode();
+            String resolvedMessage = resolveMessage();
+            return new ErrorResponse(resolvedErrorCode, resolvedMessage);
+        }
+
+        private String resolveErrorCode() {
+            if (errorCode != null && !errorCode.isBlank()) {
+                return errorCode;
+            }
+            if (code != null && !code.isBlank()) {
+                return code;
+            }
+            if (title != null && !title.isBlank()) {
+                return title.toUpperCase().replace(" ", "_");
+            }
+            return "UNKNOWN_ERROR";
+        }
+
+        private String resolveMessage() {
+            if (message != null && !message.isBlank()) {
+                return message;
+            }
+            if (detail != null && !detail.isBlank()) {
+                return detail;
+            }
+            if (title != null && !title.isBlank()) {
+                return title;
+            }
+            return "An unknown error occurred";
+        }
+    }
+}
@@ -1,30 +1,35 @@
 package com.ryuqq.authhub.sdk.client.internal;
 
-import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.ryuqq.authhub.sdk.config.GatewayClientConfig;
-import com.ryuqq.authhub.sdk.exception.AuthHubBadRequestException;
 import com.ryuqq.authhub.sdk.exception.AuthHubException;
-import com.ryuqq.authhub.sdk.exception.AuthHubForbiddenException;
-import com.ryuqq.authhub.sdk.exception.AuthHubNotFoundException;
 import com.ryuqq.authhub.sdk.exception.AuthHubServerException;
-import com.ryuqq.authhub.sdk.exception.AuthHubUnauthorizedException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * 서비스 토큰 인증용 HTTP 클라이언트 지원 클래스.
  *
- * <p>X-Service-Name, X-Service-Token 헤더를 사용하여 Internal API를 호출합니다.
+ * <p>X-Service-Name, X-Service-Token 헤더를 사용하여 Internal API를 호출합니다. 인증 헤더는 요청마다 바뀌지 않으므로
+ * 공통 헤더와 타임아웃까지 설정한 템플릿을 한 번 만들어 두고 복사해 사용합니다. 응답 본문은 {@link JsonCodec}으로
+ * {@code String}을 거치지 않고 바로 역직렬화하므로 {@code getPermissionSpec()}처럼 큰 응답도 문자열 사본을 만들지 않습니다.
+ *
+ * <p>{@code *Async} 메서드는 {@link HttpClient#sendAsync}로 요청을 보내고 즉시 {@link CompletableFuture}를 반환하며,
+ * 응답 오류는 동기 메서드와 같은 {@link AuthHubException}으로 완료됩니다.
+ *
+ * <p>{@code getIfNoneMatch} 메서드는 보유한 ETag로 조건부 조회하며, 304 Not Modified이면 빈 {@link Optional}을 반환합니다.
  */
 class ServiceTokenHttpClientSupport {
 
@@ -33,64 +38,126 @@ class ServiceTokenHttpClientSupport {
     private static final String SERVICE_TOKEN_HEADER = "X-Service-Token";
     private static final String CONTENT_TYPE_HEADER = "Content-Type";
     private static final String APPLICATION_JSON = "application/json";
+    private static final String IF_NONE_MATCH_HEADER = "If-None-Match";
+    private static final int NOT_MODIFIED = 304;
 
-    private final GatewayClientConfig config;
+    private final String baseUrl;
     private final HttpClient httpClient;
-    private final ObjectMapper objectMapper;
+    private final JsonCodec jsonCodec;
+    private final HttpRequest.Builder requestTemplate;
 
     public ServiceTokenHttpClientSupport(GatewayClientConfig config) {
-        this.config = config;
-        this.httpClient = HttpClient.newBuilder().connectTimeout(config.connectTimeout()).build();
-        this.objectMapper = createObjectMapper();
-    }
-
-    private ObjectMapper createObjectMapper() {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.registerModule(new JavaTimeModule());
-        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-        return mapper;
-    }
-
-    /** GET 요청을 수행합니다. */
-    public <T> T get(String path, TypeReference<T> typeReference) {
-        String url = buildUrl(path);
-        HttpRequest request =
+        this.baseUrl = config.baseUrl();
+        this.httpClient = SharedHttpClients.forConnectTimeout(config.connectTimeout());
+        this.jsonCodec = JsonCodec.shared();
+        this.requestTemplate =
                 HttpRequest.newBuilder()
-                        .uri(URI.create(url))
                         .header(CONTENT_TYPE_HEADER, APPLICATION_JSON)
                         .header(SERVICE_NAME_HEADER, config.serviceName())
                         .header(SERVICE_TOKEN_HEADER, config.serviceToken())
-                        .GET()
-                        .timeout(config.readTimeout())
-                        .build();
+                        .timeout(config.readTimeout());
+    }
+
+    /** GET 요청을 수행합니다. */
+    public <T> T get(String path, TypeReference<T> typeReference) {
+        HttpRequest request = request(path).GET().build();
 
-        return execute(request, typeReference);
+        return execute(request, jsonCodec.readerFor(typeReference));
+    }
+
+    /** POST 요청을 수행합니다. */
+    public <T> T post(String path, Object body, TypeReference<T> typeReference) {
+        HttpRequest request = request(path).POST(jsonCodec.toBody(body)).build();
+
+        return execute(request, jsonCodec.readerFor(typeReference));
     }
 
     /** PUT 요청을 수행합니다. */
     public <T> T put(String path, Object body, TypeReference<T> typeReference) {
-        String url = buildUrl(path);
-        String jsonBody = toJson(body);
-        HttpRequest request =
-                HttpRequest.newBuilder()
-                        .uri(URI.create(url))
-                        .header(CONTENT_TYPE_HEADER, APPLICATION_JSON)
-                        .header(SERVICE_NAME_HEADER, config.serviceName())
-                        .header(SERVICE_TOKEN_HEADER, config.serviceToken())
-                        .PUT(HttpRequest.BodyPublishers.ofString(jsonBody))
-                        .timeout(config.readTimeout())
-                        .build();
+        HttpRequest request = request(path).PUT(jsonCodec.toBody(body)).build();
+
+        return execute(request, jsonCodec.readerFor(typeReference));
+    }
+
+    /**
+     * If-None-Match 조건부 GET 요청을 수행합니다.
+     *
+     * @param path API 경로
+     * @param eTag 보유한 ETag (따옴표 없이)
+     * @param typeReference 응답 타입 참조
+     * @return 변경된 응답 (304 Not Modified이면 빈 Optional)
+     */
+    public <T> Optional<T> getIfNoneMatch(
+            String path, String eTag, TypeReference<T> typeReference) {
+        HttpRequest request = request(path).header(IF_NONE_MATCH_HEADER, quote(eTag)).GET().build();
+        ObjectReader reader = jsonCodec.readerFor(typeReference);
+
+        return execute(
+                request,
+                response -> {
+                    if (response.statusCode() == NOT_MODIFIED) {
+                        response.body().close();
+                        return Optional.empty();
+                    }
+                    return Optional.of(jsonCodec.read(response, reader));
+                });
+    }
+
+    /** GET 요청을 비동기로 수행합니다. */
+    public <T> CompletableFuture<T> getAsync(String path, TypeReference<T> typeReference) {
+        return executeAsync(() -> request(path).GET().build(), typeReference);
+    }
 
-        return execute(request, typeReference);
+    /** POST 요청을 비동기로 수행합니다. */
+    public <T> CompletableFuture<T> postAsync(
+            String path, Object body, TypeReference<T> typeReference) {
+        return executeAsync(
+                () -> request(path).POST(jsonCodec.toBody(body)).build(), typeReference);
     }
 
-    private <T> T execute(HttpRequest request, TypeReference<T> typeReference) {
+    /** PUT 요청을 비동기로 수행합니다. */
+    public <T> CompletableFuture<T> putAsync(
+            String path, Object body, TypeReference<T> typeReference) {
+        return executeAsync(
+                () -> request(path).PUT(jsonCodec.toBody(body)).build(), typeReference);
+    }
+
+    /**
+     * If-None-Match 조건부 GET 요청을 비동기로 수행합니다.
+     *
+     * @param path API 경로
+     * @param eTag 보유한 ETag (따옴표 없이)
+     * @param typeReference 응답 타입 참조
+     * @return 변경된 응답 Future (304 Not Modified이면 빈 Optional)
+     */
+    public <T> CompletableFuture<Optional<T>> getIfNoneMatchAsync(
+            String path, String eTag, TypeReference<T> typeReference) {
+        ObjectReader reader = jsonCodec.readerFor(typeReference);
+        return executeAsync(
+                () -> request(path).header(IF_NONE_MATCH_HEADER, quote(eTag)).GET().build(),
+                response -> {
+                    if (response.statusCode() == NOT_MODIFIED) {
+                        return Optional.empty();
+                    }
+                    return Optional.of(
+                            jsonCodec.read(response.statusCode(), response.body(), reader));
+                });
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return requestTemplate.copy().uri(URI.create(buildUrl(path)));
+    }
+
+    private <T> T execute(HttpRequest request, ObjectReader reader) {
+        return execute(request, response -> jsonCodec.read(response, reader));
+    }
+
+    private <T> T execute(HttpRequest request, ResponseReader<T> responseReader) {
         try {
             log.debug("Executing {} {}", request.method(), request.uri());
-            HttpResponse<String> response =
-                    httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            handleErrorResponse(response);
-            return fromJson(response.body(), typeReference);
+            HttpResponse<InputStream> response =
+                    httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            return responseReader.read(response);
         } catch (AuthHubException e) {
             throw e;
         } catch (InterruptedException e) {
@@ -103,41 +170,47 @@ class ServiceTokenHttpClientSupport {
         }
     }
 
-    private void handleErrorResponse(HttpResponse<String> response) {
-        int statusCode = response.statusCode();
-        if (statusCode >= 200 && statusCode < 300) {
-            return;
-        }
+    private <T> CompletableFuture<T> executeAsync(
+            Supplier<HttpRequest> requestFactory, TypeReference<T> typeReference) {
+        ObjectReader reader = jsonCodec.readerFor(typeReference);
+        return executeAsync(
+                requestFactory,
+                response -> jsonCodec.read(response.statusCode(), response.body(), reader));
+    }
 
-        ErrorResponse error = parseErrorResponse(response.body());
-
-        switch (statusCode) {
-            case 400 -> throw new AuthHubBadRequestException(error.errorCode(), error.message());
-            case 401 -> throw new AuthHubUnauthorizedException(error.errorCode(), error.message());
-            case 403 -> throw new AuthHubForbiddenException(error.errorCode(), error.message());
-            case 404 -> throw new AuthHubNotFoundException(error.errorCode(), error.message());
-            default -> {
-                if (statusCode >= 500) {
-                    throw new AuthHubServerException(
-                            statusCode, error.errorCode(), error.message());
-                }
-                throw new AuthHubException(statusCode, error.errorCode(), error.message());
-            }
+    private <T> CompletableFuture<T> executeAsync(
+            Supplier<HttpRequest> requestFactory,
+            Function<HttpResponse<byte[]>, T> responseReader) {
+        HttpRequest request;
+        try {
+            request = requestFactory.get();
+        } catch (AuthHubException e) {
+            return CompletableFuture.failedFuture(e);
         }
+        log.debug("Executing async {} {}", request.method(), request.uri());
+        return httpClient
+                .sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .handle(
+                        (response, failure) -> {
+                            if (failure != null) {
+                                throw toAuthHubException(failure);
+                            }
+                            return responseReader.apply(response);
+                        });
     }
 
-    private ErrorResponse parseErrorResponse(String body) {
-        try {
-            ProblemDetailResponse problemDetail =
-                    objectMapper.readValue(body, ProblemDetailResponse.class);
-            return problemDetail.toErrorResponse();
-        } catch (JsonProcessingException e) {
-            return new ErrorResponse("UNKNOWN_ERROR", body);
+    private AuthHubException toAuthHubException(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+        if (cause instanceof AuthHubException authHubException) {
+            return authHubException;
         }
+        return new AuthHubServerException(
+                500, "CONNECTION_ERROR", "Failed to connect to AuthHub server", cause);
     }
 
     private String buildUrl(String path) {
-        StringBuilder url = new StringBuilder(config.baseUrl());
+        StringBuilder url = new StringBuilder(baseUrl.length() + path.length() + 1);
+        url.append(baseUrl);
         if (!path.startsWith("/")) {
             url.append("/");
         }
@@ -145,69 +218,13 @@ class ServiceTokenHttpClientSupport {
         return url.toString();
     }
 
-    private String toJson(Object object) {
-        try {
-            return objectMapper.writeValueAsString(object);
-        } catch (JsonProcessingException e) {
-            throw new AuthHubBadRequestException(
-                    "SERIALIZATION_ERROR", "Failed to serialize request body", e);
-        }
-    }
-
-    private <T> T fromJson(String json, TypeReference<T> typeReference) {
-        try {
-            return objectMapper.readValue(json, typeReference);
-        } catch (JsonProcessingException e) {
-            throw new AuthHubServerException(
-                    500, "DESERIALIZATION_ERROR", "Failed to parse response", e);
-        }
+    private static String quote(String eTag) {
+        return "\"" + eTag + "\"";
     }
 
-    private record ErrorResponse(String errorCode, String message) {}
-
-    @JsonIgnoreProperties(ignoreUnknown = true)
-    private record ProblemDetailResponse(
-            String type,
-            String title,
-            Integer status,
-            String detail,
-            String instance,
-            String timestamp,
-            String code,
-            Object errors,
-            String errorCode,
-            String message) {
-
-        ErrorResponse toErrorResponse() {
-            String resolvedErrorCode = resolveErrorCode();
-            String resolvedMessage = resolveMessage();
-            return new ErrorResponse(resolvedErrorCode, resolvedMessage);
-        }
-
-        private String resolveErrorCode() {
-            if (errorCode != null && !errorCode.isBlank()) {
-                return errorCode;
-            }
-            if (code != null && !code.isBlank()) {
-                return code;
-            }
-            if (title != null && !title.isBlank()) {
-                return title.toUpperCase().replace(" ", "_");
-            }
-            return "UNKNOWN_ERROR";
-        }
+    @FunctionalInterface
+    private interface ResponseReader<T> {
 
-        private String resolveMessage() {
-            if (message != null && !message.isBlank()) {
-                return message;
-            }
-            if (detail != null && !detail.isBlank()) {
-                return detail;
-            }
-            if (title != null && !title.isBlank()) {
-                return title;
-            }
-            return "An unknown error occurred";
-        }
+        T read(HttpResponse<InputStream> response) throws IOException;
     }
 }
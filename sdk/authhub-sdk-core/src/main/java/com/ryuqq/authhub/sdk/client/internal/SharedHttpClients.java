@@ -0,0 +1,37 @@
+package com.ryuqq.authhub.sdk.client.internal;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 프로세스 공유 HTTP 클라이언트.
+ *
+ * <p>{@link HttpClient}는 커넥션 풀과 셀렉터 스레드를 가지므로 SDK 클라이언트마다 만들지 않고 프로세스에서 공유합니다. 연결
+ * 타임아웃은 HttpClient 단위 설정이므로 타임아웃별로 하나씩 만들며, 보통은 하나만 생깁니다. HTTP/2를 우선 사용하고(서버가
+ * 지원하지 않으면 HTTP/1.1), 한 연결로 여러 요청을 동시에 보내 비동기 호출이 많아도 연결 수가 늘지 않습니다.
+ */
+final class SharedHttpClients {
+
+    private static final ConcurrentMap<Duration, HttpClient> CLIENTS = new ConcurrentHashMap<>();
+
+    private SharedHttpClients() {}
+
+    /**
+     * 연결 타임아웃에 해당하는 공유 클라이언트를 반환합니다.
+     *
+     * @param connectTimeout 연결 타임아웃
+     * @return 공유 HttpClient
+     */
+    static HttpClient forConnectTimeout(Duration connectTimeout) {
+        return CLIENTS.computeIfAbsent(connectTimeout, SharedHttpClients::create);
+    }
+
+    private static HttpClient create(Duration connectTimeout) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .build();
+    }
+}
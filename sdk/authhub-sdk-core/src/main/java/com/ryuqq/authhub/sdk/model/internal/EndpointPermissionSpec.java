@@ -7,6 +7,7 @@ import java.util.List;
  *
  * <p>Gateway가 URL 기반 권한 검사를 위해 사용합니다.
  *
+ * @param endpointId 엔드포인트 ID (변경분 반영 시 식별자)
  * @param serviceName 서비스 이름 (예: "product-service")
  * @param pathPattern URL 패턴 (예: "/api/v1/users/{id}")
  * @param httpMethod HTTP 메서드 (예: "GET", "POST")
@@ -16,6 +17,7 @@ import java.util.List;
  * @param description 엔드포인트 설명
  */
 public record EndpointPermissionSpec(
+        Long endpointId,
         String serviceName,
         String pathPattern,
         String httpMethod,
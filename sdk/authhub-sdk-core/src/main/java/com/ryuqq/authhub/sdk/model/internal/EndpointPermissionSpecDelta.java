@@ -0,0 +1,24 @@
+package com.ryuqq.authhub.sdk.model.internal;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 엔드포인트-권한 스펙 변경분 모델.
+ *
+ * <p>Gateway가 보유한 스펙 버전 이후의 변경분만 반영하기 위해 사용합니다.
+ *
+ * @param sinceVersion 요청한 기준 스펙 버전
+ * @param version 현재 스펙 버전 (다음 요청의 기준 버전)
+ * @param updatedAt 현재 스펙의 마지막 수정 시간
+ * @param fullSync 전체 스펙 반환 여부 (true이면 보유 스펙을 endpoints로 교체)
+ * @param endpoints 추가/변경된 엔드포인트-권한 매핑 목록
+ * @param removedEndpointIds 스펙에서 제외된 엔드포인트 ID 목록
+ */
+public record EndpointPermissionSpecDelta(
+        String sinceVersion,
+        String version,
+        Instant updatedAt,
+        boolean fullSync,
+        List<EndpointPermissionSpec> endpoints,
+        List<Long> removedEndpointIds) {}
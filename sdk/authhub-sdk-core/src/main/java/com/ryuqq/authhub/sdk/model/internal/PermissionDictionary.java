@@ -0,0 +1,56 @@
+package com.ryuqq.authhub.sdk.model.internal;
+
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 권한 사전 모델.
+ *
+ * <p>압축 권한 비트맵(토큰의 perm_bits 클레임, Gateway의 X-User-Permission-Bits 헤더)을 권한 키로 복원합니다. 비트
+ * n은 인덱스가 n인 항목을 의미합니다. 인덱스는 권한 ID와 같아 권한이 추가/삭제되어도 바뀌지 않으므로, 다른 버전의 사전으로
+ * 만든 비트맵도 복원할 수 있습니다.
+ *
+ * @param version 사전 버전 (토큰의 perm_dict 클레임과 다르면 새 권한이 빠져 있을 수 있음)
+ * @param entries 비트 인덱스 오름차순 항목 목록
+ */
+public record PermissionDictionary(String version, List<Entry> entries) {
+
+    public PermissionDictionary {
+        entries = entries == null ? List.of() : List.copyOf(entries);
+    }
+
+    /**
+     * Base64URL 비트맵을 권한 키로 복원합니다.
+     *
+     * <p>사전에 없는 인덱스의 비트(삭제된 권한 등)는 무시합니다.
+     *
+     * @param bitmap Base64URL(패딩 없음) 인코딩된 비트맵
+     * @return 권한 키 Set (비트맵이 비어 있으면 빈 Set)
+     * @throws IllegalArgumentException 비트맵이 Base64URL 형식이 아닌 경우
+     */
+    public Set<String> decode(String bitmap) {
+        if (bitmap == null || bitmap.isBlank()) {
+            return Set.of();
+        }
+        BitSet bits = BitSet.valueOf(Base64.getUrlDecoder().decode(bitmap.trim()));
+        Set<String> permissions = new HashSet<>();
+        for (Entry entry : entries) {
+            if (bits.get(entry.index())) {
+                permissions.add(entry.key());
+            }
+        }
+        return Set.copyOf(permissions);
+    }
+
+    /**
+     * 권한 사전 항목.
+     *
+     * @param index 비트 인덱스 (권한 ID)
+     * @param id 권한 ID
+     * @param key 권한 키
+     */
+    public record Entry(int index, long id, String key) {}
+}
@@ -0,0 +1,19 @@
+package com.ryuqq.authhub.sdk.model.internal;
+
+import java.util.List;
+
+/**
+ * 권한 집합 모델.
+ *
+ * <p>Thin Token의 permission_hash 클레임(Gateway의 X-User-Permission-Hash 헤더)을 권한 키 목록으로 복원합니다. 해시가
+ * 권한 키 집합으로 결정되므로 같은 해시의 권한 집합은 바뀌지 않습니다.
+ *
+ * @param hash 권한 해시
+ * @param permissions 권한 키 목록 (오름차순)
+ */
+public record PermissionSet(String hash, List<String> permissions) {
+
+    public PermissionSet {
+        permissions = permissions == null ? List.of() : List.copyOf(permissions);
+    }
+}
@@ -3,13 +3,25 @@ package com.ryuqq.authhub.sdk.model.internal;
 /**
  * 개별 공개키 모델 (RFC 7517 JWK 형식).
  *
- * <p>Gateway가 JWT 서명 검증을 위해 사용합니다.
+ * <p>Gateway가 JWT 서명 검증을 위해 사용합니다. 키 타입에 해당하지 않는 필드는 null입니다.
  *
  * @param kid Key ID
- * @param kty Key Type (RSA)
+ * @param kty Key Type (RSA, EC, OKP)
  * @param use Public Key Use (sig)
- * @param alg Algorithm (RS256)
+ * @param alg Algorithm (RS256, ES256, EdDSA)
  * @param n RSA modulus (Base64URL encoded)
  * @param e RSA public exponent (Base64URL encoded)
+ * @param crv Curve (P-256, Ed25519)
+ * @param x EC x 좌표 또는 Ed25519 공개키 (Base64URL encoded)
+ * @param y EC y 좌표 (Base64URL encoded)
  */
-public record PublicKey(String kid, String kty, String use, String alg, String n, String e) {}
+public record PublicKey(
+        String kid,
+        String kty,
+        String use,
+        String alg,
+        String n,
+        String e,
+        String crv,
+        String x,
+        String y) {}
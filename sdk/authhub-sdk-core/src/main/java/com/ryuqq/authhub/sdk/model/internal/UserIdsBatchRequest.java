@@ -0,0 +1,27 @@
+package com.ryuqq.authhub.sdk.model.internal;
+
+import java.util.List;
+
+/**
+ * 사용자 일괄 조회 요청 DTO (Internal API / M2M 전용)
+ *
+ * <p>한 번에 최대 {@value #MAX_USER_IDS}명까지 조회할 수 있습니다.
+ *
+ * @param userIds 조회할 사용자 ID 목록
+ */
+public record UserIdsBatchRequest(List<String> userIds) {
+
+    /** 한 번에 조회할 수 있는 최대 사용자 수. */
+    public static final int MAX_USER_IDS = 500;
+
+    public UserIdsBatchRequest {
+        if (userIds == null || userIds.isEmpty()) {
+            throw new IllegalArgumentException("userIds must not be empty");
+        }
+        if (userIds.size() > MAX_USER_IDS) {
+            throw new IllegalArgumentException(
+                    "userIds must not exceed " + MAX_USER_IDS + " entries");
+        }
+        userIds = List.copyOf(userIds);
+    }
+}
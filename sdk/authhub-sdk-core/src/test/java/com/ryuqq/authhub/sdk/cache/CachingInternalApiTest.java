@@ -0,0 +1,440 @@
+package com.ryuqq.authhub.sdk.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.ryuqq.authhub.sdk.api.InternalApi;
+import com.ryuqq.authhub.sdk.exception.AuthHubServerException;
+import com.ryuqq.authhub.sdk.model.common.ApiResponse;
+import com.ryuqq.authhub.sdk.model.internal.TenantConfig;
+import com.ryuqq.authhub.sdk.model.internal.UserPermissions;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * CachingInternalApi 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingInternalApi 단위 테스트")
+class CachingInternalApiTest {
+
+    private static final Duration TTL = Duration.ofSeconds(30);
+
+    @Mock private InternalApi delegate;
+
+    private MutableClock clock;
+    private CachingInternalApi sut;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(1_000L);
+        sut = CachingInternalApi.builder(delegate).ttl(TTL).maxEntries(2).clock(clock).build();
+    }
+
+    @Nested
+    @DisplayName("getUserPermissions 메서드")
+    class GetUserPermissions {
+
+        @Test
+        @DisplayName("TTL 안에서는 AuthHub를 다시 호출하지 않는다")
+        void shouldServeFromCacheWithinTtl() {
+            // given
+            ApiResponse<UserPermissions> response = permissions("user-1", "hash-1");
+            given(delegate.getUserPermissions("user-1")).willReturn(response);
+
+            // when
+            ApiResponse<UserPermissions> first = sut.getUserPermissions("user-1");
+            clock.advance(TTL.minusSeconds(1));
+            ApiResponse<UserPermissions> second = sut.getUserPermissions("user-1");
+
+            // then
+            assertThat(first).isSameAs(response);
+            assertThat(second).isSameAs(response);
+            then(delegate).should(times(1)).getUserPermissions("user-1");
+        }
+
+        @Test
+        @DisplayName("만료 후 해시가 같으면(304) 이전 값을 그대로 쓰고 TTL을 연장한다")
+        void shouldRevalidateWithHashAfterExpiry() {
+            // given
+            ApiResponse<UserPermissions> response = permissions("user-1", "hash-1");
+            given(delegate.getUserPermissions("user-1")).willReturn(response);
+            given(delegate.getUserPermissionsIfChanged("user-1", "hash-1"))
+                    .willReturn(Optional.empty());
+            sut.getUserPermissions("user-1");
+
+            // when
+            clock.advance(TTL);
+            ApiResponse<UserPermissions> revalidated = sut.getUserPermissions("user-1");
+            ApiResponse<UserPermissions> cached = sut.getUserPermissions("user-1");
+
+            // then
+            assertThat(revalidated).isSameAs(response);
+            assertThat(cached).isSameAs(response);
+            then(delegate).should(times(1)).getUserPermissions("user-1");
+            then(delegate).should(times(1)).getUserPermissionsIfChanged("user-1", "hash-1");
+        }
+
+        @Test
+        @DisplayName("만료 후 해시가 바뀌었으면 새 권한으로 교체한다")
+        void shouldReplaceWhenHashChanged() {
+            // given
+            ApiResponse<UserPermissions> changed = permissions("user-1", "hash-2");
+            given(delegate.getUserPermissions("user-1"))
+                    .willReturn(permissions("user-1", "hash-1"));
+            given(delegate.getUserPermissionsIfChanged("user-1", "hash-1"))
+                    .willReturn(Optional.of(changed));
+            sut.getUserPermissions("user-1");
+
+            // when
+            clock.advance(TTL);
+            ApiResponse<UserPermissions> result = sut.getUserPermissions("user-1");
+
+            // then
+            assertThat(result).isSameAs(changed);
+        }
+
+        @Test
+        @DisplayName("같은 사용자를 동시에 조회해도 AuthHub는 한 번만 호출한다")
+        void shouldLoadOnceForConcurrentMisses() throws Exception {
+            // given
+            CountDownLatch release = new CountDownLatch(1);
+            ApiResponse<UserPermissions> response = permissions("user-1", "hash-1");
+            given(delegate.getUserPermissions("user-1"))
+                    .willAnswer(
+                            invocation -> {
+                                release.await(5, TimeUnit.SECONDS);
+                                return response;
+                            });
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+
+            try {
+                // when
+                List<Future<ApiResponse<UserPermissions>>> futures = new ArrayList<>();
+                for (int i = 0; i < 8; i++) {
+                    futures.add(executor.submit(() -> sut.getUserPermissions("user-1")));
+                }
+                Thread.sleep(100);
+                release.countDown();
+
+                // then
+                for (Future<ApiResponse<UserPermissions>> future : futures) {
+                    assertThat(future.get(5, TimeUnit.SECONDS)).isSameAs(response);
+                }
+                then(delegate).should(times(1)).getUserPermissions("user-1");
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("조회 실패는 캐싱하지 않는다")
+        void shouldNotCacheFailures() {
+            // given
+            ApiResponse<UserPermissions> response = permissions("user-1", "hash-1");
+            given(delegate.getUserPermissions("user-1"))
+                    .willThrow(new AuthHubServerException(503, "UNAVAILABLE", "down"))
+                    .willReturn(response);
+
+            // when & then
+            assertThatThrownBy(() -> sut.getUserPermissions("user-1"))
+                    .isInstanceOf(AuthHubServerException.class);
+            assertThat(sut.getUserPermissions("user-1")).isSameAs(response);
+        }
+
+        @Test
+        @DisplayName("조회 중 Error가 발생해도 결과를 기다리던 호출 모두에 전달한다")
+        void shouldPropagateErrorToWaitingCalls() throws Exception {
+            // given
+            CountDownLatch release = new CountDownLatch(1);
+            given(delegate.getUserPermissions("user-1"))
+                    .willAnswer(
+                            invocation -> {
+                                release.await(5, TimeUnit.SECONDS);
+                                throw new LinkageError("boom");
+                            });
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+
+            try {
+                // when
+                List<Future<ApiResponse<UserPermissions>>> futures = new ArrayList<>();
+                for (int i = 0; i < 4; i++) {
+                    futures.add(executor.submit(() -> sut.getUserPermissions("user-1")));
+                }
+                Thread.sleep(100);
+                release.countDown();
+
+                // then
+                for (Future<ApiResponse<UserPermissions>> future : futures) {
+                    assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                            .isInstanceOf(ExecutionException.class)
+                            .hasCauseInstanceOf(LinkageError.class);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("최대 보관 개수를 넘으면 가장 오래 사용하지 않은 사용자부터 제거한다")
+        void shouldEvictLeastRecentlyUsed() {
+            // given
+            given(delegate.getUserPermissions("user-1"))
+                    .willReturn(permissions("user-1", "hash-1"));
+            given(delegate.getUserPermissions("user-2"))
+                    .willReturn(permissions("user-2", "hash-2"));
+            given(delegate.getUserPermissions("user-3"))
+                    .willReturn(permissions("user-3", "hash-3"));
+
+            // when
+            sut.getUserPermissions("user-1");
+            sut.getUserPermissions("user-2");
+            sut.getUserPermissions("user-1");
+            sut.getUserPermissions("user-3");
+            sut.getUserPermissions("user-1");
+            sut.getUserPermissions("user-2");
+
+            // then
+            then(delegate).should(times(1)).getUserPermissions("user-1");
+            then(delegate).should(times(2)).getUserPermissions("user-2");
+        }
+
+        @Test
+        @DisplayName("invalidateUser 후에는 다시 조회한다")
+        void shouldReloadAfterInvalidate() {
+            // given
+            given(delegate.getUserPermissions("user-1"))
+                    .willReturn(permissions("user-1", "hash-1"));
+            sut.getUserPermissions("user-1");
+
+            // when
+            sut.invalidateUser("user-1");
+            sut.getUserPermissions("user-1");
+
+            // then
+            then(delegate).should(times(2)).getUserPermissions("user-1");
+            then(delegate).should(never()).getUserPermissionsIfChanged("user-1", "hash-1");
+        }
+
+        @Test
+        @DisplayName("조회 중 invalidateUser가 호출되면 그 조회 결과는 캐싱하지 않는다")
+        void shouldNotCacheLoadStartedBeforeInvalidate() {
+            // given
+            ApiResponse<UserPermissions> stale = permissions("user-1", "hash-1");
+            ApiResponse<UserPermissions> fresh = permissions("user-1", "hash-2");
+            given(delegate.getUserPermissions("user-1"))
+                    .willAnswer(
+                            invocation -> {
+                                sut.invalidateUser("user-1");
+                                return stale;
+                            })
+                    .willReturn(fresh);
+
+            // when
+            ApiResponse<UserPermissions> first = sut.getUserPermissions("user-1");
+            ApiResponse<UserPermissions> second = sut.getUserPermissions("user-1");
+
+            // then
+            assertThat(first).isSameAs(stale);
+            assertThat(second).isSameAs(fresh);
+            then(delegate).should(times(2)).getUserPermissions("user-1");
+        }
+
+        @Test
+        @DisplayName("비동기 조회 중 invalidateUser가 호출되면 그 조회 결과는 캐싱하지 않는다")
+        void shouldNotCacheAsyncLoadStartedBeforeInvalidate() {
+            // given
+            CompletableFuture<ApiResponse<UserPermissions>> loading = new CompletableFuture<>();
+            ApiResponse<UserPermissions> fresh = permissions("user-1", "hash-2");
+            given(delegate.getUserPermissionsAsync("user-1")).willReturn(loading);
+            given(delegate.getUserPermissions("user-1")).willReturn(fresh);
+            CompletableFuture<ApiResponse<UserPermissions>> pending =
+                    sut.getUserPermissionsAsync("user-1");
+
+            // when
+            sut.invalidateUser("user-1");
+            loading.complete(permissions("user-1", "hash-1"));
+            ApiResponse<UserPermissions> result = sut.getUserPermissions("user-1");
+
+            // then
+            assertThat(pending.join().data().hash()).isEqualTo("hash-1");
+            assertThat(result).isSameAs(fresh);
+        }
+    }
+
+    @Nested
+    @DisplayName("getUserPermissionsAsync 메서드")
+    class GetUserPermissionsAsync {
+
+        @Test
+        @DisplayName("비동기 조회도 같은 캐시를 사용한다")
+        void shouldShareCacheWithSyncCalls() {
+            // given
+            ApiResponse<UserPermissions> response = permissions("user-1", "hash-1");
+            given(delegate.getUserPermissionsAsync("user-1"))
+                    .willReturn(CompletableFuture.completedFuture(response));
+
+            // when
+            ApiResponse<UserPermissions> loaded = sut.getUserPermissionsAsync("user-1").join();
+            ApiResponse<UserPermissions> cached = sut.getUserPermissions("user-1");
+
+            // then
+            assertThat(loaded).isSameAs(response);
+            assertThat(cached).isSameAs(response);
+            then(delegate).should(never()).getUserPermissions("user-1");
+        }
+
+        @Test
+        @DisplayName("만료 후 해시가 같으면(304) 이전 값을 그대로 완료한다")
+        void shouldRevalidateAsyncAfterExpiry() {
+            // given
+            ApiResponse<UserPermissions> response = permissions("user-1", "hash-1");
+            given(delegate.getUserPermissionsAsync("user-1"))
+                    .willReturn(CompletableFuture.completedFuture(response));
+            given(delegate.getUserPermissionsIfChangedAsync("user-1", "hash-1"))
+                    .willReturn(CompletableFuture.completedFuture(Optional.empty()));
+            sut.getUserPermissionsAsync("user-1").join();
+
+            // when
+            clock.advance(TTL);
+            ApiResponse<UserPermissions> result = sut.getUserPermissionsAsync("user-1").join();
+
+            // then
+            assertThat(result).isSameAs(response);
+            then(delegate).should(times(1)).getUserPermissionsAsync("user-1");
+        }
+    }
+
+    @Nested
+    @DisplayName("getTenantConfig 메서드")
+    class GetTenantConfig {
+
+        @Test
+        @DisplayName("TTL 안에서는 테넌트 설정을 다시 조회하지 않고, 만료 후에는 다시 조회한다")
+        void shouldCacheTenantConfigUntilExpiry() {
+            // given
+            ApiResponse<TenantConfig> response =
+                    new ApiResponse<>(
+                            true, new TenantConfig("tenant-1", "테넌트", "ACTIVE", true), null, null);
+            given(delegate.getTenantConfig("tenant-1")).willReturn(response);
+
+            // when
+            sut.getTenantConfig("tenant-1");
+            sut.getTenantConfig("tenant-1");
+            clock.advance(TTL);
+            sut.getTenantConfig("tenant-1");
+
+            // then
+            then(delegate).should(times(2)).getTenantConfig("tenant-1");
+        }
+    }
+
+    @Nested
+    @DisplayName("getUserPermissionsBatch 메서드")
+    class GetUserPermissionsBatch {
+
+        @Test
+        @DisplayName("일괄 조회는 캐싱하지 않고 그대로 위임한다")
+        void shouldDelegateWithoutCaching() {
+            // given
+            ApiResponse<List<UserPermissions>> response =
+                    new ApiResponse<>(
+                            true, List.of(permissions("user-1", "hash-1").data()), null, null);
+            given(delegate.getUserPermissionsBatch(List.of("user-1"))).willReturn(response);
+
+            // when
+            sut.getUserPermissionsBatch(List.of("user-1"));
+            ApiResponse<List<UserPermissions>> result =
+                    sut.getUserPermissionsBatch(List.of("user-1"));
+
+            // then
+            assertThat(result).isSameAs(response);
+            then(delegate).should(times(2)).getUserPermissionsBatch(List.of("user-1"));
+        }
+    }
+
+    @Nested
+    @DisplayName("builder")
+    class BuilderValidation {
+
+        @Test
+        @DisplayName("TTL이 0 이하이면 IllegalArgumentException")
+        void shouldRejectNonPositiveTtl() {
+            assertThatThrownBy(() -> CachingInternalApi.builder(delegate).ttl(Duration.ZERO))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("최대 보관 개수가 0 이하이면 IllegalArgumentException")
+        void shouldRejectNonPositiveMaxEntries() {
+            assertThatThrownBy(() -> CachingInternalApi.builder(delegate).maxEntries(0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private static ApiResponse<UserPermissions> permissions(String userId, String hash) {
+        UserPermissions data =
+                new UserPermissions(
+                        userId, Set.of("USER"), Set.of("user:read"), hash, Instant.EPOCH);
+        return new ApiResponse<>(true, data, null, null);
+    }
+
+    /** 테스트에서 시각을 옮길 수 있는 Clock */
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant instant;
+
+        MutableClock(long epochSecond) {
+            this.instant = Instant.ofEpochSecond(epochSecond);
+        }
+
+        void advance(Duration duration) {
+            this.instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.ryuqq.authhub.sdk.client.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
@@ -8,15 +9,22 @@ import static org.mockito.BDDMockito.then;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.ryuqq.authhub.sdk.model.common.ApiResponse;
+import com.ryuqq.authhub.sdk.model.internal.EndpointPermissionSpecDelta;
 import com.ryuqq.authhub.sdk.model.internal.EndpointPermissionSpecList;
 import com.ryuqq.authhub.sdk.model.internal.ForceChangePasswordRequest;
+import com.ryuqq.authhub.sdk.model.internal.PermissionDictionary;
+import com.ryuqq.authhub.sdk.model.internal.PermissionSet;
 import com.ryuqq.authhub.sdk.model.internal.PublicKeys;
 import com.ryuqq.authhub.sdk.model.internal.TenantConfig;
 import com.ryuqq.authhub.sdk.model.internal.UserContext;
+import com.ryuqq.authhub.sdk.model.internal.UserIdsBatchRequest;
 import com.ryuqq.authhub.sdk.model.internal.UserPermissions;
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -75,6 +83,41 @@ class DefaultInternalApiTest {
         }
     }
 
+    @Nested
+    @DisplayName("getPermissionSpecChanges 메서드")
+    class GetPermissionSpecChanges {
+
+        @Test
+        @DisplayName("기준 버전을 since 파라미터로 GET 요청을 보낸다")
+        @SuppressWarnings("unchecked")
+        void shouldCallGetWithSinceParameter() {
+            // given
+            String sinceVersion = "1736935200000-3";
+            String expectedPath =
+                    "/api/v1/internal/endpoint-permissions/spec/changes?since=" + sinceVersion;
+            EndpointPermissionSpecDelta delta =
+                    new EndpointPermissionSpecDelta(
+                            sinceVersion,
+                            "1736938800000-4",
+                            Instant.now(),
+                            false,
+                            List.of(),
+                            List.of(12L));
+            ApiResponse<EndpointPermissionSpecDelta> mockResponse =
+                    new ApiResponse<>(true, delta, null, null);
+            given(httpClient.get(eq(expectedPath), any(TypeReference.class)))
+                    .willReturn(mockResponse);
+
+            // when
+            ApiResponse<EndpointPermissionSpecDelta> result =
+                    sut.getPermissionSpecChanges(sinceVersion);
+
+            // then
+            then(httpClient).should().get(eq(expectedPath), any(TypeReference.class));
+            assertThat(result.data().removedEndpointIds()).containsExactly(12L);
+        }
+    }
+
     @Nested
     @DisplayName("getJwks 메서드")
     class GetJwks {
@@ -96,6 +139,79 @@ class DefaultInternalApiTest {
             then(httpClient).should().get(eq(expectedPath), any(TypeReference.class));
             assertThat(result).isNotNull();
         }
+
+        @Test
+        @DisplayName("비동기 조회도 같은 경로로 GET 요청을 보낸다")
+        @SuppressWarnings("unchecked")
+        void shouldCallGetAsyncWithCorrectPath() {
+            // given
+            String expectedPath = "/api/v1/auth/jwks";
+            PublicKeys mockResponse = new PublicKeys(List.of());
+            given(httpClient.getAsync(eq(expectedPath), any(TypeReference.class)))
+                    .willReturn(CompletableFuture.completedFuture(mockResponse));
+
+            // when
+            PublicKeys result = sut.getJwksAsync().join();
+
+            // then
+            then(httpClient).should().getAsync(eq(expectedPath), any(TypeReference.class));
+            assertThat(result).isSameAs(mockResponse);
+        }
+    }
+
+    @Nested
+    @DisplayName("getPermissionDictionary 메서드")
+    class GetPermissionDictionary {
+
+        @Test
+        @DisplayName("올바른 경로로 GET 요청을 보낸다")
+        @SuppressWarnings("unchecked")
+        void shouldCallGetWithCorrectPath() {
+            // given
+            String expectedPath = "/api/v1/internal/permissions/dictionary";
+            PermissionDictionary dictionary =
+                    new PermissionDictionary(
+                            "3f2a9c1d0b7e4a65",
+                            List.of(new PermissionDictionary.Entry(0, 1L, "user:read")));
+            ApiResponse<PermissionDictionary> mockResponse =
+                    new ApiResponse<>(true, dictionary, null, null);
+            given(httpClient.get(eq(expectedPath), any(TypeReference.class)))
+                    .willReturn(mockResponse);
+
+            // when
+            ApiResponse<PermissionDictionary> result = sut.getPermissionDictionary();
+
+            // then
+            then(httpClient).should().get(eq(expectedPath), any(TypeReference.class));
+            assertThat(result.data().version()).isEqualTo("3f2a9c1d0b7e4a65");
+        }
+    }
+
+    @Nested
+    @DisplayName("getPermissionSet 메서드")
+    class GetPermissionSet {
+
+        @Test
+        @DisplayName("권한 해시를 포함한 경로로 GET 요청을 보낸다")
+        @SuppressWarnings("unchecked")
+        void shouldCallGetWithCorrectPath() {
+            // given
+            String permissionHash = "0586fe3af3420aa2";
+            String expectedPath = "/api/v1/internal/permission-sets/" + permissionHash;
+            PermissionSet permissionSet =
+                    new PermissionSet(permissionHash, List.of("user:read", "user:write"));
+            ApiResponse<PermissionSet> mockResponse =
+                    new ApiResponse<>(true, permissionSet, null, null);
+            given(httpClient.get(eq(expectedPath), any(TypeReference.class)))
+                    .willReturn(mockResponse);
+
+            // when
+            ApiResponse<PermissionSet> result = sut.getPermissionSet(permissionHash);
+
+            // then
+            then(httpClient).should().get(eq(expectedPath), any(TypeReference.class));
+            assertThat(result.data().permissions()).containsExactly("user:read", "user:write");
+        }
     }
 
     @Nested
@@ -203,6 +319,34 @@ class DefaultInternalApiTest {
         }
     }
 
+    @Nested
+    @DisplayName("getUserPermissionsIfChanged 메서드")
+    class GetUserPermissionsIfChanged {
+
+        @Test
+        @DisplayName("알고 있는 해시를 ETag로 조건부 GET 요청을 보낸다")
+        @SuppressWarnings("unchecked")
+        void shouldCallConditionalGetWithKnownHash() {
+            // given
+            String userId = "test-user-id";
+            String expectedPath = String.format("/api/v1/internal/users/%s/permissions", userId);
+            given(
+                            httpClient.getIfNoneMatch(
+                                    eq(expectedPath), eq("hash123"), any(TypeReference.class)))
+                    .willReturn(Optional.empty());
+
+            // when
+            Optional<ApiResponse<UserPermissions>> result =
+                    sut.getUserPermissionsIfChanged(userId, "hash123");
+
+            // then
+            then(httpClient)
+                    .should()
+                    .getIfNoneMatch(eq(expectedPath), eq("hash123"), any(TypeReference.class));
+            assertThat(result).isEmpty();
+        }
+    }
+
     @Nested
     @DisplayName("getUserContext 메서드")
     class GetUserContext {
@@ -269,6 +413,117 @@ class DefaultInternalApiTest {
         }
     }
 
+    @Nested
+    @DisplayName("getUserPermissionsBatch 메서드")
+    class GetUserPermissionsBatch {
+
+        @Test
+        @DisplayName("사용자 ID 목록을 본문으로 한 번의 POST 요청을 보낸다")
+        @SuppressWarnings("unchecked")
+        void shouldCallPostWithUserIds() {
+            // given
+            String expectedPath = "/api/v1/internal/users/permissions:batch";
+            UserIdsBatchRequest expectedBody = new UserIdsBatchRequest(List.of("user-1", "user-2"));
+            ApiResponse<List<UserPermissions>> mockResponse =
+                    new ApiResponse<>(
+                            true,
+                            List.of(
+                                    new UserPermissions(
+                                            "user-1",
+                                            Set.of("USER"),
+                                            Set.of("read"),
+                                            "hash1",
+                                            Instant.now()),
+                                    new UserPermissions(
+                                            "user-2", Set.of(), Set.of(), "hash2", Instant.now())),
+                            null,
+                            null);
+            given(httpClient.post(eq(expectedPath), eq(expectedBody), any(TypeReference.class)))
+                    .willReturn(mockResponse);
+
+            // when
+            ApiResponse<List<UserPermissions>> result =
+                    sut.getUserPermissionsBatch(List.of("user-1", "user-2"));
+
+            // then
+            then(httpClient)
+                    .should()
+                    .post(eq(expectedPath), eq(expectedBody), any(TypeReference.class));
+            assertThat(result.data())
+                    .extracting(UserPermissions::userId)
+                    .containsExactly("user-1", "user-2");
+        }
+
+        @Test
+        @DisplayName("비동기 호출도 같은 경로로 POST 요청을 보낸다")
+        @SuppressWarnings("unchecked")
+        void shouldCallPostAsyncWithUserIds() {
+            // given
+            String expectedPath = "/api/v1/internal/users/permissions:batch";
+            UserIdsBatchRequest expectedBody = new UserIdsBatchRequest(List.of("user-1"));
+            ApiResponse<List<UserPermissions>> mockResponse =
+                    new ApiResponse<>(true, List.of(), null, null);
+            given(
+                            httpClient.postAsync(
+                                    eq(expectedPath), eq(expectedBody), any(TypeReference.class)))
+                    .willReturn(CompletableFuture.completedFuture(mockResponse));
+
+            // when
+            ApiResponse<List<UserPermissions>> result =
+                    sut.getUserPermissionsBatchAsync(List.of("user-1")).join();
+
+            // then
+            assertThat(result).isSameAs(mockResponse);
+        }
+
+        @Test
+        @DisplayName("사용자 ID 목록이 비어 있으면 요청하지 않고 IllegalArgumentException")
+        void shouldRejectEmptyUserIds() {
+            assertThatThrownBy(() -> sut.getUserPermissionsBatch(List.of()))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("getUserContextsBatch 메서드")
+    class GetUserContextsBatch {
+
+        @Test
+        @DisplayName("사용자 ID 목록을 본문으로 한 번의 POST 요청을 보낸다")
+        @SuppressWarnings("unchecked")
+        void shouldCallPostWithUserIds() {
+            // given
+            String expectedPath = "/api/v1/internal/users/context:batch";
+            UserIdsBatchRequest expectedBody = new UserIdsBatchRequest(List.of("user-1", "user-2"));
+            ApiResponse<List<UserContext>> mockResponse =
+                    new ApiResponse<>(true, List.of(), null, null);
+            given(httpClient.post(eq(expectedPath), eq(expectedBody), any(TypeReference.class)))
+                    .willReturn(mockResponse);
+
+            // when
+            ApiResponse<List<UserContext>> result =
+                    sut.getUserContextsBatch(List.of("user-1", "user-2"));
+
+            // then
+            then(httpClient)
+                    .should()
+                    .post(eq(expectedPath), eq(expectedBody), any(TypeReference.class));
+            assertThat(result).isSameAs(mockResponse);
+        }
+
+        @Test
+        @DisplayName("500개를 넘으면 요청하지 않고 IllegalArgumentException")
+        void shouldRejectTooManyUserIds() {
+            List<String> userIds =
+                    IntStream.rangeClosed(0, UserIdsBatchRequest.MAX_USER_IDS)
+                            .mapToObj(i -> "user-" + i)
+                            .toList();
+
+            assertThatThrownBy(() -> sut.getUserContextsBatch(userIds))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
     @Nested
     @DisplayName("changePassword 메서드")
     class ChangePassword {
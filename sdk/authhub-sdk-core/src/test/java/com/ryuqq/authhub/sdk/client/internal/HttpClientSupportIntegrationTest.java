@@ -10,8 +10,14 @@ import com.ryuqq.authhub.sdk.exception.AuthHubForbiddenException;
 import com.ryuqq.authhub.sdk.exception.AuthHubNotFoundException;
 import com.ryuqq.authhub.sdk.exception.AuthHubServerException;
 import com.ryuqq.authhub.sdk.exception.AuthHubUnauthorizedException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
@@ -322,6 +328,163 @@ class HttpClientSupportIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("비동기 요청")
+    class AsyncRequests {
+
+        @Test
+        @DisplayName("여러 GET 요청을 동시에 보내고 모두 응답을 받는다")
+        void shouldCompleteConcurrentGetRequests() throws InterruptedException {
+            // given
+            int requestCount = 10;
+            for (int i = 0; i < requestCount; i++) {
+                mockServer.enqueue(
+                        new MockResponse()
+                                .setResponseCode(200)
+                                .setHeader("Content-Type", "application/json")
+                                .setBody("{\"id\": 1, \"name\": \"Test\"}"));
+            }
+
+            // when
+            List<CompletableFuture<TestResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < requestCount; i++) {
+                futures.add(
+                        httpClient.getAsync(
+                                "/api/test", Map.of(), new TypeReference<TestResponse>() {}));
+            }
+
+            // then
+            for (CompletableFuture<TestResponse> future : futures) {
+                assertThat(future.join().name()).isEqualTo("Test");
+            }
+            RecordedRequest request = mockServer.takeRequest();
+            assertThat(request.getHeader("Authorization")).isEqualTo("Bearer test-token");
+        }
+
+        @Test
+        @DisplayName("POST 요청 본문을 JSON으로 전송한다")
+        void shouldPostJsonBody() throws InterruptedException {
+            // given
+            mockServer.enqueue(
+                    new MockResponse()
+                            .setResponseCode(201)
+                            .setHeader("Content-Type", "application/json")
+                            .setBody("{\"id\": 1, \"name\": \"Created\"}"));
+
+            // when
+            TestResponse response =
+                    httpClient
+                            .postAsync(
+                                    "/api/test",
+                                    new TestRequest("New Item"),
+                                    new TypeReference<TestResponse>() {})
+                            .join();
+
+            // then
+            assertThat(response.name()).isEqualTo("Created");
+            RecordedRequest request = mockServer.takeRequest();
+            assertThat(request.getMethod()).isEqualTo("POST");
+            assertThat(request.getBody().readUtf8()).contains("\"name\":\"New Item\"");
+        }
+
+        @Test
+        @DisplayName("에러 응답은 동기 요청과 같은 예외로 Future를 완료한다")
+        void shouldCompleteExceptionallyWithSameException() {
+            // given
+            mockServer.enqueue(
+                    new MockResponse()
+                            .setResponseCode(404)
+                            .setHeader("Content-Type", "application/json")
+                            .setBody(
+                                    "{\"errorCode\": \"NOT_FOUND\", \"message\": \"Resource not"
+                                            + " found\"}"));
+
+            // when
+            CompletableFuture<TestResponse> future =
+                    httpClient.getAsync(
+                            "/api/test", Map.of(), new TypeReference<TestResponse>() {});
+
+            // then
+            assertThatThrownBy(future::join)
+                    .isInstanceOf(CompletionException.class)
+                    .cause()
+                    .isInstanceOf(AuthHubNotFoundException.class)
+                    .hasMessageContaining("Resource not found");
+        }
+
+        @Test
+        @DisplayName("토큰이 없으면 요청을 보내지 않고 실패한 Future를 반환한다")
+        void shouldReturnFailedFutureWhenNoToken() {
+            // given
+            AuthHubConfig config = AuthHubConfig.of(mockServer.url("/api").toString());
+            HttpClientSupport noTokenClient = new HttpClientSupport(config, Optional::empty);
+
+            // when
+            CompletableFuture<TestResponse> future =
+                    noTokenClient.getAsync(
+                            "/api/test", Map.of(), new TypeReference<TestResponse>() {});
+
+            // then
+            assertThat(future).isCompletedExceptionally();
+            assertThat(mockServer.getRequestCount()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("응답 스트리밍")
+    class StreamingResponses {
+
+        @Test
+        @DisplayName("큰 배열 응답을 바이트 스트림에서 바로 역직렬화한다")
+        void shouldReadLargeResponse() {
+            // given
+            int itemCount = 20_000;
+            StringBuilder body = new StringBuilder("[");
+            for (int i = 0; i < itemCount; i++) {
+                if (i > 0) {
+                    body.append(',');
+                }
+                body.append("{\"id\":").append(i).append(",\"name\":\"이름").append(i).append("\"}");
+            }
+            body.append(']');
+            mockServer.enqueue(
+                    new MockResponse()
+                            .setResponseCode(200)
+                            .setHeader("Content-Type", "application/json")
+                            .setBody(body.toString()));
+
+            // when
+            List<TestResponse> response =
+                    httpClient.get(
+                            "/api/test", Map.of(), new TypeReference<List<TestResponse>>() {});
+
+            // then
+            assertThat(response).hasSize(itemCount);
+            assertThat(response.get(itemCount - 1).name()).isEqualTo("이름" + (itemCount - 1));
+        }
+
+        @Test
+        @DisplayName("응답을 끝까지 읽어 다음 요청에서 같은 연결을 재사용한다")
+        void shouldReuseConnectionAfterResponse() throws InterruptedException {
+            // given
+            for (int i = 0; i < 2; i++) {
+                mockServer.enqueue(
+                        new MockResponse()
+                                .setResponseCode(200)
+                                .setHeader("Content-Type", "application/json")
+                                .setBody("{\"id\": 1, \"name\": \"Test\"}\n\n"));
+            }
+
+            // when
+            httpClient.get("/api/test", TestResponse.class);
+            httpClient.get("/api/test", TestResponse.class);
+
+            // then
+            assertThat(mockServer.takeRequest().getSequenceNumber()).isZero();
+            assertThat(mockServer.takeRequest().getSequenceNumber()).isEqualTo(1);
+        }
+    }
+
     @Nested
     @DisplayName("Authorization 헤더")
     class AuthorizationHeader {
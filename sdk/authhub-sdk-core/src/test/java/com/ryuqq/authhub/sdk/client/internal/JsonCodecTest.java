@@ -0,0 +1,85 @@
+package com.ryuqq.authhub.sdk.client.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.ryuqq.authhub.sdk.exception.AuthHubException;
+import com.ryuqq.authhub.sdk.exception.AuthHubNotFoundException;
+import com.ryuqq.authhub.sdk.exception.AuthHubServerException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JsonCodec 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@DisplayName("JsonCodec 단위 테스트")
+class JsonCodecTest {
+
+    private final JsonCodec sut = JsonCodec.shared();
+
+    @Nested
+    @DisplayName("readerFor 메서드")
+    class ReaderFor {
+
+        @Test
+        @DisplayName("같은 타입이면 TypeReference 인스턴스가 달라도 캐싱된 리더를 반환한다")
+        void shouldReuseReaderForSameType() {
+            ObjectReader first = sut.readerFor(new TypeReference<List<Item>>() {});
+            ObjectReader second = sut.readerFor(new TypeReference<List<Item>>() {});
+
+            assertThat(first).isSameAs(second);
+        }
+    }
+
+    @Nested
+    @DisplayName("read 메서드")
+    class Read {
+
+        @Test
+        @DisplayName("성공 응답 바이트를 역직렬화한다")
+        void shouldReadSuccessBody() {
+            byte[] body = "{\"id\": 1, \"name\": \"항목\"}".getBytes(StandardCharsets.UTF_8);
+
+            Item item = sut.read(200, body, sut.readerFor(Item.class));
+
+            assertThat(item).isEqualTo(new Item(1, "항목"));
+        }
+
+        @Test
+        @DisplayName("ProblemDetail 에러 응답을 상태 코드별 예외로 변환한다")
+        void shouldMapProblemDetailToException() {
+            byte[] body =
+                    "{\"title\": \"Not Found\", \"detail\": \"user missing\", \"code\": \"U404\"}"
+                            .getBytes(StandardCharsets.UTF_8);
+
+            assertThatThrownBy(() -> sut.read(404, body, sut.readerFor(Item.class)))
+                    .isInstanceOf(AuthHubNotFoundException.class)
+                    .hasMessageContaining("user missing")
+                    .extracting(e -> ((AuthHubException) e).getErrorCode())
+                    .isEqualTo("U404");
+        }
+
+        @Test
+        @DisplayName("응답 본문이 타입과 맞지 않으면 DESERIALIZATION_ERROR")
+        void shouldFailWithDeserializationError() {
+            byte[] body = "[1, 2]".getBytes(StandardCharsets.UTF_8);
+
+            assertThatThrownBy(() -> sut.read(200, body, sut.readerFor(Item.class)))
+                    .isInstanceOf(AuthHubServerException.class)
+                    .extracting(e -> ((AuthHubException) e).getErrorCode())
+                    .isEqualTo("DESERIALIZATION_ERROR");
+        }
+    }
+
+    record Item(int id, String name) {}
+}
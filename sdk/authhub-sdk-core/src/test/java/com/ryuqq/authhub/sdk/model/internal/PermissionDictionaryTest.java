@@ -0,0 +1,67 @@
+package com.ryuqq.authhub.sdk.model.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PermissionDictionary")
+class PermissionDictionaryTest {
+
+    private static final PermissionDictionary DICTIONARY =
+            new PermissionDictionary(
+                    "v1",
+                    List.of(
+                            new PermissionDictionary.Entry(0, 1L, "user:read"),
+                            new PermissionDictionary.Entry(1, 7L, "order:read"),
+                            new PermissionDictionary.Entry(2, 12L, "order:write")));
+
+    @Nested
+    @DisplayName("decode")
+    class Decode {
+
+        @Test
+        @DisplayName("설정된 비트 인덱스의 권한 키를 복원")
+        void shouldDecodeSetBits() {
+            BitSet bits = new BitSet();
+            bits.set(0);
+            bits.set(2);
+
+            assertThat(DICTIONARY.decode(encode(bits)))
+                    .containsExactlyInAnyOrder("user:read", "order:write");
+        }
+
+        @Test
+        @DisplayName("사전에 없는 인덱스는 무시")
+        void shouldIgnoreUnknownIndices() {
+            BitSet bits = new BitSet();
+            bits.set(1);
+            bits.set(40);
+
+            assertThat(DICTIONARY.decode(encode(bits))).containsExactly("order:read");
+        }
+
+        @Test
+        @DisplayName("빈 비트맵은 빈 Set")
+        void shouldReturnEmptyForBlank() {
+            assertThat(DICTIONARY.decode(null)).isEmpty();
+            assertThat(DICTIONARY.decode("")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Base64URL 형식이 아니면 IllegalArgumentException")
+        void shouldRejectMalformedBitmap() {
+            assertThatThrownBy(() -> DICTIONARY.decode("!!"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private static String encode(BitSet bits) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bits.toByteArray());
+    }
+}
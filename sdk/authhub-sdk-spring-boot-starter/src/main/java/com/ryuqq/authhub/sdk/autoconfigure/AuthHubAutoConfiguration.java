@@ -1,14 +1,18 @@
 package com.ryuqq.authhub.sdk.autoconfigure;
 
 import com.ryuqq.authhub.sdk.api.AuthApi;
+import com.ryuqq.authhub.sdk.api.InternalApi;
 import com.ryuqq.authhub.sdk.api.OnboardingApi;
 import com.ryuqq.authhub.sdk.api.UserApi;
 import com.ryuqq.authhub.sdk.auth.ChainTokenResolver;
 import com.ryuqq.authhub.sdk.auth.ThreadLocalTokenResolver;
 import com.ryuqq.authhub.sdk.auth.TokenResolver;
+import com.ryuqq.authhub.sdk.cache.CachingInternalApi;
 import com.ryuqq.authhub.sdk.client.AuthHubClient;
 import com.ryuqq.authhub.sdk.client.AuthHubClientBuilder;
+import com.ryuqq.authhub.sdk.client.GatewayClient;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -28,6 +32,8 @@ import org.springframework.core.Ordered;
  *   <li>{@link AuthHubClient} - 메인 클라이언트
  *   <li>{@link AuthApi} - 인증 API (로그인, 로그아웃, 토큰 갱신, 내 정보 조회)
  *   <li>{@link OnboardingApi} - 온보딩 API (테넌트 + 조직 일괄 생성)
+ *   <li>{@link InternalApi} - {@link GatewayClient} Bean이 있을 때 Internal API (authhub.cache.enabled면
+ *       캐싱)
  * </ul>
  *
  * <p>설정 예시:
@@ -112,6 +118,27 @@ public class AuthHubAutoConfiguration {
         return client.user();
     }
 
+    /**
+     * InternalApi Bean - GatewayClient의 Internal API.
+     *
+     * <p>authhub.cache.enabled=true이면 사용자 권한, 사용자 컨텍스트, 테넌트 설정 조회를 {@link CachingInternalApi}로
+     * 캐싱합니다.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(GatewayClient.class)
+    public InternalApi internalApi(GatewayClient gatewayClient) {
+        InternalApi internalApi = gatewayClient.internal();
+        AuthHubProperties.Cache cache = properties.getCache();
+        if (!cache.isEnabled()) {
+            return internalApi;
+        }
+        return CachingInternalApi.builder(internalApi)
+                .ttl(cache.getTtl())
+                .maxEntries(cache.getMaxEntries())
+                .build();
+    }
+
     /**
      * AuthHubTokenContextFilter 자동 등록.
      *
@@ -15,6 +15,10 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  *   timeout:
  *     connect: 5s
  *     read: 30s
+ *   cache:
+ *     enabled: true
+ *     ttl: 30s
+ *     max-entries: 10000
  * </pre>
  */
 @ConfigurationProperties(prefix = "authhub")
@@ -35,6 +39,9 @@ public class AuthHubProperties {
     /** 재시도 설정. */
     private final Retry retry = new Retry();
 
+    /** Internal API 조회 캐시 설정. */
+    private final Cache cache = new Cache();
+
     public String getBaseUrl() {
         return baseUrl;
     }
@@ -67,6 +74,10 @@ public class AuthHubProperties {
         return retry;
     }
 
+    public Cache getCache() {
+        return cache;
+    }
+
     /** 타임아웃 설정. */
     public static class Timeout {
 
@@ -129,4 +140,41 @@ public class AuthHubProperties {
             this.delay = delay;
         }
     }
+
+    /** Internal API 조회(사용자 권한, 사용자 컨텍스트, 테넌트 설정) 캐시 설정. */
+    public static class Cache {
+
+        /** 캐시 활성화 여부. 기본값: false */
+        private boolean enabled = false;
+
+        /** 항목 유효 기간. 만료 후에는 권한 해시로 변경 여부만 확인합니다. 기본값: 30초 */
+        private Duration ttl = Duration.ofSeconds(30);
+
+        /** 캐시별 최대 보관 개수. 기본값: 10000 */
+        private int maxEntries = 10_000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+    }
 }
@@ -3,6 +3,8 @@ package com.ryuqq.authhub.sdk.filter;
 import com.ryuqq.authhub.sdk.context.UserContext;
 import com.ryuqq.authhub.sdk.context.UserContextHolder;
 import com.ryuqq.authhub.sdk.header.GatewayHeaderParser;
+import com.ryuqq.authhub.sdk.header.PermissionBitmapDecoder;
+import com.ryuqq.authhub.sdk.header.PermissionSetResolver;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -55,6 +57,10 @@ import org.springframework.web.filter.OncePerRequestFilter;
  *   <li>X-User-Email → email
  *   <li>X-User-Roles → roles (쉼표 구분)
  *   <li>X-User-Permissions → permissions (쉼표 구분)
+ *   <li>X-User-Permission-Bits → permissions (X-User-Permissions가 없고 {@link
+ *       PermissionBitmapDecoder}를 지정한 경우)
+ *   <li>X-User-Permission-Hash → permissions (권한 목록과 비트맵이 모두 없고 {@link
+ *       PermissionSetResolver}를 지정한 경우)
  *   <li>X-Correlation-Id → correlationId
  * </ul>
  *
@@ -67,6 +73,36 @@ public class GatewayAuthenticationFilter extends OncePerRequestFilter {
 
     private static final Logger log = LoggerFactory.getLogger(GatewayAuthenticationFilter.class);
 
+    private final PermissionBitmapDecoder permissionBitmapDecoder;
+    private final PermissionSetResolver permissionSetResolver;
+
+    /** 권한 비트맵을 사용하지 않는 필터 생성 */
+    public GatewayAuthenticationFilter() {
+        this(null, null);
+    }
+
+    /**
+     * 권한 비트맵 복원기를 사용하는 필터 생성
+     *
+     * @param permissionBitmapDecoder 압축 권한 비트맵 복원기 (null이면 비트맵 무시)
+     */
+    public GatewayAuthenticationFilter(PermissionBitmapDecoder permissionBitmapDecoder) {
+        this(permissionBitmapDecoder, null);
+    }
+
+    /**
+     * 권한 비트맵 복원기와 권한 집합 복원기를 사용하는 필터 생성
+     *
+     * @param permissionBitmapDecoder 압축 권한 비트맵 복원기 (null이면 비트맵 무시)
+     * @param permissionSetResolver Thin Token 권한 집합 복원기 (null이면 해시 무시)
+     */
+    public GatewayAuthenticationFilter(
+            PermissionBitmapDecoder permissionBitmapDecoder,
+            PermissionSetResolver permissionSetResolver) {
+        this.permissionBitmapDecoder = permissionBitmapDecoder;
+        this.permissionSetResolver = permissionSetResolver;
+    }
+
     @Override
     protected void doFilterInternal(
             HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -74,7 +110,9 @@ public class GatewayAuthenticationFilter extends OncePerRequestFilter {
 
         try {
             // 1. Gateway 헤더 파싱 → UserContext 생성
-            UserContext context = GatewayHeaderParser.parse(request::getHeader);
+            UserContext context =
+                    GatewayHeaderParser.parse(
+                            request::getHeader, permissionBitmapDecoder, permissionSetResolver);
 
             // 2. ThreadLocal에 저장
             UserContextHolder.setContext(context);
@@ -0,0 +1,148 @@
+package com.ryuqq.authhub.sdk.filter;
+
+import com.ryuqq.authhub.sdk.context.UserContext;
+import com.ryuqq.authhub.sdk.context.UserContextHolder;
+import com.ryuqq.authhub.sdk.exception.AuthenticationException;
+import com.ryuqq.authhub.sdk.header.SecurityHeaders;
+import com.ryuqq.authhub.sdk.token.AccessTokenVerifier;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * JwtAuthenticationFilter - Access Token 오프라인 검증 필터
+ *
+ * <p>Gateway를 거치지 않는 서비스에서 Authorization: Bearer 토큰을 AuthHub JWKS 공개키로 직접 검증하여 UserContext를
+ * 생성하고 ThreadLocal에 저장합니다. 요청마다 AuthHub를 호출하지 않습니다.
+ *
+ * <p><strong>처리 흐름:</strong>
+ *
+ * <ol>
+ *   <li>Authorization 헤더에서 Bearer 토큰 추출
+ *   <li>{@link AccessTokenVerifier}로 서명/Claim 검증 → UserContext 생성 (검증 결과는 exp까지 캐싱)
+ *   <li>UserContextHolder에 저장 (ThreadLocal)
+ *   <li>요청 완료 후 자동 정리 (finally 블록)
+ * </ol>
+ *
+ * <p>토큰이 없거나 검증에 실패하면 요청을 거부하지 않고 익명 UserContext로 진행합니다. 인증 필요 여부는 {@code
+ * AccessChecker} 등 이후 단계에서 판단합니다.
+ *
+ * <p><strong>사용 방법:</strong>
+ *
+ * <pre>{@code
+ * @Bean
+ * public JwtAuthenticationFilter jwtAuthenticationFilter(GatewayClient gatewayClient) {
+ *     JwksKeyStore keyStore = new JwksKeyStore(() -> gatewayClient.internal().getJwks());
+ *     return new JwtAuthenticationFilter(
+ *             AccessTokenVerifier.builder(keyStore).issuer("authhub").build());
+ * }
+ * }</pre>
+ *
+ * @author development-team
+ * @since 1.0.0
+ * @see AccessTokenVerifier
+ * @see UserContextHolder
+ */
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
+
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final AccessTokenVerifier verifier;
+
+    /**
+     * @param verifier Access Token 검증기
+     */
+    public JwtAuthenticationFilter(AccessTokenVerifier verifier) {
+        if (verifier == null) {
+            throw new IllegalArgumentException("verifier must not be null");
+        }
+        this.verifier = verifier;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        try {
+            UserContextHolder.setContext(authenticate(request));
+            filterChain.doFilter(request, response);
+        } finally {
+            UserContextHolder.clearContext();
+        }
+    }
+
+    private UserContext authenticate(HttpServletRequest request) {
+        String correlationId = request.getHeader(SecurityHeaders.CORRELATION_ID);
+        String requestSource = request.getHeader(SecurityHeaders.REQUEST_SOURCE);
+        String token = extractToken(request.getHeader(AUTHORIZATION_HEADER));
+        if (token == null) {
+            return UserContext.builder()
+                    .correlationId(correlationId)
+                    .requestSource(requestSource)
+                    .build();
+        }
+        try {
+            UserContext verified = verifier.verify(token);
+            if (log.isDebugEnabled()) {
+                log.debug(
+                        "JWT auth context set: userId={}, tenantId={}, uri={}",
+                        verified.getUserId(),
+                        verified.getTenantId(),
+                        request.getRequestURI());
+            }
+            if (correlationId == null && requestSource == null) {
+                return verified;
+            }
+            return UserContext.builder()
+                    .userId(verified.getUserId())
+                    .tenantId(verified.getTenantId())
+                    .organizationId(verified.getOrganizationId())
+                    .email(verified.getEmail())
+                    .roles(verified.getRoles())
+                    .permissions(verified.getPermissions())
+                    .correlationId(correlationId)
+                    .requestSource(requestSource)
+                    .build();
+        } catch (AuthenticationException e) {
+            log.debug(
+                    "JWT verification failed: code={}, uri={}",
+                    e.getErrorCode(),
+                    request.getRequestURI());
+            return UserContext.builder()
+                    .correlationId(correlationId)
+                    .requestSource(requestSource)
+                    .build();
+        }
+    }
+
+    private static String extractToken(String authorization) {
+        int prefixLength = BEARER_PREFIX.length();
+        if (authorization == null
+                || !authorization.regionMatches(true, 0, BEARER_PREFIX, 0, prefixLength)) {
+            return null;
+        }
+        String token = authorization.substring(prefixLength).trim();
+        return token.isEmpty() ? null : token;
+    }
+
+    /**
+     * 특정 경로 제외 여부 확인 (선택적 오버라이드)
+     *
+     * @param request HTTP 요청
+     * @return 필터 제외 여부
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return uri.startsWith("/actuator/") || uri.equals("/health");
+    }
+}
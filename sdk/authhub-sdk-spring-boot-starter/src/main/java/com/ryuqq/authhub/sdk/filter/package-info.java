@@ -8,6 +8,7 @@
  * <ul>
  *   <li>{@link com.ryuqq.authhub.sdk.filter.GatewayAuthenticationFilter} - Gateway 헤더 기반 인증
  *   <li>{@link com.ryuqq.authhub.sdk.filter.ServiceTokenAuthenticationFilter} - 내부 서비스 간 통신 인증
+ *   <li>{@link com.ryuqq.authhub.sdk.filter.JwtAuthenticationFilter} - Access Token 오프라인 검증 인증
  * </ul>
  *
  * <p><strong>의존성:</strong>
@@ -21,6 +21,9 @@ import java.util.stream.Collectors;
  *   <li>X-User-Email: 사용자 이메일
  *   <li>X-User-Roles: 역할 목록 (쉼표 구분)
  *   <li>X-User-Permissions: 권한 목록 (쉼표 구분)
+ *   <li>X-User-Permission-Bits / X-User-Permission-Dict: 압축 권한 비트맵과 사전 버전 ({@link
+ *       PermissionBitmapDecoder} 사용 시)
+ *   <li>X-User-Permission-Hash: Thin Token 권한 집합 해시 ({@link PermissionSetResolver} 사용 시)
  *   <li>X-Correlation-Id: 분산 추적 ID
  *   <li>X-Request-Source: 요청 출처
  * </ul>
@@ -56,6 +59,38 @@ public final class GatewayHeaderParser {
      * @return 파싱된 UserContext
      */
     public static UserContext parse(Function<String, String> headerGetter) {
+        return parse(headerGetter, null);
+    }
+
+    /**
+     * 헤더 함수와 권한 비트맵 복원기를 사용하여 UserContext 생성
+     *
+     * <p>X-User-Permissions 헤더가 없으면 X-User-Permission-Bits 비트맵을 권한 사전으로 복원합니다.
+     *
+     * @param headerGetter 헤더 이름으로 값을 반환하는 함수
+     * @param bitmapDecoder 권한 비트맵 복원기 (null이면 비트맵 무시)
+     * @return 파싱된 UserContext
+     */
+    public static UserContext parse(
+            Function<String, String> headerGetter, PermissionBitmapDecoder bitmapDecoder) {
+        return parse(headerGetter, bitmapDecoder, null);
+    }
+
+    /**
+     * 헤더 함수와 권한 복원기들을 사용하여 UserContext 생성
+     *
+     * <p>X-User-Permissions 헤더가 없으면 X-User-Permission-Bits 비트맵을, 비트맵도 없으면
+     * X-User-Permission-Hash 해시를 권한 키로 복원합니다.
+     *
+     * @param headerGetter 헤더 이름으로 값을 반환하는 함수
+     * @param bitmapDecoder 권한 비트맵 복원기 (null이면 비트맵 무시)
+     * @param permissionSetResolver 권한 집합 복원기 (null이면 해시 무시)
+     * @return 파싱된 UserContext
+     */
+    public static UserContext parse(
+            Function<String, String> headerGetter,
+            PermissionBitmapDecoder bitmapDecoder,
+            PermissionSetResolver permissionSetResolver) {
         if (headerGetter == null) {
             return UserContext.builder().build();
         }
@@ -72,6 +107,17 @@ public final class GatewayHeaderParser {
 
         Set<String> roles = parseCommaSeparated(rolesHeader);
         Set<String> permissions = parseCommaSeparated(permissionsHeader);
+        if (permissions.isEmpty() && bitmapDecoder != null) {
+            permissions =
+                    bitmapDecoder.decode(
+                            headerGetter.apply(SecurityHeaders.PERMISSION_BITS),
+                            headerGetter.apply(SecurityHeaders.PERMISSION_DICTIONARY_VERSION));
+        }
+        if (permissions.isEmpty() && permissionSetResolver != null) {
+            permissions =
+                    permissionSetResolver.resolve(
+                            headerGetter.apply(SecurityHeaders.PERMISSION_HASH));
+        }
 
         // 역할에 ROLE_ 접두사 정규화
         Set<String> normalizedRoles = normalizeRoles(roles);
@@ -0,0 +1,135 @@
+package com.ryuqq.authhub.sdk.header;
+
+import com.ryuqq.authhub.sdk.model.internal.PermissionDictionary;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * PermissionBitmapDecoder - 압축 권한 비트맵 복원기
+ *
+ * <p>Gateway가 X-User-Permissions 대신 X-User-Permission-Bits(권한 ID 비트맵)를 전달할 때, AuthHub 권한 사전으로
+ * 권한 키를 복원합니다. 비트 위치는 권한 ID로 고정이므로 사전 버전이 달라도 복원할 수 있고, 사전에 없는 비트(삭제된 권한)만
+ * 무시됩니다. 헤더의 사전 버전(X-User-Permission-Dict)은 보유 사전에 새 권한이 빠져 있는지 판단하는 데만 사용합니다.
+ *
+ * <p><strong>조회 규칙:</strong>
+ *
+ * <ul>
+ *   <li>보유 사전의 버전이 헤더 버전과 다르면 다시 조회
+ *   <li>동시에 여러 요청이 새 버전을 만나도 조회는 한 번만 수행 (나머지는 결과를 공유)
+ *   <li>조회는 최소 간격(기본 {@value #DEFAULT_MIN_RELOAD_INTERVAL_SECONDS}초)에 한 번으로 제한
+ *   <li>조회 후에도 버전이 다르면 보유 사전으로 복원. 사전을 한 번도 구하지 못했으면 빈 권한
+ * </ul>
+ *
+ * <p><strong>사용 예시:</strong>
+ *
+ * <pre>{@code
+ * PermissionBitmapDecoder decoder = new PermissionBitmapDecoder(
+ *     () -> gatewayClient.internal().getPermissionDictionary().data()
+ * );
+ * GatewayAuthenticationFilter filter = new GatewayAuthenticationFilter(decoder);
+ * }</pre>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public final class PermissionBitmapDecoder {
+
+    private static final Logger log = LoggerFactory.getLogger(PermissionBitmapDecoder.class);
+
+    static final long DEFAULT_MIN_RELOAD_INTERVAL_SECONDS = 5L;
+
+    private final Supplier<PermissionDictionary> loader;
+    private final long minReloadIntervalNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile PermissionDictionary dictionary;
+    private volatile boolean attempted;
+    private volatile long lastAttemptedAtNanos;
+
+    /**
+     * @param loader 권한 사전 조회 함수 (AuthHub Internal API 호출)
+     */
+    public PermissionBitmapDecoder(Supplier<PermissionDictionary> loader) {
+        this(loader, Duration.ofSeconds(DEFAULT_MIN_RELOAD_INTERVAL_SECONDS));
+    }
+
+    /**
+     * @param loader 권한 사전 조회 함수 (AuthHub Internal API 호출)
+     * @param minReloadInterval 최소 재조회 간격
+     */
+    public PermissionBitmapDecoder(
+            Supplier<PermissionDictionary> loader, Duration minReloadInterval) {
+        if (loader == null) {
+            throw new IllegalArgumentException("loader must not be null");
+        }
+        if (minReloadInterval == null || minReloadInterval.isNegative()) {
+            throw new IllegalArgumentException("minReloadInterval must not be negative");
+        }
+        this.loader = loader;
+        this.minReloadIntervalNanos = minReloadInterval.toNanos();
+    }
+
+    /**
+     * 비트맵을 권한 키로 복원
+     *
+     * @param bitmap Base64URL 인코딩된 권한 ID 비트맵
+     * @param version 비트맵을 만든 사전 버전 (없으면 보유 사전 사용)
+     * @return 권한 키 Set (사전을 구할 수 없으면 빈 Set)
+     */
+    public Set<String> decode(String bitmap, String version) {
+        if (bitmap == null || bitmap.isBlank()) {
+            return Set.of();
+        }
+        PermissionDictionary current =
+                resolve(version == null || version.isBlank() ? null : version);
+        if (current == null) {
+            log.warn("Ignoring permission bitmap: permission dictionary is not available");
+            return Set.of();
+        }
+        try {
+            return current.decode(bitmap);
+        } catch (IllegalArgumentException e) {
+            log.warn("Malformed permission bitmap header: {}", e.getMessage());
+            return Set.of();
+        }
+    }
+
+    private PermissionDictionary resolve(String version) {
+        PermissionDictionary current = dictionary;
+        if (matches(current, version)) {
+            return current;
+        }
+        lock.lock();
+        try {
+            current = dictionary;
+            if (matches(current, version) || !isReloadable()) {
+                return current;
+            }
+            attempted = true;
+            lastAttemptedAtNanos = System.nanoTime();
+            try {
+                PermissionDictionary loaded = loader.get();
+                if (loaded != null) {
+                    dictionary = loaded;
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to load permission dictionary: {}", e.getMessage());
+            }
+            return dictionary;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isReloadable() {
+        return !attempted || System.nanoTime() - lastAttemptedAtNanos >= minReloadIntervalNanos;
+    }
+
+    private static boolean matches(PermissionDictionary current, String version) {
+        return current != null && (version == null || version.equals(current.version()));
+    }
+}
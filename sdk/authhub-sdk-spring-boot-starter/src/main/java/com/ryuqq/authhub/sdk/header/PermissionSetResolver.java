@@ -0,0 +1,139 @@
+package com.ryuqq.authhub.sdk.header;
+
+import com.ryuqq.authhub.sdk.model.internal.PermissionSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * PermissionSetResolver - Thin Token 권한 집합 복원기
+ *
+ * <p>Gateway가 권한 목록 대신 X-User-Permission-Hash(토큰의 permission_hash)만 전달할 때, AuthHub 권한 집합 API로
+ * 권한 키를 복원합니다. 해시가 권한 키 집합으로 결정되어 같은 해시의 결과는 바뀌지 않으므로 만료 없이 캐싱하고, 보관 개수만
+ * LRU로 제한합니다.
+ *
+ * <p><strong>조회 규칙:</strong>
+ *
+ * <ul>
+ *   <li>같은 해시를 동시에 여러 요청이 만나도 조회는 한 번만 수행 (나머지는 결과를 공유)
+ *   <li>빈 해시는 조회 없이 빈 권한
+ *   <li>조회 실패 시 빈 권한을 반환하고 캐싱하지 않음 (다음 요청에서 다시 조회)
+ * </ul>
+ *
+ * <p><strong>사용 예시:</strong>
+ *
+ * <pre>{@code
+ * PermissionSetResolver resolver = new PermissionSetResolver(
+ *     hash -> gatewayClient.internal().getPermissionSet(hash).data()
+ * );
+ * GatewayAuthenticationFilter filter = new GatewayAuthenticationFilter(null, resolver);
+ * }</pre>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public final class PermissionSetResolver {
+
+    private static final Logger log = LoggerFactory.getLogger(PermissionSetResolver.class);
+
+    /** 기본 최대 보관 개수 */
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+    private final Function<String, PermissionSet> loader;
+    private final Map<String, Set<String>> cache;
+    private final Map<String, CompletableFuture<Set<String>>> inFlight = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * @param loader 권한 집합 조회 함수 (AuthHub Internal API 호출)
+     */
+    public PermissionSetResolver(Function<String, PermissionSet> loader) {
+        this(loader, DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * @param loader 권한 집합 조회 함수 (AuthHub Internal API 호출)
+     * @param maxEntries 최대 보관 개수 (초과 시 가장 오래 사용하지 않은 해시부터 제거)
+     */
+    public PermissionSetResolver(Function<String, PermissionSet> loader, int maxEntries) {
+        if (loader == null) {
+            throw new IllegalArgumentException("loader must not be null");
+        }
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        this.loader = loader;
+        this.cache =
+                new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, Set<String>> eldest) {
+                        return size() > maxEntries;
+                    }
+                };
+    }
+
+    /**
+     * 권한 해시를 권한 키로 복원
+     *
+     * @param permissionHash 권한 해시
+     * @return 권한 키 Set (복원할 수 없으면 빈 Set)
+     */
+    public Set<String> resolve(String permissionHash) {
+        if (permissionHash == null || permissionHash.isBlank()) {
+            return Set.of();
+        }
+        String hash = permissionHash.trim();
+        Set<String> cached = getCached(hash);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<Set<String>> mine = new CompletableFuture<>();
+        CompletableFuture<Set<String>> existing = inFlight.putIfAbsent(hash, mine);
+        if (existing != null) {
+            return existing.join();
+        }
+        try {
+            Set<String> loaded = load(hash);
+            mine.complete(loaded);
+            return loaded;
+        } finally {
+            inFlight.remove(hash, mine);
+        }
+    }
+
+    private Set<String> load(String hash) {
+        try {
+            PermissionSet permissionSet = loader.apply(hash);
+            if (permissionSet == null) {
+                return Set.of();
+            }
+            Set<String> permissions = Set.copyOf(permissionSet.permissions());
+            lock.lock();
+            try {
+                cache.put(hash, permissions);
+            } finally {
+                lock.unlock();
+            }
+            return permissions;
+        } catch (RuntimeException e) {
+            log.warn("Failed to load permission set for hash {}: {}", hash, e.getMessage());
+            return Set.of();
+        }
+    }
+
+    private Set<String> getCached(String hash) {
+        lock.lock();
+        try {
+            return cache.get(hash);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -35,6 +35,15 @@ public final class SecurityHeaders {
     /** 사용자 권한 목록 (쉼표 구분) */
     public static final String PERMISSIONS = "X-User-Permissions";
 
+    /** 사용자 권한 인덱스 비트맵 (Base64URL, X-User-Permissions가 없을 때 사용) */
+    public static final String PERMISSION_BITS = "X-User-Permission-Bits";
+
+    /** 권한 비트맵을 만든 권한 사전 버전 */
+    public static final String PERMISSION_DICTIONARY_VERSION = "X-User-Permission-Dict";
+
+    /** 사용자 권한 집합 해시 (Thin Token, X-User-Permissions와 비트맵이 모두 없을 때 사용) */
+    public static final String PERMISSION_HASH = "X-User-Permission-Hash";
+
     /** 사용자 이메일 */
     public static final String USER_EMAIL = "X-User-Email";
 
@@ -0,0 +1,367 @@
+package com.ryuqq.authhub.sdk.token;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ryuqq.authhub.sdk.context.UserContext;
+import com.ryuqq.authhub.sdk.exception.AuthenticationException;
+import com.ryuqq.authhub.sdk.exception.SecurityErrorCode;
+import com.ryuqq.authhub.sdk.header.GatewayHeaderParser;
+import com.ryuqq.authhub.sdk.header.PermissionBitmapDecoder;
+import com.ryuqq.authhub.sdk.header.PermissionSetResolver;
+import com.ryuqq.authhub.sdk.token.JwksKeyStore.VerificationKey;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Signature;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Set;
+
+/**
+ * AccessTokenVerifier - AuthHub Access Token 오프라인 검증기
+ *
+ * <p>AuthHub를 호출하지 않고 JWKS 공개키로 Access Token 서명과 Claim을 검증한 뒤 UserContext를 만듭니다. 검증에 성공한
+ * 토큰은 토큰 SHA-256 다이제스트를 키로 만료(exp) 시각까지 캐싱하므로, 같은 토큰의 반복 요청은 서명 검증과 JSON 파싱 없이
+ * 처리됩니다. ES256/EdDSA 서명 검증은 RS256보다 수십 배 느리므로 캐시가 특히 효과적입니다.
+ *
+ * <p>perm_bits나 permission_hash로 권한을 복원하지 못한 토큰(권한 사전/권한 집합 조회 실패 등)은 서명과 Claim 검증 결과만
+ * 캐싱하고, 같은 토큰의 다음 요청에서 권한 복원을 다시 시도합니다. 일시적인 조회 실패가 토큰 만료까지 빈 권한으로 남지 않습니다.
+ *
+ * <p><strong>검증 규칙:</strong>
+ *
+ * <ul>
+ *   <li>헤더의 kid로 찾은 키의 알고리즘과 헤더 alg가 같아야 함 (alg 혼동 방지)
+ *   <li>exp 필수, nbf는 있으면 확인 (허용 시계 오차 적용)
+ *   <li>issuer를 지정하면 iss가 같아야 함
+ *   <li>token_type이 있으면 access여야 함
+ * </ul>
+ *
+ * <p><strong>Claim → UserContext 매핑:</strong>
+ *
+ * <ul>
+ *   <li>sub → userId, tid → tenantId, oid → organizationId, email → email
+ *   <li>roles → roles (ROLE_ 접두사 정규화)
+ *   <li>permissions → permissions
+ *   <li>perm_bits / perm_dict → permissions (permissions가 없고 {@link PermissionBitmapDecoder}를
+ *       지정한 경우)
+ *   <li>permission_hash → permissions (권한 목록과 비트맵이 모두 없고 {@link PermissionSetResolver}를
+ *       지정한 경우)
+ * </ul>
+ *
+ * <p><strong>사용 예시:</strong>
+ *
+ * <pre>{@code
+ * AccessTokenVerifier verifier = AccessTokenVerifier.builder(keyStore)
+ *     .issuer("authhub")
+ *     .permissionSetResolver(resolver)
+ *     .build();
+ * UserContext context = verifier.verify(accessToken);
+ * }</pre>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public final class AccessTokenVerifier {
+
+    /** 기본 최대 캐시 개수 */
+    public static final int DEFAULT_MAX_CACHED_TOKENS = 10_000;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Base64.Decoder BASE64_URL = Base64.getUrlDecoder();
+    private static final HexFormat HEX = HexFormat.of();
+    private static final String ACCESS_TOKEN_TYPE = "access";
+
+    private final JwksKeyStore keyStore;
+    private final String issuer;
+    private final long clockSkewMillis;
+    private final PermissionBitmapDecoder permissionBitmapDecoder;
+    private final PermissionSetResolver permissionSetResolver;
+    private final Clock clock;
+    private final StripedLruCache<String, VerifiedToken> cache;
+
+    private AccessTokenVerifier(Builder builder) {
+        this.keyStore = builder.keyStore;
+        this.issuer = builder.issuer;
+        this.clockSkewMillis = builder.clockSkew.toMillis();
+        this.permissionBitmapDecoder = builder.permissionBitmapDecoder;
+        this.permissionSetResolver = builder.permissionSetResolver;
+        this.clock = builder.clock;
+        this.cache = new StripedLruCache<>(builder.maxCachedTokens);
+    }
+
+    /**
+     * @param keyStore JWKS 공개키 저장소
+     * @return Builder
+     */
+    public static Builder builder(JwksKeyStore keyStore) {
+        return new Builder(keyStore);
+    }
+
+    /**
+     * Access Token 검증 후 UserContext 생성
+     *
+     * @param token Access Token (Bearer 접두사 제외)
+     * @return 토큰 Claim으로 만든 UserContext
+     * @throws AuthenticationException 토큰이 없거나, 형식이 잘못되었거나, 만료되었거나, 서명이 유효하지 않은 경우
+     */
+    public UserContext verify(String token) {
+        if (token == null || token.isBlank()) {
+            throw AuthenticationException.tokenMissing();
+        }
+        long now = clock.millis();
+        String digest = digest(token);
+        VerifiedToken cached = cache.get(digest);
+        VerifiedToken verified =
+                cached != null && now <= cached.expiresAtMillis() + clockSkewMillis
+                        ? cached
+                        : verifyUncached(token, now);
+        VerifiedToken resolved =
+                verified.pendingPermissions() == null ? verified : resolvePermissions(verified);
+        if (resolved != cached) {
+            cache.put(digest, resolved);
+        }
+        return resolved.context();
+    }
+
+    private VerifiedToken verifyUncached(String token, long now) {
+        int firstDot = token.indexOf('.');
+        int secondDot = firstDot < 0 ? -1 : token.indexOf('.', firstDot + 1);
+        if (firstDot <= 0 || secondDot < 0 || token.indexOf('.', secondDot + 1) >= 0) {
+            throw malformed("Token must have three parts");
+        }
+        JsonNode header = readJson(token.substring(0, firstDot));
+        VerificationKey key = keyStore.find(text(header, "kid"));
+        if (key == null || !key.algorithm().headerName().equals(text(header, "alg"))) {
+            throw AuthenticationException.tokenInvalid();
+        }
+        verifySignature(key, token, firstDot, secondDot);
+
+        JsonNode claims = readJson(token.substring(firstDot + 1, secondDot));
+        JsonNode exp = claims.get("exp");
+        if (exp == null || !exp.canConvertToLong()) {
+            throw malformed("exp claim is required");
+        }
+        long expiresAtMillis = exp.asLong() * 1000L;
+        if (now > expiresAtMillis + clockSkewMillis) {
+            throw AuthenticationException.tokenExpired();
+        }
+        JsonNode nbf = claims.get("nbf");
+        if (nbf != null && now + clockSkewMillis < nbf.asLong() * 1000L) {
+            throw AuthenticationException.tokenInvalid();
+        }
+        if (issuer != null && !issuer.equals(text(claims, "iss"))) {
+            throw AuthenticationException.tokenInvalid();
+        }
+        String tokenType = text(claims, "token_type");
+        if (tokenType != null && !ACCESS_TOKEN_TYPE.equals(tokenType)) {
+            throw AuthenticationException.tokenInvalid();
+        }
+        Set<String> permissions = strings(claims.get("permissions"));
+        return new VerifiedToken(
+                toUserContext(claims, permissions),
+                permissions.isEmpty() ? pendingPermissions(claims) : null,
+                expiresAtMillis);
+    }
+
+    private static void verifySignature(
+            VerificationKey key, String token, int firstDot, int secondDot) {
+        byte[] signatureBytes;
+        try {
+            signatureBytes = BASE64_URL.decode(token.substring(secondDot + 1));
+        } catch (IllegalArgumentException e) {
+            throw malformed("Signature is not Base64URL");
+        }
+        try {
+            Signature signature = Signature.getInstance(key.algorithm().jcaName());
+            signature.initVerify(key.publicKey());
+            signature.update(token.substring(0, secondDot).getBytes(StandardCharsets.US_ASCII));
+            if (!signature.verify(signatureBytes)) {
+                throw AuthenticationException.tokenInvalid();
+            }
+        } catch (GeneralSecurityException e) {
+            throw new AuthenticationException(SecurityErrorCode.TOKEN_INVALID, e);
+        }
+    }
+
+    private static UserContext toUserContext(JsonNode claims, Set<String> permissions) {
+        return UserContext.builder()
+                .userId(text(claims, "sub"))
+                .tenantId(text(claims, "tid"))
+                .organizationId(text(claims, "oid"))
+                .email(text(claims, "email"))
+                .roles(GatewayHeaderParser.normalizeRoles(strings(claims.get("roles"))))
+                .permissions(permissions)
+                .build();
+    }
+
+    /** permissions Claim이 없을 때 복원에 쓸 Claim (복원기가 없거나 Claim이 없으면 null) */
+    private PendingPermissions pendingPermissions(JsonNode claims) {
+        String bits = permissionBitmapDecoder == null ? null : text(claims, "perm_bits");
+        String hash = permissionSetResolver == null ? null : text(claims, "permission_hash");
+        if (bits == null && hash == null) {
+            return null;
+        }
+        return new PendingPermissions(bits, text(claims, "perm_dict"), hash);
+    }
+
+    /**
+     * 비트맵 또는 권한 해시로 권한 복원
+     *
+     * <p>복원 결과가 비어 있으면 (조회 실패 등) 입력을 그대로 반환해 다음 요청에서 다시 시도합니다.
+     */
+    private VerifiedToken resolvePermissions(VerifiedToken verified) {
+        PendingPermissions pending = verified.pendingPermissions();
+        Set<String> permissions = Set.of();
+        if (pending.bits() != null) {
+            permissions = permissionBitmapDecoder.decode(pending.bits(), pending.dictionary());
+        }
+        if (permissions.isEmpty() && pending.hash() != null) {
+            permissions = permissionSetResolver.resolve(pending.hash());
+        }
+        if (permissions.isEmpty()) {
+            return verified;
+        }
+        UserContext context = verified.context();
+        return new VerifiedToken(
+                UserContext.builder()
+                        .userId(context.getUserId())
+                        .tenantId(context.getTenantId())
+                        .organizationId(context.getOrganizationId())
+                        .email(context.getEmail())
+                        .roles(context.getRoles())
+                        .permissions(permissions)
+                        .build(),
+                null,
+                verified.expiresAtMillis());
+    }
+
+    private static JsonNode readJson(String base64Url) {
+        try {
+            JsonNode node = OBJECT_MAPPER.readTree(BASE64_URL.decode(base64Url));
+            if (node == null || !node.isObject()) {
+                throw malformed("Token part is not a JSON object");
+            }
+            return node;
+        } catch (IOException | IllegalArgumentException e) {
+            throw new AuthenticationException(SecurityErrorCode.TOKEN_MALFORMED, e);
+        }
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        if (value == null || !value.isTextual() || value.asText().isBlank()) {
+            return null;
+        }
+        return value.asText();
+    }
+
+    private static Set<String> strings(JsonNode node) {
+        if (node == null || !node.isArray() || node.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> values = new HashSet<>();
+        for (JsonNode element : node) {
+            if (element.isTextual()) {
+                values.add(element.asText());
+            }
+        }
+        return values;
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HEX.formatHex(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    private static AuthenticationException malformed(String message) {
+        return new AuthenticationException(SecurityErrorCode.TOKEN_MALFORMED, message);
+    }
+
+    /**
+     * 검증된 토큰
+     *
+     * @param context UserContext
+     * @param pendingPermissions 아직 복원하지 못한 권한 Claim (복원 완료 또는 복원 대상이 없으면 null)
+     * @param expiresAtMillis 만료 시각
+     */
+    private record VerifiedToken(
+            UserContext context, PendingPermissions pendingPermissions, long expiresAtMillis) {}
+
+    private record PendingPermissions(String bits, String dictionary, String hash) {}
+
+    public static final class Builder {
+        private final JwksKeyStore keyStore;
+        private String issuer;
+        private Duration clockSkew = Duration.ZERO;
+        private int maxCachedTokens = DEFAULT_MAX_CACHED_TOKENS;
+        private PermissionBitmapDecoder permissionBitmapDecoder;
+        private PermissionSetResolver permissionSetResolver;
+        private Clock clock = Clock.systemUTC();
+
+        private Builder(JwksKeyStore keyStore) {
+            if (keyStore == null) {
+                throw new IllegalArgumentException("keyStore must not be null");
+            }
+            this.keyStore = keyStore;
+        }
+
+        /** 기대하는 iss 값 (null이면 확인하지 않음) */
+        public Builder issuer(String issuer) {
+            this.issuer = issuer;
+            return this;
+        }
+
+        /** exp/nbf 확인 시 허용 시계 오차 */
+        public Builder clockSkew(Duration clockSkew) {
+            if (clockSkew == null || clockSkew.isNegative()) {
+                throw new IllegalArgumentException("clockSkew must not be negative");
+            }
+            this.clockSkew = clockSkew;
+            return this;
+        }
+
+        /**
+         * 검증 결과 최대 캐시 개수 (초과 시 가장 오래 사용하지 않은 토큰부터 제거)
+         *
+         * <p>캐시는 토큰 다이제스트 기준 {@value StripedLruCache#DEFAULT_STRIPES}개 구간으로 나눠 잠그며, 개수 제한과 LRU
+         * 제거도 구간 단위로 적용합니다.
+         */
+        public Builder maxCachedTokens(int maxCachedTokens) {
+            if (maxCachedTokens <= 0) {
+                throw new IllegalArgumentException("maxCachedTokens must be positive");
+            }
+            this.maxCachedTokens = maxCachedTokens;
+            return this;
+        }
+
+        /** perm_bits Claim 복원기 (null이면 비트맵 무시) */
+        public Builder permissionBitmapDecoder(PermissionBitmapDecoder permissionBitmapDecoder) {
+            this.permissionBitmapDecoder = permissionBitmapDecoder;
+            return this;
+        }
+
+        /** permission_hash Claim 복원기 (null이면 해시 무시) */
+        public Builder permissionSetResolver(PermissionSetResolver permissionSetResolver) {
+            this.permissionSetResolver = permissionSetResolver;
+            return this;
+        }
+
+        Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public AccessTokenVerifier build() {
+            return new AccessTokenVerifier(this);
+        }
+    }
+}
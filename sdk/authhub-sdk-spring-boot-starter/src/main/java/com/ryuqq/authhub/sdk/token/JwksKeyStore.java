@@ -0,0 +1,340 @@
+package com.ryuqq.authhub.sdk.token;
+
+import com.ryuqq.authhub.sdk.model.internal.PublicKeys;
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * JwksKeyStore - AuthHub JWT 서명 검증 공개키 저장소
+ *
+ * <p>AuthHub JWKS를 한 번 조회해 kid별 검증 키로 보관합니다. 보유하지 않은 kid를 만나면(키 교체 직후 등) JWKS를 다시
+ * 조회하고, 보유 키가 최대 보관 시간을 넘기면 백그라운드에서 다시 조회해 폐기된 키를 걸러냅니다.
+ *
+ * <p><strong>조회 규칙:</strong>
+ *
+ * <ul>
+ *   <li>조회는 요청 스레드가 아닌 백그라운드 스레드에서 수행하고, 동시에 여러 요청이 모르는 kid를 만나도 한 번만 조회 (나머지는
+ *       결과를 공유)
+ *   <li>요청은 조회 결과를 최대 대기 시간까지만 기다리고, 넘으면 보유 키로 판단
+ *   <li>마지막 조회 후 최소 간격이 지나지 않았으면 다시 조회하지 않음 (임의 kid로 AuthHub를 반복 호출하지 못하게 함)
+ *   <li>보유 키가 최대 보관 시간을 넘긴 뒤 조회되면 보유 키로 응답하고, 요청을 기다리게 하지 않고 백그라운드에서 다시 조회
+ *       (JWKS에서 빠진 kid는 다음 조회부터 찾을 수 없음)
+ *   <li>조회 실패 시 보유 키를 유지
+ * </ul>
+ *
+ * <p>RSA(RS256), EC P-256(ES256), OKP Ed25519(EdDSA) 키를 지원하며, 그 외 키는 건너뜁니다.
+ *
+ * <p><strong>사용 예시:</strong>
+ *
+ * <pre>{@code
+ * JwksKeyStore keyStore = new JwksKeyStore(() -> gatewayClient.internal().getJwks());
+ * AccessTokenVerifier verifier = AccessTokenVerifier.builder(keyStore).issuer("authhub").build();
+ * }</pre>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public final class JwksKeyStore {
+
+    private static final Logger log = LoggerFactory.getLogger(JwksKeyStore.class);
+
+    /** 기본 최소 재조회 간격 */
+    public static final Duration DEFAULT_MIN_REFRESH_INTERVAL = Duration.ofSeconds(30);
+
+    /** 기본 조회 대기 시간 */
+    public static final Duration DEFAULT_LOAD_TIMEOUT = Duration.ofSeconds(5);
+
+    /** 기본 최대 키 보관 시간 */
+    public static final Duration DEFAULT_MAX_KEY_AGE = Duration.ofMinutes(10);
+
+    /** Ed25519 SubjectPublicKeyInfo DER 접두사 (뒤에 32바이트 공개키) */
+    private static final byte[] ED25519_X509_PREFIX =
+            HexFormat.of().parseHex("302a300506032b6570032100");
+
+    private static final Base64.Decoder BASE64_URL = Base64.getUrlDecoder();
+
+    private final Supplier<PublicKeys> loader;
+    private final Duration minRefreshInterval;
+    private final Duration loadTimeout;
+    private final Duration maxKeyAge;
+    private final Clock clock;
+    private final Executor executor;
+    private final AtomicReference<CompletableFuture<Map<String, VerificationKey>>> inFlight =
+            new AtomicReference<>();
+
+    private volatile Map<String, VerificationKey> keys = Map.of();
+    private volatile long lastLoadedAtMillis = Long.MIN_VALUE;
+    private volatile long keysLoadedAtMillis = Long.MIN_VALUE;
+
+    /**
+     * @param loader JWKS 조회 함수 (AuthHub Internal API 호출)
+     */
+    public JwksKeyStore(Supplier<PublicKeys> loader) {
+        this(loader, DEFAULT_MIN_REFRESH_INTERVAL, DEFAULT_LOAD_TIMEOUT);
+    }
+
+    /**
+     * @param loader JWKS 조회 함수 (AuthHub Internal API 호출)
+     * @param minRefreshInterval 최소 재조회 간격
+     * @param loadTimeout 요청이 조회 결과를 기다리는 최대 시간
+     */
+    public JwksKeyStore(
+            Supplier<PublicKeys> loader, Duration minRefreshInterval, Duration loadTimeout) {
+        this(loader, minRefreshInterval, loadTimeout, DEFAULT_MAX_KEY_AGE);
+    }
+
+    /**
+     * @param loader JWKS 조회 함수 (AuthHub Internal API 호출)
+     * @param minRefreshInterval 최소 재조회 간격
+     * @param loadTimeout 요청이 조회 결과를 기다리는 최대 시간
+     * @param maxKeyAge 보유 키를 다시 조회하지 않고 쓰는 최대 시간
+     */
+    public JwksKeyStore(
+            Supplier<PublicKeys> loader,
+            Duration minRefreshInterval,
+            Duration loadTimeout,
+            Duration maxKeyAge) {
+        this(
+                loader,
+                minRefreshInterval,
+                loadTimeout,
+                maxKeyAge,
+                Clock.systemUTC(),
+                task -> Thread.ofVirtual().name("authhub-jwks-refresh").start(task));
+    }
+
+    JwksKeyStore(
+            Supplier<PublicKeys> loader,
+            Duration minRefreshInterval,
+            Duration loadTimeout,
+            Clock clock,
+            Executor executor) {
+        this(loader, minRefreshInterval, loadTimeout, DEFAULT_MAX_KEY_AGE, clock, executor);
+    }
+
+    JwksKeyStore(
+            Supplier<PublicKeys> loader,
+            Duration minRefreshInterval,
+            Duration loadTimeout,
+            Duration maxKeyAge,
+            Clock clock,
+            Executor executor) {
+        if (loader == null) {
+            throw new IllegalArgumentException("loader must not be null");
+        }
+        if (minRefreshInterval == null || minRefreshInterval.isNegative()) {
+            throw new IllegalArgumentException("minRefreshInterval must not be negative");
+        }
+        if (loadTimeout == null || loadTimeout.isNegative() || loadTimeout.isZero()) {
+            throw new IllegalArgumentException("loadTimeout must be positive");
+        }
+        if (maxKeyAge == null || maxKeyAge.isNegative() || maxKeyAge.isZero()) {
+            throw new IllegalArgumentException("maxKeyAge must be positive");
+        }
+        this.loader = loader;
+        this.minRefreshInterval = minRefreshInterval;
+        this.loadTimeout = loadTimeout;
+        this.maxKeyAge = maxKeyAge;
+        this.clock = clock;
+        this.executor = executor;
+    }
+
+    /**
+     * kid에 해당하는 검증 키 조회
+     *
+     * <p>보유하지 않은 kid면 JWKS를 다시 조회한 뒤 찾습니다. 보유 키가 최대 보관 시간을 넘겼으면 보유 키로 응답하고
+     * 백그라운드 재조회를 시작합니다.
+     *
+     * @param kid JWT 헤더의 Key ID
+     * @return 검증 키 (없으면 null)
+     */
+    public VerificationKey find(String kid) {
+        if (kid == null || kid.isBlank()) {
+            return null;
+        }
+        VerificationKey key = keys.get(kid);
+        if (key != null) {
+            if (isExpired()) {
+                beginRefresh();
+            }
+            return key;
+        }
+        return refresh().get(kid);
+    }
+
+    private Map<String, VerificationKey> refresh() {
+        CompletableFuture<Map<String, VerificationKey>> pending = beginRefresh();
+        return pending == null ? keys : await(pending);
+    }
+
+    /**
+     * 진행 중인 조회가 있으면 그 결과를, 없으면 최소 재조회 간격이 지났을 때 새 조회를 시작해 반환
+     *
+     * @return 조회 결과 (조회하지 않으면 null)
+     */
+    private CompletableFuture<Map<String, VerificationKey>> beginRefresh() {
+        CompletableFuture<Map<String, VerificationKey>> pending = inFlight.get();
+        if (pending != null) {
+            return pending;
+        }
+        CompletableFuture<Map<String, VerificationKey>> mine = new CompletableFuture<>();
+        if (!inFlight.compareAndSet(null, mine)) {
+            return inFlight.get();
+        }
+        if (!isRefreshAllowed()) {
+            mine.complete(keys);
+            inFlight.set(null);
+            return null;
+        }
+        lastLoadedAtMillis = clock.millis();
+        startLoad(mine);
+        return mine;
+    }
+
+    private boolean isExpired() {
+        long loadedAt = keysLoadedAtMillis;
+        return loadedAt != Long.MIN_VALUE && clock.millis() - loadedAt >= maxKeyAge.toMillis();
+    }
+
+    private boolean isRefreshAllowed() {
+        long last = lastLoadedAtMillis;
+        return last == Long.MIN_VALUE || clock.millis() - last >= minRefreshInterval.toMillis();
+    }
+
+    private void startLoad(CompletableFuture<Map<String, VerificationKey>> mine) {
+        try {
+            executor.execute(
+                    () -> {
+                        try {
+                            mine.complete(load());
+                        } finally {
+                            inFlight.compareAndSet(mine, null);
+                        }
+                    });
+        } catch (RuntimeException e) {
+            log.warn("Failed to start JWKS refresh: {}", e.getMessage());
+            mine.complete(keys);
+            inFlight.compareAndSet(mine, null);
+        }
+    }
+
+    private Map<String, VerificationKey> await(
+            CompletableFuture<Map<String, VerificationKey>> pending) {
+        try {
+            return pending.get(loadTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            return keys;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return keys;
+        }
+    }
+
+    private Map<String, VerificationKey> load() {
+        try {
+            PublicKeys loaded = loader.get();
+            if (loaded == null || loaded.keys() == null) {
+                return keys;
+            }
+            Map<String, VerificationKey> converted = new HashMap<>();
+            for (com.ryuqq.authhub.sdk.model.internal.PublicKey jwk : loaded.keys()) {
+                VerificationKey key = toVerificationKey(jwk);
+                if (key != null) {
+                    converted.put(jwk.kid(), key);
+                }
+            }
+            if (!converted.isEmpty()) {
+                keys = Map.copyOf(converted);
+                keysLoadedAtMillis = clock.millis();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to load JWKS: {}", e.getMessage());
+        }
+        return keys;
+    }
+
+    private static VerificationKey toVerificationKey(
+            com.ryuqq.authhub.sdk.model.internal.PublicKey jwk) {
+        if (jwk.kid() == null || jwk.kty() == null) {
+            return null;
+        }
+        try {
+            return switch (jwk.kty()) {
+                case "RSA" -> new VerificationKey(TokenSignatureAlgorithm.RS256, rsaKey(jwk));
+                case "EC" -> "P-256".equals(jwk.crv())
+                        ? new VerificationKey(TokenSignatureAlgorithm.ES256, ecKey(jwk))
+                        : null;
+                case "OKP" -> "Ed25519".equals(jwk.crv())
+                        ? new VerificationKey(TokenSignatureAlgorithm.EDDSA, ed25519Key(jwk))
+                        : null;
+                default -> null;
+            };
+        } catch (GeneralSecurityException | IllegalArgumentException | NullPointerException e) {
+            log.warn("Skipping malformed JWK {}: {}", jwk.kid(), e.getMessage());
+            return null;
+        }
+    }
+
+    private static PublicKey rsaKey(com.ryuqq.authhub.sdk.model.internal.PublicKey jwk)
+            throws GeneralSecurityException {
+        RSAPublicKeySpec spec = new RSAPublicKeySpec(unsigned(jwk.n()), unsigned(jwk.e()));
+        return KeyFactory.getInstance("RSA").generatePublic(spec);
+    }
+
+    private static PublicKey ecKey(com.ryuqq.authhub.sdk.model.internal.PublicKey jwk)
+            throws GeneralSecurityException {
+        AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+        parameters.init(new ECGenParameterSpec("secp256r1"));
+        ECParameterSpec curve = parameters.getParameterSpec(ECParameterSpec.class);
+        ECPoint point = new ECPoint(unsigned(jwk.x()), unsigned(jwk.y()));
+        return KeyFactory.getInstance("EC").generatePublic(new ECPublicKeySpec(point, curve));
+    }
+
+    private static PublicKey ed25519Key(com.ryuqq.authhub.sdk.model.internal.PublicKey jwk)
+            throws GeneralSecurityException {
+        byte[] raw = BASE64_URL.decode(jwk.x());
+        if (raw.length != 32) {
+            throw new IllegalArgumentException("Ed25519 key must be 32 bytes");
+        }
+        byte[] encoded = new byte[ED25519_X509_PREFIX.length + raw.length];
+        System.arraycopy(ED25519_X509_PREFIX, 0, encoded, 0, ED25519_X509_PREFIX.length);
+        System.arraycopy(raw, 0, encoded, ED25519_X509_PREFIX.length, raw.length);
+        return KeyFactory.getInstance("Ed25519").generatePublic(new X509EncodedKeySpec(encoded));
+    }
+
+    private static BigInteger unsigned(String base64Url) {
+        return new BigInteger(1, BASE64_URL.decode(base64Url));
+    }
+
+    /**
+     * kid에 대응하는 검증 키
+     *
+     * @param algorithm 이 키로 검증할 서명 알고리즘
+     * @param publicKey JDK 공개키
+     */
+    public record VerificationKey(TokenSignatureAlgorithm algorithm, PublicKey publicKey) {}
+}
@@ -0,0 +1,109 @@
+package com.ryuqq.authhub.sdk.token;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 구간별 잠금을 쓰는 LRU 캐시.
+ *
+ * <p>키 해시로 나눈 구간(stripe)마다 접근 순서 {@link LinkedHashMap}과 잠금을 따로 두어, 서로 다른 키의 조회가 하나의 잠금을
+ * 두고 경쟁하지 않습니다. 보관 개수와 LRU 제거는 구간 단위로 적용하므로 전체 보관 개수는 최대 개수를 구간 수로 나눠 올림한 값의
+ * 구간 수 배를 넘지 않습니다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+final class StripedLruCache<K, V> {
+
+    /** 기본 구간 수 */
+    static final int DEFAULT_STRIPES = 16;
+
+    private final Segment<K, V>[] segments;
+    private final int mask;
+
+    StripedLruCache(int maxEntries) {
+        this(maxEntries, DEFAULT_STRIPES);
+    }
+
+    @SuppressWarnings("unchecked")
+    StripedLruCache(int maxEntries, int stripes) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("stripes must be positive");
+        }
+        int count = Integer.highestOneBit(Math.min(stripes, maxEntries));
+        int maxEntriesPerSegment = (maxEntries + count - 1) / count;
+        this.segments = (Segment<K, V>[]) new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment<>(maxEntriesPerSegment);
+        }
+        this.mask = count - 1;
+    }
+
+    V get(K key) {
+        return segmentFor(key).get(key);
+    }
+
+    void put(K key, V value) {
+        segmentFor(key).put(key, value);
+    }
+
+    int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & mask];
+    }
+
+    private static final class Segment<K, V> {
+
+        private final Map<K, V> entries;
+        private final ReentrantLock lock = new ReentrantLock();
+
+        Segment(int maxEntries) {
+            this.entries =
+                    new LinkedHashMap<>(16, 0.75f, true) {
+                        @Override
+                        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                            return size() > maxEntries;
+                        }
+                    };
+        }
+
+        V get(K key) {
+            lock.lock();
+            try {
+                return entries.get(key);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void put(K key, V value) {
+            lock.lock();
+            try {
+                entries.put(key, value);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return entries.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
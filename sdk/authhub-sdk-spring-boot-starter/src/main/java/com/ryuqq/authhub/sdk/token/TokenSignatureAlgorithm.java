@@ -0,0 +1,48 @@
+package com.ryuqq.authhub.sdk.token;
+
+/**
+ * TokenSignatureAlgorithm - 오프라인 검증을 지원하는 JWT 서명 알고리즘
+ *
+ * <p>AuthHub가 JWKS로 공개키를 게시하는 비대칭 알고리즘만 지원합니다. HS256 토큰은 공유 비밀키가 필요하므로 오프라인으로 검증할
+ * 수 없습니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public enum TokenSignatureAlgorithm {
+
+    /** RSA PKCS#1 v1.5 + SHA-256 */
+    RS256("RS256", "SHA256withRSA"),
+
+    /** ECDSA P-256 + SHA-256 (JWS 서명은 r||s 64바이트) */
+    ES256("ES256", "SHA256withECDSAinP1363Format"),
+
+    /** Ed25519 */
+    EDDSA("EdDSA", "Ed25519");
+
+    private final String headerName;
+    private final String jcaName;
+
+    TokenSignatureAlgorithm(String headerName, String jcaName) {
+        this.headerName = headerName;
+        this.jcaName = jcaName;
+    }
+
+    /**
+     * JWT 헤더 alg 값
+     *
+     * @return alg 값
+     */
+    public String headerName() {
+        return headerName;
+    }
+
+    /**
+     * JCA Signature 알고리즘 이름
+     *
+     * @return Signature 알고리즘 이름
+     */
+    public String jcaName() {
+        return jcaName;
+    }
+}
@@ -3,11 +3,14 @@ package com.ryuqq.authhub.sdk.autoconfigure;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.ryuqq.authhub.sdk.api.AuthApi;
+import com.ryuqq.authhub.sdk.api.InternalApi;
 import com.ryuqq.authhub.sdk.api.OnboardingApi;
 import com.ryuqq.authhub.sdk.api.UserApi;
 import com.ryuqq.authhub.sdk.auth.StaticTokenResolver;
 import com.ryuqq.authhub.sdk.auth.TokenResolver;
+import com.ryuqq.authhub.sdk.cache.CachingInternalApi;
 import com.ryuqq.authhub.sdk.client.AuthHubClient;
+import com.ryuqq.authhub.sdk.client.GatewayClient;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -197,6 +200,60 @@ class AuthHubAutoConfigurationTest {
         }
     }
 
+    @Nested
+    @DisplayName("InternalApi Bean")
+    class InternalApiBean {
+
+        private final GatewayClient gatewayClient =
+                GatewayClient.builder()
+                        .baseUrl("https://authhub.example.com")
+                        .serviceName("gateway")
+                        .serviceToken("service-token")
+                        .build();
+
+        @Test
+        @DisplayName("GatewayClient Bean이 없으면 InternalApi Bean을 만들지 않는다")
+        void shouldNotCreateInternalApiWithoutGatewayClient() {
+            contextRunner
+                    .withPropertyValues("authhub.base-url=https://authhub.example.com")
+                    .run(
+                            context -> {
+                                assertThat(context).doesNotHaveBean(InternalApi.class);
+                            });
+        }
+
+        @Test
+        @DisplayName("캐시가 꺼져 있으면 GatewayClient의 InternalApi를 그대로 사용한다")
+        void shouldExposeGatewayInternalApiWhenCacheDisabled() {
+            contextRunner
+                    .withPropertyValues("authhub.base-url=https://authhub.example.com")
+                    .withBean(GatewayClient.class, () -> gatewayClient)
+                    .run(
+                            context -> {
+                                assertThat(context.getBean(InternalApi.class))
+                                        .isSameAs(gatewayClient.internal());
+                            });
+        }
+
+        @Test
+        @DisplayName("authhub.cache.enabled=true이면 CachingInternalApi로 감싼다")
+        void shouldWrapWithCachingInternalApiWhenCacheEnabled() {
+            contextRunner
+                    .withPropertyValues(
+                            "authhub.base-url=https://authhub.example.com",
+                            "authhub.cache.enabled=true",
+                            "authhub.cache.ttl=10s",
+                            "authhub.cache.max-entries=100")
+                    .withBean(GatewayClient.class, () -> gatewayClient)
+                    .run(
+                            context -> {
+                                assertThat(context)
+                                        .getBean(InternalApi.class)
+                                        .isInstanceOf(CachingInternalApi.class);
+                            });
+        }
+    }
+
     @Nested
     @DisplayName("Properties 바인딩")
     class PropertiesBinding {
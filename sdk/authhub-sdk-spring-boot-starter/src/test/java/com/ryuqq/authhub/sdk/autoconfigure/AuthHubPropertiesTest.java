@@ -201,4 +201,47 @@ class AuthHubPropertiesTest {
             assertThat(properties.getRetry()).isNotNull();
         }
     }
+
+    @Nested
+    @DisplayName("Cache 설정")
+    class CacheSettings {
+
+        @Test
+        @DisplayName("기본적으로 캐시는 비활성화 상태이다")
+        void defaultCacheIsDisabled() {
+            // given
+            AuthHubProperties properties = new AuthHubProperties();
+
+            // then
+            assertThat(properties.getCache().isEnabled()).isFalse();
+        }
+
+        @Test
+        @DisplayName("기본 TTL은 30초, 최대 보관 개수는 10000이다")
+        void defaultTtlAndMaxEntries() {
+            // given
+            AuthHubProperties properties = new AuthHubProperties();
+
+            // then
+            assertThat(properties.getCache().getTtl()).isEqualTo(Duration.ofSeconds(30));
+            assertThat(properties.getCache().getMaxEntries()).isEqualTo(10_000);
+        }
+
+        @Test
+        @DisplayName("캐시 설정을 변경할 수 있다")
+        void shouldSetCacheSettings() {
+            // given
+            AuthHubProperties properties = new AuthHubProperties();
+
+            // when
+            properties.getCache().setEnabled(true);
+            properties.getCache().setTtl(Duration.ofMinutes(1));
+            properties.getCache().setMaxEntries(500);
+
+            // then
+            assertThat(properties.getCache().isEnabled()).isTrue();
+            assertThat(properties.getCache().getTtl()).isEqualTo(Duration.ofMinutes(1));
+            assertThat(properties.getCache().getMaxEntries()).isEqualTo(500);
+        }
+    }
 }
@@ -0,0 +1,112 @@
+package com.ryuqq.authhub.sdk.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.authhub.sdk.context.UserContext;
+import com.ryuqq.authhub.sdk.context.UserContextHolder;
+import com.ryuqq.authhub.sdk.header.SecurityHeaders;
+import com.ryuqq.authhub.sdk.model.internal.PublicKeys;
+import com.ryuqq.authhub.sdk.token.AccessTokenFixtures;
+import com.ryuqq.authhub.sdk.token.AccessTokenVerifier;
+import com.ryuqq.authhub.sdk.token.JwksKeyStore;
+import com.ryuqq.authhub.sdk.token.TokenSignatureAlgorithm;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@Tag("unit")
+@DisplayName("JwtAuthenticationFilter")
+class JwtAuthenticationFilterTest {
+
+    private AccessTokenFixtures signer;
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private AtomicReference<UserContext> capturedContext;
+    private FilterChain filterChain;
+
+    @BeforeEach
+    void setUp() {
+        signer = AccessTokenFixtures.create(TokenSignatureAlgorithm.ES256, "kid-1");
+        JwksKeyStore keyStore = new JwksKeyStore(() -> new PublicKeys(List.of(signer.jwk())));
+        filter = new JwtAuthenticationFilter(AccessTokenVerifier.builder(keyStore).build());
+        request = new MockHttpServletRequest("GET", "/api/v1/orders");
+        response = new MockHttpServletResponse();
+        capturedContext = new AtomicReference<>();
+        filterChain = (req, res) -> capturedContext.set(UserContextHolder.getContext());
+    }
+
+    @AfterEach
+    void tearDown() {
+        UserContextHolder.clearContext();
+    }
+
+    @Nested
+    @DisplayName("doFilterInternal")
+    class DoFilterInternal {
+
+        @Test
+        @DisplayName("유효한 Bearer 토큰이면 Claim으로 UserContext 설정")
+        void setsUserContextFromToken() throws ServletException, IOException {
+            request.addHeader("Authorization", "Bearer " + validToken());
+            request.addHeader(SecurityHeaders.CORRELATION_ID, "corr-1");
+
+            filter.doFilter(request, response, filterChain);
+
+            UserContext context = capturedContext.get();
+            assertThat(context.getUserId()).isEqualTo("user-1");
+            assertThat(context.getTenantId()).isEqualTo("tenant-1");
+            assertThat(context.getRoles()).containsExactly("ROLE_ADMIN");
+            assertThat(context.getCorrelationId()).isEqualTo("corr-1");
+        }
+
+        @Test
+        @DisplayName("검증에 실패하면 익명 UserContext로 진행")
+        void continuesAnonymouslyWhenTokenIsInvalid() throws ServletException, IOException {
+            request.addHeader("Authorization", "Bearer invalid.token.value");
+
+            filter.doFilter(request, response, filterChain);
+
+            assertThat(capturedContext.get().isAuthenticated()).isFalse();
+            assertThat(response.getStatus()).isEqualTo(200);
+        }
+
+        @Test
+        @DisplayName("Authorization 헤더가 없으면 익명 UserContext로 진행")
+        void continuesAnonymouslyWithoutToken() throws ServletException, IOException {
+            filter.doFilter(request, response, filterChain);
+
+            assertThat(capturedContext.get().isAuthenticated()).isFalse();
+        }
+
+        @Test
+        @DisplayName("필터 처리 후 UserContext 정리")
+        void clearsContextAfterFilter() throws ServletException, IOException {
+            request.addHeader("Authorization", "Bearer " + validToken());
+
+            filter.doFilter(request, response, filterChain);
+
+            assertThat(UserContextHolder.getContextOptional()).isEmpty();
+        }
+    }
+
+    private String validToken() {
+        long now = System.currentTimeMillis() / 1000L;
+        Map<String, Object> claims = AccessTokenFixtures.claims("user-1");
+        claims.put("iat", now);
+        claims.put("exp", now + Duration.ofMinutes(5).toSeconds());
+        return signer.token(claims);
+    }
+}
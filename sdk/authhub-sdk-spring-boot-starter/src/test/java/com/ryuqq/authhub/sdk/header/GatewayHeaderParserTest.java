@@ -4,8 +4,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.ryuqq.authhub.sdk.context.UserContext;
+import com.ryuqq.authhub.sdk.model.internal.PermissionDictionary;
+import com.ryuqq.authhub.sdk.model.internal.PermissionSet;
 import java.lang.reflect.Constructor;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
@@ -46,6 +49,60 @@ class GatewayHeaderParserTest {
             assertThat(context.isServiceAccount()).isFalse();
         }
 
+        @Test
+        @DisplayName("권한 헤더가 없으면 권한 비트맵을 복원")
+        void decodesPermissionBitsWhenPermissionsMissing() {
+            PermissionBitmapDecoder decoder =
+                    new PermissionBitmapDecoder(
+                            () ->
+                                    new PermissionDictionary(
+                                            "v1",
+                                            List.of(
+                                                    new PermissionDictionary.Entry(
+                                                            0, 1L, "user:read"))));
+            Map<String, String> headers = new HashMap<>();
+            headers.put(SecurityHeaders.USER_ID, "user-123");
+            headers.put(SecurityHeaders.PERMISSION_BITS, PermissionBitmapDecoderTest.bitmap(0));
+            headers.put(SecurityHeaders.PERMISSION_DICTIONARY_VERSION, "v1");
+
+            UserContext context = GatewayHeaderParser.parse(headers::get, decoder);
+
+            assertThat(context.getPermissions()).containsExactly("user:read");
+        }
+
+        @Test
+        @DisplayName("권한 헤더가 있으면 권한 비트맵을 사용하지 않음")
+        void prefersPermissionsHeaderOverBits() {
+            PermissionBitmapDecoder decoder =
+                    new PermissionBitmapDecoder(
+                            () -> {
+                                throw new AssertionError("dictionary must not be loaded");
+                            });
+            Map<String, String> headers = new HashMap<>();
+            headers.put(SecurityHeaders.PERMISSIONS, "order:read");
+            headers.put(SecurityHeaders.PERMISSION_BITS, PermissionBitmapDecoderTest.bitmap(1));
+
+            UserContext context = GatewayHeaderParser.parse(headers::get, decoder);
+
+            assertThat(context.getPermissions()).containsExactly("order:read");
+        }
+
+        @Test
+        @DisplayName("권한 헤더와 비트맵이 없으면 권한 집합 해시를 복원")
+        void resolvesPermissionHashWhenPermissionsAndBitsMissing() {
+            PermissionSetResolver resolver =
+                    new PermissionSetResolver(
+                            hash -> new PermissionSet(hash, List.of("user:read", "user:write")));
+            Map<String, String> headers = new HashMap<>();
+            headers.put(SecurityHeaders.USER_ID, "user-123");
+            headers.put(SecurityHeaders.PERMISSION_HASH, "0586fe3af3420aa2");
+
+            UserContext context = GatewayHeaderParser.parse(headers::get, null, resolver);
+
+            assertThat(context.getPermissions())
+                    .containsExactlyInAnyOrder("user:read", "user:write");
+        }
+
         @Test
         @DisplayName("서비스 토큰이 있으면 서비스 계정")
         void detectsServiceAccount() {
@@ -0,0 +1,170 @@
+package com.ryuqq.authhub.sdk.header;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ryuqq.authhub.sdk.model.internal.PermissionDictionary;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PermissionBitmapDecoder")
+class PermissionBitmapDecoderTest {
+
+    private static final PermissionDictionary V1 =
+            new PermissionDictionary(
+                    "v1",
+                    List.of(
+                            new PermissionDictionary.Entry(1, 1L, "user:read"),
+                            new PermissionDictionary.Entry(7, 7L, "order:read")));
+
+    private static final PermissionDictionary V2 =
+            new PermissionDictionary(
+                    "v2",
+                    List.of(
+                            new PermissionDictionary.Entry(1, 1L, "user:read"),
+                            new PermissionDictionary.Entry(7, 7L, "order:read"),
+                            new PermissionDictionary.Entry(9, 9L, "order:write")));
+
+    private static final PermissionDictionary V3 =
+            new PermissionDictionary(
+                    "v3",
+                    List.of(
+                            new PermissionDictionary.Entry(1, 1L, "user:read"),
+                            new PermissionDictionary.Entry(9, 9L, "order:write")));
+
+    @Nested
+    @DisplayName("decode")
+    class Decode {
+
+        @Test
+        @DisplayName("같은 버전이면 사전을 한 번만 조회")
+        void loadsDictionaryOncePerVersion() {
+            CountingLoader loader = new CountingLoader(V1);
+            PermissionBitmapDecoder decoder = new PermissionBitmapDecoder(loader);
+
+            decoder.decode(bitmap(1), "v1");
+            assertThat(decoder.decode(bitmap(1, 7), "v1"))
+                    .containsExactlyInAnyOrder("user:read", "order:read");
+            assertThat(loader.count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("버전이 바뀌면 사전을 다시 조회")
+        void reloadsWhenVersionChanges() {
+            CountingLoader loader = new CountingLoader(V1, V2);
+            PermissionBitmapDecoder decoder = new PermissionBitmapDecoder(loader, Duration.ZERO);
+
+            decoder.decode(bitmap(1), "v1");
+            assertThat(decoder.decode(bitmap(9), "v2")).containsExactly("order:write");
+            assertThat(loader.count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("조회 후에도 버전이 다르면 보유 사전으로 복원")
+        void decodesWithHeldDictionaryWhenVersionStillDiffers() {
+            CountingLoader loader = new CountingLoader(V2);
+            PermissionBitmapDecoder decoder = new PermissionBitmapDecoder(loader);
+
+            assertThat(decoder.decode(bitmap(1, 7), "v1"))
+                    .containsExactlyInAnyOrder("user:read", "order:read");
+            assertThat(decoder.decode(bitmap(9), "v1")).containsExactly("order:write");
+            assertThat(loader.count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("권한이 삭제된 사전으로 복원하면 삭제된 권한의 비트만 무시")
+        void ignoresOnlyDeletedPermissionBits() {
+            PermissionBitmapDecoder decoder = new PermissionBitmapDecoder(() -> V3);
+
+            assertThat(decoder.decode(bitmap(1, 7, 9), "v2"))
+                    .containsExactlyInAnyOrder("user:read", "order:write");
+        }
+
+        @Test
+        @DisplayName("최소 재조회 간격이 지나면 다시 조회")
+        void reloadsAfterMinReloadInterval() {
+            CountingLoader loader = new CountingLoader(V1, V2);
+            PermissionBitmapDecoder decoder = new PermissionBitmapDecoder(loader, Duration.ZERO);
+
+            assertThat(decoder.decode(bitmap(9), "v2")).isEmpty();
+            assertThat(decoder.decode(bitmap(9), "v2")).containsExactly("order:write");
+            assertThat(loader.count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("사전 버전이 없으면 보유 사전으로 복원")
+        void decodesWithHeldDictionaryWithoutVersion() {
+            CountingLoader loader = new CountingLoader(V1);
+            PermissionBitmapDecoder decoder = new PermissionBitmapDecoder(loader);
+
+            assertThat(decoder.decode(bitmap(1), null)).containsExactly("user:read");
+            assertThat(decoder.decode(bitmap(7), " ")).containsExactly("order:read");
+            assertThat(loader.count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("조회 실패 시 빈 권한, 비트맵이 없으면 조회하지 않음")
+        void returnsEmptyWhenLoaderFails() {
+            CountingLoader loader = new CountingLoader();
+            PermissionBitmapDecoder decoder = new PermissionBitmapDecoder(loader);
+
+            assertThat(decoder.decode(null, "v1")).isEmpty();
+            assertThat(loader.count()).isZero();
+            assertThat(decoder.decode(bitmap(1), "v1")).isEmpty();
+            assertThat(loader.count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("형식이 잘못된 비트맵은 빈 권한")
+        void returnsEmptyForMalformedBitmap() {
+            PermissionBitmapDecoder decoder = new PermissionBitmapDecoder(() -> V1);
+
+            assertThat(decoder.decode("!!", "v1")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("loader가 null이면 예외")
+        void rejectsNullLoader() {
+            assertThatThrownBy(() -> new PermissionBitmapDecoder(null))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    static String bitmap(int... indices) {
+        BitSet bits = new BitSet();
+        for (int index : indices) {
+            bits.set(index);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bits.toByteArray());
+    }
+
+    private static final class CountingLoader implements Supplier<PermissionDictionary> {
+
+        private final PermissionDictionary[] results;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        CountingLoader(PermissionDictionary... results) {
+            this.results = results;
+        }
+
+        @Override
+        public PermissionDictionary get() {
+            int index = calls.getAndIncrement();
+            if (results.length == 0) {
+                throw new IllegalStateException("unavailable");
+            }
+            return results[Math.min(index, results.length - 1)];
+        }
+
+        int count() {
+            return calls.get();
+        }
+    }
+}
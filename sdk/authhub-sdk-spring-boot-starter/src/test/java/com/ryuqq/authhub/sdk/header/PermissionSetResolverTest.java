@@ -0,0 +1,141 @@
+package com.ryuqq.authhub.sdk.header;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ryuqq.authhub.sdk.model.internal.PermissionSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PermissionSetResolver")
+class PermissionSetResolverTest {
+
+    @Nested
+    @DisplayName("resolve")
+    class Resolve {
+
+        @Test
+        @DisplayName("같은 해시는 한 번만 조회")
+        void loadsOncePerHash() {
+            CountingLoader loader = new CountingLoader();
+            PermissionSetResolver resolver = new PermissionSetResolver(loader);
+
+            resolver.resolve("h1");
+            assertThat(resolver.resolve("h1")).containsExactly("perm:h1");
+            assertThat(loader.count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("빈 해시는 조회 없이 빈 권한")
+        void returnsEmptyForBlankHash() {
+            CountingLoader loader = new CountingLoader();
+            PermissionSetResolver resolver = new PermissionSetResolver(loader);
+
+            assertThat(resolver.resolve("")).isEmpty();
+            assertThat(resolver.resolve(null)).isEmpty();
+            assertThat(loader.count()).isZero();
+        }
+
+        @Test
+        @DisplayName("조회 실패는 캐싱하지 않고 다음 요청에서 다시 조회")
+        void retriesAfterFailure() {
+            AtomicInteger calls = new AtomicInteger();
+            PermissionSetResolver resolver =
+                    new PermissionSetResolver(
+                            hash -> {
+                                if (calls.incrementAndGet() == 1) {
+                                    throw new IllegalStateException("unavailable");
+                                }
+                                return new PermissionSet(hash, List.of("user:read"));
+                            });
+
+            assertThat(resolver.resolve("h1")).isEmpty();
+            assertThat(resolver.resolve("h1")).containsExactly("user:read");
+            assertThat(calls.get()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("최대 개수를 넘으면 가장 오래 사용하지 않은 해시부터 제거")
+        void evictsLeastRecentlyUsed() {
+            CountingLoader loader = new CountingLoader();
+            PermissionSetResolver resolver = new PermissionSetResolver(loader, 2);
+
+            resolver.resolve("h1");
+            resolver.resolve("h2");
+            resolver.resolve("h1");
+            resolver.resolve("h3");
+            resolver.resolve("h1");
+            assertThat(loader.count()).isEqualTo(3);
+
+            resolver.resolve("h2");
+            assertThat(loader.count()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("동시에 같은 해시를 만나도 조회는 한 번")
+        void sharesConcurrentLoad() throws Exception {
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicInteger calls = new AtomicInteger();
+            PermissionSetResolver resolver =
+                    new PermissionSetResolver(
+                            hash -> {
+                                calls.incrementAndGet();
+                                await(release);
+                                return new PermissionSet(hash, List.of("user:read"));
+                            });
+
+            try (ExecutorService callers = Executors.newFixedThreadPool(4)) {
+                List<Future<?>> futures =
+                        List.of(
+                                callers.submit(() -> resolver.resolve("h1")),
+                                callers.submit(() -> resolver.resolve("h1")),
+                                callers.submit(() -> resolver.resolve("h1")));
+                Thread.sleep(100);
+                release.countDown();
+                for (Future<?> future : futures) {
+                    assertThat(future.get(5, TimeUnit.SECONDS)).isNotNull();
+                }
+            }
+            assertThat(calls.get()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("maxEntries가 0 이하이면 예외")
+        void rejectsNonPositiveMaxEntries() {
+            assertThatThrownBy(() -> new PermissionSetResolver(new CountingLoader(), 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class CountingLoader implements Function<String, PermissionSet> {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public PermissionSet apply(String hash) {
+            count.incrementAndGet();
+            return new PermissionSet(hash, List.of("perm:" + hash));
+        }
+
+        int count() {
+            return count.get();
+        }
+    }
+}
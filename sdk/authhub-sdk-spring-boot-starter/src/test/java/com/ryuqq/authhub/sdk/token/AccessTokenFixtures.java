@@ -0,0 +1,161 @@
+package com.ryuqq.authhub.sdk.token;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ryuqq.authhub.sdk.model.internal.PublicKey;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** 테스트용 Access Token 서명기 (키 쌍 + JWK + 토큰 생성) */
+public final class AccessTokenFixtures {
+
+    public static final long ISSUED_AT = 1_700_000_000L;
+    public static final long EXPIRES_AT = ISSUED_AT + 3600L;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    private final TokenSignatureAlgorithm algorithm;
+    private final KeyPair keyPair;
+    private final String kid;
+
+    private AccessTokenFixtures(TokenSignatureAlgorithm algorithm, KeyPair keyPair, String kid) {
+        this.algorithm = algorithm;
+        this.keyPair = keyPair;
+        this.kid = kid;
+    }
+
+    public static AccessTokenFixtures create(TokenSignatureAlgorithm algorithm, String kid) {
+        try {
+            KeyPairGenerator generator;
+            switch (algorithm) {
+                case RS256 -> {
+                    generator = KeyPairGenerator.getInstance("RSA");
+                    generator.initialize(2048);
+                }
+                case ES256 -> {
+                    generator = KeyPairGenerator.getInstance("EC");
+                    generator.initialize(new ECGenParameterSpec("secp256r1"));
+                }
+                default -> generator = KeyPairGenerator.getInstance("Ed25519");
+            }
+            return new AccessTokenFixtures(algorithm, generator.generateKeyPair(), kid);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public PublicKey jwk() {
+        return switch (algorithm) {
+            case RS256 -> {
+                RSAPublicKey key = (RSAPublicKey) keyPair.getPublic();
+                yield new PublicKey(
+                        kid,
+                        "RSA",
+                        "sig",
+                        "RS256",
+                        unsigned(key.getModulus()),
+                        unsigned(key.getPublicExponent()),
+                        null,
+                        null,
+                        null);
+            }
+            case ES256 -> {
+                ECPublicKey key = (ECPublicKey) keyPair.getPublic();
+                yield new PublicKey(
+                        kid,
+                        "EC",
+                        "sig",
+                        "ES256",
+                        null,
+                        null,
+                        "P-256",
+                        coordinate(key.getW().getAffineX()),
+                        coordinate(key.getW().getAffineY()));
+            }
+            case EDDSA -> {
+                byte[] encoded = keyPair.getPublic().getEncoded();
+                byte[] raw = Arrays.copyOfRange(encoded, encoded.length - 32, encoded.length);
+                yield new PublicKey(
+                        kid,
+                        "OKP",
+                        "sig",
+                        "EdDSA",
+                        null,
+                        null,
+                        "Ed25519",
+                        BASE64_URL.encodeToString(raw),
+                        null);
+            }
+        };
+    }
+
+    public String token(Map<String, Object> claims) {
+        return token(algorithm.headerName(), claims);
+    }
+
+    public String token(String alg, Map<String, Object> claims) {
+        Map<String, Object> header = new LinkedHashMap<>();
+        header.put("alg", alg);
+        header.put("kid", kid);
+        String signingInput = encode(header) + "." + encode(claims);
+        try {
+            Signature signature = Signature.getInstance(algorithm.jcaName());
+            signature.initSign(keyPair.getPrivate());
+            signature.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+            return signingInput + "." + BASE64_URL.encodeToString(signature.sign());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static Map<String, Object> claims(String userId) {
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("sub", userId);
+        claims.put("iss", "authhub");
+        claims.put("iat", ISSUED_AT);
+        claims.put("exp", EXPIRES_AT);
+        claims.put("token_type", "access");
+        claims.put("tid", "tenant-1");
+        claims.put("oid", "org-1");
+        claims.put("email", "user@example.com");
+        claims.put("roles", new String[] {"ADMIN"});
+        claims.put("permissions", new String[] {"user:read", "user:write"});
+        return claims;
+    }
+
+    private static String encode(Map<String, Object> json) {
+        try {
+            return BASE64_URL.encodeToString(OBJECT_MAPPER.writeValueAsBytes(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String unsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return BASE64_URL.encodeToString(bytes);
+    }
+
+    private static String coordinate(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        byte[] fixed = new byte[32];
+        int length = Math.min(bytes.length, 32);
+        System.arraycopy(bytes, bytes.length - length, fixed, 32 - length, length);
+        return BASE64_URL.encodeToString(fixed);
+    }
+}
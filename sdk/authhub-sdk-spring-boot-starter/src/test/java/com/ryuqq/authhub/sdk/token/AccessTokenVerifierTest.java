@@ -0,0 +1,222 @@
+package com.ryuqq.authhub.sdk.token;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ryuqq.authhub.sdk.context.UserContext;
+import com.ryuqq.authhub.sdk.exception.AuthenticationException;
+import com.ryuqq.authhub.sdk.exception.SecurityErrorCode;
+import com.ryuqq.authhub.sdk.header.PermissionSetResolver;
+import com.ryuqq.authhub.sdk.model.internal.PermissionSet;
+import com.ryuqq.authhub.sdk.model.internal.PublicKeys;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+@Tag("unit")
+@DisplayName("AccessTokenVerifier")
+class AccessTokenVerifierTest {
+
+    private static final Clock ISSUED_CLOCK =
+            Clock.fixed(Instant.ofEpochSecond(AccessTokenFixtures.ISSUED_AT), ZoneOffset.UTC);
+
+    @Nested
+    @DisplayName("verify")
+    class Verify {
+
+        @ParameterizedTest
+        @EnumSource(TokenSignatureAlgorithm.class)
+        @DisplayName("서명과 Claim을 검증하고 UserContext 생성")
+        void buildsUserContextFromClaims(TokenSignatureAlgorithm algorithm) {
+            AccessTokenFixtures signer = AccessTokenFixtures.create(algorithm, "kid-1");
+            AccessTokenVerifier verifier = verifier(signer, ISSUED_CLOCK);
+
+            UserContext context = verifier.verify(signer.token(AccessTokenFixtures.claims("u1")));
+
+            assertThat(context.getUserId()).isEqualTo("u1");
+            assertThat(context.getTenantId()).isEqualTo("tenant-1");
+            assertThat(context.getOrganizationId()).isEqualTo("org-1");
+            assertThat(context.getEmail()).isEqualTo("user@example.com");
+            assertThat(context.getRoles()).containsExactly("ROLE_ADMIN");
+            assertThat(context.getPermissions())
+                    .containsExactlyInAnyOrder("user:read", "user:write");
+        }
+
+        @Test
+        @DisplayName("같은 토큰은 캐싱된 결과를 재사용")
+        void reusesCachedResult() {
+            AccessTokenFixtures signer =
+                    AccessTokenFixtures.create(TokenSignatureAlgorithm.ES256, "kid-1");
+            AccessTokenVerifier verifier = verifier(signer, ISSUED_CLOCK);
+            String token = signer.token(AccessTokenFixtures.claims("u1"));
+
+            assertThat(verifier.verify(token)).isSameAs(verifier.verify(token));
+        }
+
+        @Test
+        @DisplayName("캐싱된 토큰도 exp가 지나면 TOKEN_EXPIRED")
+        void rejectsCachedTokenAfterExpiry() {
+            AccessTokenFixtures signer =
+                    AccessTokenFixtures.create(TokenSignatureAlgorithm.EDDSA, "kid-1");
+            MutableClock clock = new MutableClock(AccessTokenFixtures.ISSUED_AT);
+            AccessTokenVerifier verifier = verifier(signer, clock);
+            String token = signer.token(AccessTokenFixtures.claims("u1"));
+            verifier.verify(token);
+
+            clock.setEpochSecond(AccessTokenFixtures.EXPIRES_AT + 1);
+
+            assertErrorCode(() -> verifier.verify(token), SecurityErrorCode.TOKEN_EXPIRED);
+        }
+
+        @Test
+        @DisplayName("서명이 변조되면 TOKEN_INVALID")
+        void rejectsTamperedPayload() {
+            AccessTokenFixtures signer =
+                    AccessTokenFixtures.create(TokenSignatureAlgorithm.RS256, "kid-1");
+            AccessTokenVerifier verifier = verifier(signer, ISSUED_CLOCK);
+            String[] parts = signer.token(AccessTokenFixtures.claims("u1")).split("\\.");
+            String otherPayload = signer.token(AccessTokenFixtures.claims("u2")).split("\\.")[1];
+
+            assertErrorCode(
+                    () -> verifier.verify(parts[0] + "." + otherPayload + "." + parts[2]),
+                    SecurityErrorCode.TOKEN_INVALID);
+        }
+
+        @Test
+        @DisplayName("헤더 alg가 키 알고리즘과 다르면 TOKEN_INVALID")
+        void rejectsAlgorithmMismatch() {
+            AccessTokenFixtures signer =
+                    AccessTokenFixtures.create(TokenSignatureAlgorithm.RS256, "kid-1");
+            AccessTokenVerifier verifier = verifier(signer, ISSUED_CLOCK);
+
+            assertErrorCode(
+                    () -> verifier.verify(signer.token("HS256", AccessTokenFixtures.claims("u1"))),
+                    SecurityErrorCode.TOKEN_INVALID);
+        }
+
+        @Test
+        @DisplayName("iss가 다르면 TOKEN_INVALID")
+        void rejectsUnexpectedIssuer() {
+            AccessTokenFixtures signer =
+                    AccessTokenFixtures.create(TokenSignatureAlgorithm.ES256, "kid-1");
+            AccessTokenVerifier verifier = verifier(signer, ISSUED_CLOCK);
+            Map<String, Object> claims = AccessTokenFixtures.claims("u1");
+            claims.put("iss", "other");
+
+            assertErrorCode(
+                    () -> verifier.verify(signer.token(claims)), SecurityErrorCode.TOKEN_INVALID);
+        }
+
+        @Test
+        @DisplayName("세 부분으로 나뉘지 않으면 TOKEN_MALFORMED")
+        void rejectsMalformedToken() {
+            AccessTokenFixtures signer =
+                    AccessTokenFixtures.create(TokenSignatureAlgorithm.ES256, "kid-1");
+            AccessTokenVerifier verifier = verifier(signer, ISSUED_CLOCK);
+
+            assertErrorCode(() -> verifier.verify("abc.def"), SecurityErrorCode.TOKEN_MALFORMED);
+        }
+
+        @Test
+        @DisplayName("권한 Claim이 없으면 permission_hash로 권한 복원")
+        void resolvesThinTokenPermissions() {
+            AccessTokenFixtures signer =
+                    AccessTokenFixtures.create(TokenSignatureAlgorithm.EDDSA, "kid-1");
+            AccessTokenVerifier verifier =
+                    AccessTokenVerifier.builder(keyStore(signer))
+                            .issuer("authhub")
+                            .permissionSetResolver(
+                                    new PermissionSetResolver(
+                                            hash -> new PermissionSet(hash, List.of("order:read"))))
+                            .clock(ISSUED_CLOCK)
+                            .build();
+            Map<String, Object> claims = AccessTokenFixtures.claims("u1");
+            claims.remove("permissions");
+            claims.put("permission_hash", "h1");
+
+            UserContext context = verifier.verify(signer.token(claims));
+
+            assertThat(context.getPermissions()).containsExactly("order:read");
+        }
+
+        @Test
+        @DisplayName("권한 복원에 실패한 토큰은 캐싱된 검증 결과로 다음 요청에서 다시 복원")
+        void retriesPermissionResolutionAfterFailure() {
+            AccessTokenFixtures signer =
+                    AccessTokenFixtures.create(TokenSignatureAlgorithm.ES256, "kid-1");
+            AtomicInteger loads = new AtomicInteger();
+            AccessTokenVerifier verifier =
+                    AccessTokenVerifier.builder(keyStore(signer))
+                            .issuer("authhub")
+                            .permissionSetResolver(
+                                    new PermissionSetResolver(
+                                            hash -> {
+                                                if (loads.getAndIncrement() == 0) {
+                                                    throw new IllegalStateException("unavailable");
+                                                }
+                                                return new PermissionSet(
+                                                        hash, List.of("order:read"));
+                                            }))
+                            .clock(ISSUED_CLOCK)
+                            .build();
+            Map<String, Object> claims = AccessTokenFixtures.claims("u1");
+            claims.remove("permissions");
+            claims.put("permission_hash", "h1");
+            String token = signer.token(claims);
+
+            assertThat(verifier.verify(token).getPermissions()).isEmpty();
+            assertThat(verifier.verify(token).getPermissions()).containsExactly("order:read");
+            assertThat(verifier.verify(token)).isSameAs(verifier.verify(token));
+            assertThat(loads.get()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("builder")
+    class BuilderTest {
+
+        @Test
+        @DisplayName("음수 시계 오차는 IllegalArgumentException")
+        void rejectsNegativeClockSkew() {
+            AccessTokenFixtures signer =
+                    AccessTokenFixtures.create(TokenSignatureAlgorithm.ES256, "kid-1");
+            AccessTokenVerifier.Builder builder = AccessTokenVerifier.builder(keyStore(signer));
+
+            assertThatThrownBy(() -> builder.clockSkew(Duration.ofSeconds(-1)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private static AccessTokenVerifier verifier(AccessTokenFixtures signer, Clock clock) {
+        return AccessTokenVerifier.builder(keyStore(signer))
+                .issuer("authhub")
+                .clock(clock)
+                .build();
+    }
+
+    private static JwksKeyStore keyStore(AccessTokenFixtures signer) {
+        return new JwksKeyStore(
+                () -> new PublicKeys(List.of(signer.jwk())),
+                JwksKeyStore.DEFAULT_MIN_REFRESH_INTERVAL,
+                JwksKeyStore.DEFAULT_LOAD_TIMEOUT,
+                ISSUED_CLOCK,
+                Runnable::run);
+    }
+
+    private static void assertErrorCode(Runnable call, SecurityErrorCode expected) {
+        assertThatThrownBy(call::run)
+                .isInstanceOf(AuthenticationException.class)
+                .extracting(e -> ((AuthenticationException) e).getErrorCode())
+                .isEqualTo(expected);
+    }
+}
@@ -0,0 +1,233 @@
+package com.ryuqq.authhub.sdk.token;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.authhub.sdk.model.internal.PublicKey;
+import com.ryuqq.authhub.sdk.model.internal.PublicKeys;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("JwksKeyStore")
+class JwksKeyStoreTest {
+
+    private static final Duration MIN_REFRESH_INTERVAL = Duration.ofSeconds(30);
+    private static final Duration MAX_KEY_AGE = Duration.ofMinutes(10);
+
+    @Nested
+    @DisplayName("find")
+    class Find {
+
+        @Test
+        @DisplayName("보유한 kid는 JWKS를 다시 조회하지 않음")
+        void loadsOnceForKnownKid() {
+            CountingLoader loader = new CountingLoader(key(TokenSignatureAlgorithm.RS256, "k1"));
+            JwksKeyStore keyStore = keyStore(loader, new MutableClock(0));
+
+            keyStore.find("k1");
+            JwksKeyStore.VerificationKey key = keyStore.find("k1");
+
+            assertThat(key.algorithm()).isEqualTo(TokenSignatureAlgorithm.RS256);
+            assertThat(loader.count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("모르는 kid를 만나면 JWKS를 다시 조회해 새 키를 찾음")
+        void refreshesOnUnknownKid() {
+            CountingLoader loader = new CountingLoader(key(TokenSignatureAlgorithm.ES256, "k1"));
+            MutableClock clock = new MutableClock(0);
+            JwksKeyStore keyStore = keyStore(loader, clock);
+            keyStore.find("k1");
+
+            loader.add(key(TokenSignatureAlgorithm.EDDSA, "k2"));
+            clock.setEpochSecond(MIN_REFRESH_INTERVAL.toSeconds());
+
+            assertThat(keyStore.find("k2").algorithm()).isEqualTo(TokenSignatureAlgorithm.EDDSA);
+            assertThat(loader.count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("최소 재조회 간격 안에서는 모르는 kid로 다시 조회하지 않음")
+        void throttlesRefresh() {
+            CountingLoader loader = new CountingLoader(key(TokenSignatureAlgorithm.ES256, "k1"));
+            JwksKeyStore keyStore = keyStore(loader, new MutableClock(0));
+            keyStore.find("k1");
+
+            assertThat(keyStore.find("unknown-1")).isNull();
+            assertThat(keyStore.find("unknown-2")).isNull();
+            assertThat(loader.count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("조회 실패 시 보유 키 유지")
+        void keepsKeysWhenRefreshFails() {
+            AtomicInteger calls = new AtomicInteger();
+            PublicKey k1 = key(TokenSignatureAlgorithm.RS256, "k1");
+            MutableClock clock = new MutableClock(0);
+            JwksKeyStore keyStore =
+                    keyStore(
+                            () -> {
+                                if (calls.incrementAndGet() > 1) {
+                                    throw new IllegalStateException("unavailable");
+                                }
+                                return new PublicKeys(List.of(k1));
+                            },
+                            clock);
+            keyStore.find("k1");
+            clock.setEpochSecond(MIN_REFRESH_INTERVAL.toSeconds());
+
+            assertThat(keyStore.find("k2")).isNull();
+            assertThat(keyStore.find("k1")).isNotNull();
+            assertThat(calls.get()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("최대 보관 시간을 넘긴 키는 다시 조회해 JWKS에서 빠진 kid를 걸러냄")
+        void dropsRemovedKidAfterMaxKeyAge() {
+            AtomicReference<List<PublicKey>> published =
+                    new AtomicReference<>(List.of(key(TokenSignatureAlgorithm.RS256, "k1")));
+            AtomicInteger calls = new AtomicInteger();
+            MutableClock clock = new MutableClock(0);
+            JwksKeyStore keyStore =
+                    keyStore(
+                            () -> {
+                                calls.incrementAndGet();
+                                return new PublicKeys(published.get());
+                            },
+                            clock);
+            keyStore.find("k1");
+            published.set(List.of(key(TokenSignatureAlgorithm.ES256, "k2")));
+
+            clock.setEpochSecond(MAX_KEY_AGE.toSeconds() - 1);
+            assertThat(keyStore.find("k1")).isNotNull();
+            assertThat(calls.get()).isEqualTo(1);
+
+            clock.setEpochSecond(MAX_KEY_AGE.toSeconds());
+            assertThat(keyStore.find("k1")).isNotNull();
+            assertThat(keyStore.find("k1")).isNull();
+            assertThat(keyStore.find("k2")).isNotNull();
+            assertThat(calls.get()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("최대 보관 시간을 넘겨도 재조회를 기다리지 않고 보유 키로 응답")
+        void servesHeldKeyWhileRefreshing() {
+            CountingLoader loader = new CountingLoader(key(TokenSignatureAlgorithm.RS256, "k1"));
+            MutableClock clock = new MutableClock(0);
+            List<Runnable> deferred = new ArrayList<>();
+            JwksKeyStore keyStore =
+                    new JwksKeyStore(
+                            loader,
+                            MIN_REFRESH_INTERVAL,
+                            Duration.ofSeconds(5),
+                            MAX_KEY_AGE,
+                            clock,
+                            task -> {
+                                if (loader.count() == 0) {
+                                    task.run();
+                                } else {
+                                    deferred.add(task);
+                                }
+                            });
+            keyStore.find("k1");
+
+            clock.setEpochSecond(MAX_KEY_AGE.toSeconds());
+            JwksKeyStore.VerificationKey key = keyStore.find("k1");
+            keyStore.find("k1");
+
+            assertThat(key).isNotNull();
+            assertThat(deferred).hasSize(1);
+            assertThat(loader.count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("동시에 여러 요청이 모르는 kid를 만나도 한 번만 조회")
+        void loadsOnceForConcurrentRequests() throws Exception {
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicInteger calls = new AtomicInteger();
+            PublicKey k1 = key(TokenSignatureAlgorithm.ES256, "k1");
+            JwksKeyStore keyStore =
+                    new JwksKeyStore(
+                            () -> {
+                                calls.incrementAndGet();
+                                await(release);
+                                return new PublicKeys(List.of(k1));
+                            },
+                            MIN_REFRESH_INTERVAL,
+                            Duration.ofSeconds(5));
+            List<Future<JwksKeyStore.VerificationKey>> futures = new ArrayList<>();
+
+            try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+                for (int i = 0; i < 8; i++) {
+                    futures.add(executor.submit(() -> keyStore.find("k1")));
+                }
+                Thread.sleep(100);
+                release.countDown();
+                for (Future<JwksKeyStore.VerificationKey> future : futures) {
+                    assertThat(future.get(5, TimeUnit.SECONDS)).isNotNull();
+                }
+            }
+            assertThat(calls.get()).isEqualTo(1);
+        }
+    }
+
+    private static JwksKeyStore keyStore(Supplier<PublicKeys> loader, MutableClock clock) {
+        return new JwksKeyStore(
+                loader,
+                MIN_REFRESH_INTERVAL,
+                Duration.ofSeconds(5),
+                MAX_KEY_AGE,
+                clock,
+                Runnable::run);
+    }
+
+    private static PublicKey key(TokenSignatureAlgorithm algorithm, String kid) {
+        return AccessTokenFixtures.create(algorithm, kid).jwk();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class CountingLoader implements Supplier<PublicKeys> {
+
+        private final List<PublicKey> keys = new CopyOnWriteArrayList<>();
+        private final AtomicInteger count = new AtomicInteger();
+
+        private CountingLoader(PublicKey initial) {
+            keys.add(initial);
+        }
+
+        void add(PublicKey key) {
+            keys.add(key);
+        }
+
+        int count() {
+            return count.get();
+        }
+
+        @Override
+        public PublicKeys get() {
+            count.incrementAndGet();
+            return new PublicKeys(List.copyOf(keys));
+        }
+    }
+}
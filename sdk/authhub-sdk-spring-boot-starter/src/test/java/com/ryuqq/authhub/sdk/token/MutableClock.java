@@ -0,0 +1,35 @@
+package com.ryuqq.authhub.sdk.token;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/** 테스트에서 시각을 옮길 수 있는 Clock */
+final class MutableClock extends Clock {
+
+    private volatile Instant instant;
+
+    MutableClock(long epochSecond) {
+        this.instant = Instant.ofEpochSecond(epochSecond);
+    }
+
+    void setEpochSecond(long epochSecond) {
+        this.instant = Instant.ofEpochSecond(epochSecond);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return this;
+    }
+
+    @Override
+    public Instant instant() {
+        return instant;
+    }
+}
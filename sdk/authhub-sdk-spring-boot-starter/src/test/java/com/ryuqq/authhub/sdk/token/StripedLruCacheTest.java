@@ -0,0 +1,67 @@
+package com.ryuqq.authhub.sdk.token;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@DisplayName("StripedLruCache")
+class StripedLruCacheTest {
+
+    @Nested
+    @DisplayName("put/get")
+    class PutGet {
+
+        @Test
+        @DisplayName("구간 안에서 가장 오래 사용하지 않은 항목부터 제거")
+        void evictsLeastRecentlyUsedWithinStripe() {
+            StripedLruCache<String, Integer> cache = new StripedLruCache<>(2, 1);
+            cache.put("a", 1);
+            cache.put("b", 2);
+            cache.get("a");
+
+            cache.put("c", 3);
+
+            assertThat(cache.get("a")).isEqualTo(1);
+            assertThat(cache.get("b")).isNull();
+            assertThat(cache.get("c")).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("전체 보관 개수는 구간별 최대 개수의 합을 넘지 않음")
+        void boundsTotalSize() {
+            StripedLruCache<String, Integer> cache = new StripedLruCache<>(64, 4);
+
+            for (int i = 0; i < 1_000; i++) {
+                cache.put("token-" + i, i);
+            }
+
+            assertThat(cache.size()).isLessThanOrEqualTo(64);
+            assertThat(cache.get("token-999")).isEqualTo(999);
+        }
+
+        @Test
+        @DisplayName("최대 개수보다 구간이 많으면 구간 수를 줄임")
+        void limitsStripesToMaxEntries() {
+            StripedLruCache<String, Integer> cache = new StripedLruCache<>(1, 16);
+            cache.put("a", 1);
+            cache.put("b", 2);
+
+            assertThat(cache.size()).isEqualTo(1);
+            assertThat(cache.get("b")).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @DisplayName("최대 개수나 구간 수가 0 이하면 IllegalArgumentException")
+    void rejectsNonPositiveSizes() {
+        assertThatThrownBy(() -> new StripedLruCache<String, Integer>(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new StripedLruCache<String, Integer>(8, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}